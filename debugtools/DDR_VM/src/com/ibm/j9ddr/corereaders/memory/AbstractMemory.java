@@ -61,6 +61,15 @@ public abstract class AbstractMemory extends SearchableMemory implements IMemory
 	
 	private static final String ENABLE_CACHE_STATS_SYSTEM_PROPERTY = "ddr.track.core.cache.stats";
 	
+	/**
+	 * Size in bytes of the block cache given to each thread that calls {@link #enableThreadReadCache()}
+	 */
+	private static final String THREAD_READ_CACHE_SIZE_SYSTEM_PROPERTY = "ddr.thread.read.cache.bytes";
+	
+	private static final long DEFAULT_THREAD_READ_CACHE_BYTES = 4 * 1024 * 1024;
+	
+	private static final long THREAD_READ_CACHE_BYTES;
+	
 	/**
 	 * Size of data block used for caching core data.
 	 */
@@ -106,6 +115,15 @@ public abstract class AbstractMemory extends SearchableMemory implements IMemory
 	
 	protected final Map<IMemorySource, IMemorySource> decoratorMappingTable = new TreeMap<IMemorySource, IMemorySource>();
 	
+	/* Block caches of the threads reading this memory concurrently, see enableThreadReadCache() */
+	private final ThreadLocal<ThreadReadCache> threadReadCache = new ThreadLocal<ThreadReadCache>();
+	
+	/* Number of threads with a ThreadReadCache; while non-zero all other reads take sharedReadLock */
+	private volatile int threadReadCacheCount = 0;
+	
+	/* Serializes reads of the memory sources (and the global block cache) by concurrent readers */
+	private final Object sharedReadLock = new Object();
+	
 	static {
 		String maxCoreFileCacheSize = AccessController.doPrivileged(new PrivilegedAction<String>() {
 
@@ -153,6 +171,20 @@ public abstract class AbstractMemory extends SearchableMemory implements IMemory
 			RECORDING_CACHE_STATS = false;
 		}
 		
+		String threadReadCacheSize = AccessController.doPrivileged(new PrivilegedAction<String>() {
+
+			public String run()
+			{
+				return System.getProperty(THREAD_READ_CACHE_SIZE_SYSTEM_PROPERTY);
+			}
+			
+		});
+		
+		if (threadReadCacheSize != null) {
+			THREAD_READ_CACHE_BYTES = Long.parseLong(threadReadCacheSize);
+		} else {
+			THREAD_READ_CACHE_BYTES = DEFAULT_THREAD_READ_CACHE_BYTES;
+		}
 	}
 	
 	protected AbstractMemory(ByteOrder byteOrder)
@@ -178,6 +210,56 @@ public abstract class AbstractMemory extends SearchableMemory implements IMemory
 	}
 	
 	public int getBytesAt(final long address, byte[] buffer, final int offset,final int length) throws MemoryFault {
+		if (threadReadCacheCount != 0) {
+			ThreadReadCache cache = threadReadCache.get();
+			if (cache != null) {
+				return cache.getBytesAt(address, buffer, offset, length);
+			}
+			return getBytesAtShared(address, buffer, offset, length);
+		}
+		return readBytes(address, buffer, offset, length);
+	}
+	
+	/**
+	 * Gives the calling thread its own cache of memory blocks, after which it may read this memory at the same
+	 * time as other threads that have done the same. Reads that miss the cache are serialized across threads.
+	 * Each call must be balanced by a call to {@link #disableThreadReadCache()} on the same thread.
+	 * <p>
+	 * The size of each cache is taken from the {@value #THREAD_READ_CACHE_SIZE_SYSTEM_PROPERTY} system property
+	 * and defaults to 4MB.
+	 */
+	public void enableThreadReadCache()
+	{
+		if (threadReadCache.get() == null) {
+			threadReadCache.set(new ThreadReadCache(this, THREAD_READ_CACHE_BYTES));
+			synchronized (sharedReadLock) {
+				threadReadCacheCount += 1;
+			}
+		}
+	}
+	
+	/**
+	 * Discards the block cache of the calling thread.
+	 * 
+	 * @see #enableThreadReadCache()
+	 */
+	public void disableThreadReadCache()
+	{
+		if (threadReadCache.get() != null) {
+			threadReadCache.remove();
+			synchronized (sharedReadLock) {
+				threadReadCacheCount -= 1;
+			}
+		}
+	}
+	
+	int getBytesAtShared(long address, byte[] buffer, int offset, int length) throws MemoryFault {
+		synchronized (sharedReadLock) {
+			return readBytes(address, buffer, offset, length);
+		}
+	}
+	
+	private int readBytes(final long address, byte[] buffer, final int offset,final int length) throws MemoryFault {
 		IMemorySource range = memorySources.getRangeForAddress(address);
 		int read = 0;
 		
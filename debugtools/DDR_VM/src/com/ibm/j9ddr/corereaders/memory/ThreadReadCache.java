@@ -0,0 +1,129 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.j9ddr.corereaders.memory;
+
+/**
+ * A small direct-mapped cache of memory blocks owned by a single thread.
+ * 
+ * Threads that read an {@link AbstractMemory} at the same time as other threads each
+ * install one of these (see {@link AbstractMemory#enableThreadReadCache()}). Hits are
+ * served without any locking; misses load a whole block from the shared memory sources
+ * while holding the memory's shared read lock, since neither the memory sources nor the
+ * global block cache in front of them can be read by several threads at once.
+ */
+final class ThreadReadCache
+{
+	static final int BLOCK_SHIFT = 12;
+
+	static final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+
+	/* Blocks are aligned so no real block can have this address */
+	private static final long NO_BLOCK = 1L;
+
+	private final AbstractMemory memory;
+
+	private final long[] blockAddresses;
+
+	private final byte[][] blocks;
+
+	private final int slotMask;
+
+	/**
+	 * @param memory the memory this cache reads from
+	 * @param cacheBytes approximate size of the cache; rounded up to a power of two number of blocks
+	 */
+	ThreadReadCache(AbstractMemory memory, long cacheBytes)
+	{
+		int slots = 1;
+		while ((slots < (1 << 20)) && (((long) slots) << BLOCK_SHIFT) < cacheBytes) {
+			slots <<= 1;
+		}
+		this.memory = memory;
+		this.blockAddresses = new long[slots];
+		this.blocks = new byte[slots][];
+		this.slotMask = slots - 1;
+		for (int i = 0; i < slots; i++) {
+			blockAddresses[i] = NO_BLOCK;
+		}
+	}
+
+	int getBytesAt(long address, byte[] buffer, int offset, int length) throws MemoryFault
+	{
+		int read = 0;
+
+		while (read < length) {
+			long blockAddress = address & ~((long) BLOCK_SIZE - 1);
+			int slot = (int) (blockAddress >>> BLOCK_SHIFT) & slotMask;
+			byte[] block;
+
+			if (blockAddresses[slot] == blockAddress) {
+				block = blocks[slot];
+			} else {
+				block = loadBlock(blockAddress, slot);
+				if (null == block) {
+					/* The block isn't entirely readable: read the rest of the request directly. */
+					if (0 == read) {
+						return memory.getBytesAtShared(address, buffer, offset, length);
+					}
+					try {
+						return read + memory.getBytesAtShared(address, buffer, offset + read, length - read);
+					} catch (MemoryFault e) {
+						/* as for a read spanning the end of a memory range, report what was read */
+						return read;
+					}
+				}
+			}
+
+			int offsetInBlock = (int) (address - blockAddress);
+			int count = Math.min(BLOCK_SIZE - offsetInBlock, length - read);
+			System.arraycopy(block, offsetInBlock, buffer, offset + read, count);
+			read += count;
+			address += count;
+		}
+
+		return read;
+	}
+
+	private byte[] loadBlock(long blockAddress, int slot)
+	{
+		byte[] block = blocks[slot];
+
+		if (null == block) {
+			block = new byte[BLOCK_SIZE];
+		}
+
+		/* Invalidate the slot first in case the load fails part way through. */
+		blockAddresses[slot] = NO_BLOCK;
+
+		try {
+			if (memory.getBytesAtShared(blockAddress, block, 0, BLOCK_SIZE) != BLOCK_SIZE) {
+				return null;
+			}
+		} catch (MemoryFault e) {
+			return null;
+		}
+
+		blocks[slot] = block;
+		blockAddresses[slot] = blockAddress;
+		return block;
+	}
+}
@@ -29,6 +29,8 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Set;
 
+import com.ibm.j9ddr.corereaders.memory.Addresses;
+import com.ibm.j9ddr.corereaders.memory.IMemoryRange;
 import com.ibm.j9ddr.corereaders.memory.MemoryFault;
 
 
@@ -113,18 +115,16 @@ public abstract class Command implements ICommand
 	
 	/*
 	 * pattern: a pointer to the eyecatcher pattern to search for
-	 * patternAlignment: guaranteed minimum alignment of the pattern (must be a
-	 * power of 2) startSearchFrom: minimum address to search at (useful for
+	 * patternAlignment: guaranteed minimum alignment of the pattern
+	 * startSearchFrom: minimum address to search at (useful for
 	 * multiple occurrences of the pattern) bytesToSearch: maximum number of
 	 * bytes to search
 	 * 
 	 * Returns: The address of the eyecatcher in TARGET memory space or 0 if it
 	 * was not found.
 	 * 
-	 * NOTES: Currently, this may fail to find the pattern if patternLength >
-	 * patternAlignment Generally, dbgFindPattern should be called instead of
-	 * dbgFindPatternInRange. It can be more clever about not searching ranges
-	 * which aren't in use.
+	 * NOTES: Only memory ranges present in the process are read; the search
+	 * itself is done by MemoryPatternSearch.
 	 * 
 	 * @param context Current context. 
 	 * @param pattern Pattern to be searched.
@@ -137,8 +137,6 @@ public abstract class Command implements ICommand
 	 */
 	protected long dbgFindPatternInRange(Context context, byte[] pattern, int patternAlignment, long startSearchFrom, BigInteger bytesToSearch) throws MemoryFault 
 	{
-		long page = startSearchFrom;
-		
 		BigInteger startSearchFrom2 = new BigInteger(Long.toBinaryString(startSearchFrom), CommandUtils.RADIX_BINARY);
 		
 		BigInteger udataMax;
@@ -151,51 +149,42 @@ public abstract class Command implements ICommand
 		if (startSearchFrom2.add(bytesToSearch).compareTo(udataMax) == 1) {
 			bytesToSearch = udataMax.subtract(startSearchFrom2);
 		}
-		/* round to a page */
-		while ((page & 4095) != 0) {
-			page--;
-			bytesToSearch = bytesToSearch.add(BigInteger.ONE);
+		if ((pattern.length == 0) || (bytesToSearch.signum() <= 0)) {
+			return 0;
 		}
+		long lastAddress = startSearchFrom2.add(bytesToSearch).subtract(BigInteger.ONE).longValue();
 
-		BigInteger bytesSearched = BigInteger.ZERO;
-
-		for (;;) {
-			byte[] data = new byte[4096];
-			try {
-				int bytesRead = context.process.getBytesAt(page, data);
-				bytesSearched = bytesSearched.add(new BigInteger(Integer.toString(bytesRead)));
-				for (int i = 0; i < bytesRead - pattern.length; i += patternAlignment) {
-
-					if (compare(data, pattern, i)) {
-						/* in case the page started before startSearchFrom */
-						if (page + i >= startSearchFrom) {
-							return page + i;
-						}
-					}
-				}
-			} catch (MemoryFault e) {
+		/* restrict the search to the memory that is actually present */
+		MemoryPatternSearch search = new MemoryPatternSearch(pattern, patternAlignment);
+		for (IMemoryRange range : context.process.getMemoryRanges()) {
+			if (!range.isBacked()) {
+				continue;
 			}
-
-			if (bytesToSearch.compareTo(new BigInteger("4096")) == -1) {
-				break;
+			long base = range.getBaseAddress();
+			long top = range.getTopAddress();
+			if (Addresses.lessThan(top, startSearchFrom) || Addresses.greaterThan(base, lastAddress)) {
+				continue;
 			}
-
-			page += 4096;
-			bytesToSearch = bytesToSearch.subtract(new BigInteger("4096"));
+			if (Addresses.lessThan(base, startSearchFrom)) {
+				base = startSearchFrom;
+			}
+			if (Addresses.greaterThan(top, lastAddress)) {
+				top = lastAddress;
+			}
+			search.addRange(base, top - base + 1);
 		}
-		return 0;
-	}
 
-	private boolean compare(byte[] data, byte[] pattern, int dataStart) 
-	{
-		for (int i = 0; i < pattern.length; i++) {
-			if (data[dataStart + i] != pattern[i]) {
+		final long[] result = new long[1];
+		search.search(MemoryPatternSearch.readerFor(context.process), new MemoryPatternSearch.MatchListener() {
+			public boolean match(long address)
+			{
+				result[0] = address;
 				return false;
 			}
-		}
-		return true;
+		});
+		return result[0];
 	}
-	
+
 	protected class CommandDescription 
 	{
 		private String commandName;
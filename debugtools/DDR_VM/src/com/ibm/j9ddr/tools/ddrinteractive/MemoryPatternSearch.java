@@ -0,0 +1,357 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.j9ddr.tools.ddrinteractive;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.ibm.dtfj.image.ImageAddressSpace;
+import com.ibm.j9ddr.corereaders.memory.Addresses;
+import com.ibm.j9ddr.corereaders.memory.IMemory;
+import com.ibm.j9ddr.corereaders.memory.MemoryFault;
+import com.ibm.j9ddr.view.dtfj.image.J9DDRImageAddressSpace;
+
+/**
+ * Searches ranges of memory for a byte pattern.
+ * <p>
+ * Memory is read in large blocks and each block is scanned with the Boyer-Moore-Horspool algorithm,
+ * so most bytes are never compared with the pattern at all. The ranges are cut into chunks that are
+ * scanned by several worker threads. Core readers cannot be read by several threads at once, so the
+ * reads themselves are serialized, but the scanning overlaps with them and with the other workers.
+ * <p>
+ * Matches are passed to the {@link MatchListener} in increasing address order, as soon as every
+ * chunk before the one they were found in has been scanned, so the first matches in a large core
+ * are reported without waiting for the rest of it to be searched.
+ */
+public class MemoryPatternSearch
+{
+	/**
+	 * System property controlling the default number of threads used by {@link #search(MemoryReader, MatchListener)}.
+	 */
+	public static final String SEARCH_THREADS_PROPERTY = "ddr.pattern.search.threads";
+
+	/* Number of candidate addresses in each chunk handed to a worker */
+	private static final int CHUNK_SIZE = 4 * 1024 * 1024;
+
+	/* Granularity at which unreadable memory is skipped */
+	private static final int PAGE_SIZE = 4096;
+
+	/**
+	 * Source of the memory being searched.
+	 */
+	public interface MemoryReader
+	{
+		/**
+		 * Reads memory into a buffer, stopping at the first byte that cannot be read.
+		 * 
+		 * @param address address of the first byte to read
+		 * @param buffer buffer to read into
+		 * @param offset offset in buffer of the first byte to read
+		 * @param length number of bytes to read
+		 * @return the number of bytes read, which is 0 if the byte at address cannot be read
+		 */
+		public int read(long address, byte[] buffer, int offset, int length);
+	}
+
+	/**
+	 * Receives the matches of a search.
+	 */
+	public interface MatchListener
+	{
+		/**
+		 * @param address address of a match
+		 * @return true to continue the search, false to end it
+		 */
+		public boolean match(long address);
+	}
+
+	private final byte[] pattern;
+
+	private final int alignment;
+
+	/* Horspool shift for each value of the byte aligned with the end of the pattern */
+	private final int[] skip = new int[256];
+
+	/* Ranges to search, as {base address, size in bytes} */
+	private final List<long[]> ranges = new ArrayList<long[]>();
+
+	/**
+	 * @param pattern bytes to search for; must not be empty
+	 * @param alignment alignment of the addresses at which a match may start; values less than 2 allow any address
+	 */
+	public MemoryPatternSearch(byte[] pattern, int alignment)
+	{
+		if (pattern.length == 0) {
+			throw new IllegalArgumentException("empty pattern");
+		}
+		this.pattern = pattern.clone();
+		this.alignment = Math.max(alignment, 1);
+
+		int last = pattern.length - 1;
+		for (int i = 0; i < skip.length; i++) {
+			skip[i] = pattern.length;
+		}
+		for (int i = 0; i < last; i++) {
+			skip[pattern[i] & 0xFF] = last - i;
+		}
+	}
+
+	/**
+	 * Adds a range of memory to be searched. Ranges may be added in any order and may overlap.
+	 * 
+	 * @param base address of the first byte of the range
+	 * @param size size of the range in bytes
+	 */
+	public void addRange(long base, long size)
+	{
+		if (size > 0) {
+			ranges.add(new long[] { base, size });
+		}
+	}
+
+	/**
+	 * Creates a reader for DDR memory, such as an {@link com.ibm.j9ddr.corereaders.memory.IProcess}.
+	 */
+	public static MemoryReader readerFor(final IMemory memory)
+	{
+		return new MemoryReader() {
+			public int read(long address, byte[] buffer, int offset, int length)
+			{
+				try {
+					return memory.getBytesAt(address, buffer, offset, length);
+				} catch (MemoryFault e) {
+					/* read what comes before the fault, if anything */
+					long faultAddress = e.getAddress();
+					if (Addresses.greaterThan(faultAddress, address) && Addresses.lessThan(faultAddress - address, length)) {
+						try {
+							return memory.getBytesAt(address, buffer, offset, (int) (faultAddress - address));
+						} catch (MemoryFault e2) {
+							return 0;
+						}
+					}
+					return 0;
+				}
+			}
+		};
+	}
+
+	/**
+	 * Creates a reader for the memory behind a DTFJ address space. When the address space is backed
+	 * by DDR, the reader reads the core in bulk through the DDR address space.
+	 * 
+	 * @return a reader, or null if the address space is not backed by DDR
+	 */
+	public static MemoryReader readerFor(ImageAddressSpace addressSpace)
+	{
+		if (addressSpace instanceof J9DDRImageAddressSpace) {
+			return readerFor(((J9DDRImageAddressSpace) addressSpace).getIAddressSpace());
+		}
+		return null;
+	}
+
+	/**
+	 * Searches using the number of threads given by the {@value #SEARCH_THREADS_PROPERTY} system property,
+	 * or one thread per available processor if it is not set.
+	 * 
+	 * @see #search(MemoryReader, MatchListener, int)
+	 */
+	public void search(MemoryReader reader, MatchListener listener)
+	{
+		int threadCount = Integer.getInteger(SEARCH_THREADS_PROPERTY, Runtime.getRuntime().availableProcessors()).intValue();
+		search(reader, listener, threadCount);
+	}
+
+	/**
+	 * Searches the ranges that have been added, passing each match to the listener in increasing address
+	 * order until the listener asks for the search to end.
+	 * 
+	 * @param reader the memory to search
+	 * @param listener receives the matches
+	 * @param threadCount maximum number of worker threads; values less than 2 search on the calling thread
+	 */
+	public void search(final MemoryReader reader, MatchListener listener, int threadCount)
+	{
+		final List<long[]> chunks = buildChunks();
+
+		threadCount = Math.min(threadCount, chunks.size());
+		if (threadCount < 2) {
+			byte[] buffer = new byte[CHUNK_SIZE + pattern.length];
+			for (long[] chunk : chunks) {
+				if (!deliver(scanChunk(reader, reader, chunk, buffer), listener)) {
+					break;
+				}
+			}
+			return;
+		}
+
+		/* Keep a bounded window of chunks in flight, and consume their results in order */
+		final Object readLock = new Object();
+		final ThreadLocal<byte[]> buffers = new ThreadLocal<byte[]>() {
+			protected byte[] initialValue()
+			{
+				return new byte[CHUNK_SIZE + pattern.length];
+			}
+		};
+		int window = threadCount * 2;
+		List<Future<List<Long>>> results = new ArrayList<Future<List<Long>>>(chunks.size());
+		ExecutorService workers = Executors.newFixedThreadPool(threadCount);
+		try {
+			for (int index = 0; index < chunks.size(); index++) {
+				while ((results.size() < chunks.size()) && (results.size() < (index + window))) {
+					final long[] chunk = chunks.get(results.size());
+					results.add(workers.submit(new Callable<List<Long>>() {
+						public List<Long> call()
+						{
+							return scanChunk(reader, readLock, chunk, buffers.get());
+						}
+					}));
+				}
+				if (!deliver(results.get(index).get(), listener)) {
+					break;
+				}
+				/* let the result be collected */
+				results.set(index, null);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new RuntimeException(cause);
+		} finally {
+			workers.shutdownNow();
+		}
+	}
+
+	private static boolean deliver(List<Long> matches, MatchListener listener)
+	{
+		for (Long match : matches) {
+			if (!listener.match(match.longValue())) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Merges the ranges and cuts them into chunks of at most {@link #CHUNK_SIZE} candidate addresses.
+	 * 
+	 * @return the chunks in address order, as {first candidate address, number of candidates, bytes to read}
+	 */
+	private List<long[]> buildChunks()
+	{
+		List<long[]> sorted = new ArrayList<long[]>(ranges);
+		Collections.sort(sorted, new Comparator<long[]>() {
+			public int compare(long[] a, long[] b)
+			{
+				return Addresses.lessThan(a[0], b[0]) ? -1 : (a[0] == b[0] ? 0 : 1);
+			}
+		});
+
+		List<long[]> merged = new ArrayList<long[]>();
+		for (long[] range : sorted) {
+			long[] previous = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+			if ((previous != null) && Addresses.lessThanOrEqual(range[0] - previous[0], previous[1])) {
+				/* overlapping or adjacent: extend the previous range */
+				previous[1] = Math.max(previous[1], (range[0] - previous[0]) + range[1]);
+			} else {
+				merged.add(new long[] { range[0], range[1] });
+			}
+		}
+
+		List<long[]> chunks = new ArrayList<long[]>();
+		for (long[] range : merged) {
+			for (long offset = 0; offset < range[1]; offset += CHUNK_SIZE) {
+				long candidates = Math.min(CHUNK_SIZE, range[1] - offset);
+				/* a match may run past the end of the chunk, but not past the end of the range */
+				long bytes = Math.min(candidates + pattern.length - 1, range[1] - offset);
+				chunks.add(new long[] { range[0] + offset, candidates, bytes });
+			}
+		}
+		return chunks;
+	}
+
+	/**
+	 * Reads a chunk and scans each readable stretch of it for the pattern.
+	 * 
+	 * @param lock object on which reads are synchronized
+	 * @return the matches starting in the chunk, in address order
+	 */
+	private List<Long> scanChunk(MemoryReader reader, Object lock, long[] chunk, byte[] buffer)
+	{
+		List<Long> matches = new ArrayList<Long>();
+		long start = chunk[0];
+		int candidates = (int) chunk[1];
+		int length = (int) chunk[2];
+		int stretchStart = 0;
+		int position = 0;
+
+		while (position < length) {
+			int count;
+			synchronized (lock) {
+				count = reader.read(start + position, buffer, position, length - position);
+			}
+			if (count > 0) {
+				position += count;
+			} else {
+				/* a match cannot span unreadable memory: scan what was read and resume at the next page */
+				scan(buffer, start, stretchStart, position, candidates, matches);
+				long nextPage = ((start + position) & ~((long) PAGE_SIZE - 1)) + PAGE_SIZE;
+				position = (int) Math.min(length, nextPage - start);
+				stretchStart = position;
+			}
+		}
+		scan(buffer, start, stretchStart, position, candidates, matches);
+
+		return matches;
+	}
+
+	/**
+	 * Boyer-Moore-Horspool scan of buffer[from, to) for matches starting before candidates.
+	 */
+	private void scan(byte[] buffer, long start, int from, int to, int candidates, List<Long> matches)
+	{
+		int last = pattern.length - 1;
+
+		for (int position = from; (position < candidates) && (position + last < to);) {
+			int i = last;
+			while ((i >= 0) && (buffer[position + i] == pattern[i])) {
+				i -= 1;
+			}
+			if ((i < 0) && (0 == Long.remainderUnsigned(start + position, alignment))) {
+				matches.add(Long.valueOf(start + position));
+			}
+			position += skip[buffer[position + last] & 0xFF];
+		}
+	}
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.j9ddr.vm29.j9;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.ibm.j9ddr.CorruptDataException;
+import com.ibm.j9ddr.vm29.j9.gc.GCHeapRegionDescriptor;
+import com.ibm.j9ddr.vm29.j9.gc.GCHeapRegionIterator;
+
+/**
+ * A mark bitmap used to record which objects have been visited during a walk of the live set.
+ * <p>
+ * One bit is reserved for every object-aligned slot of each heap region that contains objects, so
+ * the memory used is proportional to the size of the heap rather than to the number of objects
+ * visited. Bits are set atomically, which allows the map to be shared by several walker threads.
+ * <p>
+ * Objects which do not lie in any heap region (which can only happen with corrupt data) are
+ * tracked in a small overflow set.
+ */
+public final class LiveSetMarkMap
+{
+	private static final int BITS_PER_WORD = 64;
+	private static final int BITS_PER_WORD_SHIFT = 6;
+
+	private final long[] _regionBases;
+	private final long[] _regionTops;
+	private final AtomicLongArray[] _regionBits;
+	private final int _alignmentShift;
+	private final Set<Long> _overflow = Collections.synchronizedSet(new HashSet<Long>());
+
+	private LiveSetMarkMap(List<long[]> regions, int alignmentShift)
+	{
+		int count = regions.size();
+		_regionBases = new long[count];
+		_regionTops = new long[count];
+		_regionBits = new AtomicLongArray[count];
+		_alignmentShift = alignmentShift;
+
+		for (int i = 0; i < count; i++) {
+			long[] bounds = regions.get(i);
+			long bitCount = (bounds[1] - bounds[0]) >>> alignmentShift;
+			long wordCount = (bitCount + BITS_PER_WORD - 1) >>> BITS_PER_WORD_SHIFT;
+			if (wordCount > Integer.MAX_VALUE) {
+				throw new IllegalArgumentException("Heap region too large for mark map: " + Long.toHexString(bounds[0]) + "-" + Long.toHexString(bounds[1]));
+			}
+			_regionBases[i] = bounds[0];
+			_regionTops[i] = bounds[1];
+			_regionBits[i] = new AtomicLongArray((int) wordCount);
+		}
+	}
+
+	/**
+	 * Create a mark map covering every heap region which contains objects.
+	 *
+	 * @return a new, empty mark map
+	 * @throws CorruptDataException if the heap region list cannot be read
+	 */
+	public static LiveSetMarkMap fromHeapRegions() throws CorruptDataException
+	{
+		List<long[]> regions = new ArrayList<long[]>();
+		GCHeapRegionIterator regionIterator = GCHeapRegionIterator.from();
+		while (regionIterator.hasNext()) {
+			GCHeapRegionDescriptor region = regionIterator.next();
+			if (region.containsObjects()) {
+				long base = region.getLowAddress().getAddress();
+				long top = region.getHighAddress().getAddress();
+				if (top > base) {
+					regions.add(new long[] { base, top });
+				}
+			}
+		}
+
+		Collections.sort(regions, new Comparator<long[]>() {
+			public int compare(long[] o1, long[] o2)
+			{
+				return Long.compareUnsigned(o1[0], o2[0]);
+			}
+		});
+
+		/* coalesce any overlapping ranges so that the binary search in regionIndex() stays well defined */
+		List<long[]> merged = new ArrayList<long[]>(regions.size());
+		for (long[] bounds : regions) {
+			if (!merged.isEmpty()) {
+				long[] last = merged.get(merged.size() - 1);
+				if (Long.compareUnsigned(bounds[0], last[1]) < 0) {
+					if (Long.compareUnsigned(bounds[1], last[1]) > 0) {
+						last[1] = bounds[1];
+					}
+					continue;
+				}
+			}
+			merged.add(bounds);
+		}
+
+		int alignmentShift = Long.numberOfTrailingZeros(ObjectModel.getObjectAlignmentInBytes());
+		return new LiveSetMarkMap(merged, alignmentShift);
+	}
+
+	private int regionIndex(long address)
+	{
+		int low = 0;
+		int high = _regionBases.length - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			if (Long.compareUnsigned(address, _regionBases[mid]) < 0) {
+				high = mid - 1;
+			} else if (Long.compareUnsigned(address, _regionTops[mid]) >= 0) {
+				low = mid + 1;
+			} else {
+				return mid;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * @param address address of an object
+	 * @return true if the object has been marked
+	 */
+	public boolean isMarked(long address)
+	{
+		int index = regionIndex(address);
+		if (index < 0) {
+			return _overflow.contains(Long.valueOf(address));
+		}
+		long bit = (address - _regionBases[index]) >>> _alignmentShift;
+		long word = _regionBits[index].get((int) (bit >>> BITS_PER_WORD_SHIFT));
+		return 0 != (word & (1L << (bit & (BITS_PER_WORD - 1))));
+	}
+
+	/**
+	 * Atomically mark an object.
+	 *
+	 * @param address address of an object
+	 * @return true if this call set the mark, false if the object was already marked
+	 */
+	public boolean mark(long address)
+	{
+		int index = regionIndex(address);
+		if (index < 0) {
+			return _overflow.add(Long.valueOf(address));
+		}
+		long bit = (address - _regionBases[index]) >>> _alignmentShift;
+		int wordIndex = (int) (bit >>> BITS_PER_WORD_SHIFT);
+		long mask = 1L << (bit & (BITS_PER_WORD - 1));
+		AtomicLongArray bits = _regionBits[index];
+		for (;;) {
+			long word = bits.get(wordIndex);
+			if (0 != (word & mask)) {
+				return false;
+			}
+			if (bits.compareAndSet(wordIndex, word, word | mask)) {
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * @return the number of bytes used by the bitmap (excluding the overflow set)
+	 */
+	public long getBitmapSize()
+	{
+		long size = 0;
+		for (AtomicLongArray bits : _regionBits) {
+			size += (long) bits.length() * (BITS_PER_WORD / 8);
+		}
+		return size;
+	}
+}
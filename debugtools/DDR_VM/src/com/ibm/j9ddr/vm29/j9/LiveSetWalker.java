@@ -21,9 +21,18 @@
  */
 package com.ibm.j9ddr.vm29.j9; 
 
-import java.util.HashSet;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.ibm.j9ddr.CorruptDataException;
+import com.ibm.j9ddr.corereaders.memory.AbstractMemory;
 import com.ibm.j9ddr.vm29.events.EventManager;
 import com.ibm.j9ddr.vm29.j9.RootSet.RootSetType;
 import com.ibm.j9ddr.vm29.j9.gc.GCClassIterator;
@@ -37,9 +46,23 @@ import com.ibm.j9ddr.vm29.pointer.helper.J9ObjectHelper;
 
 /*
  * Not written as an Iterator like everyone else because there's no convenient way to save iteration state
+ *
+ * Visited objects are recorded in a LiveSetMarkMap (one bit per object-aligned heap slot) and the
+ * object graph is scanned with an explicit work stack, so neither the Java heap nor the Java stack
+ * of the debugger grows with the number of objects in the core.
  */
 public class LiveSetWalker  
 {
+	/**
+	 * System property controlling the default number of threads used by {@link #walkLiveSetParallel(ObjectVisitor, RootSetType)}.
+	 */
+	public static final String WALKER_THREADS_PROPERTY = "ddr.liveset.walker.threads";
+	
+	/**
+	 * Upper bound on the default number of walker threads; beyond this the threads mostly contend
+	 * for the shared mark map and the core reader.
+	 */
+	private static final int MAX_DEFAULT_WALKER_THREADS = 8;
 	
 	public interface ObjectVisitor
 	{
@@ -60,14 +83,12 @@ public class LiveSetWalker
 	}
 
 	/*
-	 * Walks the LiveSet in preorder, returns a HashSet of all walked objects.  The HashSet is generated as a byproduct of the walk.
-	 * 
-	 * @return a HashSet containing all visited objects 
+	 * Walks the LiveSet in preorder.
 	 */
 	public static void walkLiveSet(ObjectVisitor visitor, RootSetType rootSetType) throws CorruptDataException
 	{
-		/* TODO: lpnguyen, use something less stupid than a hashSet (markMap?) for this */
-		HashSet<J9ObjectPointer> visitedObjects = new HashSet<J9ObjectPointer>();
+		LiveSetMarkMap visitedObjects = LiveSetMarkMap.fromHeapRegions();
+		ArrayDeque<ScanFrame> scanStack = new ArrayDeque<ScanFrame>();
 		
 		/* Not using a singleton because we want to allow users to catch corruptData events.  Not worrying about the perf loss taken
 		 * by doing this as walking the live set will probably take an order of magnitude longer anyway
@@ -82,7 +103,7 @@ public class LiveSetWalker
 			VoidPointer nextAddress = rootAddressIterator.nextAddress();
 			
 			if (nextObject.notNull()) {
-				scanObject(visitedObjects, visitor, nextObject, nextAddress);
+				scanObject(visitedObjects, visitor, nextObject, nextAddress, scanStack, false);
 			}
 		}
 	}
@@ -95,61 +116,242 @@ public class LiveSetWalker
 		walkLiveSet(visitor, RootSetType.STRONG_REACHABLE);
 	}
 	
-	private static void scanObject(HashSet<J9ObjectPointer> visitedObjects, ObjectVisitor visitor, J9ObjectPointer object, VoidPointer address)
-	{	
-		if (visitedObjects.contains(object)) {
-			return;
-		}
-
-		if (!visitor.visit(object, address)) {
+	/**
+	 * Walks the LiveSet using the number of threads given by the {@value #WALKER_THREADS_PROPERTY} system property,
+	 * or one thread per available processor (at most {@value #MAX_DEFAULT_WALKER_THREADS}) if it is not set.
+	 * 
+	 * @see #walkLiveSetParallel(ObjectVisitor, RootSetType, int)
+	 */
+	public static void walkLiveSetParallel(ObjectVisitor visitor, RootSetType rootSetType) throws CorruptDataException
+	{
+		int defaultThreads = Math.min(Runtime.getRuntime().availableProcessors(), MAX_DEFAULT_WALKER_THREADS);
+		walkLiveSetParallel(visitor, rootSetType, Integer.getInteger(WALKER_THREADS_PROPERTY, defaultThreads).intValue());
+	}
+	
+	/**
+	 * Walks the LiveSet with several threads sharing a single mark map. Roots are handed out to the
+	 * worker threads on demand and each worker scans the objects reachable from its root with its own
+	 * work stack.
+	 * <p>
+	 * Unlike {@link #walkLiveSet(ObjectVisitor, RootSetType)} the walk is not a single preorder traversal:
+	 * the visitor must be thread safe, must not depend on the order of visit/finishVisit calls across
+	 * objects, and each object is offered to the visitor at most once (an object the visitor declines is
+	 * not offered again along another path).
+	 * <p>
+	 * The workers share the core reader and the J9ObjectHelper and AbstractPointer caches, so the walk
+	 * is only done in parallel when the process is an {@link AbstractMemory} that can give each worker
+	 * its own read cache; otherwise the serial walk is used whatever the thread count.
+	 * 
+	 * @param visitor thread safe visitor
+	 * @param rootSetType roots to start from
+	 * @param threadCount number of worker threads; values less than 2 fall back to the serial walk
+	 */
+	public static void walkLiveSetParallel(final ObjectVisitor visitor, RootSetType rootSetType, int threadCount) throws CorruptDataException
+	{
+		if ((threadCount < 2) || !(DataType.getProcess() instanceof AbstractMemory)) {
+			/* the core can only be read concurrently through AbstractMemory's per-thread caches */
+			walkLiveSet(visitor, rootSetType);
 			return;
 		}
 		
-		visitedObjects.add(object);
+		final AbstractMemory memory = (AbstractMemory) DataType.getProcess();
 		
+		final LiveSetMarkMap visitedObjects = LiveSetMarkMap.fromHeapRegions();
 		
-		try {
-			GCObjectIterator objectIterator = GCObjectIterator.fromJ9Object(object, true);
-			GCObjectIterator addressIterator = GCObjectIterator.fromJ9Object(object, true);
-			while (objectIterator.hasNext()) {
-				J9ObjectPointer slot = objectIterator.next();
-				VoidPointer addr = addressIterator.nextAddress();
-				if (slot.notNull()) {
-					scanObject(visitedObjects, visitor, slot, addr);
+		/* Collect the roots up front; the root set is tiny compared to the heap and RootSet is not thread safe */
+		RootSet rootSet = RootSet.from(rootSetType, false);
+		GCIterator rootIterator = rootSet.gcIterator(rootSetType);
+		GCIterator rootAddressIterator = rootSet.gcIterator(rootSetType);
+		long[] roots = new long[1024];
+		long[] rootAddresses = new long[1024];
+		int rootCount = 0;
+		while (rootIterator.hasNext()) {
+			J9ObjectPointer nextObject = (J9ObjectPointer) rootIterator.next();
+			VoidPointer nextAddress = rootAddressIterator.nextAddress();
+			if (nextObject.notNull()) {
+				if (rootCount == roots.length) {
+					roots = Arrays.copyOf(roots, rootCount * 2);
+					rootAddresses = Arrays.copyOf(rootAddresses, rootCount * 2);
 				}
+				roots[rootCount] = nextObject.getAddress();
+				rootAddresses[rootCount] = nextAddress.getAddress();
+				rootCount += 1;
 			}
-			
-			if (J9ObjectHelper.getClassName(object).equals("java/lang/Class")) {
-				J9ClassPointer clazz = ConstantPoolHelpers.J9VM_J9CLASS_FROM_HEAPCLASS(object);
-				
-				// Iterate the Object slots
-				GCClassIterator classIterator = GCClassIterator.fromJ9Class(clazz);
-				GCClassIterator classAddressIterator = GCClassIterator.fromJ9Class(clazz);
-				while(classIterator.hasNext()) {
-					J9ObjectPointer slot = classIterator.next();
-					VoidPointer addr = classAddressIterator.nextAddress();
-					
-					if (slot.notNull()) {
-						scanObject(visitedObjects, visitor, slot, addr);
-					}				
-				}
-				
-				// Iterate the Class slots
-				GCClassIteratorClassSlots classSlotIterator = GCClassIteratorClassSlots.fromJ9Class(clazz);
-				GCClassIteratorClassSlots classSlotAddressIterator = GCClassIteratorClassSlots.fromJ9Class(clazz);
-				while (classSlotIterator.hasNext()) {
-					J9ClassPointer slot = classSlotIterator.next();
-					VoidPointer addr = classSlotAddressIterator.nextAddress();
-					J9ObjectPointer classObject = ConstantPoolHelpers.J9VM_J9CLASS_TO_HEAPCLASS(slot);
-					if (classObject.notNull()) {
-						scanObject(visitedObjects, visitor, classObject, addr);
-					}				
-				}
+		}
+		
+		final long[] finalRoots = roots;
+		final long[] finalRootAddresses = rootAddresses;
+		final int finalRootCount = rootCount;
+		final AtomicInteger nextRoot = new AtomicInteger();
+		
+		ExecutorService workers = Executors.newFixedThreadPool(threadCount);
+		try {
+			List<Future<?>> results = new ArrayList<Future<?>>(threadCount);
+			for (int i = 0; i < threadCount; i++) {
+				results.add(workers.submit(new Runnable() {
+					public void run()
+					{
+						ArrayDeque<ScanFrame> scanStack = new ArrayDeque<ScanFrame>();
+						memory.enableThreadReadCache();
+						try {
+							for (int index = nextRoot.getAndIncrement(); index < finalRootCount; index = nextRoot.getAndIncrement()) {
+								scanObject(visitedObjects, visitor, J9ObjectPointer.cast(finalRoots[index]), VoidPointer.cast(finalRootAddresses[index]), scanStack, true);
+							}
+						} finally {
+							memory.disableThreadReadCache();
+						}
+					}
+				}));
+			}
+			for (Future<?> result : results) {
+				result.get();
 			}
-		} catch (CorruptDataException e) {
-			EventManager.raiseCorruptDataEvent("Corruption found while walking the live set, object: " + object.getHexAddress(), e, false);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new RuntimeException(cause);
+		} finally {
+			workers.shutdownNow();
+		}
+	}
+	
+	private static void scanObject(LiveSetMarkMap visitedObjects, ObjectVisitor visitor, J9ObjectPointer object, VoidPointer address, ArrayDeque<ScanFrame> scanStack, boolean markBeforeVisit)
+	{
+		pushObject(visitedObjects, visitor, object, address, scanStack, markBeforeVisit);
+		
+		while (!scanStack.isEmpty()) {
+			ScanFrame frame = scanStack.peek();
+			if (frame.nextChild()) {
+				pushObject(visitedObjects, visitor, frame.childObject, frame.childAddress, scanStack, markBeforeVisit);
+			} else {
+				scanStack.pop();
+				visitor.finishVisit(frame.object, frame.address);
+			}
+		}
+	}
+	
+	private static void pushObject(LiveSetMarkMap visitedObjects, ObjectVisitor visitor, J9ObjectPointer object, VoidPointer address, ArrayDeque<ScanFrame> scanStack, boolean markBeforeVisit)
+	{
+		long objectAddress = object.getAddress();
+		
+		if (markBeforeVisit) {
+			/* parallel walk: claim the object first so only one thread ever visits it */
+			if (!visitedObjects.mark(objectAddress)) {
+				return;
+			}
+			if (!visitor.visit(object, address)) {
+				return;
+			}
+		} else {
+			if (visitedObjects.isMarked(objectAddress)) {
+				return;
+			}
+			if (!visitor.visit(object, address)) {
+				return;
+			}
+			visitedObjects.mark(objectAddress);
 		}
 		
-		visitor.finishVisit(object, address);
+		scanStack.push(new ScanFrame(object, address));
+	}
+	
+	/**
+	 * An object on the scan stack together with the state of the iteration over its reference slots.
+	 */
+	private static final class ScanFrame
+	{
+		private static final int PHASE_START = 0;
+		private static final int PHASE_OBJECT_SLOTS = 1;
+		private static final int PHASE_CLASS_OBJECT_SLOTS = 2;
+		private static final int PHASE_CLASS_SLOTS = 3;
+		private static final int PHASE_DONE = 4;
+		
+		final J9ObjectPointer object;
+		final VoidPointer address;
+		J9ObjectPointer childObject;
+		VoidPointer childAddress;
+		
+		private int phase = PHASE_START;
+		private GCIterator slotIterator;
+		private GCIterator slotAddressIterator;
+		private J9ClassPointer clazz;
+		
+		ScanFrame(J9ObjectPointer object, VoidPointer address)
+		{
+			this.object = object;
+			this.address = address;
+		}
+		
+		/**
+		 * Advance to the next non-null reference held by this object.
+		 * 
+		 * @return true if childObject and childAddress were updated, false if all slots have been scanned
+		 */
+		boolean nextChild()
+		{
+			try {
+				for (;;) {
+					switch (phase) {
+					case PHASE_START:
+						slotIterator = GCObjectIterator.fromJ9Object(object, true);
+						slotAddressIterator = GCObjectIterator.fromJ9Object(object, true);
+						phase = PHASE_OBJECT_SLOTS;
+						break;
+					case PHASE_OBJECT_SLOTS:
+					case PHASE_CLASS_OBJECT_SLOTS:
+						if (slotIterator.hasNext()) {
+							J9ObjectPointer slot = (J9ObjectPointer) slotIterator.next();
+							VoidPointer addr = slotAddressIterator.nextAddress();
+							if (slot.notNull()) {
+								childObject = slot;
+								childAddress = addr;
+								return true;
+							}
+						} else if ((PHASE_OBJECT_SLOTS == phase) && J9ObjectHelper.getClassName(object).equals("java/lang/Class")) {
+							clazz = ConstantPoolHelpers.J9VM_J9CLASS_FROM_HEAPCLASS(object);
+							
+							// Iterate the Object slots
+							slotIterator = GCClassIterator.fromJ9Class(clazz);
+							slotAddressIterator = GCClassIterator.fromJ9Class(clazz);
+							phase = PHASE_CLASS_OBJECT_SLOTS;
+						} else if (PHASE_CLASS_OBJECT_SLOTS == phase) {
+							// Iterate the Class slots
+							slotIterator = GCClassIteratorClassSlots.fromJ9Class(clazz);
+							slotAddressIterator = GCClassIteratorClassSlots.fromJ9Class(clazz);
+							phase = PHASE_CLASS_SLOTS;
+						} else {
+							phase = PHASE_DONE;
+						}
+						break;
+					case PHASE_CLASS_SLOTS:
+						if (slotIterator.hasNext()) {
+							J9ClassPointer slot = (J9ClassPointer) slotIterator.next();
+							VoidPointer addr = slotAddressIterator.nextAddress();
+							J9ObjectPointer classObject = ConstantPoolHelpers.J9VM_J9CLASS_TO_HEAPCLASS(slot);
+							if (classObject.notNull()) {
+								childObject = classObject;
+								childAddress = addr;
+								return true;
+							}
+						} else {
+							phase = PHASE_DONE;
+						}
+						break;
+					default:
+						return false;
+					}
+				}
+			} catch (CorruptDataException e) {
+				EventManager.raiseCorruptDataEvent("Corruption found while walking the live set, object: " + object.getHexAddress(), e, false);
+				phase = PHASE_DONE;
+				return false;
+			}
+		}
 	}
 }
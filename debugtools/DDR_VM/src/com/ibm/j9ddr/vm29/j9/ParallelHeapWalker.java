@@ -0,0 +1,188 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.j9ddr.vm29.j9;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.ibm.j9ddr.CorruptDataException;
+import com.ibm.j9ddr.corereaders.memory.AbstractMemory;
+import com.ibm.j9ddr.corereaders.memory.IProcess;
+import com.ibm.j9ddr.vm29.j9.gc.GCHeapRegionDescriptor;
+import com.ibm.j9ddr.vm29.j9.gc.GCHeapRegionIterator;
+import com.ibm.j9ddr.vm29.j9.gc.GCObjectHeapIterator;
+import com.ibm.j9ddr.vm29.pointer.generated.J9ObjectPointer;
+
+/**
+ * Walks every live object in the heap, spreading the heap regions across several worker threads.
+ * Free memory (holes) and dark matter are not passed to the visitors.
+ * <p>
+ * Regions are handed out to the workers on demand, so a heap with many regions of similar size
+ * (such as a balanced GC heap) keeps every worker busy. A heap made of a few large regions gains
+ * little, since a region is always walked by a single thread.
+ * <p>
+ * Each worker reads the core through its own block cache (see {@link AbstractMemory#enableThreadReadCache()})
+ * and has its own {@link ObjectVisitor}, created by the {@link VisitorFactory} passed to
+ * {@link #walkHeap(VisitorFactory, int)}. The visitors are returned once the walk completes so that the caller
+ * can merge their results; no visitor is ever called by more than one thread.
+ */
+public class ParallelHeapWalker
+{
+	/**
+	 * System property controlling the default number of threads used by {@link #walkHeap(VisitorFactory)}.
+	 */
+	public static final String WALKER_THREADS_PROPERTY = "ddr.heap.walker.threads";
+
+	public interface ObjectVisitor
+	{
+		/**
+		 * @param object an object in the heap
+		 * @throws CorruptDataException if the object could not be read; the walk continues with the next object
+		 */
+		public void visit(J9ObjectPointer object) throws CorruptDataException;
+
+		/**
+		 * Called when an object or region could not be read.
+		 * 
+		 * @param e the problem that was found
+		 */
+		public void corruption(CorruptDataException e);
+	}
+
+	public interface VisitorFactory<V extends ObjectVisitor>
+	{
+		/**
+		 * @return a new visitor, to be used by a single worker thread
+		 */
+		public V newVisitor();
+	}
+
+	/**
+	 * Walks the heap using the number of threads given by the {@value #WALKER_THREADS_PROPERTY} system property,
+	 * or one thread per available processor if it is not set.
+	 * 
+	 * @see #walkHeap(VisitorFactory, int)
+	 */
+	public static <V extends ObjectVisitor> List<V> walkHeap(VisitorFactory<V> factory) throws CorruptDataException
+	{
+		int threadCount = Integer.getInteger(WALKER_THREADS_PROPERTY, Runtime.getRuntime().availableProcessors()).intValue();
+		return walkHeap(factory, threadCount);
+	}
+
+	/**
+	 * Walks all live objects in every heap region.
+	 * 
+	 * @param factory creates one visitor per worker thread
+	 * @param threadCount maximum number of worker threads; values less than 2 walk the heap on the calling thread
+	 * @return the visitors that were used, one per worker
+	 * @throws CorruptDataException if the list of heap regions cannot be read
+	 */
+	public static <V extends ObjectVisitor> List<V> walkHeap(VisitorFactory<V> factory, int threadCount) throws CorruptDataException
+	{
+		/* The region list is small and GCHeapRegionIterator is not thread safe, so collect it up front */
+		final List<GCHeapRegionDescriptor> regions = new ArrayList<GCHeapRegionDescriptor>();
+		GCHeapRegionIterator regionIterator = GCHeapRegionIterator.from();
+		while (regionIterator.hasNext()) {
+			regions.add(regionIterator.next());
+		}
+
+		final IProcess process = DataType.getProcess();
+		threadCount = Math.min(threadCount, regions.size());
+		if ((threadCount < 2) || !(process instanceof AbstractMemory)) {
+			/* the core can only be read concurrently through AbstractMemory's per-thread caches */
+			V visitor = factory.newVisitor();
+			for (GCHeapRegionDescriptor region : regions) {
+				walkRegion(region, visitor);
+			}
+			return Collections.singletonList(visitor);
+		}
+
+		final List<V> visitors = new ArrayList<V>(threadCount);
+		for (int i = 0; i < threadCount; i++) {
+			visitors.add(factory.newVisitor());
+		}
+
+		final AtomicInteger nextRegion = new AtomicInteger();
+		ExecutorService workers = Executors.newFixedThreadPool(threadCount);
+		try {
+			List<Future<?>> results = new ArrayList<Future<?>>(threadCount);
+			for (final V visitor : visitors) {
+				results.add(workers.submit(new Runnable() {
+					public void run()
+					{
+						AbstractMemory memory = (AbstractMemory) process;
+						memory.enableThreadReadCache();
+						try {
+							for (int index = nextRegion.getAndIncrement(); index < regions.size(); index = nextRegion.getAndIncrement()) {
+								walkRegion(regions.get(index), visitor);
+							}
+						} finally {
+							memory.disableThreadReadCache();
+						}
+					}
+				}));
+			}
+			for (Future<?> result : results) {
+				result.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new RuntimeException(cause);
+		} finally {
+			workers.shutdownNow();
+		}
+
+		return visitors;
+	}
+
+	private static void walkRegion(GCHeapRegionDescriptor region, ObjectVisitor visitor)
+	{
+		GCObjectHeapIterator heapIterator;
+		try {
+			heapIterator = GCObjectHeapIterator.fromHeapRegionDescriptor(region, true, false);
+		} catch (CorruptDataException e) {
+			visitor.corruption(e);
+			return;
+		}
+		while (heapIterator.hasNext()) {
+			J9ObjectPointer object = heapIterator.next();
+			try {
+				visitor.visit(object);
+			} catch (CorruptDataException e) {
+				visitor.corruption(e);
+			}
+		}
+	}
+}
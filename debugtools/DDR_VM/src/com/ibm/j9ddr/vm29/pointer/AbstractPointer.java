@@ -47,9 +47,8 @@ import com.ibm.j9ddr.vm29.types.UDATA;
 
 public abstract class AbstractPointer extends DataType {
 	private static int cacheSize = 32;
-	private static long[] keys;
-	private static J9ClassPointer[] values;
-	private static int[] counts;
+	/* Entries are replaced, never updated, so threads walking the heap concurrently can share the cache. */
+	private static ClassCacheEntry[] entries;
 	private static long probes;
 	private static long hits;
 	static {
@@ -490,12 +489,14 @@ public abstract class AbstractPointer extends DataType {
 
 	private static J9ClassPointer checkClassCache(long pointer)
 	{
+		ClassCacheEntry[] cache = entries;
 		probes++;
 		for (int i = 0; i < cacheSize; i++) {
-			if (keys[i] == pointer) {
+			ClassCacheEntry entry = cache[i];
+			if (entry.key == pointer) {
 				hits++;
-				counts[i]++;
-				return values[i];
+				entry.count++;
+				return entry.value;
 			}
 		}
 		return null;
@@ -503,17 +504,16 @@ public abstract class AbstractPointer extends DataType {
 
 	private static void setClassCache(long pointer, J9ClassPointer cp)
 	{
-		int min = counts[0];
+		ClassCacheEntry[] cache = entries;
+		int min = cache[0].count;
 		int minIndex = 0;
 		for (int i = 1; i < cacheSize; i++) {
-			if (counts[i] < min) {
-				min = counts[i];
+			if (cache[i].count < min) {
+				min = cache[i].count;
 				minIndex = i;
 			}
 		}
-		keys[minIndex] = pointer;
-		values[minIndex] = cp;
-		counts[minIndex] = 1;
+		cache[minIndex] = new ClassCacheEntry(pointer, cp);
 	}
 
 	protected J9ObjectMonitorPointer getObjectMonitorAtOffset(long offset) throws CorruptDataException {
@@ -559,9 +559,12 @@ public abstract class AbstractPointer extends DataType {
 
 	private static void initializeCache()
 	{
-		keys = new long[cacheSize];
-		values = new J9ClassPointer[cacheSize];
-		counts = new int[cacheSize];
+		ClassCacheEntry[] cache = new ClassCacheEntry[cacheSize];
+		for (int i = 0; i < cacheSize; i++) {
+			cache[i] = new ClassCacheEntry(0, null);
+			cache[i].count = 0;
+		}
+		entries = cache;
 		probes = 0;
 		hits = 0;
 	}
@@ -572,4 +575,18 @@ public abstract class AbstractPointer extends DataType {
 		System.out.println("AbstractPointer probes: " + probes + " hit rate: " + hitRate + "%");
 		initializeCache();
 	}
+
+	private static final class ClassCacheEntry
+	{
+		final long key;
+		final J9ClassPointer value;
+		int count;
+
+		ClassCacheEntry(long key, J9ClassPointer value)
+		{
+			this.key = key;
+			this.value = value;
+			this.count = 1;
+		}
+	}
 }
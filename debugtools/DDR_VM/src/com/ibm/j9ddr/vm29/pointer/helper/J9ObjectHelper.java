@@ -45,9 +45,8 @@ import static com.ibm.j9ddr.vm29.structure.J9Consts.*;
 public class J9ObjectHelper
 {
 	private static int cacheSize = 32;
-	private static J9ObjectPointer[] keys;
-	private static J9ClassPointer[] values;
-	private static int[] counts;
+	/* Entries are replaced, never updated, so threads walking the heap concurrently can share the cache. */
+	private static ClassCacheEntry[] entries;
 	private static long probes;
 	private static long hits;
 	public static final boolean mixedReferenceMode;
@@ -432,12 +431,14 @@ public class J9ObjectHelper
 
 	private static J9ClassPointer checkClassCache(J9ObjectPointer objPointer)
 	{
+		ClassCacheEntry[] cache = entries;
 		probes++;
 		for (int i = 0; i < cacheSize; i++) {
-			if (keys[i].equals(objPointer)) {
+			ClassCacheEntry entry = cache[i];
+			if (entry.key.equals(objPointer)) {
 				hits++;
-				counts[i]++;
-				return values[i];
+				entry.count++;
+				return entry.value;
 			}
 		}
 		return null;
@@ -445,28 +446,41 @@ public class J9ObjectHelper
 
 	private static void setClassCache(J9ObjectPointer objPointer, J9ClassPointer classPointer)
 	{
-		int min = counts[0];
+		ClassCacheEntry[] cache = entries;
+		int min = cache[0].count;
 		int minIndex = 0;
 		for (int i = 1; i < cacheSize; i++) {
-			if (counts[i] < min) {
-				min = counts[i];
+			if (cache[i].count < min) {
+				min = cache[i].count;
 				minIndex = i;
 			}
 		}
-		keys[minIndex] = objPointer;
-		values[minIndex] = classPointer;
-		counts[minIndex] = 1;
+		cache[minIndex] = new ClassCacheEntry(objPointer, classPointer);
 	}
 
 	private static void initializeCache()
 	{
-		keys = new J9ObjectPointer[cacheSize];
-		values = new J9ClassPointer[cacheSize];
-		counts = new int[cacheSize];
+		ClassCacheEntry[] cache = new ClassCacheEntry[cacheSize];
+		for (int i = 0; i < cacheSize; i++) {
+			cache[i] = new ClassCacheEntry(J9ObjectPointer.NULL, null);
+			cache[i].count = 0;
+		}
+		entries = cache;
 		probes = 0;
 		hits = 0;
-		for (int i = 0; i < cacheSize; i++) {
-			keys[i] = J9ObjectPointer.NULL;
+	}
+
+	private static final class ClassCacheEntry
+	{
+		final J9ObjectPointer key;
+		final J9ClassPointer value;
+		int count;
+
+		ClassCacheEntry(J9ObjectPointer key, J9ClassPointer value)
+		{
+			this.key = key;
+			this.value = value;
+			this.count = 1;
 		}
 	}
 
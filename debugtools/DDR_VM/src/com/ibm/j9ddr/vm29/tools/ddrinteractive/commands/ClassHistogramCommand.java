@@ -0,0 +1,175 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.j9ddr.vm29.tools.ddrinteractive.commands;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.ibm.j9ddr.CorruptDataException;
+import com.ibm.j9ddr.tools.ddrinteractive.Command;
+import com.ibm.j9ddr.tools.ddrinteractive.Context;
+import com.ibm.j9ddr.tools.ddrinteractive.DDRInteractiveCommandException;
+import com.ibm.j9ddr.tools.ddrinteractive.Table;
+import com.ibm.j9ddr.vm29.j9.ObjectModel;
+import com.ibm.j9ddr.vm29.j9.ParallelHeapWalker;
+import com.ibm.j9ddr.vm29.pointer.generated.J9ClassPointer;
+import com.ibm.j9ddr.vm29.pointer.generated.J9ObjectPointer;
+import com.ibm.j9ddr.vm29.pointer.helper.J9ClassHelper;
+import com.ibm.j9ddr.vm29.pointer.helper.J9ObjectHelper;
+
+/**
+ * Prints the number of objects of each class in the heap and the space they occupy.
+ */
+public class ClassHistogramCommand extends Command
+{
+	private boolean sortByCount;
+
+	public ClassHistogramCommand() {
+		addCommand("classhistogram", "[-count]", "print the number and total size of the objects of each class in the heap");
+	}
+
+	private static void printUsage(PrintStream out) {
+		out.println("classhistogram [-count] - print the number and total size of the objects of each class in the heap");
+		out.println("Classes are listed by decreasing total size, or by decreasing number of instances with -count.");
+		out.println("Sizes include object headers and, for discontiguous arrays, their arraylet leaves.");
+		out.format("The heap is scanned by multiple threads, set -D%s=<n> to change the number of threads%n", ParallelHeapWalker.WALKER_THREADS_PROPERTY);
+	}
+
+	private boolean parseArgs(PrintStream out, String[] args) {
+		sortByCount = false;
+		if (args != null) {
+			for (String arg : args) {
+				if (arg.equals("-count")) {
+					sortByCount = true;
+				} else {
+					if (!arg.equals("help")) {
+						out.println("Invalid argument: " + arg);
+					}
+					printUsage(out);
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public void run(String command, String[] args, Context context, PrintStream out) throws DDRInteractiveCommandException {
+		if (!parseArgs(out, args)) {
+			return;
+		}
+
+		List<HistogramBuilder> builders;
+		try {
+			builders = ParallelHeapWalker.walkHeap(HistogramBuilder::new);
+		} catch (CorruptDataException e) {
+			throw new DDRInteractiveCommandException(e);
+		}
+
+		/* Merge the per-thread histograms */
+		Map<Long, ClassEntry> histogram = new HashMap<Long, ClassEntry>();
+		long corruptCount = 0;
+		for (HistogramBuilder builder : builders) {
+			corruptCount += builder.corruptCount;
+			for (ClassEntry entry : builder.histogram.values()) {
+				ClassEntry total = histogram.get(entry.classAddress);
+				if (null == total) {
+					histogram.put(entry.classAddress, entry);
+				} else {
+					total.count += entry.count;
+					total.size += entry.size;
+				}
+			}
+		}
+
+		List<ClassEntry> entries = new ArrayList<ClassEntry>(histogram.values());
+		if (sortByCount) {
+			Collections.sort(entries, (a, b) -> (a.count != b.count) ? Long.compare(b.count, a.count) : Long.compare(b.size, a.size));
+		} else {
+			Collections.sort(entries, (a, b) -> (a.size != b.size) ? Long.compare(b.size, a.size) : Long.compare(b.count, a.count));
+		}
+
+		Table data = new Table("Class histogram");
+		data.row("Instances", "Total size", "Class", "!j9class");
+		long totalCount = 0;
+		long totalSize = 0;
+		for (ClassEntry entry : entries) {
+			J9ClassPointer clazz = J9ClassPointer.cast(entry.classAddress);
+			String name;
+			try {
+				name = J9ClassHelper.getJavaName(clazz);
+			} catch (CorruptDataException e) {
+				name = "<corrupt class>";
+			}
+			data.row(Long.toString(entry.count), Long.toString(entry.size), name, clazz.getHexAddress());
+			totalCount += entry.count;
+			totalSize += entry.size;
+		}
+		data.row(Long.toString(totalCount), Long.toString(totalSize), "Total", "");
+
+		out.format("Classes found: %d%n", entries.size());
+		out.format("Corruptions encountered: %d%n", corruptCount);
+		data.render(out);
+	}
+
+	private static final class ClassEntry
+	{
+		final Long classAddress;
+		long count;
+		long size;
+
+		ClassEntry(Long classAddress) {
+			this.classAddress = classAddress;
+		}
+	}
+
+	/**
+	 * Counts the objects seen by one heap walker thread.
+	 */
+	private static final class HistogramBuilder implements ParallelHeapWalker.ObjectVisitor
+	{
+		final Map<Long, ClassEntry> histogram = new HashMap<Long, ClassEntry>();
+		long corruptCount;
+
+		public void visit(J9ObjectPointer object) throws CorruptDataException {
+			J9ClassPointer objClass = J9ObjectHelper.clazz(object);
+			if (objClass.notNull()) {
+				Long key = Long.valueOf(objClass.getAddress());
+				ClassEntry entry = histogram.get(key);
+				if (null == entry) {
+					entry = new ClassEntry(key);
+					histogram.put(key, entry);
+				}
+				entry.count += 1;
+				entry.size += ObjectModel.getTotalFootprintInBytesWithHeader(object).longValue();
+			}
+		}
+
+		public void corruption(CorruptDataException e) {
+			corruptCount += 1;
+		}
+	}
+}
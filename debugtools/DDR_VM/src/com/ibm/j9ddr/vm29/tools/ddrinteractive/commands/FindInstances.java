@@ -29,10 +29,7 @@ import com.ibm.j9ddr.tools.ddrinteractive.DDRInteractiveCommandException;
 import com.ibm.j9ddr.tools.ddrinteractive.Table;
 
 import com.ibm.j9ddr.vm29.j9.DataType;
-
-import com.ibm.j9ddr.vm29.j9.gc.GCHeapRegionDescriptor;
-import com.ibm.j9ddr.vm29.j9.gc.GCHeapRegionIterator;
-import com.ibm.j9ddr.vm29.j9.gc.GCObjectHeapIterator;
+import com.ibm.j9ddr.vm29.j9.ParallelHeapWalker;
 
 import com.ibm.j9ddr.vm29.j9.walkers.ClassSegmentIterator;
 
@@ -45,6 +42,10 @@ import com.ibm.j9ddr.vm29.pointer.helper.J9ObjectHelper;
 import com.ibm.j9ddr.vm29.pointer.helper.J9RASHelper;
 
 import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 public class FindInstances extends Command
 {
@@ -60,6 +61,7 @@ public class FindInstances extends Command
 
 	private static void printUsage (PrintStream out) {
 		out.println("findinstances <name> - find all instances of the specific class and its subclasses");
+		out.format("The heap is searched by multiple threads, set -D%s=<n> to change the number of threads%n", ParallelHeapWalker.WALKER_THREADS_PROPERTY);
 	}
 
 	private boolean parseArgs(PrintStream out, String[] args) throws DDRInteractiveCommandException {
@@ -129,31 +131,85 @@ public class FindInstances extends Command
 	}
 
 	private void scanHeap() {
+		List<InstanceFinder> finders;
 		try {
-			GCHeapRegionIterator regions = GCHeapRegionIterator.from();
-			while (regions.hasNext()) {
-				GCHeapRegionDescriptor region = regions.next();
-				scanObjects(region);
-			}
+			finders = ParallelHeapWalker.walkHeap(() -> new InstanceFinder(classPointer));
 		} catch (CorruptDataException e) {
 			e.printStackTrace();
+			return;
 		}
 
+		/* Report the instances in address order, whichever thread found them */
+		int found = 0;
+		for (InstanceFinder finder : finders) {
+			found += finder.count;
+			corruptCount += finder.corruptCount;
+		}
+		long[][] instances = new long[found][];
+		int index = 0;
+		for (InstanceFinder finder : finders) {
+			for (int i = 0; i < finder.count; i++) {
+				instances[index++] = new long[] { finder.objects[i], finder.classes[i] };
+			}
+		}
+		Arrays.sort(instances, (a, b) -> Long.compareUnsigned(a[0], b[0]));
+
+		Map<Long, String> classNames = new HashMap<Long, String>();
+		for (long[] instance : instances) {
+			String name = classNames.get(instance[1]);
+			if (null == name) {
+				try {
+					name = J9ClassHelper.getJavaName(J9ClassPointer.cast(instance[1]));
+				} catch (CorruptDataException e) {
+					name = "<corrupt class>";
+				}
+				classNames.put(instance[1], name);
+			}
+			data.row(J9ObjectPointer.cast(instance[0]).getHexAddress(), name);
+		}
+		objectsFound = found;
 	}
 
-	private void scanObjects(GCHeapRegionDescriptor region) throws CorruptDataException	{
-		GCObjectHeapIterator heapIterator = GCObjectHeapIterator.fromHeapRegionDescriptor(region, true, true);
-		while (heapIterator.hasNext()) {
-			J9ObjectPointer object = heapIterator.next();
-			try {
-				J9ClassPointer objClass = J9ObjectHelper.clazz(object);
-				if (objClass.notNull() && J9ClassHelper.isSameOrSuperClassOf(classPointer, objClass)) {
-					data.row(object.getHexAddress(), J9ClassHelper.getJavaName(objClass));
-					objectsFound += 1;
+	/**
+	 * Collects the addresses of the instances found by one heap walker thread.
+	 */
+	private static final class InstanceFinder implements ParallelHeapWalker.ObjectVisitor
+	{
+		private final J9ClassPointer classPointer;
+		/* whether each class seen so far is classPointer or one of its subclasses */
+		private final Map<Long, Boolean> matches = new HashMap<Long, Boolean>();
+		long[] objects = new long[64];
+		long[] classes = new long[64];
+		int count;
+		long corruptCount;
+
+		InstanceFinder(J9ClassPointer classPointer) {
+			this.classPointer = classPointer;
+		}
+
+		public void visit(J9ObjectPointer object) throws CorruptDataException {
+			J9ClassPointer objClass = J9ObjectHelper.clazz(object);
+			if (objClass.notNull()) {
+				Long key = Long.valueOf(objClass.getAddress());
+				Boolean match = matches.get(key);
+				if (null == match) {
+					match = Boolean.valueOf(J9ClassHelper.isSameOrSuperClassOf(classPointer, objClass));
+					matches.put(key, match);
+				}
+				if (match.booleanValue()) {
+					if (count == objects.length) {
+						objects = Arrays.copyOf(objects, count * 2);
+						classes = Arrays.copyOf(classes, count * 2);
+					}
+					objects[count] = object.getAddress();
+					classes[count] = objClass.getAddress();
+					count += 1;
 				}
-			} catch (CorruptDataException e) {
-				corruptCount += 1;
 			}
 		}
+
+		public void corruption(CorruptDataException e) {
+			corruptCount += 1;
+		}
 	}
 }
@@ -31,6 +31,7 @@ import com.ibm.j9ddr.tools.ddrinteractive.Table;
 import com.ibm.j9ddr.vm29.j9.DataType;
 import com.ibm.j9ddr.vm29.j9.LiveSetWalker;
 import com.ibm.j9ddr.vm29.j9.LiveSetWalker.ObjectVisitor;
+import com.ibm.j9ddr.vm29.j9.RootSet.RootSetType;
 import com.ibm.j9ddr.vm29.j9.gc.GCExtensions;
 import com.ibm.j9ddr.vm29.j9.gc.GCHeapRegionDescriptor;
 import com.ibm.j9ddr.vm29.j9.gc.GCHeapRegionIterator;
@@ -177,8 +178,10 @@ public class ObjectRefsCommand extends Command {
 						J9ClassPointer objectClass = J9ObjectHelper.clazz(object);
 						String objectClassString = J9ClassHelper.getJavaName(objectClass);
 
-						/* this object points at the object we care about */
-						table.row("!j9object " + object.getHexAddress() + " //" + objectClassString);
+						/* this object points at the object we care about; the live set may be walked by several threads */
+						synchronized (table) {
+							table.row("!j9object " + object.getHexAddress() + " //" + objectClassString);
+						}
 					}
 				}
 			} catch (CorruptDataException e) {
@@ -200,7 +203,7 @@ public class ObjectRefsCommand extends Command {
 		Table table = new Table("All Live Objects That Refer To !j9object " + targetObject.getHexAddress());
 		table.row("Object");
 		
-		LiveSetWalker.walkLiveSet(new LiveReferenceVisitor(heapRegionManager, targetObject, table));
+		LiveSetWalker.walkLiveSetParallel(new LiveReferenceVisitor(heapRegionManager, targetObject, table), RootSetType.STRONG_REACHABLE);
 		
 		table.render(out);
 
@@ -155,7 +155,8 @@ public class RootPathCommand extends Command
 	
 	private class ObjectFinderVisitor implements ObjectVisitor 
 	{
-		boolean _objectFound = false;
+		/* written by the LiveSetWalker worker threads */
+		volatile boolean _objectFound = false;
 		J9ObjectPointer _objectToFind;
 		
 		public ObjectFinderVisitor(J9ObjectPointer objectToFind) 
@@ -300,7 +301,7 @@ public class RootPathCommand extends Command
 					}
 				} else if (command.equals("!isobjectalive")) {
 					ObjectFinderVisitor objectFinder = new ObjectFinderVisitor(objectToFind);
-					LiveSetWalker.walkLiveSet(objectFinder);
+					LiveSetWalker.walkLiveSetParallel(objectFinder, RootSetType.STRONG_REACHABLE);
 					if (objectFinder._objectFound) {
 						out.println("Object is live");
 					} else {
@@ -22,21 +22,38 @@
  */
 package java.lang.invoke;
 
+import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
-import java.util.Collections;
 import java.util.Map;
-import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import openj9.internal.management.MethodHandleCacheStatistics;
 
 /*
  * ClassValue based Cache for mapping from a Class to its perClassCache.
+ * The perClassCache is a ConcurrentHashMap so lookups never block.
  */
 final class Cache extends ClassValue<Map<CacheKey, WeakReference<MethodHandle>>> {
 	@Override
 	protected Map<CacheKey, WeakReference<MethodHandle>> computeValue(Class<?> arg0) {
-		return Collections.synchronizedMap(new WeakHashMap<CacheKey, WeakReference<MethodHandle>>());
+		return new ConcurrentHashMap<CacheKey, WeakReference<MethodHandle>>();
 	}	
 }
 
+/* Weak reference to a cached MethodHandle which remembers where it is cached so the
+ * entry can be removed once the MethodHandle has been collected.
+ */
+final class CachedHandleReference extends WeakReference<MethodHandle> {
+	final CacheKey cacheKey;
+	final Map<CacheKey, WeakReference<MethodHandle>> perClassCache;
+
+	CachedHandleReference(MethodHandle handle, CacheKey cacheKey, Map<CacheKey, WeakReference<MethodHandle>> perClassCache, ReferenceQueue<MethodHandle> queue) {
+		super(handle, queue);
+		this.cacheKey = cacheKey;
+		this.perClassCache = perClassCache;
+	}
+}
+
 /* Cache key for mapping the methodName and MethodType to the actual MethodHandle */
 final class MethodCacheKey extends CacheKey {
 	private final MethodType type;
@@ -118,6 +135,11 @@ final class HandleCache {
 	private static final Cache fieldSetterCache = new Cache();
 	private static final Cache fieldGetterCache = new Cache();
 
+	/* Queue of references to cached MethodHandles that have been collected */
+	private static final ReferenceQueue<MethodHandle> collectedHandles = new ReferenceQueue<MethodHandle>();
+	/* Maximum number of collected entries removed by a single lookup or insertion */
+	private static final int EXPUNGE_BATCH_SIZE = 64;
+
 	static Map<CacheKey, WeakReference<MethodHandle>> getVirtualCache(Class<?> c) {
 		return findVirtualCache.get(c);
 	}
@@ -151,18 +173,32 @@ final class HandleCache {
 	}
 	
 	public static MethodHandle getMethodWithSpecialCallerFromPerClassCache(Map<CacheKey, WeakReference<MethodHandle>> perClassCache, String name, MethodType type, Class<?> specialCaller) {
-		WeakReference<MethodHandle> handleRef = perClassCache.get(new MethodCacheKey(name, type, specialCaller));
-		if (handleRef != null) {
-			return handleRef.get();
-		}
-		return null;
+		return lookupHandle(perClassCache, new MethodCacheKey(name, type, specialCaller));
 	}
 	
 	public static MethodHandle getFieldFromPerClassCache(Map<CacheKey, WeakReference<MethodHandle>> perClassCache, String name, Class<?> fieldType) {
-		WeakReference<MethodHandle> handleRef = perClassCache.get(new FieldCacheKey(name, fieldType));
+		return lookupHandle(perClassCache, new FieldCacheKey(name, fieldType));
+	}
+
+	private static MethodHandle lookupHandle(Map<CacheKey, WeakReference<MethodHandle>> perClassCache, CacheKey cacheKey) {
+		/* Queued references keep their perClassCache and CacheKey (and so the classes they
+		 * refer to) reachable, so drain them on every access as WeakHashMap did.  poll() does
+		 * not lock when the queue is empty.
+		 */
+		expungeCollectedHandles();
+		WeakReference<MethodHandle> handleRef = perClassCache.get(cacheKey);
 		if (handleRef != null) {
-			return handleRef.get();
+			MethodHandle handle = handleRef.get();
+			if (handle != null) {
+				MethodHandleCacheStatistics.recordHit();
+				return handle;
+			}
+			/* collected but not yet enqueued; the queued reference finds the entry already removed */
+			if (perClassCache.remove(cacheKey, handleRef)) {
+				MethodHandleCacheStatistics.recordCleared(1);
+			}
 		}
+		MethodHandleCacheStatistics.recordMiss();
 		return null;
 	}
 
@@ -182,15 +218,31 @@ final class HandleCache {
 	}
 	
 	private static MethodHandle cacheHandle(Map<CacheKey, WeakReference<MethodHandle>> perClassCache, CacheKey cacheKey, MethodHandle handle){
-		/* Keep a strong reference to the FieldCacheKey in the MH being cached so that it won't
-		 * be immediately collected.  Uses a WeakHashMap<FieldCacheKey, WeakRef<MH>> to cache.
-		 * Since the MH keeps a strong ref to the FieldCacheKey, as long as the MH is alive
-		 * the Key can't be collected, despite being a weakref.
-		 */
-		handle.cacheKey = cacheKey;
-		perClassCache.put(handle.cacheKey, new WeakReference<MethodHandle>(handle));
+		expungeCollectedHandles();
+		perClassCache.put(cacheKey, new CachedHandleReference(handle, cacheKey, perClassCache, collectedHandles));
 		return handle;
 	}
 
+	/* Remove the entries of collected MethodHandles from their perClassCache.  At most
+	 * EXPUNGE_BATCH_SIZE entries are removed per call so a single lookup or insertion never
+	 * pays for a large backlog; any remainder is handled by later accesses.
+	 */
+	private static void expungeCollectedHandles() {
+		int cleared = 0;
+		for (int polled = 0; polled < EXPUNGE_BATCH_SIZE; polled++) {
+			CachedHandleReference reference = (CachedHandleReference)collectedHandles.poll();
+			if (reference == null) {
+				break;
+			}
+			/* only remove the entry if it hasn't been replaced by a newer handle or removed by a lookup */
+			if (reference.perClassCache.remove(reference.cacheKey, reference)) {
+				cleared += 1;
+			}
+		}
+		if (cleared > 0) {
+			MethodHandleCacheStatistics.recordCleared(cleared);
+		}
+	}
+
 }
 
@@ -40,10 +40,13 @@ class MethodHandleCache {
 
 	private Class<?> clazz;
 	/*[PR JAZZ 58955] Prevent duplicate RBH's of the same class on Class.cast() */
-	private MethodHandle classCastHandle;
-	private MethodHandle nullConstantObjectHandle;
+	private volatile MethodHandle classCastHandle;
+	private volatile MethodHandle nullConstantObjectHandle;
+	/* The VM walks this list to update the DirectHandles when the class is redefined */
 	private WeakReferenceNode<DirectHandle> directHandlesHead;
-	private ReferenceQueue<DirectHandle> referenceQueue = new ReferenceQueue<>();
+	private final ReferenceQueue<DirectHandle> referenceQueue = new ReferenceQueue<>();
+	/* Maximum number of collected nodes unlinked by a single call to addDirectHandle() */
+	private static final int UNLINK_BATCH_SIZE = 32;
 
 	private MethodHandleCache(Class<?> clazz) {
 		this.clazz = clazz;
@@ -73,24 +76,29 @@ class MethodHandleCache {
 	 */
 	/*[PR JAZZ 58955] Prevent duplicate RBH's of the same class on Class.cast() */
 	public MethodHandle getClassCastHandle() throws IllegalAccessException, NoSuchMethodException {
-		if (null == classCastHandle) {
+		MethodHandle handle = classCastHandle;
+		if (null == handle) {
 			synchronized (this) {
-				if (null == classCastHandle) {
-					classCastHandle = MethodHandles.Lookup.internalPrivilegedLookup.bind(clazz, "cast", methodType(Object.class, Object.class)); //$NON-NLS-1$
+				handle = classCastHandle;
+				if (null == handle) {
+					handle = MethodHandles.Lookup.internalPrivilegedLookup.bind(clazz, "cast", methodType(Object.class, Object.class)); //$NON-NLS-1$
+					classCastHandle = handle;
 				}
 			}
 		}
-		return classCastHandle;
+		return handle;
 	}
 
 	/**
 	 * @return a MethodHandle that contains a null ConstantHandle for a specific class.
 	 */
 	public MethodHandle getNullConstantObjectHandle() {
-		if (null == nullConstantObjectHandle) {
-			nullConstantObjectHandle = new ConstantObjectHandle(methodType(clazz), null);
+		MethodHandle handle = nullConstantObjectHandle;
+		if (null == handle) {
+			handle = new ConstantObjectHandle(methodType(clazz), null);
+			nullConstantObjectHandle = handle;
 		}
-		return nullConstantObjectHandle;
+		return handle;
 	}
 	
 	/**
@@ -101,22 +109,49 @@ class MethodHandleCache {
 	 */
 	public void addDirectHandle(DirectHandle handle) {
 		WeakReferenceNode<DirectHandle> ref = new WeakReferenceNode<>(handle, referenceQueue);
+		WeakReferenceNode<DirectHandle>[] collected = pollReferenceQueue();
 		
 		synchronized (this) {
 			ref.addBefore(directHandlesHead);
 			directHandlesHead = ref;
+			if (null != collected) {
+				unlink(collected);
+			}
 		}
-		
-		processReferenceQueue();
 	}
 
 	/**
 	 * MethodHandles may be garbage collected, so we need to remove collected WeakReferences to prevent
-	 * the linked list from growing indefinitely.
+	 * the linked list from growing indefinitely.  Polling the queue doesn't require the lock, so the
+	 * collected nodes are gathered first and unlinked in the same critical section as the insertion.
+	 * 
+	 * @return up to UNLINK_BATCH_SIZE collected nodes, or null if there are none
+	 */
+	@SuppressWarnings("unchecked")
+	private WeakReferenceNode<DirectHandle>[] pollReferenceQueue() {
+		WeakReferenceNode<DirectHandle> forRemoval = (WeakReferenceNode<DirectHandle>)referenceQueue.poll();
+		if (null == forRemoval) {
+			return null;
+		}
+		WeakReferenceNode<DirectHandle>[] collected = new WeakReferenceNode[UNLINK_BATCH_SIZE];
+		int count = 0;
+		do {
+			collected[count] = forRemoval;
+			count += 1;
+		} while ((count < UNLINK_BATCH_SIZE) && (null != (forRemoval = (WeakReferenceNode<DirectHandle>)referenceQueue.poll())));
+		return collected;
+	}
+
+	/**
+	 * Remove the collected nodes from the list.  Must be called while synchronized on this cache.
+	 * 
+	 * @param collected the nodes to remove, terminated by the end of the array or a null entry
 	 */
-	private synchronized void processReferenceQueue() {
-		WeakReferenceNode<DirectHandle> forRemoval;
-		while (null != (forRemoval = (WeakReferenceNode<DirectHandle>)referenceQueue.poll())) {
+	private void unlink(WeakReferenceNode<DirectHandle>[] collected) {
+		for (WeakReferenceNode<DirectHandle> forRemoval : collected) {
+			if (null == forRemoval) {
+				break;
+			}
 			if (directHandlesHead == forRemoval) {
 				directHandlesHead = forRemoval.next();
 			} else {
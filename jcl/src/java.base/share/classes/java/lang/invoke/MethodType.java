@@ -34,6 +34,7 @@ import java.lang.constant.ClassDesc;
 import java.lang.constant.MethodTypeDesc;
 /*[ENDIF] JAVA_SPEC_VERSION >= 12 */
 import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
 import java.lang.reflect.Field;
 import java.security.*;
@@ -42,13 +43,12 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 /*[IF JAVA_SPEC_VERSION >= 12]*/
 import java.util.NoSuchElementException;
 import java.util.Optional;
 /*[ENDIF] JAVA_SPEC_VERSION >= 12 */
 import java.util.Set;
-import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.ibm.oti.util.Msg;
 
@@ -83,10 +83,7 @@ public final class MethodType implements Serializable
 	private MethodTypeForm form;
 	/*[ENDIF] JAVA_SPEC_VERSION >= 9 */
 
-	private static Map<MethodType, WeakReference<MethodType>> internTable = Collections.synchronizedMap(new WeakHashMap<MethodType, WeakReference<MethodType>>());
-	// lock object to control insertion of new MTs
-	static final class InternTableAddLock { }
-	private static InternTableAddLock internTableAddLock = new InternTableAddLock();
+	private static final ConcurrentWeakInternSet internTable = new ConcurrentWeakInternSet();
 
 	@VMCONSTANTPOOL_FIELD
 	final Class<?> rtype;
@@ -546,59 +543,136 @@ public final class MethodType implements Serializable
 	/*[ENDIF] CRIU_SUPPORT */
 	private MethodType intern() {
 
-		MethodType type = probeTable();
+		MethodType type = internTable.get(this);
 		if (type != null) {
 			return type;
 		}
 
-		/* Check for the item under lock to prevent multiple threads from
-		 * successfully interning the same MethodType.  Use a lock object
-		 * other than the intern table so other threads can continue to
-		 * probe the table without waiting for unrelated MTs to be interned.
+		/* Lookups never block.  Threads racing to intern the same MethodType may both
+		 * compute its internal state, but only the first to add it to the table wins
+		 * and the others return the winner.
 		 */
-		synchronized(internTableAddLock) {
-			type = probeTable();
-			if (type != null) {
-				return type;
+		int stackSlots = ptypes.length;
+
+		for(Class<?> c : ptypes) {
+			/*[IF ]*/
+			/* getClass() gets compiled to just a NULLCHK and consumes fewer bytecodes than 'if (c == null) throw ...' */
+			/*[ENDIF]*/
+			c.getClass();	// Implicit nullcheck
+			if ((c == double.class) || (c == long.class)) {
+				stackSlots++;
+			} else if (c == void.class){
+				/*[MSG "K05d9", "invalid parameter: {}"]*/
+				throw new IllegalArgumentException(Msg.getString("K05d9", void.class)); //$NON-NLS-1$
 			}
+		}
+		if (stackSlots > 255) {
+			/*[MSG "K05d8", "MethodType would consume more than 255 argument slots: {0}"]*/
+			throw new IllegalArgumentException(Msg.getString("K05d8", stackSlots)); //$NON-NLS-1$
+		}
+		argSlots = stackSlots;
+
+		/* initialize expensive state */
+		stackDescriptionBits = stackDescriptionBits(ptypes, argSlots);
+		methodDescriptor = createMethodDescriptorString();
+
+		MethodType tenured = makeTenured(this);
+		return internTable.add(tenured);
+	}
+
+	/**
+	 * A set of weakly referenced, interned MethodTypes.
+	 * <p>
+	 * Lookups are lock free.  Insertions only lock the hash bin of the new entry in the
+	 * underlying ConcurrentHashMap, so unrelated MethodTypes can be interned in parallel.
+	 * Entries whose MethodType has been collected are removed when the table is next used.
+	 */
+	static final class ConcurrentWeakInternSet {
+		private final ConcurrentHashMap<WeakEntry, WeakEntry> map = new ConcurrentHashMap<WeakEntry, WeakEntry>();
+		private final ReferenceQueue<MethodType> stale = new ReferenceQueue<MethodType>();
+
+		/**
+		 * Find the interned MethodType equal to the given one.
+		 *
+		 * @param type the MethodType to look for
+		 * @return the interned MethodType or null if there isn't one
+		 */
+		MethodType get(MethodType type) {
+			expungeStaleEntries();
+			WeakEntry entry = map.get(new WeakEntry(type));
+			if (entry != null) {
+				return entry.get();
+			}
+			return null;
+		}
 
-			int stackSlots = ptypes.length;
-
-			for(Class<?> c : ptypes) {
-				/*[IF ]*/
-				/* getClass() gets compiled to just a NULLCHK and consumes fewer bytecodes than 'if (c == null) throw ...' */
-				/*[ENDIF]*/
-				c.getClass();	// Implicit nullcheck
-				if ((c == double.class) || (c == long.class)) {
-					stackSlots++;
-				} else if (c == void.class){
-					/*[MSG "K05d9", "invalid parameter: {}"]*/
-					throw new IllegalArgumentException(Msg.getString("K05d9", void.class)); //$NON-NLS-1$
+		/**
+		 * Add the MethodType to the set unless an equal one is already present.
+		 *
+		 * @param type the MethodType to intern
+		 * @return the MethodType in the set, which may not be the one passed in
+		 */
+		MethodType add(MethodType type) {
+			WeakEntry entry = new WeakEntry(type, stale);
+			MethodType interned;
+			do {
+				expungeStaleEntries();
+				WeakEntry existing = map.putIfAbsent(entry, entry);
+				if (existing == null) {
+					interned = type;
+				} else {
+					interned = existing.get();
+					if (interned == null) {
+						/* the existing entry was cleared but not yet enqueued, replace it */
+						map.remove(existing, existing);
+					}
 				}
+			} while (interned == null);
+			return interned;
+		}
+
+		private void expungeStaleEntries() {
+			Reference<? extends MethodType> reference;
+			while ((reference = stale.poll()) != null) {
+				map.remove(reference);
 			}
-			if (stackSlots > 255) {
-				/*[MSG "K05d8", "MethodType would consume more than 255 argument slots: {0}"]*/
-				throw new IllegalArgumentException(Msg.getString("K05d8", stackSlots)); //$NON-NLS-1$
+		}
+
+		/**
+		 * A weak reference to a MethodType which compares equal to other entries for equal MethodTypes.
+		 * The hash code is captured at construction so the entry can still be found, and removed,
+		 * once its MethodType has been collected.
+		 */
+		private static final class WeakEntry extends WeakReference<MethodType> {
+			private final int hashcode;
+
+			WeakEntry(MethodType type) {
+				super(type);
+				hashcode = type.hashCode();
 			}
-			argSlots = stackSlots;
 
-			/* initialize expensive state */
-			stackDescriptionBits = stackDescriptionBits(ptypes, argSlots);
-			methodDescriptor = createMethodDescriptorString();
+			WeakEntry(MethodType type, ReferenceQueue<MethodType> queue) {
+				super(type, queue);
+				hashcode = type.hashCode();
+			}
 
-			MethodType tenured = makeTenured(this);
-			internTable.put(tenured, new WeakReference<MethodType>(tenured));
-			return tenured;
-		}
-	}
+			@Override
+			public boolean equals(Object other) {
+				if (this == other) {
+					return true;
+				}
+				if (other instanceof WeakEntry) {
+					MethodType type = get();
+					return (type != null) && type.equals(((WeakEntry)other).get());
+				}
+				return false;
+			}
 
-	/* Check if the current MethodType is already cached */
-	private MethodType probeTable() {
-		Reference<MethodType> reference = internTable.get(this);
-		if (reference != null) {
-			return reference.get();
+			@Override
+			public int hashCode() {
+				return hashcode;
+			}
 		}
-		return null;
 	}
 
 	/*[IF ]*/
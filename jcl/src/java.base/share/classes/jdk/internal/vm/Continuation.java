@@ -30,6 +30,9 @@ import jdk.internal.access.SharedSecrets;
 import jdk.internal.misc.Unsafe;
 import jdk.internal.vm.annotation.Hidden;
 import jdk.internal.vm.annotation.JvmtiMountTransition;
+/*[IF JAVA_SPEC_VERSION >= 21]*/
+import openj9.internal.management.VirtualThreadPinningStatistics;
+/*[ENDIF] JAVA_SPEC_VERSION >= 21 */
 
 /**
  * Continuation class performing the mount/unmount operation for VirtualThread
@@ -251,6 +254,9 @@ public class Continuation {
 			} else {
 				throw new AssertionError("Unknown pinned error code: " + rcPinned);
 			}
+/*[IF JAVA_SPEC_VERSION >= 21]*/
+			VirtualThreadPinningStatistics.recordPinned(rcPinned);
+/*[ENDIF] JAVA_SPEC_VERSION >= 21 */
 			onPinned(reason);
 		} else {
 			yieldImpl(false);
@@ -0,0 +1,143 @@
+/*[INCLUDE-IF JAVA_SPEC_VERSION >= 21]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package openj9.internal.foreign.abi;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A hash map from primitive long keys to primitive long values which can be read
+ * without locking while it is being updated.
+ *
+ * The map uses open addressing with linear probing over a single array holding
+ * key/value pairs. Writers are serialized on the map, publish the value of a new
+ * entry before its key and publish a resized table only once it is fully populated,
+ * so a reader either sees a complete entry or no entry. Entries are never removed.
+ * The key Long.MIN_VALUE is reserved to mark an empty slot and 0 is returned for
+ * absent keys, so neither may be stored.
+ */
+final class ConcurrentLongToLongMap {
+	private static final long EMPTY_KEY = Long.MIN_VALUE;
+	private static final long NO_VALUE = 0;
+	private static final int INITIAL_CAPACITY = 64;
+
+	/* key of entry i is at index 2*i and its value at index 2*i+1 */
+	private volatile AtomicLongArray table;
+	private int size;
+
+	ConcurrentLongToLongMap() {
+		table = newTable(INITIAL_CAPACITY);
+	}
+
+	private static AtomicLongArray newTable(int capacity) {
+		AtomicLongArray newTable = new AtomicLongArray(capacity * 2);
+		for (int i = 0; i < capacity; i++) {
+			newTable.lazySet(i * 2, EMPTY_KEY);
+		}
+		return newTable;
+	}
+
+	private static int slotFor(long key, int capacity) {
+		long hash = key * 0x9E3779B97F4A7C15L;
+		return (int)(hash >>> 32) & (capacity - 1);
+	}
+
+	/**
+	 * Returns the value mapped to the key.
+	 *
+	 * @param key the key
+	 * @return the value, or 0 if the key is not present
+	 */
+	long get(long key) {
+		AtomicLongArray current = table;
+		int capacity = current.length() / 2;
+		int slot = slotFor(key, capacity);
+		for (;;) {
+			long slotKey = current.get(slot * 2);
+			if (slotKey == key) {
+				return current.get((slot * 2) + 1);
+			}
+			if (slotKey == EMPTY_KEY) {
+				return NO_VALUE;
+			}
+			slot = (slot + 1) & (capacity - 1);
+		}
+	}
+
+	/**
+	 * Map the key to the value unless the key is already present.
+	 *
+	 * @param key the key, must not be Long.MIN_VALUE
+	 * @param value the value, must not be 0
+	 * @return the value now mapped to the key
+	 */
+	synchronized long putIfAbsent(long key, long value) {
+		if ((EMPTY_KEY == key) || (NO_VALUE == value)) {
+			throw new IllegalArgumentException();
+		}
+		AtomicLongArray current = table;
+		int capacity = current.length() / 2;
+		int slot = slotFor(key, capacity);
+		for (;;) {
+			long slotKey = current.get(slot * 2);
+			if (slotKey == key) {
+				return current.get((slot * 2) + 1);
+			}
+			if (slotKey == EMPTY_KEY) {
+				break;
+			}
+			slot = (slot + 1) & (capacity - 1);
+		}
+		/* keep the load factor at or below one half */
+		if (((size + 1) * 2) > capacity) {
+			current = resize(current, capacity * 2);
+			capacity = current.length() / 2;
+			slot = slotFor(key, capacity);
+			while (current.get(slot * 2) != EMPTY_KEY) {
+				slot = (slot + 1) & (capacity - 1);
+			}
+		}
+		current.set((slot * 2) + 1, value);
+		current.set(slot * 2, key);
+		size += 1;
+		return value;
+	}
+
+	private AtomicLongArray resize(AtomicLongArray oldTable, int newCapacity) {
+		AtomicLongArray newTable = newTable(newCapacity);
+		int oldCapacity = oldTable.length() / 2;
+		for (int i = 0; i < oldCapacity; i++) {
+			long key = oldTable.get(i * 2);
+			if (key != EMPTY_KEY) {
+				int slot = slotFor(key, newCapacity);
+				while (newTable.get(slot * 2) != EMPTY_KEY) {
+					slot = (slot + 1) & (newCapacity - 1);
+				}
+				newTable.set((slot * 2) + 1, oldTable.get((i * 2) + 1));
+				newTable.set(slot * 2, key);
+			}
+		}
+		/* the volatile write publishes the fully populated table */
+		table = newTable;
+		return newTable;
+	}
+}
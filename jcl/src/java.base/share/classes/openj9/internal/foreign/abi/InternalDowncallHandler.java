@@ -25,7 +25,6 @@ package openj9.internal.foreign.abi;
 /*[IF JAVA_SPEC_VERSION >= 22]*/
 import java.util.Arrays;
 /*[ENDIF] JAVA_SPEC_VERSION >= 22 */
-import java.util.HashMap;
 import java.util.List;
 /*[IF JAVA_SPEC_VERSION >= 21]*/
 import java.util.Objects;
@@ -142,9 +141,11 @@ public class InternalDowncallHandler {
 
 	static final Lookup lookup = MethodHandles.lookup();
 
-	/* The prep_cif and the corresponding argument types are cached & shared in multiple downcalls/threads. */
-	private static final HashMap<Integer, Long> cachedCifNativeThunkAddr = new HashMap<>();
-	private static final HashMap<Integer, Long> cachedArgTypes = new HashMap<>();
+	/* The prep_cif and the corresponding argument types are cached & shared in multiple downcalls/threads.
+	 * Both caches are keyed by the hash of the layout string and can be read without holding privateClassLock.
+	 */
+	private static final ConcurrentLongToLongMap cachedCifNativeThunkAddr = new ConcurrentLongToLongMap();
+	private static final ConcurrentLongToLongMap cachedArgTypes = new ConcurrentLongToLongMap();
 
 	/* Argument filters that convert the primitive types/MemoryAddress/MemorySegment to long. */
 	private static final MethodHandle booleanToLongArgFilter;
@@ -544,44 +545,59 @@ public class InternalDowncallHandler {
 			retLayoutStr = LayoutStrPreprocessor.getSimplifiedLayoutString(realReturnLayout, true);
 		}
 
+		/* If a prep_cif for a given function descriptor exists, then the corresponding return & argument layouts
+		 * were already set up for this prep_cif, in which case there is no need to check the layouts.
+		 * If not the case, check at first whether the same return & argument layouts exist in the cache
+		 * in case of duplicate memory allocation for the same layouts.
+		 *
+		 * Note: (JDK17)
+		 * 1) C_LONG (Linux) and C_LONG_LONG (Windows/AIX 64bit) should be treated as the same layout in the cache.
+		 * 2) the same layout kind with or without the layout name should be treated as the same layout.
+		 * e.g.  C_INT without the layout name = b32[abi/kind=INT]
+		 *  and  C_INT with the layout name = b32(int)[abi/kind=INT,layout/name=int]
+		 */
+		/*[IF JAVA_SPEC_VERSION >= 21]*/
+		int varArgIdx = LayoutStrPreprocessor.getVarArgIndex(funcDescriptor, linkerOpts);
+		/*[ELSE] JAVA_SPEC_VERSION >= 21 */
+		int varArgIdx = LayoutStrPreprocessor.getVarArgIndex(funcDescriptor);
+		/*[ENDIF] JAVA_SPEC_VERSION >= 21 */
+		String argRetLayoutStrsLine = ((varArgIdx >= 0) ? varArgIdx : "") + argLayoutStrsLine.toString() + retLayoutStr;
+		int argRetLayoutStrLineHash = argRetLayoutStrsLine.hashCode();
+		int argLayoutStrsLineHash = argLayoutStrsLine.toString().hashCode();
+
+		/* The prep_cif is usually cached already, in which case no lock is needed. */
+		long cifNativeThunk = cachedCifNativeThunkAddr.get(argRetLayoutStrLineHash);
+		if (cifNativeThunk != 0) {
+			cifNativeThunkAddr = cifNativeThunk;
+			argTypesAddr = cachedArgTypes.get(argLayoutStrsLineHash);
+			return;
+		}
+
+		/* Only one thread may allocate the native data for a given layout, so the
+		 * cache is checked again while holding the lock before setting it up.
+		 */
 		synchronized (privateClassLock) {
-			/* If a prep_cif for a given function descriptor exists, then the corresponding return & argument layouts
-			 * were already set up for this prep_cif, in which case there is no need to check the layouts.
-			 * If not the case, check at first whether the same return & argument layouts exist in the cache
-			 * in case of duplicate memory allocation for the same layouts.
-			 *
-			 * Note: (JDK17)
-			 * 1) C_LONG (Linux) and C_LONG_LONG (Windows/AIX 64bit) should be treated as the same layout in the cache.
-			 * 2) the same layout kind with or without the layout name should be treated as the same layout.
-			 * e.g.  C_INT without the layout name = b32[abi/kind=INT]
-			 *  and  C_INT with the layout name = b32(int)[abi/kind=INT,layout/name=int]
-			 */
-			/*[IF JAVA_SPEC_VERSION >= 21]*/
-			int varArgIdx = LayoutStrPreprocessor.getVarArgIndex(funcDescriptor, linkerOpts);
-			/*[ELSE] JAVA_SPEC_VERSION >= 21 */
-			int varArgIdx = LayoutStrPreprocessor.getVarArgIndex(funcDescriptor);
-			/*[ENDIF] JAVA_SPEC_VERSION >= 21 */
-			String argRetLayoutStrsLine = ((varArgIdx >= 0) ? varArgIdx : "") + argLayoutStrsLine.toString() + retLayoutStr;
-			Integer argRetLayoutStrLineHash = Integer.valueOf(argRetLayoutStrsLine.hashCode());
-			Integer argLayoutStrsLineHash = Integer.valueOf(argLayoutStrsLine.toString().hashCode());
-			Long cifNativeThunk = cachedCifNativeThunkAddr.get(argRetLayoutStrLineHash);
-			if (cifNativeThunk != null) {
-				cifNativeThunkAddr = cifNativeThunk.longValue();
-				argTypesAddr = cachedArgTypes.get(argLayoutStrsLineHash).longValue();
+			cifNativeThunk = cachedCifNativeThunkAddr.get(argRetLayoutStrLineHash);
+			if (cifNativeThunk != 0) {
+				cifNativeThunkAddr = cifNativeThunk;
+				argTypesAddr = cachedArgTypes.get(argLayoutStrsLineHash);
 			} else {
-				boolean newArgTypes = cachedArgTypes.containsKey(argLayoutStrsLineHash) ? false : true;
+				long cachedArgTypesAddr = cachedArgTypes.get(argLayoutStrsLineHash);
+				boolean newArgTypes = (0 == cachedArgTypesAddr);
 				if (!newArgTypes) {
-					argTypesAddr = cachedArgTypes.get(argLayoutStrsLineHash).longValue();
+					argTypesAddr = cachedArgTypesAddr;
 				}
 
 				/* Prepare the prep_cif for the native function specified by the arguments/return layouts. */
 				initCifNativeThunkData(argLayoutStrs, retLayoutStr, newArgTypes, varArgIdx);
 
-				/* Cache the address of prep_cif and argTypes after setting up via the out-of-line native code. */
+				/* Cache the address of prep_cif and argTypes after setting up via the out-of-line native code.
+				 * The argTypes must be published before the prep_cif that refers to them.
+				 */
 				if (newArgTypes) {
-					cachedArgTypes.put(argLayoutStrsLineHash, Long.valueOf(argTypesAddr));
+					cachedArgTypes.putIfAbsent(argLayoutStrsLineHash, argTypesAddr);
 				}
-				cachedCifNativeThunkAddr.put(argRetLayoutStrLineHash, Long.valueOf(cifNativeThunkAddr));
+				cachedCifNativeThunkAddr.putIfAbsent(argRetLayoutStrLineHash, cifNativeThunkAddr);
 			}
 		}
 	}
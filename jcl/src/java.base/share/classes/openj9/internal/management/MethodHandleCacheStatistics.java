@@ -0,0 +1,103 @@
+/*[INCLUDE-IF Sidecar17]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package openj9.internal.management;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Hit and miss counters for the per-class MethodHandle lookup caches used by
+ * MethodHandles.Lookup. The counters are striped by thread so that updating
+ * them does not reintroduce contention on the lookup path.
+ */
+public final class MethodHandleCacheStatistics {
+
+	/* number of stripes, must be a power of two */
+	private static final int STRIPES = 16;
+	/* spread the stripes so that each is on its own cache line */
+	private static final int PADDING = 8;
+
+	private static final AtomicLongArray hits = new AtomicLongArray(STRIPES * PADDING);
+	private static final AtomicLongArray misses = new AtomicLongArray(STRIPES * PADDING);
+	private static final AtomicLongArray clearedEntries = new AtomicLongArray(STRIPES * PADDING);
+
+	private MethodHandleCacheStatistics() {
+		super();
+	}
+
+	private static int stripe() {
+		int hash = System.identityHashCode(Thread.currentThread());
+		return ((hash ^ (hash >>> 16)) & (STRIPES - 1)) * PADDING;
+	}
+
+	private static long sum(AtomicLongArray counters) {
+		long total = 0;
+		for (int i = 0; i < counters.length(); i += PADDING) {
+			total += counters.get(i);
+		}
+		return total;
+	}
+
+	/**
+	 * Record a lookup that found a cached MethodHandle.
+	 */
+	public static void recordHit() {
+		hits.getAndIncrement(stripe());
+	}
+
+	/**
+	 * Record a lookup that did not find a cached MethodHandle.
+	 */
+	public static void recordMiss() {
+		misses.getAndIncrement(stripe());
+	}
+
+	/**
+	 * Record cache entries removed because their MethodHandle was collected.
+	 *
+	 * @param count the number of entries removed
+	 */
+	public static void recordCleared(int count) {
+		clearedEntries.getAndAdd(stripe(), count);
+	}
+
+	/**
+	 * @return the number of lookups that found a cached MethodHandle
+	 */
+	public static long getHitCount() {
+		return sum(hits);
+	}
+
+	/**
+	 * @return the number of lookups that did not find a cached MethodHandle
+	 */
+	public static long getMissCount() {
+		return sum(misses);
+	}
+
+	/**
+	 * @return the number of entries removed because their MethodHandle was collected
+	 */
+	public static long getClearedEntryCount() {
+		return sum(clearedEntries);
+	}
+}
@@ -0,0 +1,67 @@
+/*[INCLUDE-IF JAVA_SPEC_VERSION >= 21]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package openj9.internal.management;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counts the attempts of virtual threads to yield while pinned to their carrier
+ * thread. Every attempt is counted, whether or not jdk.tracePinnedThreads is set.
+ */
+public final class VirtualThreadPinningStatistics {
+
+	/* Indexed by the pinned reason error code, see jdk.internal.vm.Continuation.Pinned. */
+	public static final int NATIVE = 1;
+	public static final int MONITOR = 2;
+	public static final int CRITICAL_SECTION = 3;
+
+	private static final AtomicLongArray pinnedCounts = new AtomicLongArray(CRITICAL_SECTION + 1);
+
+	private VirtualThreadPinningStatistics() {
+		super();
+	}
+
+	/**
+	 * Record a yield attempt that failed because the virtual thread was pinned.
+	 *
+	 * @param reason the error code of the pinned reason
+	 */
+	public static void recordPinned(int reason) {
+		pinnedCounts.getAndIncrement(reason);
+	}
+
+	/**
+	 * @param reason the error code of the pinned reason
+	 * @return the number of pinned yield attempts for the reason
+	 */
+	public static long getPinnedCount(int reason) {
+		return pinnedCounts.get(reason);
+	}
+
+	/**
+	 * @return the number of pinned yield attempts for all reasons
+	 */
+	public static long getPinnedCount() {
+		return getPinnedCount(NATIVE) + getPinnedCount(MONITOR) + getPinnedCount(CRITICAL_SECTION);
+	}
+}
@@ -98,6 +98,11 @@ public class DiagnosticUtils {
 	 */
 	private static final String DIAGNOSTICS_GC_CLASS_HISTOGRAM = "GC.class_histogram"; //$NON-NLS-1$
 
+	/**
+	 * Get the pause time percentiles and sliding window rates of the garbage collectors.
+	 */
+	private static final String DIAGNOSTICS_GC_STATS = "GC.stats"; //$NON-NLS-1$
+
 	/**
 	 * Commands to generate dumps of various types
 	 */
@@ -115,6 +120,13 @@ public class DiagnosticUtils {
 	// load JVMTI agent
 	private static final String DIAGNOSTICS_LOAD_JVMTI_AGENT = "JVMTI.agent_load"; //$NON-NLS-1$
 
+	/**
+	 * Commands to control the flight recorder
+	 */
+	private static final String DIAGNOSTICS_JFR_START = "JFR.start"; //$NON-NLS-1$
+	private static final String DIAGNOSTICS_JFR_STOP = "JFR.stop"; //$NON-NLS-1$
+	private static final String DIAGNOSTICS_JFR_DUMP = "JFR.dump"; //$NON-NLS-1$
+
 	/**
 	 * Key for the command sent to executeDiagnosticCommand()
 	 */
@@ -132,6 +144,17 @@ public class DiagnosticUtils {
 	private static final String LIVE_OPTION = "live"; //$NON-NLS-1$
 	private static final String THREAD_LOCKED_SYNCHRONIZERS_OPTION = "-l"; //$NON-NLS-1$
 
+	/**
+	 * File to write a flight recording to.
+	 */
+	private static final String JFR_FILENAME_OPTION = "filename="; //$NON-NLS-1$
+
+	/**
+	 * Length in seconds of the window for the garbage collection rates.
+	 */
+	private static final String GC_STATS_WINDOW_OPTION = "window="; //$NON-NLS-1$
+	private static final long GC_STATS_DEFAULT_WINDOW = 60;
+
 	private static final Map<String, Function<String, DiagnosticProperties>> commandTable;
 	private static final Map<String, String> helpTable;
 
@@ -175,7 +198,12 @@ public class DiagnosticUtils {
 	}
 
 	private static native String getHeapClassStatisticsImpl();
+	private static native String getGCStatisticsImpl(long windowMillis);
 	private static native String triggerDumpsImpl(String dumpOptions, String event) throws InvalidDumpOptionExceptionBase;
+	private static native boolean isJFRRecordingImpl();
+	private static native boolean startJFRImpl();
+	private static native boolean stopJFRImpl();
+	private static native boolean dumpJFRImpl(String fileName);
 
 	/**
 	 * Run a diagnostic command and return the result in a properties file
@@ -230,6 +258,38 @@ public class DiagnosticUtils {
 		return result;
 	}
 
+	private static DiagnosticProperties getGCStatistics(String diagnosticCommand) {
+		DiagnosticProperties result = null;
+		boolean invalidArg = false;
+		long window = GC_STATS_DEFAULT_WINDOW;
+		String[] parts = diagnosticCommand.split(DIAGNOSTICS_OPTION_SEPARATOR);
+		if (parts.length > 2) {
+			invalidArg = true;
+		} else if (parts.length == 2) {
+			invalidArg = true;
+			if (parts[1].startsWith(GC_STATS_WINDOW_OPTION)) {
+				try {
+					window = Long.parseLong(parts[1].substring(GC_STATS_WINDOW_OPTION.length()));
+					invalidArg = (window <= 0) || (window > (Long.MAX_VALUE / 1000));
+				} catch (NumberFormatException e) {
+					// leave invalidArg set
+				}
+			}
+		}
+		if (invalidArg) {
+			result = DiagnosticProperties.makeErrorProperties("Command not recognized: " + diagnosticCommand); //$NON-NLS-1$
+		} else {
+			String stats = getGCStatisticsImpl(window * 1000);
+			String lineSeparator = System.lineSeparator();
+			final String unixLineSeparator = "\n"; //$NON-NLS-1$
+			if (!unixLineSeparator.equals(lineSeparator)) {
+				stats = stats.replace(unixLineSeparator, lineSeparator);
+			}
+			result = DiagnosticProperties.makeStringResult(stats);
+		}
+		return result;
+	}
+
 	private static DiagnosticProperties getThreadInfo(String diagnosticCommand) {
 		DiagnosticProperties result = null;
 		boolean okay = true;
@@ -389,6 +449,76 @@ public class DiagnosticUtils {
 		return result;
 	}
 
+	@SuppressWarnings("nls")
+	private static DiagnosticProperties doJFRStart(String diagnosticCommand) {
+		DiagnosticProperties result;
+		String[] parts = diagnosticCommand.split(DIAGNOSTICS_OPTION_SEPARATOR);
+		if (parts.length > 1) {
+			result = DiagnosticProperties.makeErrorProperties("Error: " + DIAGNOSTICS_JFR_START + " does not take arguments");
+		} else if (isJFRRecordingImpl()) {
+			result = DiagnosticProperties.makeErrorProperties("Error: JFR is already recording");
+		} else if (startJFRImpl()) {
+			result = DiagnosticProperties.makeStringResult("Started recording");
+		} else {
+			result = DiagnosticProperties.makeErrorProperties("Error: unable to start JFR recording");
+		}
+		return result;
+	}
+
+	@SuppressWarnings("nls")
+	private static DiagnosticProperties doJFRStop(String diagnosticCommand) {
+		DiagnosticProperties result = null;
+		String[] parts = diagnosticCommand.split(DIAGNOSTICS_OPTION_SEPARATOR);
+		if (parts.length > 2) {
+			result = DiagnosticProperties.makeErrorProperties("Error: wrong number of arguments");
+		} else if (!isJFRRecordingImpl()) {
+			result = DiagnosticProperties.makeErrorProperties("Error: JFR is not recording");
+		} else {
+			String message = "Stopped recording";
+			if (parts.length == 2) {
+				String fileName = getJFRFileName(parts[1]);
+				if (dumpJFRImpl(fileName)) {
+					message += ", recording written to " + fileName;
+				} else {
+					result = DiagnosticProperties.makeErrorProperties("Error: unable to write JFR recording to " + fileName);
+				}
+			}
+			if (result == null) {
+				if (stopJFRImpl()) {
+					result = DiagnosticProperties.makeStringResult(message);
+				} else {
+					result = DiagnosticProperties.makeErrorProperties("Error: JFR is not recording");
+				}
+			}
+		}
+		return result;
+	}
+
+	@SuppressWarnings("nls")
+	private static DiagnosticProperties doJFRDump(String diagnosticCommand) {
+		DiagnosticProperties result;
+		String[] parts = diagnosticCommand.split(DIAGNOSTICS_OPTION_SEPARATOR);
+		if (parts.length > 2) {
+			result = DiagnosticProperties.makeErrorProperties("Error: wrong number of arguments");
+		} else if (!isJFRRecordingImpl()) {
+			result = DiagnosticProperties.makeErrorProperties("Error: JFR is not recording");
+		} else {
+			String fileName = (parts.length == 2)
+					? getJFRFileName(parts[1])
+					: "openj9-" + IPC.getProcessId() + ".jfr";
+			if (dumpJFRImpl(fileName)) {
+				result = DiagnosticProperties.makeStringResult("Recording written to " + fileName);
+			} else {
+				result = DiagnosticProperties.makeErrorProperties("Error: unable to write JFR recording to " + fileName);
+			}
+		}
+		return result;
+	}
+
+	private static String getJFRFileName(String option) {
+		return option.startsWith(JFR_FILENAME_OPTION) ? option.substring(JFR_FILENAME_OPTION.length()) : option;
+	}
+
 	private static DiagnosticProperties doHelp(String diagnosticCommand) {
 		String[] parts = diagnosticCommand.split(DIAGNOSTICS_OPTION_SEPARATOR);
 		/* print a list of the available commands */
@@ -439,6 +569,12 @@ public class DiagnosticUtils {
 			+ "         live : include all objects after a global GC collection%n"
 			+ "NOTE: this utility might significantly affect the performance of the target VM.%n";
 
+	@SuppressWarnings("nls")
+	private static final String DIAGNOSTICS_GC_STATS_HELP = "Show garbage collection pause time percentiles and rates.%n"
+			+ FORMAT_PREFIX + DIAGNOSTICS_GC_STATS + " [window=<seconds>]%n"
+			+ " Pause time percentiles cover every collection since the JVM started.%n"
+			+ " The allocation rate, promotion rate and GC time cover the last <seconds>, 60 by default.%n";
+
 	@SuppressWarnings("nls")
 	private static final String DIAGNOSTICS_GC_RUN_HELP = "Run the garbage collector.%n"
 			+ FORMAT_PREFIX + DIAGNOSTICS_GC_RUN + "%n"
@@ -472,6 +608,25 @@ public class DiagnosticUtils {
 			+ "          agentLibrary: the absolute path of the agent%n"
 			+ "          agent option: (Optional) the agent option string%n";
 
+	@SuppressWarnings("nls")
+	private static final String DIAGNOSTICS_JFR_START_HELP = "Start a flight recording.%n"
+			+ FORMAT_PREFIX + DIAGNOSTICS_JFR_START + "%n"
+			+ " Recording continues until " + DIAGNOSTICS_JFR_STOP + " or the JVM exits.%n"
+			+ " Use -XX:FlightRecorderOptions=repository=<dir> to record continuously to a bounded set of chunk files.%n"
+			+ " Without a repository, restarting a recording overwrites the previous recording file.%n";
+
+	@SuppressWarnings("nls")
+	private static final String DIAGNOSTICS_JFR_STOP_HELP = "Stop the flight recording.%n"
+			+ FORMAT_PREFIX + DIAGNOSTICS_JFR_STOP + " [filename=<file path>]%n"
+			+ " If a file path is given, the recording is written to it before stopping.%n";
+
+	@SuppressWarnings("nls")
+	private static final String DIAGNOSTICS_JFR_DUMP_HELP = "Write the data recorded so far to a file.%n"
+			+ FORMAT_PREFIX + DIAGNOSTICS_JFR_DUMP + " [filename=<file path>]%n"
+			+ " <file path> is optional, otherwise openj9-<pid>.jfr is used.%n"
+			+ " Relative paths are resolved to the target's working directory.%n"
+			+ " The recording continues after the dump.%n";
+
 /*[IF CRAC_SUPPORT]*/
 	private static final String DIAGNOSTICS_JDK_CHECKPOINT_HELP = "Produce a JVM checkpoint via CRIUSupport.%n" //$NON-NLS-1$
 			+ FORMAT_PREFIX + DIAGNOSTICS_JDK_CHECKPOINT + "%n" //$NON-NLS-1$
@@ -490,6 +645,9 @@ public class DiagnosticUtils {
 		commandTable.put(DIAGNOSTICS_GC_CLASS_HISTOGRAM, DiagnosticUtils::getHeapStatistics);
 		helpTable.put(DIAGNOSTICS_GC_CLASS_HISTOGRAM, DIAGNOSTICS_GC_CLASS_HISTOGRAM_HELP);
 
+		commandTable.put(DIAGNOSTICS_GC_STATS, DiagnosticUtils::getGCStatistics);
+		helpTable.put(DIAGNOSTICS_GC_STATS, DIAGNOSTICS_GC_STATS_HELP);
+
 		commandTable.put(DIAGNOSTICS_GC_RUN, s -> runGC());
 		helpTable.put(DIAGNOSTICS_GC_RUN, DIAGNOSTICS_GC_RUN_HELP);
 
@@ -517,6 +675,15 @@ public class DiagnosticUtils {
 		commandTable.put(DIAGNOSTICS_LOAD_JVMTI_AGENT, DiagnosticUtils::loadJVMTIAgent);
 		helpTable.put(DIAGNOSTICS_LOAD_JVMTI_AGENT, DIAGNOSTICS_LOAD_JVMTI_AGENT_HELP);
 
+		commandTable.put(DIAGNOSTICS_JFR_START, DiagnosticUtils::doJFRStart);
+		helpTable.put(DIAGNOSTICS_JFR_START, DIAGNOSTICS_JFR_START_HELP);
+
+		commandTable.put(DIAGNOSTICS_JFR_STOP, DiagnosticUtils::doJFRStop);
+		helpTable.put(DIAGNOSTICS_JFR_STOP, DIAGNOSTICS_JFR_STOP_HELP);
+
+		commandTable.put(DIAGNOSTICS_JFR_DUMP, DiagnosticUtils::doJFRDump);
+		helpTable.put(DIAGNOSTICS_JFR_DUMP, DIAGNOSTICS_JFR_DUMP_HELP);
+
 /*[IF CRAC_SUPPORT]*/
 		if (InternalCRIUSupport.isCRaCSupportEnabled()) {
 			commandTable.put(DIAGNOSTICS_JDK_CHECKPOINT, DiagnosticUtils::doCheckpointJVM);
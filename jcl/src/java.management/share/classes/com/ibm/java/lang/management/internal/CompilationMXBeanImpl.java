@@ -37,7 +37,7 @@ import javax.management.ObjectName;
  * </p>
  * @since 1.5
  */
-public final class CompilationMXBeanImpl implements CompilationMXBean {
+public class CompilationMXBeanImpl implements CompilationMXBean {
 
 	private static final CompilationMXBeanImpl instance = isJITEnabled() ? new CompilationMXBeanImpl() : null;
 
@@ -54,7 +54,7 @@ public final class CompilationMXBeanImpl implements CompilationMXBean {
 	 * Constructor intentionally private to prevent instantiation by others.
 	 * Sets the metadata for this bean.
 	 */
-	private CompilationMXBeanImpl() {
+	protected CompilationMXBeanImpl() {
 		super();
 	}
 
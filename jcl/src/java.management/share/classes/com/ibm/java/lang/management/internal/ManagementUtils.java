@@ -721,7 +721,9 @@ public final class ManagementUtils {
 		private static final String HYPERVISOR_MXBEAN_NAME = "com.ibm.virtualization.management:type=Hypervisor"; //$NON-NLS-1$
 
 		private static final String JVM_CPU_MONITOR_MXBEAN_NAME = "com.ibm.lang.management:type=JvmCpuMonitor"; //$NON-NLS-1$
+		private static final String LOCK_CONTENTION_MXBEAN_NAME = "com.ibm.lang.management:type=LockContention"; //$NON-NLS-1$
 		private static final String OPENJ9_DIAGNOSTICS_MXBEAN_NAME = "openj9.lang.management:type=OpenJ9Diagnostics"; //$NON-NLS-1$
+		private static final String METHOD_HANDLE_CACHE_MXBEAN_NAME = "openj9.lang.management:type=MethodHandleCache"; //$NON-NLS-1$
 
 		static void registerAll() {
 			// Register standard singleton beans for JDK8.
@@ -770,10 +772,20 @@ public final class ManagementUtils {
 				.addInterface(com.ibm.lang.management.JvmCpuMonitorMXBean.class)
 				.validateAndRegister();
 
+			create(LOCK_CONTENTION_MXBEAN_NAME, com.ibm.lang.management.internal.LockContentionMXBeanImpl.getInstance())
+				.addInterface(com.ibm.lang.management.LockContentionMXBean.class)
+				.validateAndRegister();
+
 			create(OPENJ9_DIAGNOSTICS_MXBEAN_NAME, openj9.lang.management.internal.OpenJ9DiagnosticsMXBeanImpl.getInstance())
 				.addInterface(openj9.lang.management.OpenJ9DiagnosticsMXBean.class)
 				.validateAndRegister();
 
+/*[IF !OPENJDK_METHODHANDLES]*/
+			create(METHOD_HANDLE_CACHE_MXBEAN_NAME, openj9.lang.management.internal.MethodHandleCacheMXBeanImpl.getInstance())
+				.addInterface(openj9.lang.management.MethodHandleCacheMXBean.class)
+				.validateAndRegister();
+/*[ENDIF] !OPENJDK_METHODHANDLES */
+
 /*[IF CRAC_SUPPORT]*/
 			create(jdk.crac.management.CRaCMXBean.CRAC_MXBEAN_NAME, jdk.crac.management.CRaCMXBeanImpl.getInstance())
 				.addInterface(jdk.crac.management.CRaCMXBean.class)
@@ -781,7 +793,8 @@ public final class ManagementUtils {
 /*[ENDIF] CRAC_SUPPORT */
 
 			// Register standard optional beans for JDK8.
-			create(ManagementFactory.COMPILATION_MXBEAN_NAME, CompilationMXBeanImpl.getInstance())
+			create(ManagementFactory.COMPILATION_MXBEAN_NAME, com.ibm.lang.management.internal.ExtendedCompilationMXBeanImpl.getInstance())
+				.addInterface(com.ibm.lang.management.CompilationMXBean.class)
 				.addInterface(java.lang.management.CompilationMXBean.class)
 				.validateAndRegister();
 
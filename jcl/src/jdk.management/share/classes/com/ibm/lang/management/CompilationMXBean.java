@@ -0,0 +1,110 @@
+/*[INCLUDE-IF Sidecar17]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.lang.management;
+
+import java.lang.management.MemoryUsage;
+import java.util.Map;
+
+/**
+ * The OpenJ9 extension interface for the compilation system of the virtual machine.
+ * <p>
+ * The counters are sampled from the JIT without synchronization, so values read
+ * in separate calls may not be mutually consistent. Optimization levels are
+ * reported by name, from lowest to highest: {@code noOpt}, {@code cold},
+ * {@code warm}, {@code hot}, {@code veryHot} and {@code scorching}.
+ * </p>
+ */
+public interface CompilationMXBean extends java.lang.management.CompilationMXBean {
+
+	/**
+	 * Returns the number of methods waiting in the compilation queue.
+	 *
+	 * @return the current length of the compilation queue
+	 */
+	public int getCompilationQueueLength();
+
+	/**
+	 * Returns a histogram of the time compilation requests spent in the
+	 * compilation queue before a compilation thread started on them.
+	 * Element 0 counts requests that waited less than 1 millisecond,
+	 * element <code>i</code> those that waited at least 2<sup>i-1</sup> and
+	 * less than 2<sup>i</sup> milliseconds, and the last element every
+	 * request that waited longer.
+	 *
+	 * @return the queue wait histogram
+	 */
+	public long[] getCompilationQueueWaitHistogram();
+
+	/**
+	 * Returns the number of successful compilations at each optimization level.
+	 *
+	 * @return a map from optimization level name to compilation count
+	 */
+	public Map<String, Long> getCompilationCounts();
+
+	/**
+	 * Returns the number of failed compilations at each optimization level.
+	 *
+	 * @return a map from optimization level name to failure count
+	 */
+	public Map<String, Long> getCompilationFailureCounts();
+
+	/**
+	 * Returns the number of recompilations of methods that already had a compiled body.
+	 *
+	 * @return the number of recompilations
+	 */
+	public long getRecompilationCount();
+
+	/**
+	 * Returns the number of AOT compiled method bodies loaded from the shared class cache.
+	 *
+	 * @return the number of AOT loads
+	 */
+	public long getAOTLoadCount();
+
+	/**
+	 * Returns the number of AOT compiled method bodies stored into the shared class cache.
+	 *
+	 * @return the number of AOT stores
+	 */
+	public long getAOTStoreCount();
+
+	/**
+	 * Returns the usage of each JIT code cache segment. The committed and maximum
+	 * sizes of each entry are the size of the segment; the used size excludes
+	 * the free space between the warm and cold allocation pointers.
+	 *
+	 * @return the usage of each code cache segment
+	 */
+	public MemoryUsage[] getCodeCacheUsage();
+
+	/**
+	 * Returns the usage of each JIT data cache segment. The committed and maximum
+	 * sizes of each entry are the size of the segment.
+	 *
+	 * @return the usage of each data cache segment
+	 */
+	public MemoryUsage[] getDataCacheUsage();
+
+}
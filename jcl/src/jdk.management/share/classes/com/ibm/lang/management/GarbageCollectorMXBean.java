@@ -71,4 +71,85 @@ public interface GarbageCollectorMXBean extends
      * @return number of compacts performed
      */
     public long getTotalCompacts();
+
+    /**
+     * Returns an estimate of a percentile of the pause times of all collections
+     * carried out by this collector, <em>in microseconds</em>. Pause times are
+     * kept in a fixed size histogram whose buckets are at most 25% wide, and
+     * the upper bound of the bucket holding the percentile is returned.
+     * 
+     * @param percentile the percentile, from 0 to 100
+     * @return the estimated pause time, or 0 if the collector has not run
+     * @throws IllegalArgumentException if percentile is not within 0 and 100
+     * @throws UnsupportedOperationException if this implementation does not
+     *         keep pause time statistics (the default implementation always throws)
+     */
+    public default long getPauseTimePercentile(double percentile) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns the number of collections carried out by this collector in each
+     * bucket of the pause time histogram. Buckets 0 to 3 count pauses of 0 to 3
+     * <em>microseconds</em>; each following power of two is split into four
+     * equal buckets, so bucket <code>i</code> counts pauses of at least
+     * <code>(4 + i % 4) &lt;&lt; (i / 4 - 1)</code> and less than
+     * <code>(5 + i % 4) &lt;&lt; (i / 4 - 1)</code> microseconds.
+     * The last bucket also counts every longer pause.
+     * 
+     * @return the pause time histogram
+     * @throws UnsupportedOperationException if this implementation does not
+     *         keep pause time statistics (the default implementation always throws)
+     */
+    public default long[] getPauseTimeHistogram() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns the rate at which the application allocated heap memory, in bytes
+     * per second, measured from the collections of all collectors that ended
+     * within the given window. The window is shortened to the time the virtual
+     * machine has been running, and to the span of the most recent collections
+     * that are still retained.
+     * 
+     * @param windowMillis the length of the window in milliseconds
+     * @return the allocation rate in bytes per second
+     * @throws IllegalArgumentException if windowMillis is not positive
+     * @throws UnsupportedOperationException if this implementation does not
+     *         keep collection history (the default implementation always throws)
+     */
+    public default double getAllocationRate(long windowMillis) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns the rate at which collections by this collector promoted objects
+     * into memory pools that it does not manage, in bytes per second, over the
+     * given window. Only collectors of a generational policy promote objects.
+     * 
+     * @param windowMillis the length of the window in milliseconds
+     * @return the promotion rate in bytes per second
+     * @throws IllegalArgumentException if windowMillis is not positive
+     * @throws UnsupportedOperationException if this implementation does not
+     *         keep collection history (the default implementation always throws)
+     * @see #getAllocationRate(long)
+     */
+    public default double getPromotionRate(long windowMillis) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns the fraction of the given window spent in collections by this
+     * collector.
+     * 
+     * @param windowMillis the length of the window in milliseconds
+     * @return the collection time ratio, from 0.0 to 1.0
+     * @throws IllegalArgumentException if windowMillis is not positive
+     * @throws UnsupportedOperationException if this implementation does not
+     *         keep collection history (the default implementation always throws)
+     * @see #getAllocationRate(long)
+     */
+    public default double getCollectionTimeRatio(long windowMillis) {
+        throw new UnsupportedOperationException();
+    }
 }
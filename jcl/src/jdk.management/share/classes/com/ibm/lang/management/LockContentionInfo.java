@@ -0,0 +1,223 @@
+/*[INCLUDE-IF Sidecar17]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.lang.management;
+
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.InvalidKeyException;
+
+import com.ibm.lang.management.internal.LockContentionInfoUtil;
+
+/**
+ * <code>LockContentionInfo</code> holds the Java Lock Monitor statistics of
+ * a single lock.
+ *
+ * @see LockContentionMXBean
+ */
+public final class LockContentionInfo {
+
+	private final String name;
+	private final boolean javaMonitor;
+	private final long enterCount;
+	private final long slowEnterCount;
+	private final long recursiveEnterCount;
+	private final long spinCount;
+	private final long yieldCount;
+	private final long holdTime;
+
+	/**
+	 * Creates a new <code>LockContentionInfo</code> instance.
+	 *
+	 * @param name the name of the lock
+	 * @param javaMonitor true if the lock is a Java object monitor
+	 * @param enterCount the number of times the lock was entered
+	 * @param slowEnterCount the number of enters that had to block or spin
+	 * @param recursiveEnterCount the number of enters by the thread already holding the lock
+	 * @param spinCount the number of spin loops performed while waiting for the lock
+	 * @param yieldCount the number of times a waiting thread yielded
+	 * @param holdTime the total time the lock was held
+	 */
+	public LockContentionInfo(String name, boolean javaMonitor, long enterCount, long slowEnterCount,
+			long recursiveEnterCount, long spinCount, long yieldCount, long holdTime) {
+		super();
+		this.name = name;
+		this.javaMonitor = javaMonitor;
+		this.enterCount = enterCount;
+		this.slowEnterCount = slowEnterCount;
+		this.recursiveEnterCount = recursiveEnterCount;
+		this.spinCount = spinCount;
+		this.yieldCount = yieldCount;
+		this.holdTime = holdTime;
+	}
+
+	/**
+	 * Returns the name of the lock. For Java object monitors the name includes the
+	 * address of the monitor, the class of the locked object and the object address.
+	 *
+	 * @return the name of the lock
+	 */
+	public String getName() {
+		return this.name;
+	}
+
+	/**
+	 * Returns whether the lock is a Java object monitor rather than a VM lock.
+	 *
+	 * @return true if the lock is a Java object monitor
+	 */
+	public boolean isJavaMonitor() {
+		return this.javaMonitor;
+	}
+
+	/**
+	 * Returns the number of times the lock was entered.
+	 *
+	 * @return the enter count
+	 */
+	public long getEnterCount() {
+		return this.enterCount;
+	}
+
+	/**
+	 * Returns the number of enters that found the lock held and had to block or spin.
+	 *
+	 * @return the slow enter count
+	 */
+	public long getSlowEnterCount() {
+		return this.slowEnterCount;
+	}
+
+	/**
+	 * Returns the number of enters by the thread that already held the lock.
+	 *
+	 * @return the recursive enter count
+	 */
+	public long getRecursiveEnterCount() {
+		return this.recursiveEnterCount;
+	}
+
+	/**
+	 * Returns the number of spin loops performed by threads waiting for the lock.
+	 *
+	 * @return the spin count
+	 */
+	public long getSpinCount() {
+		return this.spinCount;
+	}
+
+	/**
+	 * Returns the number of times a thread waiting for the lock yielded the processor.
+	 *
+	 * @return the yield count
+	 */
+	public long getYieldCount() {
+		return this.yieldCount;
+	}
+
+	/**
+	 * Returns the total time the lock was held, in units of the platform's
+	 * high-resolution timer, or 0 if hold times are not recorded.
+	 *
+	 * @return the hold time
+	 */
+	public long getHoldTime() {
+		return this.holdTime;
+	}
+
+	/**
+	 * Receives a {@link javax.management.openmbean.CompositeData} representing a
+	 * {@link LockContentionInfo} object and attempts to return the root
+	 * {@link LockContentionInfo} instance.
+	 *
+	 * @param cd	A {@link javax.management.openmbean.CompositeData} that represents a
+	 * 		{@link LockContentionInfo}.
+	 *
+	 * @return	if <code>cd</code> is non- <code>null</code>, returns a new instance of
+	 * 		{@link LockContentionInfo},
+	 * 		 If <code>cd</code> is <code>null</code>, returns <code>null</code>.
+	 *
+	 * @throws IllegalArgumentException	if argument <code>cd</code> does not correspond to a
+	 * 		{@link LockContentionInfo} with the following attributes:
+	 * 		<ul>
+	 *		<li><code>name</code>(<code>java.lang.String</code>)</li>
+	 *		<li><code>javaMonitor</code>(<code>java.lang.Boolean</code>)</li>
+	 *		<li><code>enterCount</code>(<code>java.lang.Long</code>)</li>
+	 *		<li><code>slowEnterCount</code>(<code>java.lang.Long</code>)</li>
+	 *		<li><code>recursiveEnterCount</code>(<code>java.lang.Long</code>)</li>
+	 *		<li><code>spinCount</code>(<code>java.lang.Long</code>)</li>
+	 *		<li><code>yieldCount</code>(<code>java.lang.Long</code>)</li>
+	 *		<li><code>holdTime</code>(<code>java.lang.Long</code>)</li>
+	 * 		</ul>
+	 */
+	public static LockContentionInfo from(CompositeData cd) {
+		LockContentionInfo result = null;
+
+		if (null != cd) {
+			if (!LockContentionInfoUtil.getCompositeType().isValue(cd)) {
+				/*[MSG "K05E5", "CompositeData is not of the expected type."]*/
+				throw new IllegalArgumentException(com.ibm.oti.util.Msg.getString("K05E5")); //$NON-NLS-1$
+			}
+
+			try {
+				result = new LockContentionInfo(
+						(String) cd.get("name"), //$NON-NLS-1$
+						((Boolean) cd.get("javaMonitor")).booleanValue(), //$NON-NLS-1$
+						((Long) cd.get("enterCount")).longValue(), //$NON-NLS-1$
+						((Long) cd.get("slowEnterCount")).longValue(), //$NON-NLS-1$
+						((Long) cd.get("recursiveEnterCount")).longValue(), //$NON-NLS-1$
+						((Long) cd.get("spinCount")).longValue(), //$NON-NLS-1$
+						((Long) cd.get("yieldCount")).longValue(), //$NON-NLS-1$
+						((Long) cd.get("holdTime")).longValue()); //$NON-NLS-1$
+			} catch (InvalidKeyException e) {
+				/*[MSG "K05E6", "CompositeData object does not contain expected key."]*/
+				throw new IllegalArgumentException(com.ibm.oti.util.Msg.getString("K05E6")); //$NON-NLS-1$
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Text description of this {@link LockContentionInfo} object.
+	 *
+	 * @return Text description of this {@link LockContentionInfo} object.
+	 */
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(this.name);
+		sb.append(": enter="); //$NON-NLS-1$
+		sb.append(this.enterCount);
+		sb.append(" slow="); //$NON-NLS-1$
+		sb.append(this.slowEnterCount);
+		sb.append(" recursive="); //$NON-NLS-1$
+		sb.append(this.recursiveEnterCount);
+		sb.append(" spin="); //$NON-NLS-1$
+		sb.append(this.spinCount);
+		sb.append(" yield="); //$NON-NLS-1$
+		sb.append(this.yieldCount);
+		sb.append(" holdTime="); //$NON-NLS-1$
+		sb.append(this.holdTime);
+		return sb.toString();
+	}
+
+}
@@ -0,0 +1,128 @@
+/*[INCLUDE-IF Sidecar17]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.lang.management;
+
+import java.lang.management.PlatformManagedObject;
+
+/**
+ * <p>
+ * This interface provides access to the lock contention statistics collected by the
+ * Java Lock Monitor (JLM). The JLM counts, for every Java object monitor and every
+ * traced VM lock, how often it was entered, how often an enter had to block or spin
+ * (a slow enter), and how long it was held.
+ * </p>
+ * <ol>
+ *     <li>Statistics are only collected between calls to {@link #startLockMonitoring()}
+ *         and {@link #stopLockMonitoring()}. Starting the monitor resets the statistics.
+ *     <li>Counts are 32-bit values that wrap. Hold times are in units of the platform's
+ *         high-resolution timer and are 0 where the platform does not record them.
+ *     <li>Collecting statistics briefly stops all Java threads, so the lists should not be
+ *         read more often than necessary.
+ * </ol>
+ * <br>
+ * <b>Usage example for the {@link LockContentionMXBean}</b>
+ * <pre>
+ * {@code
+ *   ...
+ *   try {
+ *      mxbeanName = new ObjectName("com.ibm.lang.management:type=LockContention");
+ *   } catch (MalformedObjectNameException e) {
+ *      // Exception Handling
+ *   }
+ *   try {
+ *      MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+ *      if (true != mbeanServer.isRegistered(mxbeanName)) {
+ *         // LockContentionMXBean not registered
+ *      }
+ *      LockContentionMXBean lockBean = JMX.newMXBeanProxy(mbeanServer, mxbeanName, LockContentionMXBean.class);
+ *      lockBean.startLockMonitoring();
+ *      ...
+ *      LockContentionInfo[] hotLocks = lockBean.getLockContentionSinceLastRead(10);
+ *   } catch (Exception e) {
+ *      // Exception Handling
+ *   }
+ * }
+ * </pre>
+ */
+public interface LockContentionMXBean extends PlatformManagedObject {
+
+	/**
+	 * Returns whether this VM was built with Java Lock Monitor support.
+	 *
+	 * @return true if lock monitoring can be started, false otherwise
+	 */
+	public boolean isLockMonitoringSupported();
+
+	/**
+	 * Returns whether the Java Lock Monitor is currently collecting statistics.
+	 *
+	 * @return true if lock monitoring is enabled, false otherwise
+	 */
+	public boolean isLockMonitoringEnabled();
+
+	/**
+	 * Starts collecting lock statistics, including hold times where the platform
+	 * supports them. Any statistics collected previously are discarded.
+	 *
+	 * @throws UnsupportedOperationException if lock monitoring is not supported
+	 */
+	public void startLockMonitoring();
+
+	/**
+	 * Stops collecting lock statistics. The statistics collected so far can still be read.
+	 */
+	public void stopLockMonitoring();
+
+	/**
+	 * Returns the locks with the most slow enters since monitoring was started,
+	 * most contended first.
+	 *
+	 * @param maxLocks the maximum number of locks to return
+	 * @return the most contended locks, or an empty array if monitoring has never been started
+	 * @throws IllegalArgumentException if maxLocks is negative
+	 */
+	public LockContentionInfo[] getMostContendedLocks(int maxLocks);
+
+	/**
+	 * Returns the locks with the longest total hold time since monitoring was started,
+	 * longest held first.
+	 *
+	 * @param maxLocks the maximum number of locks to return
+	 * @return the longest held locks, or an empty array if monitoring has never been started
+	 * @throws IllegalArgumentException if maxLocks is negative
+	 */
+	public LockContentionInfo[] getLongestHeldLocks(int maxLocks);
+
+	/**
+	 * Returns the change in the statistics of each lock since the previous call of this
+	 * method, or since monitoring was started, most contended first. Locks that were not
+	 * entered in that interval are omitted. A lock whose counts went backwards, because
+	 * it was freed and its storage reused, is reported with its full counts.
+	 *
+	 * @param maxLocks the maximum number of locks to return
+	 * @return the lock statistics for the interval, or an empty array if monitoring has never been started
+	 * @throws IllegalArgumentException if maxLocks is negative
+	 */
+	public LockContentionInfo[] getLockContentionSinceLastRead(int maxLocks);
+
+}
@@ -0,0 +1,192 @@
+/*[INCLUDE-IF Sidecar17]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.lang.management.internal;
+
+import java.lang.management.MemoryUsage;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.ibm.java.lang.management.internal.CompilationMXBeanImpl;
+import com.ibm.lang.management.CompilationMXBean;
+
+/**
+ * Runtime type for {@link com.ibm.lang.management.CompilationMXBean}.
+ */
+public final class ExtendedCompilationMXBeanImpl extends CompilationMXBeanImpl implements CompilationMXBean {
+
+	/* The level names and bucket count must match J9JIT_COMPILATION_STATISTICS_LEVELS
+	 * and J9JIT_COMPILATION_STATISTICS_WAIT_BUCKETS, and the offsets must match the
+	 * layout of the array filled in by getCompilationStatisticsImpl() in mgmtcompilation.c.
+	 */
+	private static final String[] LEVEL_NAMES = { "noOpt", "cold", "warm", "hot", "veryHot", "scorching" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$
+	private static final int WAIT_BUCKETS = 16;
+	private static final int QUEUE_SIZE = 0;
+	private static final int WAIT_HISTOGRAM = QUEUE_SIZE + 1;
+	private static final int COMPILATIONS = WAIT_HISTOGRAM + WAIT_BUCKETS;
+	private static final int FAILURES = COMPILATIONS + LEVEL_NAMES.length;
+	private static final int AOT_LOADS = FAILURES + LEVEL_NAMES.length;
+	private static final int AOT_STORES = AOT_LOADS + 1;
+	private static final int RECOMPILATIONS = AOT_STORES + 1;
+	private static final int STATISTICS_LENGTH = RECOMPILATIONS + 1;
+
+	private static final ExtendedCompilationMXBeanImpl instance = (CompilationMXBeanImpl.getInstance() != null) ? new ExtendedCompilationMXBeanImpl() : null;
+
+	/**
+	 * Singleton accessor method.
+	 *
+	 * @return the <code>ExtendedCompilationMXBeanImpl</code> singleton,
+	 *         or null if the JIT is not enabled
+	 */
+	public static ExtendedCompilationMXBeanImpl getInstance() {
+		return instance;
+	}
+
+	/**
+	 * Constructor intentionally private to prevent instantiation by others.
+	 * Sets the metadata for this bean.
+	 */
+	private ExtendedCompilationMXBeanImpl() {
+		super();
+	}
+
+	/**
+	 * @return the compilation counters in the layout described by the offsets
+	 *         above, or null if the JIT does not report them
+	 */
+	private native long[] getCompilationStatisticsImpl();
+
+	/**
+	 * @return the size and used bytes of each code cache segment as consecutive pairs
+	 */
+	private native long[] getCodeCacheUsageImpl();
+
+	/**
+	 * @return the size and used bytes of each data cache segment as consecutive pairs
+	 */
+	private native long[] getDataCacheUsageImpl();
+
+	private long[] getStatistics() {
+		long[] statistics = getCompilationStatisticsImpl();
+
+		if ((statistics == null) || (statistics.length != STATISTICS_LENGTH)) {
+			statistics = new long[STATISTICS_LENGTH];
+		}
+		return statistics;
+	}
+
+	private static Map<String, Long> levelCounts(long[] statistics, int offset) {
+		Map<String, Long> counts = new LinkedHashMap<>();
+
+		for (int level = 0; level < LEVEL_NAMES.length; ++level) {
+			counts.put(LEVEL_NAMES[level], Long.valueOf(statistics[offset + level]));
+		}
+		return Collections.unmodifiableMap(counts);
+	}
+
+	private static MemoryUsage[] segmentUsage(long[] pairs) {
+		MemoryUsage[] usage = new MemoryUsage[pairs.length / 2];
+
+		for (int index = 0; index < usage.length; ++index) {
+			long size = pairs[2 * index];
+			long used = pairs[(2 * index) + 1];
+
+			usage[index] = new MemoryUsage(size, used, size, size);
+		}
+		return usage;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int getCompilationQueueLength() {
+		return (int) getStatistics()[QUEUE_SIZE];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long[] getCompilationQueueWaitHistogram() {
+		return Arrays.copyOfRange(getStatistics(), WAIT_HISTOGRAM, WAIT_HISTOGRAM + WAIT_BUCKETS);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Map<String, Long> getCompilationCounts() {
+		return levelCounts(getStatistics(), COMPILATIONS);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Map<String, Long> getCompilationFailureCounts() {
+		return levelCounts(getStatistics(), FAILURES);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getRecompilationCount() {
+		return getStatistics()[RECOMPILATIONS];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getAOTLoadCount() {
+		return getStatistics()[AOT_LOADS];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getAOTStoreCount() {
+		return getStatistics()[AOT_STORES];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public MemoryUsage[] getCodeCacheUsage() {
+		return segmentUsage(getCodeCacheUsageImpl());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public MemoryUsage[] getDataCacheUsage() {
+		return segmentUsage(getDataCacheUsageImpl());
+	}
+
+}
@@ -42,6 +42,12 @@ public final class ExtendedGarbageCollectorMXBeanImpl
 		extends GarbageCollectorMXBeanImpl
 		implements GarbageCollectorMXBean {
 
+	/* offsets into the array returned by getWindowStatisticsImpl() */
+	private static final int WINDOW_SPAN = 0;
+	private static final int WINDOW_ALLOCATED = 1;
+	private static final int WINDOW_PAUSE_TIME = 2;
+	private static final int WINDOW_PROMOTED = 3;
+
 	private static String[] poolNames;
 
 	ExtendedGarbageCollectorMXBeanImpl(String domainName, String name, int id, ExtendedMemoryMXBeanImpl memBean) {
@@ -77,6 +83,74 @@ public final class ExtendedGarbageCollectorMXBeanImpl
 	 */
 	private native GcInfo getLastGcInfoImpl(int id);
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getPauseTimePercentile(double percentile) {
+		if (!((0.0 <= percentile) && (percentile <= 100.0))) {
+			throw new IllegalArgumentException();
+		}
+		return this.getPauseTimePercentileImpl(id, percentile);
+	}
+
+	private native long getPauseTimePercentileImpl(int id, double percentile);
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long[] getPauseTimeHistogram() {
+		return this.getPauseTimeHistogramImpl(id);
+	}
+
+	private native long[] getPauseTimeHistogramImpl(int id);
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public double getAllocationRate(long windowMillis) {
+		long[] statistics = getWindowStatistics(windowMillis);
+		return perSecond(statistics[WINDOW_ALLOCATED], statistics[WINDOW_SPAN]);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public double getPromotionRate(long windowMillis) {
+		long[] statistics = getWindowStatistics(windowMillis);
+		return perSecond(statistics[WINDOW_PROMOTED], statistics[WINDOW_SPAN]);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public double getCollectionTimeRatio(long windowMillis) {
+		long[] statistics = getWindowStatistics(windowMillis);
+		long span = statistics[WINDOW_SPAN];
+		return (span <= 0) ? 0.0 : Math.min(1.0, (double) statistics[WINDOW_PAUSE_TIME] / span);
+	}
+
+	private long[] getWindowStatistics(long windowMillis) {
+		if (windowMillis <= 0) {
+			throw new IllegalArgumentException();
+		}
+		return this.getWindowStatisticsImpl(id, windowMillis);
+	}
+
+	private static double perSecond(long value, long spanNanos) {
+		return (spanNanos <= 0) ? 0.0 : (value * 1e9) / spanNanos;
+	}
+
+	/**
+	 * @return the window length in nanoseconds, then the bytes allocated, the pause time
+	 *         in nanoseconds, the bytes promoted and the number of collections within it
+	 */
+	private native long[] getWindowStatisticsImpl(int id, long windowMillis);
+
 	static GcInfo buildGcInfo(long index, long startTime, long endTime,
 							long[] initialSize, long[] preUsed, long[] preCommitted, long[] preMax,
 							long[] postUsed, long[] postCommitted, long[] postMax) {
@@ -0,0 +1,260 @@
+/*[INCLUDE-IF Sidecar17]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.lang.management.internal;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+
+import com.ibm.lang.management.LockContentionInfo;
+import com.ibm.lang.management.LockContentionMXBean;
+
+/**
+ * Runtime type for {@link LockContentionMXBean}.
+ * <p>
+ * The VM returns the Java Lock Monitor statistics in the tagged JLM dump format
+ * described in ibmjvmti.h; this class decodes, ranks and diffs them.
+ * </p>
+ */
+public final class LockContentionMXBeanImpl implements LockContentionMXBean {
+
+	/* version and format fields at the start of the dump */
+	private static final int DUMP_HEADER_SIZE = 8;
+	/* type, held, five 32-bit counts, hold time and tag, followed by the NUL terminated name */
+	private static final int DUMP_RECORD_FIXED_SIZE = 38;
+	/* JVMTI_MONITOR_JAVA */
+	private static final int MONITOR_JAVA = 1;
+
+	private static final Comparator<LockContentionInfo> BY_SLOW_ENTERS =
+			Comparator.comparingLong(LockContentionInfo::getSlowEnterCount)
+				.thenComparingLong(LockContentionInfo::getHoldTime)
+				.reversed();
+
+	private static final Comparator<LockContentionInfo> BY_HOLD_TIME =
+			Comparator.comparingLong(LockContentionInfo::getHoldTime)
+				.thenComparingLong(LockContentionInfo::getSlowEnterCount)
+				.reversed();
+
+	private static final LockContentionMXBeanImpl instance = new LockContentionMXBeanImpl();
+
+	/* statistics returned by the previous getLockContentionSinceLastRead(), keyed by monitor */
+	private Map<String, LockContentionInfo> lastRead = new HashMap<>();
+
+	/**
+	 * Singleton accessor method.
+	 *
+	 * @return the static instance of {@link LockContentionMXBeanImpl}
+	 */
+	public static LockContentionMXBeanImpl getInstance() {
+		return instance;
+	}
+
+	private LockContentionMXBeanImpl() {
+		super();
+	}
+
+	/**
+	 * Returns the object name of the MXBean.
+	 *
+	 * @return objectName representing the MXBean
+	 */
+	@Override
+	public ObjectName getObjectName() {
+		try {
+			return new ObjectName("com.ibm.lang.management:type=LockContention"); //$NON-NLS-1$
+		} catch (MalformedObjectNameException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isLockMonitoringSupported() {
+		return isSupportedImpl();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isLockMonitoringEnabled() {
+		return isEnabledImpl();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized void startLockMonitoring() {
+		if (!startImpl()) {
+			throw new UnsupportedOperationException();
+		}
+		lastRead = new HashMap<>();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void stopLockMonitoring() {
+		stopImpl();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public LockContentionInfo[] getMostContendedLocks(int maxLocks) {
+		checkMaxLocks(maxLocks);
+		return top(readLocks(), BY_SLOW_ENTERS, maxLocks);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public LockContentionInfo[] getLongestHeldLocks(int maxLocks) {
+		checkMaxLocks(maxLocks);
+		return top(readLocks(), BY_HOLD_TIME, maxLocks);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized LockContentionInfo[] getLockContentionSinceLastRead(int maxLocks) {
+		checkMaxLocks(maxLocks);
+		List<LockContentionInfo> current = readLocks();
+		Map<String, LockContentionInfo> previous = lastRead;
+		Map<String, LockContentionInfo> next = new HashMap<>(current.size() * 2);
+		List<LockContentionInfo> deltas = new ArrayList<>();
+
+		for (LockContentionInfo info : current) {
+			String key = monitorKey(info.getName());
+			LockContentionInfo delta = difference(info, previous.get(key));
+			next.put(key, info);
+			if (delta.getEnterCount() > 0) {
+				deltas.add(delta);
+			}
+		}
+		lastRead = next;
+		return top(deltas, BY_SLOW_ENTERS, maxLocks);
+	}
+
+	private static void checkMaxLocks(int maxLocks) {
+		if (maxLocks < 0) {
+			throw new IllegalArgumentException();
+		}
+	}
+
+	private static LockContentionInfo[] top(List<LockContentionInfo> locks, Comparator<LockContentionInfo> order, int maxLocks) {
+		locks.sort(order);
+		int count = Math.min(maxLocks, locks.size());
+		return locks.subList(0, count).toArray(new LockContentionInfo[count]);
+	}
+
+	/*
+	 * Object monitor names embed the object address, which moves during GC, so
+	 * monitors are matched on the "[address]" prefix of the monitor itself.
+	 */
+	private static String monitorKey(String name) {
+		if (name.startsWith("[")) { //$NON-NLS-1$
+			int end = name.indexOf(']');
+			if (end > 0) {
+				return name.substring(0, end + 1);
+			}
+		}
+		return name;
+	}
+
+	private static LockContentionInfo difference(LockContentionInfo current, LockContentionInfo previous) {
+		if ((null == previous)
+			|| (current.getEnterCount() < previous.getEnterCount())
+			|| (current.getSlowEnterCount() < previous.getSlowEnterCount())
+			|| (current.getRecursiveEnterCount() < previous.getRecursiveEnterCount())
+			|| (current.getSpinCount() < previous.getSpinCount())
+			|| (current.getYieldCount() < previous.getYieldCount())
+			|| (current.getHoldTime() < previous.getHoldTime())
+		) {
+			return current;
+		}
+		return new LockContentionInfo(current.getName(), current.isJavaMonitor(),
+				current.getEnterCount() - previous.getEnterCount(),
+				current.getSlowEnterCount() - previous.getSlowEnterCount(),
+				current.getRecursiveEnterCount() - previous.getRecursiveEnterCount(),
+				current.getSpinCount() - previous.getSpinCount(),
+				current.getYieldCount() - previous.getYieldCount(),
+				current.getHoldTime() - previous.getHoldTime());
+	}
+
+	private List<LockContentionInfo> readLocks() {
+		List<LockContentionInfo> locks = new ArrayList<>();
+		byte[] dump = dumpImpl();
+
+		if (null != dump) {
+			ByteBuffer buffer = ByteBuffer.wrap(dump);
+
+			buffer.position(DUMP_HEADER_SIZE);
+			while (buffer.remaining() > DUMP_RECORD_FIXED_SIZE) {
+				boolean javaMonitor = MONITOR_JAVA == buffer.get();
+				buffer.get(); /* held */
+				long enterCount = Integer.toUnsignedLong(buffer.getInt());
+				long slowEnterCount = Integer.toUnsignedLong(buffer.getInt());
+				long recursiveEnterCount = Integer.toUnsignedLong(buffer.getInt());
+				long spinCount = Integer.toUnsignedLong(buffer.getInt());
+				long yieldCount = Integer.toUnsignedLong(buffer.getInt());
+				long holdTime = buffer.getLong();
+				buffer.getLong(); /* tag */
+
+				int nameStart = buffer.position();
+				int nameEnd = nameStart;
+				while ((nameEnd < dump.length) && (0 != dump[nameEnd])) {
+					nameEnd += 1;
+				}
+				String name = new String(dump, nameStart, nameEnd - nameStart, StandardCharsets.UTF_8);
+				buffer.position(Math.min(nameEnd + 1, dump.length));
+
+				locks.add(new LockContentionInfo(name, javaMonitor, enterCount, slowEnterCount,
+						recursiveEnterCount, spinCount, yieldCount, holdTime));
+			}
+		}
+
+		return locks;
+	}
+
+	private native boolean isSupportedImpl();
+	private native boolean isEnabledImpl();
+	private native boolean startImpl();
+	private native void stopImpl();
+	private native byte[] dumpImpl();
+
+}
@@ -30,10 +30,17 @@ import java.util.List;
 import com.ibm.java.lang.management.internal.ComponentBuilder;
 import com.ibm.java.lang.management.internal.ManagementUtils;
 import com.ibm.lang.management.JvmCpuMonitorMXBean;
+import com.ibm.lang.management.LockContentionMXBean;
 import com.ibm.virtualization.management.internal.GuestOS;
 import com.ibm.virtualization.management.internal.HypervisorMXBeanImpl;
+import openj9.lang.management.MethodHandleCacheMXBean;
 import openj9.lang.management.OpenJ9DiagnosticsMXBean;
+import openj9.lang.management.internal.MethodHandleCacheMXBeanImpl;
 import openj9.lang.management.internal.OpenJ9DiagnosticsMXBeanImpl;
+/*[IF JAVA_SPEC_VERSION >= 21]*/
+import openj9.lang.management.VirtualThreadPinningMXBean;
+import openj9.lang.management.internal.VirtualThreadPinningMXBeanImpl;
+/*[ENDIF] JAVA_SPEC_VERSION >= 21 */
 
 /*[IF JAVA_SPEC_VERSION >= 21]*/
 import com.sun.management.internal.ExtendedHotSpotDiagnostic;
@@ -56,11 +63,15 @@ public final class PlatformMBeanProvider extends sun.management.spi.PlatformMBea
 		 * Inherited from DefaultPlatformMBeanProvider:
 		 *     BufferPoolMXBean
 		 *     ClassLoadingMXBean
-		 *     CompilationMXBean
 		 *     PlatformLoggingMXBean
 		 */
 
 		// register OpenJ9 extensions of standard singleton beans
+		ComponentBuilder.create(ManagementFactory.COMPILATION_MXBEAN_NAME, ExtendedCompilationMXBeanImpl.getInstance())
+			.addInterface(com.ibm.lang.management.CompilationMXBean.class)
+			.addInterface(java.lang.management.CompilationMXBean.class)
+			.register(allComponents);
+
 		ComponentBuilder.create(ManagementFactory.MEMORY_MXBEAN_NAME, ExtendedMemoryMXBeanImpl.getInstance())
 			.addInterface(com.ibm.lang.management.MemoryMXBean.class)
 			.addInterface(java.lang.management.MemoryMXBean.class)
@@ -97,6 +108,10 @@ public final class PlatformMBeanProvider extends sun.management.spi.PlatformMBea
 			.addInterface(JvmCpuMonitorMXBean.class)
 			.register(allComponents);
 
+		ComponentBuilder.create("com.ibm.lang.management:type=LockContention", LockContentionMXBeanImpl.getInstance()) //$NON-NLS-1$
+			.addInterface(LockContentionMXBean.class)
+			.register(allComponents);
+
 		/* OpenJ9DiagnosticsMXBeanImpl depends on openj9.jvm. If openj9.jvm is not
 		 * available exclude this component.
 		 */
@@ -106,6 +121,18 @@ public final class PlatformMBeanProvider extends sun.management.spi.PlatformMBea
 				.register(allComponents);
 		}
 
+/*[IF !OPENJDK_METHODHANDLES]*/
+		ComponentBuilder.create("openj9.lang.management:type=MethodHandleCache", MethodHandleCacheMXBeanImpl.getInstance()) //$NON-NLS-1$
+			.addInterface(MethodHandleCacheMXBean.class)
+			.register(allComponents);
+/*[ENDIF] !OPENJDK_METHODHANDLES */
+
+/*[IF JAVA_SPEC_VERSION >= 21]*/
+		ComponentBuilder.create("openj9.lang.management:type=VirtualThreadPinning", VirtualThreadPinningMXBeanImpl.getInstance()) //$NON-NLS-1$
+			.addInterface(VirtualThreadPinningMXBean.class)
+			.register(allComponents);
+/*[ENDIF] JAVA_SPEC_VERSION >= 21 */
+
 /*[IF CRAC_SUPPORT]*/
 		ComponentBuilder.create(jdk.crac.management.CRaCMXBean.CRAC_MXBEAN_NAME, jdk.crac.management.CRaCMXBeanImpl.getInstance()) // $NON-NLS-1$
 			.addInterface(jdk.crac.management.CRaCMXBean.class)
@@ -0,0 +1,71 @@
+/*[INCLUDE-IF Sidecar17]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package openj9.lang.management;
+
+import java.lang.management.PlatformManagedObject;
+
+/**
+ * <p>
+ * This interface provides APIs to monitor the per-class caches used by
+ * MethodHandles.Lookup to avoid creating duplicate MethodHandles for the
+ * findVirtual, findStatic, findSpecial, findConstructor, unreflect and field
+ * accessor lookups.
+ * </p>
+ * <p>
+ * The bean is only registered when the OpenJ9 MethodHandle implementation is in use.
+ * </p>
+ * <br>
+ * <b>Usage example for the {@link MethodHandleCacheMXBean}</b>
+ * <pre>
+ * {@code
+ *   ...
+ *   MethodHandleCacheMXBean cacheBean = ManagementFactory.getPlatformMXBean(MethodHandleCacheMXBean.class);
+ *   long lookups = cacheBean.getHitCount() + cacheBean.getMissCount();
+ *   ...
+ * }
+ * </pre>
+ */
+public interface MethodHandleCacheMXBean extends PlatformManagedObject {
+
+	/**
+	 * Returns the number of lookups that were satisfied by a cached MethodHandle.
+	 *
+	 * @return the number of cache hits since the JVM started
+	 */
+	public long getHitCount();
+
+	/**
+	 * Returns the number of lookups that had to create a new MethodHandle.
+	 *
+	 * @return the number of cache misses since the JVM started
+	 */
+	public long getMissCount();
+
+	/**
+	 * Returns the number of cache entries that were removed because their
+	 * MethodHandle was garbage collected.
+	 *
+	 * @return the number of cleared entries since the JVM started
+	 */
+	public long getClearedEntryCount();
+}
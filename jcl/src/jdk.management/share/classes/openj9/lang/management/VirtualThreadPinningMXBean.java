@@ -0,0 +1,81 @@
+/*[INCLUDE-IF JAVA_SPEC_VERSION >= 21]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package openj9.lang.management;
+
+import java.lang.management.PlatformManagedObject;
+
+/**
+ * <p>
+ * This interface provides APIs to monitor how often virtual threads are pinned
+ * to their carrier thread. A virtual thread is pinned when it tries to park or
+ * yield but cannot be unmounted, for example while it is running a native method
+ * or is in a critical section. The pinned thread then blocks its carrier thread.
+ * </p>
+ * <p>
+ * Every pinned yield attempt is counted, whether or not the
+ * jdk.tracePinnedThreads system property is set.
+ * </p>
+ * <br>
+ * <b>Usage example for the {@link VirtualThreadPinningMXBean}</b>
+ * <pre>
+ * {@code
+ *   ...
+ *   VirtualThreadPinningMXBean pinningBean = ManagementFactory.getPlatformMXBean(VirtualThreadPinningMXBean.class);
+ *   long pinned = pinningBean.getPinnedCount();
+ *   ...
+ * }
+ * </pre>
+ */
+public interface VirtualThreadPinningMXBean extends PlatformManagedObject {
+
+	/**
+	 * Returns the number of times a virtual thread was pinned, for all reasons.
+	 *
+	 * @return the number of pinned yield attempts since the JVM started
+	 */
+	public long getPinnedCount();
+
+	/**
+	 * Returns the number of times a virtual thread was pinned because
+	 * it had a native method on its stack.
+	 *
+	 * @return the number of pinned yield attempts in native code since the JVM started
+	 */
+	public long getNativePinnedCount();
+
+	/**
+	 * Returns the number of times a virtual thread was pinned because
+	 * it held an object monitor that could not be released from the carrier.
+	 *
+	 * @return the number of pinned yield attempts holding monitors since the JVM started
+	 */
+	public long getMonitorPinnedCount();
+
+	/**
+	 * Returns the number of times a virtual thread was pinned because
+	 * it was in a critical section.
+	 *
+	 * @return the number of pinned yield attempts in critical sections since the JVM started
+	 */
+	public long getCriticalSectionPinnedCount();
+}
@@ -0,0 +1,88 @@
+/*[INCLUDE-IF Sidecar17]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package openj9.lang.management.internal;
+
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+
+import openj9.internal.management.MethodHandleCacheStatistics;
+import openj9.lang.management.MethodHandleCacheMXBean;
+
+/**
+ * Runtime type for {@link MethodHandleCacheMXBean}.
+ */
+public final class MethodHandleCacheMXBeanImpl implements MethodHandleCacheMXBean {
+
+	private static final MethodHandleCacheMXBeanImpl instance = new MethodHandleCacheMXBeanImpl();
+
+	/**
+	 * Singleton accessor method.
+	 *
+	 * @return the static instance of {@link MethodHandleCacheMXBeanImpl}
+	 */
+	public static MethodHandleCacheMXBeanImpl getInstance() {
+		return instance;
+	}
+
+	private MethodHandleCacheMXBeanImpl() {
+		super();
+	}
+
+	/**
+	 * Returns the object name of the MXBean.
+	 *
+	 * @return objectName representing the MXBean
+	 */
+	@Override
+	public ObjectName getObjectName() {
+		try {
+			return new ObjectName("openj9.lang.management:type=MethodHandleCache"); //$NON-NLS-1$
+		} catch (MalformedObjectNameException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getHitCount() {
+		return MethodHandleCacheStatistics.getHitCount();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getMissCount() {
+		return MethodHandleCacheStatistics.getMissCount();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getClearedEntryCount() {
+		return MethodHandleCacheStatistics.getClearedEntryCount();
+	}
+}
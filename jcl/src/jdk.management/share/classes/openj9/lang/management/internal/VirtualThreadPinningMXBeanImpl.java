@@ -0,0 +1,96 @@
+/*[INCLUDE-IF JAVA_SPEC_VERSION >= 21]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package openj9.lang.management.internal;
+
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+
+import openj9.internal.management.VirtualThreadPinningStatistics;
+import openj9.lang.management.VirtualThreadPinningMXBean;
+
+/**
+ * Runtime type for {@link VirtualThreadPinningMXBean}.
+ */
+public final class VirtualThreadPinningMXBeanImpl implements VirtualThreadPinningMXBean {
+
+	private static final VirtualThreadPinningMXBeanImpl instance = new VirtualThreadPinningMXBeanImpl();
+
+	/**
+	 * Singleton accessor method.
+	 *
+	 * @return the static instance of {@link VirtualThreadPinningMXBeanImpl}
+	 */
+	public static VirtualThreadPinningMXBeanImpl getInstance() {
+		return instance;
+	}
+
+	private VirtualThreadPinningMXBeanImpl() {
+		super();
+	}
+
+	/**
+	 * Returns the object name of the MXBean.
+	 *
+	 * @return objectName representing the MXBean
+	 */
+	@Override
+	public ObjectName getObjectName() {
+		try {
+			return new ObjectName("openj9.lang.management:type=VirtualThreadPinning"); //$NON-NLS-1$
+		} catch (MalformedObjectNameException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getPinnedCount() {
+		return VirtualThreadPinningStatistics.getPinnedCount();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getNativePinnedCount() {
+		return VirtualThreadPinningStatistics.getPinnedCount(VirtualThreadPinningStatistics.NATIVE);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getMonitorPinnedCount() {
+		return VirtualThreadPinningStatistics.getPinnedCount(VirtualThreadPinningStatistics.MONITOR);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getCriticalSectionPinnedCount() {
+		return VirtualThreadPinningStatistics.getPinnedCount(VirtualThreadPinningStatistics.CRITICAL_SECTION);
+	}
+}
@@ -0,0 +1,164 @@
+/*[INCLUDE-IF DAA]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.dataaccess;
+
+/*[IF JAVA_SPEC_VERSION >= 22]*/
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+/*[ENDIF] JAVA_SPEC_VERSION >= 22 */
+import java.nio.ByteBuffer;
+
+/**
+ * Helpers for the ByteBuffer and MemorySegment overloads of the decimal APIs.
+ * 
+ * Buffers backed by an accessible array are converted in place by the byte array
+ * routines. The conversions between Packed Decimal and int or long read and write
+ * direct and memory mapped buffers in place as well, using the native address of
+ * the buffer where it is available. For the remaining operations on such buffers,
+ * only the bytes of the decimal field itself are copied to and from a temporary
+ * array, because the byte array routines have no buffer equivalents.
+ */
+final class DecimalBuffer {
+
+    // Private constructor, class contains only static methods.
+    private DecimalBuffer() {
+        super();
+    }
+
+    /**
+     * Checks that the <code>length</code> bytes of <code>buffer</code> starting at the absolute index
+     * <code>offset</code> are within the limit of the buffer.
+     * 
+     * @param method
+     *            name of the calling method for the exception message
+     * @param name
+     *            name of the buffer parameter for the exception message
+     * 
+     * @throws IndexOutOfBoundsException
+     *             if the range is not within the limit of the buffer
+     */
+    static void checkRange(ByteBuffer buffer, int offset, int length, String method, String name) {
+        if ((offset < 0) || (length < 0) || (offset > (buffer.limit() - length)))
+            throw new IndexOutOfBoundsException("Buffer access index out of bounds. " +
+                    method + " is trying to access " + name + "[" + offset + "] to " + name + "[" + (offset + length - 1) + "], " +
+                    " but valid indices are from 0 to " + (buffer.limit() - 1) + ".");
+    }
+
+    /**
+     * Returns an array holding the <code>length</code> bytes of <code>buffer</code> starting at the absolute
+     * index <code>offset</code>. This is the array backing the buffer if it is accessible, otherwise it is a
+     * copy of the bytes. The position of <code>buffer</code> is not changed.
+     * 
+     * @param method
+     *            name of the calling method for the exception message
+     * @param name
+     *            name of the buffer parameter for the exception message
+     * 
+     * @throws IndexOutOfBoundsException
+     *             if the range is not within the limit of the buffer
+     */
+    static byte[] array(ByteBuffer buffer, int offset, int length, String method, String name) {
+        checkRange(buffer, offset, length, method, name);
+
+        if (buffer.hasArray())
+            return buffer.array();
+
+        byte[] bytes = new byte[length];
+        ByteBuffer view = buffer.duplicate();
+        view.position(offset);
+        view.get(bytes, 0, length);
+        return bytes;
+    }
+
+    /**
+     * Returns the index in the array returned by {@link #array(ByteBuffer, int, int, String, String)}
+     * of the byte at the absolute index <code>offset</code> of <code>buffer</code>.
+     */
+    static int index(ByteBuffer buffer, int offset) {
+        return buffer.hasArray() ? buffer.arrayOffset() + offset : 0;
+    }
+
+    /**
+     * Stores the bytes of an array returned by {@link #array(ByteBuffer, int, int, String, String)} back into
+     * <code>buffer</code> at the absolute index <code>offset</code>. Nothing needs to be done if the array
+     * backs the buffer. The position of <code>buffer</code> is not changed.
+     * 
+     * @throws java.nio.ReadOnlyBufferException
+     *             if the buffer is read-only
+     */
+    static void update(ByteBuffer buffer, int offset, byte[] bytes) {
+        if (!buffer.hasArray()) {
+            ByteBuffer view = buffer.duplicate();
+            view.position(offset);
+            view.put(bytes, 0, bytes.length);
+        }
+    }
+
+    /**
+     * Returns the native address of the byte at index 0 of a direct buffer, or 0 if the buffer is not
+     * direct or its address is not available. The JIT uses a non-zero address to access the buffer in
+     * place in the recognized <code>DecimalData</code> ByteBuffer methods.
+     */
+    static long address(ByteBuffer buffer) {
+        /*[IF JAVA_SPEC_VERSION >= 22]*/
+        if (buffer.isDirect()) {
+            // The segment of a buffer starts at its position.
+            return MemorySegment.ofBuffer(buffer).address() - buffer.position();
+        }
+        /*[ENDIF] JAVA_SPEC_VERSION >= 22 */
+        return 0;
+    }
+
+    /*[IF JAVA_SPEC_VERSION >= 22]*/
+    /**
+     * Returns a buffer for the <code>length</code> bytes of <code>segment</code> starting at <code>offset</code>.
+     * Native segments and heap segments of byte arrays are viewed in place. Heap segments of other primitive
+     * arrays cannot be viewed as a ByteBuffer, so the returned buffer holds a copy of the bytes, which is
+     * read-only if the segment is read-only. Any change to such a copy must be stored back with
+     * {@link #update(MemorySegment, long, ByteBuffer)}.
+     * 
+     * @throws IndexOutOfBoundsException
+     *             if the range is not within the segment
+     */
+    static ByteBuffer slice(MemorySegment segment, long offset, int length) {
+        MemorySegment field = segment.asSlice(offset, length);
+        try {
+            return field.asByteBuffer();
+        } catch (UnsupportedOperationException e) {
+            ByteBuffer copy = ByteBuffer.wrap(field.toArray(ValueLayout.JAVA_BYTE));
+            return field.isReadOnly() ? copy.asReadOnlyBuffer() : copy;
+        }
+    }
+
+    /**
+     * Stores the bytes of a buffer returned by {@link #slice(MemorySegment, long, int)} back into
+     * <code>segment</code> at <code>offset</code>. Nothing needs to be done if the buffer is a view of
+     * the segment.
+     */
+    static void update(MemorySegment segment, long offset, ByteBuffer buffer) {
+        if (!segment.isNative() && !segment.isReadOnly() && !(segment.heapBase().orElse(null) instanceof byte[])) {
+            MemorySegment.copy(buffer.array(), 0, segment, ValueLayout.JAVA_BYTE, offset, buffer.capacity());
+        }
+    }
+    /*[ENDIF] JAVA_SPEC_VERSION >= 22 */
+}
@@ -22,8 +22,13 @@
  */
 package com.ibm.dataaccess;
 
+/*[IF JAVA_SPEC_VERSION >= 22]*/
+import java.lang.foreign.MemorySegment;
+/*[ENDIF] JAVA_SPEC_VERSION >= 22 */
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
 import java.util.Arrays;
 
 import com.ibm.dataaccess.ByteArrayMarshaller;
@@ -2506,6 +2511,320 @@ public final class DecimalData
                 offset, precision, decimalType);
     }
 
+    /**
+     * Converts <code>count</code> Packed Decimal fields laid out at a fixed stride in a byte array into binary
+     * integers. The fields are converted as if by {@link #convertPackedDecimalToInteger(byte[], int, int, boolean)},
+     * but the array bounds are checked once for the whole run rather than once per field.
+     * 
+     * @param packedDecimal
+     *            byte array which contains the Packed Decimal values
+     * @param offset
+     *            offset of the first byte of the first Packed Decimal in <code>packedDecimal</code>
+     * @param stride
+     *            distance in bytes between the start of consecutive Packed Decimals. Must be at least the number of
+     *            bytes occupied by a Packed Decimal of the given <code>precision</code>
+     * @param precision
+     *            number of Packed Decimal digits in each field. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> may be thrown
+     * @param values
+     *            int array that will hold the resulting binary integers
+     * @param valuesOffset
+     *            index in <code>values</code> of the first result
+     * @param count
+     *            number of Packed Decimals to convert
+     * 
+     * @throws NullPointerException
+     *             if <code>packedDecimal</code> or <code>values</code> is null
+     * @throws ArrayIndexOutOfBoundsException
+     *             if an invalid array access occurs
+     * @throws IllegalArgumentException
+     *             if <code>stride</code> is smaller than a Packed Decimal or <code>count</code> is negative
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and a result does not fit into an int (overflow)
+     */
+    public static void convertPackedDecimalsToIntegers(byte[] packedDecimal, int offset, int stride, int precision,
+            boolean checkOverflow, int[] values, int valuesOffset, int count) {
+        checkPackedDecimals("convertPackedDecimalsToIntegers", packedDecimal, offset, stride, precision, count);
+        checkValues("convertPackedDecimalsToIntegers", values.length, valuesOffset, count);
+
+        for (int i = valuesOffset, end = valuesOffset + count; i < end; i++, offset += stride) {
+            values[i] = convertPackedDecimalToInteger_(packedDecimal, offset, precision, checkOverflow);
+        }
+    }
+
+    /**
+     * Converts <code>count</code> Packed Decimal fields laid out at a fixed stride in a byte array into binary longs.
+     * The fields are converted as if by {@link #convertPackedDecimalToLong(byte[], int, int, boolean)}, but the array
+     * bounds are checked once for the whole run rather than once per field.
+     * 
+     * @param packedDecimal
+     *            byte array which contains the Packed Decimal values
+     * @param offset
+     *            offset of the first byte of the first Packed Decimal in <code>packedDecimal</code>
+     * @param stride
+     *            distance in bytes between the start of consecutive Packed Decimals. Must be at least the number of
+     *            bytes occupied by a Packed Decimal of the given <code>precision</code>
+     * @param precision
+     *            number of Packed Decimal digits in each field. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> may be thrown
+     * @param values
+     *            long array that will hold the resulting binary longs
+     * @param valuesOffset
+     *            index in <code>values</code> of the first result
+     * @param count
+     *            number of Packed Decimals to convert
+     * 
+     * @throws NullPointerException
+     *             if <code>packedDecimal</code> or <code>values</code> is null
+     * @throws ArrayIndexOutOfBoundsException
+     *             if an invalid array access occurs
+     * @throws IllegalArgumentException
+     *             if <code>stride</code> is smaller than a Packed Decimal or <code>count</code> is negative
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and a result does not fit into a long (overflow)
+     */
+    public static void convertPackedDecimalsToLongs(byte[] packedDecimal, int offset, int stride, int precision,
+            boolean checkOverflow, long[] values, int valuesOffset, int count) {
+        checkPackedDecimals("convertPackedDecimalsToLongs", packedDecimal, offset, stride, precision, count);
+        checkValues("convertPackedDecimalsToLongs", values.length, valuesOffset, count);
+
+        for (int i = valuesOffset, end = valuesOffset + count; i < end; i++, offset += stride) {
+            values[i] = convertPackedDecimalToLong_(packedDecimal, offset, precision, checkOverflow);
+        }
+    }
+
+    /**
+     * Converts <code>count</code> Packed Decimal fields laid out at a fixed stride in a byte array into BigDecimals.
+     * The fields are converted as if by {@link #convertPackedDecimalToBigDecimal(byte[], int, int, int, boolean)},
+     * but the array bounds are checked once for the whole run rather than once per field.
+     * 
+     * @param packedDecimal
+     *            byte array which contains the Packed Decimal values
+     * @param offset
+     *            offset of the first byte of the first Packed Decimal in <code>packedDecimal</code>
+     * @param stride
+     *            distance in bytes between the start of consecutive Packed Decimals. Must be at least the number of
+     *            bytes occupied by a Packed Decimal of the given <code>precision</code>
+     * @param precision
+     *            number of Packed Decimal digits in each field. Maximum valid precision is 253
+     * @param scale
+     *            scale of the BigDecimals to be returned
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> may be thrown
+     * @param values
+     *            BigDecimal array that will hold the results
+     * @param valuesOffset
+     *            index in <code>values</code> of the first result
+     * @param count
+     *            number of Packed Decimals to convert
+     * 
+     * @throws NullPointerException
+     *             if <code>packedDecimal</code> or <code>values</code> is null
+     * @throws ArrayIndexOutOfBoundsException
+     *             if an invalid array access occurs
+     * @throws IllegalArgumentException
+     *             if <code>stride</code> is smaller than a Packed Decimal or <code>count</code> is negative
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and overflow occurs
+     */
+    public static void convertPackedDecimalsToBigDecimals(byte[] packedDecimal, int offset, int stride,
+            int precision, int scale, boolean checkOverflow, BigDecimal[] values, int valuesOffset, int count) {
+        checkPackedDecimals("convertPackedDecimalsToBigDecimals", packedDecimal, offset, stride, precision, count);
+        checkValues("convertPackedDecimalsToBigDecimals", values.length, valuesOffset, count);
+
+        int end = valuesOffset + count;
+        if (precision <= 9) {
+            for (int i = valuesOffset; i < end; i++, offset += stride) {
+                values[i] = BigDecimal.valueOf(
+                        convertPackedDecimalToInteger_(packedDecimal, offset, precision, checkOverflow), scale);
+            }
+        } else if (precision <= 18) {
+            for (int i = valuesOffset; i < end; i++, offset += stride) {
+                values[i] = BigDecimal.valueOf(
+                        convertPackedDecimalToLong_(packedDecimal, offset, precision, checkOverflow), scale);
+            }
+        } else {
+            for (int i = valuesOffset; i < end; i++, offset += stride) {
+                values[i] = slowSignedPackedToBigDecimal(packedDecimal, offset, precision, scale, checkOverflow);
+            }
+        }
+    }
+
+    /**
+     * Converts <code>count</code> binary integers into Packed Decimal fields laid out at a fixed stride in a byte
+     * array. The values are converted as if by {@link #convertIntegerToPackedDecimal(int, byte[], int, int, boolean)},
+     * but the array bounds are checked once for the whole run rather than once per field. Bytes between the end of
+     * one field and the start of the next are left unchanged.
+     * 
+     * @param values
+     *            int array which contains the binary integers to convert
+     * @param valuesOffset
+     *            index in <code>values</code> of the first value to convert
+     * @param packedDecimal
+     *            byte array that will store the resulting Packed Decimal values
+     * @param offset
+     *            offset of the first byte of the first Packed Decimal in <code>packedDecimal</code>
+     * @param stride
+     *            distance in bytes between the start of consecutive Packed Decimals. Must be at least the number of
+     *            bytes occupied by a Packed Decimal of the given <code>precision</code>
+     * @param precision
+     *            number of Packed Decimal digits in each field. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> will be thrown if a value does not fit in the specified
+     *            precision (overflow)
+     * @param count
+     *            number of values to convert
+     * 
+     * @throws NullPointerException
+     *             if <code>values</code> or <code>packedDecimal</code> is null
+     * @throws ArrayIndexOutOfBoundsException
+     *             if an invalid array access occurs
+     * @throws IllegalArgumentException
+     *             if <code>stride</code> is smaller than a Packed Decimal or <code>count</code> is negative
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and overflow occurs
+     */
+    public static void convertIntegersToPackedDecimals(int[] values, int valuesOffset, byte[] packedDecimal,
+            int offset, int stride, int precision, boolean checkOverflow, int count) {
+        checkValues("convertIntegersToPackedDecimals", values.length, valuesOffset, count);
+        checkPackedDecimals("convertIntegersToPackedDecimals", packedDecimal, offset, stride, precision, count);
+
+        for (int i = valuesOffset, end = valuesOffset + count; i < end; i++, offset += stride) {
+            convertIntegerToPackedDecimal_(values[i], packedDecimal, offset, precision, checkOverflow);
+        }
+    }
+
+    /**
+     * Converts <code>count</code> binary longs into Packed Decimal fields laid out at a fixed stride in a byte array.
+     * The values are converted as if by {@link #convertLongToPackedDecimal(long, byte[], int, int, boolean)}, but the
+     * array bounds are checked once for the whole run rather than once per field. Bytes between the end of one field
+     * and the start of the next are left unchanged.
+     * 
+     * @param values
+     *            long array which contains the binary longs to convert
+     * @param valuesOffset
+     *            index in <code>values</code> of the first value to convert
+     * @param packedDecimal
+     *            byte array that will store the resulting Packed Decimal values
+     * @param offset
+     *            offset of the first byte of the first Packed Decimal in <code>packedDecimal</code>
+     * @param stride
+     *            distance in bytes between the start of consecutive Packed Decimals. Must be at least the number of
+     *            bytes occupied by a Packed Decimal of the given <code>precision</code>
+     * @param precision
+     *            number of Packed Decimal digits in each field. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> will be thrown if a value does not fit in the specified
+     *            precision (overflow)
+     * @param count
+     *            number of values to convert
+     * 
+     * @throws NullPointerException
+     *             if <code>values</code> or <code>packedDecimal</code> is null
+     * @throws ArrayIndexOutOfBoundsException
+     *             if an invalid array access occurs
+     * @throws IllegalArgumentException
+     *             if <code>stride</code> is smaller than a Packed Decimal or <code>count</code> is negative
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and overflow occurs
+     */
+    public static void convertLongsToPackedDecimals(long[] values, int valuesOffset, byte[] packedDecimal,
+            int offset, int stride, int precision, boolean checkOverflow, int count) {
+        checkValues("convertLongsToPackedDecimals", values.length, valuesOffset, count);
+        checkPackedDecimals("convertLongsToPackedDecimals", packedDecimal, offset, stride, precision, count);
+
+        for (int i = valuesOffset, end = valuesOffset + count; i < end; i++, offset += stride) {
+            convertLongToPackedDecimal_(values[i], packedDecimal, offset, precision, checkOverflow);
+        }
+    }
+
+    /**
+     * Converts <code>count</code> BigDecimals into Packed Decimal fields laid out at a fixed stride in a byte array.
+     * The values are converted as if by
+     * {@link #convertBigDecimalToPackedDecimal(BigDecimal, byte[], int, int, boolean)}, but the array bounds are
+     * checked once for the whole run rather than once per field. Bytes between the end of one field and the start of
+     * the next are left unchanged.
+     * 
+     * @param values
+     *            BigDecimal array which contains the values to convert
+     * @param valuesOffset
+     *            index in <code>values</code> of the first value to convert
+     * @param packedDecimal
+     *            byte array that will store the resulting Packed Decimal values
+     * @param offset
+     *            offset of the first byte of the first Packed Decimal in <code>packedDecimal</code>
+     * @param stride
+     *            distance in bytes between the start of consecutive Packed Decimals. Must be at least the number of
+     *            bytes occupied by a Packed Decimal of the given <code>precision</code>
+     * @param precision
+     *            number of Packed Decimal digits in each field. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> will be thrown if a value does not fit in the specified
+     *            precision (overflow)
+     * @param count
+     *            number of values to convert
+     * 
+     * @throws NullPointerException
+     *             if <code>values</code>, any of the converted elements, or <code>packedDecimal</code> is null
+     * @throws ArrayIndexOutOfBoundsException
+     *             if an invalid array access occurs
+     * @throws IllegalArgumentException
+     *             if <code>stride</code> is smaller than a Packed Decimal or <code>count</code> is negative
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and overflow occurs
+     */
+    public static void convertBigDecimalsToPackedDecimals(BigDecimal[] values, int valuesOffset,
+            byte[] packedDecimal, int offset, int stride, int precision, boolean checkOverflow, int count) {
+        checkValues("convertBigDecimalsToPackedDecimals", values.length, valuesOffset, count);
+        checkPackedDecimals("convertBigDecimalsToPackedDecimals", packedDecimal, offset, stride, precision, count);
+
+        for (int i = valuesOffset, end = valuesOffset + count; i < end; i++, offset += stride) {
+            BigDecimal bigDecimalValue = values[i];
+            int bdprec = bigDecimalValue.precision();
+            if (bdprec <= 9) {
+                convertIntegerToPackedDecimal_((int) bigDecimalValue.unscaledValue().longValue(),
+                        packedDecimal, offset, precision, checkOverflow);
+            } else if (bdprec <= 18) {
+                convertLongToPackedDecimal_(bigDecimalValue.unscaledValue().longValue(),
+                        packedDecimal, offset, precision, checkOverflow);
+            } else {
+                slowBigDecimalToSignedPacked(bigDecimalValue, packedDecimal, offset, precision, checkOverflow);
+            }
+        }
+    }
+
+    /*
+     * Checks that count Packed Decimals of the given precision, starting at offset and stride bytes apart,
+     * all lie within packedDecimal.
+     */
+    private static void checkPackedDecimals(String method, byte[] packedDecimal, int offset, int stride,
+            int precision, int count) {
+        int bytes = CommonData.getPackedByteCount(precision);
+        if (count < 0)
+            throw new IllegalArgumentException("Invalid count: " + count);
+        if (stride < bytes)
+            throw new IllegalArgumentException("Invalid stride: " + stride + ", a Packed Decimal of precision "
+                    + precision + " occupies " + bytes + " bytes");
+
+        long last = offset + ((long) (count - 1) * stride) + bytes - 1;
+        if ((offset < 0) || (count > 0 && last >= packedDecimal.length))
+            throw new ArrayIndexOutOfBoundsException("Array access index out of bounds. " +
+                    method + " is trying to access packedDecimal[" + offset + "] to packedDecimal[" + last + "], " +
+                    " but valid indices are from 0 to " + (packedDecimal.length - 1) + ".");
+    }
+
+    /*
+     * Checks that count elements starting at valuesOffset lie within an array of the given length.
+     */
+    private static void checkValues(String method, int length, int valuesOffset, int count) {
+        if ((valuesOffset < 0) || (count > 0 && ((long) valuesOffset + count) > length))
+            throw new ArrayIndexOutOfBoundsException("Array access index out of bounds. " +
+                    method + " is trying to access values[" + valuesOffset + "] to values[" + ((long) valuesOffset + count - 1) + "], " +
+                    " but valid indices are from 0 to " + (length - 1) + ".");
+    }
+
     // below is code taken from BigDecimalConverters
     // these are special functions recognized by the jit
     private static boolean DFPFacilityAvailable() {
@@ -2627,4 +2946,974 @@ public final class DecimalData
         }
     }
 
+    /**
+     * Converts a Packed Decimal value in a ByteBuffer into a binary integer.
+     * See {@link #convertPackedDecimalToInteger(byte[], int, int, boolean)} for details.
+     * 
+     * @param packedDecimal
+     *            buffer holding the Packed Decimal
+     * @param offset
+     *            absolute index in <code>packedDecimal</code> of the first byte of the Packed Decimal
+     * @param precision
+     *            number of decimal digits. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> may be thrown
+     * 
+     * @return the resulting binary integer value
+     * 
+     * @throws NullPointerException
+     *             if <code>packedDecimal</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the decimal is not within the limit of the buffer
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and overflow occurs
+     */
+    public static int convertPackedDecimalToInteger(ByteBuffer packedDecimal, int offset, int precision,
+            boolean checkOverflow) {
+        DecimalBuffer.checkRange(packedDecimal, offset, CommonData.getPackedByteCount(precision), "convertPackedDecimalToInteger", "packedDecimal");
+        if (packedDecimal.hasArray())
+            return convertPackedDecimalToInteger(packedDecimal.array(), packedDecimal.arrayOffset() + offset,
+                    precision, checkOverflow);
+
+        long address = DecimalBuffer.address(packedDecimal);
+        if (address != 0)
+            return convertPackedDecimalToInteger_(packedDecimal, offset, precision, checkOverflow, address,
+                    packedDecimal.capacity(), 0);
+
+        return (int) getPackedDecimal(packedDecimal, offset, precision, checkOverflow, true);
+    }
+
+    /**
+     * Converts a Packed Decimal value in a ByteBuffer into a binary long.
+     * See {@link #convertPackedDecimalToLong(byte[], int, int, boolean)} for details.
+     * 
+     * @param packedDecimal
+     *            buffer holding the Packed Decimal
+     * @param offset
+     *            absolute index in <code>packedDecimal</code> of the first byte of the Packed Decimal
+     * @param precision
+     *            number of decimal digits. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> may be thrown
+     * 
+     * @return the resulting binary long value
+     * 
+     * @throws NullPointerException
+     *             if <code>packedDecimal</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the decimal is not within the limit of the buffer
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and overflow occurs
+     */
+    public static long convertPackedDecimalToLong(ByteBuffer packedDecimal, int offset, int precision,
+            boolean checkOverflow) {
+        DecimalBuffer.checkRange(packedDecimal, offset, CommonData.getPackedByteCount(precision), "convertPackedDecimalToLong", "packedDecimal");
+        if (packedDecimal.hasArray())
+            return convertPackedDecimalToLong(packedDecimal.array(), packedDecimal.arrayOffset() + offset,
+                    precision, checkOverflow);
+
+        long address = DecimalBuffer.address(packedDecimal);
+        if (address != 0)
+            return convertPackedDecimalToLong_(packedDecimal, offset, precision, checkOverflow, address,
+                    packedDecimal.capacity(), 0);
+
+        return getPackedDecimal(packedDecimal, offset, precision, checkOverflow, false);
+    }
+
+    /**
+     * Converts a Packed Decimal value in a ByteBuffer into a BigDecimal.
+     * See {@link #convertPackedDecimalToBigDecimal(byte[], int, int, int, boolean)} for details.
+     * 
+     * @param packedDecimal
+     *            buffer holding the Packed Decimal
+     * @param offset
+     *            absolute index in <code>packedDecimal</code> of the first byte of the Packed Decimal
+     * @param precision
+     *            number of decimal digits. Maximum valid precision is 253
+     * @param scale
+     *            scale of the returned BigDecimal
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> may be thrown
+     * 
+     * @return the resulting BigDecimal value
+     * 
+     * @throws NullPointerException
+     *             if <code>packedDecimal</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the decimal is not within the limit of the buffer
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and overflow occurs
+     */
+    public static BigDecimal convertPackedDecimalToBigDecimal(ByteBuffer packedDecimal, int offset, int precision,
+            int scale, boolean checkOverflow) {
+        byte[] packedDecimalArray = DecimalBuffer.array(packedDecimal, offset, CommonData.getPackedByteCount(precision), "convertPackedDecimalToBigDecimal", "packedDecimal");
+        return convertPackedDecimalToBigDecimal(packedDecimalArray, DecimalBuffer.index(packedDecimal, offset),
+                precision, scale, checkOverflow);
+    }
+
+    /**
+     * Converts an integer to a Packed Decimal in a ByteBuffer.
+     * See {@link #convertIntegerToPackedDecimal(int, byte[], int, int, boolean)} for details.
+     * 
+     * @param integerValue
+     *            the value to convert
+     * @param packedDecimal
+     *            buffer which will hold the Packed Decimal on a successful return
+     * @param offset
+     *            absolute index in <code>packedDecimal</code> of the first byte of the Packed Decimal
+     * @param precision
+     *            number of decimal digits. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> may be thrown
+     * 
+     * @throws NullPointerException
+     *             if <code>packedDecimal</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the decimal is not within the limit of the buffer
+     * @throws java.nio.ReadOnlyBufferException
+     *             if the buffer that will hold the result is read-only
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and overflow occurs
+     */
+    public static void convertIntegerToPackedDecimal(int integerValue, ByteBuffer packedDecimal, int offset,
+            int precision, boolean checkOverflow) {
+        DecimalBuffer.checkRange(packedDecimal, offset, CommonData.getPackedByteCount(precision), "convertIntegerToPackedDecimal", "packedDecimal");
+        if (packedDecimal.hasArray()) {
+            convertIntegerToPackedDecimal(integerValue, packedDecimal.array(), packedDecimal.arrayOffset() + offset,
+                    precision, checkOverflow);
+            return;
+        }
+
+        if (packedDecimal.isReadOnly())
+            throw new ReadOnlyBufferException();
+
+        long address = DecimalBuffer.address(packedDecimal);
+        if (address != 0)
+            convertIntegerToPackedDecimal_(integerValue, packedDecimal, offset, precision, checkOverflow, address,
+                    packedDecimal.capacity(), 0);
+        else
+            putPackedDecimal(integerValue, packedDecimal, offset, precision, checkOverflow);
+    }
+
+    /**
+     * Converts a long to a Packed Decimal in a ByteBuffer.
+     * See {@link #convertLongToPackedDecimal(long, byte[], int, int, boolean)} for details.
+     * 
+     * @param longValue
+     *            the value to convert
+     * @param packedDecimal
+     *            buffer which will hold the Packed Decimal on a successful return
+     * @param offset
+     *            absolute index in <code>packedDecimal</code> of the first byte of the Packed Decimal
+     * @param precision
+     *            number of decimal digits. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> may be thrown
+     * 
+     * @throws NullPointerException
+     *             if <code>packedDecimal</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the decimal is not within the limit of the buffer
+     * @throws java.nio.ReadOnlyBufferException
+     *             if the buffer that will hold the result is read-only
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and overflow occurs
+     */
+    public static void convertLongToPackedDecimal(long longValue, ByteBuffer packedDecimal, int offset,
+            int precision, boolean checkOverflow) {
+        DecimalBuffer.checkRange(packedDecimal, offset, CommonData.getPackedByteCount(precision), "convertLongToPackedDecimal", "packedDecimal");
+        if (packedDecimal.hasArray()) {
+            convertLongToPackedDecimal(longValue, packedDecimal.array(), packedDecimal.arrayOffset() + offset,
+                    precision, checkOverflow);
+            return;
+        }
+
+        if (packedDecimal.isReadOnly())
+            throw new ReadOnlyBufferException();
+
+        long address = DecimalBuffer.address(packedDecimal);
+        if (address != 0)
+            convertLongToPackedDecimal_(longValue, packedDecimal, offset, precision, checkOverflow, address,
+                    packedDecimal.capacity(), 0);
+        else
+            putPackedDecimal(longValue, packedDecimal, offset, precision, checkOverflow);
+    }
+
+    /**
+     * Converts a BigDecimal to a Packed Decimal in a ByteBuffer.
+     * See {@link #convertBigDecimalToPackedDecimal(BigDecimal, byte[], int, int, boolean)} for details.
+     * 
+     * @param bigDecimalValue
+     *            the value to convert
+     * @param packedDecimal
+     *            buffer which will hold the Packed Decimal on a successful return
+     * @param offset
+     *            absolute index in <code>packedDecimal</code> of the first byte of the Packed Decimal
+     * @param precision
+     *            number of decimal digits. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> may be thrown
+     * 
+     * @throws NullPointerException
+     *             if <code>packedDecimal</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the decimal is not within the limit of the buffer
+     * @throws java.nio.ReadOnlyBufferException
+     *             if the buffer that will hold the result is read-only
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and overflow occurs
+     */
+    public static void convertBigDecimalToPackedDecimal(BigDecimal bigDecimalValue, ByteBuffer packedDecimal,
+            int offset, int precision, boolean checkOverflow) {
+        byte[] packedDecimalArray = DecimalBuffer.array(packedDecimal, offset, CommonData.getPackedByteCount(precision), "convertBigDecimalToPackedDecimal", "packedDecimal");
+        convertBigDecimalToPackedDecimal(bigDecimalValue, packedDecimalArray,
+                DecimalBuffer.index(packedDecimal, offset), precision, checkOverflow);
+        DecimalBuffer.update(packedDecimal, offset, packedDecimalArray);
+    }
+
+    /**
+     * Converts an External Decimal value in a ByteBuffer into a binary integer.
+     * See {@link #convertExternalDecimalToInteger(byte[], int, int, boolean, int)} for details.
+     * 
+     * @param externalDecimal
+     *            buffer holding the External Decimal
+     * @param offset
+     *            absolute index in <code>externalDecimal</code> of the first byte of the External Decimal
+     * @param precision
+     *            number of decimal digits. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> may be thrown
+     * @param decimalType
+     *            constant value indicating the type of External Decimal
+     * 
+     * @return the resulting binary integer value
+     * 
+     * @throws NullPointerException
+     *             if <code>externalDecimal</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the decimal is not within the limit of the buffer
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and overflow occurs
+     * @throws IllegalArgumentException
+     *             if <code>decimalType</code> or <code>precision</code> is invalid
+     */
+    public static int convertExternalDecimalToInteger(ByteBuffer externalDecimal, int offset, int precision,
+            boolean checkOverflow, int decimalType) {
+        byte[] externalDecimalArray = DecimalBuffer.array(externalDecimal, offset, CommonData.getExternalByteCounts(precision, decimalType), "convertExternalDecimalToInteger", "externalDecimal");
+        return convertExternalDecimalToInteger(externalDecimalArray, DecimalBuffer.index(externalDecimal, offset),
+                precision, checkOverflow, decimalType);
+    }
+
+    /**
+     * Converts an External Decimal value in a ByteBuffer into a binary long.
+     * See {@link #convertExternalDecimalToLong(byte[], int, int, boolean, int)} for details.
+     * 
+     * @param externalDecimal
+     *            buffer holding the External Decimal
+     * @param offset
+     *            absolute index in <code>externalDecimal</code> of the first byte of the External Decimal
+     * @param precision
+     *            number of decimal digits. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> may be thrown
+     * @param decimalType
+     *            constant value indicating the type of External Decimal
+     * 
+     * @return the resulting binary long value
+     * 
+     * @throws NullPointerException
+     *             if <code>externalDecimal</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the decimal is not within the limit of the buffer
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and overflow occurs
+     * @throws IllegalArgumentException
+     *             if <code>decimalType</code> or <code>precision</code> is invalid
+     */
+    public static long convertExternalDecimalToLong(ByteBuffer externalDecimal, int offset, int precision,
+            boolean checkOverflow, int decimalType) {
+        byte[] externalDecimalArray = DecimalBuffer.array(externalDecimal, offset, CommonData.getExternalByteCounts(precision, decimalType), "convertExternalDecimalToLong", "externalDecimal");
+        return convertExternalDecimalToLong(externalDecimalArray, DecimalBuffer.index(externalDecimal, offset),
+                precision, checkOverflow, decimalType);
+    }
+
+    /**
+     * Converts an integer to an External Decimal in a ByteBuffer.
+     * See {@link #convertIntegerToExternalDecimal(int, byte[], int, int, boolean, int)} for details.
+     * 
+     * @param integerValue
+     *            the value to convert
+     * @param externalDecimal
+     *            buffer which will hold the External Decimal on a successful return
+     * @param offset
+     *            absolute index in <code>externalDecimal</code> of the first byte of the External Decimal
+     * @param precision
+     *            number of decimal digits. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> may be thrown
+     * @param decimalType
+     *            constant value indicating the type of External Decimal
+     * 
+     * @throws NullPointerException
+     *             if <code>externalDecimal</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the decimal is not within the limit of the buffer
+     * @throws java.nio.ReadOnlyBufferException
+     *             if the buffer that will hold the result is read-only
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and overflow occurs
+     * @throws IllegalArgumentException
+     *             if <code>decimalType</code> or <code>precision</code> is invalid
+     */
+    public static void convertIntegerToExternalDecimal(int integerValue, ByteBuffer externalDecimal, int offset,
+            int precision, boolean checkOverflow, int decimalType) {
+        byte[] externalDecimalArray = DecimalBuffer.array(externalDecimal, offset, CommonData.getExternalByteCounts(precision, decimalType), "convertIntegerToExternalDecimal", "externalDecimal");
+        convertIntegerToExternalDecimal(integerValue, externalDecimalArray,
+                DecimalBuffer.index(externalDecimal, offset), precision, checkOverflow, decimalType);
+        DecimalBuffer.update(externalDecimal, offset, externalDecimalArray);
+    }
+
+    /**
+     * Converts a long to an External Decimal in a ByteBuffer.
+     * See {@link #convertLongToExternalDecimal(long, byte[], int, int, boolean, int)} for details.
+     * 
+     * @param longValue
+     *            the value to convert
+     * @param externalDecimal
+     *            buffer which will hold the External Decimal on a successful return
+     * @param offset
+     *            absolute index in <code>externalDecimal</code> of the first byte of the External Decimal
+     * @param precision
+     *            number of decimal digits. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> may be thrown
+     * @param decimalType
+     *            constant value indicating the type of External Decimal
+     * 
+     * @throws NullPointerException
+     *             if <code>externalDecimal</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the decimal is not within the limit of the buffer
+     * @throws java.nio.ReadOnlyBufferException
+     *             if the buffer that will hold the result is read-only
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and overflow occurs
+     * @throws IllegalArgumentException
+     *             if <code>decimalType</code> or <code>precision</code> is invalid
+     */
+    public static void convertLongToExternalDecimal(long longValue, ByteBuffer externalDecimal, int offset,
+            int precision, boolean checkOverflow, int decimalType) {
+        byte[] externalDecimalArray = DecimalBuffer.array(externalDecimal, offset, CommonData.getExternalByteCounts(precision, decimalType), "convertLongToExternalDecimal", "externalDecimal");
+        convertLongToExternalDecimal(longValue, externalDecimalArray, DecimalBuffer.index(externalDecimal, offset),
+                precision, checkOverflow, decimalType);
+        DecimalBuffer.update(externalDecimal, offset, externalDecimalArray);
+    }
+
+    /**
+     * Converts a Packed Decimal in a ByteBuffer into an External Decimal in another ByteBuffer.
+     * See {@link #convertPackedDecimalToExternalDecimal(byte[], int, byte[], int, int, int)} for details.
+     * 
+     * @param packedDecimal
+     *            buffer holding the Packed Decimal
+     * @param packedOffset
+     *            absolute index in <code>packedDecimal</code> of the first byte of the Packed Decimal
+     * @param externalDecimal
+     *            buffer which will hold the External Decimal on a successful return
+     * @param externalOffset
+     *            absolute index in <code>externalDecimal</code> of the first byte of the External Decimal
+     * @param precision
+     *            number of decimal digits. Maximum valid precision is 253
+     * @param decimalType
+     *            constant value indicating the type of External Decimal
+     * 
+     * @throws NullPointerException
+     *             if <code>packedDecimal</code> or <code>externalDecimal</code> are null
+     * @throws IndexOutOfBoundsException
+     *             if the decimal is not within the limit of the buffer
+     * @throws java.nio.ReadOnlyBufferException
+     *             if the buffer that will hold the result is read-only
+     * @throws IllegalArgumentException
+     *             if <code>decimalType</code> or <code>precision</code> is invalid
+     */
+    public static void convertPackedDecimalToExternalDecimal(ByteBuffer packedDecimal, int packedOffset,
+            ByteBuffer externalDecimal, int externalOffset, int precision, int decimalType) {
+        byte[] packedDecimalArray = DecimalBuffer.array(packedDecimal, packedOffset, CommonData.getPackedByteCount(precision), "convertPackedDecimalToExternalDecimal", "packedDecimal");
+        byte[] externalDecimalArray = DecimalBuffer.array(externalDecimal, externalOffset, CommonData.getExternalByteCounts(precision, decimalType), "convertPackedDecimalToExternalDecimal", "externalDecimal");
+        convertPackedDecimalToExternalDecimal(packedDecimalArray, DecimalBuffer.index(packedDecimal, packedOffset),
+                externalDecimalArray, DecimalBuffer.index(externalDecimal, externalOffset), precision, decimalType);
+        DecimalBuffer.update(externalDecimal, externalOffset, externalDecimalArray);
+    }
+
+    /**
+     * Converts an External Decimal in a ByteBuffer into a Packed Decimal in another ByteBuffer.
+     * See {@link #convertExternalDecimalToPackedDecimal(byte[], int, byte[], int, int, int)} for details.
+     * 
+     * @param externalDecimal
+     *            buffer holding the External Decimal
+     * @param externalOffset
+     *            absolute index in <code>externalDecimal</code> of the first byte of the External Decimal
+     * @param packedDecimal
+     *            buffer which will hold the Packed Decimal on a successful return
+     * @param packedOffset
+     *            absolute index in <code>packedDecimal</code> of the first byte of the Packed Decimal
+     * @param precision
+     *            number of decimal digits. Maximum valid precision is 253
+     * @param decimalType
+     *            constant value indicating the type of External Decimal
+     * 
+     * @throws NullPointerException
+     *             if <code>externalDecimal</code> or <code>packedDecimal</code> are null
+     * @throws IndexOutOfBoundsException
+     *             if the decimal is not within the limit of the buffer
+     * @throws java.nio.ReadOnlyBufferException
+     *             if the buffer that will hold the result is read-only
+     * @throws IllegalArgumentException
+     *             if <code>decimalType</code> or <code>precision</code> is invalid
+     */
+    public static void convertExternalDecimalToPackedDecimal(ByteBuffer externalDecimal, int externalOffset,
+            ByteBuffer packedDecimal, int packedOffset, int precision, int decimalType) {
+        byte[] externalDecimalArray = DecimalBuffer.array(externalDecimal, externalOffset, CommonData.getExternalByteCounts(precision, decimalType), "convertExternalDecimalToPackedDecimal", "externalDecimal");
+        byte[] packedDecimalArray = DecimalBuffer.array(packedDecimal, packedOffset, CommonData.getPackedByteCount(precision), "convertExternalDecimalToPackedDecimal", "packedDecimal");
+        convertExternalDecimalToPackedDecimal(externalDecimalArray,
+                DecimalBuffer.index(externalDecimal, externalOffset), packedDecimalArray,
+                DecimalBuffer.index(packedDecimal, packedOffset), precision, decimalType);
+        DecimalBuffer.update(packedDecimal, packedOffset, packedDecimalArray);
+    }
+
+    /*
+     * The following four methods are recognized by the JIT for buffers that are not backed by an accessible
+     * array. If the address is not 0, the JIT accesses the Packed Decimal directly at
+     * address + position + offset. The ByteBuffer overloads above pass the native address of index 0 of the
+     * buffer and a position of 0, because their offsets are absolute indices. The capacity is not used.
+     * Otherwise, the Packed Decimal is read or written in place with the absolute get and put methods of the
+     * buffer.
+     */
+
+    private static int convertPackedDecimalToInteger_(ByteBuffer packedDecimal, int offset, int precision,
+            boolean checkOverflow, long address, int capacity, int position) {
+        return (int) getPackedDecimal(packedDecimal, position + offset, precision, checkOverflow, true);
+    }
+
+    private static long convertPackedDecimalToLong_(ByteBuffer packedDecimal, int offset, int precision,
+            boolean checkOverflow, long address, int capacity, int position) {
+        return getPackedDecimal(packedDecimal, position + offset, precision, checkOverflow, false);
+    }
+
+    private static void convertIntegerToPackedDecimal_(int integerValue, ByteBuffer packedDecimal, int offset,
+            int precision, boolean checkOverflow, long address, int capacity, int position) {
+        putPackedDecimal(integerValue, packedDecimal, position + offset, precision, checkOverflow);
+    }
+
+    private static void convertLongToPackedDecimal_(long longValue, ByteBuffer packedDecimal, int offset,
+            int precision, boolean checkOverflow, long address, int capacity, int position) {
+        putPackedDecimal(longValue, packedDecimal, position + offset, precision, checkOverflow);
+    }
+
+    /**
+     * Reads the Packed Decimal at the absolute index <code>offset</code> of a buffer in place. This follows
+     * <code>convertPackedDecimalToInteger_(byte[], int, int, boolean)</code> if <code>isInteger</code> is true,
+     * and <code>convertPackedDecimalToLong_(byte[], int, int, boolean)</code> otherwise.
+     */
+    private static long getPackedDecimal(ByteBuffer packedDecimal, int offset, int precision,
+            boolean checkOverflow, boolean isInteger) {
+        long value = 0;
+        int bytes = CommonData.getPackedByteCount(precision);
+        int end = offset + bytes - 1;
+        int last = packedDecimal.get(end) & CommonData.INTEGER_MASK;
+        byte sign = CommonData.getSign((byte) (last & CommonData.LOWER_NIBBLE_MASK));
+
+        // Skip the first byte if the precision is even and the low-order nibble is zero
+        if (precision % 2 == 0 && (packedDecimal.get(offset) & CommonData.LOWER_NIBBLE_MASK) == 0x00)
+        {
+            precision--;
+            offset++;
+        }
+
+        // Skip consecutive zero bytes
+        for (; offset < end && packedDecimal.get(offset) == CommonData.PACKED_ZERO; offset++)
+        {
+            precision -= 2;
+        }
+
+        if (checkOverflow)
+        {
+            // Skip high-order zero if and only if precision is odd
+            if (precision % 2 == 1 && (packedDecimal.get(offset) & CommonData.HIGHER_NIBBLE_MASK) == 0x00)
+            {
+                precision--;
+            }
+
+            if (isInteger && precision > 10)
+                throw new ArithmeticException(
+                        "Decimal overflow - Packed Decimal too large for an int");
+            if (precision > 19)
+                throw new ArithmeticException(
+                        "Decimal overflow - Packed Decimal too large for a long");
+        }
+
+        for (int pos = offset; pos <= end - 1; ++pos)
+        {
+            value = value * 100 + CommonData.getPackedToBinaryValues(packedDecimal.get(pos));
+        }
+
+        value = value * 10 + ((last & CommonData.HIGHER_NIBBLE_MASK) >> 4);
+
+        if (sign == CommonData.PACKED_MINUS)
+            value = -value;
+
+        if (checkOverflow)
+        {
+            if (isInteger)
+            {
+                if (value > Integer.MAX_VALUE || value < Integer.MIN_VALUE)
+                    throw new ArithmeticException(
+                            "Decimal overflow - Packed Decimal too large for a int");
+            }
+            else if ((sign == CommonData.PACKED_PLUS && value < 0) || (sign == CommonData.PACKED_MINUS && value > 0))
+            {
+                throw new ArithmeticException(
+                        "Decimal overflow - Packed Decimal too large for a long");
+            }
+        }
+
+        return value;
+    }
+
+    /**
+     * Writes a Packed Decimal at the absolute index <code>offset</code> of a buffer in place. This follows
+     * <code>convertLongToPackedDecimal_(long, byte[], int, int, boolean)</code>.
+     */
+    private static void putPackedDecimal(long longValue, ByteBuffer packedDecimal, int offset, int precision,
+            boolean checkOverflow) {
+        long value;
+        int bytes = CommonData.getPackedByteCount(precision);
+        int last = offset + bytes - 1;
+        int i;
+        boolean evenPrecision = (precision % 2 == 0) ? true : false;
+
+        if (checkOverflow) {
+            if (precision < 1)
+                throw new ArithmeticException(
+                        "Decimal overflow - Packed Decimal precision lesser than 1");
+
+            if (numDigits(longValue) > precision)
+                throw new ArithmeticException(
+                        "Decimal overflow - Packed Decimal precision insufficient");
+        }
+
+        if (longValue < 0) {
+            packedDecimal.put(last, (byte) ((Math.abs(longValue) % 10) << 4 | CommonData.PACKED_MINUS));
+            value = Math.abs(longValue / 10);
+        } else {
+            value = longValue;
+            packedDecimal.put(last, (byte) ((value % 10) << 4 | CommonData.PACKED_PLUS));
+            value = value / 10;
+        }
+
+        // fill in high/low nibble pairs from next-to-last up to first
+        for (i = last - 1; i > offset && value != 0; i--) {
+            packedDecimal.put(i, CommonData.getBinaryToPackedValues((int) (value % 100)));
+            value = value / 100;
+        }
+
+        if (i == offset && value != 0) {
+            if (evenPrecision)
+                packedDecimal.put(i, (byte) (CommonData.getBinaryToPackedValues((int) (value % 100)) & CommonData.LOWER_NIBBLE_MASK));
+            else
+                packedDecimal.put(i, CommonData.getBinaryToPackedValues((int) (value % 100)));
+            value = value / 100;
+            i--;
+        }
+
+        if (checkOverflow && value != 0) {
+            throw new ArithmeticException(
+                    "Decimal overflow - Packed Decimal precision insufficient");
+        }
+        for (; i >= offset; i--) {
+            packedDecimal.put(i, CommonData.PACKED_ZERO);
+        }
+    }
+
+    /*[IF JAVA_SPEC_VERSION >= 22]*/
+    /**
+     * Converts a Packed Decimal value in a MemorySegment into a binary integer.
+     * See {@link #convertPackedDecimalToInteger(byte[], int, int, boolean)} for details.
+     * 
+     * @param packedDecimal
+     *            segment holding the Packed Decimal
+     * @param offset
+     *            offset in <code>packedDecimal</code> of the first byte of the Packed Decimal
+     * @param precision
+     *            number of decimal digits. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> may be thrown
+     * 
+     * @return the resulting binary integer value
+     * 
+     * @throws NullPointerException
+     *             if <code>packedDecimal</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the decimal is not within the segment
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and overflow occurs
+     */
+    public static int convertPackedDecimalToInteger(MemorySegment packedDecimal, long offset, int precision,
+            boolean checkOverflow) {
+        ByteBuffer packedDecimalBuffer = DecimalBuffer.slice(packedDecimal, offset, CommonData.getPackedByteCount(precision));
+        return convertPackedDecimalToInteger(packedDecimalBuffer, 0, precision, checkOverflow);
+    }
+
+    /**
+     * Converts a Packed Decimal value in a MemorySegment into a binary long.
+     * See {@link #convertPackedDecimalToLong(byte[], int, int, boolean)} for details.
+     * 
+     * @param packedDecimal
+     *            segment holding the Packed Decimal
+     * @param offset
+     *            offset in <code>packedDecimal</code> of the first byte of the Packed Decimal
+     * @param precision
+     *            number of decimal digits. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> may be thrown
+     * 
+     * @return the resulting binary long value
+     * 
+     * @throws NullPointerException
+     *             if <code>packedDecimal</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the decimal is not within the segment
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and overflow occurs
+     */
+    public static long convertPackedDecimalToLong(MemorySegment packedDecimal, long offset, int precision,
+            boolean checkOverflow) {
+        ByteBuffer packedDecimalBuffer = DecimalBuffer.slice(packedDecimal, offset, CommonData.getPackedByteCount(precision));
+        return convertPackedDecimalToLong(packedDecimalBuffer, 0, precision, checkOverflow);
+    }
+
+    /**
+     * Converts a Packed Decimal value in a MemorySegment into a BigDecimal.
+     * See {@link #convertPackedDecimalToBigDecimal(byte[], int, int, int, boolean)} for details.
+     * 
+     * @param packedDecimal
+     *            segment holding the Packed Decimal
+     * @param offset
+     *            offset in <code>packedDecimal</code> of the first byte of the Packed Decimal
+     * @param precision
+     *            number of decimal digits. Maximum valid precision is 253
+     * @param scale
+     *            scale of the returned BigDecimal
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> may be thrown
+     * 
+     * @return the resulting BigDecimal value
+     * 
+     * @throws NullPointerException
+     *             if <code>packedDecimal</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the decimal is not within the segment
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and overflow occurs
+     */
+    public static BigDecimal convertPackedDecimalToBigDecimal(MemorySegment packedDecimal, long offset,
+            int precision, int scale, boolean checkOverflow) {
+        ByteBuffer packedDecimalBuffer = DecimalBuffer.slice(packedDecimal, offset, CommonData.getPackedByteCount(precision));
+        return convertPackedDecimalToBigDecimal(packedDecimalBuffer, 0, precision, scale, checkOverflow);
+    }
+
+    /**
+     * Converts an integer to a Packed Decimal in a MemorySegment.
+     * See {@link #convertIntegerToPackedDecimal(int, byte[], int, int, boolean)} for details.
+     * 
+     * @param integerValue
+     *            the value to convert
+     * @param packedDecimal
+     *            segment which will hold the Packed Decimal on a successful return
+     * @param offset
+     *            offset in <code>packedDecimal</code> of the first byte of the Packed Decimal
+     * @param precision
+     *            number of decimal digits. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> may be thrown
+     * 
+     * @throws NullPointerException
+     *             if <code>packedDecimal</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the decimal is not within the segment
+     * @throws java.nio.ReadOnlyBufferException
+     *             if the segment that will hold the result is read-only
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and overflow occurs
+     */
+    public static void convertIntegerToPackedDecimal(int integerValue, MemorySegment packedDecimal, long offset,
+            int precision, boolean checkOverflow) {
+        ByteBuffer packedDecimalBuffer = DecimalBuffer.slice(packedDecimal, offset, CommonData.getPackedByteCount(precision));
+        convertIntegerToPackedDecimal(integerValue, packedDecimalBuffer, 0, precision, checkOverflow);
+        DecimalBuffer.update(packedDecimal, offset, packedDecimalBuffer);
+    }
+
+    /**
+     * Converts a long to a Packed Decimal in a MemorySegment.
+     * See {@link #convertLongToPackedDecimal(long, byte[], int, int, boolean)} for details.
+     * 
+     * @param longValue
+     *            the value to convert
+     * @param packedDecimal
+     *            segment which will hold the Packed Decimal on a successful return
+     * @param offset
+     *            offset in <code>packedDecimal</code> of the first byte of the Packed Decimal
+     * @param precision
+     *            number of decimal digits. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> may be thrown
+     * 
+     * @throws NullPointerException
+     *             if <code>packedDecimal</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the decimal is not within the segment
+     * @throws java.nio.ReadOnlyBufferException
+     *             if the segment that will hold the result is read-only
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and overflow occurs
+     */
+    public static void convertLongToPackedDecimal(long longValue, MemorySegment packedDecimal, long offset,
+            int precision, boolean checkOverflow) {
+        ByteBuffer packedDecimalBuffer = DecimalBuffer.slice(packedDecimal, offset, CommonData.getPackedByteCount(precision));
+        convertLongToPackedDecimal(longValue, packedDecimalBuffer, 0, precision, checkOverflow);
+        DecimalBuffer.update(packedDecimal, offset, packedDecimalBuffer);
+    }
+
+    /**
+     * Converts a BigDecimal to a Packed Decimal in a MemorySegment.
+     * See {@link #convertBigDecimalToPackedDecimal(BigDecimal, byte[], int, int, boolean)} for details.
+     * 
+     * @param bigDecimalValue
+     *            the value to convert
+     * @param packedDecimal
+     *            segment which will hold the Packed Decimal on a successful return
+     * @param offset
+     *            offset in <code>packedDecimal</code> of the first byte of the Packed Decimal
+     * @param precision
+     *            number of decimal digits. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> may be thrown
+     * 
+     * @throws NullPointerException
+     *             if <code>packedDecimal</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the decimal is not within the segment
+     * @throws java.nio.ReadOnlyBufferException
+     *             if the segment that will hold the result is read-only
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and overflow occurs
+     */
+    public static void convertBigDecimalToPackedDecimal(BigDecimal bigDecimalValue, MemorySegment packedDecimal,
+            long offset, int precision, boolean checkOverflow) {
+        ByteBuffer packedDecimalBuffer = DecimalBuffer.slice(packedDecimal, offset, CommonData.getPackedByteCount(precision));
+        convertBigDecimalToPackedDecimal(bigDecimalValue, packedDecimalBuffer, 0, precision, checkOverflow);
+        DecimalBuffer.update(packedDecimal, offset, packedDecimalBuffer);
+    }
+
+    /**
+     * Converts an External Decimal value in a MemorySegment into a binary integer.
+     * See {@link #convertExternalDecimalToInteger(byte[], int, int, boolean, int)} for details.
+     * 
+     * @param externalDecimal
+     *            segment holding the External Decimal
+     * @param offset
+     *            offset in <code>externalDecimal</code> of the first byte of the External Decimal
+     * @param precision
+     *            number of decimal digits. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> may be thrown
+     * @param decimalType
+     *            constant value indicating the type of External Decimal
+     * 
+     * @return the resulting binary integer value
+     * 
+     * @throws NullPointerException
+     *             if <code>externalDecimal</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the decimal is not within the segment
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and overflow occurs
+     * @throws IllegalArgumentException
+     *             if <code>decimalType</code> or <code>precision</code> is invalid
+     */
+    public static int convertExternalDecimalToInteger(MemorySegment externalDecimal, long offset, int precision,
+            boolean checkOverflow, int decimalType) {
+        ByteBuffer externalDecimalBuffer = DecimalBuffer.slice(externalDecimal, offset, CommonData.getExternalByteCounts(precision, decimalType));
+        return convertExternalDecimalToInteger(externalDecimalBuffer, 0, precision, checkOverflow, decimalType);
+    }
+
+    /**
+     * Converts an External Decimal value in a MemorySegment into a binary long.
+     * See {@link #convertExternalDecimalToLong(byte[], int, int, boolean, int)} for details.
+     * 
+     * @param externalDecimal
+     *            segment holding the External Decimal
+     * @param offset
+     *            offset in <code>externalDecimal</code> of the first byte of the External Decimal
+     * @param precision
+     *            number of decimal digits. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> may be thrown
+     * @param decimalType
+     *            constant value indicating the type of External Decimal
+     * 
+     * @return the resulting binary long value
+     * 
+     * @throws NullPointerException
+     *             if <code>externalDecimal</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the decimal is not within the segment
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and overflow occurs
+     * @throws IllegalArgumentException
+     *             if <code>decimalType</code> or <code>precision</code> is invalid
+     */
+    public static long convertExternalDecimalToLong(MemorySegment externalDecimal, long offset, int precision,
+            boolean checkOverflow, int decimalType) {
+        ByteBuffer externalDecimalBuffer = DecimalBuffer.slice(externalDecimal, offset, CommonData.getExternalByteCounts(precision, decimalType));
+        return convertExternalDecimalToLong(externalDecimalBuffer, 0, precision, checkOverflow, decimalType);
+    }
+
+    /**
+     * Converts an integer to an External Decimal in a MemorySegment.
+     * See {@link #convertIntegerToExternalDecimal(int, byte[], int, int, boolean, int)} for details.
+     * 
+     * @param integerValue
+     *            the value to convert
+     * @param externalDecimal
+     *            segment which will hold the External Decimal on a successful return
+     * @param offset
+     *            offset in <code>externalDecimal</code> of the first byte of the External Decimal
+     * @param precision
+     *            number of decimal digits. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> may be thrown
+     * @param decimalType
+     *            constant value indicating the type of External Decimal
+     * 
+     * @throws NullPointerException
+     *             if <code>externalDecimal</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the decimal is not within the segment
+     * @throws java.nio.ReadOnlyBufferException
+     *             if the segment that will hold the result is read-only
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and overflow occurs
+     * @throws IllegalArgumentException
+     *             if <code>decimalType</code> or <code>precision</code> is invalid
+     */
+    public static void convertIntegerToExternalDecimal(int integerValue, MemorySegment externalDecimal, long offset,
+            int precision, boolean checkOverflow, int decimalType) {
+        ByteBuffer externalDecimalBuffer = DecimalBuffer.slice(externalDecimal, offset, CommonData.getExternalByteCounts(precision, decimalType));
+        convertIntegerToExternalDecimal(integerValue, externalDecimalBuffer, 0, precision, checkOverflow, decimalType);
+        DecimalBuffer.update(externalDecimal, offset, externalDecimalBuffer);
+    }
+
+    /**
+     * Converts a long to an External Decimal in a MemorySegment.
+     * See {@link #convertLongToExternalDecimal(long, byte[], int, int, boolean, int)} for details.
+     * 
+     * @param longValue
+     *            the value to convert
+     * @param externalDecimal
+     *            segment which will hold the External Decimal on a successful return
+     * @param offset
+     *            offset in <code>externalDecimal</code> of the first byte of the External Decimal
+     * @param precision
+     *            number of decimal digits. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> may be thrown
+     * @param decimalType
+     *            constant value indicating the type of External Decimal
+     * 
+     * @throws NullPointerException
+     *             if <code>externalDecimal</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the decimal is not within the segment
+     * @throws java.nio.ReadOnlyBufferException
+     *             if the segment that will hold the result is read-only
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and overflow occurs
+     * @throws IllegalArgumentException
+     *             if <code>decimalType</code> or <code>precision</code> is invalid
+     */
+    public static void convertLongToExternalDecimal(long longValue, MemorySegment externalDecimal, long offset,
+            int precision, boolean checkOverflow, int decimalType) {
+        ByteBuffer externalDecimalBuffer = DecimalBuffer.slice(externalDecimal, offset, CommonData.getExternalByteCounts(precision, decimalType));
+        convertLongToExternalDecimal(longValue, externalDecimalBuffer, 0, precision, checkOverflow, decimalType);
+        DecimalBuffer.update(externalDecimal, offset, externalDecimalBuffer);
+    }
+
+    /**
+     * Converts a Packed Decimal in a MemorySegment into an External Decimal in another MemorySegment.
+     * See {@link #convertPackedDecimalToExternalDecimal(byte[], int, byte[], int, int, int)} for details.
+     * 
+     * @param packedDecimal
+     *            segment holding the Packed Decimal
+     * @param packedOffset
+     *            offset in <code>packedDecimal</code> of the first byte of the Packed Decimal
+     * @param externalDecimal
+     *            segment which will hold the External Decimal on a successful return
+     * @param externalOffset
+     *            offset in <code>externalDecimal</code> of the first byte of the External Decimal
+     * @param precision
+     *            number of decimal digits. Maximum valid precision is 253
+     * @param decimalType
+     *            constant value indicating the type of External Decimal
+     * 
+     * @throws NullPointerException
+     *             if <code>packedDecimal</code> or <code>externalDecimal</code> are null
+     * @throws IndexOutOfBoundsException
+     *             if the decimal is not within the segment
+     * @throws java.nio.ReadOnlyBufferException
+     *             if the segment that will hold the result is read-only
+     * @throws IllegalArgumentException
+     *             if <code>decimalType</code> or <code>precision</code> is invalid
+     */
+    public static void convertPackedDecimalToExternalDecimal(MemorySegment packedDecimal, long packedOffset,
+            MemorySegment externalDecimal, long externalOffset, int precision, int decimalType) {
+        ByteBuffer packedDecimalBuffer = DecimalBuffer.slice(packedDecimal, packedOffset, CommonData.getPackedByteCount(precision));
+        ByteBuffer externalDecimalBuffer = DecimalBuffer.slice(externalDecimal, externalOffset, CommonData.getExternalByteCounts(precision, decimalType));
+        convertPackedDecimalToExternalDecimal(packedDecimalBuffer, 0, externalDecimalBuffer, 0, precision, decimalType);
+        DecimalBuffer.update(externalDecimal, externalOffset, externalDecimalBuffer);
+    }
+
+    /**
+     * Converts an External Decimal in a MemorySegment into a Packed Decimal in another MemorySegment.
+     * See {@link #convertExternalDecimalToPackedDecimal(byte[], int, byte[], int, int, int)} for details.
+     * 
+     * @param externalDecimal
+     *            segment holding the External Decimal
+     * @param externalOffset
+     *            offset in <code>externalDecimal</code> of the first byte of the External Decimal
+     * @param packedDecimal
+     *            segment which will hold the Packed Decimal on a successful return
+     * @param packedOffset
+     *            offset in <code>packedDecimal</code> of the first byte of the Packed Decimal
+     * @param precision
+     *            number of decimal digits. Maximum valid precision is 253
+     * @param decimalType
+     *            constant value indicating the type of External Decimal
+     * 
+     * @throws NullPointerException
+     *             if <code>externalDecimal</code> or <code>packedDecimal</code> are null
+     * @throws IndexOutOfBoundsException
+     *             if the decimal is not within the segment
+     * @throws java.nio.ReadOnlyBufferException
+     *             if the segment that will hold the result is read-only
+     * @throws IllegalArgumentException
+     *             if <code>decimalType</code> or <code>precision</code> is invalid
+     */
+    public static void convertExternalDecimalToPackedDecimal(MemorySegment externalDecimal, long externalOffset,
+            MemorySegment packedDecimal, long packedOffset, int precision, int decimalType) {
+        ByteBuffer externalDecimalBuffer = DecimalBuffer.slice(externalDecimal, externalOffset, CommonData.getExternalByteCounts(precision, decimalType));
+        ByteBuffer packedDecimalBuffer = DecimalBuffer.slice(packedDecimal, packedOffset, CommonData.getPackedByteCount(precision));
+        convertExternalDecimalToPackedDecimal(externalDecimalBuffer, 0, packedDecimalBuffer, 0, precision, decimalType);
+        DecimalBuffer.update(packedDecimal, packedOffset, packedDecimalBuffer);
+    }
+    /*[ENDIF] JAVA_SPEC_VERSION >= 22 */
 }
@@ -22,6 +22,11 @@
  */
 package com.ibm.dataaccess;
 
+/*[IF JAVA_SPEC_VERSION >= 22]*/
+import java.lang.foreign.MemorySegment;
+/*[ENDIF] JAVA_SPEC_VERSION >= 22 */
+import java.nio.ByteBuffer;
+
 public class ExternalDecimal {
     /**
      * Private constructor, class contains only static methods.
@@ -169,4 +174,67 @@ public class ExternalDecimal {
         }
         return returnCode;
     }
+
+    /**
+     * Checks the validity of an External Decimal in a ByteBuffer.
+     * See {@link #checkExternalDecimal(byte[], int, int, int, int)} for details.
+     * 
+     * @param externalDecimal
+     *            buffer holding the External Decimal
+     * @param offset
+     *            absolute index in <code>externalDecimal</code> of the first byte of the External Decimal
+     * @param precision
+     *            number of decimal digits. Maximum valid precision is 253
+     * @param decimalType
+     *            constant value indicating the type of External Decimal
+     * @param bytesWithSpaces
+     *            number of left most bytes containing EBCDIC space character if sign is embedded, ignored otherwise
+     * 
+     * @return the condition code: 0 if all digit codes and the sign are valid, 1 if the sign is invalid, 2 if at least one digit code is invalid, 3 if sign and at least one digit code is invalid
+     * 
+     * @throws NullPointerException
+     *             if <code>externalDecimal</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the decimal is not within the limit of the buffer
+     * @throws IllegalArgumentException
+     *             if <code>precision</code>, <code>decimalType</code> or <code>bytesWithSpaces</code> is invalid
+     */
+    public static int checkExternalDecimal(ByteBuffer externalDecimal, int offset, int precision, int decimalType,
+            int bytesWithSpaces) {
+        byte[] externalDecimalArray = DecimalBuffer.array(externalDecimal, offset, CommonData.getExternalByteCounts(precision, decimalType), "checkExternalDecimal", "externalDecimal");
+        return checkExternalDecimal(externalDecimalArray, DecimalBuffer.index(externalDecimal, offset), precision,
+                decimalType, bytesWithSpaces);
+    }
+
+    /*[IF JAVA_SPEC_VERSION >= 22]*/
+    /**
+     * Checks the validity of an External Decimal in a MemorySegment.
+     * See {@link #checkExternalDecimal(byte[], int, int, int, int)} for details.
+     * 
+     * @param externalDecimal
+     *            segment holding the External Decimal
+     * @param offset
+     *            offset in <code>externalDecimal</code> of the first byte of the External Decimal
+     * @param precision
+     *            number of decimal digits. Maximum valid precision is 253
+     * @param decimalType
+     *            constant value indicating the type of External Decimal
+     * @param bytesWithSpaces
+     *            number of left most bytes containing EBCDIC space character if sign is embedded, ignored otherwise
+     * 
+     * @return the condition code: 0 if all digit codes and the sign are valid, 1 if the sign is invalid, 2 if at least one digit code is invalid, 3 if sign and at least one digit code is invalid
+     * 
+     * @throws NullPointerException
+     *             if <code>externalDecimal</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the decimal is not within the segment
+     * @throws IllegalArgumentException
+     *             if <code>precision</code>, <code>decimalType</code> or <code>bytesWithSpaces</code> is invalid
+     */
+    public static int checkExternalDecimal(MemorySegment externalDecimal, long offset, int precision,
+            int decimalType, int bytesWithSpaces) {
+        ByteBuffer externalDecimalBuffer = DecimalBuffer.slice(externalDecimal, offset, CommonData.getExternalByteCounts(precision, decimalType));
+        return checkExternalDecimal(externalDecimalBuffer, 0, precision, decimalType, bytesWithSpaces);
+    }
+    /*[ENDIF] JAVA_SPEC_VERSION >= 22 */
 }
@@ -22,7 +22,11 @@
  */
 package com.ibm.dataaccess;
 
+/*[IF JAVA_SPEC_VERSION >= 22]*/
+import java.lang.foreign.MemorySegment;
+/*[ENDIF] JAVA_SPEC_VERSION >= 22 */
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 import com.ibm.dataaccess.CommonData;
@@ -2075,4 +2079,1005 @@ public final class PackedDecimal {
 
     }
 
+    /**
+     * Checks the validity of a Packed Decimal in a ByteBuffer.
+     * See {@link #checkPackedDecimal(byte[], int, int, boolean, boolean)} for details.
+     * 
+     * @param packedDecimal
+     *            buffer holding the Packed Decimal
+     * @param offset
+     *            absolute index in <code>packedDecimal</code> of the first byte of the Packed Decimal
+     * @param precision
+     *            number of decimal digits. Maximum valid precision is 253
+     * @param ignoreHighNibbleForEvenPrecision
+     *            if true, ignore the top nibble of the input in the case of even precision
+     * @param canOverwriteHighNibbleForEvenPrecision
+     *            if true, change the high nibble to a zero in case of even precision
+     * 
+     * @return the condition code: 0 All digit codes and the sign valid 1 Sign invalid 2 At least one digit code invalid 3 Sign invalid and at least one digit code invalid
+     * 
+     * @throws NullPointerException
+     *             if <code>packedDecimal</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the decimal is not within the limit of the buffer
+     * @throws java.nio.ReadOnlyBufferException
+     *             if <code>canOverwriteHighNibbleForEvenPrecision</code> is true and the buffer is read-only
+     */
+    public static int checkPackedDecimal(ByteBuffer packedDecimal, int offset, int precision,
+            boolean ignoreHighNibbleForEvenPrecision, boolean canOverwriteHighNibbleForEvenPrecision) {
+        byte[] packedDecimalArray = DecimalBuffer.array(packedDecimal, offset, CommonData.getPackedByteCount(precision), "checkPackedDecimal", "packedDecimal");
+        int result = checkPackedDecimal(packedDecimalArray, DecimalBuffer.index(packedDecimal, offset), precision,
+                ignoreHighNibbleForEvenPrecision, canOverwriteHighNibbleForEvenPrecision);
+        if (canOverwriteHighNibbleForEvenPrecision)
+            DecimalBuffer.update(packedDecimal, offset, packedDecimalArray);
+        return result;
+    }
+
+    /**
+     * Checks the validity of a Packed Decimal in a ByteBuffer.
+     * See {@link #checkPackedDecimal(byte[], int, int, boolean)} for details.
+     * 
+     * @param packedDecimal
+     *            buffer holding the Packed Decimal
+     * @param offset
+     *            absolute index in <code>packedDecimal</code> of the first byte of the Packed Decimal
+     * @param precision
+     *            number of decimal digits. Maximum valid precision is 253
+     * @param ignoreHighNibbleForEvenPrecision
+     *            if true, ignore the top nibble of the input in the case of even precision
+     * 
+     * @return the condition code: 0 All digit codes and the sign valid 1 Sign invalid 2 At least one digit code invalid 3 Sign invalid and at least one digit code invalid
+     * 
+     * @throws NullPointerException
+     *             if <code>packedDecimal</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the decimal is not within the limit of the buffer
+     */
+    public static int checkPackedDecimal(ByteBuffer packedDecimal, int offset, int precision,
+            boolean ignoreHighNibbleForEvenPrecision) {
+        byte[] packedDecimalArray = DecimalBuffer.array(packedDecimal, offset, CommonData.getPackedByteCount(precision), "checkPackedDecimal", "packedDecimal");
+        return checkPackedDecimal(packedDecimalArray, DecimalBuffer.index(packedDecimal, offset), precision,
+                ignoreHighNibbleForEvenPrecision);
+    }
+
+    /**
+     * Checks the validity of a Packed Decimal in a ByteBuffer.
+     * See {@link #checkPackedDecimal(byte[], int, int)} for details.
+     * 
+     * @param packedDecimal
+     *            buffer holding the Packed Decimal
+     * @param offset
+     *            absolute index in <code>packedDecimal</code> of the first byte of the Packed Decimal
+     * @param precision
+     *            number of decimal digits. Maximum valid precision is 253
+     * 
+     * @return the condition code: 0 All digit codes and the sign valid 1 Sign invalid 2 At least one digit code invalid 3 Sign invalid and at least one digit code invalid
+     * 
+     * @throws NullPointerException
+     *             if <code>packedDecimal</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the decimal is not within the limit of the buffer
+     */
+    public static int checkPackedDecimal(ByteBuffer packedDecimal, int offset, int precision) {
+        byte[] packedDecimalArray = DecimalBuffer.array(packedDecimal, offset, CommonData.getPackedByteCount(precision), "checkPackedDecimal", "packedDecimal");
+        return checkPackedDecimal(packedDecimalArray, DecimalBuffer.index(packedDecimal, offset), precision);
+    }
+
+    /**
+     * Adds two Packed Decimals in ByteBuffers.
+     * See {@link #addPackedDecimal(byte[], int, int, byte[], int, int, byte[], int, int, boolean)} for details.
+     * 
+     * @param result
+     *            buffer which will hold the Packed Decimal on a successful return
+     * @param resultOffset
+     *            absolute index in <code>result</code> of the first byte of the Packed Decimal
+     * @param resultPrecision
+     *            number of Packed Decimal digits in the result. Maximum valid precision is 253
+     * @param op1Decimal
+     *            buffer holding the Packed Decimal
+     * @param op1Offset
+     *            absolute index in <code>op1Decimal</code> of the first byte of the Packed Decimal
+     * @param op1Precision
+     *            number of Packed Decimal digits in the first operand. Maximum valid precision is 253
+     * @param op2Decimal
+     *            buffer holding the Packed Decimal
+     * @param op2Offset
+     *            absolute index in <code>op2Decimal</code> of the first byte of the Packed Decimal
+     * @param op2Precision
+     *            number of Packed Decimal digits in the second operand. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> may be thrown
+     * 
+     * @throws NullPointerException
+     *             if <code>result</code> or <code>op1Decimal</code> or <code>op2Decimal</code> are null
+     * @throws IndexOutOfBoundsException
+     *             if the decimal is not within the limit of the buffer
+     * @throws java.nio.ReadOnlyBufferException
+     *             if the buffer that will hold the result is read-only
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and overflow occurs
+     */
+    public static void addPackedDecimal(ByteBuffer result, int resultOffset, int resultPrecision,
+            ByteBuffer op1Decimal, int op1Offset, int op1Precision, ByteBuffer op2Decimal, int op2Offset,
+            int op2Precision, boolean checkOverflow) {
+        byte[] resultArray = DecimalBuffer.array(result, resultOffset, CommonData.getPackedByteCount(resultPrecision), "addPackedDecimal", "result");
+        byte[] op1DecimalArray = DecimalBuffer.array(op1Decimal, op1Offset, CommonData.getPackedByteCount(op1Precision), "addPackedDecimal", "op1Decimal");
+        byte[] op2DecimalArray = DecimalBuffer.array(op2Decimal, op2Offset, CommonData.getPackedByteCount(op2Precision), "addPackedDecimal", "op2Decimal");
+        addPackedDecimal(resultArray, DecimalBuffer.index(result, resultOffset), resultPrecision, op1DecimalArray,
+                DecimalBuffer.index(op1Decimal, op1Offset), op1Precision, op2DecimalArray,
+                DecimalBuffer.index(op2Decimal, op2Offset), op2Precision, checkOverflow);
+        DecimalBuffer.update(result, resultOffset, resultArray);
+    }
+
+    /**
+     * Subtracts two Packed Decimals in ByteBuffers.
+     * See {@link #subtractPackedDecimal(byte[], int, int, byte[], int, int, byte[], int, int, boolean)} for details.
+     * 
+     * @param result
+     *            buffer which will hold the Packed Decimal on a successful return
+     * @param resultOffset
+     *            absolute index in <code>result</code> of the first byte of the Packed Decimal
+     * @param resultPrecision
+     *            number of Packed Decimal digits in the result. Maximum valid precision is 253
+     * @param op1Decimal
+     *            buffer holding the Packed Decimal
+     * @param op1Offset
+     *            absolute index in <code>op1Decimal</code> of the first byte of the Packed Decimal
+     * @param op1Precision
+     *            number of Packed Decimal digits in the first operand. Maximum valid precision is 253
+     * @param op2Decimal
+     *            buffer holding the Packed Decimal
+     * @param op2Offset
+     *            absolute index in <code>op2Decimal</code> of the first byte of the Packed Decimal
+     * @param op2Precision
+     *            number of Packed Decimal digits in the second operand. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> may be thrown
+     * 
+     * @throws NullPointerException
+     *             if <code>result</code> or <code>op1Decimal</code> or <code>op2Decimal</code> are null
+     * @throws IndexOutOfBoundsException
+     *             if the decimal is not within the limit of the buffer
+     * @throws java.nio.ReadOnlyBufferException
+     *             if the buffer that will hold the result is read-only
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and overflow occurs
+     */
+    public static void subtractPackedDecimal(ByteBuffer result, int resultOffset, int resultPrecision,
+            ByteBuffer op1Decimal, int op1Offset, int op1Precision, ByteBuffer op2Decimal, int op2Offset,
+            int op2Precision, boolean checkOverflow) {
+        byte[] resultArray = DecimalBuffer.array(result, resultOffset, CommonData.getPackedByteCount(resultPrecision), "subtractPackedDecimal", "result");
+        byte[] op1DecimalArray = DecimalBuffer.array(op1Decimal, op1Offset, CommonData.getPackedByteCount(op1Precision), "subtractPackedDecimal", "op1Decimal");
+        byte[] op2DecimalArray = DecimalBuffer.array(op2Decimal, op2Offset, CommonData.getPackedByteCount(op2Precision), "subtractPackedDecimal", "op2Decimal");
+        subtractPackedDecimal(resultArray, DecimalBuffer.index(result, resultOffset), resultPrecision, op1DecimalArray,
+                DecimalBuffer.index(op1Decimal, op1Offset), op1Precision, op2DecimalArray,
+                DecimalBuffer.index(op2Decimal, op2Offset), op2Precision, checkOverflow);
+        DecimalBuffer.update(result, resultOffset, resultArray);
+    }
+
+    /**
+     * Multiplies two Packed Decimals in ByteBuffers.
+     * See {@link #multiplyPackedDecimal(byte[], int, int, byte[], int, int, byte[], int, int, boolean)} for details.
+     * 
+     * @param result
+     *            buffer which will hold the Packed Decimal on a successful return
+     * @param resultOffset
+     *            absolute index in <code>result</code> of the first byte of the Packed Decimal
+     * @param resultPrecision
+     *            number of Packed Decimal digits in the result. Maximum valid precision is 253
+     * @param op1Decimal
+     *            buffer holding the Packed Decimal
+     * @param op1Offset
+     *            absolute index in <code>op1Decimal</code> of the first byte of the Packed Decimal
+     * @param op1Precision
+     *            number of Packed Decimal digits in the first operand. Maximum valid precision is 253
+     * @param op2Decimal
+     *            buffer holding the Packed Decimal
+     * @param op2Offset
+     *            absolute index in <code>op2Decimal</code> of the first byte of the Packed Decimal
+     * @param op2Precision
+     *            number of Packed Decimal digits in the second operand. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> may be thrown
+     * 
+     * @throws NullPointerException
+     *             if <code>result</code> or <code>op1Decimal</code> or <code>op2Decimal</code> are null
+     * @throws IndexOutOfBoundsException
+     *             if the decimal is not within the limit of the buffer
+     * @throws java.nio.ReadOnlyBufferException
+     *             if the buffer that will hold the result is read-only
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and overflow occurs
+     */
+    public static void multiplyPackedDecimal(ByteBuffer result, int resultOffset, int resultPrecision,
+            ByteBuffer op1Decimal, int op1Offset, int op1Precision, ByteBuffer op2Decimal, int op2Offset,
+            int op2Precision, boolean checkOverflow) {
+        byte[] resultArray = DecimalBuffer.array(result, resultOffset, CommonData.getPackedByteCount(resultPrecision), "multiplyPackedDecimal", "result");
+        byte[] op1DecimalArray = DecimalBuffer.array(op1Decimal, op1Offset, CommonData.getPackedByteCount(op1Precision), "multiplyPackedDecimal", "op1Decimal");
+        byte[] op2DecimalArray = DecimalBuffer.array(op2Decimal, op2Offset, CommonData.getPackedByteCount(op2Precision), "multiplyPackedDecimal", "op2Decimal");
+        multiplyPackedDecimal(resultArray, DecimalBuffer.index(result, resultOffset), resultPrecision, op1DecimalArray,
+                DecimalBuffer.index(op1Decimal, op1Offset), op1Precision, op2DecimalArray,
+                DecimalBuffer.index(op2Decimal, op2Offset), op2Precision, checkOverflow);
+        DecimalBuffer.update(result, resultOffset, resultArray);
+    }
+
+    /**
+     * Divides two Packed Decimals in ByteBuffers.
+     * See {@link #dividePackedDecimal(byte[], int, int, byte[], int, int, byte[], int, int, boolean)} for details.
+     * 
+     * @param result
+     *            buffer which will hold the Packed Decimal on a successful return
+     * @param resultOffset
+     *            absolute index in <code>result</code> of the first byte of the Packed Decimal
+     * @param resultPrecision
+     *            number of Packed Decimal digits in the result. Maximum valid precision is 253
+     * @param op1Decimal
+     *            buffer holding the Packed Decimal
+     * @param op1Offset
+     *            absolute index in <code>op1Decimal</code> of the first byte of the Packed Decimal
+     * @param op1Precision
+     *            number of Packed Decimal digits in the first operand. Maximum valid precision is 253
+     * @param op2Decimal
+     *            buffer holding the Packed Decimal
+     * @param op2Offset
+     *            absolute index in <code>op2Decimal</code> of the first byte of the Packed Decimal
+     * @param op2Precision
+     *            number of Packed Decimal digits in the second operand. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> may be thrown
+     * 
+     * @throws NullPointerException
+     *             if <code>result</code> or <code>op1Decimal</code> or <code>op2Decimal</code> are null
+     * @throws IndexOutOfBoundsException
+     *             if the decimal is not within the limit of the buffer
+     * @throws java.nio.ReadOnlyBufferException
+     *             if the buffer that will hold the result is read-only
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and overflow occurs, or if the divisor is zero
+     */
+    public static void dividePackedDecimal(ByteBuffer result, int resultOffset, int resultPrecision,
+            ByteBuffer op1Decimal, int op1Offset, int op1Precision, ByteBuffer op2Decimal, int op2Offset,
+            int op2Precision, boolean checkOverflow) {
+        byte[] resultArray = DecimalBuffer.array(result, resultOffset, CommonData.getPackedByteCount(resultPrecision), "dividePackedDecimal", "result");
+        byte[] op1DecimalArray = DecimalBuffer.array(op1Decimal, op1Offset, CommonData.getPackedByteCount(op1Precision), "dividePackedDecimal", "op1Decimal");
+        byte[] op2DecimalArray = DecimalBuffer.array(op2Decimal, op2Offset, CommonData.getPackedByteCount(op2Precision), "dividePackedDecimal", "op2Decimal");
+        dividePackedDecimal(resultArray, DecimalBuffer.index(result, resultOffset), resultPrecision, op1DecimalArray,
+                DecimalBuffer.index(op1Decimal, op1Offset), op1Precision, op2DecimalArray,
+                DecimalBuffer.index(op2Decimal, op2Offset), op2Precision, checkOverflow);
+        DecimalBuffer.update(result, resultOffset, resultArray);
+    }
+
+    /**
+     * Calculates the remainder of the division of two Packed Decimals in ByteBuffers.
+     * See {@link #remainderPackedDecimal(byte[], int, int, byte[], int, int, byte[], int, int, boolean)} for details.
+     * 
+     * @param result
+     *            buffer which will hold the Packed Decimal on a successful return
+     * @param resultOffset
+     *            absolute index in <code>result</code> of the first byte of the Packed Decimal
+     * @param resultPrecision
+     *            number of Packed Decimal digits in the result. Maximum valid precision is 253
+     * @param op1Decimal
+     *            buffer holding the Packed Decimal
+     * @param op1Offset
+     *            absolute index in <code>op1Decimal</code> of the first byte of the Packed Decimal
+     * @param op1Precision
+     *            number of Packed Decimal digits in the first operand. Maximum valid precision is 253
+     * @param op2Decimal
+     *            buffer holding the Packed Decimal
+     * @param op2Offset
+     *            absolute index in <code>op2Decimal</code> of the first byte of the Packed Decimal
+     * @param op2Precision
+     *            number of Packed Decimal digits in the second operand. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> may be thrown
+     * 
+     * @throws NullPointerException
+     *             if <code>result</code> or <code>op1Decimal</code> or <code>op2Decimal</code> are null
+     * @throws IndexOutOfBoundsException
+     *             if the decimal is not within the limit of the buffer
+     * @throws java.nio.ReadOnlyBufferException
+     *             if the buffer that will hold the result is read-only
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and overflow occurs, or if the divisor is zero
+     */
+    public static void remainderPackedDecimal(ByteBuffer result, int resultOffset, int resultPrecision,
+            ByteBuffer op1Decimal, int op1Offset, int op1Precision, ByteBuffer op2Decimal, int op2Offset,
+            int op2Precision, boolean checkOverflow) {
+        byte[] resultArray = DecimalBuffer.array(result, resultOffset, CommonData.getPackedByteCount(resultPrecision), "remainderPackedDecimal", "result");
+        byte[] op1DecimalArray = DecimalBuffer.array(op1Decimal, op1Offset, CommonData.getPackedByteCount(op1Precision), "remainderPackedDecimal", "op1Decimal");
+        byte[] op2DecimalArray = DecimalBuffer.array(op2Decimal, op2Offset, CommonData.getPackedByteCount(op2Precision), "remainderPackedDecimal", "op2Decimal");
+        remainderPackedDecimal(resultArray, DecimalBuffer.index(result, resultOffset), resultPrecision, op1DecimalArray,
+                DecimalBuffer.index(op1Decimal, op1Offset), op1Precision, op2DecimalArray,
+                DecimalBuffer.index(op2Decimal, op2Offset), op2Precision, checkOverflow);
+        DecimalBuffer.update(result, resultOffset, resultArray);
+    }
+
+    /**
+     * Checks if the first Packed Decimal operand is less than the second one, where both are in ByteBuffers.
+     * See {@link #lessThanPackedDecimal(byte[], int, int, byte[], int, int)} for details.
+     * 
+     * @param op1Decimal
+     *            buffer holding the Packed Decimal
+     * @param op1Offset
+     *            absolute index in <code>op1Decimal</code> of the first byte of the Packed Decimal
+     * @param op1Precision
+     *            number of Packed Decimal digits in the first operand. Maximum valid precision is 253
+     * @param op2Decimal
+     *            buffer holding the Packed Decimal
+     * @param op2Offset
+     *            absolute index in <code>op2Decimal</code> of the first byte of the Packed Decimal
+     * @param op2Precision
+     *            number of Packed Decimal digits in the second operand. Maximum valid precision is 253
+     * 
+     * @return true if <code>op1Decimal</code> is less than <code>op2Decimal</code>, false otherwise
+     * 
+     * @throws NullPointerException
+     *             if <code>op1Decimal</code> or <code>op2Decimal</code> are null
+     * @throws IndexOutOfBoundsException
+     *             if the decimal is not within the limit of the buffer
+     */
+    public static boolean lessThanPackedDecimal(ByteBuffer op1Decimal, int op1Offset, int op1Precision,
+            ByteBuffer op2Decimal, int op2Offset, int op2Precision) {
+        byte[] op1DecimalArray = DecimalBuffer.array(op1Decimal, op1Offset, CommonData.getPackedByteCount(op1Precision), "lessThanPackedDecimal", "op1Decimal");
+        byte[] op2DecimalArray = DecimalBuffer.array(op2Decimal, op2Offset, CommonData.getPackedByteCount(op2Precision), "lessThanPackedDecimal", "op2Decimal");
+        return lessThanPackedDecimal(op1DecimalArray, DecimalBuffer.index(op1Decimal, op1Offset), op1Precision,
+                op2DecimalArray, DecimalBuffer.index(op2Decimal, op2Offset), op2Precision);
+    }
+
+    /**
+     * Checks if the first Packed Decimal operand is less than or equal to the second one, where both are in ByteBuffers.
+     * See {@link #lessThanOrEqualsPackedDecimal(byte[], int, int, byte[], int, int)} for details.
+     * 
+     * @param op1Decimal
+     *            buffer holding the Packed Decimal
+     * @param op1Offset
+     *            absolute index in <code>op1Decimal</code> of the first byte of the Packed Decimal
+     * @param op1Precision
+     *            number of Packed Decimal digits in the first operand. Maximum valid precision is 253
+     * @param op2Decimal
+     *            buffer holding the Packed Decimal
+     * @param op2Offset
+     *            absolute index in <code>op2Decimal</code> of the first byte of the Packed Decimal
+     * @param op2Precision
+     *            number of Packed Decimal digits in the second operand. Maximum valid precision is 253
+     * 
+     * @return true if <code>op1Decimal</code> is less than or equal to <code>op2Decimal</code>, false otherwise
+     * 
+     * @throws NullPointerException
+     *             if <code>op1Decimal</code> or <code>op2Decimal</code> are null
+     * @throws IndexOutOfBoundsException
+     *             if the decimal is not within the limit of the buffer
+     */
+    public static boolean lessThanOrEqualsPackedDecimal(ByteBuffer op1Decimal, int op1Offset, int op1Precision,
+            ByteBuffer op2Decimal, int op2Offset, int op2Precision) {
+        byte[] op1DecimalArray = DecimalBuffer.array(op1Decimal, op1Offset, CommonData.getPackedByteCount(op1Precision), "lessThanOrEqualsPackedDecimal", "op1Decimal");
+        byte[] op2DecimalArray = DecimalBuffer.array(op2Decimal, op2Offset, CommonData.getPackedByteCount(op2Precision), "lessThanOrEqualsPackedDecimal", "op2Decimal");
+        return lessThanOrEqualsPackedDecimal(op1DecimalArray, DecimalBuffer.index(op1Decimal, op1Offset), op1Precision,
+                op2DecimalArray, DecimalBuffer.index(op2Decimal, op2Offset), op2Precision);
+    }
+
+    /**
+     * Checks if the first Packed Decimal operand is greater than the second one, where both are in ByteBuffers.
+     * See {@link #greaterThanPackedDecimal(byte[], int, int, byte[], int, int)} for details.
+     * 
+     * @param op1Decimal
+     *            buffer holding the Packed Decimal
+     * @param op1Offset
+     *            absolute index in <code>op1Decimal</code> of the first byte of the Packed Decimal
+     * @param op1Precision
+     *            number of Packed Decimal digits in the first operand. Maximum valid precision is 253
+     * @param op2Decimal
+     *            buffer holding the Packed Decimal
+     * @param op2Offset
+     *            absolute index in <code>op2Decimal</code> of the first byte of the Packed Decimal
+     * @param op2Precision
+     *            number of Packed Decimal digits in the second operand. Maximum valid precision is 253
+     * 
+     * @return true if <code>op1Decimal</code> is greater than <code>op2Decimal</code>, false otherwise
+     * 
+     * @throws NullPointerException
+     *             if <code>op1Decimal</code> or <code>op2Decimal</code> are null
+     * @throws IndexOutOfBoundsException
+     *             if the decimal is not within the limit of the buffer
+     */
+    public static boolean greaterThanPackedDecimal(ByteBuffer op1Decimal, int op1Offset, int op1Precision,
+            ByteBuffer op2Decimal, int op2Offset, int op2Precision) {
+        byte[] op1DecimalArray = DecimalBuffer.array(op1Decimal, op1Offset, CommonData.getPackedByteCount(op1Precision), "greaterThanPackedDecimal", "op1Decimal");
+        byte[] op2DecimalArray = DecimalBuffer.array(op2Decimal, op2Offset, CommonData.getPackedByteCount(op2Precision), "greaterThanPackedDecimal", "op2Decimal");
+        return greaterThanPackedDecimal(op1DecimalArray, DecimalBuffer.index(op1Decimal, op1Offset), op1Precision,
+                op2DecimalArray, DecimalBuffer.index(op2Decimal, op2Offset), op2Precision);
+    }
+
+    /**
+     * Checks if the first Packed Decimal operand is greater than or equal to the second one, where both are in ByteBuffers.
+     * See {@link #greaterThanOrEqualsPackedDecimal(byte[], int, int, byte[], int, int)} for details.
+     * 
+     * @param op1Decimal
+     *            buffer holding the Packed Decimal
+     * @param op1Offset
+     *            absolute index in <code>op1Decimal</code> of the first byte of the Packed Decimal
+     * @param op1Precision
+     *            number of Packed Decimal digits in the first operand. Maximum valid precision is 253
+     * @param op2Decimal
+     *            buffer holding the Packed Decimal
+     * @param op2Offset
+     *            absolute index in <code>op2Decimal</code> of the first byte of the Packed Decimal
+     * @param op2Precision
+     *            number of Packed Decimal digits in the second operand. Maximum valid precision is 253
+     * 
+     * @return true if <code>op1Decimal</code> is greater than or equal to <code>op2Decimal</code>, false otherwise
+     * 
+     * @throws NullPointerException
+     *             if <code>op1Decimal</code> or <code>op2Decimal</code> are null
+     * @throws IndexOutOfBoundsException
+     *             if the decimal is not within the limit of the buffer
+     */
+    public static boolean greaterThanOrEqualsPackedDecimal(ByteBuffer op1Decimal, int op1Offset, int op1Precision,
+            ByteBuffer op2Decimal, int op2Offset, int op2Precision) {
+        byte[] op1DecimalArray = DecimalBuffer.array(op1Decimal, op1Offset, CommonData.getPackedByteCount(op1Precision), "greaterThanOrEqualsPackedDecimal", "op1Decimal");
+        byte[] op2DecimalArray = DecimalBuffer.array(op2Decimal, op2Offset, CommonData.getPackedByteCount(op2Precision), "greaterThanOrEqualsPackedDecimal", "op2Decimal");
+        return greaterThanOrEqualsPackedDecimal(op1DecimalArray, DecimalBuffer.index(op1Decimal, op1Offset),
+                op1Precision, op2DecimalArray, DecimalBuffer.index(op2Decimal, op2Offset), op2Precision);
+    }
+
+    /**
+     * Checks if the first Packed Decimal operand is equal to the second one, where both are in ByteBuffers.
+     * See {@link #equalsPackedDecimal(byte[], int, int, byte[], int, int)} for details.
+     * 
+     * @param op1Decimal
+     *            buffer holding the Packed Decimal
+     * @param op1Offset
+     *            absolute index in <code>op1Decimal</code> of the first byte of the Packed Decimal
+     * @param op1Precision
+     *            number of Packed Decimal digits in the first operand. Maximum valid precision is 253
+     * @param op2Decimal
+     *            buffer holding the Packed Decimal
+     * @param op2Offset
+     *            absolute index in <code>op2Decimal</code> of the first byte of the Packed Decimal
+     * @param op2Precision
+     *            number of Packed Decimal digits in the second operand. Maximum valid precision is 253
+     * 
+     * @return true if <code>op1Decimal</code> is equal to <code>op2Decimal</code>, false otherwise
+     * 
+     * @throws NullPointerException
+     *             if <code>op1Decimal</code> or <code>op2Decimal</code> are null
+     * @throws IndexOutOfBoundsException
+     *             if the decimal is not within the limit of the buffer
+     */
+    public static boolean equalsPackedDecimal(ByteBuffer op1Decimal, int op1Offset, int op1Precision,
+            ByteBuffer op2Decimal, int op2Offset, int op2Precision) {
+        byte[] op1DecimalArray = DecimalBuffer.array(op1Decimal, op1Offset, CommonData.getPackedByteCount(op1Precision), "equalsPackedDecimal", "op1Decimal");
+        byte[] op2DecimalArray = DecimalBuffer.array(op2Decimal, op2Offset, CommonData.getPackedByteCount(op2Precision), "equalsPackedDecimal", "op2Decimal");
+        return equalsPackedDecimal(op1DecimalArray, DecimalBuffer.index(op1Decimal, op1Offset), op1Precision,
+                op2DecimalArray, DecimalBuffer.index(op2Decimal, op2Offset), op2Precision);
+    }
+
+    /**
+     * Checks if the first Packed Decimal operand is not equal to the second one, where both are in ByteBuffers.
+     * See {@link #notEqualsPackedDecimal(byte[], int, int, byte[], int, int)} for details.
+     * 
+     * @param op1Decimal
+     *            buffer holding the Packed Decimal
+     * @param op1Offset
+     *            absolute index in <code>op1Decimal</code> of the first byte of the Packed Decimal
+     * @param op1Precision
+     *            number of Packed Decimal digits in the first operand. Maximum valid precision is 253
+     * @param op2Decimal
+     *            buffer holding the Packed Decimal
+     * @param op2Offset
+     *            absolute index in <code>op2Decimal</code> of the first byte of the Packed Decimal
+     * @param op2Precision
+     *            number of Packed Decimal digits in the second operand. Maximum valid precision is 253
+     * 
+     * @return true if <code>op1Decimal</code> is not equal to <code>op2Decimal</code>, false otherwise
+     * 
+     * @throws NullPointerException
+     *             if <code>op1Decimal</code> or <code>op2Decimal</code> are null
+     * @throws IndexOutOfBoundsException
+     *             if the decimal is not within the limit of the buffer
+     */
+    public static boolean notEqualsPackedDecimal(ByteBuffer op1Decimal, int op1Offset, int op1Precision,
+            ByteBuffer op2Decimal, int op2Offset, int op2Precision) {
+        byte[] op1DecimalArray = DecimalBuffer.array(op1Decimal, op1Offset, CommonData.getPackedByteCount(op1Precision), "notEqualsPackedDecimal", "op1Decimal");
+        byte[] op2DecimalArray = DecimalBuffer.array(op2Decimal, op2Offset, CommonData.getPackedByteCount(op2Precision), "notEqualsPackedDecimal", "op2Decimal");
+        return notEqualsPackedDecimal(op1DecimalArray, DecimalBuffer.index(op1Decimal, op1Offset), op1Precision,
+                op2DecimalArray, DecimalBuffer.index(op2Decimal, op2Offset), op2Precision);
+    }
+
+    /*[IF JAVA_SPEC_VERSION >= 22]*/
+    /**
+     * Checks the validity of a Packed Decimal in a MemorySegment.
+     * See {@link #checkPackedDecimal(byte[], int, int, boolean, boolean)} for details.
+     * 
+     * @param packedDecimal
+     *            segment holding the Packed Decimal
+     * @param offset
+     *            offset in <code>packedDecimal</code> of the first byte of the Packed Decimal
+     * @param precision
+     *            number of decimal digits. Maximum valid precision is 253
+     * @param ignoreHighNibbleForEvenPrecision
+     *            if true, ignore the top nibble of the input in the case of even precision
+     * @param canOverwriteHighNibbleForEvenPrecision
+     *            if true, change the high nibble to a zero in case of even precision
+     * 
+     * @return the condition code: 0 All digit codes and the sign valid 1 Sign invalid 2 At least one digit code invalid 3 Sign invalid and at least one digit code invalid
+     * 
+     * @throws NullPointerException
+     *             if <code>packedDecimal</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the decimal is not within the segment
+     * @throws java.nio.ReadOnlyBufferException
+     *             if <code>canOverwriteHighNibbleForEvenPrecision</code> is true and the buffer is read-only
+     */
+    public static int checkPackedDecimal(MemorySegment packedDecimal, long offset, int precision,
+            boolean ignoreHighNibbleForEvenPrecision, boolean canOverwriteHighNibbleForEvenPrecision) {
+        ByteBuffer packedDecimalBuffer = DecimalBuffer.slice(packedDecimal, offset, CommonData.getPackedByteCount(precision));
+        int result = checkPackedDecimal(packedDecimalBuffer, 0, precision, ignoreHighNibbleForEvenPrecision,
+                canOverwriteHighNibbleForEvenPrecision);
+        if (canOverwriteHighNibbleForEvenPrecision)
+            DecimalBuffer.update(packedDecimal, offset, packedDecimalBuffer);
+        return result;
+    }
+
+    /**
+     * Checks the validity of a Packed Decimal in a MemorySegment.
+     * See {@link #checkPackedDecimal(byte[], int, int, boolean)} for details.
+     * 
+     * @param packedDecimal
+     *            segment holding the Packed Decimal
+     * @param offset
+     *            offset in <code>packedDecimal</code> of the first byte of the Packed Decimal
+     * @param precision
+     *            number of decimal digits. Maximum valid precision is 253
+     * @param ignoreHighNibbleForEvenPrecision
+     *            if true, ignore the top nibble of the input in the case of even precision
+     * 
+     * @return the condition code: 0 All digit codes and the sign valid 1 Sign invalid 2 At least one digit code invalid 3 Sign invalid and at least one digit code invalid
+     * 
+     * @throws NullPointerException
+     *             if <code>packedDecimal</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the decimal is not within the segment
+     */
+    public static int checkPackedDecimal(MemorySegment packedDecimal, long offset, int precision,
+            boolean ignoreHighNibbleForEvenPrecision) {
+        ByteBuffer packedDecimalBuffer = DecimalBuffer.slice(packedDecimal, offset, CommonData.getPackedByteCount(precision));
+        return checkPackedDecimal(packedDecimalBuffer, 0, precision, ignoreHighNibbleForEvenPrecision);
+    }
+
+    /**
+     * Checks the validity of a Packed Decimal in a MemorySegment.
+     * See {@link #checkPackedDecimal(byte[], int, int)} for details.
+     * 
+     * @param packedDecimal
+     *            segment holding the Packed Decimal
+     * @param offset
+     *            offset in <code>packedDecimal</code> of the first byte of the Packed Decimal
+     * @param precision
+     *            number of decimal digits. Maximum valid precision is 253
+     * 
+     * @return the condition code: 0 All digit codes and the sign valid 1 Sign invalid 2 At least one digit code invalid 3 Sign invalid and at least one digit code invalid
+     * 
+     * @throws NullPointerException
+     *             if <code>packedDecimal</code> is null
+     * @throws IndexOutOfBoundsException
+     *             if the decimal is not within the segment
+     */
+    public static int checkPackedDecimal(MemorySegment packedDecimal, long offset, int precision) {
+        ByteBuffer packedDecimalBuffer = DecimalBuffer.slice(packedDecimal, offset, CommonData.getPackedByteCount(precision));
+        return checkPackedDecimal(packedDecimalBuffer, 0, precision);
+    }
+
+    /**
+     * Adds two Packed Decimals in MemorySegments.
+     * See {@link #addPackedDecimal(byte[], int, int, byte[], int, int, byte[], int, int, boolean)} for details.
+     * 
+     * @param result
+     *            segment which will hold the Packed Decimal on a successful return
+     * @param resultOffset
+     *            offset in <code>result</code> of the first byte of the Packed Decimal
+     * @param resultPrecision
+     *            number of Packed Decimal digits in the result. Maximum valid precision is 253
+     * @param op1Decimal
+     *            segment holding the Packed Decimal
+     * @param op1Offset
+     *            offset in <code>op1Decimal</code> of the first byte of the Packed Decimal
+     * @param op1Precision
+     *            number of Packed Decimal digits in the first operand. Maximum valid precision is 253
+     * @param op2Decimal
+     *            segment holding the Packed Decimal
+     * @param op2Offset
+     *            offset in <code>op2Decimal</code> of the first byte of the Packed Decimal
+     * @param op2Precision
+     *            number of Packed Decimal digits in the second operand. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> may be thrown
+     * 
+     * @throws NullPointerException
+     *             if <code>result</code> or <code>op1Decimal</code> or <code>op2Decimal</code> are null
+     * @throws IndexOutOfBoundsException
+     *             if the decimal is not within the segment
+     * @throws java.nio.ReadOnlyBufferException
+     *             if the segment that will hold the result is read-only
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and overflow occurs
+     */
+    public static void addPackedDecimal(MemorySegment result, long resultOffset, int resultPrecision,
+            MemorySegment op1Decimal, long op1Offset, int op1Precision, MemorySegment op2Decimal, long op2Offset,
+            int op2Precision, boolean checkOverflow) {
+        ByteBuffer resultBuffer = DecimalBuffer.slice(result, resultOffset, CommonData.getPackedByteCount(resultPrecision));
+        ByteBuffer op1DecimalBuffer = DecimalBuffer.slice(op1Decimal, op1Offset, CommonData.getPackedByteCount(op1Precision));
+        ByteBuffer op2DecimalBuffer = DecimalBuffer.slice(op2Decimal, op2Offset, CommonData.getPackedByteCount(op2Precision));
+        addPackedDecimal(resultBuffer, 0, resultPrecision, op1DecimalBuffer, 0, op1Precision, op2DecimalBuffer, 0,
+                op2Precision, checkOverflow);
+        DecimalBuffer.update(result, resultOffset, resultBuffer);
+    }
+
+    /**
+     * Subtracts two Packed Decimals in MemorySegments.
+     * See {@link #subtractPackedDecimal(byte[], int, int, byte[], int, int, byte[], int, int, boolean)} for details.
+     * 
+     * @param result
+     *            segment which will hold the Packed Decimal on a successful return
+     * @param resultOffset
+     *            offset in <code>result</code> of the first byte of the Packed Decimal
+     * @param resultPrecision
+     *            number of Packed Decimal digits in the result. Maximum valid precision is 253
+     * @param op1Decimal
+     *            segment holding the Packed Decimal
+     * @param op1Offset
+     *            offset in <code>op1Decimal</code> of the first byte of the Packed Decimal
+     * @param op1Precision
+     *            number of Packed Decimal digits in the first operand. Maximum valid precision is 253
+     * @param op2Decimal
+     *            segment holding the Packed Decimal
+     * @param op2Offset
+     *            offset in <code>op2Decimal</code> of the first byte of the Packed Decimal
+     * @param op2Precision
+     *            number of Packed Decimal digits in the second operand. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> may be thrown
+     * 
+     * @throws NullPointerException
+     *             if <code>result</code> or <code>op1Decimal</code> or <code>op2Decimal</code> are null
+     * @throws IndexOutOfBoundsException
+     *             if the decimal is not within the segment
+     * @throws java.nio.ReadOnlyBufferException
+     *             if the segment that will hold the result is read-only
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and overflow occurs
+     */
+    public static void subtractPackedDecimal(MemorySegment result, long resultOffset, int resultPrecision,
+            MemorySegment op1Decimal, long op1Offset, int op1Precision, MemorySegment op2Decimal, long op2Offset,
+            int op2Precision, boolean checkOverflow) {
+        ByteBuffer resultBuffer = DecimalBuffer.slice(result, resultOffset, CommonData.getPackedByteCount(resultPrecision));
+        ByteBuffer op1DecimalBuffer = DecimalBuffer.slice(op1Decimal, op1Offset, CommonData.getPackedByteCount(op1Precision));
+        ByteBuffer op2DecimalBuffer = DecimalBuffer.slice(op2Decimal, op2Offset, CommonData.getPackedByteCount(op2Precision));
+        subtractPackedDecimal(resultBuffer, 0, resultPrecision, op1DecimalBuffer, 0, op1Precision, op2DecimalBuffer, 0,
+                op2Precision, checkOverflow);
+        DecimalBuffer.update(result, resultOffset, resultBuffer);
+    }
+
+    /**
+     * Multiplies two Packed Decimals in MemorySegments.
+     * See {@link #multiplyPackedDecimal(byte[], int, int, byte[], int, int, byte[], int, int, boolean)} for details.
+     * 
+     * @param result
+     *            segment which will hold the Packed Decimal on a successful return
+     * @param resultOffset
+     *            offset in <code>result</code> of the first byte of the Packed Decimal
+     * @param resultPrecision
+     *            number of Packed Decimal digits in the result. Maximum valid precision is 253
+     * @param op1Decimal
+     *            segment holding the Packed Decimal
+     * @param op1Offset
+     *            offset in <code>op1Decimal</code> of the first byte of the Packed Decimal
+     * @param op1Precision
+     *            number of Packed Decimal digits in the first operand. Maximum valid precision is 253
+     * @param op2Decimal
+     *            segment holding the Packed Decimal
+     * @param op2Offset
+     *            offset in <code>op2Decimal</code> of the first byte of the Packed Decimal
+     * @param op2Precision
+     *            number of Packed Decimal digits in the second operand. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> may be thrown
+     * 
+     * @throws NullPointerException
+     *             if <code>result</code> or <code>op1Decimal</code> or <code>op2Decimal</code> are null
+     * @throws IndexOutOfBoundsException
+     *             if the decimal is not within the segment
+     * @throws java.nio.ReadOnlyBufferException
+     *             if the segment that will hold the result is read-only
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and overflow occurs
+     */
+    public static void multiplyPackedDecimal(MemorySegment result, long resultOffset, int resultPrecision,
+            MemorySegment op1Decimal, long op1Offset, int op1Precision, MemorySegment op2Decimal, long op2Offset,
+            int op2Precision, boolean checkOverflow) {
+        ByteBuffer resultBuffer = DecimalBuffer.slice(result, resultOffset, CommonData.getPackedByteCount(resultPrecision));
+        ByteBuffer op1DecimalBuffer = DecimalBuffer.slice(op1Decimal, op1Offset, CommonData.getPackedByteCount(op1Precision));
+        ByteBuffer op2DecimalBuffer = DecimalBuffer.slice(op2Decimal, op2Offset, CommonData.getPackedByteCount(op2Precision));
+        multiplyPackedDecimal(resultBuffer, 0, resultPrecision, op1DecimalBuffer, 0, op1Precision, op2DecimalBuffer, 0,
+                op2Precision, checkOverflow);
+        DecimalBuffer.update(result, resultOffset, resultBuffer);
+    }
+
+    /**
+     * Divides two Packed Decimals in MemorySegments.
+     * See {@link #dividePackedDecimal(byte[], int, int, byte[], int, int, byte[], int, int, boolean)} for details.
+     * 
+     * @param result
+     *            segment which will hold the Packed Decimal on a successful return
+     * @param resultOffset
+     *            offset in <code>result</code> of the first byte of the Packed Decimal
+     * @param resultPrecision
+     *            number of Packed Decimal digits in the result. Maximum valid precision is 253
+     * @param op1Decimal
+     *            segment holding the Packed Decimal
+     * @param op1Offset
+     *            offset in <code>op1Decimal</code> of the first byte of the Packed Decimal
+     * @param op1Precision
+     *            number of Packed Decimal digits in the first operand. Maximum valid precision is 253
+     * @param op2Decimal
+     *            segment holding the Packed Decimal
+     * @param op2Offset
+     *            offset in <code>op2Decimal</code> of the first byte of the Packed Decimal
+     * @param op2Precision
+     *            number of Packed Decimal digits in the second operand. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> may be thrown
+     * 
+     * @throws NullPointerException
+     *             if <code>result</code> or <code>op1Decimal</code> or <code>op2Decimal</code> are null
+     * @throws IndexOutOfBoundsException
+     *             if the decimal is not within the segment
+     * @throws java.nio.ReadOnlyBufferException
+     *             if the segment that will hold the result is read-only
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and overflow occurs, or if the divisor is zero
+     */
+    public static void dividePackedDecimal(MemorySegment result, long resultOffset, int resultPrecision,
+            MemorySegment op1Decimal, long op1Offset, int op1Precision, MemorySegment op2Decimal, long op2Offset,
+            int op2Precision, boolean checkOverflow) {
+        ByteBuffer resultBuffer = DecimalBuffer.slice(result, resultOffset, CommonData.getPackedByteCount(resultPrecision));
+        ByteBuffer op1DecimalBuffer = DecimalBuffer.slice(op1Decimal, op1Offset, CommonData.getPackedByteCount(op1Precision));
+        ByteBuffer op2DecimalBuffer = DecimalBuffer.slice(op2Decimal, op2Offset, CommonData.getPackedByteCount(op2Precision));
+        dividePackedDecimal(resultBuffer, 0, resultPrecision, op1DecimalBuffer, 0, op1Precision, op2DecimalBuffer, 0,
+                op2Precision, checkOverflow);
+        DecimalBuffer.update(result, resultOffset, resultBuffer);
+    }
+
+    /**
+     * Calculates the remainder of the division of two Packed Decimals in MemorySegments.
+     * See {@link #remainderPackedDecimal(byte[], int, int, byte[], int, int, byte[], int, int, boolean)} for details.
+     * 
+     * @param result
+     *            segment which will hold the Packed Decimal on a successful return
+     * @param resultOffset
+     *            offset in <code>result</code> of the first byte of the Packed Decimal
+     * @param resultPrecision
+     *            number of Packed Decimal digits in the result. Maximum valid precision is 253
+     * @param op1Decimal
+     *            segment holding the Packed Decimal
+     * @param op1Offset
+     *            offset in <code>op1Decimal</code> of the first byte of the Packed Decimal
+     * @param op1Precision
+     *            number of Packed Decimal digits in the first operand. Maximum valid precision is 253
+     * @param op2Decimal
+     *            segment holding the Packed Decimal
+     * @param op2Offset
+     *            offset in <code>op2Decimal</code> of the first byte of the Packed Decimal
+     * @param op2Precision
+     *            number of Packed Decimal digits in the second operand. Maximum valid precision is 253
+     * @param checkOverflow
+     *            if true an <code>ArithmeticException</code> may be thrown
+     * 
+     * @throws NullPointerException
+     *             if <code>result</code> or <code>op1Decimal</code> or <code>op2Decimal</code> are null
+     * @throws IndexOutOfBoundsException
+     *             if the decimal is not within the segment
+     * @throws java.nio.ReadOnlyBufferException
+     *             if the segment that will hold the result is read-only
+     * @throws ArithmeticException
+     *             if <code>checkOverflow</code> is true and overflow occurs, or if the divisor is zero
+     */
+    public static void remainderPackedDecimal(MemorySegment result, long resultOffset, int resultPrecision,
+            MemorySegment op1Decimal, long op1Offset, int op1Precision, MemorySegment op2Decimal, long op2Offset,
+            int op2Precision, boolean checkOverflow) {
+        ByteBuffer resultBuffer = DecimalBuffer.slice(result, resultOffset, CommonData.getPackedByteCount(resultPrecision));
+        ByteBuffer op1DecimalBuffer = DecimalBuffer.slice(op1Decimal, op1Offset, CommonData.getPackedByteCount(op1Precision));
+        ByteBuffer op2DecimalBuffer = DecimalBuffer.slice(op2Decimal, op2Offset, CommonData.getPackedByteCount(op2Precision));
+        remainderPackedDecimal(resultBuffer, 0, resultPrecision, op1DecimalBuffer, 0, op1Precision, op2DecimalBuffer, 0,
+                op2Precision, checkOverflow);
+        DecimalBuffer.update(result, resultOffset, resultBuffer);
+    }
+
+    /**
+     * Checks if the first Packed Decimal operand is less than the second one, where both are in MemorySegments.
+     * See {@link #lessThanPackedDecimal(byte[], int, int, byte[], int, int)} for details.
+     * 
+     * @param op1Decimal
+     *            segment holding the Packed Decimal
+     * @param op1Offset
+     *            offset in <code>op1Decimal</code> of the first byte of the Packed Decimal
+     * @param op1Precision
+     *            number of Packed Decimal digits in the first operand. Maximum valid precision is 253
+     * @param op2Decimal
+     *            segment holding the Packed Decimal
+     * @param op2Offset
+     *            offset in <code>op2Decimal</code> of the first byte of the Packed Decimal
+     * @param op2Precision
+     *            number of Packed Decimal digits in the second operand. Maximum valid precision is 253
+     * 
+     * @return true if <code>op1Decimal</code> is less than <code>op2Decimal</code>, false otherwise
+     * 
+     * @throws NullPointerException
+     *             if <code>op1Decimal</code> or <code>op2Decimal</code> are null
+     * @throws IndexOutOfBoundsException
+     *             if the decimal is not within the segment
+     */
+    public static boolean lessThanPackedDecimal(MemorySegment op1Decimal, long op1Offset, int op1Precision,
+            MemorySegment op2Decimal, long op2Offset, int op2Precision) {
+        ByteBuffer op1DecimalBuffer = DecimalBuffer.slice(op1Decimal, op1Offset, CommonData.getPackedByteCount(op1Precision));
+        ByteBuffer op2DecimalBuffer = DecimalBuffer.slice(op2Decimal, op2Offset, CommonData.getPackedByteCount(op2Precision));
+        return lessThanPackedDecimal(op1DecimalBuffer, 0, op1Precision, op2DecimalBuffer, 0, op2Precision);
+    }
+
+    /**
+     * Checks if the first Packed Decimal operand is less than or equal to the second one, where both are in MemorySegments.
+     * See {@link #lessThanOrEqualsPackedDecimal(byte[], int, int, byte[], int, int)} for details.
+     * 
+     * @param op1Decimal
+     *            segment holding the Packed Decimal
+     * @param op1Offset
+     *            offset in <code>op1Decimal</code> of the first byte of the Packed Decimal
+     * @param op1Precision
+     *            number of Packed Decimal digits in the first operand. Maximum valid precision is 253
+     * @param op2Decimal
+     *            segment holding the Packed Decimal
+     * @param op2Offset
+     *            offset in <code>op2Decimal</code> of the first byte of the Packed Decimal
+     * @param op2Precision
+     *            number of Packed Decimal digits in the second operand. Maximum valid precision is 253
+     * 
+     * @return true if <code>op1Decimal</code> is less than or equal to <code>op2Decimal</code>, false otherwise
+     * 
+     * @throws NullPointerException
+     *             if <code>op1Decimal</code> or <code>op2Decimal</code> are null
+     * @throws IndexOutOfBoundsException
+     *             if the decimal is not within the segment
+     */
+    public static boolean lessThanOrEqualsPackedDecimal(MemorySegment op1Decimal, long op1Offset, int op1Precision,
+            MemorySegment op2Decimal, long op2Offset, int op2Precision) {
+        ByteBuffer op1DecimalBuffer = DecimalBuffer.slice(op1Decimal, op1Offset, CommonData.getPackedByteCount(op1Precision));
+        ByteBuffer op2DecimalBuffer = DecimalBuffer.slice(op2Decimal, op2Offset, CommonData.getPackedByteCount(op2Precision));
+        return lessThanOrEqualsPackedDecimal(op1DecimalBuffer, 0, op1Precision, op2DecimalBuffer, 0, op2Precision);
+    }
+
+    /**
+     * Checks if the first Packed Decimal operand is greater than the second one, where both are in MemorySegments.
+     * See {@link #greaterThanPackedDecimal(byte[], int, int, byte[], int, int)} for details.
+     * 
+     * @param op1Decimal
+     *            segment holding the Packed Decimal
+     * @param op1Offset
+     *            offset in <code>op1Decimal</code> of the first byte of the Packed Decimal
+     * @param op1Precision
+     *            number of Packed Decimal digits in the first operand. Maximum valid precision is 253
+     * @param op2Decimal
+     *            segment holding the Packed Decimal
+     * @param op2Offset
+     *            offset in <code>op2Decimal</code> of the first byte of the Packed Decimal
+     * @param op2Precision
+     *            number of Packed Decimal digits in the second operand. Maximum valid precision is 253
+     * 
+     * @return true if <code>op1Decimal</code> is greater than <code>op2Decimal</code>, false otherwise
+     * 
+     * @throws NullPointerException
+     *             if <code>op1Decimal</code> or <code>op2Decimal</code> are null
+     * @throws IndexOutOfBoundsException
+     *             if the decimal is not within the segment
+     */
+    public static boolean greaterThanPackedDecimal(MemorySegment op1Decimal, long op1Offset, int op1Precision,
+            MemorySegment op2Decimal, long op2Offset, int op2Precision) {
+        ByteBuffer op1DecimalBuffer = DecimalBuffer.slice(op1Decimal, op1Offset, CommonData.getPackedByteCount(op1Precision));
+        ByteBuffer op2DecimalBuffer = DecimalBuffer.slice(op2Decimal, op2Offset, CommonData.getPackedByteCount(op2Precision));
+        return greaterThanPackedDecimal(op1DecimalBuffer, 0, op1Precision, op2DecimalBuffer, 0, op2Precision);
+    }
+
+    /**
+     * Checks if the first Packed Decimal operand is greater than or equal to the second one, where both are in MemorySegments.
+     * See {@link #greaterThanOrEqualsPackedDecimal(byte[], int, int, byte[], int, int)} for details.
+     * 
+     * @param op1Decimal
+     *            segment holding the Packed Decimal
+     * @param op1Offset
+     *            offset in <code>op1Decimal</code> of the first byte of the Packed Decimal
+     * @param op1Precision
+     *            number of Packed Decimal digits in the first operand. Maximum valid precision is 253
+     * @param op2Decimal
+     *            segment holding the Packed Decimal
+     * @param op2Offset
+     *            offset in <code>op2Decimal</code> of the first byte of the Packed Decimal
+     * @param op2Precision
+     *            number of Packed Decimal digits in the second operand. Maximum valid precision is 253
+     * 
+     * @return true if <code>op1Decimal</code> is greater than or equal to <code>op2Decimal</code>, false otherwise
+     * 
+     * @throws NullPointerException
+     *             if <code>op1Decimal</code> or <code>op2Decimal</code> are null
+     * @throws IndexOutOfBoundsException
+     *             if the decimal is not within the segment
+     */
+    public static boolean greaterThanOrEqualsPackedDecimal(MemorySegment op1Decimal, long op1Offset,
+            int op1Precision, MemorySegment op2Decimal, long op2Offset, int op2Precision) {
+        ByteBuffer op1DecimalBuffer = DecimalBuffer.slice(op1Decimal, op1Offset, CommonData.getPackedByteCount(op1Precision));
+        ByteBuffer op2DecimalBuffer = DecimalBuffer.slice(op2Decimal, op2Offset, CommonData.getPackedByteCount(op2Precision));
+        return greaterThanOrEqualsPackedDecimal(op1DecimalBuffer, 0, op1Precision, op2DecimalBuffer, 0, op2Precision);
+    }
+
+    /**
+     * Checks if the first Packed Decimal operand is equal to the second one, where both are in MemorySegments.
+     * See {@link #equalsPackedDecimal(byte[], int, int, byte[], int, int)} for details.
+     * 
+     * @param op1Decimal
+     *            segment holding the Packed Decimal
+     * @param op1Offset
+     *            offset in <code>op1Decimal</code> of the first byte of the Packed Decimal
+     * @param op1Precision
+     *            number of Packed Decimal digits in the first operand. Maximum valid precision is 253
+     * @param op2Decimal
+     *            segment holding the Packed Decimal
+     * @param op2Offset
+     *            offset in <code>op2Decimal</code> of the first byte of the Packed Decimal
+     * @param op2Precision
+     *            number of Packed Decimal digits in the second operand. Maximum valid precision is 253
+     * 
+     * @return true if <code>op1Decimal</code> is equal to <code>op2Decimal</code>, false otherwise
+     * 
+     * @throws NullPointerException
+     *             if <code>op1Decimal</code> or <code>op2Decimal</code> are null
+     * @throws IndexOutOfBoundsException
+     *             if the decimal is not within the segment
+     */
+    public static boolean equalsPackedDecimal(MemorySegment op1Decimal, long op1Offset, int op1Precision,
+            MemorySegment op2Decimal, long op2Offset, int op2Precision) {
+        ByteBuffer op1DecimalBuffer = DecimalBuffer.slice(op1Decimal, op1Offset, CommonData.getPackedByteCount(op1Precision));
+        ByteBuffer op2DecimalBuffer = DecimalBuffer.slice(op2Decimal, op2Offset, CommonData.getPackedByteCount(op2Precision));
+        return equalsPackedDecimal(op1DecimalBuffer, 0, op1Precision, op2DecimalBuffer, 0, op2Precision);
+    }
+
+    /**
+     * Checks if the first Packed Decimal operand is not equal to the second one, where both are in MemorySegments.
+     * See {@link #notEqualsPackedDecimal(byte[], int, int, byte[], int, int)} for details.
+     * 
+     * @param op1Decimal
+     *            segment holding the Packed Decimal
+     * @param op1Offset
+     *            offset in <code>op1Decimal</code> of the first byte of the Packed Decimal
+     * @param op1Precision
+     *            number of Packed Decimal digits in the first operand. Maximum valid precision is 253
+     * @param op2Decimal
+     *            segment holding the Packed Decimal
+     * @param op2Offset
+     *            offset in <code>op2Decimal</code> of the first byte of the Packed Decimal
+     * @param op2Precision
+     *            number of Packed Decimal digits in the second operand. Maximum valid precision is 253
+     * 
+     * @return true if <code>op1Decimal</code> is not equal to <code>op2Decimal</code>, false otherwise
+     * 
+     * @throws NullPointerException
+     *             if <code>op1Decimal</code> or <code>op2Decimal</code> are null
+     * @throws IndexOutOfBoundsException
+     *             if the decimal is not within the segment
+     */
+    public static boolean notEqualsPackedDecimal(MemorySegment op1Decimal, long op1Offset, int op1Precision,
+            MemorySegment op2Decimal, long op2Offset, int op2Precision) {
+        ByteBuffer op1DecimalBuffer = DecimalBuffer.slice(op1Decimal, op1Offset, CommonData.getPackedByteCount(op1Precision));
+        ByteBuffer op2DecimalBuffer = DecimalBuffer.slice(op2Decimal, op2Offset, CommonData.getPackedByteCount(op2Precision));
+        return notEqualsPackedDecimal(op1DecimalBuffer, 0, op1Precision, op2DecimalBuffer, 0, op2Precision);
+    }
+    /*[ENDIF] JAVA_SPEC_VERSION >= 22 */
 }
@@ -101,6 +101,21 @@ public class ImageAddressSpace implements com.ibm.dtfj.image.ImageAddressSpace
 		}
 	}
 
+	/**
+	 * Reads buffer.length bytes starting at address.
+	 * 
+	 * @return the number of bytes read
+	 * @throws MemoryAccessException if any of the bytes cannot be read
+	 */
+	public int readBytesAtIndex(long address, byte[] buffer) throws MemoryAccessException
+	{
+		try {
+			return _shadow.getBytesAt(_asid, address, buffer);
+		} catch (com.ibm.dtfj.corereaders.MemoryAccessException e) {
+			throw new MemoryAccessException(getPointer(address));
+		}
+	}
+
 	public ImagePointer readPointerAtIndex(long address) throws MemoryAccessException
 	{
 		try {
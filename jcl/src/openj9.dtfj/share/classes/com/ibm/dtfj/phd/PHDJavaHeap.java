@@ -69,6 +69,12 @@ class PHDJavaHeap implements JavaHeap {
 	/** Flag used to show that all the CacheHeapSegments are set up */
 	private boolean doneScan;
 	private boolean lastSegment;
+	/** Address index used to find single objects, built on the first lookup */
+	private PHDObjectIndex index;
+	/** Set if the index could not be built, e.g. for a compressed file */
+	private boolean noIndex;
+	/** Reader used to parse single objects from index positions */
+	private HeapdumpReader indexReader;
 
 	PHDJavaHeap(ImageInputStream stream, final PHDImage parentImage, ImageAddressSpace space, PHDJavaRuntime runtime) throws IOException {
 		this.image = parentImage;
@@ -395,7 +401,7 @@ class PHDJavaHeap implements JavaHeap {
 		// Size of a PHDJavaObject
 		final int OBJSCALE = 10;
 		//HeapdumpReader reader = new HeapdumpReader(file.getAbsolutePath());
-		final CachedReader.ReaderPos rdr = readerCache.getReader(next[0]);
+		final CachedReader.ReaderPos rdr = getReader(next[0]);
 		final int adjustLen = rdr.reader.version() == 4 && rdr.reader.isJ9() ? 1 : 0;
 		final long current[] = new long[1];
 		boolean more;
@@ -583,6 +589,21 @@ class PHDJavaHeap implements JavaHeap {
 
 	JavaObject getObjectAtAddress(ImagePointer address, boolean withRefs) {
 		JavaObject jo = null;
+		PHDObjectIndex idx = getIndex();
+		if (idx != null) {
+			int ordinal = idx.ordinalOf(address.getAddress());
+			if (ordinal >= 0) {
+				try {
+					jo = getIndexedObject(idx, ordinal, withRefs);
+				} catch (IOException e) {
+					// allow to fall through
+				}
+				if (jo != null) return jo;
+			} else if (idx.isComplete()) {
+				// Not an object in this heap, so don't bother scanning
+				return null;
+			}
+		}
 		try {
 			jo = getCachedObjectAtAddress(address, withRefs);
 		} catch (IOException e) {
@@ -599,6 +620,125 @@ class PHDJavaHeap implements JavaHeap {
 		return jo;
 	}
 
+	/**
+	 * Get a reader to read the objects from object number n onwards.
+	 * If the address index has already been built and the closest cached reader is before the
+	 * nearest saved position then the reader is moved there, so refilling a chunk whose soft
+	 * reference was cleared does not parse the file from the start.
+	 * @param n the object number
+	 * @return a reader positioned at or before object n
+	 * @throws IOException
+	 */
+	private CachedReader.ReaderPos getReader(int n) throws IOException {
+		CachedReader.ReaderPos rdr = readerCache.getReader(n);
+		PHDObjectIndex idx = index;
+		if (idx != null && n < idx.size() && rdr.reader.isSeekable()) {
+			int checkpoint = PHDObjectIndex.checkpointOrdinal(n);
+			if (rdr.where < checkpoint) {
+				rdr.reader.seek(idx.checkpointFor(n));
+				rdr.where = checkpoint;
+			}
+		}
+		return rdr;
+	}
+
+	/**
+	 * Get the address index, building it if required.
+	 * The index is only used for uncompressed files as other readers of a shared
+	 * stream rely on its position being left alone, and a compressed file cannot be
+	 * positioned without decompressing everything before the position. Those files use
+	 * the cached scan in getCachedObjectAtAddress and getObjectAtAddress3 instead.
+	 * Like the rest of the PHD support, the index covers the first dump in the file;
+	 * any further dumps appended to the same file are not read.
+	 * @return the index or null if one is not available
+	 */
+	private PHDObjectIndex getIndex() {
+		if (index == null && !noIndex) {
+			if (file == null) {
+				noIndex = true;
+			} else {
+				try {
+					index = PHDObjectIndex.build(file, image);
+				} catch (IOException e) {
+					noIndex = true;
+				}
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * Read a single object by seeking to the nearest saved position before it and parsing
+	 * forward, at most PHDObjectIndex.CHECKPOINT_INTERVAL objects.
+	 * @param idx The address index
+	 * @param ordinal The object number of the object in the file
+	 * @param withRefs Whether to include the outbound references
+	 * @return the object, or null if it could not be read
+	 * @throws IOException
+	 */
+	private JavaObject getIndexedObject(PHDObjectIndex idx, final int ordinal, final boolean withRefs) throws IOException {
+		if (indexReader == null) {
+			indexReader = new HeapdumpReader(file, image);
+		}
+		final HeapdumpReader reader = indexReader;
+		final PHDJavaHeap heap = this;
+		final int adjustLen = isJ9V4 ? 1 : 0;
+		final JavaObject found[] = new JavaObject[1];
+		reader.seek(idx.checkpointFor(ordinal));
+		try {
+			reader.parse(new PortableHeapDumpListener() {
+				int where = PHDObjectIndex.checkpointOrdinal(ordinal);
+
+				public void classDump(long address, long superAddress, String name, int size,
+						int flags, int hashCode, LongEnumeration refs) throws Exception {
+				}
+
+				public void objectArrayDump(long address, long classAddress, int flags,
+						int hashCode, LongEnumeration refs, int length, long instanceSize) throws Exception {
+					if (where++ == ordinal) {
+						int refsLen = refs.numberOfElements();
+						int adjustLen2 = Math.min(adjustLen, refsLen);
+						// Use adjustLen for array class so for corrupt Java 5 with 0 refs we have no array class
+						PHDJavaObject.Builder b = new PHDJavaObject.Builder(heap,address,runtime.arrayOf(classAddress, refs, adjustLen),flags,hashCode);
+						found[0] = withRefs
+							? b.refs(refs,adjustLen2).length(length-adjustLen2).instanceSize(instanceSize).build()
+							: b.length(length-adjustLen2).instanceSize(instanceSize).build();
+						reader.exitParse();
+					}
+				}
+
+				public void objectDump(long address, long classAddress, int flags, int hashCode,
+						LongEnumeration refs, long instanceSize) throws Exception {
+					if (where++ == ordinal) {
+						PHDJavaObject.Builder b = new PHDJavaObject.Builder(heap,address,runtime.findClass(classAddress),flags,hashCode)
+							.length(PHDJavaObject.SIMPLE_OBJECT)
+							.instanceSize(instanceSize);
+						found[0] = withRefs
+							? b.refs(refs, 0).build()
+							: b.build();
+						reader.exitParse();
+					}
+				}
+
+				public void primitiveArrayDump(long address, int type, int length, int flags,
+						int hashCode, long instanceSize) throws Exception {
+					if (where++ == ordinal) {
+						found[0] = new PHDJavaObject.Builder(heap,address,runtime.findArrayOfType(type),flags,hashCode)
+							.refsAsArray(NOREFS,0).length(length).instanceSize(instanceSize).build();
+						reader.exitParse();
+					}
+				}
+			});
+		} catch (IOException e) {
+			throw e;
+		} catch (Exception e) {
+			IOException ioe = new IOException("Error reading object from PHD file");
+			ioe.initCause(e);
+			throw ioe;
+		}
+		return found[0];
+	}
+
 	/**
 	 * Find an object in the heap
 	 * Populate each chunk, then search each chunk directly
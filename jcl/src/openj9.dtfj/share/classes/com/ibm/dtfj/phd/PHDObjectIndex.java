@@ -0,0 +1,225 @@
+/*[INCLUDE-IF Sidecar18-SE]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.dtfj.phd;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+
+import com.ibm.dtfj.phd.parser.HeapdumpReader;
+import com.ibm.dtfj.phd.parser.HeapdumpReader.RecordPosition;
+import com.ibm.dtfj.phd.parser.PortableHeapDumpListener;
+import com.ibm.dtfj.phd.util.LongEnumeration;
+
+/**
+ * An index from object address to the position of the object record in a PHD file.
+ * The index is built with a single pass over the file and is held in primitive arrays:
+ * a sorted array of addresses, the corresponding object numbers (only if the file was not
+ * already in address order) and a reader position for every {@link #CHECKPOINT_INTERVAL}
+ * objects. An object can then be found with a binary search followed by a short parse
+ * from the nearest checkpoint. The heap iterator also uses the checkpoints to resume reading
+ * part way through the file.
+ * <p>
+ * Only uncompressed files are indexed, as the reader positions are file offsets. As with
+ * {@link HeapdumpReader#parse(PortableHeapDumpListener)} the index stops at the end of the
+ * first dump, so objects in any later dumps appended to the same file are not indexed.
+ */
+final class PHDObjectIndex {
+	/** The number of objects between saved reader positions */
+	static final int CHECKPOINT_INTERVAL = 256;
+
+	/** Object addresses in ascending order */
+	private long[] addresses;
+	/** The object number of each entry in addresses, or null if the file is in address order */
+	private int[] ordinals;
+	/** Reader positions for object numbers 0, CHECKPOINT_INTERVAL, 2 * CHECKPOINT_INTERVAL, ... */
+	private RecordPosition[] checkpoints;
+	private int count;
+	/** False if the file could not be completely read so missing addresses may still be objects */
+	private boolean complete;
+
+	private PHDObjectIndex() {
+	}
+
+	/**
+	 * Build the index by reading every object record in the file.
+	 * @param file an uncompressed PHD file
+	 * @param image the image owning the file, used to clean up the reader
+	 * @return the index
+	 * @throws IOException if the file is not seekable or the header cannot be read
+	 */
+	static PHDObjectIndex build(File file, PHDImage image) throws IOException {
+		final HeapdumpReader reader = new HeapdumpReader(file, image);
+		try {
+			if (!reader.isSeekable()) {
+				throw new IOException("PHD file " + file + " is not seekable");
+			}
+			final PHDObjectIndex index = new PHDObjectIndex();
+			index.addresses = new long[Math.max(reader.totalObjects(), CHECKPOINT_INTERVAL)];
+			index.checkpoints = new RecordPosition[index.addresses.length / CHECKPOINT_INTERVAL + 1];
+			index.checkpoints[0] = reader.getRecordPosition();
+			final boolean sorted[] = { true };
+
+			try {
+				reader.parse(new PortableHeapDumpListener() {
+					public void classDump(long address, long superAddress, String name, int size,
+							int flags, int hashCode, LongEnumeration refs) throws Exception {
+					}
+
+					public void objectArrayDump(long address, long classAddress, int flags,
+							int hashCode, LongEnumeration refs, int length, long instanceSize) throws Exception {
+						add(address);
+					}
+
+					public void objectDump(long address, long classAddress, int flags, int hashCode,
+							LongEnumeration refs, long instanceSize) throws Exception {
+						add(address);
+					}
+
+					public void primitiveArrayDump(long address, int type, int length, int flags,
+							int hashCode, long instanceSize) throws Exception {
+						add(address);
+					}
+
+					private void add(long address) throws IOException {
+						int n = index.count;
+						if (n == index.addresses.length) {
+							index.addresses = Arrays.copyOf(index.addresses, n + (n >> 1));
+						}
+						if (n > 0 && index.addresses[n - 1] >= address) {
+							sorted[0] = false;
+						}
+						index.addresses[n] = address;
+						index.count = ++n;
+						if (n % CHECKPOINT_INTERVAL == 0) {
+							int cp = n / CHECKPOINT_INTERVAL;
+							if (cp == index.checkpoints.length) {
+								index.checkpoints = Arrays.copyOf(index.checkpoints, cp + (cp >> 1) + 1);
+							}
+							// The callback comes after the record has been read, so this is the start of object n
+							index.checkpoints[cp] = reader.getRecordPosition();
+						}
+					}
+				});
+				index.complete = true;
+			} catch (Exception e) {
+				// Keep what we have read, lookups of other addresses fall back to scanning
+				index.complete = false;
+			}
+
+			index.addresses = Arrays.copyOf(index.addresses, index.count);
+			if (!sorted[0]) {
+				index.sort();
+			}
+			return index;
+		} finally {
+			reader.close();
+		}
+	}
+
+	/**
+	 * Sort the addresses, keeping track of the original object numbers.
+	 * Addresses are unique so a non-stable sort is fine.
+	 */
+	private void sort() {
+		ordinals = new int[count];
+		for (int i = 0; i < count; i++) {
+			ordinals[i] = i;
+		}
+		quickSort(0, count - 1);
+	}
+
+	private void quickSort(int lo, int hi) {
+		while (lo < hi) {
+			long pivot = addresses[(lo + hi) >>> 1];
+			int i = lo;
+			int j = hi;
+			while (i <= j) {
+				while (addresses[i] < pivot) i++;
+				while (addresses[j] > pivot) j--;
+				if (i <= j) {
+					swap(i++, j--);
+				}
+			}
+			// Recurse into the smaller half to bound the stack depth
+			if (j - lo < hi - i) {
+				quickSort(lo, j);
+				lo = i;
+			} else {
+				quickSort(i, hi);
+				hi = j;
+			}
+		}
+	}
+
+	private void swap(int i, int j) {
+		long a = addresses[i];
+		addresses[i] = addresses[j];
+		addresses[j] = a;
+		int o = ordinals[i];
+		ordinals[i] = ordinals[j];
+		ordinals[j] = o;
+	}
+
+	/**
+	 * @param address
+	 * @return the object number of the object at the address, or -1 if there is no such object in the index
+	 */
+	int ordinalOf(long address) {
+		int i = Arrays.binarySearch(addresses, 0, count, address);
+		if (i < 0) {
+			return -1;
+		}
+		return ordinals == null ? i : ordinals[i];
+	}
+
+	/**
+	 * @return the number of objects in the index
+	 */
+	int size() {
+		return count;
+	}
+
+	/**
+	 * @return true if every object in the file is in the index
+	 */
+	boolean isComplete() {
+		return complete;
+	}
+
+	/**
+	 * @param ordinal an object number
+	 * @return the position of the record for the closest object number at or before ordinal
+	 */
+	RecordPosition checkpointFor(int ordinal) {
+		return checkpoints[ordinal / CHECKPOINT_INTERVAL];
+	}
+
+	/**
+	 * @param ordinal an object number
+	 * @return the object number at the position returned by {@link #checkpointFor(int)}
+	 */
+	static int checkpointOrdinal(int ordinal) {
+		return ordinal - ordinal % CHECKPOINT_INTERVAL;
+	}
+}
@@ -72,6 +72,8 @@ public class HeapdumpReader extends Base {
 	private static final boolean nomangle = Boolean.getBoolean("findroots.nomangle");
 	boolean continueParse;
 	PHDImage image = null;
+	/* counts the bytes consumed from an uncompressed file so that record positions can be recorded */
+	private CountingInputStream counter;
 
 	/**
 	 * Create a new HeapdumpReader object from the given file. The file must be in Phd format.
@@ -130,7 +132,7 @@ public class HeapdumpReader extends Base {
 				is = new BufferedInputStream(new GZIPInputStream(new FileInputStream(filename)));
 			} else {
 				FileInputStream fis = new FileInputStream(filename);
-				is = new BufferedInputStream(fis);
+				is = counter = new CountingInputStream(new BufferedInputStream(fis), 0);
 			}
 			dis = new DataStreamAdapter(new DataInputStream(is));
 			processData();
@@ -451,6 +453,73 @@ public class HeapdumpReader extends Base {
 	public void exitParse() {
 		continueParse = false;
 	}
+
+	/**
+	 * The state needed to resume parsing at the start of a record. Records are encoded relative to
+	 * the previous record, so as well as the file offset this includes the last object address and
+	 * the cache of recently used class addresses.
+	 * @see HeapdumpReader#getRecordPosition()
+	 * @see HeapdumpReader#seek(RecordPosition)
+	 */
+	public static final class RecordPosition {
+		final long offset;
+		final long lastAddress;
+		final long[] classAddressCache;
+		final int classAddressCacheIndex;
+
+		RecordPosition(long offset, long lastAddress, long[] classAddressCache, int classAddressCacheIndex) {
+			this.offset = offset;
+			this.lastAddress = lastAddress;
+			this.classAddressCache = classAddressCache.clone();
+			this.classAddressCacheIndex = classAddressCacheIndex;
+		}
+	}
+
+	/**
+	 * Returns true if this reader supports {@link #getRecordPosition()} and {@link #seek(RecordPosition)}.
+	 * Only readers for uncompressed files are seekable.
+	 */
+	public boolean isSeekable() {
+		return counter != null;
+	}
+
+	/**
+	 * Returns the position of the next record to be parsed. When called from a
+	 * {@link PortableHeapDumpListener} callback this is the position of the record following
+	 * the one being reported.
+	 * @throws IOException if the reader is not seekable
+	 */
+	public RecordPosition getRecordPosition() throws IOException {
+		if (counter == null) {
+			throw new IOException("PHD file " + filename + " is not seekable");
+		}
+		return new RecordPosition(counter.count, lastAddress, classAddressCache, classAddressCacheIndex);
+	}
+
+	/**
+	 * Repositions the reader so that the next call to {@link #parse} starts at the record
+	 * at the given position.
+	 * @param position a position previously returned by {@link #getRecordPosition()} for the same file
+	 * @throws IOException if the reader is not seekable or the file cannot be reopened
+	 */
+	public void seek(RecordPosition position) throws IOException {
+		if (counter == null) {
+			throw new IOException("PHD file " + filename + " is not seekable");
+		}
+		dis.close();
+		FileInputStream fis = new FileInputStream(filename);
+		try {
+			fis.getChannel().position(position.offset);
+		} catch (IOException e) {
+			fis.close();
+			throw e;
+		}
+		counter = new CountingInputStream(new BufferedInputStream(fis), position.offset);
+		dis = new DataStreamAdapter(new DataInputStream(counter));
+		lastAddress = position.lastAddress;
+		System.arraycopy(position.classAddressCache, 0, classAddressCache, 0, classAddressCache.length);
+		classAddressCacheIndex = position.classAddressCacheIndex;
+	}
 	/**
 	 *  Parse the heapdump. This uses callbacks via the PortableHeapDumpListener interface. Any
 	 *  exceptions that the listener raises are propagated back.
@@ -705,6 +774,52 @@ public class HeapdumpReader extends Base {
 		reader.close();
 	}
 
+	/**
+	 * Keeps track of the number of bytes read from a stream, allowing for mark and reset.
+	 */
+	private static final class CountingInputStream extends FilterInputStream {
+		long count;
+		private long markedCount;
+
+		CountingInputStream(InputStream in, long start) {
+			super(in);
+			count = start;
+			markedCount = start;
+		}
+
+		public int read() throws IOException {
+			int b = super.read();
+			if (b >= 0) {
+				count++;
+			}
+			return b;
+		}
+
+		public int read(byte[] b, int off, int len) throws IOException {
+			int n = super.read(b, off, len);
+			if (n > 0) {
+				count += n;
+			}
+			return n;
+		}
+
+		public long skip(long n) throws IOException {
+			long skipped = super.skip(n);
+			count += skipped;
+			return skipped;
+		}
+
+		public synchronized void mark(int readlimit) {
+			super.mark(readlimit);
+			markedCount = count;
+		}
+
+		public synchronized void reset() throws IOException {
+			super.reset();
+			count = markedCount;
+		}
+	}
+
 	/**
 	 * Used to adapt data retrieval calls between two incompatible streams
 	 * DataInputStream and ImageInputStream
@@ -23,13 +23,16 @@
 package com.ibm.jvm.dtfjview.commands;
 
 import java.io.PrintStream;
+import java.nio.ByteOrder;
 import java.util.ArrayList;
 import java.util.Iterator;
 
 import com.ibm.dtfj.image.CorruptDataException;
+import com.ibm.dtfj.image.ImageAddressSpace;
 import com.ibm.dtfj.image.ImagePointer;
 import com.ibm.dtfj.image.ImageSection;
 import com.ibm.dtfj.image.MemoryAccessException;
+import com.ibm.j9ddr.tools.ddrinteractive.MemoryPatternSearch;
 import com.ibm.java.diagnostics.utils.IContext;
 import com.ibm.java.diagnostics.utils.commands.CommandException;
 import com.ibm.java.diagnostics.utils.plugins.DTFJPlugin;
@@ -45,7 +48,6 @@ public class FindCommand extends BaseJdmpviewCommand {
 	 * e.g. find cpu,0,21665f64,64,16,30
 	 */
 	FindAttribute findAtt = new FindAttribute();
-	StringBuffer sb = new StringBuffer();
 	ArrayList<Long> matches = new ArrayList<>();
 
 	{
@@ -70,7 +72,6 @@ public class FindCommand extends BaseJdmpviewCommand {
 	}
 
 	public void doCommand(String[] params) {
-		sb = new StringBuffer();
 		matches.clear();
 		if (!isParametersValid(params)) {
 			return;
@@ -79,23 +80,16 @@ public class FindCommand extends BaseJdmpviewCommand {
 		if (!parseParams(params)) {
 			return;
 		}
-		Iterator<?> imageSections = ctx.getAddressSpace().getImageSections();
-
-		while (imageSections.hasNext()) {
-			if (matches.size() >= findAtt.numMatchesToDisplay) {
-				break;
-			}
-			ImageSection imageSection = (ImageSection) imageSections.next();
-			if (scanImageSection(imageSection)) {
-				break;
-			}
+		if (findAtt.numMatchesToDisplay > 0) {
+			search();
 		}
 		if (matches.size() > 0) {
 			findAtt.lastMatch = matches.get(matches.size() - 1).longValue();
 		}
 		ctx.getProperties().put(Utils.FIND_ATTRIBUTES, findAtt);
-		doPrint();
-		if (matches.size() > 0) {
+		if (matches.isEmpty()) {
+			out.print("No matches found.\n");
+		} else {
 			printLastMatchContent();
 		}
 
@@ -116,81 +110,110 @@ public class FindCommand extends BaseJdmpviewCommand {
 				+ findAtt.numBytesToPrint, out);
 	}
 
-	private void doPrint() {
-		int size = matches.size();
-		if (0 == size) {
-			sb.append("No matches found.\n");
-		} else {
-			int limit = Math.min(findAtt.numMatchesToDisplay, size);
-			for (int i = 0; i < limit; i++) {
-				long match = matches.get(i).longValue();
-				sb.append("#" + i + ": " + "0x" + Long.toHexString(match) + "\n");
+	private void search() {
+		ImageAddressSpace addressSpace = ctx.getAddressSpace();
+		MemoryPatternSearch search = new MemoryPatternSearch(findAtt.getBytes(), findAtt.boundary);
+		Iterator<?> imageSections = addressSpace.getImageSections();
+
+		while (imageSections.hasNext()) {
+			ImageSection imageSection = (ImageSection) imageSections.next();
+			long imageStartAddress = imageSection.getBaseAddress().getAddress();
+			long imageEndAddress = imageStartAddress + imageSection.getSize() - 1;
+			long start = Math.max(findAtt.startAddress, imageStartAddress);
+			long end = Math.min(findAtt.endAddress, imageEndAddress);
+			if (start <= end) {
+				search.addRange(start, end - start + 1);
 			}
 		}
-		out.print(new String(sb));
-	}
 
-	private boolean scanImageSection(ImageSection imageSection) {
-		long imageStartAddress = imageSection.getBaseAddress().getAddress();
-		long imageEndAddress = imageStartAddress + imageSection.getSize() - 1;
-		if (findAtt.startAddress < imageStartAddress && findAtt.endAddress < imageStartAddress) {
-			return false;
-		} else if (findAtt.startAddress > imageEndAddress && findAtt.endAddress > imageEndAddress) {
-			return false;
-		} else if (findAtt.startAddress >= imageStartAddress && findAtt.endAddress <= imageEndAddress) {
-			return scanRegion(findAtt.startAddress, findAtt.endAddress, imageSection);
-		} else if (findAtt.startAddress <= imageStartAddress && findAtt.endAddress <= imageEndAddress
-				&& findAtt.endAddress >= imageStartAddress) {
-			return scanRegion(imageStartAddress, findAtt.endAddress, imageSection);
-		} else if (findAtt.startAddress <= imageEndAddress && findAtt.startAddress >= imageStartAddress
-				&& findAtt.endAddress >= imageEndAddress) {
-			return scanRegion(findAtt.startAddress, imageEndAddress, imageSection);
-		} else {
-			return scanRegion(imageStartAddress, imageEndAddress, imageSection);
+		// DDR backed images are read in bulk through the DDR address space
+		MemoryPatternSearch.MemoryReader reader = MemoryPatternSearch.readerFor(addressSpace);
+		if (null == reader) {
+			reader = new ImageMemoryReader(addressSpace);
 		}
+
+		// matches arrive in address order, so print them as they are found
+		search.search(reader, new MemoryPatternSearch.MatchListener() {
+			public boolean match(long address) {
+				out.print("#" + matches.size() + ": " + "0x" + Long.toHexString(address) + "\n");
+				matches.add(Long.valueOf(address));
+				return matches.size() < findAtt.numMatchesToDisplay;
+			}
+		});
 	}
 
-	private boolean scanRegion(long start, long end, ImageSection imageSection) {
-		ImagePointer imagePointer = imageSection.getBaseAddress();
-		long i;
-		if (0 != start % findAtt.boundary) {
-			i = start - start % findAtt.boundary + findAtt.boundary;
-		} else {
-			i = start;
+	/*
+	 * Reads images that are not backed by DDR. Core files read by the legacy DTFJ
+	 * readers are read a whole chunk at a time; the DTFJ API has no bulk read, so
+	 * other images, and chunks that are not entirely readable, are read a long at
+	 * a time where possible and the bytes put back in address order.
+	 */
+	private static final class ImageMemoryReader implements MemoryPatternSearch.MemoryReader {
+		private final ImagePointer origin;
+		private final boolean bigEndian;
+		private final com.ibm.dtfj.image.j9.ImageAddressSpace bulkAddressSpace;
+
+		ImageMemoryReader(ImageAddressSpace addressSpace) {
+			origin = addressSpace.getPointer(0);
+			bigEndian = ByteOrder.BIG_ENDIAN.equals(addressSpace.getByteOrder());
+			if (addressSpace instanceof com.ibm.dtfj.image.j9.ImageAddressSpace) {
+				bulkAddressSpace = (com.ibm.dtfj.image.j9.ImageAddressSpace) addressSpace;
+			} else {
+				bulkAddressSpace = null;
+			}
 		}
-		int patternLength = findAtt.length();
-		byte[] bytes = findAtt.getBytes();
 
-		for (; i <= end; i += findAtt.boundary) {
-			int j;
-			for (j = 0; j < patternLength; j++) {
-				byte oneByte = bytes[j];
+		public int read(long address, byte[] buffer, int offset, int length) {
+			if (null != bulkAddressSpace) {
 				try {
-					if (getByteFromImage(imagePointer, i + j) == oneByte) {
+					byte[] bytes = new byte[length];
+					bulkAddressSpace.readBytesAtIndex(address, bytes);
+					System.arraycopy(bytes, 0, buffer, offset, length);
+					return length;
+				} catch (MemoryAccessException mae) {
+					// part of the chunk is unreadable, find where it ends with the reads below
+				}
+			}
+			int count = 0;
+			while (count < length) {
+				long current = address + count;
+				if ((length - count >= 8) && (0 == (current & 7))) {
+					try {
+						long value = getLongFromImage(current);
+						for (int i = 0; i < 8; i++) {
+							int shift = bigEndian ? (56 - (i * 8)) : (i * 8);
+							buffer[offset + count + i] = (byte) (value >>> shift);
+						}
+						count += 8;
 						continue;
-					} else {
-						break;
+					} catch (MemoryAccessException mae) {
+						// part of the long may still be readable, fall through to read it a byte at a time
 					}
+				}
+				try {
+					buffer[offset + count] = getByteFromImage(current);
+					count += 1;
 				} catch (MemoryAccessException mae) {
-					return false;
+					break;
 				}
 			}
-			if (j >= patternLength) {
-				matches.add(Long.valueOf(i));
-				if (matches.size() == findAtt.numMatchesToDisplay) {
-					return true;
-				}
+			return count;
+		}
+
+		private long getLongFromImage(long address) throws MemoryAccessException {
+			try {
+				return origin.getLongAt(address);
+			} catch (CorruptDataException cde) {
+				return 0;
 			}
 		}
-		return false;
-	}
 
-	private static byte getByteFromImage(ImagePointer imagePointer, long address) throws MemoryAccessException {
-		long imagePointerBaseAddress = imagePointer.getAddress();
-		try {
-			return imagePointer.getByteAt(address - imagePointerBaseAddress);
-		} catch (CorruptDataException cde) {
-			return 0;
+		private byte getByteFromImage(long address) throws MemoryAccessException {
+			try {
+				return origin.getByteAt(address);
+			} catch (CorruptDataException cde) {
+				return 0;
+			}
 		}
 	}
 
@@ -45,6 +45,8 @@ import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.Vector;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 public class TraceContext {
 	protected static final int traceFormatMajorVersion = 2;
@@ -94,6 +96,9 @@ public class TraceContext {
 	PrintStream debugStream = System.out;
 	int debugLevel = 0;
 
+	/* reports made on a thread while they are being deferred, see deferReports(List) */
+	private final ThreadLocal deferredReports = new ThreadLocal();
+
 	/* time ordered list of live threads */
 	List threads = new ArrayList();
 	/* live thread map */
@@ -192,6 +197,10 @@ public class TraceContext {
 	 * @param message - the message to report
 	 */
 	public void warning(Object source, Object message) {
+		if (defer(Report.WARNING, source, 0, message)) {
+			return;
+		}
+
 		warningCount++;
 
 		if (warningStream != null) {
@@ -205,6 +214,10 @@ public class TraceContext {
 	 * @param message - the message to report
 	 */
 	public void error(Object source, Object message) {
+		if (defer(Report.ERROR, source, 0, message)) {
+			return;
+		}
+
 		errorCount++;
 
 		if (errorStream != null) {
@@ -218,6 +231,10 @@ public class TraceContext {
 	 * @param message - the message to report
 	 */
 	public void message(Object source, Object message) {
+		if (defer(Report.MESSAGE, source, 0, message)) {
+			return;
+		}
+
 		if (messageStream != null) {
 			messageStream.println(message);
 		}
@@ -230,11 +247,88 @@ public class TraceContext {
 	 * @param message - the message to report
 	 */
 	public void debug(Object source, int level, Object message) {
+		if (defer(Report.DEBUG, source, level, message)) {
+			return;
+		}
+
 		if (debugStream != null && debugLevel >= level) {
 			debugStream.println(message);
 		}
 	}
 
+	/**
+	 * Defers the errors, warnings, messages and debug output reported on the calling thread. Instead
+	 * of being written out they are appended to the supplied list, so work can be done on another thread
+	 * and the reports written later, with replayReports(List), in the order a single thread would have
+	 * written them.
+	 * @param reports - the list to append reports to, or null to stop deferring reports
+	 */
+	public void deferReports(List reports) {
+		if (reports == null) {
+			deferredReports.remove();
+		} else {
+			deferredReports.set(reports);
+		}
+	}
+
+	/**
+	 * Writes out, in order, the reports collected by deferReports(List). The calling thread must not be
+	 * deferring reports itself.
+	 * @param reports - the deferred reports
+	 */
+	public void replayReports(List reports) {
+		for (int i = 0; i < reports.size(); i++) {
+			Report report = (Report)reports.get(i);
+
+			switch (report.type) {
+			case Report.ERROR:
+				error(report.source, report.message);
+				break;
+			case Report.WARNING:
+				warning(report.source, report.message);
+				break;
+			case Report.MESSAGE:
+				message(report.source, report.message);
+				break;
+			default:
+				debug(report.source, report.level, report.message);
+				break;
+			}
+		}
+	}
+
+	private boolean defer(int type, Object source, int level, Object message) {
+		List reports = (List)deferredReports.get();
+		if (reports == null) {
+			return false;
+		}
+
+		reports.add(new Report(type, source, level, message));
+		return true;
+	}
+
+	/**
+	 * A report made while reports were deferred on the reporting thread.
+	 */
+	private static final class Report {
+		static final int ERROR = 0;
+		static final int WARNING = 1;
+		static final int MESSAGE = 2;
+		static final int DEBUG = 3;
+
+		final int type;
+		final Object source;
+		final int level;
+		final Object message;
+
+		Report(int type, Object source, int level, Object message) {
+			this.type = type;
+			this.source = source;
+			this.level = level;
+			this.message = message;
+		}
+	}
+
 	/**
 	 * Sets the destination for error messages
 	 * @param stream - destination
@@ -596,12 +690,24 @@ public class TraceContext {
 	 * This method takes a trace record, retrieves or creates the corresponding TraceThread object
 	 * then appends the record to the threads data. This method may result in the first trace point from
 	 * the record being read in and cached for thread sorting purposes.
+	 * 
+	 * Records returned by decodeRecords must be added in the order they were returned. If the header of
+	 * the record could not be decoded the error is reported here and IllegalArgumentException is thrown,
+	 * exactly as if the record had been read with addData(RandomAccessFile, long).
+	 * 
 	 * @param record - a trace record
 	 * @return - TraceThread object that corresponds to the input record
 	 * @throws IllegalArgumentException
 	 */
-	private synchronized TraceThread addData(TraceRecord record) {
+	public synchronized TraceThread addData(TraceRecord record) throws IllegalArgumentException {
 		TraceThread thread;
+
+		if (record.decodeFailure != null) {
+			if (record.decodeFailure.getMessage() != null) {
+				error(record, record.decodeFailure.getMessage());
+			}
+			throw record.decodeFailure;
+		}
 		
 		/* which thread does it belong to? */
 		// Use the J9VMThread pointer as the unique id.
@@ -702,6 +808,73 @@ public class TraceContext {
 		return addData(new TraceRecord(this, data));
 	}
 
+	/**
+	 * Decodes the headers of consecutive trace records in a memory mapped region of a trace file. The
+	 * headers are decoded in parallel on the supplied pool; the record bodies are left in the mapping
+	 * and are only copied out when the owning thread's trace points are read.
+	 * 
+	 * The returned records must be passed to addData(TraceRecord) in the order they are returned, which
+	 * gives the same result as adding each record with addData(RandomAccessFile, long). Any errors in
+	 * the record headers are reported when the record is added.
+	 * 
+	 * @param data - the mapped region of the file, starting at the first record
+	 * @param offset - the offset in the file of the first record, used for diagnostics
+	 * @param pool - the pool to decode the headers on, or null to decode on the calling thread
+	 * @return - the decoded records in file order
+	 */
+	public TraceRecord[] decodeRecords(ByteBuffer data, long offset, ForkJoinPool pool) {
+		int recordSize = getRecordSize();
+		TraceRecord[] records = new TraceRecord[(data.limit() + recordSize - 1) / recordSize];
+
+		RecordDecoder decoder = new RecordDecoder(data, offset, records, 0, records.length);
+		if (pool == null || debugStream != null) {
+			/* debug output is written as records are decoded so must stay in file order */
+			decoder.compute();
+		} else {
+			pool.invoke(decoder);
+		}
+
+		return records;
+	}
+
+	/**
+	 * Decodes a range of record headers, splitting the range between the threads of the pool.
+	 */
+	private final class RecordDecoder extends RecursiveAction {
+		private static final long serialVersionUID = 7165264802584591393L;
+
+		/* ranges smaller than this are decoded directly */
+		private static final int THRESHOLD = 256;
+
+		private final ByteBuffer data;
+		private final long offset;
+		private final TraceRecord[] records;
+		private final int first;
+		private final int last;
+
+		RecordDecoder(ByteBuffer data, long offset, TraceRecord[] records, int first, int last) {
+			this.data = data;
+			this.offset = offset;
+			this.records = records;
+			this.first = first;
+			this.last = last;
+		}
+
+		protected void compute() {
+			if (last - first > THRESHOLD && getPool() != null) {
+				int middle = (first + last) >>> 1;
+				invokeAll(new RecordDecoder(data, offset, records, first, middle), new RecordDecoder(data, offset, records, middle, last));
+				return;
+			}
+
+			int recordSize = getRecordSize();
+			for (int i = first; i < last; i++) {
+				int position = i * recordSize;
+				records[i] = new TraceRecord(TraceContext.this, data, position, offset + position, true);
+			}
+		}
+	}
+
 	/**
 	 * This method tells the formatter that there was data discarded at this point in
 	 * the stream of records. This has the affect of discarding any trace point fragments
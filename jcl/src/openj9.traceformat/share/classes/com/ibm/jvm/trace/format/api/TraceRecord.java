@@ -25,6 +25,7 @@ package com.ibm.jvm.trace.format.api;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.util.List;
 import java.util.Vector;
@@ -72,6 +73,14 @@ public class TraceRecord implements Comparable<TraceRecord> {
 	/* These fields are only used if this is a file backed trace record */
 	RandomAccessFile file;
 	long offset;
+
+	/* These fields are only used if this is a trace record backed by a mapped file */
+	ByteBuffer mappedData;
+	int mappedPosition;
+
+	/* set instead of reporting an error when the header is decoded off the formatting thread */
+	private boolean deferErrors = false;
+	IllegalArgumentException decodeFailure;
 	
 	/* a record of the offsets that we've preprocessed to aid in debugging */
 	List<Integer> debugOffsets = null;
@@ -129,6 +138,81 @@ public class TraceRecord implements Comparable<TraceRecord> {
 		}
 	}
 	
+	/**
+	 * This will create a TraceRecord backed by a memory mapped trace file. Only the header is decoded,
+	 * the body of the record is copied out of the mapping when it is needed. The buffer is never
+	 * modified so it can be shared between records decoded on different threads.
+	 * 
+	 * @param context
+	 * @param data - the mapped file data
+	 * @param position - the position of the record within data
+	 * @param offset - the offset of the record within the file, used for diagnostics
+	 * @throws IllegalArgumentException
+	 */
+	public TraceRecord(TraceContext context, ByteBuffer data, int position, long offset) throws IllegalArgumentException {
+		this(context, data, position, offset, false);
+	}
+
+	/**
+	 * @see TraceRecord#TraceRecord(TraceContext, ByteBuffer, int, long)
+	 * @param deferErrors - if true, errors in the header are not reported to the context but recorded
+	 * in decodeFailure so that they can be reported by TraceContext.addData(TraceRecord) in file order
+	 */
+	TraceRecord(TraceContext context, ByteBuffer data, int position, long offset, boolean deferErrors) throws IllegalArgumentException {
+		this.context = context;
+		this.mappedData = data;
+		this.mappedPosition = position;
+		this.offset = offset;
+		this.deferErrors = deferErrors;
+
+		int required = TRACERECORD_HEADER_SIZE + GUESSED_MAX_THREAD_NAME;
+
+		if (context.debugLevel > 0) {
+			debugOffsets = new Vector<Integer>();
+		}
+
+		try {
+			while (required != 0) {
+				/* as for the RandomAccessFile case this should run at most twice */
+				byte header[] = new byte[required];
+
+				if (!readMapped(header)) {
+					throw new IllegalArgumentException();
+				}
+
+				required = parseHeader(header);
+			}
+		} catch (IllegalArgumentException e) {
+			if (!deferErrors) {
+				throw e;
+			}
+			decodeFailure = e;
+			return;
+		}
+
+		if (context.debugStream != null) {
+			context.debug(this, 3, summary());
+		}
+	}
+
+	/**
+	 * Copies bytes from the start of this record in the mapped file into the target array.
+	 * @param target - the array to fill
+	 * @return true if the array was filled, false if the mapping ended first
+	 */
+	private boolean readMapped(byte[] target) {
+		if (mappedData.limit() - mappedPosition < target.length) {
+			return false;
+		}
+
+		/* use a private view of the buffer so concurrent readers don't share a position */
+		ByteBuffer view = mappedData.duplicate();
+		view.position(mappedPosition);
+		view.get(target);
+
+		return true;
+	}
+
 	private int parseHeader(byte[] data) throws IllegalArgumentException {
 		ByteStream stream = context.createByteStream(data);
 
@@ -161,7 +245,9 @@ public class TraceRecord implements Comparable<TraceRecord> {
 		}
 
 		if (error != null) {
-			context.error(this, error);
+			if (!deferErrors) {
+				context.error(this, error);
+			}
 			throw new IllegalArgumentException(error);
 		}
 
@@ -183,6 +269,30 @@ public class TraceRecord implements Comparable<TraceRecord> {
 	 * @return - the number of bytes loaded for the record
 	 */
 	private int load() {
+		/* if we're backed by a mapped file then copy the record out of the mapping */
+		if (mappedData != null && (data == null || data.length != context.getRecordSize())) {
+			int available = Math.min(context.getRecordSize(), mappedData.limit() - mappedPosition);
+			data = new byte[context.getRecordSize()];
+			if (context.debugStream != null) {
+				context.debug(this, 3, "Reading in full "+data.length+ "byte record @"+offset);
+			}
+
+			if (available != data.length) {
+				context.error(this, "couldn't read an entire record from the file");
+
+				if (available <= nextEntry) {
+					return 0;
+				}
+
+				/* as below, keep what we have so we can format the complete trace points */
+				data = new byte[available];
+			}
+
+			readMapped(data);
+
+			return data.length;
+		}
+
 		/* if we've got a file and offset then make sure we've got all the data */
 		if (file != null && (data == null || data.length != context.getRecordSize())) {
 			data = new byte[context.getRecordSize()];
@@ -740,7 +850,7 @@ public class TraceRecord implements Comparable<TraceRecord> {
 		if (textSummary == null) {
 			StringBuilder s = new StringBuilder("TraceRecord:"+System.getProperty("line.separator"));
 
-			if (file != null) {
+			if (file != null || mappedData != null) {
 				s.append("file offset:    "+offset).append(System.getProperty("line.separator"));
 			} else {
 				s.append("non file data").append(System.getProperty("line.separator"));
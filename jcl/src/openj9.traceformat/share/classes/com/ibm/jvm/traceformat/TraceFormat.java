@@ -36,7 +36,10 @@ import java.io.UnsupportedEncodingException;
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.concurrent.TimeUnit;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
@@ -49,6 +52,7 @@ import com.ibm.jvm.trace.format.api.MissingDataException;
 import com.ibm.jvm.trace.format.api.TraceContext;
 import com.ibm.jvm.trace.format.api.TracePoint;
 import com.ibm.jvm.trace.format.api.TracePointImpl;
+import com.ibm.jvm.trace.format.api.TraceRecord;
 import com.ibm.jvm.trace.format.api.TraceThread;
 
 /**
@@ -64,6 +68,12 @@ public class TraceFormat
 
 	private static Map indentMap = new HashMap();
 
+	/* The maximum number of bytes of a trace file mapped at once by -parallel */
+	private static final long MAPPED_WINDOW_SIZE = 256 * 1024 * 1024;
+
+	/* The number of trace points read before their parameters are formatted by -parallel */
+	private static final int PARALLEL_BATCH_SIZE = 8192;
+
 	/**
 	 * @param args
 	 */
@@ -80,6 +90,7 @@ public class TraceFormat
 		ProgramOption.addOption(Verbose.class);
 		ProgramOption.addOption(Debug.class);
 		ProgramOption.addOption(Statistics.class);
+		ProgramOption.addOption(Parallel.class);
 
 		/* The trace context holds the configuration and state for the parsing */
 		TraceContext context;
@@ -111,6 +122,7 @@ public class TraceFormat
 		Boolean verbose = (Boolean)ProgramOption.getValue("verbose");
 		Integer debugLevel = (Integer)ProgramOption.getValue("debug");
 		Boolean statistics = (Boolean)ProgramOption.getValue("statistics");
+		Integer parallel = (Integer)ProgramOption.getValue("parallel");
 
 		/* Parse the header on the first file */
 		int blockSize = 4000;
@@ -205,6 +217,12 @@ public class TraceFormat
 		long recordsProcessed = 0;
 		long totalBytes = 0;
 
+		/* with -parallel the files are mapped, and record headers and trace point parameters are decoded on a pool of threads */
+		ForkJoinPool pool = null;
+		if (parallel.intValue() > 1) {
+			pool = new ForkJoinPool(parallel.intValue());
+		}
+
 		/* loop over the generational files and add the blocks to the context */
 		for (int i = 0; i < inputFiles.size(); i++) {
 			long offset = context.getHeaderSize();
@@ -216,6 +234,32 @@ public class TraceFormat
 				context.warning(context, "The body of the trace file is not a multiple of the record size, file either truncated or corrupt");
 			}
 
+			if (parallel.intValue() > 0) {
+				/* map the file in windows of whole records, each window must be addressable with an int */
+				long windowSize = Math.max(1, MAPPED_WINDOW_SIZE / recordSize) * recordSize;
+				FileChannel channel = traceFile.getChannel();
+
+				while (offset < length) {
+					long size = Math.min(windowSize, length - offset);
+					TraceRecord[] records = context.decodeRecords(channel.map(FileChannel.MapMode.READ_ONLY, offset, size), offset, pool);
+
+					for (int j = 0; j < records.length; j++) {
+						try {
+							TraceThread thread = context.addData(records[j]);
+							indentMap.put(thread, "");
+						} catch (IllegalArgumentException e) {
+							context.error(context, "Bad block of trace data in input file at offset "+offset+": "+e.getMessage());
+						}
+
+						offset += recordSize;
+						totalBytes+= recordSize;
+						recordsInData++;
+					}
+				}
+
+				continue;
+			}
+
 			while (offset < length) {
 				try {
 					TraceThread thread = context.addData(traceFile, offset);
@@ -235,6 +279,9 @@ public class TraceFormat
 
 		if (summary.booleanValue() && !statistics.booleanValue()) {
 			/* we've requested only the summary so exit here */
+			if (pool != null) {
+				pool.shutdown();
+			}
 			output.close();
 			return;
 		}
@@ -270,115 +317,147 @@ public class TraceFormat
 		String totalMbytes = (float)totalBytes/(float)(1024*1024) + "Mb";
 		context.message(context, "Processing " + totalMbytes + " of binary trace data");
 
+		/*
+		 * With -parallel the trace points are read from the context in batches and the parameter data of
+		 * each batch is formatted on the pool. Anything reported while reading or formatting a trace point
+		 * is deferred and written out with the trace point, so the output is the same as the serial mode.
+		 */
+		boolean batching = pool != null && !summary.booleanValue() && debugLevel.intValue() == 0;
+		PendingTracepoint[] batch = new PendingTracepoint[batching ? PARALLEL_BATCH_SIZE : 1];
+
 		TraceThread thread = null;
 		String indent = "";
 		while (itr.hasNext()) {
-			TracePointImpl tracepoint;
+			int count = 0;
+			while (count < batch.length && itr.hasNext()) {
+				PendingTracepoint pending = new PendingTracepoint();
 
-			try {
-				tracepoint = (TracePointImpl) itr.next();
-			} catch (MissingDataException e) {
-				lostCountByException += e.getMissingBytes() / context.getRecordSize();
-				continue;
+				if (batching) {
+					context.deferReports(pending.reports);
+				}
+				try {
+					pending.tracepoint = (TracePointImpl) itr.next();
+				} catch (MissingDataException e) {
+					pending.missingBytes = e.getMissingBytes();
+				} finally {
+					context.deferReports(null);
+				}
+				pending.totalRecords = context.getTotalRecords();
+
+				batch[count++] = pending;
 			}
 
 			/* If we've only been asked for the summary we don't format the trace */
 			if (!summary.booleanValue()) {
-				TraceThread current = tracepoint.getThread();
-				String component = tracepoint.getComponentName();
-				int tpID = tracepoint.getID();
-				String container = tracepoint.getContainerComponent();
-				String parameters = "";
-				try {
-					parameters = tracepoint.getFormattedParameters();
-					if (parameters == null || parameters.length() == 0) {
-					context.error(context, "null parameter data for trace point "+component+"."+tpID);
-					}
-				} catch (BufferUnderflowException e) {
-					/* This may be thrown, but there's essentially nothing we can do about it at this level so
-					 * just report it
-					 */
-					context.error(context, "Underflow accessing parameter data for trace point "+component+"."+tpID);
+				if (batching) {
+					pool.invoke(new ParameterFormatter(context, batch, 0, count, formatTime.booleanValue()));
+				} else {
+					batch[0].format(context, formatTime.booleanValue());
 				}
+			}
 
-				StringBuilder formatted = new StringBuilder();
-				if (formatTime.booleanValue()) {
-					formatted.append(tracepoint.getFormattedTime());
-				} else {
-					formatted.append(tracepoint.getRawTime());
+			for (int i = 0; i < count; i++) {
+				PendingTracepoint pending = batch[i];
+				batch[i] = null;
+
+				context.replayReports(pending.reports);
+
+				TracePointImpl tracepoint = pending.tracepoint;
+				if (tracepoint == null) {
+					lostCountByException += pending.missingBytes / context.getRecordSize();
+					continue;
 				}
 
-				/* append thread id */
-				formatted.append(" ").append((current != thread ? "*" : " "));
-				formatted.append(context.formatPointer(current.getThreadID()));
-				formatted.append(" ");
+				if (!summary.booleanValue()) {
+					TraceThread current = tracepoint.getThread();
+					String component = tracepoint.getComponentName();
+					int tpID = tracepoint.getID();
+					String container = tracepoint.getContainerComponent();
+					String parameters = pending.parameters;
+
+					StringBuilder formatted = new StringBuilder();
+					if (formatTime.booleanValue()) {
+						formatted.append(pending.time);
+					} else {
+						formatted.append(tracepoint.getRawTime());
+					}
 
-				/* append component and padding - add container if this is a sub component.
-				 * e.g j9codertvm(j9jit).91 vs j9jit.18 */
-				String fullTracepointID = String.format((container != null ? "%s(%s).%d" : "%1$s.%3$d"), component, container, tpID);
+					/* append thread id */
+					formatted.append(" ").append((current != thread ? "*" : " "));
+					formatted.append(context.formatPointer(current.getThreadID()));
+					formatted.append(" ");
 
-				/* Left justify but include a space in the formatting as a column separator in case of very long component id's. */
-				formatted.append(String.format("%-19s ", fullTracepointID));
+					/* append component and padding - add container if this is a sub component.
+					 * e.g j9codertvm(j9jit).91 vs j9jit.18 */
+					String fullTracepointID = String.format((container != null ? "%s(%s).%d" : "%1$s.%3$d"), component, container, tpID);
 
-				formatted.append(tracepoint.getType());
+					/* Left justify but include a space in the formatting as a column separator in case of very long component id's. */
+					formatted.append(String.format("%-19s ", fullTracepointID));
 
-				if (indenting.booleanValue()) {
-					indent = indentMap.get(current).toString();
+					formatted.append(tracepoint.getType());
 
-					/* we remove the indent before appending for exit */
-					if (tracepoint.getTypeAsInt() == TracePoint.EXIT_TYPE || tracepoint.getTypeAsInt() == TracePoint.EXIT_EXCPT_TYPE) {
-						try {
-							indent = indent.substring(2);
-							indentMap.put(current, indent);
-						} catch (IndexOutOfBoundsException e) {
-							indent = "";
-							indentMap.put(current, "");
+					if (indenting.booleanValue()) {
+						indent = indentMap.get(current).toString();
+
+						/* we remove the indent before appending for exit */
+						if (tracepoint.getTypeAsInt() == TracePoint.EXIT_TYPE || tracepoint.getTypeAsInt() == TracePoint.EXIT_EXCPT_TYPE) {
+							try {
+								indent = indent.substring(2);
+								indentMap.put(current, indent);
+							} catch (IndexOutOfBoundsException e) {
+								indent = "";
+								indentMap.put(current, "");
+							}
 						}
+
+						formatted.append(indent);
 					}
 
-					formatted.append(indent);
-				}
+					formatted.append(parameters.length() > 0 ? ((parameters.charAt(0) == '*' ? " " : "") + parameters) : "");
 
-				formatted.append(parameters.length() > 0 ? ((parameters.charAt(0) == '*' ? " " : "") + parameters) : "");
+					if (indenting.booleanValue()) {
+						/* juggle the indent for the thread */
+						if (tracepoint.getTypeAsInt() == TracePoint.ENTRY_TYPE || tracepoint.getTypeAsInt() == TracePoint.ENTRY_EXCPT_TYPE) {
+							indent = indent+"  ";
+							indentMap.put(current, indent);
+						}
+					}
 
-				if (indenting.booleanValue()) {
-					/* juggle the indent for the thread */
-					if (tracepoint.getTypeAsInt() == TracePoint.ENTRY_TYPE || tracepoint.getTypeAsInt() == TracePoint.ENTRY_EXCPT_TYPE) {
-						indent = indent+"  ";
-						indentMap.put(current, indent);
+					if (debugLevel > 0) {
+						formatted.append(" ["+((TracePointImpl)tracepoint).getDebugInfo()+"]");
 					}
-				}
 
-				if (debugLevel > 0) {
-					formatted.append(" ["+((TracePointImpl)tracepoint).getDebugInfo()+"]");
+					thread = current;
+					output.println(formatted.toString());
 				}
 
-				thread = current;
-				output.println(formatted.toString());
-			}
-
-			/* print percentage */
-			if (context.getTotalRecords() != recordsProcessed) {
-				recordsProcessed = context.getTotalRecords();
-				long bytesProcessed = recordsProcessed * context.getRecordSize();
-				float processedMbytes = bytesProcessed / (1024.0f * 1024.0f);
-				if (processedMbytes % 10 == 0) {
-					int percent = (int) ((100 * bytesProcessed) / totalBytes);
-					if (verbose.booleanValue()) {
-						end = System.nanoTime();
-						final long SECOND_SCALE = 1000 * 1000 * 1000;
-						float MbpsBlock = 10.0f * SECOND_SCALE / (end - startBlock);
-						float Mbps = processedMbytes * SECOND_SCALE / (end - start);
-						startBlock = System.nanoTime();
-						context.message(context, "Processed " + processedMbytes + "Mb (" + percent + "%), burst speed: "
-								+ MbpsBlock + "Mb/s, average: " + Mbps + "Mb/s");
-					} else {
-						context.message(context, "Processed " + processedMbytes + "Mb (" + percent + "%)");
+				/* print percentage */
+				if (pending.totalRecords != recordsProcessed) {
+					recordsProcessed = pending.totalRecords;
+					long bytesProcessed = recordsProcessed * context.getRecordSize();
+					float processedMbytes = bytesProcessed / (1024.0f * 1024.0f);
+					if (processedMbytes % 10 == 0) {
+						int percent = (int) ((100 * bytesProcessed) / totalBytes);
+						if (verbose.booleanValue()) {
+							end = System.nanoTime();
+							final long SECOND_SCALE = 1000 * 1000 * 1000;
+							float MbpsBlock = 10.0f * SECOND_SCALE / (end - startBlock);
+							float Mbps = processedMbytes * SECOND_SCALE / (end - start);
+							startBlock = System.nanoTime();
+							context.message(context, "Processed " + processedMbytes + "Mb (" + percent + "%), burst speed: "
+									+ MbpsBlock + "Mb/s, average: " + Mbps + "Mb/s");
+						} else {
+							context.message(context, "Processed " + processedMbytes + "Mb (" + percent + "%)");
+						}
 					}
 				}
 			}
 		}
 
+		if (pool != null) {
+			pool.shutdown();
+		}
+
 		if (lostCountByException > 0) {
 			context.warning(context, lostCountByException + " records were discarded during trace generation");
 		}
@@ -397,6 +476,88 @@ public class TraceFormat
 		}
 	}
 
+	/**
+	 * A trace point read from the context, along with the parts of its output that can be formatted
+	 * independently of the trace points around it and anything reported while doing so.
+	 */
+	private static final class PendingTracepoint {
+		TracePointImpl tracepoint;
+		long missingBytes;
+		long totalRecords;
+		String parameters;
+		String time;
+		final List reports = new ArrayList();
+
+		void format(TraceContext context, boolean formatTime) {
+			if (tracepoint == null) {
+				return;
+			}
+
+			String component = tracepoint.getComponentName();
+			int tpID = tracepoint.getID();
+			parameters = "";
+			try {
+				parameters = tracepoint.getFormattedParameters();
+				if (parameters == null || parameters.length() == 0) {
+					context.error(context, "null parameter data for trace point "+component+"."+tpID);
+				}
+			} catch (BufferUnderflowException e) {
+				/* This may be thrown, but there's essentially nothing we can do about it at this level so
+				 * just report it
+				 */
+				context.error(context, "Underflow accessing parameter data for trace point "+component+"."+tpID);
+			}
+
+			if (formatTime) {
+				time = tracepoint.getFormattedTime();
+			}
+		}
+	}
+
+	/**
+	 * Formats the parameters of a range of a batch of trace points, splitting the range between the
+	 * threads of the pool. Reports are deferred onto each trace point.
+	 */
+	private static final class ParameterFormatter extends RecursiveAction {
+		private static final long serialVersionUID = -4000324786379474553L;
+
+		/* ranges smaller than this are formatted directly */
+		private static final int THRESHOLD = 256;
+
+		private final TraceContext context;
+		private final PendingTracepoint[] batch;
+		private final int first;
+		private final int last;
+		private final boolean formatTime;
+
+		ParameterFormatter(TraceContext context, PendingTracepoint[] batch, int first, int last, boolean formatTime) {
+			this.context = context;
+			this.batch = batch;
+			this.first = first;
+			this.last = last;
+			this.formatTime = formatTime;
+		}
+
+		protected void compute() {
+			if (last - first > THRESHOLD) {
+				int middle = (first + last) >>> 1;
+				invokeAll(new ParameterFormatter(context, batch, first, middle, formatTime), new ParameterFormatter(context, batch, middle, last, formatTime));
+				return;
+			}
+
+			for (int i = first; i < last; i++) {
+				PendingTracepoint pending = batch[i];
+
+				context.deferReports(pending.reports);
+				try {
+					pending.format(context, formatTime);
+				} finally {
+					context.deferReports(null);
+				}
+			}
+		}
+	}
+
 }
 
 class Debug extends ProgramOption {
@@ -522,6 +683,47 @@ class Statistics extends ProgramOption {
 
 }
 
+class Parallel extends ProgramOption {
+	int threads;
+
+	String getDescription() {
+		return "If specified the input files are memory mapped, and the trace record headers and the trace point parameter data are decoded on the given number of threads. The default number of threads is the number of available processors. The formatted output is identical to the default, serial, mode.";
+	}
+
+	String getName() {
+		return "parallel";
+	}
+
+	String getUsage() {
+		return "-parallel[=threads]";
+	}
+
+	Object getValue() {
+		return Integer.valueOf(threads);
+	}
+
+	void setValue(String value) throws IllegalArgumentException {
+		try {
+			threads = Integer.parseInt(value);
+		} catch (NumberFormatException e) {
+			threads = -1;
+		}
+
+		if (threads < 1) {
+			throw new IllegalArgumentException("The value \""+value+"\" specified for parallel is not valid, must be a positive integer");
+		}
+	}
+
+	void setAutomatic() {
+		threads = Runtime.getRuntime().availableProcessors();
+	}
+
+	void setDefault() {
+		threads = 0;
+	}
+
+}
+
 class MessageFile extends ProgramOption {
 	List messageFiles = new LinkedList();
 
@@ -408,6 +408,7 @@ JIT_PRODUCT_SOURCE_FILES+=\
     compiler/net/CommunicationStream.cpp \
     compiler/net/LoadSSLLibs.cpp \
     compiler/net/MessageBuffer.cpp \
+    compiler/net/MessageCompressor.cpp \
     compiler/net/Message.cpp \
     compiler/net/MessageTypes.cpp \
     compiler/net/ServerStream.cpp \
@@ -1149,6 +1149,8 @@ public:
    void notifyCompilationThreadsOfDeserializerReset();
 #endif /* defined(J9VM_OPT_JITSERVER) */
    uint32_t getNumTotalCompilations() const { return _numSyncCompilations + _numAsyncCompilations; }
+   void recordQueueWaitTime(uintptr_t waitMicros);
+   void getCompilationStatistics(J9JITCompilationStatistics *statistics);
    uint32_t getNumCompsUsedForCompDensityCalculations() const { return _numCompsUsedForCompDensityCalculations; }
 
    static void replenishInvocationCount(J9Method* method, TR::Compilation* comp);
@@ -1268,6 +1270,9 @@ private:
    uint64_t               _lastCompilationsShouldBeInterruptedTime; // RAS
 // statistics
    int32_t                _statsOptLevels[numHotnessLevels]; // will be zeroed with memset
+   int32_t                _statsOptLevelFailures[numHotnessLevels];
+   uint32_t               _statQueueWaitHistogram[J9JIT_COMPILATION_STATISTICS_WAIT_BUCKETS];
+   uint32_t               _statNumRecompilations;
 #if defined(J9VM_OPT_JITSERVER)
    int32_t                _statsRemoteOptLevels[numHotnessLevels];
 #endif /* defined(J9VM_OPT_JITSERVER) */
@@ -5037,7 +5037,7 @@ TR::CompilationInfo::addMethodToBeCompiled(TR::IlGeneratorMethodDetails & detail
          _intervalStats._numFirstTimeCompilationsInInterval++;
          _numQueuedFirstTimeCompilations++;
          }
-      if (TR::Options::getCmdLineOptions()->getVerboseOption(TR_VerbosePerformance))
+      // The entry time is needed by the verbose log and by the queue wait time statistics
          {
          PORT_ACCESS_FROM_JITCONFIG(_jitConfig);
          cur->_entryTime = j9time_usec_clock();
@@ -7014,7 +7014,6 @@ void TR::CompilationInfo::queueForcedAOTUpgrade(TR_MethodToBeCompiled *originalE
    methodInfo->setReasonForRecompilation(TR_PersistentMethodInfo::RecompDueToForcedAOTUpgrade);
    _statNumForcedAotUpgrades++;
 
-   if (TR::Options::getCmdLineOptions()->getVerboseOption(TR_VerbosePerformance))
       {
       PORT_ACCESS_FROM_JITCONFIG(_jitConfig);
       cur->_entryTime = j9time_usec_clock();
@@ -8226,6 +8225,8 @@ TR::CompilationInfoPerThreadBase::compile(J9VMThread * vmThread,
       PORT_ACCESS_FROM_JITCONFIG(jitConfig);
       setTimeWhenCompStarted(j9time_usec_clock());
       }
+   if (entry->_entryTime)
+      getCompilationInfo()->recordQueueWaitTime(getTimeWhenCompStarted() - entry->_entryTime);
 
    TR_MethodMetaData *metaData = NULL;
    void *startPC = NULL;
@@ -10825,6 +10826,7 @@ void TR::CompilationInfoPerThreadBase::logCompilationSuccess(
       //
       if (_methodBeingCompiled->_oldStartPC != 0) // this is a recompilation
          {
+         _compInfo._statNumRecompilations++;
          TR_PersistentJittedBodyInfo *oldBodyInfo = TR::Recompilation::getJittedBodyInfoFromPC(_methodBeingCompiled->_oldStartPC);
          // because this is a recompilation, the persistentJittedBodyInfo must exist
          if (oldBodyInfo->getIsAotedBody())
@@ -11572,6 +11574,10 @@ TR::CompilationInfoPerThreadBase::processExceptionCommonTasks(
       TR_VerboseLog::writeLine(" compThreadID=%d", compiler->getCompThreadID());
       }
 
+   TR_Hotness failedLevel = compiler->getMethodHotness();
+   if (!entry->isAotLoad() && (failedLevel < numHotnessLevels))
+      _compInfo._statsOptLevelFailures[(int32_t)failedLevel]++;
+
    if(_methodBeingCompiled->_compErrCode == compilationFailure)
       {
       Trc_JIT_outOfMemory(vmThread);
@@ -11582,6 +11588,35 @@ TR::CompilationInfoPerThreadBase::processExceptionCommonTasks(
       }
    }
 
+void
+TR::CompilationInfo::recordQueueWaitTime(uintptr_t waitMicros)
+   {
+   // Bucket 0 is under 1ms; each following bucket doubles the upper bound
+   int32_t bucket = 0;
+   for (uintptr_t waitMillis = waitMicros / 1000; (waitMillis > 0) && (bucket < J9JIT_COMPILATION_STATISTICS_WAIT_BUCKETS - 1); waitMillis >>= 1)
+      bucket++;
+   _statQueueWaitHistogram[bucket]++;
+   }
+
+// The counters are updated without synchronization, like the other _stat fields,
+// so a snapshot may miss increments that are in flight
+void
+TR::CompilationInfo::getCompilationStatistics(J9JITCompilationStatistics *statistics)
+   {
+   memset(statistics, 0, sizeof(*statistics));
+   statistics->queueSize = getMethodQueueSize();
+   for (int32_t i = 0; i < J9JIT_COMPILATION_STATISTICS_WAIT_BUCKETS; i++)
+      statistics->queueWaitHistogram[i] = _statQueueWaitHistogram[i];
+   for (int32_t level = 0; (level < J9JIT_COMPILATION_STATISTICS_LEVELS) && (level < (int32_t)numHotnessLevels); level++)
+      {
+      statistics->compilations[level] = _statsOptLevels[level];
+      statistics->failures[level] = _statsOptLevelFailures[level];
+      }
+   statistics->aotLoads = _statNumMethodsFromSharedCache;
+   statistics->aotStores = _statNumAotedMethods;
+   statistics->recompilations = _statNumRecompilations;
+   }
+
 void TR::CompilationInfo::printCompQueue()
    {
    fprintf(stderr, "\nQueue:");
@@ -13155,7 +13190,7 @@ TR::CompilationInfo::addOutOfProcessMethodToBeCompiled(JITServer::ServerStream *
       // This needs to be served as soon as possible, so we give it a higher priority
       CompilationPriority priority = (stream == LOAD_AOTCACHE_REQUEST) ? CP_SYNC_BELOW_MAX : CP_SYNC_NORMAL;
       entry->initialize(details, NULL, priority, NULL);
-      if (TR::Options::getCmdLineOptions()->getVerboseOption(TR_VerbosePerformance))
+      // The entry time is also needed for the queue wait time statistics and the metric exported by the MetricsServer
          {
          PORT_ACCESS_FROM_JITCONFIG(_jitConfig);
          entry->_entryTime = j9time_usec_clock();
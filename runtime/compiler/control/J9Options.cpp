@@ -390,7 +390,11 @@ const char * J9::Options::_externalOptionStrings[J9::ExternalOptions::TR_NumExte
    "-XX:+JITServerHealthProbes",          // = 74
    "-XX:-JITServerHealthProbes",          // = 75
    "-XX:JITServerHealthProbePort=",       // = 76
-   // TR_NumExternalOptions                  = 77
+   "-XX:+JITServerCompressMessages",      // = 77
+   "-XX:-JITServerCompressMessages",      // = 78
+   "-XX:+JITServerAOTCacheEviction",      // = 79
+   "-XX:-JITServerAOTCacheEviction",      // = 80
+   // TR_NumExternalOptions                  = 81
    };
 
 //************************************************************************
@@ -1351,6 +1355,10 @@ J9::Options::JITServerParseCommonOptions(J9VMInitArgs *vmArgsArray, J9JavaVM *vm
    const char *xxJITServerLogConnections = J9::Options::_externalOptionStrings[J9::ExternalOptions::XXplusJITServerLogConnections];
    const char *xxDisableJITServerLogConnections = J9::Options::_externalOptionStrings[J9::ExternalOptions::XXminusJITServerLogConnections];
    const char *xxJITServerAOTmxOption = J9::Options::_externalOptionStrings[J9::ExternalOptions::XXJITServerAOTmxOption];
+   const char *xxJITServerCompressMessagesOption = J9::Options::_externalOptionStrings[J9::ExternalOptions::XXplusJITServerCompressMessagesOption];
+   const char *xxDisableJITServerCompressMessagesOption = J9::Options::_externalOptionStrings[J9::ExternalOptions::XXminusJITServerCompressMessagesOption];
+   const char *xxJITServerAOTCacheEvictionOption = J9::Options::_externalOptionStrings[J9::ExternalOptions::XXplusJITServerAOTCacheEvictionOption];
+   const char *xxDisableJITServerAOTCacheEvictionOption = J9::Options::_externalOptionStrings[J9::ExternalOptions::XXminusJITServerAOTCacheEvictionOption];
 
    int32_t xxJITServerPortArgIndex = FIND_ARG_IN_ARGS(vmArgsArray, STARTSWITH_MATCH, xxJITServerPortOption, 0);
    int32_t xxJITServerTimeoutArgIndex = FIND_ARG_IN_ARGS(vmArgsArray, STARTSWITH_MATCH, xxJITServerTimeoutOption, 0);
@@ -1364,6 +1372,10 @@ J9::Options::JITServerParseCommonOptions(J9VMInitArgs *vmArgsArray, J9JavaVM *vm
    int32_t xxJITServerLogConnectionsArgIndex = FIND_ARG_IN_ARGS(vmArgsArray, EXACT_MATCH, xxJITServerLogConnections, 0);
    int32_t xxDisableJITServerLogConnectionsArgIndex = FIND_ARG_IN_ARGS(vmArgsArray, EXACT_MATCH, xxDisableJITServerLogConnections, 0);
    int32_t xxJITServerAOTmxArgIndex = FIND_ARG_IN_ARGS(vmArgsArray, STARTSWITH_MATCH, xxJITServerAOTmxOption, 0);
+   int32_t xxJITServerCompressMessagesArgIndex = FIND_ARG_IN_ARGS(vmArgsArray, EXACT_MATCH, xxJITServerCompressMessagesOption, 0);
+   int32_t xxDisableJITServerCompressMessagesArgIndex = FIND_ARG_IN_ARGS(vmArgsArray, EXACT_MATCH, xxDisableJITServerCompressMessagesOption, 0);
+   int32_t xxJITServerAOTCacheEvictionArgIndex = FIND_ARG_IN_ARGS(vmArgsArray, EXACT_MATCH, xxJITServerAOTCacheEvictionOption, 0);
+   int32_t xxDisableJITServerAOTCacheEvictionArgIndex = FIND_ARG_IN_ARGS(vmArgsArray, EXACT_MATCH, xxDisableJITServerAOTCacheEvictionOption, 0);
 
    if (xxJITServerPortArgIndex >= 0)
       {
@@ -1437,6 +1449,17 @@ J9::Options::JITServerParseCommonOptions(J9VMInitArgs *vmArgsArray, J9JavaVM *vm
       TR::Options::setVerboseOption(TR_VerboseJITServerConns);
       }
 
+   // If not explicitly set, message compression is disabled by default at the client and enabled by default
+   // at the server. Compression is only used on connections where the client asks for it and the server accepts it.
+   if (xxDisableJITServerCompressMessagesArgIndex > xxJITServerCompressMessagesArgIndex)
+      compInfo->getPersistentInfo()->setJITServerCompressMessages(false);
+   else if (xxJITServerCompressMessagesArgIndex > xxDisableJITServerCompressMessagesArgIndex)
+      compInfo->getPersistentInfo()->setJITServerCompressMessages(true);
+   else if (compInfo->getPersistentInfo()->getRemoteCompilationMode() == JITServer::SERVER)
+      compInfo->getPersistentInfo()->setJITServerCompressMessages(true);
+   else
+      compInfo->getPersistentInfo()->setJITServerCompressMessages(false);
+
    if (xxJITServerAOTmxArgIndex >= 0)
       {
       uint32_t aotMaxBytes = 0;
@@ -1446,6 +1469,11 @@ J9::Options::JITServerParseCommonOptions(J9VMInitArgs *vmArgsArray, J9JavaVM *vm
          }
       }
 
+   // Eviction of cold methods is enabled by default so that the AOT caches stay within the -XX:JITServerAOTmx budget.
+   // When disabled, the AOT caches stop accepting new records once the budget is exhausted.
+   if (xxDisableJITServerAOTCacheEvictionArgIndex > xxJITServerAOTCacheEvictionArgIndex)
+      JITServerAOTCacheMap::setCacheEvictionEnabled(false);
+
    return true;
    }
 
@@ -130,7 +130,11 @@ enum ExternalOptions
    XXplusHealthProbes                          = 74,
    XXminusHealthProbes                         = 75,
    XXJITServerHealthProbePortOption            = 76,
-   TR_NumExternalOptions                       = 77
+   XXplusJITServerCompressMessagesOption       = 77,
+   XXminusJITServerCompressMessagesOption      = 78,
+   XXplusJITServerAOTCacheEvictionOption       = 79,
+   XXminusJITServerAOTCacheEvictionOption      = 80,
+   TR_NumExternalOptions                       = 81
    };
 
 class OMR_EXTENSIBLE Options : public OMR::OptionsConnector
@@ -36,6 +36,7 @@
 #include "runtime/CodeCache.hpp"
 #include "runtime/CodeCacheExceptions.hpp"
 #include "runtime/J9VMAccess.hpp"
+#include "runtime/MetricsServer.hpp"
 #include "runtime/RelocationTarget.hpp"
 #include "net/ClientStream.hpp"
 #include "net/ServerStream.hpp"
@@ -177,6 +178,8 @@ outOfProcessCompilationEnd(TR_MethodToBeCompiled *entry, TR::Compilation *comp)
    bool aotCacheStore = comp->isAOTCacheStore();
    bool useServerOffsets = aotCacheStore && clientData->useServerOffsets(entry->_stream);
    const CachedAOTMethod *methodRecord = NULL;
+   // Keeps the stored method alive until it is sent to the client, even if it is evicted from the cache in the meantime
+   CachedAOTMethodReference storedMethodReference;
 
    if (compInfoPT->isAOTCacheStore())
       {
@@ -184,10 +187,11 @@ outOfProcessCompilationEnd(TR_MethodToBeCompiled *entry, TR::Compilation *comp)
          {
          auto clientData = comp->getClientData();
          auto cache = clientData->getAOTCache();
-         cache->storeMethod(compInfoPT->getDefiningClassChainRecord(), compInfoPT->getMethodIndex(),
-                            entry->_optimizationPlan->getOptLevel(), clientData->getAOTHeaderRecord(),
-                            comp->getSerializationRecords(), codeCacheHeader, codeSize,
-                            dataCacheHeader, dataSize, comp->signature(), clientData->getClientUID(), methodRecord);
+         if (cache->storeMethod(compInfoPT->getDefiningClassChainRecord(), compInfoPT->getMethodIndex(),
+                                entry->_optimizationPlan->getOptLevel(), clientData->getAOTHeaderRecord(),
+                                comp->getSerializationRecords(), codeCacheHeader, codeSize,
+                                dataCacheHeader, dataSize, comp->signature(), clientData->getClientUID(), methodRecord))
+            storedMethodReference.reset(methodRecord);
          }
       else if (TR::Options::getVerboseOption(TR_VerboseJITServer))
          {
@@ -462,6 +466,8 @@ TR::CompilationInfoPerThreadRemote::serveCachedAOTMethod(TR_MethodToBeCompiled &
                                                 optPlan->getOptLevel(), clientData->getAOTHeaderRecord());
    if (!serializedMethod)
       return false;
+   // Keeps the method alive until it is sent to the client, even if it is evicted from the cache in the meantime
+   CachedAOTMethodReference methodReference(serializedMethod);
 
    size_t segmentSize = scratchSegmentProvider.getPreferredSegmentSize();
    if (!segmentSize)
@@ -591,6 +597,16 @@ TR::CompilationInfoPerThreadRemote::processEntry(TR_MethodToBeCompiled &entry, J
    // Release compMonitor before doing the blocking read
    compInfo->releaseCompMonitor(compThread);
 
+   // Statistics exported to Prometheus are only collected if the MetricsServer is enabled.
+   // Recording them is lock-free; the traffic counters of the stream are per-stream.
+   PORT_ACCESS_FROM_JITCONFIG(_jitConfig);
+   bool collectMetrics = compInfo->getPersistentInfo()->getJITServerMetricsPort() != 0;
+   if (collectMetrics && entry._entryTime)
+      QueueWaitTimeMetric::observe(j9time_usec_clock() - entry._entryTime);
+   uint64_t numBytesSentAtStart = stream->getNumBytesSent();
+   uint64_t numBytesReceivedAtStart = stream->getNumBytesReceived();
+   uint64_t numMessagesReceivedAtStart = stream->getNumMessagesReceived();
+
    char *clientOptions = NULL;
    TR_OptimizationPlan *optPlan = NULL;
    _vm = NULL;
@@ -610,6 +626,8 @@ TR::CompilationInfoPerThreadRemote::processEntry(TR_MethodToBeCompiled &entry, J
    // Keep track of whether the lastProcessedCriticalSeqNo in the client session was updated
    bool hasUpdatedSeqNo = false;
    bool aotCacheHit = false;
+   // Keeps the AOT cache records that this request obtains from the client session valid until it is done
+   JITServerAOTCache::RecordUseScope aotCacheRecordUse;
 
    _aotCacheStore = false;
    _methodIndex = (uint32_t)-1;
@@ -952,6 +970,8 @@ TR::CompilationInfoPerThreadRemote::processEntry(TR_MethodToBeCompiled &entry, J
       entry._stream = stream; // Add the stream to the entry
 
       auto aotCache = clientSession->getOrCreateAOTCache(stream);
+      if (aotCache)
+         aotCacheRecordUse.enter(aotCache);
       _aotCacheStore = requestedAOTCacheStore && aotCache && JITServerAOTCacheMap::cacheHasSpace();
       bool aotCacheLoad = requestedAOTCacheLoad && aotCache;
       if (aotCache && !aotCacheLoad)
@@ -1215,12 +1235,23 @@ TR::CompilationInfoPerThreadRemote::processEntry(TR_MethodToBeCompiled &entry, J
       stream->setClientData(clientSession);
       getClientData()->readAcquireClassUnloadRWMutex(this);
 
+      uint64_t compilationStartTime = collectMetrics ? j9time_usec_clock() : 0;
       startPC = compile(compThread, &entry, scratchSegmentProvider);
+      if (collectMetrics)
+         CompilationTimeMetric::observe(j9time_usec_clock() - compilationStartTime, optPlan->getOptLevel());
 
       getClientData()->readReleaseClassUnloadRWMutex(this);
       stream->setClientData(NULL);
       }
 
+   if (collectMetrics)
+      {
+      // The first message received is the compilation request; every other one answers a query sent to the client
+      CompilationRoundTripsMetric::observe(stream->getNumMessagesReceived() - numMessagesReceivedAtStart - 1);
+      getClientData()->addNetworkTraffic(stream->getNumBytesSent() - numBytesSentAtStart,
+                                         stream->getNumBytesReceived() - numBytesReceivedAtStart);
+      }
+
    deleteClientOptions(getClientData()->persistentMemory());
 
    // Notify any threads waiting on this entry's monitor
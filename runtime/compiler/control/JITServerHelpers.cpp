@@ -826,6 +826,16 @@ JITServerHelpers::printJITServerMsgStats(J9JITConfig *jitConfig, TR::Compilation
    j9tty_printf(PORTLIB, "Total number of messages: %llu\n", (unsigned long long)totalMsgCount);
    j9tty_printf(PORTLIB, "Total amount of data received: %llu bytes\n",
                 (unsigned long long)JITServer::CommunicationStream::_totalMsgSize);
+   if (JITServer::CommunicationStream::_totalBytesBeforeCompression)
+      j9tty_printf(PORTLIB, "Compressed messages sent: %llu bytes before compression, %llu bytes after compression (ratio %.2f)\n",
+                   (unsigned long long)JITServer::CommunicationStream::_totalBytesBeforeCompression,
+                   (unsigned long long)JITServer::CommunicationStream::_totalBytesAfterCompression,
+                   JITServer::CommunicationStream::_totalBytesBeforeCompression / double(JITServer::CommunicationStream::_totalBytesAfterCompression));
+   if (JITServer::CommunicationStream::_totalCompressedBytesReceived)
+      j9tty_printf(PORTLIB, "Compressed messages received: %llu bytes before decompression, %llu bytes after decompression (ratio %.2f)\n",
+                   (unsigned long long)JITServer::CommunicationStream::_totalCompressedBytesReceived,
+                   (unsigned long long)JITServer::CommunicationStream::_totalDecompressedBytesReceived,
+                   JITServer::CommunicationStream::_totalDecompressedBytesReceived / double(JITServer::CommunicationStream::_totalCompressedBytesReceived));
 
    uint32_t numCompilations = 0;
    uint32_t numDeserializedMethods = 0;
@@ -180,6 +180,10 @@ J9::OptionsPostRestore::iterateOverExternalOptions()
          case J9::ExternalOptions::XXplusHealthProbes:
          case J9::ExternalOptions::XXminusHealthProbes:
          case J9::ExternalOptions::XXJITServerHealthProbePortOption:
+         case J9::ExternalOptions::XXplusJITServerCompressMessagesOption:
+         case J9::ExternalOptions::XXminusJITServerCompressMessagesOption:
+         case J9::ExternalOptions::XXplusJITServerAOTCacheEvictionOption:
+         case J9::ExternalOptions::XXminusJITServerAOTCacheEvictionOption:
             {
             // do nothing, consume them to prevent errors
             FIND_AND_CONSUME_RESTORE_ARG(OPTIONAL_LIST_MATCH, optString, 0);
@@ -679,6 +679,18 @@ getCodeCacheColdAlloc(void *codeCache)
    return cc->getColdCodeAlloc();
    }
 
+// Compilation statistics callback to be used by java.lang.management
+//
+extern "C" void
+jitGetCompilationStatistics(J9JITConfig *jitConfig, J9JITCompilationStatistics *statistics)
+   {
+   TR::CompilationInfo *compInfo = getCompilationInfo(jitConfig);
+   if (compInfo)
+      compInfo->getCompilationStatistics(statistics);
+   else
+      memset(statistics, 0, sizeof(*statistics));
+   }
+
 
 // -----------------------------------------------------------------------------
 // JIT control
@@ -1094,6 +1106,7 @@ onLoadInternal(
    // Callbacks for code cache allocation pointers
    jitConfig->codeCacheWarmAlloc = getCodeCacheWarmAlloc;
    jitConfig->codeCacheColdAlloc = getCodeCacheColdAlloc;
+   jitConfig->jitGetCompilationStatistics = jitGetCompilationStatistics;
 
    /* Allocate the privateConfig structure.  Note that the AOTRT DLL does not allocate this structure */
    jitConfig->privateConfig = j9mem_allocate_memory(sizeof(TR_JitPrivateConfig), J9MEM_CATEGORY_JIT);
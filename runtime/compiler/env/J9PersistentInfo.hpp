@@ -179,6 +179,7 @@ class PersistentInfo : public OMR::PersistentInfoConnector
          _JITServerAOTCacheIgnoreLocalSCC(true),
          _doNotRequestJITServerAOTCacheLoad(false),
          _doNotRequestJITServerAOTCacheStore(false),
+         _JITServerCompressMessages(false),
 #endif /* defined(J9VM_OPT_JITSERVER) */
       OMR::PersistentInfoConnector(pm)
       {}
@@ -369,6 +370,8 @@ class PersistentInfo : public OMR::PersistentInfoConnector
    void setRequireJITServer(bool requireJITServer) { _requireJITServer = requireJITServer; }
    bool isLocalSyncCompiles() const { return _localSyncCompiles; }
    void setLocalSyncCompiles(bool localSyncCompiles) { _localSyncCompiles = localSyncCompiles; }
+   bool getJITServerCompressMessages() const { return _JITServerCompressMessages; }
+   void setJITServerCompressMessages(bool compress) { _JITServerCompressMessages = compress; }
    bool getJITServerUseAOTCache() const { return _JITServerUseAOTCache; }
    void setJITServerUseAOTCache(bool use) { _JITServerUseAOTCache = use; }
    const std::string &getJITServerAOTCacheName() const { return _JITServerAOTCacheName; }
@@ -492,6 +495,7 @@ class PersistentInfo : public OMR::PersistentInfoConnector
    bool        _doNotRequestJITServerAOTCacheLoad;
    // True if the client should not request AOT cache stores during this server connection
    bool        _doNotRequestJITServerAOTCacheStore;
+   bool        _JITServerCompressMessages; // Whether to compress JITServer messages when the other end agrees
 #endif /* defined(J9VM_OPT_JITSERVER) */
    };
 
@@ -58,6 +58,7 @@ PersistentAllocator::PersistentAllocator(const PersistentAllocatorKit &creationK
 #endif
    _segments(SegmentContainerAllocator(RawAllocator(&creationKit.javaVM))),
    _numSegments(0),
+   _segmentBytes(0),
    _javaVM(creationKit.javaVM)
    {
    _disclaimEnabled =
@@ -358,6 +359,7 @@ PersistentAllocator::allocateFromSegmentLocked(size_t allocSize)
          }
 #endif // LINUX
       _numSegments++;
+      _segmentBytes += segment->size;
       try
          {
          _segments.push_front(TR::ref(*segment));
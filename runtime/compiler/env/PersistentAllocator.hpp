@@ -76,6 +76,8 @@ public:
    bool isDisclaimEnabled() const { return _disclaimEnabled; }
    int disclaimAllSegments();
    int getNumSegments() const { return _numSegments; }
+   // Total size of the segments allocated by this allocator; can be read without a lock for statistics purposes
+   size_t getSegmentBytes() const { return _segmentBytes; }
 
    // Issue MADV_DONTNEED on the segments allocated by this allocator. This has the effect
    // of zeroing out that memory if it has no persistent backing (see madvise(2)), so you must
@@ -135,6 +137,7 @@ private:
    typedef std::deque<TR::reference_wrapper<J9MemorySegment>, SegmentContainerAllocator> SegmentContainer;
    SegmentContainer _segments;
    int _numSegments;
+   size_t _segmentBytes;
    bool _disclaimEnabled;
    const J9JavaVM &_javaVM;
 
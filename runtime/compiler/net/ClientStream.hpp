@@ -121,6 +121,13 @@ public:
    MessageType read()
       {
       readMessage(_sMsg);
+      // The server advertises its capabilities in each message. If it can decompress
+      // messages, compress ours; the server compresses its own messages in turn once
+      // it receives a compressed message from us.
+      if (!isMessageCompressionEnabled()
+          && (getCapabilityFlags() & JITServerCompressMessages)
+          && (_sMsg.getMetaData()->_config & JITServerCompressMessages))
+         enableMessageCompression();
       return _sMsg.type();
       }
 
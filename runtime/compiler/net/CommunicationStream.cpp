@@ -30,9 +30,14 @@ namespace JITServer
 {
 
 uint32_t CommunicationStream::CONFIGURATION_FLAGS = 0;
+uint32_t CommunicationStream::CAPABILITY_FLAGS = 0;
 
 uint32_t CommunicationStream::_msgTypeCount[] = {0};
 uint64_t CommunicationStream::_totalMsgSize = 0;
+uint64_t CommunicationStream::_totalBytesBeforeCompression = 0;
+uint64_t CommunicationStream::_totalBytesAfterCompression = 0;
+uint64_t CommunicationStream::_totalCompressedBytesReceived = 0;
+uint64_t CommunicationStream::_totalDecompressedBytesReceived = 0;
 uint32_t CommunicationStream::_lastReadError = 0;
 uint32_t CommunicationStream::_numConsecutiveReadErrorsOfSameType = 0;
 #if defined(MESSAGE_SIZE_STATS)
@@ -47,6 +52,11 @@ CommunicationStream::initConfigurationFlags()
       CONFIGURATION_FLAGS |= JITServerCompressedRef;
       }
    CONFIGURATION_FLAGS |= JAVA_SPEC_VERSION & JITServerJavaVersionMask;
+
+   if (TR::CompilationInfo::get()->getPersistentInfo()->getJITServerCompressMessages())
+      {
+      CAPABILITY_FLAGS |= JITServerCompressMessages;
+      }
    }
 
 bool CommunicationStream::useSSL()
@@ -86,6 +96,19 @@ CommunicationStream::readMessage(Message &msg)
 
    // bytesRead >= sizeof(uint32_t)
    uint32_t serializedSize = ((uint32_t *)buffer)[0];
+   if (serializedSize & MessageCompressor::COMPRESSED_MESSAGE_FLAG)
+      {
+      readCompressedMessage(msg, bytesRead, serializedSize & ~MessageCompressor::COMPRESSED_MESSAGE_FLAG);
+      // A peer that sends compressed messages can decompress them as well
+      if (!_compressOutgoingMessages && (getCapabilityFlags() & JITServerCompressMessages))
+         {
+         enableMessageCompression();
+         if (TR::Options::getVerboseOption(TR_VerboseJITServer))
+            TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "Message compression enabled by the peer on stream %p", this);
+         }
+      return;
+      }
+
    if (bytesRead > serializedSize)
       {
       throw JITServer::StreamFailure("JITServer I/O error: read more than the message size");
@@ -116,6 +139,55 @@ CommunicationStream::readMessage(Message &msg)
    // Update message count and size statistics
    _msgTypeCount[msg.type()] += 1;
    _totalMsgSize += serializedSize;
+   _numBytesReceived += serializedSize;
+   _numMessagesReceived++;
+#if defined(MESSAGE_SIZE_STATS)
+   _msgSizeStats[msg.type()].update(serializedSize);
+#endif /* defined(MESSAGE_SIZE_STATS) */
+   }
+
+void
+CommunicationStream::readCompressedMessage(Message &msg, int32_t bytesRead, uint32_t frameSize)
+   {
+   if ((frameSize < MessageCompressor::FRAME_HEADER_SIZE) || (bytesRead > frameSize))
+      {
+      throw JITServer::StreamFailure("JITServer I/O error: invalid compressed message size");
+      }
+
+   // The frame is assembled in the compressor and then decompressed into the message buffer
+   MessageCompressor *compressor = getCompressor();
+   char *frame = compressor->getFrameBuffer(frameSize);
+   memcpy(frame, msg.getBufferStartForRead(), bytesRead);
+   if (bytesRead < frameSize)
+      readBlocking(frame + bytesRead, frameSize - bytesRead);
+
+   uint32_t serializedSize = MessageCompressor::getUncompressedSize(frame);
+   if (serializedSize < sizeof(uint32_t) + sizeof(Message::MetaData))
+      {
+      throw JITServer::StreamFailure("JITServer I/O error: invalid decompressed message size");
+      }
+   if (serializedSize > msg.getBufferCapacity())
+      msg.expandBuffer(serializedSize, 0);
+
+   char *buffer = msg.getBufferStartForRead();
+   compressor->decompress(frameSize, buffer, serializedSize);
+   if (((uint32_t *)buffer)[0] != serializedSize)
+      {
+      throw JITServer::StreamFailure("JITServer I/O error: decompressed message size mismatch");
+      }
+
+   msg.setSerializedSize(serializedSize);
+
+   // rebuild the message
+   msg.deserialize();
+
+   // Update message count and size statistics
+   _msgTypeCount[msg.type()] += 1;
+   _totalMsgSize += serializedSize;
+   _totalCompressedBytesReceived += frameSize;
+   _totalDecompressedBytesReceived += serializedSize;
+   _numBytesReceived += frameSize;
+   _numMessagesReceived++;
 #if defined(MESSAGE_SIZE_STATS)
    _msgSizeStats[msg.type()].update(serializedSize);
 #endif /* defined(MESSAGE_SIZE_STATS) */
@@ -125,8 +197,23 @@ void
 CommunicationStream::writeMessage(Message &msg)
    {
    char *serialMsg = msg.serialize();
-   // write serialized message to the socket
-   writeBlocking(serialMsg, msg.serializedSize());
+   uint32_t serializedSize = msg.serializedSize();
+   if (_compressOutgoingMessages && (serializedSize >= MessageCompressor::MIN_COMPRESSED_MESSAGE_SIZE))
+      {
+      MessageCompressor *compressor = getCompressor();
+      uint32_t frameSize = compressor->compress(serialMsg, serializedSize);
+      _totalBytesBeforeCompression += serializedSize;
+      _totalBytesAfterCompression += frameSize;
+      // write compressed message to the socket
+      writeBlocking(compressor->getFrameStart(), frameSize);
+      _numBytesSent += frameSize;
+      }
+   else
+      {
+      // write serialized message to the socket
+      writeBlocking(serialMsg, serializedSize);
+      _numBytesSent += serializedSize;
+      }
    msg.clearForWrite();
    }
 
@@ -141,6 +228,7 @@ CommunicationStream::showFullVersionIncompatibility(uint64_t serverFullVersion,
       return "protocol version: server " + CommunicationStream::showJITServerVersion(serverProtocolVersion) +
              ", client " + CommunicationStream::showJITServerVersion(clientProtocolVersion);
 
+   // Capabilities are negotiated, so they never make client and server incompatible
    uint32_t serverFlags = serverFullVersion >> 32;
    uint32_t clientFlags = clientFullVersion >> 32;
 
@@ -26,6 +26,7 @@
 #include <unistd.h>
 #include "net/LoadSSLLibs.hpp"
 #include "net/Message.hpp"
+#include "net/MessageCompressor.hpp"
 #include "infra/Statistics.hpp"
 #include "env/VerboseLog.hpp"
 #include "control/MethodToBeCompiled.hpp"
@@ -40,6 +41,17 @@ enum JITServerCompatibilityFlags
    JITServerCompressedRef      = 0x00001000,
    };
 
+// Optional features that do not change the protocol version. The server advertises the
+// features it supports in the configuration word of every message it sends; clients that
+// predate a feature never look at that word. Clients never set these bits in their own
+// configuration word, which the server checks for an exact match. A client opts into a
+// feature by using it (e.g. by sending a compressed message), so that an older server is
+// never sent anything it cannot read.
+enum JITServerCapabilityFlags
+   {
+   JITServerCompressMessages   = 0x01000000,
+   };
+
 class CommunicationStream
    {
 public:
@@ -48,6 +60,10 @@ public:
 
    static uint32_t _msgTypeCount[MessageType::MessageType_MAXTYPE];
    static uint64_t _totalMsgSize;
+   static uint64_t _totalBytesBeforeCompression; // Size of sent messages that were compressed
+   static uint64_t _totalBytesAfterCompression; // Size of the compressed frames sent for those messages
+   static uint64_t _totalCompressedBytesReceived; // Size of received compressed frames
+   static uint64_t _totalDecompressedBytesReceived; // Size of the messages decompressed from those frames
    static uint32_t _lastReadError;
    static uint32_t _numConsecutiveReadErrorsOfSameType;
    // The max read retry should be 1 less than the max compile attempt so we do
@@ -77,6 +93,11 @@ public:
       }
    static std::string showFullVersionIncompatibility(uint64_t serverFullVersion, uint64_t clientFullVersion);
 
+   /**
+      @brief Return the JITServerCapabilityFlags that are enabled at this end
+   */
+   static uint32_t getCapabilityFlags() { return CAPABILITY_FLAGS; }
+
    static void printJITServerVersion()
       {
       // print the human-readable version string
@@ -88,11 +109,23 @@ public:
       return (_numConsecutiveReadErrorsOfSameType < MAX_READ_RETRY);
       }
 
+   // Traffic on this stream, counted as it appears on the wire (i.e. after compression).
+   // The counters are not synchronized because a stream is only used by one thread at a time.
+   uint64_t getNumBytesSent() const { return _numBytesSent; }
+   uint64_t getNumBytesReceived() const { return _numBytesReceived; }
+   uint64_t getNumMessagesReceived() const { return _numMessagesReceived; }
+
 protected:
-   CommunicationStream() : _ssl(NULL), _connfd(-1) { }
+   CommunicationStream() : _ssl(NULL), _connfd(-1), _compressor(NULL), _compressOutgoingMessages(false),
+      _numBytesSent(0), _numBytesReceived(0), _numMessagesReceived(0) { }
 
    virtual ~CommunicationStream()
       {
+      if (_compressor)
+         {
+         _compressor->~MessageCompressor();
+         TR_Memory::jitPersistentFree(_compressor);
+         }
       if (_ssl)
          (*OBIO_free_all)(_ssl);
       if (_connfd != -1)
@@ -112,10 +145,26 @@ protected:
 
    int getConnFD() const { return _connfd; }
 
+   /**
+      @brief Start compressing the messages sent on this stream
+
+      Must only be called once the peer has signaled that it can
+      receive compressed messages (see JITServerCapabilityFlags):
+      the server by advertising the capability, the client by
+      sending a compressed message itself.
+   */
+   void enableMessageCompression() { _compressOutgoingMessages = true; }
+   bool isMessageCompressionEnabled() const { return _compressOutgoingMessages; }
+
    BIO *_ssl; // SSL connection, null if not using SSL
    int _connfd;
    ServerMessage _sMsg;
    ClientMessage _cMsg;
+   MessageCompressor *_compressor; // Created when the first compressed message is sent or received
+   bool _compressOutgoingMessages;
+   uint64_t _numBytesSent;
+   uint64_t _numBytesReceived;
+   uint64_t _numMessagesReceived;
 
    // When increasing a version number here (especially MINOR_NUMBER), please
    // also change the ID comment to a unique value, preferably one that has
@@ -131,8 +180,18 @@ protected:
    static const uint16_t MINOR_NUMBER = 65; // ID: YxVkiLqD7B1LhYMv58y8
    static const uint8_t PATCH_NUMBER = 0;
    static uint32_t CONFIGURATION_FLAGS;
+   static uint32_t CAPABILITY_FLAGS;
 
 private:
+   MessageCompressor *getCompressor()
+      {
+      if (!_compressor)
+         _compressor = new (PERSISTENT_NEW) MessageCompressor();
+      return _compressor;
+      }
+
+   void readCompressedMessage(Message &msg, int32_t bytesRead, uint32_t frameSize);
+
    void readBlocking(char *data, size_t size)
       {
       size_t totalBytesRead = 0;
@@ -0,0 +1,206 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+#include "net/MessageCompressor.hpp"
+#include "net/StreamExceptions.hpp"
+#include "env/CompilerEnv.hpp"
+#include "zlib.h"
+
+namespace JITServer
+{
+
+// Compression level used for messages. Messages are compressed on the critical
+// path of remote compilations, so speed matters more than the compression ratio.
+static const int MESSAGE_COMPRESSION_LEVEL = Z_BEST_SPEED;
+
+// Preset dictionary shared by client and server. It contains strings that appear in
+// most ROMClasses, class chains and method signatures sent over the wire. zlib finds
+// matches more cheaply towards the end of the dictionary, so the most common strings
+// come last. Any change to this dictionary requires a new JITServer protocol version.
+static const char compressionDictionary[] =
+   "RuntimeVisibleParameterAnnotations" "RuntimeInvisibleAnnotations" "EnclosingMethod"
+   "NestMembers" "NestHost" "PermittedSubclasses" "Record" "BootstrapMethods" "InnerClasses"
+   "MethodParameters" "Signature" "Deprecated" "Synthetic" "Exceptions" "ConstantValue"
+   "LocalVariableTypeTable" "LocalVariableTable" "SourceFile" "StackMapTable" "LineNumberTable" "Code"
+   "Ljava/lang/annotation/Annotation;" "Ljava/lang/Deprecated;" "Ljava/lang/FunctionalInterface;"
+   "java/lang/invoke/StringConcatFactory" "makeConcatWithConstants"
+   "java/lang/invoke/LambdaMetafactory" "metafactory" "altMetafactory"
+   "(Ljava/lang/invoke/MethodHandles$Lookup;Ljava/lang/String;Ljava/lang/invoke/MethodType;"
+   "Ljava/lang/invoke/MethodType;Ljava/lang/invoke/MethodHandle;Ljava/lang/invoke/MethodType;)Ljava/lang/invoke/CallSite;"
+   "java/lang/invoke/MethodHandles$Lookup" "java/lang/invoke/MethodHandle" "invokeExact" "invokeBasic"
+   "java/lang/invoke/VarHandle" "java/lang/ref/WeakReference" "java/lang/ref/Reference"
+   "java/util/concurrent/ConcurrentHashMap" "java/util/concurrent/atomic/AtomicInteger"
+   "java/util/function/Function" "java/util/function/Supplier" "java/util/function/Consumer"
+   "java/util/Objects" "requireNonNull" "java/util/Arrays" "java/util/Collections"
+   "java/util/Iterator" "hasNext" "java/util/Map$Entry" "getKey" "getValue" "entrySet"
+   "java/util/HashMap" "java/util/ArrayList" "java/util/List" "java/util/Map" "java/util/Set"
+   "java/lang/Throwable" "java/lang/Exception" "java/lang/RuntimeException" "java/lang/Error"
+   "java/lang/IllegalArgumentException" "java/lang/IllegalStateException"
+   "java/lang/NullPointerException" "java/lang/UnsupportedOperationException"
+   "java/lang/IndexOutOfBoundsException" "java/lang/ClassCastException"
+   "java/lang/Thread" "java/lang/Runnable" "java/lang/System" "arraycopy" "currentThread"
+   "java/lang/Math" "java/lang/Enum" "ordinal" "valueOf" "values" "clone" "$VALUES"
+   "java/lang/Iterable" "iterator" "java/lang/Number" "java/lang/Character" "java/lang/Boolean"
+   "java/lang/Long" "java/lang/Integer" "intValue" "longValue" "booleanValue"
+   "java/lang/StringBuilder" "append" "(Ljava/lang/String;)Ljava/lang/StringBuilder;" "toString"
+   "java/lang/Class" "getName" "getClass" "()Ljava/lang/Class;" "desiredAssertionStatus" "$assertionsDisabled"
+   "java/lang/CharSequence" "length" "charAt" "equals" "hashCode" "compareTo"
+   "(Ljava/lang/Object;)Ljava/lang/Object;" "(Ljava/lang/Object;Ljava/lang/Object;)Z"
+   "(Ljava/lang/Object;)V" "(Ljava/lang/String;)V" "(I)V" "(J)V" "(Z)V" "()I" "()J" "()Z"
+   "()Ljava/lang/String;" "()Ljava/lang/Object;" "(Ljava/lang/Object;)Z" "(I)Ljava/lang/Object;"
+   "[Ljava/lang/Object;" "[Ljava/lang/String;" "Ljava/lang/Class;" "Ljava/util/List;" "Ljava/util/Map;"
+   "Ljava/lang/Object;" "Ljava/lang/String;" "java/lang/String" "java/lang/Object"
+   "<clinit>" "()V" "<init>" "this";
+
+MessageCompressor::MessageCompressor() :
+   _deflateStream(NULL), _inflateStream(NULL)
+   {
+   }
+
+MessageCompressor::~MessageCompressor()
+   {
+   if (_deflateStream)
+      {
+      deflateEnd(_deflateStream);
+      TR::Compiler->rawAllocator.deallocate(_deflateStream);
+      }
+   if (_inflateStream)
+      {
+      inflateEnd(_inflateStream);
+      TR::Compiler->rawAllocator.deallocate(_inflateStream);
+      }
+   }
+
+void
+MessageCompressor::initDeflateStream()
+   {
+   z_stream *stream = new (TR::Compiler->rawAllocator) z_stream();
+   stream->zalloc = Z_NULL;
+   stream->zfree = Z_NULL;
+   stream->opaque = Z_NULL;
+   // Negative window bits select raw deflate: the stream never ends, so the zlib header and trailer are useless
+   if (deflateInit2(stream, MESSAGE_COMPRESSION_LEVEL, Z_DEFLATED, -MAX_WBITS, 8, Z_DEFAULT_STRATEGY) != Z_OK)
+      {
+      TR::Compiler->rawAllocator.deallocate(stream);
+      throw JITServer::StreamFailure("JITServer I/O error: cannot initialize message compression");
+      }
+   if (deflateSetDictionary(stream, (const Bytef *)compressionDictionary, sizeof(compressionDictionary) - 1) != Z_OK)
+      {
+      deflateEnd(stream);
+      TR::Compiler->rawAllocator.deallocate(stream);
+      throw JITServer::StreamFailure("JITServer I/O error: cannot set message compression dictionary");
+      }
+   _deflateStream = stream;
+   }
+
+void
+MessageCompressor::initInflateStream()
+   {
+   z_stream *stream = new (TR::Compiler->rawAllocator) z_stream();
+   stream->zalloc = Z_NULL;
+   stream->zfree = Z_NULL;
+   stream->opaque = Z_NULL;
+   stream->next_in = Z_NULL;
+   stream->avail_in = 0;
+   if (inflateInit2(stream, -MAX_WBITS) != Z_OK)
+      {
+      TR::Compiler->rawAllocator.deallocate(stream);
+      throw JITServer::StreamFailure("JITServer I/O error: cannot initialize message decompression");
+      }
+   // For raw inflate the dictionary can be set right away instead of waiting for Z_NEED_DICT
+   if (inflateSetDictionary(stream, (const Bytef *)compressionDictionary, sizeof(compressionDictionary) - 1) != Z_OK)
+      {
+      inflateEnd(stream);
+      TR::Compiler->rawAllocator.deallocate(stream);
+      throw JITServer::StreamFailure("JITServer I/O error: cannot set message decompression dictionary");
+      }
+   _inflateStream = stream;
+   }
+
+uint32_t
+MessageCompressor::compress(const char *serializedMsg, uint32_t serializedSize)
+   {
+   if (!_deflateStream)
+      initDeflateStream();
+
+   // Start with enough room for the worst case of a single flushed block;
+   // the loop below expands the frame if that turns out to be insufficient.
+   _frame.clear();
+   _frame.expandIfNeeded(FRAME_HEADER_SIZE + deflateBound(_deflateStream, serializedSize) + 16);
+
+   z_stream *stream = _deflateStream;
+   stream->next_in = (Bytef *)serializedMsg;
+   stream->avail_in = serializedSize;
+   uint32_t frameSize = FRAME_HEADER_SIZE;
+   do
+      {
+      if (frameSize == _frame.getCapacity())
+         _frame.expand(frameSize * 2, frameSize);
+      stream->next_out = (Bytef *)(_frame.getBufferStart() + frameSize);
+      stream->avail_out = _frame.getCapacity() - frameSize;
+      // Z_SYNC_FLUSH emits all pending output and aligns it on a byte boundary,
+      // so the peer can decompress the whole message without waiting for more data
+      int ret = deflate(stream, Z_SYNC_FLUSH);
+      if ((ret != Z_OK) && (ret != Z_BUF_ERROR))
+         throw JITServer::StreamFailure("JITServer I/O error: message compression failed");
+      frameSize = _frame.getCapacity() - stream->avail_out;
+      }
+   while (stream->avail_out == 0);
+
+   uint32_t *frameHeader = reinterpret_cast<uint32_t *>(_frame.getBufferStart());
+   frameHeader[0] = frameSize | COMPRESSED_MESSAGE_FLAG;
+   frameHeader[1] = serializedSize;
+   return frameSize;
+   }
+
+char *
+MessageCompressor::getFrameBuffer(uint32_t frameSize)
+   {
+   _frame.clear();
+   _frame.expandIfNeeded(frameSize);
+   return _frame.getBufferStart();
+   }
+
+void
+MessageCompressor::decompress(uint32_t frameSize, char *msgBuffer, uint32_t uncompressedSize)
+   {
+   if (!_inflateStream)
+      initInflateStream();
+
+   z_stream *stream = _inflateStream;
+   stream->next_in = (Bytef *)(_frame.getBufferStart() + FRAME_HEADER_SIZE);
+   stream->avail_in = frameSize - FRAME_HEADER_SIZE;
+   stream->next_out = (Bytef *)msgBuffer;
+   stream->avail_out = uncompressedSize;
+
+   // Keep going until the whole frame is consumed, including the empty block
+   // emitted by the sync flush, which may be left over once the output is full
+   int ret = Z_OK;
+   do
+      {
+      ret = inflate(stream, Z_SYNC_FLUSH);
+      }
+   while ((ret == Z_OK) && (stream->avail_in != 0));
+
+   if (((ret != Z_OK) && (ret != Z_BUF_ERROR)) || (stream->avail_in != 0) || (stream->avail_out != 0))
+      throw JITServer::StreamFailure("JITServer I/O error: message decompression failed");
+   }
+};
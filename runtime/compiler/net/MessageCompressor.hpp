@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+#ifndef MESSAGE_COMPRESSOR_H
+#define MESSAGE_COMPRESSOR_H
+
+#include "net/MessageBuffer.hpp"
+
+struct z_stream_s;
+
+namespace JITServer
+{
+/**
+   @class MessageCompressor
+   @brief Streaming compressor for the messages exchanged over one JITServer connection
+
+   Each direction of a connection uses its own raw deflate stream that lives as long as
+   the connection, so content that was already sent in earlier messages (class names,
+   signatures, ROMClass fragments) is encoded as a back-reference instead of being resent.
+   Every compressed message ends with a sync flush, which makes it decodable as soon as it
+   is received. Both ends prime their streams with the same dictionary of common class file
+   content, so that the first messages on a connection compress well too. The dictionary is
+   part of the wire protocol: changing it requires a new protocol version.
+
+   A compressed message is sent as a frame with the following layout:
+      uint32_t frameSize | COMPRESSED_MESSAGE_FLAG  (frameSize includes the frame header)
+      uint32_t uncompressedSize                    (serialized size of the original message)
+      deflate data                                 (frameSize - FRAME_HEADER_SIZE bytes)
+
+   Uncompressed messages keep their usual layout, so once a peer agreed to receive
+   compressed messages, compressed and uncompressed messages can be freely mixed.
+*/
+class MessageCompressor
+   {
+public:
+   // Set in the size word of a compressed frame. The size of a serialized
+   // message always fits on 31 bits, so the flag cannot be mistaken for a size.
+   static const uint32_t COMPRESSED_MESSAGE_FLAG = 0x80000000;
+   static const uint32_t FRAME_HEADER_SIZE = 2 * sizeof(uint32_t);
+   // Messages smaller than this are sent uncompressed
+   static const uint32_t MIN_COMPRESSED_MESSAGE_SIZE = 128;
+
+   MessageCompressor();
+   ~MessageCompressor();
+
+   /**
+      @brief Compress a serialized message into a frame
+
+      The frame is written to the internal frame buffer and stays valid until the next call.
+      Once this method has been called, the frame must be sent to the peer because the
+      compressed data is now part of the stream history.
+
+      @param serializedMsg Pointer to the serialized message
+      @param serializedSize Size of the serialized message
+
+      @return The size of the frame, which starts at getFrameStart()
+   */
+   uint32_t compress(const char *serializedMsg, uint32_t serializedSize);
+
+   /**
+      @brief Get a buffer that can hold a received frame of the given size
+
+      @param frameSize The size of the frame, including the frame header
+   */
+   char *getFrameBuffer(uint32_t frameSize);
+
+   char *getFrameStart() const { return _frame.getBufferStart(); }
+
+   /**
+      @brief Decompress the frame held in the frame buffer
+
+      @param frameSize The size of the frame, including the frame header
+      @param msgBuffer Destination buffer, at least uncompressedSize bytes large
+      @param uncompressedSize The size of the message, as recorded in the frame header
+   */
+   void decompress(uint32_t frameSize, char *msgBuffer, uint32_t uncompressedSize);
+
+   static uint32_t getUncompressedSize(const char *frame) { return reinterpret_cast<const uint32_t *>(frame)[1]; }
+
+private:
+   void initDeflateStream();
+   void initInflateStream();
+
+   z_stream_s *_deflateStream; // Created when the first message is compressed
+   z_stream_s *_inflateStream; // Created when the first compressed message is received
+   MessageBuffer _frame; // Holds the frame being sent or received
+   };
+};
+#endif
@@ -97,6 +97,8 @@ public:
          }
 
       _sMsg.setType(type);
+      // Advertise the capabilities of the server; clients that predate them ignore this word
+      _sMsg.getMetaData()->_config = getCapabilityFlags();
       setArgsRaw<Args...>(_sMsg, args...);
       writeMessage(_sMsg);
       }
@@ -33,6 +33,7 @@
 #include "runtime/JITServerSharedROMClassCache.hpp"
 #include "runtime/RuntimeAssumptions.hpp" // for TR_AddressSet
 #include "control/CompilationController.hpp"
+#include "AtomicSupport.hpp"
 
 TR_OpaqueClassBlock * const ClientSessionData::mustClearCachesFlag = reinterpret_cast<TR_OpaqueClassBlock *>(~0);
 
@@ -61,6 +62,8 @@ ClientSessionData::ClientSessionData(uint64_t clientUID, uint32_t seqNo, TR_Pers
    _javaLangClassPtr = NULL;
    _inUse = 1;
    _numActiveThreads = 0;
+   _numBytesSent = 0;
+   _numBytesReceived = 0;
    _romMapMonitor = TR::Monitor::create("JIT-JITServerROMMapMonitor");
    _classMapMonitor = TR::Monitor::create("JIT-JITServerClassMapMonitor");
    _classChainDataMapMonitor = TR::Monitor::create("JIT-JITServerClassChainDataMapMonitor");
@@ -101,6 +104,9 @@ ClientSessionData::~ClientSessionData()
 
    clearCaches();
 
+   if (_aotHeaderRecord)
+      _aotHeaderRecord->release();
+
    if (_vmInfo)
       {
       destroyJ9SharedClassCacheDescriptorList();
@@ -134,6 +140,13 @@ ClientSessionData::updateTimeOfLastAccess()
    _timeOfLastAccess = j9time_current_time_millis();
    }
 
+void
+ClientSessionData::addNetworkTraffic(uint64_t bytesSent, uint64_t bytesReceived)
+   {
+   VM_AtomicSupport::add(&_numBytesSent, (uintptr_t)bytesSent);
+   VM_AtomicSupport::add(&_numBytesReceived, (uintptr_t)bytesReceived);
+   }
+
 // This method is called within a critical section such that no two threads can enter it concurrently
 void
 ClientSessionData::initializeUnloadedClassAddrRanges(const std::vector<TR_AddressRange> &unloadedClassRanges, int32_t maxRanges)
@@ -241,6 +254,8 @@ ClientSessionData::processUnloadedClasses(const std::vector<TR_OpaqueClassBlock*
                   _persistentMemory->freePersistentMemory(ipDataHT);
                   iter->second._IPData = NULL;
                   }
+               if (iter->second._aotCacheMethodRecord)
+                  iter->second._aotCacheMethodRecord->release();
                _J9MethodMap.erase(j9method);
                }
             }
@@ -254,7 +269,15 @@ ClientSessionData::processUnloadedClasses(const std::vector<TR_OpaqueClassBlock*
    OMR::CriticalSection processUnloadedClasses(getClassChainDataMapMonitor());
 
    for (auto clazz : classes)
-      _classChainDataMap.erase((J9Class*)clazz);
+      {
+      auto it = _classChainDataMap.find((J9Class*)clazz);
+      if (it != _classChainDataMap.end())
+         {
+         if (it->second._aotCacheClassChainRecord)
+            it->second._aotCacheClassChainRecord->release();
+         _classChainDataMap.erase(it);
+         }
+      }
    }
 
    // purge Class by name cache
@@ -432,6 +455,9 @@ ClientSessionData::ClassInfo::freeClassInfo(TR_PersistentMemory *persistentMemor
    {
    JITServerHelpers::freeRemoteROMClass(_romClass, persistentMemory);
 
+   if (_aotCacheClassRecord)
+      _aotCacheClassRecord->release();
+
    // free cached _interfaces
    _interfaces->~PersistentVector<TR_OpaqueClassBlock *>();
    persistentMemory->freePersistentMemory(_interfaces);
@@ -533,6 +559,8 @@ ClientSessionData::clearCaches(bool locked)
          _persistentMemory->freePersistentMemory(ipDataHT);
          it.second._IPData = NULL;
          }
+      if (it.second._aotCacheMethodRecord)
+         it.second._aotCacheMethodRecord->release();
       }
 
    _J9MethodMap.clear();
@@ -542,6 +570,7 @@ ClientSessionData::clearCaches(bool locked)
 
    _romClassMap.clear();
 
+   releaseClassChainAndWellKnownClassesRecords();
    _classChainDataMap.clear();
    _constantPoolToClassMap.clear();
 
@@ -596,16 +625,27 @@ ClientSessionData::destroy(ClientSessionData *clientSession)
    if (usesPerClientMemory && useAOTCache)
       {
       // Destroy objects that are allocated globally:
-      // shared ROMClasses (if enabled), monitors, std::strings
+      // shared ROMClasses (if enabled), monitors, std::strings;
+      // and release the references to the AOT cache records used by this client
       auto sharedROMClassCache = compInfo->getJITServerSharedROMClassCache();
       for (auto &it : clientSession->_romClassMap)
          {
          if (sharedROMClassCache)
             sharedROMClassCache->release(it.second._romClass);
+         if (it.second._aotCacheClassRecord)
+            it.second._aotCacheClassRecord->release();
          it.second._classNameIdentifyingLoader.~basic_string();
          for (auto &kv : it.second._J9MethodNameCache)
             kv.second.~J9MethodNameAndSignature();
          }
+      for (auto &it : clientSession->_J9MethodMap)
+         {
+         if (it.second._aotCacheMethodRecord)
+            it.second._aotCacheMethodRecord->release();
+         }
+      clientSession->releaseClassChainAndWellKnownClassesRecords();
+      if (clientSession->_aotHeaderRecord)
+         clientSession->_aotHeaderRecord->release();
 
       for (auto &it : clientSession->_classBySignatureMap)
          it.first.~ClassLoaderStringPair();
@@ -761,9 +801,24 @@ ClientSessionData::cacheWellKnownClassChainOffsets(unsigned int includedClasses,
    // Create and save AOT cache well-known classes record if requested
    wellKnownClassesRecord = classChainRecords ?
       _aotCache->getWellKnownClassesRecord(classChainRecords, numClasses, includedClasses) : NULL;
+   if (_wellKnownClasses._aotCacheWellKnownClassesRecord)
+      _wellKnownClasses._aotCacheWellKnownClassesRecord->release();
    _wellKnownClasses._aotCacheWellKnownClassesRecord = wellKnownClassesRecord;
    }
 
+void
+ClientSessionData::releaseClassChainAndWellKnownClassesRecords()
+   {
+   for (auto &it : _classChainDataMap)
+      {
+      if (it.second._aotCacheClassChainRecord)
+         it.second._aotCacheClassChainRecord->release();
+      }
+   if (_wellKnownClasses._aotCacheWellKnownClassesRecord)
+      _wellKnownClasses._aotCacheWellKnownClassesRecord->release();
+   _wellKnownClasses._aotCacheWellKnownClassesRecord = NULL;
+   }
+
 JITServerAOTCache *
 ClientSessionData::getOrCreateAOTCache(JITServer::ServerStream *stream)
    {
@@ -971,7 +1026,9 @@ ClientSessionData::getMethodRecord(J9Method *method, J9Class *definingClass, JIT
    OMR::CriticalSection cs(getROMMapMonitor());
    auto it = getJ9MethodMap().find(method);
    TR_ASSERT(it != getJ9MethodMap().end(), "Method %p must be already cached", method);
-   it->second._aotCacheMethodRecord = _aotCache->getMethodRecord(classRecord, it->second._index, it->second._romMethod);
+   // Another thread could have cached the record in the meantime
+   if (!it->second._aotCacheMethodRecord)
+      it->second._aotCacheMethodRecord = _aotCache->getMethodRecord(classRecord, it->second._index, it->second._romMethod);
    return it->second._aotCacheMethodRecord;
    }
 
@@ -1112,7 +1169,15 @@ ClientSessionData::getClassChainRecord(J9Class *clazz, uintptr_t classChainOffse
    OMR::CriticalSection cs(getClassChainDataMapMonitor());
    auto result = getClassChainDataMap().insert({ clazz, { classChainOffset, record } });
    if (!result.second)
-      result.first->second._aotCacheClassChainRecord = record;
+      {
+      // Keep the record cached by another thread in the meantime, if any
+      const AOTCacheClassChainRecord *&cachedRecord = result.first->second._aotCacheClassChainRecord;
+      if (!cachedRecord)
+         cachedRecord = record;
+      else if (record)
+         record->release();
+      record = cachedRecord;
+      }
    return record;
    }
 
@@ -1120,7 +1185,14 @@ const AOTCacheWellKnownClassesRecord *
 ClientSessionData::getWellKnownClassesRecord(const AOTCacheClassChainRecord *const *chainRecords,
                                              size_t length, uintptr_t includedClasses)
    {
-   return _aotCache->getWellKnownClassesRecord(chainRecords, length, includedClasses);
+   auto record = _aotCache->getWellKnownClassesRecord(chainRecords, length, includedClasses);
+
+   // Keep the reference to the most recent record in the session, so that it stays valid for the caller
+   OMR::CriticalSection wellKnownClasses(_wellKnownClassesMonitor);
+   if (_wellKnownClasses._aotCacheWellKnownClassesRecord)
+      _wellKnownClasses._aotCacheWellKnownClassesRecord->release();
+   _wellKnownClasses._aotCacheWellKnownClassesRecord = record;
+   return record;
    }
 
 bool
@@ -413,6 +413,10 @@ public:
    int32_t getNumActiveThreads() const { return _numActiveThreads; }
    void incNumActiveThreads() { ++_numActiveThreads; }
    void decNumActiveThreads() { --_numActiveThreads; }
+   // Account for the traffic of a compilation; called concurrently by the threads serving this client
+   void addNetworkTraffic(uint64_t bytesSent, uint64_t bytesReceived);
+   uint64_t getNumBytesSent() const { return _numBytesSent; }
+   uint64_t getNumBytesReceived() const { return _numBytesReceived; }
    void printStats();
 
    void markForDeletion() { _markedForDeletion = true; }
@@ -498,6 +502,8 @@ public:
 
 private:
    void destroyMonitors();
+   // Release the references to AOT cache records held by the class chain data map and the well-known classes cache
+   void releaseClassChainAndWellKnownClassesRecords();
 
    // If this function sets the missingLoaderInfo flag then a NULL result is due to missing class loader info;
    // otherwise that result is due to either the base component (returned via non-NULL uncachedBaseComponent)
@@ -549,6 +555,8 @@ private:
    int32_t _numActiveThreads; // Number of threads working on compilations for this client
                               // This is smaller or equal to _inUse because some threads
                               // could be just starting or waiting in _OOSequenceEntryList
+   volatile uintptr_t _numBytesSent; // Network traffic of compilations for this client; updated atomically
+   volatile uintptr_t _numBytesReceived;
    VMInfo *_vmInfo; // info specific to a client VM that does not change, NULL means not set
    bool _markedForDeletion; //Client Session is marked for deletion. When the inUse count will become zero this will be deleted.
    TR_AddressSet *_unloadedClassAddresses; // Per-client versions of the unloaded class and method addresses kept in J9PersistentInfo
@@ -618,6 +626,12 @@ class ClientSessionHT
    void purgeOldDataIfNeeded();
    void printStats();
    uint32_t size() const { return _clientSessionMap.size(); }
+   // Apply the given function to all client sessions; must be called with the compilation monitor in hand
+   template<typename F> void forEachClientSession(F f) const
+      {
+      for (auto &it : _clientSessionMap)
+         f(it.second);
+      }
 
    private:
    PersistentUnorderedMap<uint64_t, ClientSessionData*> _clientSessionMap;
@@ -20,7 +20,14 @@
  * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
  *******************************************************************************/
 
+#include <algorithm>
 #include <cstdio> // for rename()
+#include <fcntl.h>
+#include <sys/file.h> // for flock()
+#include <sys/mman.h>
+#include <sys/stat.h>
+#include <unistd.h> // for fsync()
+#include "AtomicSupport.hpp"
 #include "control/CompilationRuntime.hpp"
 #include "env/J9SegmentProvider.hpp"
 #include "env/StackMemoryRegion.hpp"
@@ -33,6 +40,7 @@
 struct JITServerAOTCacheReadContext
    {
    JITServerAOTCacheReadContext(const JITServerAOTCacheHeader &header, TR::StackMemoryRegion &stackMemoryRegion);
+   JITServerAOTCacheReadContext(const JITServerAOTCacheJournalHeader &header, TR::StackMemoryRegion &stackMemoryRegion);
 
    Vector<AOTCacheClassLoaderRecord *> _classLoaderRecords;
    Vector<AOTCacheClassRecord *> _classRecords;
@@ -45,21 +53,115 @@ struct JITServerAOTCacheReadContext
 
 size_t JITServerAOTCacheMap::_cacheMaxBytes = 300 * 1024 * 1024;
 bool JITServerAOTCacheMap::_cacheIsFull = false;
+bool JITServerAOTCacheMap::_cacheEvictionEnabled = true;
+volatile size_t JITServerAOTCacheMap::_cacheBytesInUse = 0;
+volatile size_t JITServerAOTCacheMap::_numEvictedMethods = 0;
+volatile size_t JITServerAOTCacheMap::_numEvictedBytes = 0;
 
 
+// Each record allocation is prefixed with its size, so that the number of bytes
+// in use can be updated when the record is freed (e.g. after it is evicted)
+union AOTCacheRecordAllocationHeader
+   {
+   size_t _size;
+   uint64_t _alignment; // Keep the records 8-byte aligned
+   };
+
 void *
 AOTCacheRecord::allocate(size_t size)
    {
-   void *ptr = TR::Compiler->persistentGlobalMemory()->allocatePersistentMemory(size, TR_Memory::JITServerAOTCache);
+   size_t totalSize = sizeof(AOTCacheRecordAllocationHeader) + size;
+   void *ptr = TR::Compiler->persistentGlobalMemory()->allocatePersistentMemory(totalSize, TR_Memory::JITServerAOTCache);
    if (!ptr)
       throw std::bad_alloc();
-   return ptr;
+
+   auto header = (AOTCacheRecordAllocationHeader *)ptr;
+   header->_size = totalSize;
+   VM_AtomicSupport::add(&JITServerAOTCacheMap::_cacheBytesInUse, totalSize);
+   return header + 1;
    }
 
 void
 AOTCacheRecord::free(void *ptr)
    {
-   TR::Compiler->persistentGlobalMemory()->freePersistentMemory(ptr);
+   auto header = (AOTCacheRecordAllocationHeader *)ptr - 1;
+   VM_AtomicSupport::subtract(&JITServerAOTCacheMap::_cacheBytesInUse, header->_size);
+   TR::Compiler->persistentGlobalMemory()->freePersistentMemory(header);
+   }
+
+size_t
+AOTCacheRecord::allocationSize(const void *ptr)
+   {
+   return ((const AOTCacheRecordAllocationHeader *)ptr - 1)->_size;
+   }
+
+void
+AOTCacheRecord::acquire() const
+   {
+   TR_ASSERT(RETIRED_REF_COUNT != _refCount, "Cannot acquire a record that was removed from the cache");
+   VM_AtomicSupport::add(&_refCount, 1);
+   }
+
+bool
+AOTCacheRecord::tryAcquire() const
+   {
+   uintptr_t oldCount;
+   do
+      {
+      oldCount = _refCount;
+      if (RETIRED_REF_COUNT == oldCount)
+         return false;
+      }
+   while (oldCount != VM_AtomicSupport::lockCompareExchange(&_refCount, oldCount, oldCount + 1));
+   return true;
+   }
+
+void
+AOTCacheRecord::release() const
+   {
+   TR_ASSERT((0 != _refCount) && (RETIRED_REF_COUNT != _refCount), "Unbalanced release of an AOT cache record");
+   VM_AtomicSupport::subtract(&_refCount, 1);
+   }
+
+bool
+AOTCacheRecord::retire() const
+   {
+   return 0 == VM_AtomicSupport::lockCompareExchange(&_refCount, 0, RETIRED_REF_COUNT);
+   }
+
+// Acquire a reference to each sub-record of the given record or cached method. If one of the
+// sub-records was already removed from the cache, return false without holding any of the references.
+template<class R> static bool
+tryAcquireSubRecords(const R *record)
+   {
+   size_t numAcquired = 0;
+   bool success = true;
+   record->subRecordsDo([&](const AOTCacheRecord *r)
+      {
+      if (success && r->tryAcquire())
+         ++numAcquired;
+      else
+         success = false;
+      });
+
+   if (!success)
+      {
+      size_t i = 0;
+      record->subRecordsDo([&](const AOTCacheRecord *r) { if (i++ < numAcquired) r->release(); });
+      }
+   return success;
+   }
+
+template<class R> static void
+acquireSubRecords(const R *record)
+   {
+   record->subRecordsDo([](const AOTCacheRecord *r) { r->acquire(); });
+   }
+
+template<class R> static void
+releaseSubRecords(const R *record)
+   {
+   record->subRecordsDo([](const AOTCacheRecord *r) { r->release(); });
    }
 
 // Read a single AOT cache record R from a cache file
@@ -105,6 +207,38 @@ AOTCacheRecord::readRecord(FILE *f, const JITServerAOTCacheReadContext &context)
    return record;
    }
 
+// Read a single AOT cache record R from a journal entry of the given size
+template<class R> R *
+AOTCacheRecord::readRecord(const uint8_t *data, size_t size, const JITServerAOTCacheReadContext &context)
+   {
+   typename R::SerializationRecord header;
+   if (size < sizeof(header))
+      {
+      if (TR::Options::getVerboseOption(TR_VerboseJITServer))
+         TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "AOT cache: Journal entry for %s record is truncated", R::getRecordName());
+      return NULL;
+      }
+   memcpy(&header, data, sizeof(header));
+
+   if (!header.isValidHeader(context) || (header.size() != size))
+      {
+      if (TR::Options::getVerboseOption(TR_VerboseJITServer))
+         TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "AOT cache: Header for %s record is invalid", R::getRecordName());
+      return NULL;
+      }
+
+   R *record = new (AOTCacheRecord::allocate(R::size(header))) R(context, header);
+   memcpy((void *)record->dataAddr(), data, size);
+
+   if (!record->setSubrecordPointers(context))
+      {
+      AOTCacheRecord::free(record);
+      return NULL;
+      }
+
+   return record;
+   }
+
 bool
 AOTSerializationRecord::isValidHeader(AOTSerializationRecordType type) const
    {
@@ -449,9 +583,13 @@ CachedAOTMethod::CachedAOTMethod(const AOTCacheClassChainRecord *definingClassCh
                                  const Vector<std::pair<const AOTCacheRecord *, uintptr_t>> &records,
                                  const void *code, size_t codeSize, const void *data, size_t dataSize) :
    _nextRecord(NULL),
+   _refCount(1),
+   _numAccesses(0),
+   _lastAccessTime(0),
    _data(definingClassChainRecord->data().id(), index, optLevel,
          aotHeaderRecord->data().id(), records.size(), code, codeSize, data, dataSize),
-   _definingClassChainRecord(definingClassChainRecord)
+   _definingClassChainRecord(definingClassChainRecord),
+   _aotHeaderRecord(aotHeaderRecord)
    {
    for (size_t i = 0; i < records.size(); ++i)
       {
@@ -463,7 +601,11 @@ CachedAOTMethod::CachedAOTMethod(const AOTCacheClassChainRecord *definingClassCh
 
 CachedAOTMethod::CachedAOTMethod(const JITServerAOTCacheReadContext &context, const SerializedAOTMethod &header) :
    _nextRecord(NULL),
-   _definingClassChainRecord(context._classChainRecords[header.definingClassChainId()])
+   _refCount(1),
+   _numAccesses(0),
+   _lastAccessTime(0),
+   _definingClassChainRecord(context._classChainRecords[header.definingClassChainId()]),
+   _aotHeaderRecord(context._aotHeaderRecords[header.aotHeaderId()])
    {
    }
 
@@ -478,6 +620,27 @@ CachedAOTMethod::create(const AOTCacheClassChainRecord *definingClassChainRecord
                                     records, code, codeSize, data, dataSize);
    }
 
+void
+CachedAOTMethod::acquire()
+   {
+   VM_AtomicSupport::add(&_refCount, 1);
+   }
+
+size_t
+CachedAOTMethod::release()
+   {
+   return VM_AtomicSupport::subtract(&_refCount, 1);
+   }
+
+void
+CachedAOTMethod::subRecordsDo(const std::function<void(const AOTCacheRecord *)> &f) const
+   {
+   f(_definingClassChainRecord);
+   f(_aotHeaderRecord);
+   for (size_t i = 0; i < data().numRecords(); ++i)
+      f(records()[i]);
+   }
+
 bool
 CachedAOTMethod::setSubrecordPointers(const JITServerAOTCacheReadContext &context)
    {
@@ -752,12 +915,18 @@ JITServerAOTCache::JITServerAOTCache(const std::string &name) :
    _cachedMethodHead(NULL),
    _cachedMethodTail(NULL),
    _cachedMethodMonitor(TR::Monitor::create("JIT-JITServerAOTCacheCachedMethodMonitor")),
+   _recordUseEpoch(0),
+   _numRecordUsers(),
+   _retiredRecords(),
+   _retiredBytes(),
    _timePrevSaveOperation(0),
    _minNumAOTMethodsToSave(TR::Options::_aotCachePersistenceMinDeltaMethods),
    _saveOperationInProgress(false), // protected by the _cachedMethodMonitor
    _excludedFromSavingToFile(false),
+   _journal(),
    _numCacheBypasses(0), _numCacheHits(0), _numCacheMisses(0),
-   _numDeserializedMethods(0), _numDeserializationFailures(0), _numGeneratedClasses(0)
+   _numDeserializedMethods(0), _numDeserializationFailures(0), _numGeneratedClasses(0),
+   _numEvictedMethods(0), _numFreedRecords(0)
    {
    bool allMonitors = _classLoaderMonitor && _classMonitor && _methodMonitor &&
                       _classChainMonitor && _wellKnownClassesMonitor &&
@@ -776,6 +945,15 @@ JITServerAOTCache::~JITServerAOTCache()
    freeMapValues(_aotHeaderMap);
    freeMapValues(_thunkMap);
    freeMapValues(_cachedMethodMap);
+   for (AOTCacheRecord *retiredList : _retiredRecords)
+      {
+      for (AOTCacheRecord *record = retiredList; record;)
+         {
+         AOTCacheRecord *next = record->getNextRecord();
+         AOTCacheRecord::free(record);
+         record = next;
+         }
+      }
 
    TR::Monitor::destroy(_classMonitor);
    TR::Monitor::destroy(_classLoaderMonitor);
@@ -798,6 +976,17 @@ JITServerAOTCacheReadContext::JITServerAOTCacheReadContext(const JITServerAOTCac
    {
    }
 
+JITServerAOTCacheReadContext::JITServerAOTCacheReadContext(const JITServerAOTCacheJournalHeader &header, TR::StackMemoryRegion &stackMemoryRegion) :
+   _classLoaderRecords(header._nextRecordIds[AOTSerializationRecordType::ClassLoader], NULL, stackMemoryRegion),
+   _classRecords(header._nextRecordIds[AOTSerializationRecordType::Class], NULL, stackMemoryRegion),
+   _methodRecords(header._nextRecordIds[AOTSerializationRecordType::Method], NULL, stackMemoryRegion),
+   _classChainRecords(header._nextRecordIds[AOTSerializationRecordType::ClassChain], NULL, stackMemoryRegion),
+   _wellKnownClassesRecords(header._nextRecordIds[AOTSerializationRecordType::WellKnownClasses], NULL, stackMemoryRegion),
+   _aotHeaderRecords(header._nextRecordIds[AOTSerializationRecordType::AOTHeader], NULL, stackMemoryRegion),
+   _thunkRecords(header._nextRecordIds[AOTSerializationRecordType::Thunk], NULL, stackMemoryRegion)
+   {
+   }
+
 // Helper macros to make the code for printing class and method names to vlog more concise
 #define RECORD_NAME(record) (int)(record).nameLength(), (const char *)(record).name()
 #define LENGTH_AND_DATA(str) J9UTF8_LENGTH(str), (const char *)J9UTF8_DATA(str)
@@ -897,7 +1086,10 @@ JITServerAOTCache::getClassRecord(const AOTCacheClassLoaderRecord *classLoaderRe
 
    auto it = _classMap.find({ classLoaderRecord, &hash });
    if (it != _classMap.end())
+      {
+      it->second->acquire();
       return it->second;
+      }
 
    if (!JITServerAOTCacheMap::cacheHasSpace())
       return NULL;
@@ -909,8 +1101,10 @@ JITServerAOTCache::getClassRecord(const AOTCacheClassLoaderRecord *classLoaderRe
    // during deserialization, and the size in their class record is never examined.
    auto record = AOTCacheClassRecord::create(_nextClassId, classLoaderRecord, hash, romClass->romSize,
                                              prefixLength != 0, romClass, baseComponent, numDimensions);
+   acquireSubRecords(record); // Class loader records are never removed from the cache
    addToMap(_classMap, _classHead, _classTail, it, getRecordKey(record), record);
    ++_nextClassId;
+   record->acquire();
 
    if (TR::Options::getVerboseOption(TR_VerboseJITServer))
       {
@@ -934,7 +1128,10 @@ JITServerAOTCache::getMethodRecord(const AOTCacheClassRecord *definingClassRecor
 
    auto it = _methodMap.find({ definingClassRecord, index });
    if (it != _methodMap.end())
+      {
+      it->second->acquire();
       return it->second;
+      }
 
    if (!JITServerAOTCacheMap::cacheHasSpace())
       {
@@ -942,8 +1139,14 @@ JITServerAOTCache::getMethodRecord(const AOTCacheClassRecord *definingClassRecor
       }
 
    auto record = AOTCacheMethodRecord::create(_nextMethodId, definingClassRecord, index);
+   if (!tryAcquireSubRecords(record))
+      {
+      AOTCacheRecord::free(record);
+      return NULL;
+      }
    addToMap(_methodMap, _methodHead, _methodTail, it, getRecordKey(record), record);
    ++_nextMethodId;
+   record->acquire();
 
    if (TR::Options::getVerboseOption(TR_VerboseJITServer))
       {
@@ -964,7 +1167,10 @@ JITServerAOTCache::getClassChainRecord(const AOTCacheClassRecord *const *classRe
 
    auto it = _classChainMap.find({ classRecords, length });
    if (it != _classChainMap.end())
+      {
+      it->second->acquire();
       return it->second;
+      }
 
    if (!JITServerAOTCacheMap::cacheHasSpace())
       {
@@ -972,8 +1178,14 @@ JITServerAOTCache::getClassChainRecord(const AOTCacheClassRecord *const *classRe
       }
 
    auto record = AOTCacheClassChainRecord::create(_nextClassChainId, classRecords, length);
+   if (!tryAcquireSubRecords(record))
+      {
+      AOTCacheRecord::free(record);
+      return NULL;
+      }
    addToMap(_classChainMap, _classChainHead, _classChainTail, it, getRecordKey(record), record);
    ++_nextClassChainId;
+   record->acquire();
 
    if (TR::Options::getVerboseOption(TR_VerboseJITServer))
       {
@@ -995,7 +1207,10 @@ JITServerAOTCache::getWellKnownClassesRecord(const AOTCacheClassChainRecord *con
 
    auto it = _wellKnownClassesMap.find({ chainRecords, length, includedClasses });
    if (it != _wellKnownClassesMap.end())
+      {
+      it->second->acquire();
       return it->second;
+      }
 
    if (!JITServerAOTCacheMap::cacheHasSpace())
       {
@@ -1003,8 +1218,14 @@ JITServerAOTCache::getWellKnownClassesRecord(const AOTCacheClassChainRecord *con
       }
 
    auto record = AOTCacheWellKnownClassesRecord::create(_nextWellKnownClassesId, chainRecords, length, includedClasses);
+   if (!tryAcquireSubRecords(record))
+      {
+      AOTCacheRecord::free(record);
+      return NULL;
+      }
    addToMap(_wellKnownClassesMap, _wellKnownClassesHead, _wellKnownClassesTail, it, getRecordKey(record), record);
    ++_nextWellKnownClassesId;
+   record->acquire();
 
    if (TR::Options::getVerboseOption(TR_VerboseJITServer))
       TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer,
@@ -1028,6 +1249,7 @@ JITServerAOTCache::getAOTHeaderRecord(const TR_AOTHeader *header, uint64_t clien
             "AOT cache %s: using existing AOT header ID %zu for clientUID %llu",
             _name.c_str(), it->second->data().id(), (unsigned long long)clientUID
          );
+      it->second->acquire();
       return it->second;
       }
 
@@ -1039,6 +1261,7 @@ JITServerAOTCache::getAOTHeaderRecord(const TR_AOTHeader *header, uint64_t clien
    auto record = AOTCacheAOTHeaderRecord::create(_nextAOTHeaderId, header);
    addToMap(_aotHeaderMap, _aotHeaderHead, _aotHeaderTail, it, getRecordKey(record), record);
    ++_nextAOTHeaderId;
+   record->acquire();
 
    if (TR::Options::getVerboseOption(TR_VerboseJITServer))
       TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer,
@@ -1100,6 +1323,15 @@ JITServerAOTCache::storeMethod(const AOTCacheClassChainRecord *definingClassChai
    CachedMethodKey key(definingClassChainRecord, index, optLevel, aotHeaderRecord);
    OMR::CriticalSection cs(_cachedMethodMonitor);
 
+   // Make room for the new method by evicting cold methods if the AOT caches are close to their size limit.
+   // Eviction is postponed while this cache is being saved, since the list of methods is then being traversed.
+   if (!_saveOperationInProgress)
+      {
+      size_t bytesToEvict = JITServerAOTCacheMap::getNumBytesToEvict();
+      if (bytesToEvict)
+         evictMethods(bytesToEvict);
+      }
+
    if (!JITServerAOTCacheMap::cacheHasSpace())
       {
       if (TR::Options::getVerboseOption(TR_VerboseJITServer))
@@ -1114,8 +1346,8 @@ JITServerAOTCache::storeMethod(const AOTCacheClassChainRecord *definingClassChai
    if (it != _cachedMethodMap.end())
       {
       //NOTE: Current implementation keeps the first version of the method for this key in the cache.
-      //      If we want to keep the most recent version instead, we will need to synchronize deleting
-      //      the old version with any concurrent threads that could be sending it to other clients.
+      //      Replacing it with the most recent version would need the same reference counting
+      //      that is used for eviction, since other threads could be sending the old version to clients.
       if (TR::Options::getVerboseOption(TR_VerboseJITServer))
          TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer,
             "AOT cache %s: method %s @ %s index %u class ID %zu AOT header ID %zu already exists",
@@ -1126,8 +1358,20 @@ JITServerAOTCache::storeMethod(const AOTCacheClassChainRecord *definingClassChai
 
    auto method = CachedAOTMethod::create(definingClassChainRecord, index, optLevel, aotHeaderRecord,
                                          records, code, codeSize, data, dataSize);
-   methodRecord = method;
+   if (!tryAcquireSubRecords(method))
+      {
+      AOTCacheRecord::free(method);
+      if (TR::Options::getVerboseOption(TR_VerboseJITServer))
+         TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer,
+            "AOT cache %s: method %s @ %s index %u class ID %zu AOT header ID %zu refers to records that were removed from the cache",
+            _name.c_str(), signature, levelName, index, definingClassId, aotHeaderRecord->data().id()
+         );
+      return false;
+      }
    addToMap(_cachedMethodMap, _cachedMethodHead, _cachedMethodTail, it, key, method);
+   method->recordAccess(TR::CompilationInfo::get()->getPersistentInfo()->getElapsedTime());
+   method->acquire();
+   methodRecord = method;
 
    if (TR::Options::getVerboseOption(TR_VerboseJITServer))
       TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer,
@@ -1155,7 +1399,242 @@ JITServerAOTCache::findMethod(const AOTCacheClassChainRecord *definingClassChain
       }
 
    ++_numCacheHits;
-   return it->second;
+   CachedAOTMethod *method = it->second;
+   method->recordAccess(TR::CompilationInfo::get()->getPersistentInfo()->getElapsedTime());
+   method->acquire();
+   return method;
+   }
+
+void
+JITServerAOTCache::releaseMethod(const CachedAOTMethod *method)
+   {
+   auto record = const_cast<CachedAOTMethod *>(method);
+   if (0 == record->release())
+      {
+      releaseSubRecords(record);
+      AOTCacheRecord::free(record);
+      }
+   }
+
+void
+JITServerAOTCache::evictMethods(size_t bytesToFree)
+   {
+   TR_ASSERT(!_saveOperationInProgress, "Cannot evict methods while the cache is being saved");
+   uint64_t now = TR::CompilationInfo::get()->getPersistentInfo()->getElapsedTime();
+
+   // Records that are no longer referenced are removed first. The ones that cannot be freed yet
+   // will be freed by a later eviction, so they also count towards the bytes to free.
+   size_t bytesRetired = retireUnreferencedRecords();
+   size_t bytesPendingFree = _retiredBytes[0] + _retiredBytes[1];
+
+   // Rank the methods by their number of accesses, divided by the number of recency periods elapsed since
+   // their last access. Frequently used methods are kept, but they eventually become candidates for eviction
+   // if they are no longer requested (e.g. because the application version they were compiled for is retired).
+   using Candidate = std::pair<double/*score*/, decltype(_cachedMethodMap)::iterator>;
+   PersistentVector<Candidate> candidates(PersistentVectorAllocator<Candidate>(TR::Compiler->persistentGlobalAllocator()));
+   candidates.reserve(_cachedMethodMap.size());
+   for (auto it = _cachedMethodMap.begin(); it != _cachedMethodMap.end(); ++it)
+      {
+      const CachedAOTMethod *method = it->second;
+      uint64_t age = now - std::min(now, method->getLastAccessTime());
+      double score = (method->getNumAccesses() + 1) / (1.0 + (double)age / EVICTION_RECENCY_PERIOD_MS);
+      candidates.push_back({ score, it });
+      }
+   std::sort(candidates.begin(), candidates.end(),
+             [](const Candidate &a, const Candidate &b) { return a.first < b.first; });
+
+   PersistentUnorderedSet<CachedAOTMethod *> evicted(
+      PersistentUnorderedSetAllocator<CachedAOTMethod *>(TR::Compiler->persistentGlobalAllocator()));
+   size_t bytesEvicted = 0;
+   for (auto &candidate : candidates)
+      {
+      if (bytesEvicted + bytesPendingFree >= bytesToFree)
+         break;
+      CachedAOTMethod *method = candidate.second->second;
+      bytesEvicted += method->totalSize();
+      evicted.insert(method);
+      _cachedMethodMap.erase(candidate.second);
+      }
+
+   // Unlink the evicted methods from the traversal list. The journal cursor is moved back to the last
+   // method that was already written to the journal and is still in the cache, so that later appends
+   // resume at the right place.
+   const CachedAOTMethod *lastWrittenMethod = _journal._lastWrittenMethod;
+   bool written = (lastWrittenMethod != NULL);
+   size_t numEvictedWritten = 0;
+   CachedAOTMethod *prev = NULL;
+   for (CachedAOTMethod *method = _cachedMethodHead; method;)
+      {
+      CachedAOTMethod *next = method->getNextRecord();
+      if (evicted.find(method) != evicted.end())
+         {
+         if (prev)
+            prev->setNextRecord(next);
+         else
+            _cachedMethodHead = next;
+         if (written)
+            ++numEvictedWritten;
+         if (method == lastWrittenMethod)
+            _journal._lastWrittenMethod = prev;
+         }
+      else
+         {
+         prev = method;
+         }
+      if (method == lastWrittenMethod)
+         written = false;
+      method = next;
+      }
+   _cachedMethodTail = prev;
+   _journal._numWrittenMethods -= numEvictedWritten;
+   _minNumAOTMethodsToSave -= std::min(_minNumAOTMethodsToSave, numEvictedWritten);
+
+   // Drop the references held by the cache; methods that are being sent to clients are freed by the last thread that releases them
+   for (auto method : evicted)
+      releaseMethod(method);
+
+   // Remove the records that were only referenced by the evicted methods
+   bytesRetired += retireUnreferencedRecords();
+
+   _numEvictedMethods += evicted.size();
+   VM_AtomicSupport::add(&JITServerAOTCacheMap::_numEvictedMethods, evicted.size());
+   VM_AtomicSupport::add(&JITServerAOTCacheMap::_numEvictedBytes, bytesEvicted + bytesRetired);
+
+   // New records can be created again once the memory freed by eviction brings the caches back under their limit
+   if (JITServerAOTCacheMap::_cacheBytesInUse < JITServerAOTCacheMap::_cacheMaxBytes)
+      JITServerAOTCacheMap::_cacheIsFull = false;
+
+   if (TR::Options::getVerboseOption(TR_VerboseJITServer))
+      TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer,
+         "AOT cache %s: evicted %zu methods (%zu bytes) and removed %zu bytes of unreferenced records, "
+         "%zu methods remaining, AOT caches now use %zu bytes",
+         _name.c_str(), evicted.size(), bytesEvicted, bytesRetired, _cachedMethodMap.size(),
+         JITServerAOTCacheMap::getCacheBytesInUse()
+      );
+   }
+
+size_t
+JITServerAOTCache::retireUnreferencedRecords()
+   {
+   // Advance the epoch if no request that started in the previous one remains. The records removed in the
+   // previous epoch of the same parity can then be freed: the requests that started before their removal
+   // were counted either in that epoch or in the one before it, and neither has any request left.
+   uintptr_t nextEpoch = _recordUseEpoch + 1;
+   VM_AtomicSupport::readWriteBarrier();
+   if (0 == _numRecordUsers[nextEpoch & 1])
+      {
+      for (AOTCacheRecord *record = _retiredRecords[nextEpoch & 1]; record;)
+         {
+         AOTCacheRecord *next = record->getNextRecord();
+         AOTCacheRecord::free(record);
+         ++_numFreedRecords;
+         record = next;
+         }
+      _retiredRecords[nextEpoch & 1] = NULL;
+      _retiredBytes[nextEpoch & 1] = 0;
+      _recordUseEpoch = nextEpoch;
+      VM_AtomicSupport::readWriteBarrier();
+      }
+
+   // Dependent records are visited first, so that the records they release can be removed in the same pass
+   size_t bytesRetired = 0;
+   bytesRetired += retireUnreferencedRecords(AOTSerializationRecordType::WellKnownClasses, _wellKnownClassesMap,
+                                             _wellKnownClassesHead, _wellKnownClassesTail, _wellKnownClassesMonitor);
+   bytesRetired += retireUnreferencedRecords(AOTSerializationRecordType::ClassChain, _classChainMap,
+                                             _classChainHead, _classChainTail, _classChainMonitor);
+   bytesRetired += retireUnreferencedRecords(AOTSerializationRecordType::Method, _methodMap,
+                                             _methodHead, _methodTail, _methodMonitor);
+   bytesRetired += retireUnreferencedRecords(AOTSerializationRecordType::Class, _classMap,
+                                             _classHead, _classTail, _classMonitor);
+   bytesRetired += retireUnreferencedRecords(AOTSerializationRecordType::AOTHeader, _aotHeaderMap,
+                                             _aotHeaderHead, _aotHeaderTail, _aotHeaderMonitor);
+   return bytesRetired;
+   }
+
+template<typename K, typename V, typename H> size_t
+JITServerAOTCache::retireUnreferencedRecords(AOTSerializationRecordType type, PersistentUnorderedMap<K, V *, H> &map,
+                                             V *&traversalHead, V *&traversalTail, TR::Monitor *monitor)
+   {
+   OMR::CriticalSection cs(monitor);
+
+   // Unlink the removed records from the traversal list, moving the journal cursor back in the same way as for evicted methods.
+   // Records that are still referenced cannot be removed concurrently, since references are only acquired under the monitor.
+   const AOTCacheRecord *lastWrittenRecord = _journal._lastWrittenRecord[type];
+   bool written = (lastWrittenRecord != NULL);
+   size_t numRetiredWritten = 0;
+   size_t bytesRetired = 0;
+   AOTCacheRecord *&retiredList = _retiredRecords[_recordUseEpoch & 1];
+   V *prev = NULL;
+   for (V *record = traversalHead; record;)
+      {
+      V *next = static_cast<V *>(record->getNextRecord());
+      bool isLastWritten = (record == lastWrittenRecord);
+      if (record->retire())
+         {
+         map.erase(getRecordKey(record));
+         if (prev)
+            prev->setNextRecord(next);
+         else
+            traversalHead = next;
+         if (written)
+            ++numRetiredWritten;
+         if (isLastWritten)
+            _journal._lastWrittenRecord[type] = prev;
+
+         releaseSubRecords(record);
+         record->setNextRecord(retiredList);
+         retiredList = record;
+         bytesRetired += AOTCacheRecord::allocationSize(record);
+         }
+      else
+         {
+         prev = record;
+         }
+      if (isLastWritten)
+         written = false;
+      record = next;
+      }
+   traversalTail = prev;
+   _journal._numWrittenRecords[type] -= numRetiredWritten;
+   // The journal must then be rewritten, since appending a new record with the same key as a removed one would
+   // leave two records with the same key in the journal, each possibly referred to by other records in it
+   if (numRetiredWritten)
+      _journal._hasRemovedRecords = true;
+   _retiredBytes[_recordUseEpoch & 1] += bytesRetired;
+
+   return bytesRetired;
+   }
+
+void
+JITServerAOTCache::RecordUseScope::enter(JITServerAOTCache *cache)
+   {
+   TR_ASSERT(!_cache, "Already using the records of an AOT cache");
+   // Count this request in the current epoch. If the epoch was advanced in the meantime, the count
+   // might have been missed by the thread that advanced it, so the request is counted again.
+   while (true)
+      {
+      uintptr_t epoch = cache->_recordUseEpoch;
+      VM_AtomicSupport::add(&cache->_numRecordUsers[epoch & 1], 1);
+      VM_AtomicSupport::readWriteBarrier();
+      if (epoch == cache->_recordUseEpoch)
+         {
+         _cache = cache;
+         _epoch = epoch;
+         return;
+         }
+      VM_AtomicSupport::subtract(&cache->_numRecordUsers[epoch & 1], 1);
+      }
+   }
+
+void
+JITServerAOTCache::RecordUseScope::exit()
+   {
+   if (_cache)
+      {
+      VM_AtomicSupport::readWriteBarrier();
+      VM_AtomicSupport::subtract(&_cache->_numRecordUsers[_epoch & 1], 1);
+      _cache = NULL;
+      }
    }
 
 
@@ -1223,6 +1702,8 @@ JITServerAOTCache::printStats(FILE *f) const
       "\tcache bypasses: %zu\n"
       "\tcache hits: %zu\n"
       "\tcache misses: %zu\n"
+      "\tevicted methods: %zu\n"
+      "\tfreed records: %zu\n"
       "\tdeserialized methods: %zu\n"
       "\tdeserialization failures: %zu\n",
       _name.c_str(),
@@ -1236,188 +1717,306 @@ JITServerAOTCache::printStats(FILE *f) const
       _numCacheBypasses,
       _numCacheHits,
       _numCacheMisses,
+      _numEvictedMethods,
+      _numFreedRecords,
       _numDeserializedMethods,
       _numDeserializationFailures
    );
    }
 
 
-// Write at most numRecordsToWrite to the given stream from the linked list starting at head.
+// Each entry in a cache journal starts with this header, followed by the serialized record
+// (an AOTSerializationRecord, or a SerializedAOTMethod for the CACHED_METHOD kind)
+// and padding up to JOURNAL_ENTRY_ALIGNMENT bytes.
+struct JITServerAOTCacheJournalEntry
+   {
+   uint32_t _kind; // AOTSerializationRecordType or CACHED_METHOD
+   uint32_t _padding; // explicit padding, currently unused
+   uint64_t _size; // size of the record, not including padding
+
+   static const uint32_t CACHED_METHOD = AOTSerializationRecordType_MAX;
+   };
+
+static const size_t JOURNAL_ENTRY_ALIGNMENT = 8;
+
+static size_t
+alignedJournalEntrySize(size_t recordSize)
+   {
+   return (recordSize + JOURNAL_ENTRY_ALIGNMENT - 1) & ~(JOURNAL_ENTRY_ALIGNMENT - 1);
+   }
+
+// Append a single journal entry to the stream, updating the offset of the end of the written entries
+static bool
+writeJournalEntry(FILE *f, uint32_t kind, const void *data, size_t size, uint64_t &offset)
+   {
+   static const uint8_t padding[JOURNAL_ENTRY_ALIGNMENT] = { 0 };
+   JITServerAOTCacheJournalEntry entry = { kind, 0, size };
+   size_t paddingSize = alignedJournalEntrySize(size) - size;
+
+   if ((1 != fwrite(&entry, sizeof(entry), 1, f)) ||
+       (1 != fwrite(data, size, 1, f)) ||
+       ((0 != paddingSize) && (1 != fwrite(padding, paddingSize, 1, f))))
+      {
+      if (TR::Options::getVerboseOption(TR_VerboseJITServer))
+         TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "AOT cache: Unable to write record to cache journal");
+      return false;
+      }
+
+   offset += sizeof(entry) + size + paddingSize;
+   return true;
+   }
+
+// Write the records of the linked list starting at head that follow lastWritten to the journal,
+// until numRecordsToWrite records of this traversal have been written in total.
 static bool
-writeRecordList(FILE *f, const AOTCacheRecord *head, size_t numRecordsToWrite)
+writeJournalRecordList(FILE *f, AOTSerializationRecordType type, const AOTCacheRecord *head, size_t numRecordsToWrite,
+                       const AOTCacheRecord *&lastWritten, size_t &numWritten, uint64_t &offset)
    {
-   const AOTCacheRecord *current = head;
-   size_t recordsWritten = 0;
-   while (current && (recordsWritten < numRecordsToWrite))
+   while (numWritten < numRecordsToWrite)
       {
+      const AOTCacheRecord *current = lastWritten ? lastWritten->getNextRecord() : head;
+      if (!current)
+         break;
+
       const AOTSerializationRecord *record = current->dataAddr();
-      if (1 != fwrite(record, record->size(), 1, f))
-         {
-         if (TR::Options::getVerboseOption(TR_VerboseJITServer))
-            TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "AOT cache: Unable to write record to cache file");
+      if (!writeJournalEntry(f, type, record, record->size(), offset))
          return false;
-         }
-      ++recordsWritten;
-      current = current->getNextRecord();
+      lastWritten = current;
+      ++numWritten;
       }
-   TR_ASSERT(recordsWritten == numRecordsToWrite, "Expected to write %zu records, wrote %zu", numRecordsToWrite, recordsWritten);
+   TR_ASSERT(numWritten == numRecordsToWrite, "Expected to write %zu records, wrote %zu", numRecordsToWrite, numWritten);
 
    return true;
    }
 
 static bool
-writeCachedMethodList(FILE *f, const CachedAOTMethod *head, size_t numRecordsToWrite)
+writeJournalCachedMethodList(FILE *f, const CachedAOTMethod *head, size_t numRecordsToWrite,
+                             const CachedAOTMethod *&lastWritten, size_t &numWritten, uint64_t &offset)
    {
-   const CachedAOTMethod *current = head;
-   size_t recordsWritten = 0;
-   while (current && (recordsWritten < numRecordsToWrite))
+   while (numWritten < numRecordsToWrite)
       {
+      const CachedAOTMethod *current = lastWritten ? lastWritten->getNextRecord() : head;
+      if (!current)
+         break;
+
       const SerializedAOTMethod *record = &current->data();
-      if (1 != fwrite(record, record->size(), 1, f))
-         {
-         if (TR::Options::getVerboseOption(TR_VerboseJITServer))
-            TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "AOT cache: Unable to write record to cache file");
+      if (!writeJournalEntry(f, JITServerAOTCacheJournalEntry::CACHED_METHOD, record, record->size(), offset))
          return false;
-         }
-      ++recordsWritten;
-      current = current->getNextRecord();
+      lastWritten = current;
+      ++numWritten;
       }
-   TR_ASSERT(recordsWritten == numRecordsToWrite, "Expected to write %zu records, wrote %zu", numRecordsToWrite, recordsWritten);
+   TR_ASSERT(numWritten == numRecordsToWrite, "Expected to write %zu records, wrote %zu", numRecordsToWrite, numWritten);
 
    return true;
    }
 
-static void getCurrentAOTCacheVersion(JITServerAOTCacheVersion &version)
+// Flush the stream and make sure its contents reach the disk
+static bool
+syncJournal(FILE *f)
+   {
+   if ((0 != fflush(f)) || (0 != fsync(fileno(f))))
+      {
+      if (TR::Options::getVerboseOption(TR_VerboseJITServer))
+         TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "AOT cache: Unable to sync cache journal: %s", strerror(errno));
+      return false;
+      }
+   return true;
+   }
+
+static void getCurrentAOTCacheVersion(JITServerAOTCacheVersion &version, uint32_t formatVersion)
    {
    memcpy(version._eyeCatcher, JITSERVER_AOTCACHE_EYECATCHER, JITSERVER_AOTCACHE_EYECATCHER_LENGTH);
-   version._snapshotVersion = JITSERVER_AOTCACHE_VERSION;
+   version._snapshotVersion = formatVersion;
    version._jitserverVersion = JITServer::CommunicationStream::getJITServerFullVersion();
    }
 
-// Write a full AOT cache snapshot to a stream. After the header information, the
-// AOTSerializationRecord or SerializedAOTMethod data (depending on record type) in each
-// record traversal is written directly to the stream in sections, since the full AOT record
-// can be reconstructed from only this information. These sections are ordered so that, when
-// reading the snapshot, the dependencies of each record will already have been read by the
-// time we get to that record.
-// Return the number of AOT methods written to the snapshot or 0 on failure.
+// Append the records that are not yet in the journal, starting at the committed end of the
+// journal described by state, and then commit them by rewriting the header.
+// The records of each traversal are written in sections ordered so that, when reading the
+// journal, the dependencies of each record will already have been read by the time we get
+// to that record. Since every append follows the same order and only adds records created
+// after the previous one, this also holds across consecutive appends.
+// Return the number of AOT methods in the journal or 0 on failure.
 size_t
-JITServerAOTCache::writeCache(FILE *f) const
+JITServerAOTCache::writeJournalEntries(FILE *f, JournalState &state)
    {
-   JITServerAOTCacheHeader header = {0};
-   getCurrentAOTCacheVersion(header._version);
-   header._serverUID = TR::CompilationInfo::get()->getPersistentInfo()->getServerUID();
+   JITServerAOTCacheJournalHeader header = {0};
+   getCurrentAOTCacheVersion(header._version, JITSERVER_AOTCACHE_JOURNAL_VERSION);
+   header._serverUID = state._ownerUID;
+
+   size_t numRecords[AOTSerializationRecordType_MAX] = {0};
+   size_t numCachedAOTMethods = 0;
 
    // It is possible for a record and its dependencies to be added between .size() calls,
    // so we must reverse the order in which we read the map sizes (compared to their write order)
    // to ensure that those dependencies are not excluded from serialization.
       {
       OMR::CriticalSection cs(_cachedMethodMonitor);
-      header._numCachedAOTMethods = _cachedMethodMap.size();
+      numCachedAOTMethods = _cachedMethodMap.size();
       }
-   if (header._numCachedAOTMethods == 0)
+   if (numCachedAOTMethods == 0)
       {
       TR_ASSERT_FATAL(false, "Expected to write at least one method to the AOT cache file");
       return 0;
       }
       {
       OMR::CriticalSection cs(_thunkMonitor);
-      header._numThunkRecords = _thunkMap.size();
-      header._nextThunkId = _nextThunkId;
+      numRecords[AOTSerializationRecordType::Thunk] = _thunkMap.size();
+      header._nextRecordIds[AOTSerializationRecordType::Thunk] = _nextThunkId;
       }
       {
       OMR::CriticalSection cs(_aotHeaderMonitor);
-      header._numAOTHeaderRecords = _aotHeaderMap.size();
-      header._nextAOTHeaderId = _nextAOTHeaderId;
+      numRecords[AOTSerializationRecordType::AOTHeader] = _aotHeaderMap.size();
+      header._nextRecordIds[AOTSerializationRecordType::AOTHeader] = _nextAOTHeaderId;
       }
       {
       OMR::CriticalSection cs(_wellKnownClassesMonitor);
-      header._numWellKnownClassesRecords = _wellKnownClassesMap.size();
-      header._nextWellKnownClassesId = _nextWellKnownClassesId;
+      numRecords[AOTSerializationRecordType::WellKnownClasses] = _wellKnownClassesMap.size();
+      header._nextRecordIds[AOTSerializationRecordType::WellKnownClasses] = _nextWellKnownClassesId;
       }
       {
       OMR::CriticalSection cs(_classChainMonitor);
-      header._numClassChainRecords = _classChainMap.size();
-      header._nextClassChainId = _nextClassChainId;
+      numRecords[AOTSerializationRecordType::ClassChain] = _classChainMap.size();
+      header._nextRecordIds[AOTSerializationRecordType::ClassChain] = _nextClassChainId;
       }
       {
       OMR::CriticalSection cs(_methodMonitor);
-      header._numMethodRecords = _methodMap.size();
-      header._nextMethodId = _nextMethodId;
+      numRecords[AOTSerializationRecordType::Method] = _methodMap.size();
+      header._nextRecordIds[AOTSerializationRecordType::Method] = _nextMethodId;
       }
       {
       OMR::CriticalSection cs(_classMonitor);
-      header._numClassRecords = _classMap.size();
-      header._nextClassId = _nextClassId;
+      numRecords[AOTSerializationRecordType::Class] = _classMap.size();
+      header._nextRecordIds[AOTSerializationRecordType::Class] = _nextClassId;
       }
       {
       OMR::CriticalSection cs(_classLoaderMonitor);
-      header._numClassLoaderRecords = _classLoaderMap.size();
-      header._nextClassLoaderId = _nextClassLoaderId;
+      numRecords[AOTSerializationRecordType::ClassLoader] = _classLoaderMap.size();
+      header._nextRecordIds[AOTSerializationRecordType::ClassLoader] = _nextClassLoaderId;
       }
 
-   if (1 != fwrite(&header, sizeof(JITServerAOTCacheHeader), 1, f))
+   if (0 != fseeko(f, state._committedSize, SEEK_SET))
       {
       if (TR::Options::getVerboseOption(TR_VerboseJITServer))
-         TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "AOT cache: Unable to write cache file header");
+         TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "AOT cache: Unable to seek to the end of cache journal: %s", strerror(errno));
       return 0;
       }
 
-   if (!writeRecordList(f, _classLoaderHead, header._numClassLoaderRecords))
-      return 0;
-   if (!writeRecordList(f, _classHead, header._numClassRecords))
-      return 0;
-   if (!writeRecordList(f, _methodHead, header._numMethodRecords))
+   uint64_t offset = state._committedSize;
+   static const AOTSerializationRecordType writeOrder[] =
+      {
+      AOTSerializationRecordType::ClassLoader,
+      AOTSerializationRecordType::Class,
+      AOTSerializationRecordType::Method,
+      AOTSerializationRecordType::ClassChain,
+      AOTSerializationRecordType::WellKnownClasses,
+      AOTSerializationRecordType::AOTHeader,
+      AOTSerializationRecordType::Thunk,
+      };
+   const AOTCacheRecord *heads[AOTSerializationRecordType_MAX];
+   heads[AOTSerializationRecordType::ClassLoader] = _classLoaderHead;
+   heads[AOTSerializationRecordType::Class] = _classHead;
+   heads[AOTSerializationRecordType::Method] = _methodHead;
+   heads[AOTSerializationRecordType::ClassChain] = _classChainHead;
+   heads[AOTSerializationRecordType::WellKnownClasses] = _wellKnownClassesHead;
+   heads[AOTSerializationRecordType::AOTHeader] = _aotHeaderHead;
+   heads[AOTSerializationRecordType::Thunk] = _thunkHead;
+
+   for (AOTSerializationRecordType type : writeOrder)
+      {
+      if (!writeJournalRecordList(f, type, heads[type], numRecords[type],
+                                  state._lastWrittenRecord[type], state._numWrittenRecords[type], offset))
+         return 0;
+      }
+   size_t numPreviouslyWrittenMethods = state._numWrittenMethods;
+   if (!writeJournalCachedMethodList(f, _cachedMethodHead, numCachedAOTMethods,
+                                     state._lastWrittenMethod, state._numWrittenMethods, offset))
       return 0;
-   if (!writeRecordList(f, _classChainHead, header._numClassChainRecords))
-      return 0;
-   if (!writeRecordList(f, _wellKnownClassesHead, header._numWellKnownClassesRecords))
-      return 0;
-   if (!writeRecordList(f, _aotHeaderHead, header._numAOTHeaderRecords))
+   state._numMethodEntries += state._numWrittenMethods - numPreviouslyWrittenMethods;
+
+   // The new entries must be on disk before the header that covers them
+   if (!syncJournal(f))
       return 0;
-   if (!writeRecordList(f, _thunkHead, header._numThunkRecords))
+
+   header._committedSize = offset;
+   header._numCachedAOTMethods = state._numMethodEntries;
+   if ((0 != fseeko(f, 0, SEEK_SET)) || (1 != fwrite(&header, sizeof(header), 1, f)) || !syncJournal(f))
+      {
+      if (TR::Options::getVerboseOption(TR_VerboseJITServer))
+         TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "AOT cache: Unable to write cache journal header");
       return 0;
-   if (!writeCachedMethodList(f, _cachedMethodHead, header._numCachedAOTMethods))
+      }
+
+   state._committedSize = offset;
+   _journal = state;
+   return state._numWrittenMethods;
+   }
+
+size_t
+JITServerAOTCache::writeJournal(FILE *f)
+   {
+   // Until the first commit, the journal has an empty header and is therefore not loadable
+   JITServerAOTCacheJournalHeader emptyHeader = {0};
+   if (1 != fwrite(&emptyHeader, sizeof(emptyHeader), 1, f))
+      {
+      if (TR::Options::getVerboseOption(TR_VerboseJITServer))
+         TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "AOT cache: Unable to write cache journal header");
       return 0;
+      }
 
-   return header._numCachedAOTMethods;
+   JournalState state = JournalState();
+   state._ownerUID = TR::CompilationInfo::get()->getPersistentInfo()->getServerUID();
+   state._committedSize = sizeof(JITServerAOTCacheJournalHeader);
+   return writeJournalEntries(f, state);
    }
 
-// Tests whether or not the given AOT snapshot is compatible with the server.
+// Tests whether or not the given AOT snapshot or journal is compatible with the server.
 static bool
-isCompatibleSnapshotVersion(const JITServerAOTCacheVersion &version)
+isCompatibleSnapshotVersion(const JITServerAOTCacheVersion &version, uint32_t formatVersion)
    {
    JITServerAOTCacheVersion currentVersion = {0};
-   getCurrentAOTCacheVersion(currentVersion);
+   getCurrentAOTCacheVersion(currentVersion, formatVersion);
 
    return (0 == memcmp(version._eyeCatcher, currentVersion._eyeCatcher, sizeof(currentVersion._eyeCatcher))) &&
           (version._snapshotVersion == currentVersion._snapshotVersion) &&
           (version._jitserverVersion == currentVersion._jitserverVersion);
    }
 
-// Read an AOT cache snapshot, returning NULL if the cache is ill-formed or
-// incompatible with the running server.
-JITServerAOTCache *
-JITServerAOTCache::readCache(FILE *f, const std::string &name, TR_Memory &trMemory)
+size_t
+JITServerAOTCache::appendToJournal(FILE *f)
    {
-   if (!JITServerAOTCacheMap::cacheHasSpace())
-      return NULL;
+   // Serialize with any other server appending to the same journal; the lock is released when the file is closed
+   if (0 != flock(fileno(f), LOCK_EX))
+      {
+      if (TR::Options::getVerboseOption(TR_VerboseJITServer))
+         TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "AOT cache: Unable to lock cache journal: %s", strerror(errno));
+      return 0;
+      }
 
-   JITServerAOTCacheHeader header = {0};
-   if (1 != fread(&header, sizeof(JITServerAOTCacheHeader), 1, f))
+   JITServerAOTCacheJournalHeader header = {0};
+   if (1 != fread(&header, sizeof(header), 1, f))
       {
       if (TR::Options::getVerboseOption(TR_VerboseJITServer))
-         TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "AOT cache: Unable to read cache file header");
-      return NULL;
+         TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "AOT cache: Unable to read cache journal header");
+      return 0;
       }
 
-   if (!isCompatibleSnapshotVersion(header._version))
+   // Only append if the journal on file is exactly the one this server last wrote or loaded
+   if (!isCompatibleSnapshotVersion(header._version, JITSERVER_AOTCACHE_JOURNAL_VERSION) ||
+       (header._serverUID != _journal._ownerUID) || (header._committedSize != _journal._committedSize))
       {
       if (TR::Options::getVerboseOption(TR_VerboseJITServer))
-         TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "AOT cache: Cache file header incompatible with running server");
-      return NULL;
+         TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "AOT cache: Cache journal for '%s' was modified by another server", _name.c_str());
+      return 0;
       }
 
+   JournalState state = _journal;
+   return writeJournalEntries(f, state);
+   }
+
+JITServerAOTCache *
+JITServerAOTCache::allocateCacheForReading(const std::string &name)
+   {
    JITServerAOTCache *cache = NULL;
    try
       {
@@ -1435,9 +2034,44 @@ JITServerAOTCache::readCache(FILE *f, const std::string &name, TR_Memory &trMemo
       {
       if (TR::Options::getVerboseOption(TR_VerboseJITServer))
          TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "AOT cache: Unable to allocate new cache for reading");
+      }
+   return cache;
+   }
+
+void
+JITServerAOTCache::freeCache(JITServerAOTCache *cache)
+   {
+   cache->~JITServerAOTCache();
+   TR::Compiler->persistentGlobalMemory()->freePersistentMemory(cache);
+   }
+
+// Read an AOT cache snapshot, returning NULL if the cache is ill-formed or
+// incompatible with the running server.
+JITServerAOTCache *
+JITServerAOTCache::readCache(FILE *f, const std::string &name, TR_Memory &trMemory)
+   {
+   if (!JITServerAOTCacheMap::cacheHasSpace())
+      return NULL;
+
+   JITServerAOTCacheHeader header = {0};
+   if (1 != fread(&header, sizeof(JITServerAOTCacheHeader), 1, f))
+      {
+      if (TR::Options::getVerboseOption(TR_VerboseJITServer))
+         TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "AOT cache: Unable to read cache file header");
       return NULL;
       }
 
+   if (!isCompatibleSnapshotVersion(header._version, JITSERVER_AOTCACHE_VERSION))
+      {
+      if (TR::Options::getVerboseOption(TR_VerboseJITServer))
+         TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "AOT cache: Cache file header incompatible with running server");
+      return NULL;
+      }
+
+   JITServerAOTCache *cache = allocateCacheForReading(name);
+   if (!cache)
+      return NULL;
+
    bool readSuccess = false;
    try
       {
@@ -1453,14 +2087,138 @@ JITServerAOTCache::readCache(FILE *f, const std::string &name, TR_Memory &trMemo
 
    if (!readSuccess)
       {
-      cache->~JITServerAOTCache();
-      TR::Compiler->persistentGlobalMemory()->freePersistentMemory(cache);
+      freeCache(cache);
       cache = NULL;
       }
 
    return cache;
    }
 
+// Read an AOT cache journal, returning NULL if the cache is ill-formed or
+// incompatible with the running server. The file is mapped rather than read through
+// a stream so that the records are copied straight out of the page cache.
+JITServerAOTCache *
+JITServerAOTCache::readJournal(const std::string &fileName, const std::string &name, TR_Memory &trMemory)
+   {
+   if (!JITServerAOTCacheMap::cacheHasSpace())
+      return NULL;
+
+   int fd = open(fileName.c_str(), O_RDONLY);
+   if (-1 == fd)
+      {
+      if (TR::Options::getVerboseOption(TR_VerboseJITServer))
+         TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "AOT cache: Failed to open cache journal %s: %s", fileName.c_str(), strerror(errno));
+      return NULL;
+      }
+
+   struct stat fileStat;
+   void *mapping = MAP_FAILED;
+   size_t fileSize = 0;
+   if ((0 == fstat(fd, &fileStat)) && (fileStat.st_size >= (off_t)sizeof(JITServerAOTCacheJournalHeader)))
+      {
+      fileSize = fileStat.st_size;
+      mapping = mmap(NULL, fileSize, PROT_READ, MAP_PRIVATE, fd, 0);
+      }
+   close(fd); // the mapping stays valid after the descriptor is closed
+
+   if (MAP_FAILED == mapping)
+      {
+      if (TR::Options::getVerboseOption(TR_VerboseJITServer))
+         TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "AOT cache: Unable to map cache journal %s", fileName.c_str());
+      return NULL;
+      }
+   madvise(mapping, fileSize, MADV_SEQUENTIAL);
+
+   JITServerAOTCacheJournalHeader header = {0};
+   memcpy(&header, mapping, sizeof(header));
+
+   JITServerAOTCache *cache = NULL;
+   if (!isCompatibleSnapshotVersion(header._version, JITSERVER_AOTCACHE_JOURNAL_VERSION))
+      {
+      if (TR::Options::getVerboseOption(TR_VerboseJITServer))
+         TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "AOT cache: Cache journal header incompatible with running server");
+      }
+   else if ((header._committedSize < sizeof(header)) || (header._committedSize > fileSize))
+      {
+      if (TR::Options::getVerboseOption(TR_VerboseJITServer))
+         TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "AOT cache: Cache journal %s has invalid committed size %llu",
+                                        fileName.c_str(), (unsigned long long)header._committedSize);
+      }
+   else if ((cache = allocateCacheForReading(name)))
+      {
+      bool readSuccess = false;
+      try
+         {
+         readSuccess = cache->readJournal((const uint8_t *)mapping, header, trMemory);
+         }
+      catch (const std::exception &e)
+         {
+         if (TR::Options::getVerboseOption(TR_VerboseJITServer))
+            {
+            TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "AOT cache reading failed with exception: %s", e.what());
+            }
+         }
+
+      if (!readSuccess)
+         {
+         freeCache(cache);
+         cache = NULL;
+         }
+      }
+
+   munmap(mapping, fileSize);
+   return cache;
+   }
+
+// Add a record of an AOTSerializationRecord subclass V that was read from a snapshot or journal
+// to the map, record traversal, and scratch Vector associated with V.
+template<typename K, typename V, typename H> bool
+JITServerAOTCache::addReadRecord(V *record,
+                                 PersistentUnorderedMap<K, V *, H> &map,
+                                 V *&traversalHead,
+                                 V *&traversalTail,
+                                 Vector<V *> &records)
+   {
+   if ((record->data().id() >= records.size() ||
+       records[record->data().id()]) ||
+       !addToMap(map, traversalHead, traversalTail, getRecordKey(record), record))
+      {
+      if (TR::Options::getVerboseOption(TR_VerboseJITServer))
+         TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "AOT cache: Record of type %s has invalid or overlapping ID %zu",
+                                        V::getRecordName(), record->data().id());
+      AOTCacheRecord::free(record);
+      return false;
+      }
+
+   records[record->data().id()] = record;
+   acquireSubRecords(record);
+   return true;
+   }
+
+bool
+JITServerAOTCache::addReadCachedMethod(CachedAOTMethod *record, const JITServerAOTCacheReadContext &context, bool ignoreDuplicates)
+   {
+   CachedMethodKey key(record->definingClassChainRecord(),
+                       record->data().index(),
+                       record->data().optLevel(),
+                       context._aotHeaderRecords[record->data().aotHeaderId()]);
+
+   // A journal can contain several versions of a method that was evicted and stored again; keep the first one
+   if (ignoreDuplicates && (_cachedMethodMap.find(key) != _cachedMethodMap.end()))
+      {
+      AOTCacheRecord::free(record);
+      return true;
+      }
+
+   if (!addToMap(_cachedMethodMap, _cachedMethodHead, _cachedMethodTail, key, record))
+      {
+      AOTCacheRecord::free(record);
+      return false;
+      }
+   acquireSubRecords(record);
+   return true;
+   }
+
 // Read numRecordsToRead records of an AOTSerializationRecord subclass V from a stream, also
 // updating the map, record traversal, and scratch Vector associated with V.
 template<typename K, typename V, typename H> bool
@@ -1481,18 +2239,8 @@ JITServerAOTCache::readRecords(FILE *f,
       if (!record)
          return false;
 
-      if ((record->data().id() >= records.size() ||
-          records[record->data().id()]) ||
-          !addToMap(map, traversalHead, traversalTail, getRecordKey(record), record))
-         {
-         if (TR::Options::getVerboseOption(TR_VerboseJITServer))
-            TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "AOT cache: Record of type %s has invalid or overlapping ID %zu",
-                                           V::getRecordName(), record->data().id());
-         AOTCacheRecord::free(record);
+      if (!addReadRecord(record, map, traversalHead, traversalTail, records))
          return false;
-         }
-
-      records[record->data().id()] = record;
       }
 
    return true;
@@ -1546,18 +2294,161 @@ JITServerAOTCache::readCache(FILE *f, const JITServerAOTCacheHeader &header, TR_
       if (!record)
          return false;
 
-      CachedMethodKey key(record->definingClassChainRecord(),
-                          record->data().index(),
-                          record->data().optLevel(),
-                          context._aotHeaderRecords[record->data().aotHeaderId()]);
+      if (!addReadCachedMethod(record, context))
+         return false;
+      }
+
+   return true;
+   }
+
+bool
+JITServerAOTCache::readJournal(const uint8_t *journal, const JITServerAOTCacheJournalHeader &header, TR_Memory &trMemory)
+   {
+   _nextClassLoaderId = header._nextRecordIds[AOTSerializationRecordType::ClassLoader];
+   _nextClassId = header._nextRecordIds[AOTSerializationRecordType::Class];
+   _nextMethodId = header._nextRecordIds[AOTSerializationRecordType::Method];
+   _nextClassChainId = header._nextRecordIds[AOTSerializationRecordType::ClassChain];
+   _nextWellKnownClassesId = header._nextRecordIds[AOTSerializationRecordType::WellKnownClasses];
+   _nextAOTHeaderId = header._nextRecordIds[AOTSerializationRecordType::AOTHeader];
+   _nextThunkId = header._nextRecordIds[AOTSerializationRecordType::Thunk];
+   _cachedMethodMap.reserve(header._numCachedAOTMethods);
+
+   TR::StackMemoryRegion stackMemoryRegion(trMemory);
+   JITServerAOTCacheReadContext context(header, stackMemoryRegion);
 
-      if (!addToMap(_cachedMethodMap, _cachedMethodHead, _cachedMethodTail, key, record))
+   const uint8_t *current = journal + sizeof(header);
+   const uint8_t *end = journal + header._committedSize;
+   size_t numMethodEntries = 0;
+   bool complete = true;
+   while (current < end)
+      {
+      // Entries are in dependency order, so any prefix of the journal is a consistent cache. If eviction
+      // is enabled, stop loading once the budget would require evicting methods, since the journal also
+      // contains methods that were evicted after they were written to it.
+      if (JITServerAOTCacheMap::getNumBytesToEvict())
          {
-         AOTCacheRecord::free(record);
+         complete = false;
+         break;
+         }
+      if (!JITServerAOTCacheMap::cacheHasSpace())
+         return false;
+
+      JITServerAOTCacheJournalEntry entry;
+      if ((size_t)(end - current) < sizeof(entry))
+         return false;
+      memcpy(&entry, current, sizeof(entry));
+      const uint8_t *data = current + sizeof(entry);
+      if (entry._size > (size_t)(end - data))
+         {
+         if (TR::Options::getVerboseOption(TR_VerboseJITServer))
+            TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "AOT cache: Cache journal entry at offset %zu is truncated",
+                                           (size_t)(current - journal));
          return false;
          }
+
+      bool success = false;
+      switch (entry._kind)
+         {
+         case AOTSerializationRecordType::ClassLoader:
+            {
+            auto record = AOTCacheRecord::readRecord<AOTCacheClassLoaderRecord>(data, entry._size, context);
+            success = record && addReadRecord(record, _classLoaderMap, _classLoaderHead, _classLoaderTail, context._classLoaderRecords);
+            break;
+            }
+         case AOTSerializationRecordType::Class:
+            {
+            auto record = AOTCacheRecord::readRecord<AOTCacheClassRecord>(data, entry._size, context);
+            success = record && addReadRecord(record, _classMap, _classHead, _classTail, context._classRecords);
+            break;
+            }
+         case AOTSerializationRecordType::Method:
+            {
+            auto record = AOTCacheRecord::readRecord<AOTCacheMethodRecord>(data, entry._size, context);
+            success = record && addReadRecord(record, _methodMap, _methodHead, _methodTail, context._methodRecords);
+            break;
+            }
+         case AOTSerializationRecordType::ClassChain:
+            {
+            auto record = AOTCacheRecord::readRecord<AOTCacheClassChainRecord>(data, entry._size, context);
+            success = record && addReadRecord(record, _classChainMap, _classChainHead, _classChainTail, context._classChainRecords);
+            break;
+            }
+         case AOTSerializationRecordType::WellKnownClasses:
+            {
+            auto record = AOTCacheRecord::readRecord<AOTCacheWellKnownClassesRecord>(data, entry._size, context);
+            success = record && addReadRecord(record, _wellKnownClassesMap, _wellKnownClassesHead,
+                                              _wellKnownClassesTail, context._wellKnownClassesRecords);
+            break;
+            }
+         case AOTSerializationRecordType::AOTHeader:
+            {
+            auto record = AOTCacheRecord::readRecord<AOTCacheAOTHeaderRecord>(data, entry._size, context);
+            success = record && addReadRecord(record, _aotHeaderMap, _aotHeaderHead, _aotHeaderTail, context._aotHeaderRecords);
+            break;
+            }
+         case AOTSerializationRecordType::Thunk:
+            {
+            auto record = AOTCacheRecord::readRecord<AOTCacheThunkRecord>(data, entry._size, context);
+            success = record && addReadRecord(record, _thunkMap, _thunkHead, _thunkTail, context._thunkRecords);
+            break;
+            }
+         case JITServerAOTCacheJournalEntry::CACHED_METHOD:
+            {
+            auto record = AOTCacheRecord::readRecord<CachedAOTMethod>(data, entry._size, context);
+            success = record && addReadCachedMethod(record, context, true);
+            ++numMethodEntries;
+            break;
+            }
+         default:
+            if (TR::Options::getVerboseOption(TR_VerboseJITServer))
+               TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "AOT cache: Cache journal entry has invalid kind %u", entry._kind);
+            break;
+         }
+      if (!success)
+         return false;
+
+      current = data + alignedJournalEntrySize(entry._size);
       }
 
+   if (!complete)
+      {
+      // The loaded records are a subset of the journal, which therefore cannot be appended to; the next save operation writes a new one
+      if (TR::Options::getVerboseOption(TR_VerboseJITServer))
+         TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer,
+                                        "AOT cache: Stopped loading cache journal at offset %zu of %llu due to AOT cache size limit",
+                                        (size_t)(current - journal), (unsigned long long)header._committedSize);
+      return true;
+      }
+
+   if (numMethodEntries != header._numCachedAOTMethods)
+      {
+      if (TR::Options::getVerboseOption(TR_VerboseJITServer))
+         TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "AOT cache: Expected %llu methods in cache journal, found %zu",
+                                        (unsigned long long)header._numCachedAOTMethods, numMethodEntries);
+      return false;
+      }
+
+   // Subsequent save operations append to the journal this cache was loaded from
+   _journal._lastWrittenRecord[AOTSerializationRecordType::ClassLoader] = _classLoaderTail;
+   _journal._lastWrittenRecord[AOTSerializationRecordType::Class] = _classTail;
+   _journal._lastWrittenRecord[AOTSerializationRecordType::Method] = _methodTail;
+   _journal._lastWrittenRecord[AOTSerializationRecordType::ClassChain] = _classChainTail;
+   _journal._lastWrittenRecord[AOTSerializationRecordType::WellKnownClasses] = _wellKnownClassesTail;
+   _journal._lastWrittenRecord[AOTSerializationRecordType::AOTHeader] = _aotHeaderTail;
+   _journal._lastWrittenRecord[AOTSerializationRecordType::Thunk] = _thunkTail;
+   _journal._numWrittenRecords[AOTSerializationRecordType::ClassLoader] = _classLoaderMap.size();
+   _journal._numWrittenRecords[AOTSerializationRecordType::Class] = _classMap.size();
+   _journal._numWrittenRecords[AOTSerializationRecordType::Method] = _methodMap.size();
+   _journal._numWrittenRecords[AOTSerializationRecordType::ClassChain] = _classChainMap.size();
+   _journal._numWrittenRecords[AOTSerializationRecordType::WellKnownClasses] = _wellKnownClassesMap.size();
+   _journal._numWrittenRecords[AOTSerializationRecordType::AOTHeader] = _aotHeaderMap.size();
+   _journal._numWrittenRecords[AOTSerializationRecordType::Thunk] = _thunkMap.size();
+   _journal._lastWrittenMethod = _cachedMethodTail;
+   _journal._numWrittenMethods = _cachedMethodMap.size();
+   _journal._numMethodEntries = numMethodEntries;
+   _journal._ownerUID = header._serverUID;
+   _journal._committedSize = header._committedSize;
+
    return true;
    }
 
@@ -1652,13 +2543,32 @@ JITServerAOTCache::isAOTCacheBetterThanSnapshot(const std::string &cacheFileName
    FILE *cacheFile = fopen(cacheFileName.c_str(), "rb");
    if (cacheFile)
       {
-      // Read the header and extract the number of methods stored in the file
-      JITServerAOTCacheHeader header = {0};
-      if (1 == fread(&header, sizeof(JITServerAOTCacheHeader), 1, cacheFile))
+      // Read the header and extract the number of methods stored in the file,
+      // which can be either a journal or a snapshot written by an older server
+      JITServerAOTCacheVersion version = {0};
+      size_t numCachedAOTMethods = 0;
+      bool headerRead = false;
+      if ((1 == fread(&version, sizeof(version), 1, cacheFile)) && (0 == fseek(cacheFile, 0, SEEK_SET)))
+         {
+         if (version._snapshotVersion == JITSERVER_AOTCACHE_JOURNAL_VERSION)
+            {
+            JITServerAOTCacheJournalHeader header = {0};
+            headerRead = (1 == fread(&header, sizeof(header), 1, cacheFile));
+            numCachedAOTMethods = header._numCachedAOTMethods;
+            }
+         else
+            {
+            JITServerAOTCacheHeader header = {0};
+            headerRead = (1 == fread(&header, sizeof(header), 1, cacheFile));
+            numCachedAOTMethods = header._numCachedAOTMethods;
+            }
+         }
+      if (headerRead)
          {
          // What do we do if the existing version is not compatible with ours?
          // Probably we should overwrite because ours is newer
-         if (!isCompatibleSnapshotVersion(header._version))
+         if (!isCompatibleSnapshotVersion(version, JITSERVER_AOTCACHE_JOURNAL_VERSION) &&
+             !isCompatibleSnapshotVersion(version, JITSERVER_AOTCACHE_VERSION))
             {
             if (TR::Options::getVerboseOption(TR_VerboseJITServer))
                TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "AOT cache: Found incompatible AOT cache file %s. Will overwrite.", cacheFileName.c_str());
@@ -1666,17 +2576,17 @@ JITServerAOTCache::isAOTCacheBetterThanSnapshot(const std::string &cacheFileName
             }
          else // Header is compatible, check the number of methods
             {
-            if (getNumCachedMethods() >= header._numCachedAOTMethods + numExtraMethods)
+            if (getNumCachedMethods() >= numCachedAOTMethods + numExtraMethods)
                {
                // We have better data than the existing snaphot, so overwrite it
                doSave = true;
                }
             else // Existing snapshot has more methods (or same as us)
                {
-               setMinNumAOTMethodsToSave(header._numCachedAOTMethods + TR::Options::_aotCachePersistenceMinDeltaMethods);
+               setMinNumAOTMethodsToSave(numCachedAOTMethods + TR::Options::_aotCachePersistenceMinDeltaMethods);
                if (TR::Options::getVerboseOption(TR_VerboseJITServer))
                   TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "AOT cache: Save operation aborted for cache '%s' because we don't have %zu more methods than existing snapshot: %zu vs %zu.",
-                                                 name().c_str(), numExtraMethods, getNumCachedMethods(), header._numCachedAOTMethods);
+                                                 name().c_str(), numExtraMethods, getNumCachedMethods(), numCachedAOTMethods);
                }
             }
          }
@@ -1705,6 +2615,15 @@ JITServerAOTCache::isAOTCacheBetterThanSnapshot(const std::string &cacheFileName
    }
 
 
+size_t
+JITServerAOTCacheMap::getNumBytesToEvict()
+   {
+   size_t bytesInUse = _cacheBytesInUse;
+   if (!_cacheEvictionEnabled || (bytesInUse <= _cacheMaxBytes / 100 * EVICTION_START_PERCENT))
+      return 0;
+   return bytesInUse - _cacheMaxBytes / 100 * EVICTION_TARGET_PERCENT;
+   }
+
 bool
 JITServerAOTCacheMap::cacheHasSpace()
    {
@@ -1713,10 +2632,10 @@ JITServerAOTCacheMap::cacheHasSpace()
       return false;
       }
 
-   // The AOT cache allocations are used as a stand-in for the total memory used by all AOT caches.
-   // This underestimates the true value, but should be correlated with it.
-   size_t aotTotalRecordAllocations = TR::Compiler->persistentGlobalMemory()->_totalPersistentAllocations[TR_Memory::JITServerAOTCache];
-   if (aotTotalRecordAllocations >= _cacheMaxBytes)
+   // The memory used by AOT cache records is a stand-in for the total memory used by all AOT caches.
+   // This underestimates the true value, but should be correlated with it. The bytes in use are tracked
+   // separately because the persistent allocation totals are not decremented when evicted records are freed.
+   if (_cacheBytesInUse >= _cacheMaxBytes)
       {
       _cacheIsFull = true;
       if (TR::Options::getVerboseOption(TR_VerboseJITServer))
@@ -1807,44 +2726,62 @@ JITServerAOTCacheMap::saveNextQueuedAOTCacheToFile()
    try
       {
       std::string cacheFileName = buildCacheFileName(compInfo->getPersistentInfo()->getJITServerAOTCacheDir(), cacheName);
+      PORT_ACCESS_FROM_JITCONFIG(compInfo->getJITConfig());
+      OMRPORT_ACCESS_FROM_J9PORT(PORTLIB);
+      uint64_t startTime = TR::Options::getVerboseOption(TR_VerboseJITServer) ? j9time_hires_clock() : 0;
+
+      // If the cache file is a journal that we own, only the records added since the last save need to be written,
+      // unless most of the methods in the journal were evicted or some of its records were removed since,
+      // in which case we rewrite it from scratch
+      bool compactJournal = cache->shouldCompactJournal();
+      if (compactJournal)
+         {
+         if (TR::Options::getVerboseOption(TR_VerboseJITServer))
+            TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "AOT cache: Compacting cache journal %s", cacheFileName.c_str());
+         cache->invalidateJournal();
+         }
+      else if (cache->ownsJournal())
+         {
+         FILE *journalFile = fopen(cacheFileName.c_str(), "r+b");
+         if (journalFile)
+            {
+            numAOTMethodsWritten = cache->appendToJournal(journalFile);
+            fclose(journalFile);
+            journalFile = NULL;
+            success = (numAOTMethodsWritten != 0);
+            }
+         if (!success)
+            {
+            // The journal is gone, was replaced by another JITServer instance or could not be appended to;
+            // fall back to writing a new journal if our in-memory cache is better than whatever is on file
+            if (TR::Options::getVerboseOption(TR_VerboseJITServer))
+               TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "AOT cache: Cannot append to cache journal %s; will write a new one", cacheFileName.c_str());
+            cache->invalidateJournal();
+            }
+         }
 
       // If a similarly named AOT cache file already exists, must determine if it's a better snapshot or not
-      if (cache->isAOTCacheBetterThanSnapshot(cacheFileName, TR::Options::_aotCachePersistenceMinDeltaMethods))
+      if (!success && (compactJournal || cache->isAOTCacheBetterThanSnapshot(cacheFileName, TR::Options::_aotCachePersistenceMinDeltaMethods)))
          {
-         PORT_ACCESS_FROM_JITCONFIG(compInfo->getJITConfig());
-         OMRPORT_ACCESS_FROM_J9PORT(PORTLIB);
-         uint64_t startTime = TR::Options::getVerboseOption(TR_VerboseJITServer) ? j9time_hires_clock() : 0;
-
          // Create a temporary file based on the UID of this server and the cache name
          std::string tempFileName = buildCacheFileName(compInfo->getPersistentInfo()->getJITServerAOTCacheDir(),
                                                        std::to_string(compInfo->getPersistentInfo()->getServerUID()) + "." + cacheName + ".tmp");
          FILE *newCacheFile = fopen(tempFileName.c_str(), "wb");
          if (newCacheFile)
             {
-            if ((numAOTMethodsWritten = cache->writeCache(newCacheFile)) != 0)
+            if ((numAOTMethodsWritten = cache->writeJournal(newCacheFile)) != 0)
                {
                fclose(newCacheFile);
                newCacheFile = NULL;
 
-               // Before the rename operation, check again if our in-memory cache is still better than the existing snapshot
-               if (cache->isAOTCacheBetterThanSnapshot(cacheFileName, 1))
+               // Before the rename operation, check again if our in-memory cache is still better than the existing snapshot.
+               // A compacted journal replaces our own journal, which counts the evicted methods and would therefore look better.
+               if (compactJournal || cache->isAOTCacheBetterThanSnapshot(cacheFileName, 1))
                   {
                   // Rename the file to the final name
                   if (0 == rename(tempFileName.c_str(), cacheFileName.c_str()))
                      {
                      success = true;
-
-                     if (TR::Options::getVerboseOption(TR_VerboseJITServer))
-                        {
-                        char timestamp[32];
-                        uint64_t durationUsec = j9time_hires_delta(startTime, j9time_hires_clock(), J9PORT_TIME_DELTA_IN_MICROSECONDS);
-                        omrstr_ftime_ex(timestamp, sizeof(timestamp), "%b-%d-%Y_%H:%M:%S ", j9time_current_time_millis(), OMRSTR_FTIME_FLAG_LOCAL);
-
-                        TR_VerboseLog::CriticalSection vlogLock;
-                        TR_VerboseLog::write(TR_Vlog_JITServer, "AOT cache: t=%llu Saved cache '%s' to file %s. %zu methods saved in %llu usec. Current time:",
-                                             compInfo->getPersistentInfo()->getElapsedTime(), cacheName.c_str(), cacheFileName.c_str(), numAOTMethodsWritten, durationUsec);
-                        TR_VerboseLog::writeLine(timestamp);
-                        }
                      }
                   else // Renaming failed
                      {
@@ -1852,6 +2789,7 @@ JITServerAOTCacheMap::saveNextQueuedAOTCacheToFile()
                         TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "AOT cache: Failed to rename temporary cache file %s to %s: %s",
                                                        tempFileName.c_str(), cacheFileName.c_str(), strerror(errno));
                      remove(tempFileName.c_str());
+                     cache->invalidateJournal();
                      cache->excludeCacheFromSavingToFile();
                      }
                   }
@@ -1861,6 +2799,7 @@ JITServerAOTCacheMap::saveNextQueuedAOTCacheToFile()
                      TR_VerboseLog::writeLineLocked(TR_Vlog_JITServer, "AOT cache: Gave up renaming cache file %s to %s",
                                                     tempFileName.c_str(), cacheFileName.c_str());
                   remove(tempFileName.c_str());
+                  cache->invalidateJournal();
                   }
                }
             else // Saving the AOT cache to file failed
@@ -1880,6 +2819,18 @@ JITServerAOTCacheMap::saveNextQueuedAOTCacheToFile()
             cache->excludeCacheFromSavingToFile();
             }
          }
+
+      if (success && TR::Options::getVerboseOption(TR_VerboseJITServer))
+         {
+         char timestamp[32];
+         uint64_t durationUsec = j9time_hires_delta(startTime, j9time_hires_clock(), J9PORT_TIME_DELTA_IN_MICROSECONDS);
+         omrstr_ftime_ex(timestamp, sizeof(timestamp), "%b-%d-%Y_%H:%M:%S ", j9time_current_time_millis(), OMRSTR_FTIME_FLAG_LOCAL);
+
+         TR_VerboseLog::CriticalSection vlogLock;
+         TR_VerboseLog::write(TR_Vlog_JITServer, "AOT cache: t=%llu Saved cache '%s' to file %s. %zu methods saved in %llu usec. Current time:",
+                              compInfo->getPersistentInfo()->getElapsedTime(), cacheName.c_str(), cacheFileName.c_str(), numAOTMethodsWritten, durationUsec);
+         TR_VerboseLog::writeLine(timestamp);
+         }
       } // end try
    catch(const std::exception& e)
       {
@@ -1932,9 +2883,23 @@ JITServerAOTCacheMap::loadNextQueuedAOTCacheFromFile(J9::J9SegmentProvider &scra
          TR::Region region(segmentProvider, rawAllocator);
          TR_Memory trMemory(*compInfo->persistentMemory(), region);
 
-         cache = JITServerAOTCache::readCache(cacheFile, cacheName, trMemory); // This should not throw
-         fclose(cacheFile); // filestream not needed anymore
-         cacheFile = NULL;
+         // Journals are mapped and parsed in place; snapshots written by older servers are read through the stream
+         JITServerAOTCacheVersion version = {0};
+         bool isJournal = (1 == fread(&version, sizeof(version), 1, cacheFile)) &&
+                          (version._snapshotVersion == JITSERVER_AOTCACHE_JOURNAL_VERSION);
+         if (isJournal)
+            {
+            fclose(cacheFile);
+            cacheFile = NULL;
+            cache = JITServerAOTCache::readJournal(cacheFileName, cacheName, trMemory); // This should not throw
+            }
+         else
+            {
+            rewind(cacheFile);
+            cache = JITServerAOTCache::readCache(cacheFile, cacheName, trMemory); // This should not throw
+            fclose(cacheFile); // filestream not needed anymore
+            cacheFile = NULL;
+            }
 
          if (cache)
             {
@@ -2076,6 +3041,26 @@ JITServerAOTCacheMap::getNumDeserializedMethods() const
    return result;
    }
 
+size_t
+JITServerAOTCacheMap::getNumCacheHits() const
+   {
+   size_t result = 0;
+   OMR::CriticalSection cs(_monitor);
+   for (auto &it : _map)
+      result += it.second->getNumCacheHits();
+   return result;
+   }
+
+size_t
+JITServerAOTCacheMap::getNumCacheMisses() const
+   {
+   size_t result = 0;
+   OMR::CriticalSection cs(_monitor);
+   for (auto &it : _map)
+      result += it.second->getNumCacheMisses();
+   return result;
+   }
+
 void
 JITServerAOTCacheMap::printStats(FILE *f) const
    {
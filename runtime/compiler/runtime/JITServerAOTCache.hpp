@@ -31,6 +31,8 @@
 #include "runtime/JITServerAOTSerializationRecords.hpp"
 
 static const uint32_t JITSERVER_AOTCACHE_VERSION = 1;
+// Version of the append-only journal format; stored in the same field as the snapshot version
+static const uint32_t JITSERVER_AOTCACHE_JOURNAL_VERSION = 2;
 static const char JITSERVER_AOTCACHE_EYECATCHER[] = "AOTCACHE";
 // the eye-catcher is not null-terminated in the snapshot files
 static const size_t JITSERVER_AOTCACHE_EYECATCHER_LENGTH = sizeof(JITSERVER_AOTCACHE_EYECATCHER) - 1;
@@ -47,7 +49,9 @@ struct JITServerAOTCacheVersion
    uint64_t _jitserverVersion;
    };
 
-// The header information for an AOT cache snapshot.
+// The header information for an AOT cache snapshot. Snapshots are no longer written,
+// but existing snapshot files can still be loaded; they are replaced by a journal
+// the next time the cache is saved.
 struct JITServerAOTCacheHeader
    {
    JITServerAOTCacheVersion _version;
@@ -69,6 +73,21 @@ struct JITServerAOTCacheHeader
    size_t _nextThunkId;
    };
 
+// The header information for an AOT cache journal. A journal is a sequence of entries,
+// each one holding a single serialized record, that is only ever appended to. The header
+// is rewritten after every append operation once the new entries have been synced to disk,
+// so only the first _committedSize bytes of the file are guaranteed to hold complete entries;
+// anything after that (e.g. left by a server that crashed in the middle of an append) is ignored.
+// Entries are 8-byte aligned so that the records can be parsed in place from a mapping of the file.
+struct JITServerAOTCacheJournalHeader
+   {
+   JITServerAOTCacheVersion _version;
+   uint64_t _serverUID; // UID of the server that created the journal
+   uint64_t _committedSize;
+   uint64_t _numCachedAOTMethods;
+   uint64_t _nextRecordIds[AOTSerializationRecordType_MAX];
+   };
+
 struct AOTCacheClassLoaderRecord;
 struct AOTCacheClassRecord;
 struct AOTCacheMethodRecord;
@@ -99,6 +118,11 @@ struct AOTCacheAOTHeaderRecord;
 //
 // Each AOTCacheRecord also stores a _nextRecord pointer that points to the next record in
 // a traversal of all of the records of a particular subclass (used for cache persistence).
+//
+// Records other than class loader and thunk records are reference counted. A reference is held
+// by every record and cached method that refers to the record, and by every client session entry
+// that caches a pointer to it. Records that are no longer referenced are removed from the cache
+// when methods are evicted, and freed once no request can still be using them.
 class AOTCacheRecord
    {
 public:
@@ -111,23 +135,42 @@ public:
    // Calls f(r) for each sub-record r
    virtual void subRecordsDo(const std::function<void(const AOTCacheRecord *)> &f) const { }
 
+   // Memory for all records is allocated and freed with these methods, which also keep track
+   // of the total number of bytes used by the records of all the AOT caches
    static void *allocate(size_t size);
    static void free(void *ptr);
+   // Returns the number of bytes allocated for the record that starts at ptr
+   static size_t allocationSize(const void *ptr);
 
    template<class R> static R *readRecord(FILE *f, const JITServerAOTCacheReadContext &context);
+   template<class R> static R *readRecord(const uint8_t *data, size_t size, const JITServerAOTCacheReadContext &context);
 
    AOTCacheRecord *getNextRecord() const { return _nextRecord; }
    void setNextRecord(AOTCacheRecord *record) { _nextRecord = record; }
 
+   void acquire() const;
+   // Acquire a reference unless the record was already removed from the cache, in which case return false
+   bool tryAcquire() const;
+   void release() const;
+
 protected:
-   AOTCacheRecord() : _nextRecord(NULL) {}
+   AOTCacheRecord() : _nextRecord(NULL), _refCount(0) {}
 
    // Set the subrecord pointers in the variable-length portion of a record if necessary.
    // The subrecord pointers in the statically-sized portion of a record are set in the record constructors.
    virtual bool setSubrecordPointers(const JITServerAOTCacheReadContext &context) { return true; }
 
 private:
+   friend class JITServerAOTCache;
+
+   // Reference count of a record that was removed from the cache; it can no longer be acquired
+   static const uintptr_t RETIRED_REF_COUNT = (uintptr_t)-1;
+
+   // Mark the record as removed from the cache if it is not referenced; returns false if it is
+   bool retire() const;
+
    AOTCacheRecord *_nextRecord;
+   mutable volatile uintptr_t _refCount;
    };
 
 
@@ -144,6 +187,7 @@ private:
    using SerializationRecord = ClassLoaderSerializationRecord;
 
    friend AOTCacheClassLoaderRecord *AOTCacheRecord::readRecord<>(FILE *f, const JITServerAOTCacheReadContext &context);
+   friend AOTCacheClassLoaderRecord *AOTCacheRecord::readRecord<>(const uint8_t *data, size_t size, const JITServerAOTCacheReadContext &context);
 
    AOTCacheClassLoaderRecord(uintptr_t id, const uint8_t *name, size_t nameLength);
    AOTCacheClassLoaderRecord(const JITServerAOTCacheReadContext &context, const ClassLoaderSerializationRecord &header) {}
@@ -178,6 +222,7 @@ private:
    using SerializationRecord = ClassSerializationRecord;
 
    friend AOTCacheClassRecord *AOTCacheRecord::readRecord<>(FILE *f, const JITServerAOTCacheReadContext &context);
+   friend AOTCacheClassRecord *AOTCacheRecord::readRecord<>(const uint8_t *data, size_t size, const JITServerAOTCacheReadContext &context);
 
    AOTCacheClassRecord(uintptr_t id, const AOTCacheClassLoaderRecord *classLoaderRecord, const JITServerROMClassHash &hash,
                        uint32_t romClassSize, bool generated, const J9ROMClass *romClass,
@@ -211,6 +256,7 @@ private:
    using SerializationRecord = MethodSerializationRecord;
 
    friend AOTCacheMethodRecord *AOTCacheRecord::readRecord<>(FILE *f, const JITServerAOTCacheReadContext &context);
+   friend AOTCacheMethodRecord *AOTCacheRecord::readRecord<>(const uint8_t *data, size_t size, const JITServerAOTCacheReadContext &context);
 
    AOTCacheMethodRecord(uintptr_t id, const AOTCacheClassRecord *definingClassRecord, uint32_t index);
    AOTCacheMethodRecord(const JITServerAOTCacheReadContext &context, const MethodSerializationRecord &header);
@@ -255,6 +301,7 @@ private:
    using SerializationRecord = ClassChainSerializationRecord;
 
    friend AOTCacheClassChainRecord *AOTCacheRecord::readRecord<>(FILE *f, const JITServerAOTCacheReadContext &context);
+   friend AOTCacheClassChainRecord *AOTCacheRecord::readRecord<>(const uint8_t *data, size_t size, const JITServerAOTCacheReadContext &context);
 
    virtual bool setSubrecordPointers(const JITServerAOTCacheReadContext &context) override;
 
@@ -295,6 +342,7 @@ private:
    using SerializationRecord = WellKnownClassesSerializationRecord;
 
    friend AOTCacheWellKnownClassesRecord *AOTCacheRecord::readRecord<>(FILE *f, const JITServerAOTCacheReadContext &context);
+   friend AOTCacheWellKnownClassesRecord *AOTCacheRecord::readRecord<>(const uint8_t *data, size_t size, const JITServerAOTCacheReadContext &context);
 
    virtual bool setSubrecordPointers(const JITServerAOTCacheReadContext &context) override;
 
@@ -316,6 +364,7 @@ private:
    using SerializationRecord = AOTHeaderSerializationRecord;
 
    friend AOTCacheAOTHeaderRecord *AOTCacheRecord::readRecord<>(FILE *f, const JITServerAOTCacheReadContext &context);
+   friend AOTCacheAOTHeaderRecord *AOTCacheRecord::readRecord<>(const uint8_t *data, size_t size, const JITServerAOTCacheReadContext &context);
 
    AOTCacheAOTHeaderRecord(uintptr_t id, const TR_AOTHeader *header);
    AOTCacheAOTHeaderRecord(const JITServerAOTCacheReadContext &context, const AOTHeaderSerializationRecord &header) {}
@@ -339,6 +388,7 @@ private:
    using SerializationRecord = ThunkSerializationRecord;
 
    friend AOTCacheThunkRecord *AOTCacheRecord::readRecord<>(FILE *f, const JITServerAOTCacheReadContext &context);
+   friend AOTCacheThunkRecord *AOTCacheRecord::readRecord<>(const uint8_t *data, size_t size, const JITServerAOTCacheReadContext &context);
 
    AOTCacheThunkRecord(uintptr_t id, const uint8_t *signature, uint32_t signatureSize, const uint8_t *thunkStart, uint32_t thunkSize);
    AOTCacheThunkRecord(const JITServerAOTCacheReadContext &context, const ThunkSerializationRecord &header) {}
@@ -365,6 +415,7 @@ public:
 
    const AOTCacheClassChainRecord *definingClassChainRecord() const { return _definingClassChainRecord; }
    const AOTCacheClassRecord *definingClassRecord() const { return _definingClassChainRecord->records()[0]; }
+   const AOTCacheAOTHeaderRecord *aotHeaderRecord() const { return _aotHeaderRecord; }
    const SerializedAOTMethod &data() const { return _data; }
    SerializedAOTMethod &data() { return _data; }
    const AOTCacheRecord *const *records() const { return (const AOTCacheRecord *const *)_data.end(); }
@@ -379,10 +430,28 @@ public:
    CachedAOTMethod *getNextRecord() const { return _nextRecord; }
    void setNextRecord(CachedAOTMethod *record) { _nextRecord = record; }
 
+   // Total size of this record, including the inline serialized method data and subrecord pointers
+   size_t totalSize() const { return size(_data); }
+
+   // A cached method is referenced by the AOT cache that contains it and by every thread that is
+   // sending it to a client; it is freed once evicted from the cache and released by all such threads.
+   void acquire();
+   // Returns the remaining number of references
+   size_t release();
+
+   // Calls f(r) for the defining class chain record, the AOT header record and each record in records()
+   void subRecordsDo(const std::function<void(const AOTCacheRecord *)> &f) const;
+
+   // Access statistics used to select the methods to evict; protected by the cached method monitor
+   size_t getNumAccesses() const { return _numAccesses; }
+   uint64_t getLastAccessTime() const { return _lastAccessTime; }
+   void recordAccess(uint64_t time) { ++_numAccesses; _lastAccessTime = time; }
+
 private:
    using SerializationRecord = SerializedAOTMethod;
 
    friend CachedAOTMethod *AOTCacheRecord::readRecord<>(FILE *f, const JITServerAOTCacheReadContext &context);
+   friend CachedAOTMethod *AOTCacheRecord::readRecord<>(const uint8_t *data, size_t size, const JITServerAOTCacheReadContext &context);
 
    CachedAOTMethod(const AOTCacheClassChainRecord *definingClassChainRecord, uint32_t index,
                    TR_Hotness optLevel, const AOTCacheAOTHeaderRecord *aotHeaderRecord,
@@ -403,7 +472,11 @@ private:
    bool setSubrecordPointers(const JITServerAOTCacheReadContext &context);
 
    CachedAOTMethod *_nextRecord;
+   volatile size_t _refCount;
+   size_t _numAccesses;
+   uint64_t _lastAccessTime;
    const AOTCacheClassChainRecord *const _definingClassChainRecord;
+   const AOTCacheAOTHeaderRecord *const _aotHeaderRecord;
    SerializedAOTMethod _data;
    // Array of record pointers is stored inline after serialized AOT method data
    };
@@ -427,6 +500,9 @@ public:
    // the unique record), by either looking up the existing record or creating a new one if there is sufficient
    // space. The getThunkRecord method instead has an accompanying createAndStoreThunk method that will create and store
    // a new thunk record if there is sufficient space.
+   // The getClassRecord, getMethodRecord, getClassChainRecord, getWellKnownClassesRecord and getAOTHeaderRecord
+   // methods acquire a reference to the returned record, which the caller must eventually release. They return
+   // NULL if a new record cannot be created because one of the given sub-records was removed from the cache.
    const AOTCacheClassLoaderRecord *getClassLoaderRecord(const uint8_t *name, size_t nameLength);
    // Must pass a scratchSegmentProvider if this function is called outside of a compilation
    const AOTCacheClassRecord *getClassRecord(const AOTCacheClassLoaderRecord *loaderRecord, const J9ROMClass *romClass,
@@ -449,8 +525,10 @@ public:
    // Each item in the `records` vector corresponds to an SCC offset stored in the AOT method's relocation data.
    // Note that the SCC offsets corresponding to AOTCacheThunkRecord records will not be used, as thunks are defined
    // globally in each client and are addressed by signature.
-   // Returns true if the method was successfully added, false otherwise (if a method already exists for this key).
+   // Returns true if the method was successfully added, false otherwise (if a method already exists for this key,
+   // or if one of the records it refers to was removed from the cache).
    // If the method record was successfully created, a pointer to the resulting record is stored in methodRecord.
+   // The caller then holds a reference to the record and must release it with releaseMethod().
    bool storeMethod(const AOTCacheClassChainRecord *definingClassChainRecord, uint32_t index,
                     TR_Hotness optLevel, const AOTCacheAOTHeaderRecord *aotHeaderRecord,
                     const Vector<std::pair<const AOTCacheRecord *, uintptr_t/*reloDataOffset*/>> &records,
@@ -458,9 +536,32 @@ public:
                     const char *signature, uint64_t clientUID, const CachedAOTMethod *&methodRecord);
 
    // Lookup a serialized method for the given key (see comment for storeMethod() above)
-   // in the cache. Returns NULL if no such method exists in the cache.
+   // in the cache. Returns NULL if no such method exists in the cache. Otherwise the caller
+   // holds a reference to the returned record and must release it with releaseMethod().
    const CachedAOTMethod *findMethod(const AOTCacheClassChainRecord *definingClassChainRecord, uint32_t index,
                                      TR_Hotness optLevel, const AOTCacheAOTHeaderRecord *aotHeaderRecord);
+   // Release a reference to a method returned by findMethod() or storeMethod(),
+   // freeing the method if it was evicted from the cache in the meantime
+   static void releaseMethod(const CachedAOTMethod *method);
+
+   // Registers the current request as a user of the records of an AOT cache while in scope. Records that are
+   // removed from the cache are only freed once every request that was using the cache at the time has finished,
+   // so that pointers obtained from a client session before the corresponding entry was purged remain valid.
+   class RecordUseScope
+      {
+   public:
+      RecordUseScope() : _cache(NULL), _epoch(0) { }
+      ~RecordUseScope() { exit(); }
+      RecordUseScope(const RecordUseScope &) = delete;
+      void operator=(const RecordUseScope &) = delete;
+
+      void enter(JITServerAOTCache *cache);
+      void exit();
+
+   private:
+      JITServerAOTCache *_cache;
+      uintptr_t _epoch;
+      };
 
    using KnownIdSet = PersistentUnorderedSet<uintptr_t/*recordIdAndType*/>;
 
@@ -473,14 +574,45 @@ public:
 
    void incNumCacheBypasses() { ++_numCacheBypasses; }
    void incNumCacheMisses() { ++_numCacheMisses; }
+   size_t getNumCacheHits() const { return _numCacheHits; }
+   size_t getNumCacheMisses() const { return _numCacheMisses; }
    size_t getNumDeserializedMethods() const { return _numDeserializedMethods; }
    void incNumDeserializedMethods() { ++_numDeserializedMethods; }
    void incNumDeserializationFailures() { ++_numDeserializationFailures; }
 
    void printStats(FILE *f) const;
 
-   size_t writeCache(FILE *f) const;
+   /**
+    * @brief Write a new journal containing all the records of this cache to the given (empty) file.
+    *
+    * This server becomes the owner of the journal, so that subsequent save operations can append to it.
+    * Must only be called by the thread performing the save operation.
+    *
+    * @return the number of AOT methods stored in the journal, or 0 on failure
+    */
+   size_t writeJournal(FILE *f);
+   /**
+    * @brief Append the records added since the last save operation to a journal owned by this server.
+    *
+    * The append is refused if the journal was modified or replaced by another server since
+    * this server last wrote (or loaded) it. Must only be called by the thread performing the save operation.
+    *
+    * @return the number of AOT methods stored in the journal, or 0 on failure
+    */
+   size_t appendToJournal(FILE *f);
+   bool ownsJournal() const { return _journal._ownerUID != 0; }
+   void invalidateJournal() { _journal = JournalState(); }
+   // True if most of the methods in the journal owned by this server have since been evicted, or if some of
+   // its records were removed, in which case a new journal should be written instead of appending to the existing one
+   bool shouldCompactJournal() const
+      {
+      return ownsJournal() &&
+             (_journal._hasRemovedRecords || (_journal._numMethodEntries > 2 * _journal._numWrittenMethods));
+      }
+
    static JITServerAOTCache *readCache(FILE *f, const std::string &name, TR_Memory &trMemory);
+   // Load a cache from a journal file by mapping it into memory and parsing the records in place
+   static JITServerAOTCache *readJournal(const std::string &fileName, const std::string &name, TR_Memory &trMemory);
    size_t getNumCachedMethods() const;
    void setMinNumAOTMethodsToSave(size_t num) { _minNumAOTMethodsToSave = num; }
 
@@ -587,10 +719,52 @@ private:
                   UnorderedSet<const AOTCacheRecord *> &newRecords, const KnownIdSet &knownIds) const;
    // Read a cache snapshot into an empty cache
    bool readCache(FILE *f, const JITServerAOTCacheHeader &header, TR_Memory &trMemory);
+   // Read the committed entries of a mapped journal into an empty cache
+   bool readJournal(const uint8_t *journal, const JITServerAOTCacheJournalHeader &header, TR_Memory &trMemory);
 
    template<typename K, typename V, typename H>
    static bool readRecords(FILE *f, JITServerAOTCacheReadContext &context, size_t numRecordsToRead,
                            PersistentUnorderedMap<K, V *, H> &map, V *&traversalHead, V *&traversalTail, Vector<V *> &records);
+   template<typename K, typename V, typename H>
+   static bool addReadRecord(V *record, PersistentUnorderedMap<K, V *, H> &map,
+                             V *&traversalHead, V *&traversalTail, Vector<V *> &records);
+   // If ignoreDuplicates is true, a method with the same key as an already added method is discarded instead of failing
+   bool addReadCachedMethod(CachedAOTMethod *record, const JITServerAOTCacheReadContext &context, bool ignoreDuplicates = false);
+
+   // Time after which the eviction score of a method that is no longer accessed is halved
+   static const uint64_t EVICTION_RECENCY_PERIOD_MS = 10 * 60 * 1000;
+
+   // Evict the least valuable methods until at least bytesToFree bytes are released (or no methods are left),
+   // also removing the records that are no longer referenced. Must be called with the cached method monitor
+   // held and no save operation in progress.
+   void evictMethods(size_t bytesToFree);
+
+   // Remove the unreferenced records of all reference counted types from the cache, after freeing the records
+   // removed earlier that can no longer be in use. Returns the number of bytes of the records removed by this call.
+   // Must be called with the cached method monitor held and no save operation in progress.
+   size_t retireUnreferencedRecords();
+   template<typename K, typename V, typename H>
+   size_t retireUnreferencedRecords(AOTSerializationRecordType type, PersistentUnorderedMap<K, V *, H> &map,
+                                    V *&traversalHead, V *&traversalTail, TR::Monitor *monitor);
+
+   static JITServerAOTCache *allocateCacheForReading(const std::string &name);
+   static void freeCache(JITServerAOTCache *cache);
+
+   // Progress of the journal this cache is persisted to. Each record traversal is written to the journal
+   // in order, so the last record written for each type is enough to know where to resume appending.
+   struct JournalState
+      {
+      const AOTCacheRecord *_lastWrittenRecord[AOTSerializationRecordType_MAX];
+      size_t _numWrittenRecords[AOTSerializationRecordType_MAX];
+      const CachedAOTMethod *_lastWrittenMethod;
+      size_t _numWrittenMethods;
+      size_t _numMethodEntries; // Includes the entries for methods that were since evicted from the cache
+      uint64_t _ownerUID;      // UID stored in the journal header; 0 if this cache does not own a journal
+      uint64_t _committedSize; // Committed size of the journal after it was last written or loaded by this server
+      bool _hasRemovedRecords; // True if records written to the journal were since removed from the cache
+      };
+
+   size_t writeJournalEntries(FILE *f, JournalState &state);
 
    const std::string _name;
 
@@ -644,10 +818,20 @@ private:
    CachedAOTMethod *_cachedMethodTail;
    TR::Monitor *const _cachedMethodMonitor;
 
+   // Records removed from the cache wait in the list of the epoch they were removed in. Every request using the
+   // records is counted in the epoch it started in (of which only the parity matters). The epoch is advanced
+   // when no request of the previous one remains, at which point the records removed in that previous epoch are
+   // freed. Both the lists and the advancement of the epoch are protected by the cached method monitor.
+   volatile uintptr_t _recordUseEpoch;
+   volatile uintptr_t _numRecordUsers[2];
+   AOTCacheRecord *_retiredRecords[2];
+   size_t _retiredBytes[2];
+
    uint64_t _timePrevSaveOperation;   // Millis when this cache was last saved to file
    size_t _minNumAOTMethodsToSave;    // Minimum number of AOT methods present in the cache before considering a save operation
    bool _saveOperationInProgress;     // True if an AOTCache save operation is in progress
    bool _excludedFromSavingToFile;    // True if this cache is excluded from saving to file
+   JournalState _journal;             // Only accessed by the thread performing the save operation, or by eviction between saves
 
    // Statistics
    size_t _numCacheBypasses;
@@ -656,6 +840,30 @@ private:
    size_t _numDeserializedMethods;
    size_t _numDeserializationFailures;
    size_t _numGeneratedClasses;
+   size_t _numEvictedMethods;
+   size_t _numFreedRecords;
+   };
+
+
+// Holds a reference to a cached AOT method returned by JITServerAOTCache::findMethod()
+// or storeMethod(), and releases it when going out of scope
+class CachedAOTMethodReference
+   {
+public:
+   CachedAOTMethodReference(const CachedAOTMethod *method = NULL) : _method(method) { }
+   ~CachedAOTMethodReference() { if (_method) JITServerAOTCache::releaseMethod(_method); }
+   CachedAOTMethodReference(const CachedAOTMethodReference &) = delete;
+   void operator=(const CachedAOTMethodReference &) = delete;
+
+   void reset(const CachedAOTMethod *method)
+      {
+      if (_method)
+         JITServerAOTCache::releaseMethod(_method);
+      _method = method;
+      }
+
+private:
+   const CachedAOTMethod *_method;
    };
 
 
@@ -702,9 +910,21 @@ public:
    */
    JITServerAOTCache *get(const std::string &name, uint64_t clientUID, bool &pending);
    size_t getNumDeserializedMethods() const;
+   size_t getNumCacheHits() const;
+   size_t getNumCacheMisses() const;
 
    static void setCacheMaxBytes(size_t bytes) { _cacheMaxBytes = bytes; }
    static bool cacheHasSpace();
+   static void setCacheEvictionEnabled(bool enabled) { _cacheEvictionEnabled = enabled; }
+   static bool isCacheEvictionEnabled() { return _cacheEvictionEnabled; }
+   // If eviction is enabled and the AOT caches use more than EVICTION_START_PERCENT of the budget, returns the
+   // number of bytes that should be evicted to bring their usage down to EVICTION_TARGET_PERCENT; otherwise returns 0
+   static size_t getNumBytesToEvict();
+
+   // Statistics shared by all the AOT caches, also exported as Prometheus metrics
+   static size_t getCacheBytesInUse() { return _cacheBytesInUse; }
+   static size_t getNumEvictedMethods() { return _numEvictedMethods; }
+   static size_t getNumEvictedBytes() { return _numEvictedBytes; }
 
    void printStats(FILE *f) const;
 
@@ -734,8 +954,19 @@ private:
 
    TR::Monitor *const _monitor;
 
+   friend class AOTCacheRecord;
+   friend class JITServerAOTCache;
+
+   static const size_t EVICTION_START_PERCENT = 95;
+   static const size_t EVICTION_TARGET_PERCENT = 85;
+
    static size_t _cacheMaxBytes;
    static bool _cacheIsFull;
+   static bool _cacheEvictionEnabled;
+   // Updated atomically since records of different caches are allocated and freed under different monitors
+   static volatile size_t _cacheBytesInUse;
+   static volatile size_t _numEvictedMethods;
+   static volatile size_t _numEvictedBytes;
    };
 
 #endif /* defined(JITSERVER_AOTCACHE_H) */
@@ -19,6 +19,7 @@
  *
  * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
  *******************************************************************************/
+#include <algorithm>
 #include <arpa/inet.h>
 #include <fcntl.h>
 #include <netdb.h>
@@ -33,13 +34,18 @@
 #include <stdlib.h>
 #include <unistd.h> // read, write
 
+#include "AtomicSupport.hpp"
+#include "compile/Compilation.hpp"
 #include "control/CompilationRuntime.hpp"
 #include "control/Options.hpp"
 #include "env/TRMemory.hpp"
 #include "env/PersistentInfo.hpp"
 #include "env/VerboseLog.hpp"
 #include "env/VMJ9.h"
+#include "infra/CriticalSection.hpp"
 #include "net/ServerStream.hpp"
+#include "runtime/JITClientSession.hpp"
+#include "runtime/JITServerAOTCache.hpp"
 #include "runtime/MetricsServer.hpp"
 
 bool MetricsServer::useSSL(TR::CompilationInfo *compInfo)
@@ -112,6 +118,114 @@ HttpGetRequest::ReturnCodes HttpGetRequest::acceptSSLConnection()
       }
    }
 
+// Format a value the way Prometheus expects it, e.g. "0.005" rather than "0.005000"
+static std::string
+formatValue(double value)
+   {
+   char buffer[32];
+   snprintf(buffer, sizeof(buffer), "%g", value);
+   return buffer;
+   }
+
+std::string
+LabeledMetric::serialize()
+   {
+   std::string output = serializeHeader();
+   for (auto &sample : _samples)
+      output.append(getName() + "{" + sample.first + "} " + std::to_string(sample.second) + "\n");
+   return output;
+   }
+
+PrometheusHistogram::PrometheusHistogram(const uint64_t *upperBounds, size_t numBuckets, double unitScale) :
+   _upperBounds(upperBounds), _numBuckets(std::min(numBuckets, MAX_BUCKETS)), _unitScale(unitScale)
+   {
+   for (size_t series = 0; series < MAX_SERIES; ++series)
+      {
+      for (size_t bucket = 0; bucket <= MAX_BUCKETS; ++bucket)
+         _counts[series][bucket] = 0;
+      _sums[series] = 0;
+      }
+   }
+
+void
+PrometheusHistogram::observe(uint64_t value, size_t series)
+   {
+   if (series >= MAX_SERIES)
+      return;
+   // Only the bucket that contains the value is incremented; the cumulative counts expected
+   // by Prometheus are computed when the histogram is serialized
+   size_t bucket = std::lower_bound(_upperBounds, _upperBounds + _numBuckets, value) - _upperBounds;
+   VM_AtomicSupport::add(&_counts[series][bucket], 1);
+   VM_AtomicSupport::add(&_sums[series], (uintptr_t)value);
+   }
+
+uint64_t
+PrometheusHistogram::getCount(size_t series) const
+   {
+   uint64_t count = 0;
+   for (size_t bucket = 0; bucket <= _numBuckets; ++bucket)
+      count += _counts[series][bucket];
+   return count;
+   }
+
+std::string
+PrometheusHistogram::serializeSeries(const std::string &name, size_t series, const std::string &labels) const
+   {
+   std::string labelPrefix = labels.empty() ? "" : labels + ",";
+   std::string labelSet = labels.empty() ? "" : "{" + labels + "}";
+   std::string output;
+   // The count is derived from the buckets, so that it is consistent with them
+   // even if observations are recorded while the series is being serialized
+   uint64_t count = 0;
+   for (size_t bucket = 0; bucket < _numBuckets; ++bucket)
+      {
+      count += _counts[series][bucket];
+      output.append(name + "_bucket{" + labelPrefix + "le=\"" + formatValue(_upperBounds[bucket] * _unitScale) + "\"} " + std::to_string(count) + "\n");
+      }
+   count += _counts[series][_numBuckets];
+   output.append(name + "_bucket{" + labelPrefix + "le=\"+Inf\"} " + std::to_string(count) + "\n");
+   output.append(name + "_sum" + labelSet + " " + formatValue(_sums[series] * _unitScale) + "\n");
+   output.append(name + "_count" + labelSet + " " + std::to_string(count) + "\n");
+   return output;
+   }
+
+std::string
+HistogramMetric::serialize()
+   {
+   std::string output = serializeHeader();
+   size_t numSeries = getNumSeries();
+   for (size_t series = 0; series < numSeries; ++series)
+      {
+      // Series of a labeled histogram are only reported once they have observations
+      if ((numSeries == 1) || (_histogram.getCount(series) > 0))
+         output.append(_histogram.serializeSeries(getName(), series, getSeriesLabels(series)));
+      }
+   return output;
+   }
+
+// Bucket bounds of the histograms; times are observed in microseconds and reported in seconds
+static const uint64_t queueWaitTimeBucketsUs[] = { 100, 500, 1000, 5000, 10000, 50000, 100000, 500000, 1000000, 5000000, 10000000 };
+static const uint64_t compilationTimeBucketsUs[] = { 1000, 5000, 10000, 25000, 50000, 100000, 250000, 500000, 1000000, 2500000, 5000000, 10000000 };
+static const uint64_t roundTripsBuckets[] = { 0, 1, 2, 5, 10, 20, 50, 100, 200, 500, 1000 };
+
+PrometheusHistogram QueueWaitTimeMetric::_histogram(queueWaitTimeBucketsUs, sizeof(queueWaitTimeBucketsUs) / sizeof(queueWaitTimeBucketsUs[0]), 1e-6);
+PrometheusHistogram CompilationTimeMetric::_histogram(compilationTimeBucketsUs, sizeof(compilationTimeBucketsUs) / sizeof(compilationTimeBucketsUs[0]), 1e-6);
+PrometheusHistogram CompilationRoundTripsMetric::_histogram(roundTripsBuckets, sizeof(roundTripsBuckets) / sizeof(roundTripsBuckets[0]), 1.0);
+
+static_assert(numHotnessLevels <= PrometheusHistogram::MAX_SERIES, "Not enough histogram series for all optimization levels");
+
+std::string
+CompilationTimeMetric::getSeriesLabels(size_t series) const
+   {
+   return std::string("opt_level=\"") + TR::Compilation::getHotnessName((TR_Hotness)series) + "\"";
+   }
+
+static std::string
+clientLabels(const ClientSessionData *clientSession)
+   {
+   return "client_uid=\"" + std::to_string(clientSession->getClientUID()) + "\"";
+   }
+
 double CPUUtilMetric::computeValue(TR::CompilationInfo *compInfo)
    {
    CpuUtilization *cpuUtil = compInfo->getCpuUtil();
@@ -143,13 +257,117 @@ double ActiveThreadsMetric::computeValue(TR::CompilationInfo *compInfo)
    return getValue();
    }
 
+double AOTCacheBytesMetric::computeValue(TR::CompilationInfo *compInfo)
+   {
+   setValue(JITServerAOTCacheMap::getCacheBytesInUse());
+   return getValue();
+   }
+
+double AOTCacheEvictedMethodsMetric::computeValue(TR::CompilationInfo *compInfo)
+   {
+   setValue(JITServerAOTCacheMap::getNumEvictedMethods());
+   return getValue();
+   }
+
+double AOTCacheEvictedBytesMetric::computeValue(TR::CompilationInfo *compInfo)
+   {
+   setValue(JITServerAOTCacheMap::getNumEvictedBytes());
+   return getValue();
+   }
+
+double AOTCacheRequestsMetric::computeValue(TR::CompilationInfo *compInfo)
+   {
+   clearSamples();
+   setValue(0);
+   if (auto aotCacheMap = compInfo->getJITServerAOTCacheMap())
+      {
+      size_t numHits = aotCacheMap->getNumCacheHits();
+      size_t numMisses = aotCacheMap->getNumCacheMisses();
+      addSample("result=\"hit\"", numHits);
+      addSample("result=\"miss\"", numMisses);
+      setValue(numHits + numMisses);
+      }
+   return getValue();
+   }
+
+double AOTCacheHitRatioMetric::computeValue(TR::CompilationInfo *compInfo)
+   {
+   setValue(0);
+   if (auto aotCacheMap = compInfo->getJITServerAOTCacheMap())
+      {
+      size_t numHits = aotCacheMap->getNumCacheHits();
+      size_t numRequests = numHits + aotCacheMap->getNumCacheMisses();
+      if (numRequests)
+         setValue((double)numHits / numRequests);
+      }
+   return getValue();
+   }
+
+double ClientBytesSentMetric::computeValue(TR::CompilationInfo *compInfo)
+   {
+   clearSamples();
+   double total = 0;
+   OMR::CriticalSection cs(compInfo->getCompilationMonitor()); // Client sessions are deleted with the compilation monitor in hand
+   compInfo->getClientSessionHT()->forEachClientSession([&](ClientSessionData *clientSession)
+      {
+      addSample(clientLabels(clientSession), clientSession->getNumBytesSent());
+      total += clientSession->getNumBytesSent();
+      });
+   setValue(total);
+   return getValue();
+   }
+
+double ClientBytesReceivedMetric::computeValue(TR::CompilationInfo *compInfo)
+   {
+   clearSamples();
+   double total = 0;
+   OMR::CriticalSection cs(compInfo->getCompilationMonitor());
+   compInfo->getClientSessionHT()->forEachClientSession([&](ClientSessionData *clientSession)
+      {
+      addSample(clientLabels(clientSession), clientSession->getNumBytesReceived());
+      total += clientSession->getNumBytesReceived();
+      });
+   setValue(total);
+   return getValue();
+   }
+
+double ClientSessionMemoryMetric::computeValue(TR::CompilationInfo *compInfo)
+   {
+   clearSamples();
+   double total = 0;
+   OMR::CriticalSection cs(compInfo->getCompilationMonitor());
+   compInfo->getClientSessionHT()->forEachClientSession([&](ClientSessionData *clientSession)
+      {
+      // Sessions that allocate from the global persistent memory cannot be told apart
+      if (clientSession->usesPerClientMemory())
+         {
+         size_t segmentBytes = clientSession->persistentMemory()->_persistentAllocator.get().getSegmentBytes();
+         addSample(clientLabels(clientSession), segmentBytes);
+         total += segmentBytes;
+         }
+      });
+   setValue(total);
+   return getValue();
+   }
+
 MetricsDatabase::MetricsDatabase(TR::CompilationInfo *compInfo) : _compInfo(compInfo)
    {
    _metrics[0] = new (PERSISTENT_NEW) CPUUtilMetric();
    _metrics[1] = new (PERSISTENT_NEW) AvailableMemoryMetric();
    _metrics[2] = new (PERSISTENT_NEW) ConnectedClientsMetric();
    _metrics[3] = new (PERSISTENT_NEW) ActiveThreadsMetric();
-   static_assert(3 == MAX_METRICS - 1, "Unsupported number of metrics");
+   _metrics[4] = new (PERSISTENT_NEW) AOTCacheBytesMetric();
+   _metrics[5] = new (PERSISTENT_NEW) AOTCacheEvictedMethodsMetric();
+   _metrics[6] = new (PERSISTENT_NEW) AOTCacheEvictedBytesMetric();
+   _metrics[7] = new (PERSISTENT_NEW) AOTCacheRequestsMetric();
+   _metrics[8] = new (PERSISTENT_NEW) AOTCacheHitRatioMetric();
+   _metrics[9] = new (PERSISTENT_NEW) QueueWaitTimeMetric();
+   _metrics[10] = new (PERSISTENT_NEW) CompilationTimeMetric();
+   _metrics[11] = new (PERSISTENT_NEW) CompilationRoundTripsMetric();
+   _metrics[12] = new (PERSISTENT_NEW) ClientBytesSentMetric();
+   _metrics[13] = new (PERSISTENT_NEW) ClientBytesReceivedMetric();
+   _metrics[14] = new (PERSISTENT_NEW) ClientSessionMemoryMetric();
+   static_assert(14 == MAX_METRICS - 1, "Unsupported number of metrics");
    }
 
 MetricsDatabase::~MetricsDatabase()
@@ -25,7 +25,10 @@
 
 #include <poll.h> // for struct pollfd
 #include <string>
+#include <utility>
+#include <vector>
 #include "j9.h" // for J9JavaVM
+#include "compile/CompilationTypes.hpp" // for TR_Hotness
 #include "infra/Monitor.hpp"  // for TR::Monitor
 
 namespace TR { class CompilationInfo; }
@@ -53,21 +56,120 @@ class PrometheusMetric
    const std::string &getHelp() const { return _help; }
    double getValue() const { return _value; }
    void setValue(double v) { _value = v; }
+   /**
+      @brief Return the Prometheus type of the metric; metrics that only ever increase should be reported as "counter"
+   */
+   virtual const char *getType() const { return "gauge"; }
    /**
       @brief Build a std::string that encodes the value of the metric in a format understood by Prometheus
       @return Serialized value of the metric (as a std::string)
    */
-   std::string serialize()
+   virtual std::string serialize()
       {
-      return "# HELP " + getName() + " " + getHelp() + "\n# TYPE " + getName() + " gauge\n" + getName() + " " + std::to_string(getValue()) + "\n";
+      return serializeHeader() + getName() + " " + std::to_string(getValue()) + "\n";
       }
 
    protected:
+   std::string serializeHeader() const
+      {
+      return "# HELP " + getName() + " " + getHelp() + "\n# TYPE " + getName() + " " + getType() + "\n";
+      }
+
    const std::string _name;
    const std::string _help;
    double _value;
    }; // class PrometheusMetric
 
+/**
+   @class LabeledMetric
+   @brief Abstraction for a metric reported as several samples that are told apart by their labels
+
+   Derived classes need to implement the `computeValue()` function, which must rebuild the
+   list of samples with `clearSamples()` and `addSample()`.
+ */
+class LabeledMetric : public PrometheusMetric
+   {
+   public:
+   LabeledMetric(const std::string &name, const std::string &help) : PrometheusMetric(name, help) {}
+   virtual std::string serialize();
+
+   protected:
+   void clearSamples() { _samples.clear(); }
+   /**
+      @brief Add a sample to the metric
+      @param labels Label set of the sample, e.g. `client_uid="1234"`
+      @param value Value of the sample
+   */
+   void addSample(const std::string &labels, double value) { _samples.push_back(std::make_pair(labels, value)); }
+
+   private:
+   std::vector<std::pair<std::string, double>> _samples;
+   }; // class LabeledMetric
+
+/**
+   @class PrometheusHistogram
+   @brief Distribution of observed values, accumulated in fixed buckets as Prometheus expects for a histogram
+
+   Observations are recorded with atomic increments, so compilation threads can call `observe()`
+   without taking any lock. A histogram can hold several series with the same bucket bounds,
+   e.g. one for each optimization level. The values are only read when the metrics are scraped,
+   so a scrape can miss the observations that are being recorded at the same time.
+ */
+class PrometheusHistogram
+   {
+   public:
+   static const size_t MAX_BUCKETS = 16; // Maximum number of buckets, not counting the implicit "+Inf" bucket
+   static const size_t MAX_SERIES = 10;
+
+   /**
+      @param upperBounds Sorted upper bounds of the buckets, in the unit of the observed values
+      @param numBuckets Number of entries in upperBounds
+      @param unitScale Factor that converts observed values into the unit reported to Prometheus (e.g. usec to seconds)
+   */
+   PrometheusHistogram(const uint64_t *upperBounds, size_t numBuckets, double unitScale);
+   void observe(uint64_t value, size_t series = 0);
+   uint64_t getCount(size_t series) const;
+   /**
+      @brief Build a std::string with the buckets, sum and count of a series, in a format understood by Prometheus
+      @param name Name of the metric
+      @param series Index of the series
+      @param labels Label set of the series, e.g. `opt_level="warm"`, or an empty string
+   */
+   std::string serializeSeries(const std::string &name, size_t series, const std::string &labels) const;
+
+   private:
+   const uint64_t *const _upperBounds;
+   const size_t _numBuckets;
+   const double _unitScale;
+   volatile uintptr_t _counts[MAX_SERIES][MAX_BUCKETS + 1]; // Last bucket of each series is "+Inf"
+   volatile uintptr_t _sums[MAX_SERIES];
+   }; // class PrometheusHistogram
+
+/**
+   @class HistogramMetric
+   @brief Abstraction for a metric reported as a Prometheus histogram
+
+   The observations are recorded in a PrometheusHistogram owned by the derived class,
+   so `computeValue()` has nothing to compute. Derived classes with more than one series
+   need to override `getNumSeries()` and `getSeriesLabels()`.
+ */
+class HistogramMetric : public PrometheusMetric
+   {
+   public:
+   HistogramMetric(const std::string &name, const std::string &help, const PrometheusHistogram &histogram) :
+      PrometheusMetric(name, help), _histogram(histogram) {}
+   virtual double computeValue(TR::CompilationInfo *compInfo) { return 0; }
+   virtual const char *getType() const { return "histogram"; }
+   virtual std::string serialize();
+
+   protected:
+   virtual size_t getNumSeries() const { return 1; }
+   virtual std::string getSeriesLabels(size_t series) const { return ""; }
+
+   private:
+   const PrometheusHistogram &_histogram;
+   }; // class HistogramMetric
+
 /**
    @brief Class used to serialize CPU utilization of OpenJ9, as a metric understood by Prometheus
  */
@@ -112,20 +214,157 @@ public:
    virtual double computeValue(TR::CompilationInfo *compInfo);
    }; // class ActiveThreadsMetric
 
+/**
+   @brief Class used to serialize the memory used by all JITServer AOT caches, as a metric understood by Prometheus
+ */
+class AOTCacheBytesMetric : public PrometheusMetric
+   {
+public:
+   AOTCacheBytesMetric() : PrometheusMetric("jitserver_aot_cache_bytes", "Memory used by the JITServer AOT caches")
+      {}
+   virtual double computeValue(TR::CompilationInfo *compInfo);
+   }; // class AOTCacheBytesMetric
+
+/**
+   @brief Class used to serialize the number of methods evicted from JITServer AOT caches, as a metric understood by Prometheus
+ */
+class AOTCacheEvictedMethodsMetric : public PrometheusMetric
+   {
+public:
+   AOTCacheEvictedMethodsMetric() : PrometheusMetric("jitserver_aot_cache_evicted_methods_total", "Number of methods evicted from the JITServer AOT caches")
+      {}
+   virtual double computeValue(TR::CompilationInfo *compInfo);
+   virtual const char *getType() const { return "counter"; }
+   }; // class AOTCacheEvictedMethodsMetric
+
+/**
+   @brief Class used to serialize the memory released by evicting methods from JITServer AOT caches, as a metric understood by Prometheus
+ */
+class AOTCacheEvictedBytesMetric : public PrometheusMetric
+   {
+public:
+   AOTCacheEvictedBytesMetric() : PrometheusMetric("jitserver_aot_cache_evicted_bytes_total", "Memory released by evicting methods from the JITServer AOT caches")
+      {}
+   virtual double computeValue(TR::CompilationInfo *compInfo);
+   virtual const char *getType() const { return "counter"; }
+   }; // class AOTCacheEvictedBytesMetric
+
+/**
+   @brief Class used to serialize the number of AOT cache lookups, split into hits and misses, as a metric understood by Prometheus
+ */
+class AOTCacheRequestsMetric : public LabeledMetric
+   {
+public:
+   AOTCacheRequestsMetric() : LabeledMetric("jitserver_aot_cache_requests_total", "Number of methods looked up in the JITServer AOT caches")
+      {}
+   virtual double computeValue(TR::CompilationInfo *compInfo);
+   virtual const char *getType() const { return "counter"; }
+   }; // class AOTCacheRequestsMetric
+
+/**
+   @brief Class used to serialize the fraction of AOT cache lookups that found a method, as a metric understood by Prometheus
+ */
+class AOTCacheHitRatioMetric : public PrometheusMetric
+   {
+public:
+   AOTCacheHitRatioMetric() : PrometheusMetric("jitserver_aot_cache_hit_ratio", "Fraction of the JITServer AOT cache lookups that found a method")
+      {}
+   virtual double computeValue(TR::CompilationInfo *compInfo);
+   }; // class AOTCacheHitRatioMetric
+
+/**
+   @brief Class used to serialize the time compilation requests wait in the compilation queue, as a metric understood by Prometheus
+ */
+class QueueWaitTimeMetric : public HistogramMetric
+   {
+public:
+   QueueWaitTimeMetric() : HistogramMetric("jitserver_compilation_queue_wait_seconds", "Time compilation requests wait for a compilation thread", _histogram)
+      {}
+   static void observe(uint64_t waitTimeUs) { _histogram.observe(waitTimeUs); }
+private:
+   static PrometheusHistogram _histogram;
+   }; // class QueueWaitTimeMetric
+
+/**
+   @brief Class used to serialize the time spent compiling methods at each optimization level, as a metric understood by Prometheus
+ */
+class CompilationTimeMetric : public HistogramMetric
+   {
+public:
+   CompilationTimeMetric() : HistogramMetric("jitserver_compilation_time_seconds", "Time spent compiling methods", _histogram)
+      {}
+   static void observe(uint64_t compTimeUs, TR_Hotness optLevel) { _histogram.observe(compTimeUs, optLevel); }
+protected:
+   virtual size_t getNumSeries() const { return numHotnessLevels; }
+   virtual std::string getSeriesLabels(size_t series) const;
+private:
+   static PrometheusHistogram _histogram;
+   }; // class CompilationTimeMetric
+
+/**
+   @brief Class used to serialize the number of messages the server sends to a client during a compilation, as a metric understood by Prometheus
+ */
+class CompilationRoundTripsMetric : public HistogramMetric
+   {
+public:
+   CompilationRoundTripsMetric() : HistogramMetric("jitserver_compilation_round_trips", "Number of queries the server sends to the client during a compilation", _histogram)
+      {}
+   static void observe(uint64_t numRoundTrips) { _histogram.observe(numRoundTrips); }
+private:
+   static PrometheusHistogram _histogram;
+   }; // class CompilationRoundTripsMetric
+
+/**
+   @brief Class used to serialize the number of bytes sent to each client, as a metric understood by Prometheus
+ */
+class ClientBytesSentMetric : public LabeledMetric
+   {
+public:
+   ClientBytesSentMetric() : LabeledMetric("jitserver_client_bytes_sent_total", "Number of bytes sent to each client during compilations")
+      {}
+   virtual double computeValue(TR::CompilationInfo *compInfo);
+   virtual const char *getType() const { return "counter"; }
+   }; // class ClientBytesSentMetric
+
+/**
+   @brief Class used to serialize the number of bytes received from each client, as a metric understood by Prometheus
+ */
+class ClientBytesReceivedMetric : public LabeledMetric
+   {
+public:
+   ClientBytesReceivedMetric() : LabeledMetric("jitserver_client_bytes_received_total", "Number of bytes received from each client during compilations")
+      {}
+   virtual double computeValue(TR::CompilationInfo *compInfo);
+   virtual const char *getType() const { return "counter"; }
+   }; // class ClientBytesReceivedMetric
+
+/**
+   @brief Class used to serialize the memory used by each client session, as a metric understood by Prometheus
+
+   Only the sessions that allocate from their own persistent memory are reported.
+ */
+class ClientSessionMemoryMetric : public LabeledMetric
+   {
+public:
+   ClientSessionMemoryMetric() : LabeledMetric("jitserver_client_session_memory_bytes", "Memory allocated for each client session")
+      {}
+   virtual double computeValue(TR::CompilationInfo *compInfo);
+   }; // class ClientSessionMemoryMetric
+
 
 /**
    @class MetricsDatabase
    @brief Collection of metrics that need to be sent to Prometheus on demand
 
-   In order to add a new metric, derive a new class from PrometheusMetric and implement its
-   computeValue() method. Increment the MAX_METRICS constant accordingly. Change the constructor
-   of this class to dynamically allocate an instance of the new metric and store a pointer
-   of this metric instance into the _metrics array
+   In order to add a new metric, derive a new class from PrometheusMetric (or from LabeledMetric
+   or HistogramMetric) and implement its computeValue() method. Increment the MAX_METRICS constant
+   accordingly. Change the constructor of this class to dynamically allocate an instance of the new
+   metric and store a pointer of this metric instance into the _metrics array
  */
 class MetricsDatabase
    {
    public:
-   static const size_t MAX_METRICS = 4; // Maximum number of metrics our database can hold
+   static const size_t MAX_METRICS = 15; // Maximum number of metrics our database can hold
    MetricsDatabase(TR::CompilationInfo *compInfo);
    ~MetricsDatabase();
 
@@ -58,6 +58,7 @@ class MM_MemorySubSpace;
 class MM_ObjectAccessBarrier;
 class MM_OwnableSynchronizerObjectList;
 class MM_ContinuationObjectList;
+class MM_StringDeduplication;
 class MM_StringTable;
 class MM_UnfinalizedObjectList;
 class MM_Wildcard;
@@ -91,6 +92,10 @@ private:
 	MM_ContinuationObjectList* continuationObjectLists; /**< The global linked list of continuation object lists. */
 public:
 	MM_StringTable* stringTable; /**< top level String Table structure (internally organized as a set of hash sub-tables */
+	MM_StringDeduplication* stringDeduplication; /**< String value deduplication (NULL unless enabled and supported by the collector) */
+	bool stringDeduplicationEnabled; /**< true if -XX:+UseStringDeduplication was specified */
+	uintptr_t stringDeduplicationQueueSize; /**< maximum number of String candidates sampled per collection */
+	uintptr_t stringDeduplicationTableSize; /**< maximum number of canonical value arrays remembered by String deduplication */
 
 	void* gcchkExtensions;
 
@@ -389,6 +394,10 @@ public:
 		, ownableSynchronizerObjectLists(NULL)
 		, continuationObjectLists(NULL)
 		, stringTable(NULL)
+		, stringDeduplication(NULL)
+		, stringDeduplicationEnabled(false)
+		, stringDeduplicationQueueSize(16 * 1024)
+		, stringDeduplicationTableSize(64 * 1024)
 		, gcchkExtensions(NULL)
 		, tgcExtensions(NULL)
 #if defined(J9VM_GC_FINALIZATION)
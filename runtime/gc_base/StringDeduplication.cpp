@@ -0,0 +1,410 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+
+#include "StringDeduplication.hpp"
+
+#include "hashtable_api.h"
+#include "j9.h"
+#include "j9consts.h"
+
+#include "EnvironmentBase.hpp"
+#include "GCExtensions.hpp"
+#include "ObjectModel.hpp"
+
+extern "C" {
+
+typedef struct StringDeduplicationEntry {
+	UDATA hash; /**< hash of the value array contents */
+	UDATA compressed; /**< 1 if the contents are LATIN1 (compressed), 0 otherwise */
+	jobject value; /**< JNI weak reference to the canonical value array (a plain slot for lookups) */
+} StringDeduplicationEntry;
+
+static UDATA
+hashValueData(U_8 *data, UDATA sizeInBytes, UDATA compressed)
+{
+	UDATA hash = compressed;
+	for (UDATA i = 0; i < sizeInBytes; i++) {
+		hash = (hash * 31) + data[i];
+	}
+	return hash;
+}
+
+} /* extern "C" */
+
+bool
+MM_StringDeduplication::isSupported(MM_GCExtensions *extensions)
+{
+	bool supported = false;
+	/* Before Java 11 the value array of a String may still be shared with a StringBuilder or StringBuffer */
+#if JAVA_SPEC_VERSION >= 11
+	if (extensions->isVLHGC()) {
+		supported = true;
+	}
+#if defined(J9VM_GC_MODRON_SCAVENGER)
+	/* Concurrent scavenger moves objects while mutators (and so the deduplication thread) run */
+	if (extensions->scavengerEnabled && !extensions->isConcurrentScavengerEnabled()) {
+		supported = true;
+	}
+#endif /* defined(J9VM_GC_MODRON_SCAVENGER) */
+#endif /* JAVA_SPEC_VERSION >= 11 */
+	return supported;
+}
+
+MM_StringDeduplication *
+MM_StringDeduplication::newInstance(MM_EnvironmentBase *env)
+{
+	MM_StringDeduplication *stringDeduplication = (MM_StringDeduplication *)env->getForge()->allocate(sizeof(MM_StringDeduplication), MM_AllocationCategory::FIXED, J9_GET_CALLSITE());
+	if (NULL != stringDeduplication) {
+		new(stringDeduplication) MM_StringDeduplication(env, MM_GCExtensions::getExtensions(env));
+		if (!stringDeduplication->initialize(env)) {
+			stringDeduplication->kill(env);
+			stringDeduplication = NULL;
+		}
+	}
+	return stringDeduplication;
+}
+
+bool
+MM_StringDeduplication::initialize(MM_EnvironmentBase *env)
+{
+	PORT_ACCESS_FROM_ENVIRONMENT(env);
+
+	_javaVM = (J9JavaVM *)env->getLanguageVM();
+	_candidateCapacity = _extensions->stringDeduplicationQueueSize;
+	_tableCapacity = _extensions->stringDeduplicationTableSize;
+
+	_candidates = (j9object_t *)env->getForge()->allocate(sizeof(j9object_t) * _candidateCapacity, MM_AllocationCategory::FIXED, J9_GET_CALLSITE());
+	if (NULL == _candidates) {
+		return false;
+	}
+
+	_table = hashTableNew(OMRPORT_FROM_J9PORT(PORTLIB), J9_GET_CALLSITE(), 0, sizeof(StringDeduplicationEntry), sizeof(void *), 0, OMRMEM_CATEGORY_MM, entryHashFn, entryEqualFn, NULL, this);
+	if (NULL == _table) {
+		return false;
+	}
+
+	if (0 != omrthread_monitor_init_with_name(&_monitor, 0, "GC string deduplication")) {
+		return false;
+	}
+
+	return true;
+}
+
+void
+MM_StringDeduplication::tearDown(MM_EnvironmentBase *env)
+{
+	/* the JNI weak references of the table were deleted by the deduplication thread before it detached */
+	if (NULL != _table) {
+		hashTableFree(_table);
+		_table = NULL;
+	}
+
+	if (NULL != _candidates) {
+		env->getForge()->free(_candidates);
+		_candidates = NULL;
+	}
+
+	if (NULL != _monitor) {
+		omrthread_monitor_destroy(_monitor);
+		_monitor = NULL;
+	}
+}
+
+void
+MM_StringDeduplication::kill(MM_EnvironmentBase *env)
+{
+	tearDown(env);
+	env->getForge()->free(this);
+}
+
+bool
+MM_StringDeduplication::startThread(MM_EnvironmentBase *env)
+{
+	bool started = false;
+
+	omrthread_monitor_enter(_monitor);
+	IDATA rc = _javaVM->internalVMFunctions->createThreadWithCategory(
+						&_thread,
+						_javaVM->defaultOSStackSize,
+						J9THREAD_PRIORITY_NORMAL,
+						0,
+						threadEntryPoint,
+						this,
+						J9THREAD_CATEGORY_SYSTEM_GC_THREAD);
+	if (0 == rc) {
+		/* wait for the thread to attach (or fail to) */
+		while (THREAD_NOT_STARTED == _threadState) {
+			omrthread_monitor_wait(_monitor);
+		}
+		started = (THREAD_RUNNING == _threadState);
+	}
+	omrthread_monitor_exit(_monitor);
+
+	return started;
+}
+
+void
+MM_StringDeduplication::stopThread(MM_EnvironmentBase *env)
+{
+	omrthread_monitor_enter(_monitor);
+	if (THREAD_RUNNING == _threadState) {
+		_threadState = THREAD_SHOULD_TERMINATE;
+		omrthread_monitor_notify_all(_monitor);
+	}
+	while ((THREAD_NOT_STARTED != _threadState) && (THREAD_TERMINATED != _threadState)) {
+		omrthread_monitor_wait(_monitor);
+	}
+	omrthread_monitor_exit(_monitor);
+}
+
+int J9THREAD_PROC
+MM_StringDeduplication::threadEntryPoint(void *userData)
+{
+	MM_StringDeduplication *stringDeduplication = (MM_StringDeduplication *)userData;
+	J9JavaVM *javaVM = stringDeduplication->_javaVM;
+	J9VMThread *vmThread = NULL;
+
+	if (JNI_OK == javaVM->internalVMFunctions->attachSystemDaemonThread(javaVM, &vmThread, "GC String Deduplication")) {
+		stringDeduplication->run(vmThread);
+		javaVM->internalVMFunctions->DetachCurrentThread((JavaVM *)javaVM);
+	}
+
+	omrthread_monitor_enter(stringDeduplication->_monitor);
+	stringDeduplication->_vmThread = NULL;
+	stringDeduplication->_threadState = THREAD_TERMINATED;
+	omrthread_monitor_notify_all(stringDeduplication->_monitor);
+	omrthread_exit(stringDeduplication->_monitor);
+
+	/* NO EXECUTION GUARANTEE BEYOND THIS POINT */
+	return 0;
+}
+
+void
+MM_StringDeduplication::run(J9VMThread *vmThread)
+{
+	J9InternalVMFunctions const * const vmFuncs = _javaVM->internalVMFunctions;
+
+	omrthread_monitor_enter(_monitor);
+	_vmThread = vmThread;
+	_threadState = THREAD_RUNNING;
+	omrthread_monitor_notify_all(_monitor);
+
+	while (THREAD_RUNNING == _threadState) {
+		if (_processedEpoch == _publishedEpoch) {
+			omrthread_monitor_wait(_monitor);
+		} else {
+			uintptr_t epoch = _publishedEpoch;
+			uintptr_t count = _publishedCount;
+			_processedEpoch = epoch;
+			omrthread_monitor_exit(_monitor);
+			processCandidates(vmThread, epoch, count);
+			omrthread_monitor_enter(_monitor);
+		}
+	}
+	omrthread_monitor_exit(_monitor);
+
+	/* drop the canonical arrays while the JNI weak references can still be deleted */
+	vmFuncs->internalAcquireVMAccess(vmThread);
+	clearTable(vmThread);
+	vmFuncs->internalReleaseVMAccess(vmThread);
+}
+
+void
+MM_StringDeduplication::processCandidates(J9VMThread *vmThread, uintptr_t epoch, uintptr_t count)
+{
+	J9InternalVMFunctions const * const vmFuncs = _javaVM->internalVMFunctions;
+	uintptr_t index = 0;
+
+	/* Objects do not move while this thread holds VM access. Every collection start advances
+	 * _epoch (under exclusive access), so a matching epoch means the candidates are still valid.
+	 */
+	vmFuncs->internalAcquireVMAccess(vmThread);
+	if (epoch == _epoch) {
+		purgeClearedEntries(vmThread);
+	}
+	while (index < count) {
+		if ((epoch != _epoch) || (THREAD_RUNNING != _threadState)) {
+			_passStats._abandoned += (count - index);
+			break;
+		}
+		deduplicate(vmThread, _candidates[index]);
+		_passStats._inspected += 1;
+		index += 1;
+		if (J9_ARE_ANY_BITS_SET(vmThread->publicFlags, J9_PUBLIC_FLAGS_HALT_THREAD_ANY)) {
+			/* let the pending exclusive request (typically a collection) proceed */
+			vmFuncs->internalReleaseVMAccess(vmThread);
+			vmFuncs->internalAcquireVMAccess(vmThread);
+		}
+	}
+	vmFuncs->internalReleaseVMAccess(vmThread);
+}
+
+void
+MM_StringDeduplication::deduplicate(J9VMThread *vmThread, j9object_t string)
+{
+	j9object_t value = J9VMJAVALANGSTRING_VALUE(vmThread, string);
+	U_8 *data = NULL;
+	uintptr_t sizeInBytes = 0;
+
+	if ((NULL == value) || !getValueData(value, &data, &sizeInBytes)) {
+		_passStats._skipped += 1;
+		return;
+	}
+
+	/* Strings only share a value array with Strings of the same coder, so both read it the same way */
+	StringDeduplicationEntry exemplar;
+	exemplar.compressed = IS_STRING_COMPRESSED(vmThread, string) ? 1 : 0;
+	exemplar.hash = hashValueData(data, sizeInBytes, exemplar.compressed);
+	exemplar.value = (jobject)&value;
+
+	StringDeduplicationEntry *entry = (StringDeduplicationEntry *)hashTableFind(_table, &exemplar);
+	if (NULL != entry) {
+		j9object_t canonical = J9WEAKROOT_OBJECT_LOAD(vmThread, entry->value);
+		if (canonical != value) {
+			/* store through the access barrier so the generational and concurrent barriers see the new reference */
+			J9VMJAVALANGSTRING_SET_VALUE(vmThread, string, canonical);
+			_passStats._deduplicated += 1;
+			/* the old array may still be reachable (e.g. shared with a String that is not a candidate), so this overestimates the savings */
+			_passStats._bytesSaved += _extensions->objectModel.getConsumedSizeInBytesWithHeader(value);
+		}
+	} else if (hashTableGetCount(_table) < _tableCapacity) {
+		jobject weakRef = _javaVM->internalVMFunctions->j9jni_createGlobalRef((JNIEnv *)vmThread, value, JNI_TRUE);
+		if (NULL != weakRef) {
+			exemplar.value = weakRef;
+			if (NULL == hashTableAdd(_table, &exemplar)) {
+				_javaVM->internalVMFunctions->j9jni_deleteGlobalRef((JNIEnv *)vmThread, weakRef, JNI_TRUE);
+			}
+		}
+	} else {
+		_passStats._skipped += 1;
+	}
+}
+
+void
+MM_StringDeduplication::purgeClearedEntries(J9VMThread *vmThread)
+{
+	J9HashTableState walkState;
+	StringDeduplicationEntry *entry = (StringDeduplicationEntry *)hashTableStartDo(_table, &walkState);
+	while (NULL != entry) {
+		if (NULL == J9WEAKROOT_OBJECT_LOAD(vmThread, entry->value)) {
+			_javaVM->internalVMFunctions->j9jni_deleteGlobalRef((JNIEnv *)vmThread, entry->value, JNI_TRUE);
+			hashTableDoRemove(&walkState);
+		}
+		entry = (StringDeduplicationEntry *)hashTableNextDo(&walkState);
+	}
+}
+
+void
+MM_StringDeduplication::clearTable(J9VMThread *vmThread)
+{
+	J9HashTableState walkState;
+	StringDeduplicationEntry *entry = (StringDeduplicationEntry *)hashTableStartDo(_table, &walkState);
+	while (NULL != entry) {
+		_javaVM->internalVMFunctions->j9jni_deleteGlobalRef((JNIEnv *)vmThread, entry->value, JNI_TRUE);
+		hashTableDoRemove(&walkState);
+		entry = (StringDeduplicationEntry *)hashTableNextDo(&walkState);
+	}
+}
+
+bool
+MM_StringDeduplication::getValueData(j9object_t value, U_8 **data, uintptr_t *sizeInBytes)
+{
+	GC_ArrayObjectModel *indexableObjectModel = &_extensions->indexableObjectModel;
+	J9IndexableObject *array = (J9IndexableObject *)value;
+	bool result = false;
+
+	/* empty and discontiguous (arraylet) value arrays are left alone */
+	if ((0 != indexableObjectModel->getSizeInElements(array)) && indexableObjectModel->isInlineContiguousArraylet(array)) {
+		*data = (U_8 *)indexableObjectModel->getDataPointerForContiguous(array);
+		*sizeInBytes = indexableObjectModel->getDataSizeInBytes(array);
+		result = true;
+	}
+	return result;
+}
+
+uintptr_t
+MM_StringDeduplication::entryHashFn(void *key, void *userData)
+{
+	return ((StringDeduplicationEntry *)key)->hash;
+}
+
+uintptr_t
+MM_StringDeduplication::entryEqualFn(void *leftKey, void *rightKey, void *userData)
+{
+	MM_StringDeduplication *stringDeduplication = (MM_StringDeduplication *)userData;
+	J9VMThread *vmThread = stringDeduplication->_vmThread;
+	StringDeduplicationEntry *left = (StringDeduplicationEntry *)leftKey;
+	StringDeduplicationEntry *right = (StringDeduplicationEntry *)rightKey;
+
+	if ((left->hash != right->hash) || (left->compressed != right->compressed)) {
+		return FALSE;
+	}
+
+	j9object_t leftValue = J9WEAKROOT_OBJECT_LOAD(vmThread, left->value);
+	j9object_t rightValue = J9WEAKROOT_OBJECT_LOAD(vmThread, right->value);
+	if ((NULL == leftValue) || (NULL == rightValue)) {
+		/* the canonical array was collected; the entry is purged on the next pass */
+		return FALSE;
+	}
+	if (leftValue == rightValue) {
+		return TRUE;
+	}
+	if (J9OBJECT_CLAZZ(vmThread, leftValue) != J9OBJECT_CLAZZ(vmThread, rightValue)) {
+		return FALSE;
+	}
+
+	U_8 *leftData = NULL;
+	U_8 *rightData = NULL;
+	uintptr_t leftSize = 0;
+	uintptr_t rightSize = 0;
+	if (!stringDeduplication->getValueData(leftValue, &leftData, &leftSize) || !stringDeduplication->getValueData(rightValue, &rightData, &rightSize)) {
+		return FALSE;
+	}
+
+	return (leftSize == rightSize) && (0 == memcmp(leftData, rightData, leftSize));
+}
+
+void
+MM_StringDeduplication::collectionStarted(MM_EnvironmentBase *env)
+{
+	/* Objects may move from here on, so the queued candidates (including those of a pass still
+	 * waiting to reacquire VM access) are stale.
+	 */
+	_epoch += 1;
+	_candidateCount = 0;
+
+	_lastPassStats.clear();
+	_lastPassStats.merge(&_passStats);
+	_passStats.clear();
+}
+
+void
+MM_StringDeduplication::collectionCompleted(MM_EnvironmentBase *env, bool candidatesValid)
+{
+	if (candidatesValid && (0 != _candidateCount)) {
+		omrthread_monitor_enter(_monitor);
+		_publishedEpoch = _epoch;
+		_publishedCount = getQueuedCount();
+		omrthread_monitor_notify_all(_monitor);
+		omrthread_monitor_exit(_monitor);
+	}
+}
@@ -0,0 +1,193 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+
+/**
+ * @file
+ * @ingroup GC_Base
+ */
+
+#if !defined(STRING_DEDUPLICATION_HPP_)
+#define STRING_DEDUPLICATION_HPP_
+
+#include "BaseVirtual.hpp"
+
+#include "j9protos.h"
+#include "ModronAssertions.h"
+
+#include "AtomicOperations.hpp"
+#include "StringDeduplicationStats.hpp"
+
+class MM_EnvironmentBase;
+class MM_GCExtensions;
+
+/**
+ * Deduplicates the value arrays of surviving java.lang.String objects.
+ *
+ * The copying collectors (scavenger and copy-forward) sample the Strings they copy into a
+ * fixed size candidate buffer. At the end of a successful collection the buffer is handed to
+ * a background thread which hashes and compares the value arrays of the candidates and
+ * redirects duplicates to a canonical array remembered (through JNI weak references) in a
+ * content table.
+ *
+ * The candidate buffer holds raw object pointers, so it is only valid until objects move
+ * again. The thread examines candidates while holding VM access and every collection start
+ * advances an epoch, which the thread checks whenever it reacquires VM access.
+ */
+class MM_StringDeduplication : public MM_BaseVirtual {
+private:
+	enum ThreadState {
+		THREAD_NOT_STARTED = 0,
+		THREAD_RUNNING,
+		THREAD_SHOULD_TERMINATE,
+		THREAD_TERMINATED
+	};
+
+	MM_GCExtensions *_extensions;
+	J9JavaVM *_javaVM;
+
+	j9object_t *_candidates; /**< candidate Strings sampled during the current collection */
+	uintptr_t _candidateCapacity; /**< number of entries in _candidates */
+	volatile uintptr_t _candidateCount; /**< number of Strings offered during the current collection (may exceed _candidateCapacity) */
+
+	volatile uintptr_t _epoch; /**< advanced at the start of every collection, invalidating previously sampled candidates */
+	uintptr_t _publishedEpoch; /**< epoch of the candidates handed to the deduplication thread */
+	uintptr_t _publishedCount; /**< number of candidates handed to the deduplication thread */
+	uintptr_t _processedEpoch; /**< epoch of the candidates most recently taken by the deduplication thread */
+
+	J9HashTable *_table; /**< canonical value arrays, keyed by contents and compression */
+	uintptr_t _tableCapacity; /**< maximum number of canonical value arrays remembered */
+
+	omrthread_monitor_t _monitor; /**< protects the thread state and the published candidates */
+	omrthread_t _thread;
+	J9VMThread *_vmThread; /**< the deduplication thread, valid while it is running */
+	volatile ThreadState _threadState;
+
+	MM_StringDeduplicationStats _passStats; /**< statistics of the pass(es) run since the last collection started */
+	MM_StringDeduplicationStats _lastPassStats; /**< statistics reported for the current collection */
+
+public:
+
+private:
+	bool initialize(MM_EnvironmentBase *env);
+	void tearDown(MM_EnvironmentBase *env);
+
+	static int J9THREAD_PROC threadEntryPoint(void *userData);
+	void run(J9VMThread *vmThread);
+	void processCandidates(J9VMThread *vmThread, uintptr_t epoch, uintptr_t count);
+	void deduplicate(J9VMThread *vmThread, j9object_t string);
+	void purgeClearedEntries(J9VMThread *vmThread);
+	void clearTable(J9VMThread *vmThread);
+	bool getValueData(j9object_t value, U_8 **data, uintptr_t *sizeInBytes);
+
+	static uintptr_t entryHashFn(void *key, void *userData);
+	static uintptr_t entryEqualFn(void *leftKey, void *rightKey, void *userData);
+
+public:
+	/**
+	 * Determine whether String deduplication can be used with the configured collector.
+	 * Deduplication needs a copying collector which moves objects only while mutators are stopped.
+	 * @param extensions the GC extensions
+	 * @return true if deduplication is supported
+	 */
+	static bool isSupported(MM_GCExtensions *extensions);
+
+	static MM_StringDeduplication *newInstance(MM_EnvironmentBase *env);
+	virtual void kill(MM_EnvironmentBase *env);
+
+	/**
+	 * Start the deduplication thread. Called once the VM is able to attach threads.
+	 * @return true on success
+	 */
+	bool startThread(MM_EnvironmentBase *env);
+
+	/**
+	 * Stop the deduplication thread and wait for it to terminate.
+	 */
+	void stopThread(MM_EnvironmentBase *env);
+
+	/**
+	 * Called by the main GC thread at the start of every collection which may move objects.
+	 * Discards the candidates of the previous collection and rolls the pass statistics over.
+	 */
+	void collectionStarted(MM_EnvironmentBase *env);
+
+	/**
+	 * Called by the main GC thread once the current collection will no longer move objects.
+	 * @param candidatesValid false if the sampled candidates must be discarded (backout, abort or compaction)
+	 */
+	void collectionCompleted(MM_EnvironmentBase *env, bool candidatesValid);
+
+	/**
+	 * Offer a surviving String (at its final location) as a deduplication candidate.
+	 * Called by GC worker threads; candidates beyond the buffer capacity are dropped.
+	 * @param string the String object
+	 */
+	MMINLINE void addCandidate(j9object_t string)
+	{
+		if (_candidateCount < _candidateCapacity) {
+			uintptr_t index = MM_AtomicOperations::add(&_candidateCount, 1) - 1;
+			if (index < _candidateCapacity) {
+				_candidates[index] = string;
+			}
+		}
+	}
+
+	/**
+	 * @return number of Strings offered as candidates during the current collection
+	 */
+	MMINLINE uintptr_t getCandidateCount() { return _candidateCount; }
+
+	/**
+	 * @return number of candidates queued during the current collection
+	 */
+	MMINLINE uintptr_t getQueuedCount() { return OMR_MIN(_candidateCount, _candidateCapacity); }
+
+	/**
+	 * @return statistics of the deduplication pass(es) run since the previous collection
+	 */
+	MMINLINE MM_StringDeduplicationStats *getLastPassStats() { return &_lastPassStats; }
+
+	MM_StringDeduplication(MM_EnvironmentBase *env, MM_GCExtensions *extensions) :
+		MM_BaseVirtual(),
+		_extensions(extensions),
+		_javaVM(NULL),
+		_candidates(NULL),
+		_candidateCapacity(0),
+		_candidateCount(0),
+		_epoch(0),
+		_publishedEpoch(0),
+		_publishedCount(0),
+		_processedEpoch(0),
+		_table(NULL),
+		_tableCapacity(0),
+		_monitor(NULL),
+		_thread(NULL),
+		_vmThread(NULL),
+		_threadState(THREAD_NOT_STARTED),
+		_passStats(),
+		_lastPassStats()
+	{
+		_typeId = __FUNCTION__;
+	}
+};
+
+#endif /* STRING_DEDUPLICATION_HPP_ */
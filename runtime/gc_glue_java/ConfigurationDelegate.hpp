@@ -44,6 +44,7 @@
 #include "HeapRegionIterator.hpp"
 #include "ObjectAccessBarrier.hpp"
 #include "ObjectAllocationInterface.hpp"
+#include "StringDeduplication.hpp"
 #include "StringTable.hpp"
 
 class MM_ConfigurationDelegate
@@ -139,6 +140,11 @@ public:
 			_extensions->stringTable->kill(env);
 			_extensions->stringTable = NULL;
 		}
+
+		if (NULL != _extensions->stringDeduplication) {
+			_extensions->stringDeduplication->kill(env);
+			_extensions->stringDeduplication = NULL;
+		}
 	}
 
 	OMR_SizeClasses *getSegregatedSizeClasses(MM_EnvironmentBase *env)
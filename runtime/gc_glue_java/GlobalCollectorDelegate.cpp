@@ -58,6 +58,7 @@
 #include "ReferenceObjectList.hpp"
 #include "ScavengerJavaStats.hpp"
 #include "StandardAccessBarrier.hpp"
+#include "StringDeduplication.hpp"
 #include "VMThreadListIterator.hpp"
 
 #if defined(J9VM_GC_DYNAMIC_CLASS_UNLOADING)
@@ -133,6 +134,11 @@ MM_GlobalCollectorDelegate::mainThreadGarbageCollectStarted(MM_EnvironmentBase *
 	/* Clear the java specific mark stats */
 	_extensions->markJavaStats.clear();
 
+	if (NULL != _extensions->stringDeduplication) {
+		/* a global collection may compact, so pending deduplication candidates become stale */
+		_extensions->stringDeduplication->collectionStarted(env);
+	}
+
 #if defined(J9VM_GC_MODRON_COMPACTION)
 	_criticalSectionCount = MM_StandardAccessBarrier::getJNICriticalRegionCount(_extensions);
 #endif /* J9VM_GC_MODRON_COMPACTION */
@@ -107,6 +107,7 @@
 #include "SlotObject.hpp"
 #include "StandardAccessBarrier.hpp"
 #include "SublistFragment.hpp"
+#include "StringDeduplication.hpp"
 #include "StringTable.hpp"
 #include "Task.hpp"
 #include "UnfinalizedObjectBuffer.hpp"
@@ -195,6 +196,10 @@ MM_ScavengerDelegate::mainSetupForGC(MM_EnvironmentBase * envBase)
 		MM_HotFieldUtil::sortAllHotFieldData(_javaVM, _extensions->scavengerStats._gcCount);
 	}
 
+	if (NULL != _extensions->stringDeduplication) {
+		_extensions->stringDeduplication->collectionStarted(envBase);
+	}
+
 	return;
 }
 
@@ -220,6 +225,11 @@ MM_ScavengerDelegate::reportScavengeEnd(MM_EnvironmentBase * envBase, bool scave
 
 		_extensions->scavengerJavaStats._ownableSynchronizerNurserySurvived = _extensions->scavengerJavaStats._ownableSynchronizerCandidates;
 	}
+
+	if (NULL != _extensions->stringDeduplication) {
+		/* backed out copies are abandoned, so the sampled candidates are discarded */
+		_extensions->stringDeduplication->collectionCompleted(envBase, scavengeSuccessful);
+	}
 }
 
 void
@@ -387,6 +397,13 @@ MM_ScavengerDelegate::getObjectScanner(MM_EnvironmentStandard *env, omrobjectptr
 	GC_ObjectScanner *objectScanner = NULL;
 	J9Class *clazzPtr = J9GC_J9OBJECT_CLAZZ(objectPtr, env);
 
+	if ((NULL != _extensions->stringDeduplication) && (SCAN_REASON_SCAVENGE == reason) && GC_ObjectScanner::isHeapScan(flags)
+		&& (clazzPtr == J9VMJAVALANGSTRING_OR_NULL(_javaVM))
+	) {
+		/* objectPtr is the surviving copy, so it stays put until the next collection */
+		_extensions->stringDeduplication->addCandidate(objectPtr);
+	}
+
 	switch(_extensions->objectModel.getScanType(clazzPtr)) {
 	case GC_ObjectModel::SCAN_MIXED_OBJECT_LINKED:
 		_extensions->scavenger->deepScan(env, objectPtr, clazzPtr->selfReferencingField1, clazzPtr->selfReferencingField2);
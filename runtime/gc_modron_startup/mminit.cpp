@@ -102,6 +102,7 @@
 #include "RememberedSetSATB.hpp"
 #endif /* J9VM_GC_REALTIME */
 #include "Scavenger.hpp"
+#include "StringDeduplication.hpp"
 #include "StringTable.hpp"
 #include "Validator.hpp"
 #if defined(OMR_GC_IDLE_HEAP_MANAGER)
@@ -508,6 +509,14 @@ j9gc_initialize_heap(J9JavaVM *vm, IDATA *memoryParameterTable, UDATA heapBytesR
 		goto error_no_memory;
 	}
 
+	/* String deduplication is silently unavailable with collectors which do not copy objects while mutators are stopped */
+	if (extensions->stringDeduplicationEnabled && MM_StringDeduplication::isSupported(extensions)) {
+		extensions->stringDeduplication = MM_StringDeduplication::newInstance(&env);
+		if (NULL == extensions->stringDeduplication) {
+			goto error_no_memory;
+		}
+	}
+
 	/* Initialize statistic locks */
 	if (omrthread_monitor_init_with_name(&extensions->gcStatsMutex, 0, "MM_GCExtensions::gcStats")) {
 		vm->internalVMFunctions->setErrorJ9dll(
@@ -662,6 +671,14 @@ gcStartupHeapManagement(J9JavaVM *javaVM)
 		result = JNI_ENOMEM;
 	}
 
+	if ((JNI_OK == result) && (NULL != extensions->stringDeduplication)) {
+		MM_EnvironmentBase env(javaVM->omrVM);
+		if (!extensions->stringDeduplication->startThread(&env)) {
+			extensions->dispatcher->shutDownThreads();
+			result = JNI_ENOMEM;
+		}
+	}
+
 	if (JNI_OK != result) {
 		PORT_ACCESS_FROM_JAVAVM(javaVM);
 		extensions->getGlobalCollector()->collectorShutdown(extensions);
@@ -785,6 +802,11 @@ gcShutdownHeapManagement(J9JavaVM *javaVM)
 	j9gc_finalizer_shutdown(javaVM);
 #endif /* J9VM_GC_FINALIZATION */
 
+	if (NULL != extensions->stringDeduplication) {
+		MM_EnvironmentBase env(javaVM->omrVM);
+		extensions->stringDeduplication->stopThread(&env);
+	}
+
 	if (extensions->dispatcher) {
 		extensions->dispatcher->shutDownThreads();
 	}
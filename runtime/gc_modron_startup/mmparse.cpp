@@ -1448,6 +1448,19 @@ gcParseXXArguments(J9JavaVM *vm)
 		}
 	}
 
+	{
+		IDATA useStringDeduplicationIndex = FIND_AND_CONSUME_VMARG(EXACT_MATCH, "-XX:+UseStringDeduplication", NULL);
+		IDATA noUseStringDeduplicationIndex = FIND_AND_CONSUME_VMARG(EXACT_MATCH, "-XX:-UseStringDeduplication", NULL);
+		if (useStringDeduplicationIndex != noUseStringDeduplicationIndex) {
+			/* At least one option is set. Find the right most one. */
+			if (useStringDeduplicationIndex > noUseStringDeduplicationIndex) {
+				extensions->stringDeduplicationEnabled = true;
+			} else {
+				extensions->stringDeduplicationEnabled = false;
+			}
+		}
+	}
+
 	{
 		IDATA adaptiveGCThreadingIndex = FIND_AND_CONSUME_VMARG(EXACT_MATCH, "-XX:+AdaptiveGCThreading", NULL);
 		IDATA noAdaptiveGCThreadingIndex = FIND_AND_CONSUME_VMARG(EXACT_MATCH, "-XX:-AdaptiveGCThreading", NULL);
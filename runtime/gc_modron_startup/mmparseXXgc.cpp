@@ -1464,6 +1464,27 @@ gcParseXXgcArguments(J9JavaVM *vm, char *optArg)
 			continue;
 		}
 
+		if (try_scan(&scan_start, "stringDeduplicationQueueSize=")) {
+			if(!scan_udata_helper(vm, &scan_start, &(extensions->stringDeduplicationQueueSize), "stringDeduplicationQueueSize=")) {
+				returnValue = JNI_EINVAL;
+				break;
+			}
+			if (0 == extensions->stringDeduplicationQueueSize) {
+				j9nls_printf(PORTLIB, J9NLS_ERROR, J9NLS_GC_OPTIONS_VALUE_MUST_BE_ABOVE, "stringDeduplicationQueueSize=", (UDATA)0);
+				returnValue = JNI_EINVAL;
+				break;
+			}
+			continue;
+		}
+
+		if (try_scan(&scan_start, "stringDeduplicationTableSize=")) {
+			if(!scan_udata_helper(vm, &scan_start, &(extensions->stringDeduplicationTableSize), "stringDeduplicationTableSize=")) {
+				returnValue = JNI_EINVAL;
+				break;
+			}
+			continue;
+		}
+
 		if (try_scan(&scan_start, "objectListFragmentCount=")) {
 			if(!scan_udata_helper(vm, &scan_start, &(extensions->objectListFragmentCount), "objectListFragmentCount=")) {
 				returnValue = JNI_EINVAL;
@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+#if !defined(STRINGDEDUPLICATIONSTATS_HPP_)
+#define STRINGDEDUPLICATIONSTATS_HPP_
+
+#include "j9port.h"
+#include "modronopt.h"
+
+#include "Base.hpp"
+
+/**
+ * Storage for statistics of one String deduplication pass
+ * @ingroup GC_Stats
+ */
+class MM_StringDeduplicationStats : public MM_Base {
+private:
+protected:
+public:
+	uintptr_t _inspected;	/**< number of queued String candidates examined by the deduplication thread */
+	uintptr_t _deduplicated;	/**< number of Strings redirected to a canonical value array */
+	uintptr_t _bytesSaved;	/**< size of the value arrays the deduplicated Strings stopped referencing, an upper bound since an array may still be referenced elsewhere */
+	uintptr_t _skipped;	/**< number of candidates that could not be deduplicated (empty, discontiguous or canonical table full) */
+	uintptr_t _abandoned;	/**< number of queued candidates dropped because a collection started before they were examined */
+
+	/* function members */
+private:
+protected:
+public:
+	void clear()
+	{
+		_inspected = 0;
+		_deduplicated = 0;
+		_bytesSaved = 0;
+		_skipped = 0;
+		_abandoned = 0;
+	}
+
+	void merge(MM_StringDeduplicationStats *statsToMerge)
+	{
+		_inspected += statsToMerge->_inspected;
+		_deduplicated += statsToMerge->_deduplicated;
+		_bytesSaved += statsToMerge->_bytesSaved;
+		_skipped += statsToMerge->_skipped;
+		_abandoned += statsToMerge->_abandoned;
+	}
+
+	MM_StringDeduplicationStats() :
+		MM_Base()
+		, _inspected(0)
+		, _deduplicated(0)
+		, _bytesSaved(0)
+		, _skipped(0)
+		, _abandoned(0)
+	{
+		clear();
+	}
+};
+#endif /* STRINGDEDUPLICATIONSTATS_HPP_ */
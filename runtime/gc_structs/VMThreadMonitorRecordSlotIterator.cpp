@@ -48,6 +48,12 @@ GC_VMThreadMonitorRecordSlotIterator::nextSlot()
 		J9MonitorEnterRecord *currentMonitorRecord = _jniMonitorRecord;
 		_jniMonitorRecord = currentMonitorRecord->next;
 		return &currentMonitorRecord->object;
+#if JAVA_SPEC_VERSION >= 19
+	} else if (_carrierMonitorRecord != NULL) {
+		J9MonitorEnterRecord *currentMonitorRecord = _carrierMonitorRecord;
+		_carrierMonitorRecord = currentMonitorRecord->next;
+		return &currentMonitorRecord->object;
+#endif /* JAVA_SPEC_VERSION >= 19 */
 	}
 	return NULL;
 }
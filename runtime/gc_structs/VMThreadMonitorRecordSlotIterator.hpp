@@ -42,11 +42,17 @@ class GC_VMThreadMonitorRecordSlotIterator
 {
 	J9MonitorEnterRecord *_monitorRecord;
 	J9MonitorEnterRecord *_jniMonitorRecord;
+#if JAVA_SPEC_VERSION >= 19
+	J9MonitorEnterRecord *_carrierMonitorRecord; /**< records of the carrier thread, held by the mounted continuation */
+#endif /* JAVA_SPEC_VERSION >= 19 */
 
 public:
 	GC_VMThreadMonitorRecordSlotIterator(J9VMThread *vmThread) :
 		_monitorRecord(vmThread->monitorEnterRecords),
 		_jniMonitorRecord(vmThread->jniMonitorEnterRecords)
+#if JAVA_SPEC_VERSION >= 19
+		, _carrierMonitorRecord((NULL != vmThread->currentContinuation) ? vmThread->currentContinuation->monitorEnterRecords : NULL)
+#endif /* JAVA_SPEC_VERSION >= 19 */
 	{};
 
 	j9object_t *nextSlot();
@@ -268,6 +268,8 @@ MM_VerboseHandlerOutputStandardJava::handleScavengeEndInternal(MM_EnvironmentBas
 		outputReferenceInfo(env, 1, "phantom", &scavengerJavaStats->_phantomReferenceStats, 0, 0);
 
 		outputMonitorReferenceInfo(env, 1, scavengerJavaStats->_monitorReferenceCandidates, scavengerJavaStats->_monitorReferenceCleared);
+
+		MM_VerboseHandlerJava::outputStringDeduplicationInfo(_manager, env, 1);
 	}
 }
 #endif /*defined(J9VM_GC_MODRON_SCAVENGER) */
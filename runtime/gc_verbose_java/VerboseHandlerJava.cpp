@@ -33,6 +33,7 @@
 #include "VerboseWriterChain.hpp"
 #include "GCExtensions.hpp"
 #include "FinalizeListManager.hpp"
+#include "StringDeduplication.hpp"
 #include "VerboseBuffer.hpp"
 
 void
@@ -51,6 +52,19 @@ MM_VerboseHandlerJava::outputFinalizableInfo(MM_VerboseManager *manager, MM_Envi
 	}
 }
 
+void
+MM_VerboseHandlerJava::outputStringDeduplicationInfo(MM_VerboseManager *manager, MM_EnvironmentBase *env, UDATA indent)
+{
+	MM_StringDeduplication *stringDeduplication = MM_GCExtensions::getExtensions(env)->stringDeduplication;
+
+	if (NULL != stringDeduplication) {
+		MM_StringDeduplicationStats *passStats = stringDeduplication->getLastPassStats();
+		manager->getWriterChain()->formatAndOutput(env, indent, "<string-deduplication candidates=\"%zu\" queued=\"%zu\" inspected=\"%zu\" deduplicated=\"%zu\" bytessaved=\"%zu\" skipped=\"%zu\" abandoned=\"%zu\" />",
+			stringDeduplication->getCandidateCount(), stringDeduplication->getQueuedCount(),
+			passStats->_inspected, passStats->_deduplicated, passStats->_bytesSaved, passStats->_skipped, passStats->_abandoned);
+	}
+}
+
 bool
 MM_VerboseHandlerJava::getThreadName(char *buf, UDATA bufLen, OMR_VMThread *omrThread)
 {
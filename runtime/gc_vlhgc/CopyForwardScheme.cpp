@@ -93,6 +93,7 @@
 #include "RootScanner.hpp"
 #include "SlotObject.hpp"
 #include "StackSlotValidator.hpp"
+#include "StringDeduplication.hpp"
 #include "SublistFragment.hpp"
 #include "SublistIterator.hpp"
 #include "SublistPool.hpp"
@@ -2073,6 +2074,12 @@ MM_CopyForwardScheme::copy(MM_EnvironmentVLHGC *env, MM_AllocationContextTarok *
 				copyCache->_lowerAgeBound = OMR_MIN(copyCache->_lowerAgeBound, sourceRegion->getLowerAgeBound());
 				copyCache->_upperAgeBound = OMR_MAX(copyCache->_upperAgeBound, sourceRegion->getUpperAgeBound());
 
+				if ((NULL != _extensions->stringDeduplication)
+					&& (objectModel->getPreservedClass(forwardedHeader) == J9VMJAVALANGSTRING_OR_NULL(_javaVM))
+				) {
+					_extensions->stringDeduplication->addCandidate(destinationObjectPtr);
+				}
+
 #if defined(J9VM_GC_LEAF_BITS)
 				if (_extensions->tarokEnableLeafFirstCopying) {
 					copyLeafChildren(env, reservingContext, destinationObjectPtr);
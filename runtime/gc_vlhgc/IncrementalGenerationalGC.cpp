@@ -70,6 +70,7 @@
 #include "ParallelDispatcher.hpp"
 #include "ParallelTask.hpp"
 #include "ReferenceChainWalker.hpp"
+#include "StringDeduplication.hpp"
 #include "VLHGCAccessBarrier.hpp"
 #include "WorkPacketsIterator.hpp"
 #include "WorkPacketsVLHGC.hpp"
@@ -940,6 +941,9 @@ MM_IncrementalGenerationalGC::partialGarbageCollectPreWork(MM_EnvironmentVLHGC *
 	reportGCIncrementStart(env, "partial collect", 0);
 
 	setupBeforePartialGC(env, env->_cycleState->_gcCode);
+	if (NULL != _extensions->stringDeduplication) {
+		_extensions->stringDeduplication->collectionStarted(env);
+	}
 	if (isGlobalMarkPhaseRunning()) {
 		/* since we have a GMP running, the PGC will need to know about it to find roots in its mark map */
 		env->_cycleState->_externalCycleState = &_persistentGlobalMarkPhaseState;
@@ -1158,6 +1162,11 @@ MM_IncrementalGenerationalGC::runGlobalGarbageCollection(MM_EnvironmentVLHGC *en
 	reportGlobalGCStart(env);
 	reportGCIncrementStart(env, "global collect", env->_cycleState->_currentIncrement);
 
+	if (NULL != _extensions->stringDeduplication) {
+		/* a global collection compacts, so pending deduplication candidates become stale */
+		_extensions->stringDeduplication->collectionStarted(env);
+	}
+
 	/* Perform any main-specific setup */
 	/* Tell the GAM to flush its contexts */
 	MM_GlobalAllocationManager *gam = _extensions->globalAllocationManager;
@@ -1414,6 +1423,9 @@ MM_IncrementalGenerationalGC::postProcessPGCUsingCopyForward(MM_EnvironmentVLHGC
 
 	_schedulingDelegate.copyForwardCompleted(env);
 
+	/* Copied objects only keep their addresses until the next collection if nothing is compacted after the copy forward */
+	bool objectsMovedAfterCopyForward = cycleState->_useSlidingCompactor || cycleState->_abortFlagRaisedDuringPGC || _copyForwardDelegate.isHybrid(env);
+
 	/* It is possible that we could end up with evacuate regions which were not compacted (inaccurate RSCL) so we need to detect that case and sweep such regions, before completing the PGC */
 	UDATA regionsSkippedByCompactorRequiringSweep = 0;
 	if (cycleState->_useSlidingCompactor) {
@@ -1443,6 +1455,10 @@ MM_IncrementalGenerationalGC::postProcessPGCUsingCopyForward(MM_EnvironmentVLHGC
 	_reclaimDelegate.estimateReclaimableRegions(env, _schedulingDelegate.getAverageEmptinessOfCopyForwardedRegions(), &reclaimableRegions, &defragmentReclaimableRegions);
 	_schedulingDelegate.partialGarbageCollectCompleted(env, reclaimableRegions, defragmentReclaimableRegions);
 
+	if (NULL != _extensions->stringDeduplication) {
+		_extensions->stringDeduplication->collectionCompleted(env, !objectsMovedAfterCopyForward);
+	}
+
 	if (_extensions->tarokUseProjectedSurvivalCollectionSet) {
 		_projectedSurvivalCollectionSetDelegate.deleteRegionCollectionSetForPartialGC(env);
 	} else {
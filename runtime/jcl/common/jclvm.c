@@ -313,6 +313,91 @@ printHeapStatistics(JNIEnv *env,J9HeapStatisticsTableEntry **statsArray,
 	return (result > 0) ? (bufferCursor - stringBuffer) : 0;
 }
 
+/**
+ * Return whether JFR is currently recording.
+ */
+jboolean JNICALL
+Java_openj9_internal_tools_attach_target_DiagnosticUtils_isJFRRecordingImpl(JNIEnv *env, jclass unused)
+{
+	jboolean result = JNI_FALSE;
+#if defined(J9VM_OPT_JFR)
+	J9JavaVM *vm = ((J9VMThread *) env)->javaVM;
+
+	if (J9_ARE_ANY_BITS_SET(vm->extendedRuntimeFlags2, J9_EXTENDED_RUNTIME2_JFR_ENABLED)) {
+		result = JNI_TRUE;
+	}
+#endif /* defined(J9VM_OPT_JFR) */
+	return result;
+}
+
+/**
+ * Start JFR recording.
+ * Return JNI_TRUE if recording was started, JNI_FALSE if JFR is not supported,
+ * already recording or could not be initialized.
+ */
+jboolean JNICALL
+Java_openj9_internal_tools_attach_target_DiagnosticUtils_startJFRImpl(JNIEnv *env, jclass unused)
+{
+	jboolean result = JNI_FALSE;
+#if defined(J9VM_OPT_JFR)
+	J9VMThread *vmThread = (J9VMThread *) env;
+	J9InternalVMFunctions *vmFuncs = vmThread->javaVM->internalVMFunctions;
+
+	vmFuncs->internalEnterVMFromJNI(vmThread);
+	if (vmFuncs->startJFR(vmThread)) {
+		result = JNI_TRUE;
+	}
+	vmFuncs->internalExitVMToJNI(vmThread);
+#endif /* defined(J9VM_OPT_JFR) */
+	return result;
+}
+
+/**
+ * Write out the recorded data and stop JFR recording.
+ * Return JNI_TRUE if recording was stopped, JNI_FALSE if JFR was not recording.
+ */
+jboolean JNICALL
+Java_openj9_internal_tools_attach_target_DiagnosticUtils_stopJFRImpl(JNIEnv *env, jclass unused)
+{
+	jboolean result = JNI_FALSE;
+#if defined(J9VM_OPT_JFR)
+	J9VMThread *vmThread = (J9VMThread *) env;
+	J9InternalVMFunctions *vmFuncs = vmThread->javaVM->internalVMFunctions;
+
+	vmFuncs->internalEnterVMFromJNI(vmThread);
+	if (vmFuncs->stopJFR(vmThread)) {
+		result = JNI_TRUE;
+	}
+	vmFuncs->internalExitVMToJNI(vmThread);
+#endif /* defined(J9VM_OPT_JFR) */
+	return result;
+}
+
+/**
+ * Write the data recorded so far to a file without stopping the recording.
+ * Return JNI_TRUE on success, JNI_FALSE if JFR is not recording or the file could not be written.
+ */
+jboolean JNICALL
+Java_openj9_internal_tools_attach_target_DiagnosticUtils_dumpJFRImpl(JNIEnv *env, jclass unused, jstring fileName)
+{
+	jboolean result = JNI_FALSE;
+#if defined(J9VM_OPT_JFR)
+	J9VMThread *vmThread = (J9VMThread *) env;
+	J9InternalVMFunctions *vmFuncs = vmThread->javaVM->internalVMFunctions;
+	const char *fileNameUTF = (*env)->GetStringUTFChars(env, fileName, NULL);
+
+	if (NULL != fileNameUTF) {
+		vmFuncs->internalEnterVMFromJNI(vmThread);
+		if (vmFuncs->dumpJFR(vmThread, fileNameUTF)) {
+			result = JNI_TRUE;
+		}
+		vmFuncs->internalExitVMToJNI(vmThread);
+		(*env)->ReleaseStringUTFChars(env, fileName, fileNameUTF);
+	}
+#endif /* defined(J9VM_OPT_JFR) */
+	return result;
+}
+
 /* The string that keeps its original bytes is string1.
  * String2 has its bytes set to be string1-> bytes if the offsets already match and the bytes are not already set to the same value
  * The bytes being set already could happen frequently as this primitive will be used repeatedly to remerge strings in the runtime
@@ -23,6 +23,7 @@
 #include "jni.h"
 #include "j9.h"
 #include "jcl_internal.h"
+#include "mgmtinit.h"
 
 jlong JNICALL
 Java_com_ibm_java_lang_management_internal_CompilationMXBeanImpl_getTotalCompilationTimeImpl(JNIEnv *env, jobject beanInstance)
@@ -63,3 +64,138 @@ Java_com_ibm_java_lang_management_internal_CompilationMXBeanImpl_isJITEnabled(JN
 
 	return JNI_FALSE;
 }
+
+jlongArray JNICALL
+Java_com_ibm_lang_management_internal_ExtendedCompilationMXBeanImpl_getCompilationStatisticsImpl(JNIEnv *env, jobject beanInstance)
+{
+	jlongArray result = NULL;
+#if defined(J9VM_INTERP_NATIVE_SUPPORT)
+	J9JavaVM *javaVM = ((J9VMThread *) env)->javaVM;
+	J9JITConfig *jitConfig = javaVM->jitConfig;
+
+	if ((NULL != jitConfig) && (NULL != jitConfig->jitGetCompilationStatistics)) {
+		J9JITCompilationStatistics statistics;
+		jlong values[1 + J9JIT_COMPILATION_STATISTICS_WAIT_BUCKETS + (2 * J9JIT_COMPILATION_STATISTICS_LEVELS) + 3];
+		jsize count = 0;
+		UDATA i = 0;
+
+		memset(&statistics, 0, sizeof(statistics));
+		jitConfig->jitGetCompilationStatistics(jitConfig, &statistics);
+
+		/* the layout must match the offsets in ExtendedCompilationMXBeanImpl */
+		values[count++] = (jlong)statistics.queueSize;
+		for (i = 0; i < J9JIT_COMPILATION_STATISTICS_WAIT_BUCKETS; ++i) {
+			values[count++] = (jlong)statistics.queueWaitHistogram[i];
+		}
+		for (i = 0; i < J9JIT_COMPILATION_STATISTICS_LEVELS; ++i) {
+			values[count++] = (jlong)statistics.compilations[i];
+		}
+		for (i = 0; i < J9JIT_COMPILATION_STATISTICS_LEVELS; ++i) {
+			values[count++] = (jlong)statistics.failures[i];
+		}
+		values[count++] = (jlong)statistics.aotLoads;
+		values[count++] = (jlong)statistics.aotStores;
+		values[count++] = (jlong)statistics.recompilations;
+
+		result = (*env)->NewLongArray(env, count);
+		if (NULL != result) {
+			(*env)->SetLongArrayRegion(env, result, 0, count, values);
+		}
+	}
+#endif /* defined(J9VM_INTERP_NATIVE_SUPPORT) */
+	return result;
+}
+
+#if defined(J9VM_INTERP_NATIVE_SUPPORT)
+/**
+ * Report the size and used bytes of each segment of a JIT cache as consecutive
+ * pairs in a long[]. Segments added after the array is sized are not reported.
+ *
+ * @param[in] env the JNI environment
+ * @param[in] segList the code cache or data cache segment list
+ * @param[in] isCodeCache true if segList is the code cache list
+ * @return the usage array, or NULL if an exception is pending
+ */
+static jlongArray
+getCacheSegmentUsage(JNIEnv *env, J9MemorySegmentList *segList, BOOLEAN isCodeCache)
+{
+	J9JavaVM *javaVM = ((J9VMThread *) env)->javaVM;
+	jlongArray result = NULL;
+	jlong *values = NULL;
+	jsize capacity = 0;
+	jsize count = 0;
+	PORT_ACCESS_FROM_JAVAVM(javaVM);
+
+	omrthread_monitor_enter(segList->segmentMutex);
+	MEMORY_SEGMENT_LIST_DO(segList, seg)
+		capacity += 2;
+	END_MEMORY_SEGMENT_LIST_DO(seg)
+	omrthread_monitor_exit(segList->segmentMutex);
+
+	if (0 != capacity) {
+		values = (jlong *)j9mem_allocate_memory(capacity * sizeof(jlong), J9MEM_CATEGORY_VM_JCL);
+		if (NULL == values) {
+			javaVM->internalVMFunctions->throwNativeOOMError(env, 0, 0);
+			return NULL;
+		}
+
+		omrthread_monitor_enter(segList->segmentMutex);
+		MEMORY_SEGMENT_LIST_DO(segList, seg)
+		{
+			UDATA used = seg->heapAlloc - seg->heapBase;
+
+			if (count == capacity) {
+				break;
+			}
+			if (isCodeCache) {
+				/* see the code cache usage calculation in mgmtmemory.c */
+				UDATA warmAlloc = (UDATA)seg->heapBase;
+				UDATA coldAlloc = (UDATA)seg->heapTop;
+				UDATA *mccCodeCache = *((UDATA**)seg->heapBase);
+				if (NULL != mccCodeCache) {
+					warmAlloc = (UDATA)javaVM->jitConfig->codeCacheWarmAlloc(mccCodeCache);
+					coldAlloc = (UDATA)javaVM->jitConfig->codeCacheColdAlloc(mccCodeCache);
+				}
+				used = seg->size - (coldAlloc - warmAlloc);
+			}
+			values[count++] = (jlong)seg->size;
+			values[count++] = (jlong)used;
+		}
+		END_MEMORY_SEGMENT_LIST_DO(seg)
+		omrthread_monitor_exit(segList->segmentMutex);
+	}
+
+	result = (*env)->NewLongArray(env, count);
+	if ((NULL != result) && (0 != count)) {
+		(*env)->SetLongArrayRegion(env, result, 0, count, values);
+	}
+	j9mem_free_memory(values);
+	return result;
+}
+#endif /* defined(J9VM_INTERP_NATIVE_SUPPORT) */
+
+jlongArray JNICALL
+Java_com_ibm_lang_management_internal_ExtendedCompilationMXBeanImpl_getCodeCacheUsageImpl(JNIEnv *env, jobject beanInstance)
+{
+#if defined(J9VM_INTERP_NATIVE_SUPPORT)
+	J9JITConfig *jitConfig = ((J9VMThread *) env)->javaVM->jitConfig;
+
+	if (NULL != jitConfig) {
+		return getCacheSegmentUsage(env, jitConfig->codeCacheList, TRUE);
+	}
+#endif /* defined(J9VM_INTERP_NATIVE_SUPPORT) */
+	return (*env)->NewLongArray(env, 0);
+}
+
+jlongArray JNICALL
+Java_com_ibm_lang_management_internal_ExtendedCompilationMXBeanImpl_getDataCacheUsageImpl(JNIEnv *env, jobject beanInstance)
+{
+#if defined(J9VM_INTERP_NATIVE_SUPPORT)
+	J9JITConfig *jitConfig = ((J9VMThread *) env)->javaVM->jitConfig;
+
+	if (NULL != jitConfig) {
+		return getCacheSegmentUsage(env, jitConfig->dataCacheList, FALSE);
+	}
+#endif /* defined(J9VM_INTERP_NATIVE_SUPPORT) */
+	return (*env)->NewLongArray(env, 0);
+}
@@ -39,8 +39,21 @@ typedef enum {
 
 #define GC_FIELD_TOTAL_GC_TIME
 
+/* Totals over the collections that ended within a sliding window */
+typedef struct GarbageCollectorWindowStatistics {
+	U_64 span;
+	U_64 allocated;
+	U_64 pauseTime;
+	U_64 promoted;
+	U_64 collections;
+} GarbageCollectorWindowStatistics;
+
 static UDATA getIndexFromCollectorID(J9JavaLangManagementData *mgmt, UDATA id);
 static jlong getCollectorField(JNIEnv *env, jint id, GarbageCollectorField field);
+static U_64 getPauseHistogramUpperBound(UDATA index);
+static U_64 getKilobytesPerSecond(U_64 bytes, U_64 nanos);
+static U_64 getPausePercentile(J9GarbageCollectorData *gc, double percentile);
+static void getWindowStatistics(J9JavaVM *javaVM, J9JavaLangManagementData *mgmt, UDATA collectorIndex, U_64 windowMillis, GarbageCollectorWindowStatistics *statistics);
 
 jlong JNICALL
 Java_com_ibm_java_lang_management_internal_GarbageCollectorMXBeanImpl_getCollectionCountImpl(JNIEnv *env, jobject beanInstance, jint id)
@@ -306,3 +319,267 @@ getCollectorField(JNIEnv *env, jint id, GarbageCollectorField field)
 
 	return result;
 }
+
+jlongArray JNICALL
+Java_com_ibm_lang_management_internal_ExtendedGarbageCollectorMXBeanImpl_getPauseTimeHistogramImpl(JNIEnv *env, jobject beanInstance, jint id)
+{
+	J9JavaVM *javaVM = ((J9VMThread *) env)->javaVM;
+	J9JavaLangManagementData *mgmt = javaVM->managementData;
+	J9GarbageCollectorData *gc = &mgmt->garbageCollectors[getIndexFromCollectorID(mgmt, (UDATA) id)];
+	jlong counts[J9VM_GC_PAUSE_HISTOGRAM_BUCKETS];
+	jlongArray result = NULL;
+	UDATA idx = 0;
+
+	omrthread_rwmutex_enter_read(mgmt->managementDataLock);
+	for (idx = 0; idx < J9VM_GC_PAUSE_HISTOGRAM_BUCKETS; ++idx) {
+		counts[idx] = (jlong) gc->pauseHistogram[idx];
+	}
+	omrthread_rwmutex_exit_read(mgmt->managementDataLock);
+
+	result = (*env)->NewLongArray(env, J9VM_GC_PAUSE_HISTOGRAM_BUCKETS);
+	if (NULL != result) {
+		(*env)->SetLongArrayRegion(env, result, 0, J9VM_GC_PAUSE_HISTOGRAM_BUCKETS, counts);
+	}
+	return result;
+}
+
+jlong JNICALL
+Java_com_ibm_lang_management_internal_ExtendedGarbageCollectorMXBeanImpl_getPauseTimePercentileImpl(JNIEnv *env, jobject beanInstance, jint id, jdouble percentile)
+{
+	J9JavaVM *javaVM = ((J9VMThread *) env)->javaVM;
+	J9JavaLangManagementData *mgmt = javaVM->managementData;
+	J9GarbageCollectorData *gc = &mgmt->garbageCollectors[getIndexFromCollectorID(mgmt, (UDATA) id)];
+	jlong result = 0;
+
+	omrthread_rwmutex_enter_read(mgmt->managementDataLock);
+	result = (jlong) getPausePercentile(gc, (double) percentile);
+	omrthread_rwmutex_exit_read(mgmt->managementDataLock);
+
+	return result;
+}
+
+jlongArray JNICALL
+Java_com_ibm_lang_management_internal_ExtendedGarbageCollectorMXBeanImpl_getWindowStatisticsImpl(JNIEnv *env, jobject beanInstance, jint id, jlong windowMillis)
+{
+	J9JavaVM *javaVM = ((J9VMThread *) env)->javaVM;
+	J9JavaLangManagementData *mgmt = javaVM->managementData;
+	GarbageCollectorWindowStatistics statistics;
+	jlong values[5];
+	jlongArray result = NULL;
+
+	omrthread_rwmutex_enter_read(mgmt->managementDataLock);
+	getWindowStatistics(javaVM, mgmt, getIndexFromCollectorID(mgmt, (UDATA) id), (U_64) windowMillis, &statistics);
+	omrthread_rwmutex_exit_read(mgmt->managementDataLock);
+
+	/* the layout must match the offsets in ExtendedGarbageCollectorMXBeanImpl */
+	values[0] = (jlong) statistics.span;
+	values[1] = (jlong) statistics.allocated;
+	values[2] = (jlong) statistics.pauseTime;
+	values[3] = (jlong) statistics.promoted;
+	values[4] = (jlong) statistics.collections;
+
+	result = (*env)->NewLongArray(env, 5);
+	if (NULL != result) {
+		(*env)->SetLongArrayRegion(env, result, 0, 5, values);
+	}
+	return result;
+}
+
+/**
+ * Return a String summarizing the pause time percentiles of each collector and the
+ * allocation rate, promotion rate and time spent in collections over a sliding window.
+ * This string inserts Unix-style line separators. The caller is responsible for translating them if necessary.
+ */
+jstring JNICALL
+Java_openj9_internal_tools_attach_target_DiagnosticUtils_getGCStatisticsImpl(JNIEnv *env, jclass unused, jlong windowMillis)
+{
+	J9JavaVM *javaVM = ((J9VMThread *) env)->javaVM;
+	J9JavaLangManagementData *mgmt = javaVM->managementData;
+	UDATA bufferSize = 512 * ((UDATA) mgmt->supportedCollectors + 1);
+	UDATA used = 0;
+	UDATA idx = 0;
+	U_64 allocated = 0;
+	U_64 span = 0;
+	char *buffer = NULL;
+	jstring result = NULL;
+	PORT_ACCESS_FROM_JAVAVM(javaVM);
+
+	buffer = j9mem_allocate_memory(bufferSize, J9MEM_CATEGORY_VM_JCL);
+	if (NULL == buffer) {
+		javaVM->internalVMFunctions->throwNativeOOMError(env, 0, 0);
+		return NULL;
+	}
+
+	omrthread_rwmutex_enter_read(mgmt->managementDataLock);
+	for (idx = 0; idx < mgmt->supportedCollectors; ++idx) {
+		J9GarbageCollectorData *gc = &mgmt->garbageCollectors[idx];
+		GarbageCollectorWindowStatistics statistics;
+		U_64 spanMillis = 0;
+		U_64 gcTimeBasisPoints = 0;
+		U_64 promotionRate = 0;
+
+		getWindowStatistics(javaVM, mgmt, idx, (U_64) windowMillis, &statistics);
+		spanMillis = statistics.span / J9PORT_TIME_NS_PER_MS;
+		if (0 != statistics.span) {
+			gcTimeBasisPoints = (statistics.pauseTime * 10000) / statistics.span;
+			promotionRate = getKilobytesPerSecond(statistics.promoted, statistics.span);
+		}
+		/* every collector sees the same heap wide allocation */
+		allocated = statistics.allocated;
+		span = statistics.span;
+
+		used += j9str_printf(buffer + used, bufferSize - used,
+				"%s: collections=%llu time=%llums\n"
+				"  pause (us): p50=%llu p90=%llu p99=%llu p99.9=%llu max=%llu\n"
+				"  last %llums: collections=%llu gc time=%llu.%02llu%% promotion rate=%llu KB/s\n",
+				gc->name, gc->lastGcInfo.index, gc->totalGCTime,
+				getPausePercentile(gc, 50.0), getPausePercentile(gc, 90.0), getPausePercentile(gc, 99.0),
+				getPausePercentile(gc, 99.9), getPausePercentile(gc, 100.0),
+				spanMillis, statistics.collections, gcTimeBasisPoints / 100, gcTimeBasisPoints % 100, promotionRate);
+	}
+	omrthread_rwmutex_exit_read(mgmt->managementDataLock);
+
+	j9str_printf(buffer + used, bufferSize - used,
+			"allocation rate over last %llums: %llu KB/s\n",
+			span / J9PORT_TIME_NS_PER_MS, getKilobytesPerSecond(allocated, span));
+
+	result = (*env)->NewStringUTF(env, buffer);
+	j9mem_free_memory(buffer);
+	return result;
+}
+
+static U_64
+getKilobytesPerSecond(U_64 bytes, U_64 nanos)
+{
+	U_64 rate = 0;
+
+	if (0 != nanos) {
+		rate = (U_64) (((double) bytes * 1000000000.0) / ((double) nanos * 1024.0));
+	}
+	return rate;
+}
+
+/**
+ * The inverse of getPauseHistogramIndex() in mgmtinit.c.
+ *
+ * @param[in] index the histogram bucket
+ * @return the exclusive upper bound of the bucket in microseconds
+ */
+static U_64
+getPauseHistogramUpperBound(UDATA index)
+{
+	U_64 bound = (U_64) index + 1;
+
+	if (index >= 4) {
+		UDATA msb = (index / 4) + 1;
+
+		bound = ((U_64) 5 + (index % 4)) << (msb - 2);
+	}
+	return bound;
+}
+
+/**
+ * Estimate a pause time percentile from the histogram of a collector. The
+ * caller must hold the managementDataLock.
+ *
+ * @param[in] gc the collector
+ * @param[in] percentile the percentile, from 0 to 100
+ * @return the upper bound in microseconds of the bucket holding the percentile,
+ * or 0 if the collector has not run
+ */
+static U_64
+getPausePercentile(J9GarbageCollectorData *gc, double percentile)
+{
+	U_64 total = 0;
+	U_64 rank = 0;
+	U_64 seen = 0;
+	UDATA idx = 0;
+
+	for (idx = 0; idx < J9VM_GC_PAUSE_HISTOGRAM_BUCKETS; ++idx) {
+		total += gc->pauseHistogram[idx];
+	}
+	if (0 == total) {
+		return 0;
+	}
+
+	rank = (U_64) ((percentile * (double) total) / 100.0);
+	if (((double) rank * 100.0) < (percentile * (double) total)) {
+		rank += 1;
+	}
+	if (0 == rank) {
+		rank = 1;
+	}
+	for (idx = 0; idx < J9VM_GC_PAUSE_HISTOGRAM_BUCKETS; ++idx) {
+		seen += gc->pauseHistogram[idx];
+		if (seen >= rank) {
+			break;
+		}
+	}
+	if (idx == J9VM_GC_PAUSE_HISTOGRAM_BUCKETS) {
+		idx -= 1;
+	}
+	return getPauseHistogramUpperBound(idx);
+}
+
+/**
+ * Total the samples of the collections that ended within the last windowMillis. The window is
+ * shortened to the JVM uptime, and to the end of the oldest retained sample once the ring of
+ * samples has wrapped. Allocation is totalled over all collectors, everything else over the
+ * given collector only. The caller must hold the managementDataLock.
+ *
+ * @param[in] javaVM the J9JavaVM
+ * @param[in] mgmt the management data
+ * @param[in] collectorIndex the index of the collector in mgmt->garbageCollectors
+ * @param[in] windowMillis the length of the window in milliseconds
+ * @param[out] statistics the totals and the length of the window actually covered in nanoseconds
+ */
+static void
+getWindowStatistics(J9JavaVM *javaVM, J9JavaLangManagementData *mgmt, UDATA collectorIndex, U_64 windowMillis, GarbageCollectorWindowStatistics *statistics)
+{
+	UDATA count = mgmt->gcSampleCount;
+	UDATA first = 0;
+	UDATA idx = 0;
+	U_64 now = 0;
+	U_64 uptimeMillis = 0;
+	U_64 start = 0;
+	I_64 currentTime = 0;
+	PORT_ACCESS_FROM_JAVAVM(javaVM);
+
+	memset(statistics, 0, sizeof(*statistics));
+
+	currentTime = j9time_current_time_millis();
+	if (currentTime > mgmt->vmStartTime) {
+		uptimeMillis = (U_64) (currentTime - mgmt->vmStartTime);
+	}
+	if (windowMillis > uptimeMillis) {
+		windowMillis = uptimeMillis;
+	}
+	now = j9time_nano_time();
+	start = now - (windowMillis * J9PORT_TIME_NS_PER_MS);
+
+	if (count > J9VM_GC_STATISTICS_WINDOW_SAMPLES) {
+		J9GarbageCollectionSample *oldest = NULL;
+
+		first = count - J9VM_GC_STATISTICS_WINDOW_SAMPLES;
+		oldest = &mgmt->gcSamples[first % J9VM_GC_STATISTICS_WINDOW_SAMPLES];
+		if (oldest->endNanoTime > start) {
+			/* collections before the oldest sample have been overwritten */
+			start = oldest->endNanoTime;
+			first += 1;
+		}
+	}
+
+	for (idx = first; idx < count; ++idx) {
+		J9GarbageCollectionSample *sample = &mgmt->gcSamples[idx % J9VM_GC_STATISTICS_WINDOW_SAMPLES];
+
+		if (sample->endNanoTime > start) {
+			statistics->allocated += sample->allocated;
+			if (sample->collectorIndex == collectorIndex) {
+				statistics->pauseTime += sample->pauseTime;
+				statistics->promoted += sample->promoted;
+				statistics->collections += 1;
+			}
+		}
+	}
+	statistics->span = now - start;
+}
@@ -67,6 +67,8 @@ static U_32 getNumberSupported(U_32 supportedIDs);
 static UDATA getArrayIndexFromManagerID(J9JavaLangManagementData *mgmt, UDATA id);
 static void getSegmentSizes(J9JavaVM *javaVM, J9MemorySegmentList *segList, U_64 *storedSize, U_64 *storedUsed, U_64 *storedPeakSize, U_64 *storedPeakUsed, BOOLEAN isCodeCacheSegment);
 static void updateNonHeapMemoryPoolSizes(J9JavaVM *vm, J9JavaLangManagementData *mgmt, BOOLEAN isGCEnd);
+static UDATA getPauseHistogramIndex(U_64 pauseMicros);
+static void recordCollectionSample(J9JavaVM *vm, J9JavaLangManagementData *mgmt, J9GarbageCollectorData *gcData, U_64 allocated);
 
 /* initialize java.lang.management data structures and hooks */
 jint
@@ -494,6 +496,7 @@ gcStartEvent(J9JavaVM *vm, UDATA heapSize, UDATA heapUsed, UDATA *totals, UDATA
 	/* check the wall clock */
 	/* the start time in milliseconds since the Java virtual machine was started */
 	gcInfo = &gcData->lastGcInfo;
+	gcData->lastStartNanoTime = j9time_nano_time();
 	gcInfo->startTime = j9time_current_time_millis();
 	if (gcInfo->startTime < (U_64)mgmt->vmStartTime) {
 		/* startTime is earlier than vmStartTime in case of wall clock correction while interval is measuring */
@@ -602,6 +605,81 @@ gcStartEvent(J9JavaVM *vm, UDATA heapSize, UDATA heapUsed, UDATA *totals, UDATA
 	updateNonHeapMemoryPoolSizes(vm, mgmt, FALSE);
 }
 
+/**
+ * Map a pause time to its histogram bucket. Pauses under 4us get a bucket each; every
+ * following power of two is split into 4 equal buckets, so a bucket is at most 25% wide.
+ * The bucket bounds are computed from the index in mgmtgc.c.
+ *
+ * @param[in] pauseMicros the pause time in microseconds
+ * @return the bucket index
+ */
+static UDATA
+getPauseHistogramIndex(U_64 pauseMicros)
+{
+	UDATA index = (UDATA)pauseMicros;
+
+	if (pauseMicros >= 4) {
+		UDATA msb = 0;
+		U_64 value = pauseMicros;
+
+		while (value > 1) {
+			value >>= 1;
+			msb += 1;
+		}
+		index = (4 * (msb - 1)) + (UDATA)((pauseMicros >> (msb - 2)) & 3);
+	}
+	if (index >= J9VM_GC_PAUSE_HISTOGRAM_BUCKETS) {
+		index = J9VM_GC_PAUSE_HISTOGRAM_BUCKETS - 1;
+	}
+	return index;
+}
+
+/**
+ * Record the pause of the collection that just ended in the collector's histogram and
+ * append a sample to the ring used for the sliding window statistics. Both are fixed size
+ * and the caller holds the managementDataLock for write.
+ *
+ * @param[in] vm the J9JavaVM
+ * @param[in] mgmt the management data
+ * @param[in] gcData the collector that just completed a collection
+ * @param[in] allocated the heap usage grown since the previous collection
+ */
+static void
+recordCollectionSample(J9JavaVM *vm, J9JavaLangManagementData *mgmt, J9GarbageCollectorData *gcData, U_64 allocated)
+{
+	J9MemoryManagerFunctions *mmFuncs = vm->memoryManagerFunctions;
+	J9GarbageCollectionInfo *gcInfo = &gcData->lastGcInfo;
+	J9GarbageCollectionSample *sample = &mgmt->gcSamples[mgmt->gcSampleCount % J9VM_GC_STATISTICS_WINDOW_SAMPLES];
+	U_64 now = 0;
+	U_64 promoted = 0;
+	UDATA idx = 0;
+	PORT_ACCESS_FROM_JAVAVM(vm);
+
+	now = j9time_nano_time();
+	sample->pauseTime = 0;
+	if (now > gcData->lastStartNanoTime) {
+		sample->pauseTime = now - gcData->lastStartNanoTime;
+	}
+	gcData->pauseHistogram[getPauseHistogramIndex(sample->pauseTime / 1000)] += 1;
+
+	/* objects surviving a local collection are copied into the pools it does not manage */
+	if (0 != (gcData->id & J9VM_MANAGEMENT_GC_LOCAL)) {
+		for (idx = 0; idx < mgmt->supportedMemoryPools; ++idx) {
+			if ((0 == mmFuncs->j9gc_is_managedpool_by_collector(vm, (UDATA)(gcData->id & J9VM_MANAGEMENT_GC_HEAP_ID_MASK), (UDATA)(mgmt->memoryPools[idx].id & J9VM_MANAGEMENT_POOL_HEAP_ID_MASK)))
+				&& (gcInfo->postUsed[idx] > gcInfo->preUsed[idx])
+			) {
+				promoted += gcInfo->postUsed[idx] - gcInfo->preUsed[idx];
+			}
+		}
+	}
+
+	sample->endNanoTime = now;
+	sample->allocated = allocated;
+	sample->promoted = promoted;
+	sample->collectorIndex = (UDATA)(gcData - mgmt->garbageCollectors);
+	mgmt->gcSampleCount += 1;
+}
+
 static void
 verifyMemoryUsageAfterGC(
 		const char *gcName,
@@ -670,12 +748,17 @@ gcEndEvent(J9JavaVM *vm, UDATA heapSize, UDATA heapUsed, UDATA *totals, UDATA *f
 	UDATA supportedMemoryPools = mgmt->supportedMemoryPools;
 	UDATA supportedNonHeapMemoryPools = mgmt->supportedNonHeapMemoryPools;
 	J9GarbageCollectionInfo* gcInfo = NULL;
+	U_64 allocated = 0;
 
 	PORT_ACCESS_FROM_JAVAVM(vm);
 
 	/* lock the management struct */
 	omrthread_rwmutex_enter_write(mgmt->managementDataLock);
 
+	/* heap usage grown since the end of the previous collection */
+	if (mgmt->preCollectionHeapUsed > mgmt->postCollectionHeapUsed) {
+		allocated = mgmt->preCollectionHeapUsed - mgmt->postCollectionHeapUsed;
+	}
 	mgmt->lastGCID = (U_32)collectorID;
 	mgmt->postCollectionHeapSize = heapSize;
 	mgmt->postCollectionHeapUsed = heapUsed;
@@ -791,6 +874,9 @@ gcEndEvent(J9JavaVM *vm, UDATA heapSize, UDATA heapUsed, UDATA *totals, UDATA *f
 	}
 	
 	gcData->totalMemoryFreed += (I_64)(mgmt->preCollectionHeapUsed - mgmt->postCollectionHeapUsed);
+
+	/* update the pause histogram and the sliding window samples */
+	recordCollectionSample(vm, mgmt, gcData, allocated);
 	
 	/* update the GC CPU usage */
 	mmFuncs->j9gc_get_CPU_times(vm, &mgmt->gcMainCpuTime, &mgmt->gcWorkerCpuTime, &mgmt->gcMaxThreads, &mgmt->gcCurrentThreads);
@@ -48,6 +48,8 @@
 
 #include "vmaccess.h"
 #include "jclglob.h"
+#include "ibmjvmti.h"
+#include "util_api.h"
 
 #include "rommeth.h"
 #include "stackwalk.h"
@@ -2543,6 +2545,144 @@ Java_com_ibm_lang_management_internal_JvmCpuMonitor_getThreadCategoryImpl(JNIEnv
 	return THREAD_CATEGORY_INVALID;
 }
 
+/**
+ * Returns whether this VM was built with Java Lock Monitor support.
+ *
+ * @param env			The JNI env.
+ * @param beanInstance	beanInstance.
+ * @return				JNI_TRUE if JLM is available, JNI_FALSE otherwise.
+ */
+jboolean JNICALL
+Java_com_ibm_lang_management_internal_LockContentionMXBeanImpl_isSupportedImpl(JNIEnv *env, jobject beanInstance)
+{
+#if defined(OMR_THR_JLM)
+	return JNI_TRUE;
+#else /* defined(OMR_THR_JLM) */
+	return JNI_FALSE;
+#endif /* defined(OMR_THR_JLM) */
+}
+
+/**
+ * Returns whether the Java Lock Monitor is currently collecting statistics.
+ *
+ * @param env			The JNI env.
+ * @param beanInstance	beanInstance.
+ * @return				JNI_TRUE if JLM is enabled, JNI_FALSE otherwise.
+ */
+jboolean JNICALL
+Java_com_ibm_lang_management_internal_LockContentionMXBeanImpl_isEnabledImpl(JNIEnv *env, jobject beanInstance)
+{
+#if defined(OMR_THR_JLM)
+	if (J9_ARE_ANY_BITS_SET(omrthread_lib_get_flags(), J9THREAD_LIB_FLAG_JLM_ENABLED)) {
+		return JNI_TRUE;
+	}
+#endif /* defined(OMR_THR_JLM) */
+	return JNI_FALSE;
+}
+
+/**
+ * Starts the Java Lock Monitor, including hold times where they are supported.
+ * Mirrors the JVMTI JlmSet extension with COM_IBM_JLM_START_TIME_STAMP.
+ *
+ * @param env			The JNI env.
+ * @param beanInstance	beanInstance.
+ * @return				JNI_TRUE on success, JNI_FALSE if JLM is not available.
+ */
+jboolean JNICALL
+Java_com_ibm_lang_management_internal_LockContentionMXBeanImpl_startImpl(JNIEnv *env, jobject beanInstance)
+{
+	jint rc = JLM_NOT_AVAILABLE;
+#if defined(OMR_THR_JLM)
+	J9VMThread *currentThread = (J9VMThread *)env;
+	J9InternalVMFunctions *vmfns = currentThread->javaVM->internalVMFunctions;
+
+	vmfns->internalEnterVMFromJNI(currentThread);
+	vmfns->acquireExclusiveVMAccess(currentThread);
+#if defined(OMR_THR_JLM_HOLD_TIMES)
+	rc = JlmStartTimeStamps();
+#else /* defined(OMR_THR_JLM_HOLD_TIMES) */
+	rc = JlmStart(currentThread);
+#endif /* defined(OMR_THR_JLM_HOLD_TIMES) */
+	vmfns->releaseExclusiveVMAccess(currentThread);
+	vmfns->internalExitVMToJNI(currentThread);
+#endif /* defined(OMR_THR_JLM) */
+	return (JLM_SUCCESS == rc) ? JNI_TRUE : JNI_FALSE;
+}
+
+/**
+ * Stops the Java Lock Monitor. The statistics collected so far remain readable.
+ *
+ * @param env			The JNI env.
+ * @param beanInstance	beanInstance.
+ */
+void JNICALL
+Java_com_ibm_lang_management_internal_LockContentionMXBeanImpl_stopImpl(JNIEnv *env, jobject beanInstance)
+{
+#if defined(OMR_THR_JLM)
+	J9VMThread *currentThread = (J9VMThread *)env;
+	J9InternalVMFunctions *vmfns = currentThread->javaVM->internalVMFunctions;
+
+	vmfns->internalEnterVMFromJNI(currentThread);
+	vmfns->acquireExclusiveVMAccess(currentThread);
+	JlmStop();
+	vmfns->releaseExclusiveVMAccess(currentThread);
+	vmfns->internalExitVMToJNI(currentThread);
+#endif /* defined(OMR_THR_JLM) */
+}
+
+/**
+ * Returns the Java Lock Monitor statistics in the COM_IBM_JLM_DUMP_FORMAT_TAGS layout
+ * documented in ibmjvmti.h. Object tags are always 0.
+ *
+ * @param env			The JNI env.
+ * @param beanInstance	beanInstance.
+ * @return				The dump, or NULL if JLM has never been enabled or an exception is pending.
+ */
+jbyteArray JNICALL
+Java_com_ibm_lang_management_internal_LockContentionMXBeanImpl_dumpImpl(JNIEnv *env, jobject beanInstance)
+{
+	jbyteArray result = NULL;
+#if defined(OMR_THR_JLM)
+	J9VMThread *currentThread = (J9VMThread *)env;
+	J9JavaVM *javaVM = currentThread->javaVM;
+	J9InternalVMFunctions *vmfns = javaVM->internalVMFunctions;
+	J9VMJlmDump dump = { NULL, NULL };
+	UDATA dumpSize = 0;
+	BOOLEAN outOfMemory = FALSE;
+	PORT_ACCESS_FROM_JAVAVM(javaVM);
+
+	vmfns->internalEnterVMFromJNI(currentThread);
+	vmfns->acquireExclusiveVMAccess(currentThread);
+	omrthread_lib_lock(currentThread->osThread);
+	if (JLM_SUCCESS == request_MonitorJlmDumpSize(javaVM, &dumpSize, COM_IBM_JLM_DUMP_FORMAT_TAGS)) {
+		dump.begin = j9mem_allocate_memory(dumpSize, J9MEM_CATEGORY_VM_JCL);
+		if (NULL == dump.begin) {
+			outOfMemory = TRUE;
+		} else if (JLM_SUCCESS == request_VMMonitorJlmDump(javaVM, &dump, COM_IBM_JLM_DUMP_FORMAT_TAGS)) {
+			dump.end = dump.begin + dumpSize;
+		} else {
+			j9mem_free_memory(dump.begin);
+			dump.begin = NULL;
+		}
+	}
+	omrthread_lib_unlock(currentThread->osThread);
+	vmfns->releaseExclusiveVMAccess(currentThread);
+	if (outOfMemory) {
+		throwError(currentThread, J9VMCONSTANTPOOL_JAVALANGOUTOFMEMORYERROR);
+	}
+	vmfns->internalExitVMToJNI(currentThread);
+
+	if (NULL != dump.begin) {
+		result = (*env)->NewByteArray(env, (jsize)dumpSize);
+		if (NULL != result) {
+			(*env)->SetByteArrayRegion(env, result, 0, (jsize)dumpSize, (jbyte *)dump.begin);
+		}
+		j9mem_free_memory(dump.begin);
+	}
+#endif /* defined(OMR_THR_JLM) */
+	return result;
+}
+
 /**
  * @brief Helper function that finds a native thread identifier corresponding to
  * a unique thread identifier specified to it.
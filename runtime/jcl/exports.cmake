@@ -214,7 +214,13 @@ omr_add_exports(jclse
 	Java_com_ibm_jvm_Trace_traceImpl__IILjava_lang_String_2Ljava_lang_Object_2Ljava_lang_String_2
 	Java_com_ibm_jvm_Trace_traceImpl__IILjava_lang_String_2Ljava_lang_String_2
 	Java_com_ibm_jvm_Trace_traceImpl__IILjava_lang_String_2Ljava_lang_String_2Ljava_lang_String_2
+	Java_com_ibm_lang_management_internal_ExtendedCompilationMXBeanImpl_getCodeCacheUsageImpl
+	Java_com_ibm_lang_management_internal_ExtendedCompilationMXBeanImpl_getCompilationStatisticsImpl
+	Java_com_ibm_lang_management_internal_ExtendedCompilationMXBeanImpl_getDataCacheUsageImpl
 	Java_com_ibm_lang_management_internal_ExtendedGarbageCollectorMXBeanImpl_getLastGcInfoImpl
+	Java_com_ibm_lang_management_internal_ExtendedGarbageCollectorMXBeanImpl_getPauseTimeHistogramImpl
+	Java_com_ibm_lang_management_internal_ExtendedGarbageCollectorMXBeanImpl_getPauseTimePercentileImpl
+	Java_com_ibm_lang_management_internal_ExtendedGarbageCollectorMXBeanImpl_getWindowStatisticsImpl
 	Java_com_ibm_lang_management_internal_ExtendedOperatingSystemMXBeanImpl_getFreePhysicalMemorySizeImpl
 	Java_com_ibm_lang_management_internal_ExtendedOperatingSystemMXBeanImpl_getHardwareModelImpl
 	Java_com_ibm_lang_management_internal_ExtendedOperatingSystemMXBeanImpl_getMemoryUsageImpl
@@ -234,15 +240,25 @@ omr_add_exports(jclse
 	Java_com_ibm_lang_management_internal_JvmCpuMonitor_getThreadCategoryImpl
 	Java_com_ibm_lang_management_internal_JvmCpuMonitor_getThreadsCpuUsageImpl
 	Java_com_ibm_lang_management_internal_JvmCpuMonitor_setThreadCategoryImpl
+	Java_com_ibm_lang_management_internal_LockContentionMXBeanImpl_dumpImpl
+	Java_com_ibm_lang_management_internal_LockContentionMXBeanImpl_isEnabledImpl
+	Java_com_ibm_lang_management_internal_LockContentionMXBeanImpl_isSupportedImpl
+	Java_com_ibm_lang_management_internal_LockContentionMXBeanImpl_startImpl
+	Java_com_ibm_lang_management_internal_LockContentionMXBeanImpl_stopImpl
 	Java_com_ibm_lang_management_internal_MemoryNotificationThreadShutdown_sendShutdownNotification
 	Java_com_ibm_lang_management_internal_MemoryNotificationThread_processNotificationLoop
 	Java_com_ibm_lang_management_internal_OperatingSystemNotificationThreadShutdown_sendShutdownNotification
 	Java_com_ibm_lang_management_internal_OperatingSystemNotificationThread_processNotificationLoop
 	Java_com_ibm_lang_management_internal_UnixExtendedOperatingSystem_getMaxFileDescriptorCountImpl
 	Java_com_ibm_lang_management_internal_UnixExtendedOperatingSystem_getOpenFileDescriptorCountImpl
+	Java_openj9_internal_tools_attach_target_DiagnosticUtils_getGCStatisticsImpl
 	Java_openj9_internal_tools_attach_target_DiagnosticUtils_getHeapClassStatisticsImpl
 	Java_openj9_internal_tools_attach_target_DiagnosticUtils_dumpAllThreadsImpl
 	Java_openj9_internal_tools_attach_target_DiagnosticUtils_triggerDumpsImpl
+	Java_openj9_internal_tools_attach_target_DiagnosticUtils_isJFRRecordingImpl
+	Java_openj9_internal_tools_attach_target_DiagnosticUtils_startJFRImpl
+	Java_openj9_internal_tools_attach_target_DiagnosticUtils_stopJFRImpl
+	Java_openj9_internal_tools_attach_target_DiagnosticUtils_dumpJFRImpl
 	Java_openj9_management_internal_IDCacheInitializer_initIDCache
 	Java_com_ibm_oti_reflect_AnnotationParser_getAnnotationsDataImpl__Ljava_lang_Class_2
 	Java_com_ibm_oti_reflect_AnnotationParser_getAnnotationsData__Ljava_lang_reflect_Constructor_2
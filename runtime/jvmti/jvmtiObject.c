@@ -153,6 +153,18 @@ jvmtiGetObjectMonitorUsage(jvmtiEnv *env,
 			rv_owner = (jthread)vm->internalVMFunctions->j9jni_createLocalRef((JNIEnv *)currentThread, target);
 			rv_entry_count = (jint)count;
 		}
+#if (JAVA_SPEC_VERSION >= 19) && (JAVA_SPEC_VERSION < 23)
+		else if (NULL == owner) {
+			/* The monitor may be owned by an unmounted virtual thread. Virtual thread owners are
+			 * not reported in JDK23+, matching the RI.
+			 */
+			j9object_t vthread = vm->internalVMFunctions->getUnmountedObjectMonitorOwner(currentThread, *((j9object_t *)object), &count);
+			if (NULL != vthread) {
+				rv_owner = (jthread)vm->internalVMFunctions->j9jni_createLocalRef((JNIEnv *)currentThread, vthread);
+				rv_entry_count = (jint)count;
+			}
+		}
+#endif /* (JAVA_SPEC_VERSION >= 19) && (JAVA_SPEC_VERSION < 23) */
 
 		memset(&stats, 0, sizeof(J9JVMTIMonitorStats));
 
@@ -38,6 +38,9 @@ typedef struct J9JVMTIRunAgentThreadArgs {
 
 static int J9THREAD_PROC agentThreadStart(void *entryArg);
 static jint walkLocalMonitorRefs(J9VMThread* currentThread, jobject *locks, J9VMThread *targetThread, J9VMThread *walkThread, UDATA maxCount);
+#if JAVA_SPEC_VERSION >= 19
+static jvmtiError getUnmountedOwnedMonitors(J9VMThread *currentThread, J9VMContinuation *continuation, jobject **owned_monitors_ptr, jint *owned_monitor_count_ptr);
+#endif /* JAVA_SPEC_VERSION >= 19 */
 static jvmtiError resumeThread(J9VMThread *currentThread, jthread thread);
 static UDATA wrappedAgentThreadStart(J9PortLibrary *portLib, void *entryArg);
 static void ownedMonitorIterator(J9VMThread *currentThread, J9StackWalkState *walkState, j9object_t *slot, const void *stackLocation);
@@ -726,6 +729,9 @@ jvmtiGetOwnedMonitorInfo(jvmtiEnv *env,
 			J9VMContinuation *continuation = NULL;
 
 			if ((NULL == targetThread) && IS_JAVA_LANG_VIRTUALTHREAD(currentThread, threadObject)) {
+				/* The monitors owned by an unmounted virtual thread are recorded on its continuation. */
+				continuation = getJ9VMContinuationToWalk(currentThread, targetThread, threadObject);
+				rc = getUnmountedOwnedMonitors(currentThread, continuation, &rv_owned_monitors, &rv_owned_monitor_count);
 				goto release;
 			}
 #endif /* JAVA_SPEC_VERSION >= 19 */
@@ -1359,6 +1365,55 @@ walkLocalMonitorRefs(J9VMThread *currentThread, jobject *locks, J9VMThread *targ
 	return (jint)(IDATA)(UDATA)walkState.userData3;
 }
 
+#if JAVA_SPEC_VERSION >= 19
+/**
+ * Get the monitors owned by an unmounted virtual thread. They were recorded on its
+ * continuation when it unmounted, and have no owner thread until it is mounted again.
+ *
+ * @param[in] currentThread the current J9VMThread
+ * @param[in] continuation the continuation of the unmounted virtual thread, may be NULL
+ * @param[out] owned_monitors_ptr the owned monitors, allocated with J9MEM_CATEGORY_JVMTI_ALLOCATE
+ * @param[out] owned_monitor_count_ptr the number of owned monitors
+ *
+ * @return JVMTI_ERROR_NONE on success, JVMTI_ERROR_OUT_OF_MEMORY if the array cannot be allocated
+ */
+static jvmtiError
+getUnmountedOwnedMonitors(J9VMThread *currentThread, J9VMContinuation *continuation, jobject **owned_monitors_ptr, jint *owned_monitor_count_ptr)
+{
+	J9JavaVM *vm = currentThread->javaVM;
+	PORT_ACCESS_FROM_JAVAVM(vm);
+	UDATA recordCount = (NULL == continuation) ? 0 : continuation->monitorRecordCount;
+	jint count = 0;
+	jobject *locks = (jobject *)j9mem_allocate_memory(sizeof(jobject) * recordCount, J9MEM_CATEGORY_JVMTI_ALLOCATE);
+
+	if (NULL == locks) {
+		return JVMTI_ERROR_OUT_OF_MEMORY;
+	}
+
+	for (UDATA i = 0; i < recordCount; i++) {
+		/* The monitor's userData is kept up to date by the GC. */
+		j9object_t obj = (j9object_t)((J9ThreadAbstractMonitor *)continuation->monitorRecords[i].monitor)->userData;
+		bool found = false;
+
+		/* Make sure each object only appears once in the list - n^2, but we expect n to be small. */
+		for (jint j = 0; j < count; j++) {
+			if (J9_JNI_UNWRAP_REFERENCE(locks[j]) == obj) {
+				found = true;
+				break;
+			}
+		}
+		if (!found) {
+			locks[count] = (jobject)vm->internalVMFunctions->j9jni_createLocalRef((JNIEnv *)currentThread, obj);
+			count += 1;
+		}
+	}
+
+	*owned_monitors_ptr = locks;
+	*owned_monitor_count_ptr = count;
+	return JVMTI_ERROR_NONE;
+}
+#endif /* JAVA_SPEC_VERSION >= 19 */
+
 jvmtiError JNICALL
 jvmtiGetCurrentThread(jvmtiEnv *env,
 	jthread *thread_ptr)
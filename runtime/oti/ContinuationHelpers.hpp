@@ -72,6 +72,8 @@ public:
 		SWAP_MEMBER(decompilationStack, J9JITDecompilationInfo*, vmThread, continuation);
 		SWAP_MEMBER(j2iFrame, UDATA*, vmThread, continuation);
 		SWAP_MEMBER(dropFlags, UDATA, vmThread, continuation);
+		SWAP_MEMBER(ownedMonitorCount, UDATA, vmThread, continuation);
+		SWAP_MEMBER(monitorEnterRecords, J9MonitorEnterRecord*, vmThread, continuation);
 
 		J9VMEntryLocalStorage *threadELS = vmThread->entryLocalStorage;
 		/* Swap the JIT GPR registers data referenced by ELS */
@@ -929,11 +929,22 @@ extern "C" {
 #define J9JFR_EVENT_TYPE_THREAD_START 1
 #define J9JFR_EVENT_TYPE_THREAD_END 2
 #define J9JFR_EVENT_TYPE_THREAD_SLEEP 3
+#define J9JFR_EVENT_TYPE_MONITOR_ENTER 4
+#define J9JFR_EVENT_TYPE_MONITOR_WAIT 5
+#define J9JFR_EVENT_TYPE_OBJECT_ALLOCATION_SAMPLE 6
+#define J9JFR_EVENT_TYPE_GARBAGE_COLLECTION 7
+#define J9JFR_EVENT_TYPE_CLASS_LOAD 8
+#define J9JFR_EVENT_TYPE_COMPILATION 9
 
 /* JFR thread states */
 
 #define J9JFR_THREAD_STATE_RUNNING 0
 
+/* JFR garbage collection names */
+
+#define J9JFR_GC_NAME_GLOBAL 0
+#define J9JFR_GC_NAME_LOCAL 1
+
 /* Constants for JIT flattened field resolution */
 
 #define J9TR_FLAT_RESOLVE_GETFIELD 1
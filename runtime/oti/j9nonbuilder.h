@@ -356,6 +356,16 @@ typedef struct J9JFRBuffer {
 	U_8 *bufferCurrent;
 } J9JFRBuffer;
 
+/* A chunk file in the continuous recording repository, fileName follows the fixed portion */
+typedef struct J9JFRChunkFile {
+	struct J9JFRChunkFile *linkNext;
+	struct J9JFRChunkFile *linkPrevious;
+	I_64 startTime;
+	I_64 endTime;
+	U_64 fileSize;
+	char *fileName;
+} J9JFRChunkFile;
+
 /* JFR event structures */
 
 #define J9JFR_EVENT_COMMON_FIELDS \
@@ -400,6 +410,61 @@ typedef struct J9JFRThreadSleep {
 
 #define J9JFRTHREADSLEEP_STACKTRACE(jfrEvent) ((UDATA*)(((J9JFRThreadSleep*)(jfrEvent)) + 1))
 
+/* Variable-size structure - stackTraceSize worth of UDATA follow the fixed portion */
+typedef struct J9JFRMonitorEnter {
+	J9JFR_EVENT_WITH_STACKTRACE_FIELDS
+	I_64 duration;
+	struct J9Class *monitorClass;
+	UDATA monitorAddress;
+} J9JFRMonitorEnter;
+
+#define J9JFRMONITORENTER_STACKTRACE(jfrEvent) ((UDATA*)(((J9JFRMonitorEnter*)(jfrEvent)) + 1))
+
+/* Variable-size structure - stackTraceSize worth of UDATA follow the fixed portion */
+typedef struct J9JFRMonitorWait {
+	J9JFR_EVENT_WITH_STACKTRACE_FIELDS
+	I_64 duration;
+	struct J9Class *monitorClass;
+	UDATA monitorAddress;
+	I_64 timeout;
+	UDATA timedOut;
+} J9JFRMonitorWait;
+
+#define J9JFRMONITORWAIT_STACKTRACE(jfrEvent) ((UDATA*)(((J9JFRMonitorWait*)(jfrEvent)) + 1))
+
+/* Variable-size structure - stackTraceSize worth of UDATA follow the fixed portion */
+typedef struct J9JFRObjectAllocationSample {
+	J9JFR_EVENT_WITH_STACKTRACE_FIELDS
+	struct J9Class *objectClass;
+	UDATA weight;
+} J9JFRObjectAllocationSample;
+
+#define J9JFROBJECTALLOCATIONSAMPLE_STACKTRACE(jfrEvent) ((UDATA*)(((J9JFRObjectAllocationSample*)(jfrEvent)) + 1))
+
+typedef struct J9JFRGarbageCollection {
+	J9JFR_EVENT_COMMON_FIELDS
+	I_64 duration;
+	UDATA gcID;
+	UDATA gcName;
+} J9JFRGarbageCollection;
+
+/* Variable-size structure - stackTraceSize worth of UDATA follow the fixed portion */
+typedef struct J9JFRClassLoad {
+	J9JFR_EVENT_WITH_STACKTRACE_FIELDS
+	struct J9Class *loadedClass;
+	struct J9ClassLoader *initiatingClassLoader;
+} J9JFRClassLoad;
+
+#define J9JFRCLASSLOAD_STACKTRACE(jfrEvent) ((UDATA*)(((J9JFRClassLoad*)(jfrEvent)) + 1))
+
+typedef struct J9JFRCompilation {
+	J9JFR_EVENT_COMMON_FIELDS
+	I_64 duration;
+	struct J9Method *method;
+	UDATA compileID;
+	UDATA succeeded;
+} J9JFRCompilation;
+
 #endif /* defined(J9VM_OPT_JFR) */
 
 /* @ddr_namespace: map_to_type=J9CfrError */
@@ -772,6 +837,8 @@ typedef struct J9ROMRecordComponentShape {
 #define J9GARBAGECOLLECTORDATA_MAX_NAME_BUFFER_SIZE   32
 #define J9VM_MAX_HEAP_MEMORYPOOL_COUNT 4
 #define J9VM_MAX_NONHEAP_MEMORYPOOL_COUNT 4
+#define J9VM_GC_PAUSE_HISTOGRAM_BUCKETS 128
+#define J9VM_GC_STATISTICS_WINDOW_SAMPLES 256
 
 typedef struct J9GarbageCollectionInfo {
 	U_32 gcID;
@@ -798,8 +865,22 @@ typedef struct J9GarbageCollectorData {
 	I_64 totalMemoryFreed;
 	U_64 totalCompacts;
 	J9GarbageCollectionInfo lastGcInfo;
+	U_64 lastStartNanoTime;
+	U_64 pauseHistogram[J9VM_GC_PAUSE_HISTOGRAM_BUCKETS];
 } J9GarbageCollectorData;
 
+/* One entry of the ring of recent collections used for the sliding window statistics.
+ * allocated is the growth of heap usage between the previous collection and this one,
+ * promoted the growth of the pools that a local collector does not manage.
+ */
+typedef struct J9GarbageCollectionSample {
+	U_64 endNanoTime;
+	U_64 pauseTime;
+	U_64 allocated;
+	U_64 promoted;
+	UDATA collectorIndex;
+} J9GarbageCollectionSample;
+
 typedef struct J9MemoryPoolData {
 	U_32 id;
 	char name[J9MEMORYPOOLDATA_MAX_NAME_BUFFER_SIZE];
@@ -878,6 +959,8 @@ typedef struct J9JavaLangManagementData {
 	U_64 gcWorkerCpuTime;
 	U_32 gcMaxThreads;
 	U_32 gcCurrentThreads;
+	J9GarbageCollectionSample gcSamples[J9VM_GC_STATISTICS_WINDOW_SAMPLES];
+	UDATA gcSampleCount;
 	char counterPath[2048];
 	U_32 isCounterPathInitialized;
 } J9JavaLangManagementData;
@@ -3930,6 +4013,23 @@ typedef struct J9ClassCastParms {
 
 /* @ddr_namespace: map_to_type=J9JITConfig */
 
+#define J9JIT_COMPILATION_STATISTICS_LEVELS 6
+#define J9JIT_COMPILATION_STATISTICS_WAIT_BUCKETS 16
+
+/* Compilation counters reported to java.lang.management. Levels are in TR_Hotness
+ * order (noOpt to scorching). Wait bucket 0 counts queue waits under 1ms, bucket
+ * i waits of [2^(i-1), 2^i) ms, and the last bucket everything longer.
+ */
+typedef struct J9JITCompilationStatistics {
+	UDATA queueSize;
+	UDATA queueWaitHistogram[J9JIT_COMPILATION_STATISTICS_WAIT_BUCKETS];
+	UDATA compilations[J9JIT_COMPILATION_STATISTICS_LEVELS];
+	UDATA failures[J9JIT_COMPILATION_STATISTICS_LEVELS];
+	UDATA aotLoads;
+	UDATA aotStores;
+	UDATA recompilations;
+} J9JITCompilationStatistics;
+
 typedef struct J9JITConfig {
 	IDATA  ( *entryPoint)(struct J9JITConfig *jitConfig, struct J9VMThread *vmStruct, J9Method *method, void *oldStartPC) ;
 	void *old_fast_jitNewObject;
@@ -4261,6 +4361,7 @@ typedef struct J9JITConfig {
 #endif /* J9VM_OPT_OPENJDK_METHODHANDLE */
 	U_8* (*codeCacheWarmAlloc)(void *codeCache);
 	U_8* (*codeCacheColdAlloc)(void *codeCache);
+	void ( *jitGetCompilationStatistics)(struct J9JITConfig *jitConfig, J9JITCompilationStatistics *statistics);
 	void ( *printAOTHeaderProcessorFeatures)(struct TR_AOTHeader * aotHeaderAddress, char * buff, const size_t BUFF_SIZE);
 	struct OMRProcessorDesc targetProcessor;
 	struct OMRProcessorDesc relocatableTargetProcessor;
@@ -4718,6 +4819,7 @@ typedef struct J9MemoryManagerFunctions {
 	UDATA  ( *j9gc_arraylet_getLeafSize)(struct J9JavaVM* javaVM) ;
 	UDATA  ( *j9gc_arraylet_getLeafLogSize)(struct J9JavaVM* javaVM) ;
 	void  ( *j9gc_set_allocation_sampling_interval)(struct J9JavaVM *vm, UDATA samplingInterval);
+	UDATA  ( *j9gc_get_allocation_sampling_interval)(struct J9JavaVM *vm);
 	void  ( *j9gc_set_allocation_threshold)(struct J9VMThread *vmThread, UDATA low, UDATA high) ;
 	void  ( *j9gc_objaccess_recentlyAllocatedObject)(struct J9VMThread *vmThread, J9Object *dstObject) ;
 	void  ( *j9gc_objaccess_postStoreClassToClassLoader)(struct J9VMThread* vmThread, J9ClassLoader* destClassLoader, J9Class* srcClass) ;
@@ -5183,11 +5285,17 @@ typedef struct J9InternalVMFunctions {
 	UDATA (*walkAllStackFrames)(struct J9VMThread *currentThread, J9StackWalkState *walkState);
 	BOOLEAN (*acquireVThreadInspector)(struct J9VMThread *currentThread, jobject thread, BOOLEAN spin);
 	void (*releaseVThreadInspector)(struct J9VMThread *currentThread, jobject thread);
+	j9object_t (*getUnmountedObjectMonitorOwner)(struct J9VMThread *currentThread, j9object_t object, UDATA *pcount);
 #endif /* JAVA_SPEC_VERSION >= 19 */
 	UDATA (*checkArgsConsumed)(struct J9JavaVM * vm, struct J9PortLibrary* portLibrary, struct J9VMInitArgs* j9vm_args);
 #if defined(J9VM_ZOS_3164_INTEROPERABILITY) && (JAVA_SPEC_VERSION >= 17)
 	I_32 (*invoke31BitJNI_OnXLoad)(struct J9JavaVM *vm, void *handle, jboolean isOnLoad, void *reserved);
 #endif /* defined(J9VM_ZOS_3164_INTEROPERABILITY) && (JAVA_SPEC_VERSION >= 17) */
+#if defined(J9VM_OPT_JFR)
+	BOOLEAN (*startJFR)(struct J9VMThread *currentThread);
+	BOOLEAN (*stopJFR)(struct J9VMThread *currentThread);
+	BOOLEAN (*dumpJFR)(struct J9VMThread *currentThread, const char *fileName);
+#endif /* defined(J9VM_OPT_JFR) */
 } J9InternalVMFunctions;
 
 /* Jazz 99339: define a new structure to replace JavaVM so as to pass J9NativeLibrary to JVMTIEnv  */
@@ -5266,6 +5374,15 @@ typedef struct J9JITGPRSpillArea {
 typedef uintptr_t ContinuationState;
 
 #if JAVA_SPEC_VERSION >= 19
+/* Monitor owned by an unmounted continuation. A non-zero dropEnterCount
+ * denotes a bytecoded monitor enter record for the frame at arg0EA.
+ */
+typedef struct J9ContinuationMonitorRecord {
+	omrthread_monitor_t monitor;
+	UDATA* arg0EA;
+	UDATA dropEnterCount;
+} J9ContinuationMonitorRecord;
+
 typedef struct J9VMContinuation {
 	UDATA* arg0EA;
 	UDATA* bytecodes;
@@ -5281,6 +5398,11 @@ typedef struct J9VMContinuation {
 	struct J9I2JState i2jState;
 	struct J9VMEntryLocalStorage* oldEntryLocalStorage;
 	UDATA dropFlags;
+	UDATA ownedMonitorCount;
+	struct J9MonitorEnterRecord* monitorEnterRecords;
+	struct J9ContinuationMonitorRecord* monitorRecords;
+	UDATA monitorRecordCount;
+	UDATA monitorRecordCapacity;
 } J9VMContinuation;
 #endif /* JAVA_SPEC_VERSION >= 19 */
 
@@ -5524,6 +5646,9 @@ typedef struct J9VMThread {
 	struct J9HashTable * volatile utfCache;
 #if defined(J9VM_OPT_JFR)
 	J9JFRBuffer jfrBuffer;
+	I_64 jfrMonitorEnterStartTime;
+	I_64 jfrMonitorWaitStartTime;
+	I_64 jfrCompilationStartTime;
 #endif /* defined(J9VM_OPT_JFR) */
 #if JAVA_SPEC_VERSION >= 16
 	U_64 *ffiArgs;
@@ -5619,6 +5744,18 @@ typedef struct JFRState {
 	IDATA blobFileDescriptor;
 	void *jfrWriter;
 	UDATA jfrChunkCount;
+	I_64 localGCStartTime;
+	I_64 globalGCStartTime;
+	UDATA gcCount;
+	UDATA compilationCount;
+	UDATA allocationSamplingInterval;
+	char *repository;
+	U_64 maxChunkSize;
+	I_64 maxChunkAge;
+	I_64 maxAge;
+	U_64 maxSize;
+	UDATA chunkFileCount;
+	struct J9JFRChunkFile *chunkFiles;
 } JFRState;
 
 typedef struct J9ReflectFunctionTable {
@@ -342,6 +342,12 @@ extern J9_CFUNC jlong JNICALL
 Java_com_ibm_java_lang_management_internal_CompilationMXBeanImpl_getTotalCompilationTimeImpl (JNIEnv *env, jobject beanInstance);
 extern J9_CFUNC jboolean JNICALL
 Java_com_ibm_java_lang_management_internal_CompilationMXBeanImpl_isCompilationTimeMonitoringSupportedImpl (JNIEnv *env, jobject beanInstance);
+extern J9_CFUNC jlongArray JNICALL
+Java_com_ibm_lang_management_internal_ExtendedCompilationMXBeanImpl_getCompilationStatisticsImpl (JNIEnv *env, jobject beanInstance);
+extern J9_CFUNC jlongArray JNICALL
+Java_com_ibm_lang_management_internal_ExtendedCompilationMXBeanImpl_getCodeCacheUsageImpl (JNIEnv *env, jobject beanInstance);
+extern J9_CFUNC jlongArray JNICALL
+Java_com_ibm_lang_management_internal_ExtendedCompilationMXBeanImpl_getDataCacheUsageImpl (JNIEnv *env, jobject beanInstance);
 
 /* BBjclNativesCommonPlainMulticastSocketImpl*/
 void JNICALL Java_java_net_PlainMulticastSocketImpl_createMulticastSocketImpl (
@@ -376,6 +382,12 @@ extern J9_CFUNC jlong JNICALL
 Java_com_ibm_java_lang_management_internal_GarbageCollectorMXBeanImpl_getMemoryUsedImpl(JNIEnv *env, jobject beanInstance, jint id);
 extern J9_CFUNC jobject JNICALL
 Java_com_ibm_lang_management_internal_ExtendedGarbageCollectorMXBeanImpl_getLastGcInfoImpl(JNIEnv *env, jobject beanInstance, jint id);
+extern J9_CFUNC jlongArray JNICALL
+Java_com_ibm_lang_management_internal_ExtendedGarbageCollectorMXBeanImpl_getPauseTimeHistogramImpl(JNIEnv *env, jobject beanInstance, jint id);
+extern J9_CFUNC jlong JNICALL
+Java_com_ibm_lang_management_internal_ExtendedGarbageCollectorMXBeanImpl_getPauseTimePercentileImpl(JNIEnv *env, jobject beanInstance, jint id, jdouble percentile);
+extern J9_CFUNC jlongArray JNICALL
+Java_com_ibm_lang_management_internal_ExtendedGarbageCollectorMXBeanImpl_getWindowStatisticsImpl(JNIEnv *env, jobject beanInstance, jint id, jlong windowMillis);
 
 /* BBjclNativesCommonClassLoader*/
 jboolean JNICALL Java_java_lang_ClassLoader_isVerboseImpl (JNIEnv *env, jclass clazz);
@@ -725,9 +737,14 @@ void JNICALL Java_com_ibm_oti_vm_VM_dumpString(JNIEnv * env, jclass clazz, jstri
 jboolean JNICALL Java_com_ibm_oti_vm_VM_appendToCPNativeImpl(JNIEnv * env, jclass clazz, jstring classPathAdditions, jstring newClassPath);
 jboolean JNICALL Java_com_ibm_oti_vm_VM_isApplicationClassLoaderPresent(JNIEnv * env, jclass clazz);
 jstring JNICALL Java_openj9_internal_tools_attach_target_DiagnosticUtils_getHeapClassStatisticsImpl(JNIEnv * env, jclass unused);
+jstring JNICALL Java_openj9_internal_tools_attach_target_DiagnosticUtils_getGCStatisticsImpl(JNIEnv *env, jclass unused, jlong windowMillis);
 jobjectArray JNICALL Java_openj9_internal_tools_attach_target_DiagnosticUtils_dumpAllThreadsImpl(JNIEnv *env, jobject beanInstance,
 	jboolean getLockedMonitors, jboolean getLockedSynchronizers, jint maxDepth);
 jstring JNICALL Java_openj9_internal_tools_attach_target_DiagnosticUtils_triggerDumpsImpl(JNIEnv *env, jclass clazz, jstring opts, jstring event);
+jboolean JNICALL Java_openj9_internal_tools_attach_target_DiagnosticUtils_isJFRRecordingImpl(JNIEnv *env, jclass unused);
+jboolean JNICALL Java_openj9_internal_tools_attach_target_DiagnosticUtils_startJFRImpl(JNIEnv *env, jclass unused);
+jboolean JNICALL Java_openj9_internal_tools_attach_target_DiagnosticUtils_stopJFRImpl(JNIEnv *env, jclass unused);
+jboolean JNICALL Java_openj9_internal_tools_attach_target_DiagnosticUtils_dumpJFRImpl(JNIEnv *env, jclass unused, jstring fileName);
 
 /* J9SourceJclCommonInit*/
 jint computeFullVersionString (J9JavaVM* vm);
@@ -1246,6 +1263,50 @@ Java_com_ibm_lang_management_internal_JvmCpuMonitor_setThreadCategoryImpl(JNIEnv
  */
 jint JNICALL
 Java_com_ibm_lang_management_internal_JvmCpuMonitor_getThreadCategoryImpl(JNIEnv *env, jobject beanInstance, jlong threadID);
+/**
+ * Returns whether this VM was built with Java Lock Monitor support.
+ *
+ * @param env			The JNI env.
+ * @param beanInstance	beanInstance.
+ * @return				JNI_TRUE if JLM is available, JNI_FALSE otherwise.
+ */
+jboolean JNICALL
+Java_com_ibm_lang_management_internal_LockContentionMXBeanImpl_isSupportedImpl(JNIEnv *env, jobject beanInstance);
+/**
+ * Returns whether the Java Lock Monitor is currently collecting statistics.
+ *
+ * @param env			The JNI env.
+ * @param beanInstance	beanInstance.
+ * @return				JNI_TRUE if JLM is enabled, JNI_FALSE otherwise.
+ */
+jboolean JNICALL
+Java_com_ibm_lang_management_internal_LockContentionMXBeanImpl_isEnabledImpl(JNIEnv *env, jobject beanInstance);
+/**
+ * Starts the Java Lock Monitor, including hold times where they are supported.
+ *
+ * @param env			The JNI env.
+ * @param beanInstance	beanInstance.
+ * @return				JNI_TRUE on success, JNI_FALSE if JLM is not available.
+ */
+jboolean JNICALL
+Java_com_ibm_lang_management_internal_LockContentionMXBeanImpl_startImpl(JNIEnv *env, jobject beanInstance);
+/**
+ * Stops the Java Lock Monitor.
+ *
+ * @param env			The JNI env.
+ * @param beanInstance	beanInstance.
+ */
+void JNICALL
+Java_com_ibm_lang_management_internal_LockContentionMXBeanImpl_stopImpl(JNIEnv *env, jobject beanInstance);
+/**
+ * Returns the Java Lock Monitor statistics in the COM_IBM_JLM_DUMP_FORMAT_TAGS layout.
+ *
+ * @param env			The JNI env.
+ * @param beanInstance	beanInstance.
+ * @return				The dump, or NULL if JLM has never been enabled or an exception is pending.
+ */
+jbyteArray JNICALL
+Java_com_ibm_lang_management_internal_LockContentionMXBeanImpl_dumpImpl(JNIEnv *env, jobject beanInstance);
 /**
  * Sets the category of the current thread as J9THREAD_CATEGORY_SYSTEM_THREAD.
  *
@@ -224,6 +224,31 @@ typedef struct AttachedDataWrapper {
 #define ADWDATA(adw) (((U_8*)(adw)) + sizeof(AttachedDataWrapper))
 #define ADWITEM(adw) (((U_8*)(adw)) - sizeof(ShcItem))
 
+/* Prebuilt index of the ROMClasses in a lower layer cache, stored as J9SHR_DATA_TYPE_ROMCLASS_INDEX byte data
+ * in the layer directly above it. The header is followed by numBuckets + 1 U_32 bucket start positions
+ * and then by numEntries ROMClassIndexEntry records, grouped by bucket (hashValue % numBuckets).
+ */
+typedef struct ROMClassIndexHeader {
+	U_32 eyecatcher;
+	U_32 version;
+	U_32 numBuckets;
+	U_32 numEntries;
+} ROMClassIndexHeader;
+
+typedef struct ROMClassIndexEntry {
+	U_32 itemOffset;	/* offset of the ShcItem from the cache header of the indexed layer */
+	U_32 hashValue;
+	U_16 keyLength;
+	U_16 padding;
+} ROMClassIndexEntry;
+
+#define ROMCLASS_INDEX_EYECATCHER 0x58444352	/* "RCDX" */
+#define ROMCLASS_INDEX_VERSION 1
+
+#define RCIBUCKETS(rci) ((U_32*)(((U_8*)(rci)) + sizeof(ROMClassIndexHeader)))
+#define RCIENTRIES(rci) ((ROMClassIndexEntry*)(RCIBUCKETS(rci) + J9SHR_READMEM((rci)->numBuckets) + 1))
+#define RCILEN(numBuckets, numEntries) (sizeof(ROMClassIndexHeader) + (((numBuckets) + 1) * sizeof(U_32)) + ((numEntries) * sizeof(ROMClassIndexEntry)))
+
 #ifdef __cplusplus
 }
 #endif
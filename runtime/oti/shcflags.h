@@ -55,7 +55,8 @@
 #define J9SHR_DATA_TYPE_STARTUP_HINTS 10
 #define J9SHR_DATA_TYPE_AOTCLASSCHAIN 11
 #define J9SHR_DATA_TYPE_AOTTHUNK 12
-#define J9SHR_DATA_TYPE_MAX 12
+#define J9SHR_DATA_TYPE_ROMCLASS_INDEX 13
+#define J9SHR_DATA_TYPE_MAX 13
 
 #define J9SHR_ATTACHED_DATA_TYPE_UNKNOWN  0
 #define J9SHR_ATTACHED_DATA_TYPE_JITPROFILE  1
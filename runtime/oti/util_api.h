@@ -1273,6 +1273,17 @@ jint
 request_MonitorJlmDump(jvmtiEnv* env, J9VMJlmDump *jlmd, jint dump_format);
 
 
+/**
+* @brief Write the JLM dump without a JVMTI environment. Object tags are reported as 0.
+* @param *jvm
+* @param *jlmd
+* @param  dump_format
+* @return jint
+*/
+jint
+request_VMMonitorJlmDump(J9JavaVM *jvm, J9VMJlmDump *jlmd, jint dump_format);
+
+
 /**
 * @brief
 * @param *jvm
@@ -4593,6 +4593,10 @@ walkContinuationStackFrames(J9VMThread *currentThread, J9VMContinuation *continu
 /**
  * @brief Walk all stackframes in the VM.
  *
+ * Only J9VMThread stacks are walked. Callers that need unmounted continuation stacks
+ * use j9mm_iterate_all_continuation_objects, which iterates the continuation lists the
+ * GC keeps per region rather than the heap.
+ *
  * @param currentThread
  * @param walkState walkstate holding initial walk parameters to be used in each stackwalk
  * @return 0 on success and non-zero on failure
@@ -4600,6 +4604,22 @@ walkContinuationStackFrames(J9VMThread *currentThread, J9VMContinuation *continu
 UDATA
 walkAllStackFrames(J9VMThread *currentThread, J9StackWalkState *walkState);
 
+/**
+ * @brief Find the unmounted virtual thread which owns an object monitor.
+ *
+ * A virtual thread which unmounts while holding monitors keeps them entered, but they have
+ * no owner thread until it is mounted again. The monitors are recorded on its continuation,
+ * which is found by iterating the continuation object lists. The caller must have exclusive
+ * VM access.
+ *
+ * @param currentThread
+ * @param object the object whose monitor is queried
+ * @param pcount if not NULL, set to the entry count of the monitor, or 0 if it is not owned by an unmounted virtual thread
+ * @return the owning java/lang/VirtualThread, or NULL if the monitor is not owned by an unmounted virtual thread
+ */
+j9object_t
+getUnmountedObjectMonitorOwner(J9VMThread *currentThread, j9object_t object, UDATA *pcount);
+
 /**
  * @brief Acquire inspector access on VirtualThread, block until access is acquired.
  *
@@ -5301,6 +5321,47 @@ BOOLEAN
 hasMemoryScope(J9VMThread *walkThread, j9object_t scope);
 #endif /* JAVA_SPEC_VERSION >= 16 */
 
+#if defined(J9VM_OPT_JFR)
+/* ------------------- jfr.cpp ----------------- */
+
+/**
+ * Start JFR recording in a VM which is not currently recording.
+ *
+ * The current thread must have VM access.
+ *
+ * @param currentThread[in] the current J9VMThread
+ *
+ * @returns TRUE if recording was started, FALSE if JFR was already recording or could not be initialized
+ */
+BOOLEAN
+startJFR(J9VMThread *currentThread);
+
+/**
+ * Write out all recorded data and stop JFR recording.
+ *
+ * The current thread must have VM access.
+ *
+ * @param currentThread[in] the current J9VMThread
+ *
+ * @returns TRUE if recording was stopped, FALSE if JFR was not recording
+ */
+BOOLEAN
+stopJFR(J9VMThread *currentThread);
+
+/**
+ * Write out all recorded data and copy the retained recording to a file.
+ *
+ * The current thread must have VM access.
+ *
+ * @param currentThread[in] the current J9VMThread
+ * @param fileName[in] the file to write the recording to
+ *
+ * @returns TRUE on success, FALSE if JFR was not recording or the file could not be written
+ */
+BOOLEAN
+dumpJFR(J9VMThread *currentThread, const char *fileName);
+#endif /* defined(J9VM_OPT_JFR) */
+
 #ifdef __cplusplus
 } /* extern "C" */
 #endif
@@ -27,6 +27,7 @@
 #include "HeapIteratorAPI.h"
 #include "j9dmpnls.h"
 #include "FileStream.hpp"
+#include "zlib.h"
 
 #include "ut_j9dmp.h"
 
@@ -39,6 +40,9 @@ static jvmtiIterationControl binaryHeapDumpHeapIteratorCallback   (J9JavaVM* vm,
 static jvmtiIterationControl binaryHeapDumpSpaceIteratorCallback  (J9JavaVM* vm, J9MM_IterateSpaceDescriptor*  spaceDescriptor,   void* userData);
 static jvmtiIterationControl binaryHeapDumpRegionIteratorCallback (J9JavaVM* vm, J9MM_IterateRegionDescriptor* regionDescription, void* userData);
 static jvmtiIterationControl binaryHeapDumpObjectIteratorCallback (J9JavaVM* vm, J9MM_IterateObjectDescriptor* objectDescriptor,  void* userData);
+static jvmtiIterationControl binaryHeapDumpRegionCounterCallback (J9JavaVM* vm, J9MM_IterateRegionDescriptor* regionDescription, void* userData);
+static jvmtiIterationControl binaryHeapDumpRegionEncoderCallback (J9JavaVM* vm, J9MM_IterateRegionDescriptor* regionDescription, void* userData);
+static int J9THREAD_PROC     binaryHeapDumpRegionWorker(void* entryArg);
 
 static jvmtiIterationControl binaryHeapDumpObjectReferenceIteratorTraitsCallback(J9JavaVM* virtualMachine, J9MM_IterateObjectDescriptor* objectDescriptor, J9MM_IterateObjectRefDescriptor* referenceDescriptor, void* userData);
 static jvmtiIterationControl binaryHeapDumpObjectReferenceIteratorWriterCallback(J9JavaVM* virtualMachine, J9MM_IterateObjectDescriptor* objectDescriptor, J9MM_IterateObjectRefDescriptor* referenceDescriptor, void* userData);
@@ -725,6 +729,192 @@ public:
 	}
 };
 
+/**************************************************************************************************/
+/*                                                                                                */
+/* Class for accumulating dump data in memory, optionally compressed as a gzip member             */
+/*                                                                                                */
+/**************************************************************************************************/
+class DumpBuffer
+{
+public :
+	/* Constructor */
+	DumpBuffer(J9PortLibrary* portLibrary) :
+		_PortLibrary(portLibrary),
+		_Data(NULL),
+		_Length(0),
+		_Capacity(0),
+		_Error(false)
+	{
+	}
+
+	/* Destructor */
+	~DumpBuffer()
+	{
+		PORT_ACCESS_FROM_PORT(_PortLibrary);
+		j9mem_free_memory(_Data);
+	}
+
+	/* Method for appending characters to the buffer */
+	void writeCharacters(const char* data, IDATA length)
+	{
+		if (reserve(length)) {
+			memcpy(_Data + _Length, data, length);
+			_Length += length;
+		}
+	}
+
+	/* Method for appending a number to the buffer in network order encoding (as FileStream does) */
+	void writeNumber(IDATA data, int length)
+	{
+		IDATA number = data;
+		int   count  = (length > 8) ? 8 : length;
+		char  buffer[8] = {0,0,0,0,0,0,0,0};
+
+		while (count-- > 0) {
+			buffer[count] = (char)(number & 0xFF);
+			number >>= 8;
+		}
+
+		writeCharacters(buffer, length);
+	}
+
+	/* Method for replacing the contents of the buffer with a self-contained gzip member */
+	bool compress(void)
+	{
+		PORT_ACCESS_FROM_PORT(_PortLibrary);
+		DumpBuffer compressed(_PortLibrary);
+		z_stream stream;
+		UDATA consumed = 0;
+		int rc = Z_OK;
+
+		if (_Error || (0 == _Length)) {
+			return !_Error;
+		}
+
+		/* Adding 16 to the window bits selects the gzip wrapper. Concatenated gzip members form a valid */
+		/* gzip stream, so buffers compressed independently can simply be written one after the other.  */
+		memset(&stream, 0, sizeof(stream));
+		if (Z_OK != deflateInit2(&stream, Z_DEFAULT_COMPRESSION, Z_DEFLATED, MAX_WBITS + 16, 8, Z_DEFAULT_STRATEGY)) {
+			_Error = true;
+			return false;
+		}
+
+		while (Z_OK == rc) {
+			/* zlib counts in uInt so feed large buffers through in chunks */
+			if (0 == stream.avail_in) {
+				UDATA chunk = _Length - consumed;
+
+				if (chunk > chunkSize()) {
+					chunk = chunkSize();
+				}
+				stream.next_in  = (Bytef*)(_Data + consumed);
+				stream.avail_in = (uInt)chunk;
+				consumed += chunk;
+			}
+
+			if (!compressed.reserve(chunkSize())) {
+				break;
+			}
+			stream.next_out  = (Bytef*)(compressed._Data + compressed._Length);
+			stream.avail_out = (uInt)(compressed._Capacity - compressed._Length);
+
+			rc = deflate(&stream, (consumed == _Length) ? Z_FINISH : Z_NO_FLUSH);
+			compressed._Length = (char*)stream.next_out - compressed._Data;
+		}
+
+		deflateEnd(&stream);
+
+		if (Z_STREAM_END != rc) {
+			_Error = true;
+			return false;
+		}
+
+		/* Take over the compressed data */
+		j9mem_free_memory(_Data);
+		_Data     = compressed._Data;
+		_Length   = compressed._Length;
+		_Capacity = compressed._Capacity;
+		compressed._Data = NULL;
+
+		return true;
+	}
+
+	/* Method for discarding the contents of the buffer while keeping the storage */
+	void reset(void)
+	{
+		_Length = 0;
+	}
+
+	/* Methods for getting the object's attributes */
+	const char* data(void) const     {return _Data;}
+	UDATA       length(void) const   {return _Length;}
+	bool        hasError(void) const {return _Error;}
+
+private :
+	/* Prevent use of the copy constructor and assignment operator */
+	DumpBuffer(const DumpBuffer& source);
+	DumpBuffer& operator=(const DumpBuffer& source);
+
+	/* Method for making room for a number of additional bytes */
+	bool reserve(UDATA extra)
+	{
+		PORT_ACCESS_FROM_PORT(_PortLibrary);
+
+		if (_Error) {
+			return false;
+		}
+
+		if ((_Capacity - _Length) < extra) {
+			UDATA capacity = (0 == _Capacity) ? chunkSize() : _Capacity;
+			char* data = NULL;
+
+			while ((capacity - _Length) < extra) {
+				capacity *= 2;
+			}
+
+			data = (char*)j9mem_reallocate_memory(_Data, capacity, OMRMEM_CATEGORY_VM);
+			if (NULL == data) {
+				_Error = true;
+				return false;
+			}
+
+			_Data     = data;
+			_Capacity = capacity;
+		}
+
+		return true;
+	}
+
+	inline static UDATA chunkSize(void) {return 1024 * 1024;}
+
+	/* Declared data */
+	J9PortLibrary* _PortLibrary;
+	char*          _Data;
+	UDATA          _Length;
+	UDATA          _Capacity;
+	bool           _Error;
+};
+
+class BinaryHeapDumpWriter;
+
+/* Work queue shared by the threads encoding the regions of a space in parallel */
+typedef struct HeapDumpRegionQueue {
+	BinaryHeapDumpWriter*        writer;
+	J9MM_IterateSpaceDescriptor* space;
+	UDATA                        regionCount;
+	UDATA                        nextRegion;     /* next region to be claimed by an encoder */
+	UDATA                        appendedRegion; /* next region to be appended to the dump */
+	UDATA                        activeWorkers;
+	omrthread_monitor_t          monitor;
+} HeapDumpRegionQueue;
+
+/* One encoder's progress through the regions of a space */
+typedef struct HeapDumpRegionWalk {
+	HeapDumpRegionQueue* queue;
+	UDATA                position; /* index of the region being visited */
+	UDATA                claimed;  /* index of the region to be encoded next */
+} HeapDumpRegionWalk;
+
 /**************************************************************************************************/
 /*                                                                                                */
 /* Class for writing binary portable heap dump files                                              */
@@ -756,6 +946,11 @@ private :
 	friend jvmtiIterationControl binaryHeapDumpObjectReferenceIteratorWriterCallback(J9JavaVM* virtualMachine, J9MM_IterateObjectDescriptor* objectDescriptor, J9MM_IterateObjectRefDescriptor* referenceDescriptor, void* userData);
 	friend jvmtiIterationControl binaryHeapDumpHeapIteratorCallback(J9JavaVM* virtualMachine, J9MM_IterateHeapDescriptor* heapDescriptor, void* userData);
 	friend jvmtiIterationControl binaryHeapDumpRegionIteratorCallback(J9JavaVM* virtualMachine, J9MM_IterateRegionDescriptor* regionDescription, void* userData);
+	friend jvmtiIterationControl binaryHeapDumpRegionEncoderCallback(J9JavaVM* virtualMachine, J9MM_IterateRegionDescriptor* regionDescription, void* userData);
+	friend int J9THREAD_PROC     binaryHeapDumpRegionWorker(void* entryArg);
+
+	/* Constructor for an encoder writing the records of a single region to memory */
+	BinaryHeapDumpWriter(BinaryHeapDumpWriter* parent, HeapDumpRegionQueue* queue, UDATA index);
 
 	/* Nested class for determining the characteristics of the references */
 	class ReferenceTraits
@@ -828,6 +1023,9 @@ private :
 
 		/* Method for setting the object back to its initial state (i.e. empty) */
 		void clear(void);
+
+		/* Method for replaying the additions made to another cache, as a reader of both would */
+		void merge(const ClassCache& source);
 		
 	private :
 		/* Prevent use of the copy constructor and assignment operator */
@@ -837,6 +1035,7 @@ private :
 		/* Declared data */
 		const void* _Cache[4];
 		int         _Index;
+		UDATA       _Count;
 	};
 
 	friend class ReferenceTraits;
@@ -851,12 +1050,21 @@ private :
 	void             writeNormalObjectRecord(J9MM_IterateObjectDescriptor* objectDescriptor);
 	void             writeArrayObjectRecord(J9MM_IterateObjectDescriptor* objectDescriptor);
 	void             writeClassRecord(J9Class* clazz);
+	bool             writeRegionsInParallel(J9MM_IterateSpaceDescriptor* spaceDescriptor);
+	void             encodeRegions(HeapDumpRegionQueue* queue);
+	UDATA            claimRegion(HeapDumpRegionQueue* queue);
+	void             encodeRegion(HeapDumpRegionQueue* queue, UDATA index, J9MM_IterateRegionDescriptor* regionDescriptor);
+	void             appendRegion(HeapDumpRegionQueue* queue, UDATA index, BinaryHeapDumpWriter* encoder, J9MM_IterateRegionDescriptor* regionDescriptor);
+	void             appendSegment(BinaryHeapDumpWriter* encoder);
+	void             writeEncodedData(BinaryHeapDumpWriter* encoder);
+	void             waitForTurn(HeapDumpRegionQueue* queue, UDATA index);
+	void             flushBuffer(void);
 	static int       numberSize(IDATA number);
 	int              getObjectHashCode(j9object_t object);
 	static int       numberSizeEncoding(int numberSize);
 	static int       wordSize(void);
 	void             checkForIOError(void);
-	/* Methods for writing data to output file (proxies to _OutputStream */
+	/* Methods for writing data to output file (proxies to _OutputStream, or _Buffer when buffering) */
 	void             writeCharacters (const char* data, IDATA length);
 	void             writeCharacters (const char* data);
 	void             writeNumber (IDATA data, int length);
@@ -873,10 +1081,23 @@ private :
 	ClassCache        _ClassCache;
 	bool              _FileMode;
 	bool              _Error;
+	DumpBuffer        _Buffer;
+	bool              _Compress;
+	bool              _Parallel;
+	bool              _RegionEncoder;
+	bool              _HasFirstObject;
+	J9MM_IterateObjectDescriptor _FirstObject;
+	BinaryHeapDumpWriter* _Parent;      /* region encoders only: the writer appending their output */
+	HeapDumpRegionQueue*  _Queue;       /* region encoders only: the queue the region was claimed from */
+	UDATA                 _RegionIndex; /* region encoders only: the index of the region being encoded */
+	bool                  _Appending;   /* region encoders only: the region's turn has come and output has been written */
 
 	/* Static methods returning constant values */
 	inline static const char* identifierField(void)        {return "portable heap dump";}
 	inline static char        versionField(void)           {return 0x06;}
+	inline static UDATA       compressedMemberSize(void)   {return 4 * 1024 * 1024;}
+	/* Balanced heaps with fewer regions are written sequentially */
+	inline static UDATA       minimumParallelRegions(void) {return 8;}
 
 #if defined(J9VM_OPT_NEW_OBJECT_HASH)
 	inline static char        primaryFlagsField(void)
@@ -1045,7 +1266,8 @@ BinaryHeapDumpWriter::ReferenceWriter::writeNumber(j9object_t objectReference)
 /*                                                                                                */
 /**************************************************************************************************/
 BinaryHeapDumpWriter::ClassCache::ClassCache() :
-	_Index(0)
+	_Index(0),
+	_Count(0)
 {
 	/* Initialize the class cache */
 	clear();
@@ -1061,6 +1283,7 @@ BinaryHeapDumpWriter::ClassCache::add(const void* clazz)
 {
 	_Cache[_Index] = clazz;
 	_Index         = (_Index + 1) % 4;
+	_Count        += 1;
 }
 
 /**************************************************************************************************/
@@ -1105,6 +1328,27 @@ BinaryHeapDumpWriter::ClassCache::clear(void)
 	} 
 
 	_Index = 0;
+	_Count = 0;
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::ClassCache::merge() method implementation                                */
+/*                                                                                                */
+/**************************************************************************************************/
+void
+BinaryHeapDumpWriter::ClassCache::merge(const ClassCache& source)
+{
+	/* Only the last four additions to the source survive in the reader's cache. The earlier ones */
+	/* still advance the reader's index, so skip over the slots they would have used.             */
+	UDATA replayed = (source._Count < 4) ? source._Count : 4;
+
+	_Index  = (int)((_Index + (source._Count - replayed)) % 4);
+	_Count += source._Count - replayed;
+
+	for (UDATA i = replayed; i > 0; i--) {
+		add(source._Cache[(source._Index + 4 - i) % 4]);
+	}
 }
 
 /**************************************************************************************************/
@@ -1124,7 +1368,16 @@ BinaryHeapDumpWriter::BinaryHeapDumpWriter(const char* fileName, J9RASdumpContex
 	_OutputStream(context->javaVM->portLibrary),
 	_CurrentObject(0),
 	_FileMode(false),
-	_Error(false)
+	_Error(false),
+	_Buffer(context->javaVM->portLibrary),
+	_Compress(false),
+	_Parallel(false),
+	_RegionEncoder(false),
+	_HasFirstObject(false),
+	_Parent(NULL),
+	_Queue(NULL),
+	_RegionIndex(0),
+	_Appending(false)
 {
 	PORT_ACCESS_FROM_PORT(_PortLibrary);
 
@@ -1132,14 +1385,31 @@ BinaryHeapDumpWriter::BinaryHeapDumpWriter(const char* fileName, J9RASdumpContex
 	if ((agent->dumpOptions != 0) && (strstr(agent->dumpOptions, "PHD") == 0)) {
 		return;
 	}
+
+	if (agent->dumpOptions != 0) {
+		_Compress = (strstr(agent->dumpOptions, "GZIP") != 0);
+#if defined(J9VM_OPT_NEW_OBJECT_HASH)
+		/* Encoders only read the heap when the hash code can be sniffed without growing the object */
+		_Parallel = (strstr(agent->dumpOptions, "PARALLEL") != 0);
+#endif /* defined(J9VM_OPT_NEW_OBJECT_HASH) */
+	}
 	
 	/* Remember the file name */
 	_FileName += fileName;
+
+	/* HeapdumpReader recognises compressed dumps by their suffix */
+	if (_Compress) {
+		UDATA length = _FileName.length();
+
+		if ((length < 3) || (strcmp(_FileName.data() + length - 3, ".gz") != 0)) {
+			_FileName += ".gz";
+		}
+	}
 	
 	/* Handle the cases of multiple dump files and a single dump file separately */
 	if (!(_Agent->requestMask & J9RAS_DUMP_DO_MULTIPLE_HEAPS)) {
 		/* Write a message to standard error saying we are about to write a dump file */
-		reportDumpRequest(_PortLibrary,_Context,"Heap",fileName);
+		reportDumpRequest(_PortLibrary,_Context,"Heap",_FileName.data());
 		
 		/* It's a single file so open it */
 		_OutputStream.open(_FileName.data());
@@ -1162,6 +1432,9 @@ BinaryHeapDumpWriter::BinaryHeapDumpWriter(const char* fileName, J9RASdumpContex
 			writeDumpFileTrailer();
 		}
 
+		/* Write out whatever is still buffered for compression */
+		flushBuffer();
+
 		/* Performance measuring code 
 		stopTimer();
 		*/
@@ -1176,16 +1449,47 @@ BinaryHeapDumpWriter::BinaryHeapDumpWriter(const char* fileName, J9RASdumpContex
 		/* If an error occurred, the error message has already been printed in checkForIOError() */
 		if (! _Error) {
 			if (_FileMode) {
-				j9nls_printf(PORTLIB, J9NLS_INFO | J9NLS_STDERR, J9NLS_DMP_WRITTEN_DUMP_STR, "Heap", fileName);
-				Trc_dump_reportDumpEnd_Event2("Heap", fileName);
+				j9nls_printf(PORTLIB, J9NLS_INFO | J9NLS_STDERR, J9NLS_DMP_WRITTEN_DUMP_STR, "Heap", _FileName.data());
+				Trc_dump_reportDumpEnd_Event2("Heap", _FileName.data());
 			} else {
-				j9nls_printf(PORTLIB, J9NLS_INFO | J9NLS_STDERR, J9NLS_DMP_NO_CREATE, fileName);
-				Trc_dump_reportDumpEnd_Event2("Heap", fileName);
+				j9nls_printf(PORTLIB, J9NLS_INFO | J9NLS_STDERR, J9NLS_DMP_NO_CREATE, _FileName.data());
+				Trc_dump_reportDumpEnd_Event2("Heap", _FileName.data());
 			}
 		}
 	}
 }
 
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::BinaryHeapDumpWriter() region encoder constructor implementation         */
+/*                                                                                                */
+/**************************************************************************************************/
+BinaryHeapDumpWriter::BinaryHeapDumpWriter(BinaryHeapDumpWriter* parent, HeapDumpRegionQueue* queue, UDATA index) :
+	_Id(0),
+	_RegionStart(NULL),
+	_RegionEnd(NULL),
+	_Context(parent->_Context),
+	_Agent(parent->_Agent),
+	_VirtualMachine(parent->_VirtualMachine),
+	_PortLibrary(parent->_PortLibrary),
+	_FileName(parent->_PortLibrary),
+	_OutputStream(parent->_PortLibrary),
+	_CurrentObject(0),
+	_FileMode(false),
+	_Error(false),
+	_Buffer(parent->_PortLibrary),
+	_Compress(parent->_Compress),
+	_Parallel(false),
+	_RegionEncoder(true),
+	_HasFirstObject(false),
+	_Parent(parent),
+	_Queue(queue),
+	_RegionIndex(index),
+	_Appending(false)
+{
+	/* The records are written to _Buffer and handed to the parent by appendSegment() and appendRegion() */
+}
+
 /**************************************************************************************************/
 /*                                                                                                */
 /* BinaryHeapDumpWriter::~BinaryHeapDumpWriter() method implementation                            */
@@ -1234,13 +1538,15 @@ BinaryHeapDumpWriter::openNewDumpFile(J9MM_IterateSpaceDescriptor* spaceDescript
 	}
 
 	/* Iterate through the regions etc. */
-	_VirtualMachine->memoryManagerFunctions->j9mm_iterate_regions(
-			_VirtualMachine,
-			_PortLibrary,
-			spaceDescriptor,
-			j9mm_iterator_flag_regions_read_only,
-			binaryHeapDumpRegionIteratorCallback,
-			this);
+	if (!_Parallel || !writeRegionsInParallel(spaceDescriptor)) {
+		_VirtualMachine->memoryManagerFunctions->j9mm_iterate_regions(
+				_VirtualMachine,
+				_PortLibrary,
+				spaceDescriptor,
+				j9mm_iterator_flag_regions_read_only,
+				binaryHeapDumpRegionIteratorCallback,
+				this);
+	}
 
 	/* Handle the single and multiple dump file cases separately */
 	if (_Agent->requestMask & J9RAS_DUMP_DO_MULTIPLE_HEAPS) {
@@ -1249,6 +1555,9 @@ BinaryHeapDumpWriter::openNewDumpFile(J9MM_IterateSpaceDescriptor* spaceDescript
 			writeDumpFileTrailer();
 		}
 
+		/* Write out whatever is still buffered for compression */
+		flushBuffer();
+
 		/* Record the status of the operation */
 		_FileMode = _FileMode || _OutputStream.isOpen();
 
@@ -1269,6 +1578,304 @@ BinaryHeapDumpWriter::openNewDumpFile(J9MM_IterateSpaceDescriptor* spaceDescript
 	}
 }
 
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::writeRegionsInParallel() method implementation                           */
+/*                                                                                                */
+/**************************************************************************************************/
+bool
+BinaryHeapDumpWriter::writeRegionsInParallel(J9MM_IterateSpaceDescriptor* spaceDescriptor)
+{
+	PORT_ACCESS_FROM_PORT(_PortLibrary);
+	HeapDumpRegionQueue queue;
+	UDATA threadCount = 0;
+
+	/* Only a balanced heap is made of many small regions. The other policies' heaps have a few large regions
+	 * (e.g. the nursery and tenure spaces of gencon), so they are always written sequentially.
+	 */
+	if (J9_GC_POLICY_BALANCED != _VirtualMachine->gcPolicy) {
+		return false;
+	}
+
+	memset(&queue, 0, sizeof(queue));
+	queue.writer = this;
+	queue.space  = spaceDescriptor;
+
+	/* Count the regions so that they can be handed out to the encoders by index */
+	_VirtualMachine->memoryManagerFunctions->j9mm_iterate_regions(
+			_VirtualMachine,
+			_PortLibrary,
+			spaceDescriptor,
+			j9mm_iterator_flag_regions_read_only,
+			binaryHeapDumpRegionCounterCallback,
+			&queue.regionCount);
+
+	/* Fall back to the sequential walk when there is too little to share out */
+	if ((queue.regionCount < minimumParallelRegions())
+		|| (0 != omrthread_monitor_init_with_name(&queue.monitor, 0, "Heapdump region queue"))
+	) {
+		return false;
+	}
+
+	/* The dumping thread encodes regions too, so start one thread fewer than the number of encoders */
+	threadCount = j9sysinfo_get_number_CPUs_by_type(J9PORT_CPU_TARGET);
+	if (threadCount > queue.regionCount) {
+		threadCount = queue.regionCount;
+	}
+
+	omrthread_monitor_enter(queue.monitor);
+	for (UDATA i = 1; i < threadCount; i++) {
+		if (0 != omrthread_create(NULL, _VirtualMachine->defaultOSStackSize, J9THREAD_PRIORITY_NORMAL, 0, binaryHeapDumpRegionWorker, &queue)) {
+			break;
+		}
+		queue.activeWorkers += 1;
+	}
+	omrthread_monitor_exit(queue.monitor);
+
+	encodeRegions(&queue);
+
+	/* Wait for the other encoders to finish before the queue goes out of scope */
+	omrthread_monitor_enter(queue.monitor);
+	while (0 != queue.activeWorkers) {
+		omrthread_monitor_wait(queue.monitor);
+	}
+	omrthread_monitor_exit(queue.monitor);
+
+	omrthread_monitor_destroy(queue.monitor);
+
+	return true;
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::encodeRegions() method implementation                                    */
+/*                                                                                                */
+/**************************************************************************************************/
+void
+BinaryHeapDumpWriter::encodeRegions(HeapDumpRegionQueue* queue)
+{
+	HeapDumpRegionWalk walk;
+
+	/* Region descriptors are only valid inside the iterator, so each encoder walks the */
+	/* regions itself and encodes the ones it claims as it passes them                 */
+	walk.queue    = queue;
+	walk.position = 0;
+	walk.claimed  = claimRegion(queue);
+
+	if (walk.claimed < queue->regionCount) {
+		_VirtualMachine->memoryManagerFunctions->j9mm_iterate_regions(
+				_VirtualMachine,
+				_PortLibrary,
+				queue->space,
+				j9mm_iterator_flag_regions_read_only,
+				binaryHeapDumpRegionEncoderCallback,
+				&walk);
+	}
+
+	/* A claimed region the walk never reached still has to take its turn */
+	while (walk.claimed < queue->regionCount) {
+		appendRegion(queue, walk.claimed, NULL, NULL);
+		walk.claimed = claimRegion(queue);
+	}
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::claimRegion() method implementation                                      */
+/*                                                                                                */
+/**************************************************************************************************/
+UDATA
+BinaryHeapDumpWriter::claimRegion(HeapDumpRegionQueue* queue)
+{
+	UDATA index = queue->regionCount;
+
+	/* Regions are claimed in order, so every region before the one claimed is */
+	/* already held by an encoder and will be appended before this one is due  */
+	omrthread_monitor_enter(queue->monitor);
+	if (!_Error && (queue->nextRegion < queue->regionCount)) {
+		index = queue->nextRegion;
+		queue->nextRegion += 1;
+	}
+	omrthread_monitor_exit(queue->monitor);
+
+	return index;
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::encodeRegion() method implementation                                     */
+/*                                                                                                */
+/**************************************************************************************************/
+void
+BinaryHeapDumpWriter::encodeRegion(HeapDumpRegionQueue* queue, UDATA index, J9MM_IterateRegionDescriptor* regionDescriptor)
+{
+	/* Encode (and compress) the region into memory without reference to the dump's state. Once the */
+	/* buffer reaches compressedMemberSize() the encoder waits for the region's turn and hands the    */
+	/* data over, so each encoder holds at most one bounded segment however large the region is.     */
+	BinaryHeapDumpWriter encoder(this, queue, index);
+
+	if (!_Error) {
+		_VirtualMachine->memoryManagerFunctions->j9mm_iterate_region_objects(
+				_VirtualMachine,
+				_PortLibrary,
+				regionDescriptor,
+				0,
+				binaryHeapDumpObjectIteratorCallback,
+				&encoder);
+
+		if (_Compress && !encoder._Error && !encoder._Buffer.compress()) {
+			encoder._Error = true;
+		}
+	}
+
+	appendRegion(queue, index, &encoder, regionDescriptor);
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::appendRegion() method implementation                                     */
+/*                                                                                                */
+/**************************************************************************************************/
+void
+BinaryHeapDumpWriter::appendRegion(HeapDumpRegionQueue* queue, UDATA index, BinaryHeapDumpWriter* encoder, J9MM_IterateRegionDescriptor* regionDescriptor)
+{
+	PORT_ACCESS_FROM_PORT(_PortLibrary);
+
+	/* Wait for the region's turn, an encoder which has already written output holds it */
+	waitForTurn(queue, index);
+
+	if (_Error) {
+		/* Nothing more is written once the dump has failed */
+	} else if ((NULL != encoder) && encoder->_Error && !encoder->_Appending && (NULL != regionDescriptor)) {
+		/* The encoder ran out of memory before writing anything, so write the region directly instead */
+		_VirtualMachine->memoryManagerFunctions->j9mm_iterate_region_objects(
+				_VirtualMachine,
+				_PortLibrary,
+				regionDescriptor,
+				0,
+				binaryHeapDumpObjectIteratorCallback,
+				this);
+	} else if ((NULL == encoder) || encoder->_Error) {
+		j9nls_printf(PORTLIB, J9NLS_ERROR | J9NLS_STDERR, J9NLS_DMP_ERROR_IN_DUMP_STR, "Heap", "unable to encode heap region");
+		Trc_dump_reportDumpError_Event2("Heap", "unable to encode heap region");
+		_Error = true;
+	} else if (encoder->_HasFirstObject) {
+		/* The encoder left its first object for us to write relative to the real previous object */
+		if (!encoder->_Appending) {
+			writeObjectRecord(&encoder->_FirstObject);
+		}
+
+		writeEncodedData(encoder);
+
+		/* Carry on from where the encoder finished */
+		_ClassCache.merge(encoder->_ClassCache);
+		_CurrentObject = encoder->_CurrentObject;
+	}
+
+	/* Pass the turn on */
+	omrthread_monitor_enter(queue->monitor);
+	queue->appendedRegion += 1;
+	omrthread_monitor_notify_all(queue->monitor);
+	omrthread_monitor_exit(queue->monitor);
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::appendSegment() method implementation                                    */
+/*                                                                                                */
+/**************************************************************************************************/
+void
+BinaryHeapDumpWriter::appendSegment(BinaryHeapDumpWriter* encoder)
+{
+	/* Called on the encoder's thread when its buffer is full. Compress before waiting so */
+	/* that the work still overlaps with the encoders of the earlier regions.            */
+	if (_Compress && !encoder->_Buffer.compress()) {
+		encoder->_Error = true;
+		return;
+	}
+
+	if (!encoder->_Appending) {
+		/* The turn is kept until appendRegion() passes it on, so later segments do not wait */
+		waitForTurn(encoder->_Queue, encoder->_RegionIndex);
+		encoder->_Appending = true;
+
+		if (!_Error) {
+			writeObjectRecord(&encoder->_FirstObject);
+		}
+	}
+
+	writeEncodedData(encoder);
+
+	/* Stop the encoder's walk once the dump has failed */
+	if (_Error) {
+		encoder->_Error = true;
+	}
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::writeEncodedData() method implementation                                 */
+/*                                                                                                */
+/**************************************************************************************************/
+void
+BinaryHeapDumpWriter::writeEncodedData(BinaryHeapDumpWriter* encoder)
+{
+	if (!_Error && (0 != encoder->_Buffer.length())) {
+		/* Compressed output must be written as a sequence of whole gzip members */
+		flushBuffer();
+
+		if (!_Error) {
+			_OutputStream.writeCharacters(encoder->_Buffer.data(), encoder->_Buffer.length());
+			checkForIOError();
+		}
+	}
+
+	encoder->_Buffer.reset();
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::waitForTurn() method implementation                                      */
+/*                                                                                                */
+/**************************************************************************************************/
+void
+BinaryHeapDumpWriter::waitForTurn(HeapDumpRegionQueue* queue, UDATA index)
+{
+	omrthread_monitor_enter(queue->monitor);
+	while (queue->appendedRegion != index) {
+		omrthread_monitor_wait(queue->monitor);
+	}
+	omrthread_monitor_exit(queue->monitor);
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::flushBuffer() method implementation                                      */
+/*                                                                                                */
+/**************************************************************************************************/
+void
+BinaryHeapDumpWriter::flushBuffer(void)
+{
+	if (_RegionEncoder) {
+		/* A full region encoder hands its data to the writer appending the regions */
+		if (!_Error && (0 != _Buffer.length())) {
+			_Parent->appendSegment(this);
+		}
+		return;
+	}
+
+	if (!_Compress || _Error || (0 == _Buffer.length())) {
+		return;
+	}
+
+	if (_Buffer.compress()) {
+		_OutputStream.writeCharacters(_Buffer.data(), _Buffer.length());
+	}
+
+	checkForIOError();
+	_Buffer.reset();
+}
+
 /**************************************************************************************************/
 /*                                                                                                */
 /* BinaryHeapDumpWriter::writeDumpFileHeader() method implementation                              */
@@ -1403,6 +2010,12 @@ BinaryHeapDumpWriter::writeObjectRecord(J9MM_IterateObjectDescriptor* objectDesc
 	/* Handle class, array and normal objects separately */
 	if (J9VM_IS_INITIALIZED_HEAPCLASS_VM(_VirtualMachine, currentObject)) {
 		/* Do nothing - heap classes are handled in a separate walk */
+	} else if (_RegionEncoder && !_HasFirstObject) {
+		/* The gap to a region's first object depends on the region before it, so leave the */
+		/* first object to be written when the region is appended and start the gaps from it */
+		_FirstObject    = *objectDescriptor;
+		_HasFirstObject = true;
+		_CurrentObject  = currentObject;
 	} else if (J9ROMCLASS_IS_ARRAY(currentClass->romClass)) {
 		writeArrayObjectRecord(objectDescriptor);
 	} else {
@@ -1447,8 +2060,9 @@ BinaryHeapDumpWriter::writeNormalObjectRecord(J9MM_IterateObjectDescriptor* obje
 	J9Class* objectClass = J9OBJECT_CLAZZ_VM(_VirtualMachine, currentObject);
 	void* objectClassAddress = J9VM_J9CLASS_TO_HEAPCLASS(objectClass);
 
-	/* Determine whether this class is cached */
-	int classCacheIndex = _ClassCache.find(objectClassAddress);
+	/* Determine whether this class is cached                                         */
+	/* NB : A region encoder can't know what the reader's cache will hold at this point */
+	int classCacheIndex = _RegionEncoder ? -1 : _ClassCache.find(objectClassAddress);
 
 	int hashCode = getObjectHashCode(currentObject);
 
@@ -2384,7 +2998,14 @@ void
 BinaryHeapDumpWriter::checkForIOError(void)
 {
 	PORT_ACCESS_FROM_PORT(_PortLibrary);
-	if (_OutputStream.hasError()) {
+	if (_Buffer.hasError()) {
+		/* Region encoders leave reporting to the thread appending their output */
+		if (!_RegionEncoder) {
+			j9nls_printf(PORTLIB, J9NLS_ERROR | J9NLS_STDERR, J9NLS_DMP_ERROR_IN_DUMP_STR, "Heap", "unable to buffer heap dump data");
+			Trc_dump_reportDumpError_Event2("Heap", "unable to buffer heap dump data");
+		}
+		_Error = true;
+	} else if (_OutputStream.hasError()) {
 		j9nls_printf(PORTLIB, J9NLS_ERROR | J9NLS_STDERR, J9NLS_DMP_ERROR_IN_DUMP_STR, "Heap", j9error_last_error_message());
 		Trc_dump_reportDumpError_Event2("Heap", j9error_last_error_message());
 		_Error = true;
@@ -2395,29 +3016,41 @@ void
 BinaryHeapDumpWriter::writeCharacters (const char* data, IDATA length)
 {
 	if (!_Error) {
-		_OutputStream.writeCharacters(data,length);
+		if (_Compress || _RegionEncoder) {
+			_Buffer.writeCharacters(data, length);
+		} else {
+			_OutputStream.writeCharacters(data,length);
+		}
 
 		checkForIOError();
+
+		if (_Buffer.length() >= compressedMemberSize()) {
+			flushBuffer();
+		}
 	}
 }
 
 void
 BinaryHeapDumpWriter::writeCharacters (const char* data)
 {
-	if (!_Error) {
-		_OutputStream.writeCharacters(data);
-
-		checkForIOError();
-	}
+	writeCharacters(data, strlen(data));
 }
 
 void
 BinaryHeapDumpWriter::writeNumber (IDATA data, int length)
 {
 	if (!_Error) {
-		_OutputStream.writeNumber(data, length);
+		if (_Compress || _RegionEncoder) {
+			_Buffer.writeNumber(data, length);
+		} else {
+			_OutputStream.writeNumber(data, length);
+		}
 
 		checkForIOError();
+
+		if (_Buffer.length() >= compressedMemberSize()) {
+			flushBuffer();
+		}
 	}
 }
 
@@ -2452,6 +3085,45 @@ binaryHeapDumpRegionIteratorCallback(J9JavaVM* vm, J9MM_IterateRegionDescriptor*
 	return ((BinaryHeapDumpWriter*)userData)->_Error ? JVMTI_ITERATION_ABORT : JVMTI_ITERATION_CONTINUE;
 }
 
+static jvmtiIterationControl
+binaryHeapDumpRegionCounterCallback(J9JavaVM* vm, J9MM_IterateRegionDescriptor* regionDescription, void* userData)
+{
+	*(UDATA*)userData += 1;
+	return JVMTI_ITERATION_CONTINUE;
+}
+
+static jvmtiIterationControl
+binaryHeapDumpRegionEncoderCallback(J9JavaVM* vm, J9MM_IterateRegionDescriptor* regionDescription, void* userData)
+{
+	HeapDumpRegionWalk* walk = (HeapDumpRegionWalk*)userData;
+	HeapDumpRegionQueue* queue = walk->queue;
+
+	if (walk->position == walk->claimed) {
+		queue->writer->encodeRegion(queue, walk->claimed, regionDescription);
+		walk->claimed = queue->writer->claimRegion(queue);
+	}
+	walk->position += 1;
+
+	return (walk->claimed < queue->regionCount) ? JVMTI_ITERATION_CONTINUE : JVMTI_ITERATION_ABORT;
+}
+
+static int J9THREAD_PROC
+binaryHeapDumpRegionWorker(void* entryArg)
+{
+	HeapDumpRegionQueue* queue = (HeapDumpRegionQueue*)entryArg;
+
+	queue->writer->encodeRegions(queue);
+
+	omrthread_monitor_enter(queue->monitor);
+	queue->activeWorkers -= 1;
+	omrthread_monitor_notify_all(queue->monitor);
+	/* Exit the monitor and the thread together so the queue can be released once we are counted out */
+	omrthread_exit(queue->monitor);
+
+	/* NO RETURN */
+	return 0;
+}
+
 static jvmtiIterationControl
 binaryHeapDumpObjectIteratorCallback(J9JavaVM* vm, J9MM_IterateObjectDescriptor* objectDescriptor, void* userData)
 {
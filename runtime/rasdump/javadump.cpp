@@ -341,6 +341,8 @@ private :
 	void        writeObject                  (j9object_t obj);
 	void        writeThread                  (J9VMThread* vmThread, J9PlatformThread *nativeThread, UDATA vmstate, UDATA javaState, UDATA javaPriority, j9object_t lockObject, J9VMThread *lockOwnerThread);
 	void        writeThreadName              (J9VMThread* vmThread);
+	void        writeThreadObjectName        (J9VMThread* vmThread, j9object_t threadObject);
+	j9object_t  getUnmountedMonitorOwner     (j9object_t obj, UDATA *count);
 	void        writeThreadBlockers          (J9VMThread* vmThread, UDATA vmstate, j9object_t lockObject, J9VMThread *lockOwnerThread);
 	UDATA       writeFrame                   (J9StackWalkState* state);
 	UDATA       writeExceptionFrame          (void *userData, J9ROMClass* romClass, J9ROMMethod* romMethod, J9UTF8* sourceFile, UDATA lineNumber);
@@ -4104,6 +4106,9 @@ JavaCoreDumpWriter::findThreadCycle(J9VMThread* vmThread, J9HashTable* deadlocks
 			status = stateClean;
 		}
 
+		/* A monitor held by an unmounted virtual thread has no owner thread. The virtual thread
+		 * is parked rather than blocked, so the chain can't be part of a cycle.
+		 */
 		if ((NULL == owner) || (owner == vmThread)) {
 			return;
 		} else if (J9VMTHREAD_STATE_BLOCKED == status) {
@@ -4191,6 +4196,7 @@ void
 JavaCoreDumpWriter::writeMonitorObject(J9ThreadMonitor* monitor, j9object_t obj, blocked_thread_record *threadStore)
 {
 	J9VMThread* owner = NULL;
+	j9object_t  unmountedOwner = NULL;
 	UDATA       count = 0;
 
 	J9ThreadAbstractMonitor* lock = (J9ThreadAbstractMonitor*)monitor;
@@ -4199,13 +4205,17 @@ JavaCoreDumpWriter::writeMonitorObject(J9ThreadMonitor* monitor, j9object_t obj,
 
 	if (NULL != obj) {
 		owner = getObjectMonitorOwner(_VirtualMachine, obj, &count);
+		if ((NULL == owner) && (NULL == lockOwner)) {
+			/* The monitor may be held by an unmounted virtual thread. */
+			unmountedOwner = getUnmountedMonitorOwner(obj, &count);
+		}
 	} else if (NULL != lockOwner) {
 		owner = getVMThreadFromOMRThread(_VirtualMachine, lockOwner);
 		count = lock->count;
 	}
 
 	/* Skip monitor if not interesting */
-	if (((NULL != obj) || (NULL == lock->name)) && (NULL == owner) && (NULL == lockOwner) && (NULL == lock->waiting)) {
+	if (((NULL != obj) || (NULL == lock->name)) && (NULL == owner) && (NULL == lockOwner) && (NULL == unmountedOwner) && (NULL == lock->waiting)) {
 		return;
 	}
 
@@ -4252,6 +4262,13 @@ JavaCoreDumpWriter::writeMonitorObject(J9ThreadMonitor* monitor, j9object_t obj,
 		}
 		_OutputStream.writeCharacters("), entry count ");
 		_OutputStream.writeInteger(count, "%zu");
+	} else if (NULL != unmountedOwner) {
+		_OutputStream.writeCharacters("owner \"");
+		writeThreadObjectName(_VirtualMachine->mainThread, unmountedOwner);
+		_OutputStream.writeCharacters("\" (java/lang/VirtualThread:");
+		_OutputStream.writePointer(unmountedOwner);
+		_OutputStream.writeCharacters("), entry count ");
+		_OutputStream.writeInteger(count, "%zu");
 	} else {
 		_OutputStream.writeCharacters("<unowned>");
 	}
@@ -4760,6 +4777,46 @@ JavaCoreDumpWriter::writeThreadName(J9VMThread* vmThread)
 	}
 }
 
+/**************************************************************************************************/
+/*                                                                                                */
+/* JavaCoreDumpWriter::writeThreadObjectName() method implementation                              */
+/*                                                                                                */
+/**************************************************************************************************/
+void
+JavaCoreDumpWriter::writeThreadObjectName(J9VMThread* vmThread, j9object_t threadObject)
+{
+	PORT_ACCESS_FROM_PORT(_PortLibrary);
+	j9object_t nameObject = J9VMJAVALANGTHREAD_NAME(vmThread, threadObject);
+	char *threadName = getVMThreadNameFromString(vmThread, nameObject);
+
+	if (NULL != threadName) {
+		_OutputStream.writeCharacters(threadName);
+		j9mem_free_memory(threadName);
+	} else {
+		_OutputStream.writeCharacters("<unknown>");
+	}
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* JavaCoreDumpWriter::getUnmountedMonitorOwner() method implementation                           */
+/*                                                                                                */
+/**************************************************************************************************/
+j9object_t
+JavaCoreDumpWriter::getUnmountedMonitorOwner(j9object_t obj, UDATA *count)
+{
+	j9object_t owner = NULL;
+
+#if JAVA_SPEC_VERSION >= 21
+	/* Finding the owner walks the continuation objects, which is only safe while the heap can't change. */
+	if ((J9_XACCESS_EXCLUSIVE == _VirtualMachine->exclusiveAccessState) || (J9_XACCESS_EXCLUSIVE == _VirtualMachine->safePointState)) {
+		owner = _VirtualMachine->internalVMFunctions->getUnmountedObjectMonitorOwner(_VirtualMachine->mainThread, obj, count);
+	}
+#endif /* JAVA_SPEC_VERSION >= 21 */
+
+	return owner;
+}
+
 /**************************************************************************************************/
 /*                                                                                                */
 /* JavaCoreDumpWriter::writeThreadBlockers() method implementation                                        */
@@ -4775,6 +4832,10 @@ JavaCoreDumpWriter::writeThreadBlockers(J9VMThread* vmThread, UDATA vmstate, j9o
 	j9object_t lockOwnerObject = NULL;
 	if (J9VMTHREAD_STATE_BLOCKED == vmstate) {
 		if (NULL != lockObject) {
+			if (NULL == lockOwnerThread) {
+				/* The monitor may be held by an unmounted virtual thread. */
+				lockOwnerObject = getUnmountedMonitorOwner(lockObject, NULL);
+			}
 			_OutputStream.writeCharacters("3XMTHREADBLOCK     Blocked on: ");
 		} else {
 			return; // Probably a system monitor, nothing interesting to write.
@@ -4835,22 +4896,13 @@ JavaCoreDumpWriter::writeThreadBlockers(J9VMThread* vmThread, UDATA vmstate, j9o
 		_OutputStream.writePointer(lockOwnerThread->threadObject);
 		_OutputStream.writeCharacters(")");
 	} else if (NULL != lockOwnerObject) {
-		// The owning thread has terminated. We need to report this
-		// as the parked thread is deadlocked. We can't get the thread
-		// name from the lockOwner thread, it's null, but it will be
-		// available inside the java/lang/Thread object on the heap.
-		j9object_t nameObject = J9VMJAVALANGTHREAD_NAME(vmThread, lockOwnerObject);
-		char *threadName = getVMThreadNameFromString(vmThread, nameObject);
-		if (NULL != threadName) {
-			// Port access so we can free threadName.
-			PORT_ACCESS_FROM_JAVAVM(vmThread->javaVM);
-			_OutputStream.writeCharacters("\"");
-			_OutputStream.writeCharacters(threadName);
-			_OutputStream.writeCharacters("\"");
-			j9mem_free_memory(threadName);
-		} else {
-			_OutputStream.writeCharacters("<unknown>");
-		}
+		// The owning thread has terminated, or is a virtual thread that
+		// is not mounted on a carrier. We can't get the thread name from
+		// the lockOwner thread, it's null, but it will be available inside
+		// the java/lang/Thread object on the heap.
+		_OutputStream.writeCharacters("\"");
+		writeThreadObjectName(vmThread, lockOwnerObject);
+		_OutputStream.writeCharacters("\"");
 		_OutputStream.writeCharacters(" (J9VMThread:");
 		_OutputStream.writeCharacters("<null>");
 		_OutputStream.writeCharacters(", java/lang/Thread:");
@@ -471,6 +471,7 @@ SH_CacheMap::startup(J9VMThread* currentThread, J9SharedClassPreinitConfig* pico
 	bool doRetry = false;
 	U_64* runtimeFlags = _runtimeFlags;
 	char cacheUniqueID[J9SHR_UNIQUE_CACHE_ID_BUFSIZE];
+	bool storedCacheUniqueID = false;
 	memset(cacheUniqueID, 0, sizeof(cacheUniqueID));
 
 	do {
@@ -520,7 +521,9 @@ SH_CacheMap::startup(J9VMThread* currentThread, J9SharedClassPreinitConfig* pico
 
 				if (storeToCcHead && !isCacheUniqueIdStored && !ccPrevious->isRunningReadOnly()) {
 					if (ccPrevious->enterWriteMutex(currentThread, false, fnName) == 0) {
-						storeCacheUniqueID(currentThread, cacheDirBuf, ccToUse->getCreateTime(), ccToUse->getMetadataBytes(), ccToUse->getClassesBytes(), ccToUse->getLineNumberTableBytes(), ccToUse->getLocalVariableTableBytes(), &cacheUniqueIDPtr, &idLen);
+						if (1 == storeCacheUniqueID(currentThread, cacheDirBuf, ccToUse->getCreateTime(), ccToUse->getMetadataBytes(), ccToUse->getClassesBytes(), ccToUse->getLineNumberTableBytes(), ccToUse->getLocalVariableTableBytes(), &cacheUniqueIDPtr, &idLen)) {
+							storedCacheUniqueID = true;
+						}
 						Trc_SHR_Assert_True(idLen < sizeof(cacheUniqueID));
 						memcpy(cacheUniqueID, cacheUniqueIDPtr, idLen);
 						cacheUniqueID[idLen] = 0;
@@ -723,6 +726,14 @@ error:
 		return -1;
 	}
 
+	if (storedCacheUniqueID) {
+		/* This JVM created the top layer, so the pre-requisite cache has just been read into the hashtables */
+		if (_ccHead->enterWriteMutex(currentThread, false, fnName) == 0) {
+			storeROMClassIndex(currentThread, cacheUniqueID);
+			_ccHead->exitWriteMutex(currentThread, fnName);
+		}
+	}
+
 	if (!initializeROMSegmentList(currentThread)) {
 		CACHEMAP_TRACE(J9SHR_VERBOSEFLAG_ENABLE_VERBOSE_DEFAULT, J9NLS_ERROR, J9NLS_SHRC_CM_FAILED_CREATE_ROMIMAGE);
 		Trc_SHR_CM_startup_Exit4(currentThread);
@@ -1151,6 +1162,7 @@ SH_CacheMap::readCache(J9VMThread* currentThread, SH_CompositeCacheImpl* cache,
 	IDATA result = 0;
 	IDATA expectedCntr = expectedUpdates;
 	SH_Manager* manager = NULL;
+	bool useROMClassIndex = false;
 	PORT_ACCESS_FROM_PORT(_portlib);
 
 	if (!cache->hasWriteMutex(currentThread)) {
@@ -1159,6 +1171,11 @@ SH_CacheMap::readCache(J9VMThread* currentThread, SH_CompositeCacheImpl* cache,
 
 	Trc_SHR_CM_readCache_Entry(currentThread, expectedUpdates);
 
+	/* A lower layer is only read once, in full, during startup */
+	if ((false == startupForStats) && (-1 == expectedUpdates)) {
+		useROMClassIndex = addPrereqROMClassIndex(currentThread, cache);
+	}
+
 	/* For each cached item, find a suitable manager and store it */
 	do {
 		it = (ShcItem*)cache->nextEntry(currentThread, NULL);		/* IMPORTANT: Do not skip stale entries (can end up with lone orphans) */
@@ -1173,6 +1190,14 @@ SH_CacheMap::readCache(J9VMThread* currentThread, SH_CompositeCacheImpl* cache,
 				}
 				Trc_SHR_CM_readCache_Exit1(currentThread, it);
 				result = CM_CACHE_CORRUPT;
+			} else if (useROMClassIndex
+				&& ((TYPE_ROMCLASS == itemType) || (TYPE_SCOPED_ROMCLASS == itemType) || (TYPE_ORPHAN == itemType))
+			) {
+				/* Already in the prebuilt index, the ROMClass manager adds it to its hashtable when it is looked up */
+				if (expectedCntr != -1) {
+					--expectedCntr;
+				}
+				++result;
 			} else {
 				rc = getAndStartManagerForType(currentThread, itemType, &manager);
 
@@ -6843,6 +6868,19 @@ SH_CacheMap::getPrereqCache(J9VMThread* currentThread, const char* cacheDir, SH_
 			*isCacheUniqueIdStored = true;
 			Trc_SHR_CM_getPrereqCache_Found(currentThread, J9UTF8_LENGTH(scopeUTF8), J9UTF8_DATA(scopeUTF8));
 			result = 1;
+
+			if (false == startupForStats) {
+				/* The index of the pre-requisite cache, if there is one, is stored right after its ID. It is left for readCache() to read. */
+				ShcItem* nextItem = (ShcItem*)ccToUse->peekNextEntry(currentThread);
+
+				if ((NULL != nextItem) && (TYPE_BYTE_DATA == ITEMTYPE(nextItem))) {
+					const ByteDataWrapper* bdw = (const ByteDataWrapper*)ITEMDATA(nextItem);
+
+					if (J9SHR_DATA_TYPE_ROMCLASS_INDEX == BDWTYPE(bdw)) {
+						ccToUse->setPrereqROMClassIndex(bdw);
+					}
+				}
+			}
 		} else {
 			Trc_SHR_CM_getPrereqCache_NotFound(currentThread);
 			result = 0;
@@ -6957,6 +6995,122 @@ SH_CacheMap::storeCacheUniqueID(J9VMThread* currentThread, const char* cacheDir,
 	return result;
 }
 
+/**
+ *  Store a prebuilt index of the ROMClasses in the pre-requisite cache of a newly created top layer cache.
+ *  Lower layer caches are read-only, so the index is stored in the top layer, right after the pre-requisite cache ID,
+ *  and keyed by that ID. JVMs that later start up the same layers use it instead of adding every ROMClass of the
+ *  pre-requisite cache to the ROMClass hashtable.
+ *
+ *	@param [in] currentThread The current JVM thread
+ *	@param [in] prereqCacheID The unique ID of the pre-requisite cache
+ *
+ *	THREADING: MUST be called with the _ccHead write mutex held
+ */
+void
+SH_CacheMap::storeROMClassIndex(J9VMThread* currentThread, const char* prereqCacheID)
+{
+	SH_ROMClassManager* localRCM = getROMClassManager(currentThread);
+	SH_ScopeManager* localSCM = getScopeManager(currentThread);
+	SH_ByteDataManager* localBDM = getByteDataManager(currentThread);
+	SH_CompositeCacheImpl* prereqCache = _ccHead->getNext();
+	char utfKey[J9SHR_UNIQUE_CACHE_ID_BUFSIZE + sizeof(J9UTF8)];
+	J9UTF8* utfKeyStruct = (J9UTF8*)utfKey;
+	const J9UTF8* tokenKey = NULL;
+	ROMClassIndexHeader* index = NULL;
+	UDATA indexBytes = 0;
+	U_32 layer = 0;
+	UDATA keylen = strlen(prereqCacheID);
+	PORT_ACCESS_FROM_PORT(_portlib);
+
+	Trc_SHR_Assert_True(_ccHead->hasWriteMutex(currentThread));
+
+	if ((NULL == localRCM) || (NULL == localSCM) || (NULL == localBDM) || (NULL == prereqCache)
+		|| _ccHead->isRunningReadOnly()
+		|| (false == getCacheLayerIndex(prereqCache, &layer))
+	) {
+		return;
+	}
+
+	/* The pre-requisite cache ID item is reused as the key */
+	J9UTF8_SET_LENGTH(utfKeyStruct, (U_16)keylen);
+	memcpy((char*)J9UTF8_DATA(utfKeyStruct), prereqCacheID, keylen);
+	tokenKey = localSCM->findScopeForUTF(currentThread, utfKeyStruct);
+	if (NULL == tokenKey) {
+		Trc_SHR_CM_storeROMClassIndex_Failed(currentThread, layer);
+		return;
+	}
+
+	index = localRCM->buildROMClassIndex(currentThread, _cacheAddressRangeArray[layer].cacheHeader, _cacheAddressRangeArray[layer].cacheEnd, &indexBytes);
+	if (NULL != index) {
+		J9SharedDataDescriptor descriptor;
+
+		descriptor.address = (U_8*)index;
+		descriptor.length = indexBytes;
+		descriptor.type = J9SHR_DATA_TYPE_ROMCLASS_INDEX;
+		descriptor.flags = 0;
+		if (NULL == addByteDataToCache(currentThread, localBDM, tokenKey, &descriptor, NULL, false)) {
+			Trc_SHR_CM_storeROMClassIndex_Failed(currentThread, layer);
+		} else {
+			Trc_SHR_CM_storeROMClassIndex_Stored(currentThread, layer, index->numEntries, indexBytes);
+		}
+		j9mem_free_memory(index);
+	}
+}
+
+/**
+ *  Pass the prebuilt ROMClass index of a cache, which is stored in the cache above it, to the ROMClass manager.
+ *
+ *	@param [in] currentThread The current JVM thread
+ *	@param [in] cache The cache being read
+ *
+ *	@return true if the ROMClass manager uses the index, in which case the ROMClass items of cache do not need to be stored in it
+ */
+bool
+SH_CacheMap::addPrereqROMClassIndex(J9VMThread* currentThread, SH_CompositeCacheImpl* cache)
+{
+	SH_CompositeCacheImpl* dependentCache = cache->getPrevious();
+	const ByteDataWrapper* bdw = NULL;
+	SH_ROMClassManager* localRCM = NULL;
+	U_32 layer = 0;
+	bool result = false;
+
+	if (NULL != dependentCache) {
+		bdw = dependentCache->getPrereqROMClassIndex();
+	}
+	if ((NULL != bdw)
+		&& getCacheLayerIndex(cache, &layer)
+		&& (NULL != (localRCM = getROMClassManager(currentThread)))
+	) {
+		result = localRCM->addROMClassIndex(currentThread, layer, (const ROMClassIndexHeader*)getDataFromByteDataWrapper(bdw), BDWLEN(bdw));
+		if (result) {
+			Trc_SHR_CM_readCache_UsingROMClassIndex(currentThread, layer);
+		}
+	}
+	return result;
+}
+
+/**
+ *  Find the position of a cache in _cacheAddressRangeArray, which is the layer used in J9ShrOffset
+ *
+ *	@param [in] cache The cache
+ *	@param [out] layer The position of the cache
+ *
+ *	@return true if the cache is found, false otherwise
+ */
+bool
+SH_CacheMap::getCacheLayerIndex(SH_CompositeCacheImpl* cache, U_32* layer)
+{
+	void* cacheHeader = (void*)cache->getCacheHeaderAddress();
+
+	for (U_32 i = 0; i <= _numOfCacheLayers; i++) {
+		if (cacheHeader == _cacheAddressRangeArray[i].cacheHeader) {
+			*layer = i;
+			return true;
+		}
+	}
+	return false;
+}
+
 /**
  *	Check if an address range is in the shared cache
  *
@@ -444,6 +444,12 @@ private:
 	void handleStartupError(J9VMThread* currentThread, SH_CompositeCacheImpl* ccToUse, IDATA errorCode, U_64 runtimeFlags, UDATA verboseFlags, bool *doRetry, IDATA *deleteRC);
 	
 	void setCacheAddressRangeArray(void);
+
+	void storeROMClassIndex(J9VMThread* currentThread, const char* prereqCacheID);
+
+	bool addPrereqROMClassIndex(J9VMThread* currentThread, SH_CompositeCacheImpl* cache);
+
+	bool getCacheLayerIndex(SH_CompositeCacheImpl* cache, U_32* layer);
 	
 	void getJ9ShrOffsetFromAddress(const void* address, J9ShrOffset* offset);
 	
@@ -219,6 +219,7 @@ SH_CompositeCacheImpl::commonInit(J9JavaVM* vm)
 	_currentROMSegment = NULL;
 	_next = NULL;
 	_previous = NULL;
+	_prereqROMClassIndex = NULL;
 	_ccHead = NULL;
 	_cacheFullFlags = 0;
 	_doMetaProtect = _doSegmentProtect = _doHeaderProtect = _doHeaderReadWriteProtect = _doReadWriteSync = _doPartialPagesProtect = false;
@@ -1885,6 +1886,39 @@ SH_CompositeCacheImpl::nextEntry(J9VMThread* currentThread, UDATA* staleItems)
 	return result;
 }
 
+/**
+ * Returns the entry that the next call to nextEntry() would return, without moving past it.
+ * Stale entries are not skipped.
+ *
+ * @param [in] currentThread  The current thread
+ *
+ * @return The next entry, or NULL if there are no more entries or the entry header is not valid
+ *
+ * THREADING: Should be protected by the cache write mutex or the refresh mutex, as for nextEntry()
+ */
+SH_CompositeCacheImpl::BlockPtr
+SH_CompositeCacheImpl::peekNextEntry(J9VMThread* currentThread)
+{
+	BlockPtr result = NULL;
+
+	if (!_started) {
+		Trc_SHR_Assert_ShouldNeverHappen();
+		return NULL;
+	}
+	Trc_SHR_Assert_True((currentThread == _commonCCInfo->hasRefreshMutexThread) || hasWriteMutex(currentThread));
+
+	BlockPtr free = UPDATEPTR(_theca);
+	if ((BlockPtr)_scan > free) {
+		UDATA maxCCItemLen = (((UDATA)_scan) - ((UDATA)free)) + sizeof(struct ShcItemHdr);
+
+		/* Leave reporting a corrupt length to nextEntry() */
+		if ((CCITEMLEN(_scan) > 0) && (CCITEMLEN(_scan) <= maxCCItemLen)) {
+			result = (BlockPtr)CCITEM(_scan);
+		}
+	}
+	return result;
+}
+
 /**
  * Enter shared semaphore mutex to access the shared classes cache.
  *
@@ -4616,6 +4650,24 @@ SH_CompositeCacheImpl::getPrevious(void)
 	return _previous;
 }
 
+/*
+ * Set the prebuilt ROMClass index of the pre-requisite cache, which is stored in this cache
+ */
+void
+SH_CompositeCacheImpl::setPrereqROMClassIndex(const ByteDataWrapper* index)
+{
+	_prereqROMClassIndex = index;
+}
+
+/*
+ * Return the prebuilt ROMClass index of the pre-requisite cache, or NULL if this cache does not have one
+ */
+const ByteDataWrapper*
+SH_CompositeCacheImpl::getPrereqROMClassIndex(void) const
+{
+	return _prereqROMClassIndex;
+}
+
 J9MemorySegment*
 SH_CompositeCacheImpl::getCurrentROMSegment(void)
 {
@@ -143,6 +143,8 @@ public:
 	void reset(J9VMThread* currentThread, bool canUnlockCache = true);
 
 	BlockPtr nextEntry(J9VMThread* currentThread, UDATA* staleItems);
+
+	BlockPtr peekNextEntry(J9VMThread* currentThread);
 	
 	void markStale(J9VMThread* currentThread, BlockPtr block, bool isCacheLocked);
 
@@ -258,6 +260,10 @@ public:
 	
 	SH_CompositeCacheImpl* getPrevious(void);
 
+	void setPrereqROMClassIndex(const ByteDataWrapper* index);
+
+	const ByteDataWrapper* getPrereqROMClassIndex(void) const;
+
 	U_32 getBytesRequiredForItemWithAlign(ShcItem* itemToWrite, U_32 align, U_32 alignOffset);
 
 	U_32 getBytesRequiredForItem(ShcItem* itemToWrite);
@@ -489,6 +495,8 @@ private:
 	
 	I_8 _layer;
 
+	const ByteDataWrapper* _prereqROMClassIndex;
+
 	/* All instances of this class share a common debug & raw class data region
 	 */
 	ClassDebugDataProvider * _debugData;
@@ -131,7 +131,7 @@ public:
 	/* This function must be implemented by the manager subclass - it should store the new item given in its hashtable */
 	virtual bool storeNew(J9VMThread* currentThread, const ShcItem* itemInCache, SH_CompositeCache* cachelet) = 0;
 	
-	void getNumItems(J9VMThread* currentThread, UDATA* nonStaleItems, UDATA* staleItems);
+	virtual void getNumItems(J9VMThread* currentThread, UDATA* nonStaleItems, UDATA* staleItems);
 	
 	IDATA reset(J9VMThread* currentThread);
 	
@@ -210,6 +210,8 @@ protected:
 	static UDATA hllHashFn(void* item, void *userData);
 	static UDATA hllHashEqualFn(void* left, void* right, void *userData);
 
+	static UDATA generateHash(J9InternalVMFunctions* internalFunctionTable, U_8* key, U_16 keySize);
+
 private:
 	UDATA _state;
 
@@ -223,8 +225,6 @@ private:
 	HashLinkedListImpl* hllTableLookupHelper(J9VMThread* currentThread, U_8* key, U_16 keySize, UDATA hashValue, SH_CompositeCache* cachelet);
 
 	static UDATA countItemsInList(void* node, void* countData);
-
-	static UDATA generateHash(J9InternalVMFunctions* internalFunctionTable, U_8* key, U_16 keySize);
 };
 
 #endif /* !defined(MANAGER_HPP_INCLUDED) */
@@ -68,6 +68,10 @@ public:
 	virtual const J9ROMClass* findNextExisting(J9VMThread* currentThread, void * &findNextIterator, void * &firstFound, U_16 classnameLength, const char* classnameData) = 0;
 
 	virtual UDATA existsClassForName(J9VMThread* currentThread, const char* path, UDATA pathLen) = 0;
+
+	virtual ROMClassIndexHeader* buildROMClassIndex(J9VMThread* currentThread, const void* layerStart, const void* layerEnd, UDATA* indexBytes) = 0;
+
+	virtual bool addROMClassIndex(J9VMThread* currentThread, U_32 cacheLayer, const ROMClassIndexHeader* index, UDATA indexBytes) = 0;
 	
 };
 
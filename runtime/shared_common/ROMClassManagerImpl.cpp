@@ -36,7 +36,9 @@
 
 SH_ROMClassManagerImpl::SH_ROMClassManagerImpl()
  : _tsm(0),
-   _linkedListImplPool(0)
+   _linkedListImplPool(0),
+   _numPrebuiltIndexes(0),
+   _numUnmaterializedEntries(0)
 {
 }
 
@@ -142,9 +144,31 @@ SH_ROMClassManagerImpl::localTearDownPools(J9VMThread* currentThread)
 		_linkedListImplPool = NULL;
 	}
 
+	/* The hashtable is being emptied, so every prebuilt index entry has to be added again */
+	_numUnmaterializedEntries = 0;
+	for (UDATA i = 0; i < _numPrebuiltIndexes; i++) {
+		U_32 numEntries = _prebuiltIndexes[i].index->numEntries;
+
+		memset(_prebuiltIndexes[i].materialized, 0, (numEntries / 8) + 1);
+		_numUnmaterializedEntries += numEntries;
+	}
+
 	Trc_SHR_RMI_localTearDownPools_Exit(currentThread);
 }
 	
+void
+SH_ROMClassManagerImpl::localPostCleanup(J9VMThread* currentThread)
+{
+	PORT_ACCESS_FROM_PORT(_portlib);
+
+	for (UDATA i = 0; i < _numPrebuiltIndexes; i++) {
+		j9mem_free_memory(_prebuiltIndexes[i].materialized);
+		_prebuiltIndexes[i].materialized = NULL;
+	}
+	_numPrebuiltIndexes = 0;
+	_numUnmaterializedEntries = 0;
+}
+
 U_32
 SH_ROMClassManagerImpl::getHashTableEntriesFromCacheSize(UDATA cacheSizeBytes)
 {
@@ -175,11 +199,7 @@ SH_ROMClassManagerImpl::storeNew(J9VMThread* currentThread, const ShcItem* itemI
 	}
 	Trc_SHR_RMI_storeNew_Entry(currentThread, itemInCache);
 
-	if (ITEMTYPE(itemInCache) == TYPE_ORPHAN) {
-		romClass = (J9ROMClass*)_cache->getAddressFromJ9ShrOffset(&(((OrphanWrapper*)ITEMDATA(itemInCache))->romClassOffset));
-	} else {
-		romClass = (J9ROMClass*)_cache->getAddressFromJ9ShrOffset(&(((ROMClassWrapper*)ITEMDATA(itemInCache))->romClassOffset));
-	}
+	romClass = getROMClassForItem(itemInCache);
 
 	utf8Name = J9ROMCLASS_CLASSNAME(romClass);
 
@@ -190,6 +210,8 @@ SH_ROMClassManagerImpl::storeNew(J9VMThread* currentThread, const ShcItem* itemI
 	}
 
 	if (ITEMTYPE(itemInCache) == TYPE_ROMCLASS) {
+		/* The orphan may only be known to a prebuilt index of a lower layer */
+		materializeIndexedROMClasses(currentThread, (const char*)J9UTF8_DATA(utf8Name), J9UTF8_LENGTH(utf8Name));
 		orphanReunited = reuniteOrphan(currentThread, (const char*)J9UTF8_DATA(utf8Name), J9UTF8_LENGTH(utf8Name), itemInCache, romClass);
 	}
 	if (!orphanReunited) {
@@ -276,7 +298,7 @@ SH_ROMClassManagerImpl::findNextExisting(J9VMThread* currentThread, void * &find
 
 	if (findNextIterator == NULL) {
 		Trc_SHR_RMI_findNextROMClass_FirstElem_Event(currentThread);
-		walk = hllTableLookup(currentThread, classnameData, classnameLength, true);
+		walk = indexedTableLookup(currentThread, classnameData, classnameLength);
 		firstFound = (void *)walk;
 		findNextIterator = (void *)walk;
 	} else {
@@ -338,7 +360,7 @@ SH_ROMClassManagerImpl::findNextExisting(J9VMThread* currentThread, void * &find
 UDATA
 SH_ROMClassManagerImpl::existsClassForName(J9VMThread* currentThread, const char* path, UDATA pathLen)
 {
-	return (hllTableLookup(currentThread, path, (U_16)pathLen, true) != NULL);	
+	return (indexedTableLookup(currentThread, path, (U_16)pathLen) != NULL);
 }
 
 
@@ -399,7 +421,7 @@ SH_ROMClassManagerImpl::locateROMClass(J9VMThread* currentThread, const char* pa
 	result->foundAtIndex = -1;
 	result->staleCPEI = NULL;
 
-	found = hllTableLookup(currentThread, path, (U_16)pathLen, true);
+	found = indexedTableLookup(currentThread, path, (U_16)pathLen);
 
 	if (!found) {
 		/*** NOTHING IS FOUND, TELL THE CALLER THAT IT MIGHT BE WORTH WAITING ***/
@@ -621,3 +643,291 @@ SH_ROMClassManagerImpl::customCountItemsInList(void* entry, void* opaque)
 	} while (node != walk);
 	return 0;
 }
+
+/**
+ * Returns the ROMClass referenced by a TYPE_ROMCLASS, TYPE_SCOPED_ROMCLASS or TYPE_ORPHAN item
+ */
+J9ROMClass*
+SH_ROMClassManagerImpl::getROMClassForItem(const ShcItem* item)
+{
+	if (ITEMTYPE(item) == TYPE_ORPHAN) {
+		return (J9ROMClass*)_cache->getAddressFromJ9ShrOffset(&(((OrphanWrapper*)ITEMDATA(item))->romClassOffset));
+	}
+	return (J9ROMClass*)_cache->getAddressFromJ9ShrOffset(&(((ROMClassWrapper*)ITEMDATA(item))->romClassOffset));
+}
+
+/**
+ * Looks up a class name in the hashtable after adding any matching entries from the prebuilt indexes.
+ *
+ * @param[in] currentThread The current thread
+ * @param[in] name The class name
+ * @param[in] nameLen The length of the class name
+ *
+ * @return The list of hashtable entries for the name, or NULL if there are none
+ */
+SH_Manager::HashLinkedListImpl*
+SH_ROMClassManagerImpl::indexedTableLookup(J9VMThread* currentThread, const char* name, U_16 nameLen)
+{
+	materializeIndexedROMClasses(currentThread, name, nameLen);
+	return hllTableLookup(currentThread, name, nameLen, true);
+}
+
+/**
+ * Adds the prebuilt index entries for a class name to the hashtable, if they have not been added yet.
+ * Indexes are searched from the lowest layer up, so orphans are known before the ROMClass items that reunite them.
+ *
+ * @param[in] currentThread The current thread
+ * @param[in] name The class name
+ * @param[in] nameLen The length of the class name
+ */
+void
+SH_ROMClassManagerImpl::materializeIndexedROMClasses(J9VMThread* currentThread, const char* name, U_16 nameLen)
+{
+	U_32 hashValue = 0;
+
+	/* Unsynchronized check: once every index entry has been added, there is nothing left to do */
+	if (0 == _numUnmaterializedEntries) {
+		return;
+	}
+
+	hashValue = (U_32)generateHash(currentThread->javaVM->internalVMFunctions, (U_8*)name, nameLen);
+
+	if (lockHashTable(currentThread, "materializeIndexedROMClasses")) {
+		for (UDATA i = 0; i < _numPrebuiltIndexes; i++) {
+			PrebuiltROMClassIndex* prebuilt = &_prebuiltIndexes[i];
+			const U_32* buckets = RCIBUCKETS(prebuilt->index);
+			const ROMClassIndexEntry* entries = RCIENTRIES(prebuilt->index);
+			U_32 bucket = hashValue % prebuilt->index->numBuckets;
+
+			for (U_32 j = buckets[bucket]; j < buckets[bucket + 1]; j++) {
+				U_8 bit = (U_8)(1 << (j % 8));
+
+				if ((entries[j].hashValue == hashValue)
+					&& (entries[j].keyLength == nameLen)
+					&& (0 == (prebuilt->materialized[j / 8] & bit))
+				) {
+					J9ShrOffset itemOffset;
+					const ShcItem* item = NULL;
+					J9ROMClass* romClass = NULL;
+					J9UTF8* utf8Name = NULL;
+
+#if defined(J9VM_OPT_MULTI_LAYER_SHARED_CLASS_CACHE)
+					itemOffset.cacheLayer = prebuilt->cacheLayer;
+#endif /* defined(J9VM_OPT_MULTI_LAYER_SHARED_CLASS_CACHE) */
+					itemOffset.offset = entries[j].itemOffset;
+					item = (const ShcItem*)_cache->getAddressFromJ9ShrOffset(&itemOffset);
+					romClass = getROMClassForItem(item);
+					utf8Name = J9ROMCLASS_CLASSNAME(romClass);
+
+					if ((J9UTF8_LENGTH(utf8Name) >= nameLen) && (0 == memcmp(J9UTF8_DATA(utf8Name), name, nameLen))) {
+						bool orphanReunited = false;
+
+						prebuilt->materialized[j / 8] |= bit;
+						_numUnmaterializedEntries -= 1;
+						if (TYPE_ROMCLASS == ITEMTYPE(item)) {
+							orphanReunited = reuniteOrphan(currentThread, (const char*)J9UTF8_DATA(utf8Name), J9UTF8_LENGTH(utf8Name), item, romClass);
+						}
+						if (!orphanReunited) {
+							hllTableUpdate(currentThread, _linkedListImplPool, utf8Name, item, NULL);
+						}
+					}
+				}
+			}
+		}
+		unlockHashTable(currentThread, "materializeIndexedROMClasses");
+	} else {
+		PORT_ACCESS_FROM_PORT(_portlib);
+		M_ERR_TRACE(J9NLS_SHRC_M_FAILED_ENTER_HTMUTEX);
+	}
+}
+
+/**
+ * Builds a prebuilt index of the ROMClasses in one cache layer from the hashtable.
+ * The entries refer to items by their offset from the start of the layer, so the index stays valid
+ * wherever the layer is mapped.
+ *
+ * @param[in] currentThread The current thread
+ * @param[in] layerStart The cache header of the layer to index
+ * @param[in] layerEnd The end of the layer to index
+ * @param[out] indexBytes The size of the index in bytes
+ *
+ * @return The index, which the caller must free, or NULL if there is nothing to index or memory allocation failed
+ */
+ROMClassIndexHeader*
+SH_ROMClassManagerImpl::buildROMClassIndex(J9VMThread* currentThread, const void* layerStart, const void* layerEnd, UDATA* indexBytes)
+{
+	ROMClassIndexHeader* result = NULL;
+	ROMClassIndexEntry* unsortedEntries = NULL;
+	IndexBuildState state;
+	PORT_ACCESS_FROM_PORT(_portlib);
+
+	if (getState() != MANAGER_STATE_STARTED) {
+		return NULL;
+	}
+	Trc_SHR_RMI_buildROMClassIndex_Entry(currentThread, layerStart, layerEnd);
+
+	state.cache = _cache;
+	state.internalFunctionTable = currentThread->javaVM->internalVMFunctions;
+	state.layerStart = layerStart;
+	state.layerEnd = layerEnd;
+	state.entries = NULL;
+	state.numEntries = 0;
+
+	if (lockHashTable(currentThread, "buildROMClassIndex")) {
+		/* The first walk counts the entries, the second one records them */
+		hashTableForEachDo(_hashTable, SH_ROMClassManagerImpl::collectIndexEntries, &state);
+		if (0 != state.numEntries) {
+			unsortedEntries = (ROMClassIndexEntry*)j9mem_allocate_memory(state.numEntries * sizeof(ROMClassIndexEntry), J9MEM_CATEGORY_CLASSES);
+			if (NULL != unsortedEntries) {
+				state.entries = unsortedEntries;
+				state.numEntries = 0;
+				hashTableForEachDo(_hashTable, SH_ROMClassManagerImpl::collectIndexEntries, &state);
+			}
+		}
+		unlockHashTable(currentThread, "buildROMClassIndex");
+	} else {
+		M_ERR_TRACE(J9NLS_SHRC_M_FAILED_ENTER_HTMUTEX);
+	}
+
+	if (NULL != unsortedEntries) {
+		U_32 numEntries = state.numEntries;
+		U_32 numBuckets = (numEntries / 2) + 1;
+		UDATA bytes = RCILEN(numBuckets, numEntries);
+
+		result = (ROMClassIndexHeader*)j9mem_allocate_memory(bytes, J9MEM_CATEGORY_CLASSES);
+		if (NULL != result) {
+			U_32* buckets = RCIBUCKETS(result);
+			ROMClassIndexEntry* entries = NULL;
+
+			result->eyecatcher = ROMCLASS_INDEX_EYECATCHER;
+			result->version = ROMCLASS_INDEX_VERSION;
+			result->numBuckets = numBuckets;
+			result->numEntries = numEntries;
+			entries = RCIENTRIES(result);
+
+			/* Counting sort by bucket: buckets[b] becomes the start of bucket b and buckets[numBuckets] the number of entries */
+			memset(buckets, 0, (numBuckets + 1) * sizeof(U_32));
+			for (U_32 i = 0; i < numEntries; i++) {
+				buckets[(unsortedEntries[i].hashValue % numBuckets) + 1] += 1;
+			}
+			for (U_32 b = 0; b < numBuckets; b++) {
+				buckets[b + 1] += buckets[b];
+			}
+			for (U_32 i = 0; i < numEntries; i++) {
+				entries[buckets[unsortedEntries[i].hashValue % numBuckets]++] = unsortedEntries[i];
+			}
+			/* Each buckets[b] now holds the end of bucket b, shift them back to the starts */
+			for (U_32 b = numBuckets; b > 0; b--) {
+				buckets[b] = buckets[b - 1];
+			}
+			buckets[0] = 0;
+			*indexBytes = bytes;
+		}
+		j9mem_free_memory(unsortedEntries);
+	}
+
+	Trc_SHR_RMI_buildROMClassIndex_Exit(currentThread, result, state.numEntries);
+	return result;
+}
+
+/**
+ * Registers the prebuilt index of a lower layer cache. The ROMClass items of that layer do not need to be
+ * added to the hashtable when the layer is read, as they are added on demand by lookups.
+ *
+ * @param[in] currentThread The current thread
+ * @param[in] cacheLayer The layer of the indexed cache, as used in J9ShrOffset
+ * @param[in] index The index, stored in the layer above the indexed cache
+ * @param[in] indexBytes The size of the index in bytes
+ *
+ * @return true if the index was registered, false if it is not valid or could not be registered
+ */
+bool
+SH_ROMClassManagerImpl::addROMClassIndex(J9VMThread* currentThread, U_32 cacheLayer, const ROMClassIndexHeader* index, UDATA indexBytes)
+{
+	bool result = false;
+	U_8* materialized = NULL;
+	PORT_ACCESS_FROM_PORT(_portlib);
+
+	if (getState() != MANAGER_STATE_STARTED) {
+		return false;
+	}
+
+	if ((indexBytes < sizeof(ROMClassIndexHeader))
+		|| (ROMCLASS_INDEX_EYECATCHER != index->eyecatcher)
+		|| (ROMCLASS_INDEX_VERSION != index->version)
+		|| (0 == index->numBuckets)
+		|| (RCILEN((UDATA)index->numBuckets, (UDATA)index->numEntries) != indexBytes)
+		|| (RCIBUCKETS(index)[index->numBuckets] != index->numEntries)
+		|| (_numPrebuiltIndexes > J9SH_LAYER_NUM_MAX_VALUE)
+	) {
+		Trc_SHR_RMI_addROMClassIndex_Invalid(currentThread, index, indexBytes);
+		return false;
+	}
+	for (U_32 b = 0; b < index->numBuckets; b++) {
+		if (RCIBUCKETS(index)[b] > RCIBUCKETS(index)[b + 1]) {
+			Trc_SHR_RMI_addROMClassIndex_Invalid(currentThread, index, indexBytes);
+			return false;
+		}
+	}
+
+	materialized = (U_8*)j9mem_allocate_memory((index->numEntries / 8) + 1, J9MEM_CATEGORY_CLASSES);
+	if (NULL == materialized) {
+		return false;
+	}
+	memset(materialized, 0, (index->numEntries / 8) + 1);
+
+	if (lockHashTable(currentThread, "addROMClassIndex")) {
+		PrebuiltROMClassIndex* prebuilt = &_prebuiltIndexes[_numPrebuiltIndexes];
+
+		prebuilt->index = index;
+		prebuilt->cacheLayer = cacheLayer;
+		prebuilt->materialized = materialized;
+		_numPrebuiltIndexes += 1;
+		_numUnmaterializedEntries += index->numEntries;
+		unlockHashTable(currentThread, "addROMClassIndex");
+		Trc_SHR_RMI_addROMClassIndex_Added(currentThread, cacheLayer, index->numEntries);
+		result = true;
+	} else {
+		M_ERR_TRACE(J9NLS_SHRC_M_FAILED_ENTER_HTMUTEX);
+		j9mem_free_memory(materialized);
+	}
+	return result;
+}
+
+/* Index entries are only built from items that were not stale, and lower layers are read-only */
+void
+SH_ROMClassManagerImpl::getNumItems(J9VMThread* currentThread, UDATA* nonStaleItems, UDATA* staleItems)
+{
+	SH_Manager::getNumItems(currentThread, nonStaleItems, staleItems);
+	*nonStaleItems += _numUnmaterializedEntries;
+}
+
+UDATA
+SH_ROMClassManagerImpl::collectIndexEntries(void* entry, void* opaque)
+{
+	HashLinkedListImpl* node = *(HashLinkedListImpl**)entry;
+	HashLinkedListImpl* walk = node;
+	IndexBuildState* state = (IndexBuildState*)opaque;
+	U_32 hashValue = (U_32)generateHash(state->internalFunctionTable, node->_key, node->_keySize);
+
+	do {
+		const ShcItem* item = walk->_item;
+
+		if (((const void*)item > state->layerStart)
+			&& ((const void*)item < state->layerEnd)
+			&& !state->cache->isStale(item)
+		) {
+			if (NULL != state->entries) {
+				ROMClassIndexEntry* indexEntry = &state->entries[state->numEntries];
+
+				indexEntry->itemOffset = (U_32)((UDATA)item - (UDATA)state->layerStart);
+				indexEntry->hashValue = hashValue;
+				indexEntry->keyLength = node->_keySize;
+				indexEntry->padding = 0;
+			}
+			state->numEntries += 1;
+		}
+		walk = (HashLinkedListImpl*)walk->_next;
+	} while (node != walk);
+	return 0;
+}
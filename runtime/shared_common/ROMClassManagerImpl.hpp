@@ -33,6 +33,7 @@
 #include "TimestampManager.hpp"
 #include "j9.h"
 #include "j9protos.h"
+#include "shchelp.h"
 
 /**
  * Implementation of SH_ROMClassManager
@@ -67,6 +68,12 @@ public:
 
 	virtual UDATA existsClassForName(J9VMThread* currentThread, const char* path, UDATA pathLen);
 
+	virtual ROMClassIndexHeader* buildROMClassIndex(J9VMThread* currentThread, const void* layerStart, const void* layerEnd, UDATA* indexBytes);
+
+	virtual bool addROMClassIndex(J9VMThread* currentThread, U_32 cacheLayer, const ROMClassIndexHeader* index, UDATA indexBytes);
+
+	virtual void getNumItems(J9VMThread* currentThread, UDATA* nonStaleItems, UDATA* staleItems);
+
 	void runExitCode(void) {};	
 
 protected:
@@ -74,7 +81,7 @@ protected:
 
 	IDATA localPostStartup(J9VMThread* currentThread) { return 0; };
 
-	void localPostCleanup(J9VMThread* currentThread) {};
+	void localPostCleanup(J9VMThread* currentThread);
 
 	virtual J9HashTable* localHashTableCreate(J9VMThread* currentThread, U_32 initialEntries);
 
@@ -105,14 +112,51 @@ private:
 	 */
 	J9Pool* _linkedListImplPool;
 
+	/**
+	 * Prebuilt ROMClass index of a lower layer cache.
+	 *
+	 * The ROMClasses of a layer that has an index are not added to _hashTable when the layer is read.
+	 * Instead, the index entries for a class name are added the first time that name is looked up.
+	 * A bit is set in materialized for each index entry once it has been added to _hashTable.
+	 */
+	struct PrebuiltROMClassIndex {
+		const ROMClassIndexHeader* index;
+		U_32 cacheLayer;
+		U_8* materialized;
+	};
+
+	PrebuiltROMClassIndex _prebuiltIndexes[J9SH_LAYER_NUM_MAX_VALUE + 1];
+	UDATA _numPrebuiltIndexes;
+	UDATA _numUnmaterializedEntries;
+
+	/**
+	 * State used when walking _hashTable to build a ROMClass index
+	 */
+	struct IndexBuildState {
+		SH_SharedCache* cache;
+		J9InternalVMFunctions* internalFunctionTable;
+		const void* layerStart;
+		const void* layerEnd;
+		ROMClassIndexEntry* entries;
+		U_32 numEntries;
+	};
+
 
 	bool checkTimestamp(J9VMThread* currentThread, const char* path, UDATA pathLen, ROMClassWrapper* wrapper, const ShcItem* item);
 
 	bool reuniteOrphan(J9VMThread* currentThread, const char* romClassName, UDATA nameLen, const ShcItem* item, const J9ROMClass* romClassPtr);
 
+	HashLinkedListImpl* indexedTableLookup(J9VMThread* currentThread, const char* name, U_16 nameLen);
+
+	void materializeIndexedROMClasses(J9VMThread* currentThread, const char* name, U_16 nameLen);
+
+	J9ROMClass* getROMClassForItem(const ShcItem* item);
+
 	void initialize(J9JavaVM* vm, SH_SharedCache* cache, SH_TimestampManager* tsm, BlockPtr memForConstructor);
 
 	static UDATA customCountItemsInList(void* node, void* countData);
+
+	static UDATA collectIndexEntries(void* node, void* buildState);
 };
 
 #endif /* ROMCLASSMANAGERIMPL_H_INCLUDED */
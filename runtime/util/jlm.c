@@ -120,10 +120,29 @@
 
 
 static void GetMonitorName (J9VMThread *vmThread, J9ThreadAbstractMonitor *monitor, char *nameBuf);
+static jint writeMonitorJlmDump(J9JavaVM *jvm, J9JVMTIEnv *env, J9VMJlmDump *jlmd, jint dump_format);
 
 
 jint 
 request_MonitorJlmDump(jvmtiEnv * env, J9VMJlmDump * jlmd, jint dump_format)
+{
+	return writeMonitorJlmDump(JAVAVM_FROM_ENV(env), (J9JVMTIEnv *)env, jlmd, dump_format);
+}
+
+
+jint
+request_VMMonitorJlmDump(J9JavaVM *jvm, J9VMJlmDump *jlmd, jint dump_format)
+{
+	return writeMonitorJlmDump(jvm, NULL, jlmd, dump_format);
+}
+
+
+/*
+ * Write the JLM statistics of every traced monitor to jlmd. Object tags are only
+ * available when a JVMTI environment is supplied, otherwise the tag field is 0.
+ */
+static jint
+writeMonitorJlmDump(J9JavaVM *jvm, J9JVMTIEnv *env, J9VMJlmDump *jlmd, jint dump_format)
 {
 #if	defined(OMR_THR_JLM)
 	J9VMThread * vmThread;
@@ -132,7 +151,6 @@ request_MonitorJlmDump(jvmtiEnv * env, J9VMJlmDump * jlmd, jint dump_format)
 	omrthread_monitor_walk_state_t walkState;
 	unsigned char held;
 	char * dump;
-	J9JavaVM * jvm = JAVAVM_FROM_ENV(env);
 	char monitor_name[OBJ_MON_NAME_BUF_SIZE];
 	J9MemoryManagerFunctions * memoryManagerFunctions = jvm->memoryManagerFunctions;
 	J9ThreadMonitorTracing *lnrl_lock = NULL;
@@ -182,7 +200,7 @@ request_MonitorJlmDump(jvmtiEnv * env, J9VMJlmDump * jlmd, jint dump_format)
 			   otherwise write 0 in the objectid field - 4 or 8 bytes */
 			if (dump_format == COM_IBM_JLM_DUMP_FORMAT_TAGS) {
 				jlong tag = 0;
-					if (monitor->flags & J9THREAD_MONITOR_OBJECT) {
+					if ((NULL != env) && (monitor->flags & J9THREAD_MONITOR_OBJECT)) {
 					j9object_t object = J9WEAKROOT_OBJECT_LOAD(vmThread, &monitor->userData);
 						/* Similar to jvmtiGetTag code, but with object being of object_t type */
 						if (object != NULL) {							
@@ -194,13 +212,13 @@ request_MonitorJlmDump(jvmtiEnv * env, J9VMJlmDump * jlmd, jint dump_format)
 						/* No need to check if entry.ref != NULL, since we checked object above */
 
 						/* Ensure exclusive access to tag table */
-						omrthread_monitor_enter(((J9JVMTIEnv *)env)->mutex);
+						omrthread_monitor_enter(env->mutex);
 
-						objectTag = hashTableFind(((J9JVMTIEnv *)env)->objectTagTable, &entry);
+						objectTag = hashTableFind(env->objectTagTable, &entry);
 						if (objectTag) {
 							tag = objectTag->tag;
 						}
-						omrthread_monitor_exit(((J9JVMTIEnv *)env)->mutex);
+						omrthread_monitor_exit(env->mutex);
 					}
 				}
 
@@ -23,7 +23,9 @@
 #include "j9comp.h"
 #include "j9protos.h"
 #include "j9vmnls.h"
+#include "monhelp.h"
 #include "objhelp.h"
+#include "thrtypes.h"
 #include "ut_j9vm.h"
 #include "vm_api.h"
 #include "AtomicSupport.hpp"
@@ -35,6 +37,12 @@
 
 extern "C" {
 
+static omrthread_monitor_t getOwnedInflatedMonitor(J9VMThread *currentThread, j9object_t object);
+static bool prepareMonitorsForUnmount(J9VMThread *currentThread, J9VMContinuation *continuation);
+static void detachMonitorsFromCarrier(J9VMThread *currentThread, J9VMContinuation *continuation);
+static bool allocateMonitorEnterRecords(J9VMThread *currentThread, J9VMContinuation *continuation, J9MonitorEnterRecord **records);
+static void attachMonitorsToCarrier(J9VMThread *currentThread, J9VMContinuation *continuation, J9MonitorEnterRecord *records);
+
 BOOLEAN
 createContinuation(J9VMThread *currentThread, j9object_t continuationObject)
 {
@@ -125,6 +133,7 @@ createContinuation(J9VMThread *currentThread, j9object_t continuationObject)
 		stack = continuation->stackObject;
 		stack->previous = NULL;
 		stack->firstReferenceFrame = 0;
+		j9mem_free_memory(continuation->monitorRecords);
 	}
 
 	/* Reset all fields in the new or recycled continuation. */
@@ -217,6 +226,7 @@ enterContinuation(J9VMThread *currentThread, j9object_t continuationObject)
 	J9VMContinuation *continuation = J9VMJDKINTERNALVMCONTINUATION_VMREF(currentThread, continuationObject);
 	ContinuationState volatile *continuationStatePtr = VM_ContinuationHelpers::getContinuationStateAddress(currentThread, continuationObject);
 	bool started = VM_ContinuationHelpers::isStarted(*continuationStatePtr);
+	J9MonitorEnterRecord *monitorEnterRecords = NULL;
 	Assert_VM_Null(currentThread->currentContinuation);
 
 	if ((!started) && (NULL == continuation)) {
@@ -231,6 +241,14 @@ enterContinuation(J9VMThread *currentThread, j9object_t continuationObject)
 	}
 	Assert_VM_notNull(continuation);
 
+	/* Allocate the enter records for the monitors owned by the continuation from the new carrier's
+	 * pool before mounting, as the mount cannot be undone once the stacks have been swapped.
+	 */
+	if (!allocateMonitorEnterRecords(currentThread, continuation, &monitorEnterRecords)) {
+		currentThread->javaVM->internalVMFunctions->setNativeOutOfMemoryError(currentThread, 0, 0);
+		return FALSE;
+	}
+
 	/* let GC know we are mounting, so they don't need to scan us, or if there is already ongoing scan wait till it's complete. */
 	continuationObject = synchronizeWithConcurrentGCScan(currentThread, continuationObject, continuationStatePtr);
 
@@ -245,11 +263,16 @@ enterContinuation(J9VMThread *currentThread, j9object_t continuationObject)
 	VM_ContinuationHelpers::swapFieldsWithContinuation(currentThread, continuation, continuationObject, started);
 
 	currentThread->currentContinuation = continuation;
-	/* Reset counters which determine if the current continuation is pinned. */
+	/* Reset counters which determine if the current continuation is pinned. The owned monitor
+	 * count is tracked per continuation and was restored by swapFieldsWithContinuation().
+	 */
 	currentThread->continuationPinCount = 0;
-	currentThread->ownedMonitorCount = 0;
 	currentThread->callOutCount = 0;
 
+	if (0 != continuation->monitorRecordCount) {
+		attachMonitorsToCarrier(currentThread, continuation, monitorEnterRecords);
+	}
+
 	if (started) {
 		/* resuming Continuation from yieldImpl */
 		VM_OutOfLineINL_Helpers::restoreInternalNativeStackFrame(currentThread);
@@ -291,6 +314,12 @@ yieldContinuation(J9VMThread *currentThread, BOOLEAN isFinished)
 
 	if (isFinished) {
 		VM_ContinuationHelpers::setFinished(continuationStatePtr);
+	} else if (0 != currentThread->ownedMonitorCount) {
+		/* isPinnedContinuation() has prepared the monitors owned by the continuation. */
+		detachMonitorsFromCarrier(currentThread, continuation);
+	} else {
+		/* Discard monitors prepared by an isPinned query which was not followed by a yield. */
+		continuation->monitorRecordCount = 0;
 	}
 
 	currentThread->currentContinuation = NULL;
@@ -403,6 +432,7 @@ T2:
 		if (!cached) {
 			/* Caching failed, free the J9VMContinuation struct. */
 			freeJavaStack(vm, continuation->stackObject);
+			j9mem_free_memory(continuation->monitorRecords);
 			j9mem_free_memory(continuation);
 		}
 	}
@@ -415,7 +445,9 @@ isPinnedContinuation(J9VMThread *currentThread)
 
 	if (currentThread->continuationPinCount > 0) {
 		result = J9VM_CONTINUATION_PINNED_REASON_CRITICAL_SECTION;
-	} else if (currentThread->ownedMonitorCount > 0) {
+	} else if ((currentThread->ownedMonitorCount > 0)
+	&& ((NULL == currentThread->currentContinuation) || !prepareMonitorsForUnmount(currentThread, currentThread->currentContinuation))
+	) {
 		result = J9VM_CONTINUATION_PINNED_REASON_MONITOR;
 	} else if (currentThread->callOutCount > 0) {
 		/* TODO: This check should be changed from > 1 to > 0 once the call-ins are no
@@ -489,6 +521,73 @@ walkContinuationCallBack(J9VMThread *vmThread, J9MM_IterateObjectDescriptor *obj
 	return JVMTI_ITERATION_CONTINUE;
 }
 
+typedef struct J9UnmountedMonitorOwnerSearch {
+	omrthread_monitor_t monitor;
+	j9object_t owner;
+} J9UnmountedMonitorOwnerSearch;
+
+static jvmtiIterationControl
+findUnmountedMonitorOwnerCallBack(J9VMThread *vmThread, J9MM_IterateObjectDescriptor *object, void *userData)
+{
+	jvmtiIterationControl rc = JVMTI_ITERATION_CONTINUE;
+	j9object_t continuationObj = object->object;
+	J9VMContinuation *continuation = J9VMJDKINTERNALVMCONTINUATION_VMREF(vmThread, continuationObj);
+
+	/* A mounted continuation may hold stale records from an isPinned query which was not followed by a yield. */
+	if ((NULL != continuation)
+	&& (0 != continuation->monitorRecordCount)
+	&& (NULL == VM_ContinuationHelpers::getCarrierThread(*VM_ContinuationHelpers::getContinuationStateAddress(vmThread, continuationObj)))
+	) {
+		J9UnmountedMonitorOwnerSearch *search = (J9UnmountedMonitorOwnerSearch *)userData;
+		for (UDATA i = 0; i < continuation->monitorRecordCount; i++) {
+			if (continuation->monitorRecords[i].monitor == search->monitor) {
+				search->owner = J9VMJDKINTERNALVMCONTINUATION_VTHREAD(vmThread, continuationObj);
+				rc = JVMTI_ITERATION_ABORT;
+				break;
+			}
+		}
+	}
+	return rc;
+}
+
+j9object_t
+getUnmountedObjectMonitorOwner(J9VMThread *currentThread, j9object_t object, UDATA *pcount)
+{
+	J9JavaVM *vm = currentThread->javaVM;
+	J9UnmountedMonitorOwnerSearch search = {NULL, NULL};
+	j9objectmonitor_t lock = 0;
+	UDATA count = 0;
+
+	Assert_VM_true((J9_XACCESS_EXCLUSIVE == vm->exclusiveAccessState) || (J9_XACCESS_EXCLUSIVE == vm->safePointState));
+
+	if (!LN_HAS_LOCKWORD(currentThread, object)) {
+		J9ObjectMonitor *objectMonitor = monitorTablePeek(vm, object);
+		if (NULL != objectMonitor) {
+			lock = J9_LOAD_LOCKWORD(currentThread, &objectMonitor->alternateLockword);
+		}
+	} else {
+		lock = J9OBJECT_MONITOR(currentThread, object);
+	}
+
+	/* The monitors of an unmounted continuation are always inflated, and stay entered without an owner thread. */
+	if (J9_LOCK_IS_INFLATED(lock)) {
+		J9ThreadAbstractMonitor *monitor = (J9ThreadAbstractMonitor *)J9_INFLLOCK_MONITOR(lock);
+		if ((NULL == monitor->owner) && (0 != monitor->count)) {
+			PORT_ACCESS_FROM_JAVAVM(vm);
+			search.monitor = (omrthread_monitor_t)monitor;
+			vm->memoryManagerFunctions->j9mm_iterate_all_continuation_objects(currentThread, PORTLIB, 0, findUnmountedMonitorOwnerCallBack, &search);
+			if (NULL != search.owner) {
+				count = monitor->count;
+			}
+		}
+	}
+
+	if (NULL != pcount) {
+		*pcount = count;
+	}
+	return search.owner;
+}
+
 UDATA
 walkAllStackFrames(J9VMThread *currentThread, J9StackWalkState *walkState)
 {
@@ -619,4 +718,258 @@ releaseVThreadInspector(J9VMThread *currentThread, jobject thread)
 		}
 	}
 }
+
+/**
+ * Find the inflated monitor of an object owned by the current thread, inflating
+ * the lock if it is flat.
+ *
+ * @param[in] currentThread the current J9VMThread
+ * @param[in] object the object whose monitor is owned
+ *
+ * @return the inflated monitor, or NULL if the object is not owned or inflation failed
+ */
+static omrthread_monitor_t
+getOwnedInflatedMonitor(J9VMThread *currentThread, j9object_t object)
+{
+	omrthread_monitor_t monitor = NULL;
+	J9ObjectMonitor *objectMonitor = NULL;
+	j9objectmonitor_t *lockEA = NULL;
+	j9objectmonitor_t lock = 0;
+
+	if (!LN_HAS_LOCKWORD(currentThread, object)) {
+		objectMonitor = monitorTableAt(currentThread, object);
+		if (NULL == objectMonitor) {
+			goto done;
+		}
+		lockEA = &objectMonitor->alternateLockword;
+	} else {
+		lockEA = J9OBJECT_MONITOR_EA(currentThread, object);
+	}
+	lock = J9_LOAD_LOCKWORD(currentThread, lockEA);
+
+	if (J9_LOCK_IS_INFLATED(lock)) {
+		objectMonitor = J9_INFLLOCK_OBJECT_MONITOR(lock);
+		if (((J9ThreadAbstractMonitor *)objectMonitor->monitor)->owner == currentThread->osThread) {
+			monitor = objectMonitor->monitor;
+		}
+	} else if (currentThread == J9_FLATLOCK_OWNER(lock)) {
+#if defined(J9VM_THR_LOCK_RESERVATION)
+		if (((lock & (OBJECT_HEADER_LOCK_RECURSION_MASK | OBJECT_HEADER_LOCK_RESERVED)) == OBJECT_HEADER_LOCK_RESERVED)
+		|| ((lock & (OBJECT_HEADER_LOCK_LEARNING_RECURSION_MASK | OBJECT_HEADER_LOCK_LEARNING)) == OBJECT_HEADER_LOCK_LEARNING)
+		) {
+			/* Reserved or learning, but not currently entered. */
+			goto done;
+		}
+#endif /* defined(J9VM_THR_LOCK_RESERVATION) */
+		objectMonitor = objectMonitorInflate(currentThread, object, lock);
+		if (NULL != objectMonitor) {
+			monitor = objectMonitor->monitor;
+		}
+	}
+done:
+	return monitor;
+}
+
+/**
+ * Inflate the monitors owned by the mounted continuation and record them, along with
+ * its monitor enter records, so that the continuation can be unmounted by the next
+ * yieldContinuation(). Nothing is transferred until then.
+ *
+ * The continuation stays pinned if it owns monitors which cannot follow it to another
+ * carrier: monitors entered through JNI, JVMTI raw monitors or monitors which are not
+ * reported by the stack walk.
+ *
+ * @param[in] currentThread the current J9VMThread
+ * @param[in] continuation the mounted continuation
+ *
+ * @return true if the continuation can be unmounted, false if it is pinned
+ */
+static bool
+prepareMonitorsForUnmount(J9VMThread *currentThread, J9VMContinuation *continuation)
+{
+	PORT_ACCESS_FROM_VMC(currentThread);
+	bool result = false;
+	J9ObjectMonitorInfo *info = NULL;
+	IDATA infoCount = 0;
+	UDATA enterCount = 0;
+	UDATA recordCount = 0;
+	UDATA index = 0;
+	J9MonitorEnterRecord *enterRecord = NULL;
+
+	continuation->monitorRecordCount = 0;
+
+	if (NULL != currentThread->jniMonitorEnterRecords) {
+		goto done;
+	}
+
+	infoCount = getOwnedObjectMonitors(currentThread, currentThread, NULL, 0, FALSE);
+	if (infoCount <= 0) {
+		goto done;
+	}
+	info = (J9ObjectMonitorInfo *)j9mem_allocate_memory(sizeof(J9ObjectMonitorInfo) * infoCount, OMRMEM_CATEGORY_THREADS);
+	if (NULL == info) {
+		goto done;
+	}
+	memset(info, 0, sizeof(J9ObjectMonitorInfo) * infoCount);
+	if (infoCount != getOwnedObjectMonitors(currentThread, currentThread, info, infoCount, FALSE)) {
+		goto done;
+	}
+
+	/* Every enter counted in ownedMonitorCount must be accounted for by the stack walk. */
+	for (IDATA i = 0; i < infoCount; i++) {
+		if (NULL == info[i].object) {
+			goto done;
+		}
+		enterCount += (UDATA)info[i].count;
+	}
+	if (enterCount != currentThread->ownedMonitorCount) {
+		goto done;
+	}
+
+	for (enterRecord = currentThread->monitorEnterRecords; NULL != enterRecord; enterRecord = enterRecord->next) {
+		recordCount += 1;
+	}
+	if ((recordCount + (UDATA)infoCount) > continuation->monitorRecordCapacity) {
+		UDATA capacity = recordCount + (UDATA)infoCount;
+		J9ContinuationMonitorRecord *monitorRecords = (J9ContinuationMonitorRecord *)j9mem_allocate_memory(sizeof(J9ContinuationMonitorRecord) * capacity, OMRMEM_CATEGORY_THREADS);
+		if (NULL == monitorRecords) {
+			goto done;
+		}
+		j9mem_free_memory(continuation->monitorRecords);
+		continuation->monitorRecords = monitorRecords;
+		continuation->monitorRecordCapacity = capacity;
+	}
+
+	/* The monitor enter records are kept in list order so they can be rebuilt on the next carrier. */
+	for (enterRecord = currentThread->monitorEnterRecords; NULL != enterRecord; enterRecord = enterRecord->next) {
+		omrthread_monitor_t monitor = getOwnedInflatedMonitor(currentThread, enterRecord->object);
+		if (NULL == monitor) {
+			goto done;
+		}
+		continuation->monitorRecords[index].monitor = monitor;
+		continuation->monitorRecords[index].arg0EA = enterRecord->arg0EA;
+		continuation->monitorRecords[index].dropEnterCount = enterRecord->dropEnterCount;
+		index += 1;
+	}
+	/* Synchronized methods and compiled frames own monitors without an enter record. */
+	for (IDATA i = 0; i < infoCount; i++) {
+		omrthread_monitor_t monitor = getOwnedInflatedMonitor(currentThread, info[i].object);
+		if (NULL == monitor) {
+			goto done;
+		}
+		continuation->monitorRecords[index].monitor = monitor;
+		continuation->monitorRecords[index].arg0EA = NULL;
+		continuation->monitorRecords[index].dropEnterCount = 0;
+		index += 1;
+	}
+	continuation->monitorRecordCount = index;
+	result = true;
+
+done:
+	j9mem_free_memory(info);
+	return result;
+}
+
+/**
+ * Release the carrier's ownership of the monitors recorded by prepareMonitorsForUnmount().
+ * The monitors remain locked, so other threads keep blocking on them until the continuation
+ * is mounted again, possibly on another carrier. Must be called before the stacks are swapped.
+ *
+ * @param[in] currentThread the current J9VMThread
+ * @param[in] continuation the continuation being unmounted
+ */
+static void
+detachMonitorsFromCarrier(J9VMThread *currentThread, J9VMContinuation *continuation)
+{
+	J9Pool *pool = currentThread->monitorEnterRecordPool;
+	J9MonitorEnterRecord *enterRecord = currentThread->monitorEnterRecords;
+
+	Assert_VM_true(0 != continuation->monitorRecordCount);
+
+	/* The enter records belong to this carrier's pool and are rebuilt from the saved monitors. */
+	while (NULL != enterRecord) {
+		J9MonitorEnterRecord *next = enterRecord->next;
+		pool_removeElement(pool, enterRecord);
+		enterRecord = next;
+	}
+	currentThread->monitorEnterRecords = NULL;
+
+	for (UDATA i = 0; i < continuation->monitorRecordCount; i++) {
+		((J9ThreadAbstractMonitor *)continuation->monitorRecords[i].monitor)->owner = NULL;
+	}
+}
+
+/**
+ * Allocate the monitor enter records of a continuation being mounted from the carrier's pool.
+ * The records are linked through their next field and are filled in by attachMonitorsToCarrier().
+ *
+ * @param[in] currentThread the current J9VMThread
+ * @param[in] continuation the continuation being mounted
+ * @param[out] records the allocated records, NULL if none are required
+ *
+ * @return true on success, false if out of memory
+ */
+static bool
+allocateMonitorEnterRecords(J9VMThread *currentThread, J9VMContinuation *continuation, J9MonitorEnterRecord **records)
+{
+	J9Pool *pool = currentThread->monitorEnterRecordPool;
+	bool result = true;
+
+	*records = NULL;
+	for (UDATA i = 0; i < continuation->monitorRecordCount; i++) {
+		if (0 != continuation->monitorRecords[i].dropEnterCount) {
+			J9MonitorEnterRecord *enterRecord = (J9MonitorEnterRecord *)pool_newElement(pool);
+			if (NULL == enterRecord) {
+				while (NULL != *records) {
+					J9MonitorEnterRecord *next = (*records)->next;
+					pool_removeElement(pool, *records);
+					*records = next;
+				}
+				result = false;
+				break;
+			}
+			enterRecord->object = NULL;
+			enterRecord->next = *records;
+			*records = enterRecord;
+		}
+	}
+	return result;
+}
+
+/**
+ * Give the carrier ownership of the monitors owned by the continuation being mounted and
+ * rebuild its monitor enter records. Must be called after the stacks are swapped.
+ *
+ * @param[in] currentThread the current J9VMThread
+ * @param[in] continuation the continuation being mounted
+ * @param[in] records the records from allocateMonitorEnterRecords()
+ */
+static void
+attachMonitorsToCarrier(J9VMThread *currentThread, J9VMContinuation *continuation, J9MonitorEnterRecord *records)
+{
+	J9MonitorEnterRecord **tail = &currentThread->monitorEnterRecords;
+
+	Assert_VM_Null(currentThread->monitorEnterRecords);
+
+	for (UDATA i = 0; i < continuation->monitorRecordCount; i++) {
+		J9ContinuationMonitorRecord *monitorRecord = &continuation->monitorRecords[i];
+		J9ThreadAbstractMonitor *monitor = (J9ThreadAbstractMonitor *)monitorRecord->monitor;
+
+		monitor->owner = currentThread->osThread;
+		if (0 != monitorRecord->dropEnterCount) {
+			J9MonitorEnterRecord *enterRecord = records;
+			Assert_VM_notNull(enterRecord);
+			records = enterRecord->next;
+			/* The monitor's userData is kept up to date by the GC. */
+			enterRecord->object = (j9object_t)monitor->userData;
+			enterRecord->arg0EA = monitorRecord->arg0EA;
+			enterRecord->dropEnterCount = monitorRecord->dropEnterCount;
+			enterRecord->next = NULL;
+			*tail = enterRecord;
+			tail = &enterRecord->next;
+		}
+	}
+	Assert_VM_Null(records);
+	continuation->monitorRecordCount = 0;
+}
 } /* extern "C" */
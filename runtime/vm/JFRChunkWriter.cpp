@@ -530,6 +530,72 @@ VM_JFRChunkWriter::writeFrameTypeCheckpointEvent()
 	return dataStart;
 }
 
+U_8 *
+VM_JFRChunkWriter::writeGCNameCheckpointEvent()
+{
+	U_8 *dataStart = writeCheckpointEventHeader(Generic, 1);
+	UDATA gcNameCount = sizeof(gcNames) / sizeof(gcNames[0]);
+
+	/* class ID */
+	_bufferWriter->writeLEB128(GCNameID);
+
+	/* number of names */
+	_bufferWriter->writeLEB128(gcNameCount);
+
+	for (UDATA i = 0; i < gcNameCount; i++) {
+		/* constant index */
+		_bufferWriter->writeLEB128(i);
+
+		/* string encoding */
+		_bufferWriter->writeLEB128(UTF8);
+
+		/* string length */
+		U_32 len = strlen(gcNames[i]);
+		_bufferWriter->writeLEB128(len);
+
+		/* write string */
+		_bufferWriter->writeData((U_8 *)gcNames[i], len);
+	}
+
+	/* write size */
+	_bufferWriter->writeLEB128PaddedU32(dataStart, _bufferWriter->getCursor() - dataStart);
+
+	return dataStart;
+}
+
+U_8 *
+VM_JFRChunkWriter::writeGCCauseCheckpointEvent()
+{
+	U_8 *dataStart = writeCheckpointEventHeader(Generic, 1);
+	UDATA gcCauseCount = sizeof(gcCauseNames) / sizeof(gcCauseNames[0]);
+
+	/* class ID */
+	_bufferWriter->writeLEB128(GCCauseID);
+
+	/* number of causes */
+	_bufferWriter->writeLEB128(gcCauseCount);
+
+	for (UDATA i = 0; i < gcCauseCount; i++) {
+		/* constant index */
+		_bufferWriter->writeLEB128(i);
+
+		/* string encoding */
+		_bufferWriter->writeLEB128(UTF8);
+
+		/* string length */
+		U_32 len = strlen(gcCauseNames[i]);
+		_bufferWriter->writeLEB128(len);
+
+		/* write string */
+		_bufferWriter->writeData((U_8 *)gcCauseNames[i], len);
+	}
+
+	/* write size */
+	_bufferWriter->writeLEB128PaddedU32(dataStart, _bufferWriter->getCursor() - dataStart);
+
+	return dataStart;
+}
+
 U_8 *
 VM_JFRChunkWriter::writeSymbolTableCheckpointEvent()
 {
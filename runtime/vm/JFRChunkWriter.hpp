@@ -47,6 +47,16 @@ static constexpr const char * const threadStateNames[] = {
 	"STATE_BLOCKED_ON_MONITOR_ENTER"
 };
 
+/* indexed by J9JFR_GC_NAME_* */
+static constexpr const char * const gcNames[] = {
+	"OpenJ9 Global",
+	"OpenJ9 Scavenge"
+};
+
+static constexpr const char * const gcCauseNames[] = {
+	"Unknown GCCause"
+};
+
 enum StringEnconding {
 	NullString = 0,
 	EmptyString,
@@ -60,6 +70,13 @@ enum MetadataTypeID {
 	ThreadStartID = 2,
 	ThreadEndID = 3,
 	ThreadSleepID = 4,
+	MonitorEnterID = 6,
+	MonitorWaitID = 7,
+	ClassLoadID = 11,
+	GarbageCollectionID = 32,
+	GCPhasePauseID = 50,
+	ObjectAllocationSampleID = 63,
+	CompilationID = 65,
 	ExecutionSampleID = 108,
 	ThreadID = 163,
 	ThreadGroupID = 164,
@@ -68,6 +85,8 @@ enum MetadataTypeID {
 	MethodID = 167,
 	SymbolID = 168,
 	ThreadStateID = 169,
+	GCNameID = 170,
+	GCCauseID = 171,
 	ModuleID = 185,
 	PackageID = 186,
 	StackTraceID = 187,
@@ -138,6 +157,15 @@ private:
 	static constexpr int THREAD_START_EVENT_SIZE = (6 * sizeof(U_64)) + sizeof(U_32);
 	static constexpr int THREAD_END_EVENT_SIZE = (4 * sizeof(U_64)) + sizeof(U_32);
 	static constexpr int THREAD_SLEEP_EVENT_SIZE = (7 * sizeof(U_64)) + sizeof(U_32);
+	static constexpr int GC_NAME_ENTRY_LENGTH = CHECKPOINT_EVENT_HEADER_AND_FOOTER + sizeof(gcNames) + (sizeof(gcNames) / sizeof(gcNames[0]) * STRING_HEADER_LENGTH);
+	static constexpr int GC_CAUSE_ENTRY_LENGTH = CHECKPOINT_EVENT_HEADER_AND_FOOTER + sizeof(gcCauseNames) + (sizeof(gcCauseNames) / sizeof(gcCauseNames[0]) * STRING_HEADER_LENGTH);
+	static constexpr int MONITOR_ENTER_EVENT_SIZE = (8 * sizeof(U_64)) + sizeof(U_32);
+	static constexpr int MONITOR_WAIT_EVENT_SIZE = (10 * sizeof(U_64)) + sizeof(U_32);
+	static constexpr int OBJECT_ALLOCATION_SAMPLE_EVENT_SIZE = (6 * sizeof(U_64)) + sizeof(U_32);
+	static constexpr int GARBAGE_COLLECTION_EVENT_SIZE = (8 * sizeof(U_64)) + sizeof(U_32);
+	static constexpr int GC_PHASE_PAUSE_EVENT_SIZE = (6 * sizeof(U_64)) + STRING_BUFFER_LENGTH + sizeof(U_32);
+	static constexpr int CLASS_LOAD_EVENT_SIZE = (8 * sizeof(U_64)) + sizeof(U_32);
+	static constexpr int COMPILATION_EVENT_SIZE = (10 * sizeof(U_64)) + sizeof(U_32);
 
 	static constexpr int METADATA_ID = 1;
 
@@ -237,6 +265,10 @@ public:
 
 			writeFrameTypeCheckpointEvent();
 
+			writeGCNameCheckpointEvent();
+
+			writeGCCauseCheckpointEvent();
+
 			writeThreadCheckpointEvent();
 
 			writeThreadGroupCheckpointEvent();
@@ -263,6 +295,18 @@ public:
 
 			pool_do(_constantPoolTypes.getThreadSleepTable(), &writeThreadSleepEvent, _bufferWriter);
 
+			pool_do(_constantPoolTypes.getMonitorEnterTable(), &writeMonitorEnterEvent, _bufferWriter);
+
+			pool_do(_constantPoolTypes.getMonitorWaitTable(), &writeMonitorWaitEvent, _bufferWriter);
+
+			pool_do(_constantPoolTypes.getObjectAllocationSampleTable(), &writeObjectAllocationSampleEvent, _bufferWriter);
+
+			pool_do(_constantPoolTypes.getGarbageCollectionTable(), &writeGarbageCollectionEvent, _bufferWriter);
+
+			pool_do(_constantPoolTypes.getClassLoadTable(), &writeClassLoadEvent, _bufferWriter);
+
+			pool_do(_constantPoolTypes.getCompilationTable(), &writeCompilationEvent, _bufferWriter);
+
 			writeJFRHeader();
 
 			writeJFRChunkToFile();
@@ -392,6 +436,266 @@ done:
 		_bufferWriter->writeLEB128PaddedU32(dataStart, _bufferWriter->getCursor() - dataStart);
 	}
 
+	static void
+	writeMonitorEnterEvent(void *anElement, void *userData)
+	{
+		MonitorEnterEntry *entry = (MonitorEnterEntry *)anElement;
+		VM_BufferWriter *_bufferWriter = (VM_BufferWriter *)userData;
+
+		/* reserve size field */
+		U_8 *dataStart = _bufferWriter->getAndIncCursor(sizeof(U_32));
+
+		/* write event type */
+		_bufferWriter->writeLEB128(MonitorEnterID);
+
+		/* write start time */
+		_bufferWriter->writeLEB128(entry->time);
+
+		/* write duration time */
+		_bufferWriter->writeLEB128(entry->duration);
+
+		/* write event thread index */
+		_bufferWriter->writeLEB128(entry->eventThreadIndex);
+
+		/* stacktrace index */
+		_bufferWriter->writeLEB128(entry->stackTraceIndex);
+
+		/* write monitor class index */
+		_bufferWriter->writeLEB128(entry->monitorClassIndex);
+
+		/* previous owner is not tracked */
+		_bufferWriter->writeLEB128((U_64)0);
+
+		/* write monitor address */
+		_bufferWriter->writeLEB128((U_64)entry->monitorAddress);
+
+		/* write size */
+		_bufferWriter->writeLEB128PaddedU32(dataStart, _bufferWriter->getCursor() - dataStart);
+	}
+
+	static void
+	writeMonitorWaitEvent(void *anElement, void *userData)
+	{
+		MonitorWaitEntry *entry = (MonitorWaitEntry *)anElement;
+		VM_BufferWriter *_bufferWriter = (VM_BufferWriter *)userData;
+
+		/* reserve size field */
+		U_8 *dataStart = _bufferWriter->getAndIncCursor(sizeof(U_32));
+
+		/* write event type */
+		_bufferWriter->writeLEB128(MonitorWaitID);
+
+		/* write start time */
+		_bufferWriter->writeLEB128(entry->time);
+
+		/* write duration time */
+		_bufferWriter->writeLEB128(entry->duration);
+
+		/* write event thread index */
+		_bufferWriter->writeLEB128(entry->eventThreadIndex);
+
+		/* stacktrace index */
+		_bufferWriter->writeLEB128(entry->stackTraceIndex);
+
+		/* write monitor class index */
+		_bufferWriter->writeLEB128(entry->monitorClassIndex);
+
+		/* notifier thread is not tracked */
+		_bufferWriter->writeLEB128((U_64)0);
+
+		/* write timeout */
+		_bufferWriter->writeLEB128(entry->timeout);
+
+		/* write timed out */
+		_bufferWriter->writeU8(entry->timedOut);
+
+		/* write monitor address */
+		_bufferWriter->writeLEB128((U_64)entry->monitorAddress);
+
+		/* write size */
+		_bufferWriter->writeLEB128PaddedU32(dataStart, _bufferWriter->getCursor() - dataStart);
+	}
+
+	static void
+	writeObjectAllocationSampleEvent(void *anElement, void *userData)
+	{
+		ObjectAllocationSampleEntry *entry = (ObjectAllocationSampleEntry *)anElement;
+		VM_BufferWriter *_bufferWriter = (VM_BufferWriter *)userData;
+
+		/* reserve size field */
+		U_8 *dataStart = _bufferWriter->getAndIncCursor(sizeof(U_32));
+
+		/* write event type */
+		_bufferWriter->writeLEB128(ObjectAllocationSampleID);
+
+		/* write start time */
+		_bufferWriter->writeLEB128(entry->time);
+
+		/* write event thread index */
+		_bufferWriter->writeLEB128(entry->eventThreadIndex);
+
+		/* stacktrace index */
+		_bufferWriter->writeLEB128(entry->stackTraceIndex);
+
+		/* write object class index */
+		_bufferWriter->writeLEB128(entry->objectClassIndex);
+
+		/* write weight */
+		_bufferWriter->writeLEB128((U_64)entry->weight);
+
+		/* write size */
+		_bufferWriter->writeLEB128PaddedU32(dataStart, _bufferWriter->getCursor() - dataStart);
+	}
+
+	static void
+	writeGarbageCollectionEvent(void *anElement, void *userData)
+	{
+		GarbageCollectionEntry *entry = (GarbageCollectionEntry *)anElement;
+		VM_BufferWriter *_bufferWriter = (VM_BufferWriter *)userData;
+
+		/* reserve size field */
+		U_8 *dataStart = _bufferWriter->getAndIncCursor(sizeof(U_32));
+
+		/* write event type */
+		_bufferWriter->writeLEB128(GarbageCollectionID);
+
+		/* write start time */
+		_bufferWriter->writeLEB128(entry->time);
+
+		/* write duration time */
+		_bufferWriter->writeLEB128(entry->duration);
+
+		/* write gc ID */
+		_bufferWriter->writeLEB128((U_64)entry->gcID);
+
+		/* write gc name index */
+		_bufferWriter->writeLEB128((U_64)entry->gcName);
+
+		/* gc cause is not tracked */
+		_bufferWriter->writeLEB128((U_64)0);
+
+		/* the collection is a single pause, so sum of pauses and longest pause are the duration */
+		_bufferWriter->writeLEB128(entry->duration);
+		_bufferWriter->writeLEB128(entry->duration);
+
+		/* write size */
+		_bufferWriter->writeLEB128PaddedU32(dataStart, _bufferWriter->getCursor() - dataStart);
+
+		writeGCPhasePauseEvent(entry, _bufferWriter);
+	}
+
+	static void
+	writeGCPhasePauseEvent(GarbageCollectionEntry *entry, VM_BufferWriter *_bufferWriter)
+	{
+		const char *name = gcNames[entry->gcName];
+		U_32 len = strlen(name);
+
+		/* reserve size field */
+		U_8 *dataStart = _bufferWriter->getAndIncCursor(sizeof(U_32));
+
+		/* write event type */
+		_bufferWriter->writeLEB128(GCPhasePauseID);
+
+		/* write start time */
+		_bufferWriter->writeLEB128(entry->time);
+
+		/* write duration time */
+		_bufferWriter->writeLEB128(entry->duration);
+
+		/* write event thread index */
+		_bufferWriter->writeLEB128(entry->eventThreadIndex);
+
+		/* write gc ID */
+		_bufferWriter->writeLEB128((U_64)entry->gcID);
+
+		/* write phase name */
+		_bufferWriter->writeLEB128(UTF8);
+		_bufferWriter->writeLEB128(len);
+		_bufferWriter->writeData((U_8 *)name, len);
+
+		/* write size */
+		_bufferWriter->writeLEB128PaddedU32(dataStart, _bufferWriter->getCursor() - dataStart);
+	}
+
+	static void
+	writeClassLoadEvent(void *anElement, void *userData)
+	{
+		ClassLoadEntry *entry = (ClassLoadEntry *)anElement;
+		VM_BufferWriter *_bufferWriter = (VM_BufferWriter *)userData;
+
+		/* reserve size field */
+		U_8 *dataStart = _bufferWriter->getAndIncCursor(sizeof(U_32));
+
+		/* write event type */
+		_bufferWriter->writeLEB128(ClassLoadID);
+
+		/* write start time */
+		_bufferWriter->writeLEB128(entry->time);
+
+		/* write duration time */
+		_bufferWriter->writeLEB128(entry->duration);
+
+		/* write event thread index */
+		_bufferWriter->writeLEB128(entry->eventThreadIndex);
+
+		/* stacktrace index */
+		_bufferWriter->writeLEB128(entry->stackTraceIndex);
+
+		/* write loaded class index */
+		_bufferWriter->writeLEB128(entry->loadedClassIndex);
+
+		/* write defining class loader index */
+		_bufferWriter->writeLEB128(entry->definingClassLoaderIndex);
+
+		/* write initiating class loader index */
+		_bufferWriter->writeLEB128(entry->initiatingClassLoaderIndex);
+
+		/* write size */
+		_bufferWriter->writeLEB128PaddedU32(dataStart, _bufferWriter->getCursor() - dataStart);
+	}
+
+	static void
+	writeCompilationEvent(void *anElement, void *userData)
+	{
+		CompilationEntry *entry = (CompilationEntry *)anElement;
+		VM_BufferWriter *_bufferWriter = (VM_BufferWriter *)userData;
+
+		/* reserve size field */
+		U_8 *dataStart = _bufferWriter->getAndIncCursor(sizeof(U_32));
+
+		/* write event type */
+		_bufferWriter->writeLEB128(CompilationID);
+
+		/* write start time */
+		_bufferWriter->writeLEB128(entry->time);
+
+		/* write duration time */
+		_bufferWriter->writeLEB128(entry->duration);
+
+		/* write event thread index */
+		_bufferWriter->writeLEB128(entry->eventThreadIndex);
+
+		/* write compile ID */
+		_bufferWriter->writeLEB128((U_64)entry->compileID);
+
+		/* write method index */
+		_bufferWriter->writeLEB128(entry->methodIndex);
+
+		/* compile level is not tracked */
+		_bufferWriter->writeLEB128((U_64)0);
+
+		/* write succeeded */
+		_bufferWriter->writeU8(entry->succeeded);
+
+		/* isOsr, code size and inlined bytes are not tracked */
+		_bufferWriter->writeU8(FALSE);
+		_bufferWriter->writeLEB128((U_64)0);
+		_bufferWriter->writeLEB128((U_64)0);
+
+		/* write size */
+		_bufferWriter->writeLEB128PaddedU32(dataStart, _bufferWriter->getCursor() - dataStart);
+	}
+
 	void
 	writeJFRChunkToFile()
 	{
@@ -434,6 +738,10 @@ done:
 
 	U_8 *writeFrameTypeCheckpointEvent();
 
+	U_8 *writeGCNameCheckpointEvent();
+
+	U_8 *writeGCCauseCheckpointEvent();
+
 	U_8 *writeSymbolTableCheckpointEvent();
 
 	U_8 *writeStacktraceCheckpointEvent();
@@ -450,6 +758,10 @@ done:
 
 		requireBufferSize += THREADSTATE_ENTRY_LENGTH;
 
+		requireBufferSize += GC_NAME_ENTRY_LENGTH;
+
+		requireBufferSize += GC_CAUSE_ENTRY_LENGTH;
+
 		requireBufferSize += CHECKPOINT_EVENT_HEADER_AND_FOOTER + (_constantPoolTypes.getClassCount() * CLASS_ENTRY_ENTRY_SIZE);
 
 		requireBufferSize += CHECKPOINT_EVENT_HEADER_AND_FOOTER + (_constantPoolTypes.getClassloaderCount() * CLASSLOADER_ENTRY_SIZE);
@@ -476,6 +788,18 @@ done:
 
 		requireBufferSize += _constantPoolTypes.getThreadSleepCount() * THREAD_SLEEP_EVENT_SIZE;
 
+		requireBufferSize += _constantPoolTypes.getMonitorEnterCount() * MONITOR_ENTER_EVENT_SIZE;
+
+		requireBufferSize += _constantPoolTypes.getMonitorWaitCount() * MONITOR_WAIT_EVENT_SIZE;
+
+		requireBufferSize += _constantPoolTypes.getObjectAllocationSampleCount() * OBJECT_ALLOCATION_SAMPLE_EVENT_SIZE;
+
+		requireBufferSize += _constantPoolTypes.getGarbageCollectionCount() * (GARBAGE_COLLECTION_EVENT_SIZE + GC_PHASE_PAUSE_EVENT_SIZE);
+
+		requireBufferSize += _constantPoolTypes.getClassLoadCount() * CLASS_LOAD_EVENT_SIZE;
+
+		requireBufferSize += _constantPoolTypes.getCompilationCount() * COMPILATION_EVENT_SIZE;
+
 		return requireBufferSize;
 	}
 
@@ -279,7 +279,11 @@ VM_JFRConstantPoolTypes::walkThreadTablePrint(void *entry, void *userData)
 	J9VMThread *currentThread = (J9VMThread *)userData;
 	PORT_ACCESS_FROM_VMC(currentThread);
 
-	j9tty_printf(PORTLIB, "%u) osTID=%lu javaTID=%lu javaThreadName=%.*s osThreadName=%.*s threadGroupIndex=%u\n", tableEntry->index, tableEntry->osTID, tableEntry->javaTID, J9UTF8_LENGTH(tableEntry->javaThreadName), J9UTF8_DATA(tableEntry->javaThreadName), J9UTF8_LENGTH(tableEntry->osThreadName), J9UTF8_DATA(tableEntry->osThreadName), tableEntry->threadGroupIndex);
+	if (NULL == tableEntry->javaThreadName) {
+		j9tty_printf(PORTLIB, "%u) osTID=%lu javaTID=%lu osThreadName=%.*s threadGroupIndex=%u\n", tableEntry->index, tableEntry->osTID, tableEntry->javaTID, J9UTF8_LENGTH(tableEntry->osThreadName), J9UTF8_DATA(tableEntry->osThreadName), tableEntry->threadGroupIndex);
+	} else {
+		j9tty_printf(PORTLIB, "%u) osTID=%lu javaTID=%lu javaThreadName=%.*s osThreadName=%.*s threadGroupIndex=%u\n", tableEntry->index, tableEntry->osTID, tableEntry->javaTID, J9UTF8_LENGTH(tableEntry->javaThreadName), J9UTF8_DATA(tableEntry->javaThreadName), J9UTF8_LENGTH(tableEntry->osThreadName), J9UTF8_DATA(tableEntry->osThreadName), tableEntry->threadGroupIndex);
+	}
 
 	return FALSE;
 }
@@ -774,19 +778,32 @@ VM_JFRConstantPoolTypes::addThreadEntry(J9VMThread *vmThread)
 	}
 
 	entry->osTID = ((J9AbstractThread*)osThread)->tid;
-	entry->javaTID = J9VMJAVALANGTHREAD_TID(_currentThread, vmThread->threadObject);
 
-	entry->javaThreadName = copyStringToJ9UTF8WithMemAlloc(_currentThread, J9VMJAVALANGTHREAD_NAME(_currentThread, vmThread->threadObject), J9_STR_NONE, "", 0, NULL, 0);
+	if (NULL == vmThread->threadObject) {
+		/* VM internal threads (e.g. GC threads) have no java/lang/Thread, so only their OS thread name is reported */
+		entry->javaTID = 0;
+		entry->javaThreadName = NULL;
+		entry->osThreadName = copyOSThreadName(vmThread);
+		entry->threadGroupIndex = 0;
+		if (NULL == entry->osThreadName) {
+			_buildResult = OutOfMemory;
+			goto done;
+		}
+	} else {
+		entry->javaTID = J9VMJAVALANGTHREAD_TID(_currentThread, vmThread->threadObject);
 
-	/* TODO is this always true? */
-	entry->osThreadName = entry->javaThreadName;
-	if (isResultNotOKay()) goto done;
+		entry->javaThreadName = copyStringToJ9UTF8WithMemAlloc(_currentThread, J9VMJAVALANGTHREAD_NAME(_currentThread, vmThread->threadObject), J9_STR_NONE, "", 0, NULL, 0);
+
+		/* TODO is this always true? */
+		entry->osThreadName = entry->javaThreadName;
+		if (isResultNotOKay()) goto done;
 #if JAVA_SPEC_VERSION >= 19
-	entry->threadGroupIndex = addThreadGroupEntry(J9VMJAVALANGTHREADFIELDHOLDER_GROUP(_currentThread, (J9VMJAVALANGTHREAD_HOLDER(_currentThread, vmThread->threadObject))));
+		entry->threadGroupIndex = addThreadGroupEntry(J9VMJAVALANGTHREADFIELDHOLDER_GROUP(_currentThread, (J9VMJAVALANGTHREAD_HOLDER(_currentThread, vmThread->threadObject))));
 #else /* JAVA_SPEC_VERSION >= 19 */
-	entry->threadGroupIndex = addThreadGroupEntry(J9VMJAVALANGTHREAD_GROUP(_currentThread, vmThread->threadObject));
+		entry->threadGroupIndex = addThreadGroupEntry(J9VMJAVALANGTHREAD_GROUP(_currentThread, vmThread->threadObject));
 #endif /* JAVA_SPEC_VERSION >= 19 */
-	if (isResultNotOKay()) goto done;
+		if (isResultNotOKay()) goto done;
+	}
 
 	entry->index = _threadCount;
 	_threadCount++;
@@ -812,6 +829,23 @@ done:
 	return index;
 }
 
+J9UTF8 *
+VM_JFRConstantPoolTypes::copyOSThreadName(J9VMThread *vmThread)
+{
+	PORT_ACCESS_FROM_VMC(_currentThread);
+	char *name = getOMRVMThreadName(vmThread->omrVMThread);
+	UDATA nameLength = OMR_MIN(strlen(name), U_16_MAX);
+	J9UTF8 *osThreadName = (J9UTF8 *)j9mem_allocate_memory(sizeof(J9UTF8) + nameLength, OMRMEM_CATEGORY_VM);
+
+	if (NULL != osThreadName) {
+		J9UTF8_SET_LENGTH(osThreadName, (U_16)nameLength);
+		memcpy(J9UTF8_DATA(osThreadName), name, nameLength);
+	}
+	releaseOMRVMThreadName(vmThread->omrVMThread);
+
+	return osThreadName;
+}
+
 U_32
 VM_JFRConstantPoolTypes::addThreadGroupEntry(j9object_t threadGroup)
 {
@@ -1031,6 +1065,186 @@ done:
 }
 
 
+U_32
+VM_JFRConstantPoolTypes::addMonitorEnterEntry(J9JFRMonitorEnter *monitorEnterData)
+{
+	MonitorEnterEntry *entry = (MonitorEnterEntry*)pool_newElement(_monitorEnterTable);
+	U_32 index = U_32_MAX;
+
+	if (NULL == entry) {
+		_buildResult = OutOfMemory;
+		goto done;
+	}
+
+	entry->time = monitorEnterData->startTime;
+	entry->duration = monitorEnterData->duration;
+	entry->monitorAddress = monitorEnterData->monitorAddress;
+
+	entry->eventThreadIndex = addThreadEntry(monitorEnterData->vmThread);
+	if (isResultNotOKay()) goto done;
+
+	entry->monitorClassIndex = getClassEntry(monitorEnterData->monitorClass);
+	if (isResultNotOKay()) goto done;
+
+	entry->stackTraceIndex = consumeStackTrace(monitorEnterData->vmThread, J9JFRMONITORENTER_STACKTRACE(monitorEnterData), monitorEnterData->stackTraceSize);
+	if (isResultNotOKay()) goto done;
+
+	index = _monitorEnterCount++;
+
+done:
+	return index;
+}
+
+U_32
+VM_JFRConstantPoolTypes::addMonitorWaitEntry(J9JFRMonitorWait *monitorWaitData)
+{
+	MonitorWaitEntry *entry = (MonitorWaitEntry*)pool_newElement(_monitorWaitTable);
+	U_32 index = U_32_MAX;
+
+	if (NULL == entry) {
+		_buildResult = OutOfMemory;
+		goto done;
+	}
+
+	entry->time = monitorWaitData->startTime;
+	entry->duration = monitorWaitData->duration;
+	entry->monitorAddress = monitorWaitData->monitorAddress;
+	entry->timeout = monitorWaitData->timeout;
+	entry->timedOut = (0 != monitorWaitData->timedOut);
+
+	entry->eventThreadIndex = addThreadEntry(monitorWaitData->vmThread);
+	if (isResultNotOKay()) goto done;
+
+	entry->monitorClassIndex = getClassEntry(monitorWaitData->monitorClass);
+	if (isResultNotOKay()) goto done;
+
+	entry->stackTraceIndex = consumeStackTrace(monitorWaitData->vmThread, J9JFRMONITORWAIT_STACKTRACE(monitorWaitData), monitorWaitData->stackTraceSize);
+	if (isResultNotOKay()) goto done;
+
+	index = _monitorWaitCount++;
+
+done:
+	return index;
+}
+
+U_32
+VM_JFRConstantPoolTypes::addObjectAllocationSampleEntry(J9JFRObjectAllocationSample *allocationSampleData)
+{
+	ObjectAllocationSampleEntry *entry = (ObjectAllocationSampleEntry*)pool_newElement(_objectAllocationSampleTable);
+	U_32 index = U_32_MAX;
+
+	if (NULL == entry) {
+		_buildResult = OutOfMemory;
+		goto done;
+	}
+
+	entry->time = allocationSampleData->startTime;
+	entry->weight = allocationSampleData->weight;
+
+	entry->eventThreadIndex = addThreadEntry(allocationSampleData->vmThread);
+	if (isResultNotOKay()) goto done;
+
+	entry->objectClassIndex = getClassEntry(allocationSampleData->objectClass);
+	if (isResultNotOKay()) goto done;
+
+	entry->stackTraceIndex = consumeStackTrace(allocationSampleData->vmThread, J9JFROBJECTALLOCATIONSAMPLE_STACKTRACE(allocationSampleData), allocationSampleData->stackTraceSize);
+	if (isResultNotOKay()) goto done;
+
+	index = _objectAllocationSampleCount++;
+
+done:
+	return index;
+}
+
+U_32
+VM_JFRConstantPoolTypes::addGarbageCollectionEntry(J9JFRGarbageCollection *garbageCollectionData)
+{
+	GarbageCollectionEntry *entry = (GarbageCollectionEntry*)pool_newElement(_garbageCollectionTable);
+	U_32 index = U_32_MAX;
+
+	if (NULL == entry) {
+		_buildResult = OutOfMemory;
+		goto done;
+	}
+
+	entry->time = garbageCollectionData->startTime;
+	entry->duration = garbageCollectionData->duration;
+	entry->gcID = garbageCollectionData->gcID;
+	entry->gcName = garbageCollectionData->gcName;
+
+	entry->eventThreadIndex = addThreadEntry(garbageCollectionData->vmThread);
+	if (isResultNotOKay()) goto done;
+
+	index = _garbageCollectionCount++;
+
+done:
+	return index;
+}
+
+U_32
+VM_JFRConstantPoolTypes::addClassLoadEntry(J9JFRClassLoad *classLoadData)
+{
+	ClassLoadEntry *entry = (ClassLoadEntry*)pool_newElement(_classLoadTable);
+	U_32 index = U_32_MAX;
+
+	if (NULL == entry) {
+		_buildResult = OutOfMemory;
+		goto done;
+	}
+
+	entry->time = classLoadData->startTime;
+	entry->duration = 0;
+
+	entry->eventThreadIndex = addThreadEntry(classLoadData->vmThread);
+	if (isResultNotOKay()) goto done;
+
+	entry->loadedClassIndex = getClassEntry(classLoadData->loadedClass);
+	if (isResultNotOKay()) goto done;
+
+	entry->definingClassLoaderIndex = addClassLoaderEntry(classLoadData->loadedClass->classLoader);
+	if (isResultNotOKay()) goto done;
+
+	entry->initiatingClassLoaderIndex = addClassLoaderEntry(classLoadData->initiatingClassLoader);
+	if (isResultNotOKay()) goto done;
+
+	entry->stackTraceIndex = consumeStackTrace(classLoadData->vmThread, J9JFRCLASSLOAD_STACKTRACE(classLoadData), classLoadData->stackTraceSize);
+	if (isResultNotOKay()) goto done;
+
+	index = _classLoadCount++;
+
+done:
+	return index;
+}
+
+U_32
+VM_JFRConstantPoolTypes::addCompilationEntry(J9JFRCompilation *compilationData)
+{
+	CompilationEntry *entry = (CompilationEntry*)pool_newElement(_compilationTable);
+	J9Method *method = compilationData->method;
+	U_32 index = U_32_MAX;
+
+	if (NULL == entry) {
+		_buildResult = OutOfMemory;
+		goto done;
+	}
+
+	entry->time = compilationData->startTime;
+	entry->duration = compilationData->duration;
+	entry->compileID = compilationData->compileID;
+	entry->succeeded = (0 != compilationData->succeeded);
+
+	entry->eventThreadIndex = addThreadEntry(compilationData->vmThread);
+	if (isResultNotOKay()) goto done;
+
+	entry->methodIndex = getMethodEntry(J9_ROM_METHOD_FROM_RAM_METHOD(method), J9_CLASS_FROM_METHOD(method));
+	if (isResultNotOKay()) goto done;
+
+	index = _compilationCount++;
+
+done:
+	return index;
+}
+
 void
 VM_JFRConstantPoolTypes::printTables()
 {
@@ -175,6 +175,61 @@ struct ThreadSleepEntry {
 	U_32 stackTraceIndex;
 };
 
+struct MonitorEnterEntry {
+	I_64 time;
+	I_64 duration;
+	U_32 eventThreadIndex;
+	U_32 stackTraceIndex;
+	U_32 monitorClassIndex;
+	UDATA monitorAddress;
+};
+
+struct MonitorWaitEntry {
+	I_64 time;
+	I_64 duration;
+	U_32 eventThreadIndex;
+	U_32 stackTraceIndex;
+	U_32 monitorClassIndex;
+	UDATA monitorAddress;
+	I_64 timeout;
+	BOOLEAN timedOut;
+};
+
+struct ObjectAllocationSampleEntry {
+	I_64 time;
+	U_32 eventThreadIndex;
+	U_32 stackTraceIndex;
+	U_32 objectClassIndex;
+	UDATA weight;
+};
+
+struct GarbageCollectionEntry {
+	I_64 time;
+	I_64 duration;
+	U_32 eventThreadIndex;
+	UDATA gcID;
+	UDATA gcName;
+};
+
+struct ClassLoadEntry {
+	I_64 time;
+	I_64 duration;
+	U_32 eventThreadIndex;
+	U_32 stackTraceIndex;
+	U_32 loadedClassIndex;
+	U_32 definingClassLoaderIndex;
+	U_32 initiatingClassLoaderIndex;
+};
+
+struct CompilationEntry {
+	I_64 time;
+	I_64 duration;
+	U_32 eventThreadIndex;
+	U_32 methodIndex;
+	UDATA compileID;
+	BOOLEAN succeeded;
+};
+
 struct StackTraceEntry {
 	J9VMThread *vmThread;
 	I_64 time;
@@ -227,6 +282,18 @@ private:
 	UDATA _threadEndCount;
 	J9Pool *_threadSleepTable;
 	UDATA _threadSleepCount;
+	J9Pool *_monitorEnterTable;
+	UDATA _monitorEnterCount;
+	J9Pool *_monitorWaitTable;
+	UDATA _monitorWaitCount;
+	J9Pool *_objectAllocationSampleTable;
+	UDATA _objectAllocationSampleCount;
+	J9Pool *_garbageCollectionTable;
+	UDATA _garbageCollectionCount;
+	J9Pool *_classLoadTable;
+	UDATA _classLoadCount;
+	J9Pool *_compilationTable;
+	UDATA _compilationCount;
 
 	/* Processing buffers */
 	StackFrame *_currentStackFrameBuffer;
@@ -360,6 +427,9 @@ private:
 
 	U_32 addThreadEntry(J9VMThread *vmThread);
 
+	/* Copy the OS name of a thread that has no java/lang/Thread, returns NULL if out of memory */
+	J9UTF8 *copyOSThreadName(J9VMThread *vmThread);
+
 	U_32 addThreadGroupEntry(j9object_t threadGroup);
 
 	U_32 addStackTraceEntry(J9VMThread *vmThread, I_64 time, U_32 numOfFrames);
@@ -425,6 +495,18 @@ public:
 
 	U_32 addThreadSleepEntry(J9JFRThreadSleep *threadSleepData);
 
+	U_32 addMonitorEnterEntry(J9JFRMonitorEnter *monitorEnterData);
+
+	U_32 addMonitorWaitEntry(J9JFRMonitorWait *monitorWaitData);
+
+	U_32 addObjectAllocationSampleEntry(J9JFRObjectAllocationSample *allocationSampleData);
+
+	U_32 addGarbageCollectionEntry(J9JFRGarbageCollection *garbageCollectionData);
+
+	U_32 addClassLoadEntry(J9JFRClassLoad *classLoadData);
+
+	U_32 addCompilationEntry(J9JFRCompilation *compilationData);
+
 	J9Pool *getExecutionSampleTable()
 	{
 		return _executionSampleTable;
@@ -445,6 +527,36 @@ public:
 		return _threadSleepTable;
 	}
 
+	J9Pool *getMonitorEnterTable()
+	{
+		return _monitorEnterTable;
+	}
+
+	J9Pool *getMonitorWaitTable()
+	{
+		return _monitorWaitTable;
+	}
+
+	J9Pool *getObjectAllocationSampleTable()
+	{
+		return _objectAllocationSampleTable;
+	}
+
+	J9Pool *getGarbageCollectionTable()
+	{
+		return _garbageCollectionTable;
+	}
+
+	J9Pool *getClassLoadTable()
+	{
+		return _classLoadTable;
+	}
+
+	J9Pool *getCompilationTable()
+	{
+		return _compilationTable;
+	}
+
 	UDATA getExecutionSampleCount()
 	{
 		return _executionSampleCount;
@@ -465,6 +577,36 @@ public:
 		return _threadSleepCount;
 	}
 
+	UDATA getMonitorEnterCount()
+	{
+		return _monitorEnterCount;
+	}
+
+	UDATA getMonitorWaitCount()
+	{
+		return _monitorWaitCount;
+	}
+
+	UDATA getObjectAllocationSampleCount()
+	{
+		return _objectAllocationSampleCount;
+	}
+
+	UDATA getGarbageCollectionCount()
+	{
+		return _garbageCollectionCount;
+	}
+
+	UDATA getClassLoadCount()
+	{
+		return _classLoadCount;
+	}
+
+	UDATA getCompilationCount()
+	{
+		return _compilationCount;
+	}
+
 	ClassloaderEntry *getClassloaderEntry()
 	{
 		return _firstClassloaderEntry;
@@ -593,6 +735,24 @@ public:
 			case J9JFR_EVENT_TYPE_THREAD_SLEEP:
 				addThreadSleepEntry((J9JFRThreadSleep*) event);
 				break;
+			case J9JFR_EVENT_TYPE_MONITOR_ENTER:
+				addMonitorEnterEntry((J9JFRMonitorEnter*) event);
+				break;
+			case J9JFR_EVENT_TYPE_MONITOR_WAIT:
+				addMonitorWaitEntry((J9JFRMonitorWait*) event);
+				break;
+			case J9JFR_EVENT_TYPE_OBJECT_ALLOCATION_SAMPLE:
+				addObjectAllocationSampleEntry((J9JFRObjectAllocationSample*) event);
+				break;
+			case J9JFR_EVENT_TYPE_GARBAGE_COLLECTION:
+				addGarbageCollectionEntry((J9JFRGarbageCollection*) event);
+				break;
+			case J9JFR_EVENT_TYPE_CLASS_LOAD:
+				addClassLoadEntry((J9JFRClassLoad*) event);
+				break;
+			case J9JFR_EVENT_TYPE_COMPILATION:
+				addCompilationEntry((J9JFRCompilation*) event);
+				break;
 			default:
 				Assert_VM_unreachable();
 			break;
@@ -656,6 +816,18 @@ done:
 		, _threadEndCount(0)
 		, _threadSleepTable(NULL)
 		, _threadSleepCount(0)
+		, _monitorEnterTable(NULL)
+		, _monitorEnterCount(0)
+		, _monitorWaitTable(NULL)
+		, _monitorWaitCount(0)
+		, _objectAllocationSampleTable(NULL)
+		, _objectAllocationSampleCount(0)
+		, _garbageCollectionTable(NULL)
+		, _garbageCollectionCount(0)
+		, _classLoadTable(NULL)
+		, _classLoadCount(0)
+		, _compilationTable(NULL)
+		, _compilationCount(0)
 		, _previousStackTraceEntry(NULL)
 		, _firstStackTraceEntry(NULL)
 		, _previousThreadEntry(NULL)
@@ -752,6 +924,42 @@ done:
 			goto done;
 		}
 
+		_monitorEnterTable = pool_new(sizeof(MonitorEnterEntry), 0, sizeof(U_64), 0, J9_GET_CALLSITE(), OMRMEM_CATEGORY_VM, POOL_FOR_PORT(privatePortLibrary));
+		if (NULL == _monitorEnterTable) {
+			_buildResult = OutOfMemory;
+			goto done;
+		}
+
+		_monitorWaitTable = pool_new(sizeof(MonitorWaitEntry), 0, sizeof(U_64), 0, J9_GET_CALLSITE(), OMRMEM_CATEGORY_VM, POOL_FOR_PORT(privatePortLibrary));
+		if (NULL == _monitorWaitTable) {
+			_buildResult = OutOfMemory;
+			goto done;
+		}
+
+		_objectAllocationSampleTable = pool_new(sizeof(ObjectAllocationSampleEntry), 0, sizeof(U_64), 0, J9_GET_CALLSITE(), OMRMEM_CATEGORY_VM, POOL_FOR_PORT(privatePortLibrary));
+		if (NULL == _objectAllocationSampleTable) {
+			_buildResult = OutOfMemory;
+			goto done;
+		}
+
+		_garbageCollectionTable = pool_new(sizeof(GarbageCollectionEntry), 0, sizeof(U_64), 0, J9_GET_CALLSITE(), OMRMEM_CATEGORY_VM, POOL_FOR_PORT(privatePortLibrary));
+		if (NULL == _garbageCollectionTable) {
+			_buildResult = OutOfMemory;
+			goto done;
+		}
+
+		_classLoadTable = pool_new(sizeof(ClassLoadEntry), 0, sizeof(U_64), 0, J9_GET_CALLSITE(), OMRMEM_CATEGORY_VM, POOL_FOR_PORT(privatePortLibrary));
+		if (NULL == _classLoadTable) {
+			_buildResult = OutOfMemory;
+			goto done;
+		}
+
+		_compilationTable = pool_new(sizeof(CompilationEntry), 0, sizeof(U_64), 0, J9_GET_CALLSITE(), OMRMEM_CATEGORY_VM, POOL_FOR_PORT(privatePortLibrary));
+		if (NULL == _compilationTable) {
+			_buildResult = OutOfMemory;
+			goto done;
+		}
+
 		/* Add reserved index for default entries. For strings zero is the empty or NUll string.
 		 * For package zero is the deafult package, for Module zero is the unnamed module. ThreadGroup
 		 * zero is NULL threadGroup.
@@ -799,6 +1007,12 @@ done:
 		pool_kill(_threadStartTable);
 		pool_kill(_threadEndTable);
 		pool_kill(_threadSleepTable);
+		pool_kill(_monitorEnterTable);
+		pool_kill(_monitorWaitTable);
+		pool_kill(_objectAllocationSampleTable);
+		pool_kill(_garbageCollectionTable);
+		pool_kill(_classLoadTable);
+		pool_kill(_compilationTable);
 		j9mem_free_memory(_globalStringTable);
 	}
 
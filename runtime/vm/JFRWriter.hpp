@@ -27,6 +27,7 @@
 #include "j9cfg.h"
 #include "j9.h"
 #include "j9vmnls.h"
+#include "omrlinkedlist.h"
 #include "vm_api.h"
 
 #if defined(J9VM_OPT_JFR)
@@ -49,6 +50,23 @@ public:
 
 	static constexpr const char* DEFAULT_JFR_FILE_NAME = "defaultJ9recording.jfr";
 
+	/* room for the separator, two 20 digit numbers, "openj9_", "_", ".jfr" and the terminator */
+	static constexpr UDATA CHUNK_FILE_NAME_EXTRA_LENGTH = 64;
+
+	static constexpr UDATA DUMP_COPY_BUFFER_SIZE = 64 * 1024;
+
+	/* A recording file opened for reading, and the number of bytes it held when it was opened */
+	struct DumpSource {
+		IDATA fd;
+		I_64 size;
+	};
+
+	/* The recording files to copy for a dump, see snapshotRecording() */
+	struct DumpSnapshot {
+		UDATA sourceCount;
+		DumpSource sources[1];
+	};
+
 	/*
 	 * Function members
 	 */
@@ -117,12 +135,169 @@ done:
 		PORT_ACCESS_FROM_JAVAVM(vm);
 		bool result = true;
 
+		if (NULL != vm->jfrState.repository) {
+			result = openChunkFile(vm);
+			goto done;
+		}
+
 		vm->jfrState.blobFileDescriptor = j9file_open(vm->jfrState.jfrFileName, EsOpenWrite | EsOpenCreate | EsOpenTruncate , 0666);
 
 		if (-1 == vm->jfrState.blobFileDescriptor) {
 			result = false;
 		}
 
+done:
+		return result;
+	}
+
+	/**
+	 * Open a new chunk file in the repository and make it the file
+	 * that chunks are written to. The repository directory is created
+	 * if it does not exist.
+	 */
+	static bool
+	openChunkFile(J9JavaVM *vm)
+	{
+		PORT_ACCESS_FROM_JAVAVM(vm);
+		bool result = false;
+		UDATA nameLength = strlen(vm->jfrState.repository) + CHUNK_FILE_NAME_EXTRA_LENGTH;
+		J9JFRChunkFile *chunkFile = NULL;
+
+		if (EsIsDir != j9file_attr(vm->jfrState.repository)) {
+			j9file_mkdir(vm->jfrState.repository);
+		}
+
+		chunkFile = (J9JFRChunkFile*)j9mem_allocate_memory(sizeof(J9JFRChunkFile) + nameLength, OMRMEM_CATEGORY_VM);
+		if (NULL == chunkFile) {
+			goto done;
+		}
+		memset(chunkFile, 0, sizeof(J9JFRChunkFile));
+		chunkFile->fileName = (char*)(chunkFile + 1);
+		chunkFile->startTime = j9time_current_time_millis();
+		chunkFile->endTime = chunkFile->startTime;
+		vm->jfrState.chunkFileCount += 1;
+		j9str_printf(PORTLIB, chunkFile->fileName, nameLength, "%s" DIR_SEPARATOR_STR "openj9_%zu_%zu.jfr",
+				vm->jfrState.repository, (UDATA)j9sysinfo_get_pid(), vm->jfrState.chunkFileCount);
+
+		vm->jfrState.blobFileDescriptor = j9file_open(chunkFile->fileName, EsOpenWrite | EsOpenCreate | EsOpenTruncate, 0666);
+		if (-1 == vm->jfrState.blobFileDescriptor) {
+			j9mem_free_memory(chunkFile);
+			goto done;
+		}
+
+		J9_LINKED_LIST_ADD_LAST(vm->jfrState.chunkFiles, chunkFile);
+		result = true;
+done:
+		return result;
+	}
+
+	/**
+	 * Start a new chunk file once the current one has reached the
+	 * maximum chunk size or age. A limit of 0 disables that check.
+	 */
+	static bool
+	rotateChunkFileIfNeeded(J9JavaVM *vm)
+	{
+		PORT_ACCESS_FROM_JAVAVM(vm);
+		bool result = true;
+		J9JFRChunkFile *current = J9_LINKED_LIST_IS_EMPTY(vm->jfrState.chunkFiles) ? NULL : vm->jfrState.chunkFiles->linkPrevious;
+
+		if ((NULL == current)
+			|| ((0 != vm->jfrState.maxChunkSize) && (current->fileSize >= vm->jfrState.maxChunkSize))
+			|| ((0 != vm->jfrState.maxChunkAge) && ((j9time_current_time_millis() - current->startTime) >= vm->jfrState.maxChunkAge))
+		) {
+			closeJFRFile(vm);
+			result = openChunkFile(vm);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Record the size of the chunk file which was just written and delete
+	 * the oldest chunk files until the repository is within the maximum
+	 * age and size. The chunk file being written is always retained.
+	 */
+	static void
+	purgeChunkFiles(J9JavaVM *vm)
+	{
+		PORT_ACCESS_FROM_JAVAVM(vm);
+		J9JFRChunkFile *current = vm->jfrState.chunkFiles->linkPrevious;
+		I_64 now = j9time_current_time_millis();
+		U_64 totalSize = 0;
+		J9JFRChunkFile *chunkFile = NULL;
+
+		current->fileSize = (U_64)j9file_seek(vm->jfrState.blobFileDescriptor, 0, EsSeekCur);
+		current->endTime = now;
+
+		chunkFile = J9_LINKED_LIST_START_DO(vm->jfrState.chunkFiles);
+		while (NULL != chunkFile) {
+			totalSize += chunkFile->fileSize;
+			chunkFile = J9_LINKED_LIST_NEXT_DO(vm->jfrState.chunkFiles, chunkFile);
+		}
+
+		chunkFile = J9_LINKED_LIST_START_DO(vm->jfrState.chunkFiles);
+		while (chunkFile != current) {
+			J9JFRChunkFile *next = J9_LINKED_LIST_NEXT_DO(vm->jfrState.chunkFiles, chunkFile);
+			bool tooOld = (0 != vm->jfrState.maxAge) && ((now - chunkFile->endTime) > vm->jfrState.maxAge);
+			bool tooLarge = (0 != vm->jfrState.maxSize) && (totalSize > vm->jfrState.maxSize);
+
+			if (!tooOld && !tooLarge) {
+				break;
+			}
+			totalSize -= chunkFile->fileSize;
+			j9file_unlink(chunkFile->fileName);
+			J9_LINKED_LIST_REMOVE(vm->jfrState.chunkFiles, chunkFile);
+			j9mem_free_memory(chunkFile);
+			chunkFile = next;
+		}
+	}
+
+	/**
+	 * Open a recording file for reading and record its current size.
+	 */
+	static bool
+	openDumpSource(J9JavaVM *vm, const char *fileName, DumpSource *source)
+	{
+		PORT_ACCESS_FROM_JAVAVM(vm);
+		bool result = false;
+
+		source->fd = j9file_open(fileName, EsOpenRead, 0);
+		if (-1 != source->fd) {
+			source->size = j9file_seek(source->fd, 0, EsSeekEnd);
+			if ((source->size >= 0) && (0 == j9file_seek(source->fd, 0, EsSeekSet))) {
+				result = true;
+			} else {
+				j9file_close(source->fd);
+				source->fd = -1;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Append the first source->size bytes of a recording file to an open file.
+	 * Anything written to the source after it was opened is not copied.
+	 */
+	static bool
+	copyDumpSource(J9JavaVM *vm, DumpSource *source, IDATA targetFD, U_8 *copyBuffer)
+	{
+		PORT_ACCESS_FROM_JAVAVM(vm);
+		bool result = true;
+		I_64 remaining = source->size;
+
+		while (remaining > 0) {
+			IDATA bytesRead = j9file_read(source->fd, copyBuffer, (IDATA)OMR_MIN((U_64)remaining, DUMP_COPY_BUFFER_SIZE));
+			if (bytesRead <= 0) {
+				result = false;
+				break;
+			}
+			if (bytesRead != j9file_write(targetFD, copyBuffer, bytesRead)) {
+				result = false;
+				break;
+			}
+			remaining -= bytesRead;
+		}
 		return result;
 	}
 
@@ -154,14 +329,141 @@ done:
 	static bool
 	teardownJFRWriter(J9JavaVM *vm)
 	{
+		PORT_ACCESS_FROM_JAVAVM(vm);
+
 		closeJFRFile(vm);
+
+		/* The chunk files stay in the repository, only forget about them */
+		while (!J9_LINKED_LIST_IS_EMPTY(vm->jfrState.chunkFiles)) {
+			J9JFRChunkFile *chunkFile = vm->jfrState.chunkFiles;
+			J9_LINKED_LIST_REMOVE(vm->jfrState.chunkFiles, chunkFile);
+			j9mem_free_memory(chunkFile);
+		}
 		return true;
 	}
 
+	/**
+	 * Open the files of the retained recording for a dump. In continuous mode
+	 * these are the chunk files in the repository, otherwise it is the recording
+	 * file. All buffered data must already have been written out.
+	 *
+	 * The open files and their sizes are a consistent view of the recording:
+	 * chunk files rotated or purged afterwards stay readable through the open
+	 * descriptors and data appended afterwards is not copied, so the snapshot
+	 * can be copied by copySnapshot() without holding any JFR lock.
+	 *
+	 * The current thread must have exclusive VM access.
+	 *
+	 * @returns the snapshot, or NULL on failure
+	 */
+	static DumpSnapshot *
+	snapshotRecording(J9JavaVM *vm)
+	{
+		PORT_ACCESS_FROM_JAVAVM(vm);
+		bool continuous = (NULL != vm->jfrState.repository);
+		UDATA fileCount = 1;
+		DumpSnapshot *snapshot = NULL;
+
+		if (continuous) {
+			J9JFRChunkFile *chunkFile = J9_LINKED_LIST_START_DO(vm->jfrState.chunkFiles);
+			fileCount = 0;
+			while (NULL != chunkFile) {
+				fileCount += 1;
+				chunkFile = J9_LINKED_LIST_NEXT_DO(vm->jfrState.chunkFiles, chunkFile);
+			}
+		}
+
+		snapshot = (DumpSnapshot*)j9mem_allocate_memory(sizeof(DumpSnapshot) + (OMR_MAX(fileCount, 1) - 1) * sizeof(DumpSource), OMRMEM_CATEGORY_VM);
+		if (NULL == snapshot) {
+			goto done;
+		}
+		snapshot->sourceCount = 0;
+
+		if (continuous) {
+			J9JFRChunkFile *chunkFile = J9_LINKED_LIST_START_DO(vm->jfrState.chunkFiles);
+			while (NULL != chunkFile) {
+				if (!openDumpSource(vm, chunkFile->fileName, &snapshot->sources[snapshot->sourceCount])) {
+					goto fail;
+				}
+				snapshot->sourceCount += 1;
+				chunkFile = J9_LINKED_LIST_NEXT_DO(vm->jfrState.chunkFiles, chunkFile);
+			}
+		} else {
+			if (!openDumpSource(vm, vm->jfrState.jfrFileName, &snapshot->sources[0])) {
+				goto fail;
+			}
+			snapshot->sourceCount = 1;
+		}
+done:
+		return snapshot;
+fail:
+		freeSnapshot(vm, snapshot);
+		snapshot = NULL;
+		goto done;
+	}
+
+	/**
+	 * Copy a snapshot taken by snapshotRecording() to a file and free the snapshot.
+	 *
+	 * No JFR lock or VM access is required.
+	 */
+	static bool
+	copySnapshot(J9JavaVM *vm, DumpSnapshot *snapshot, const char *fileName)
+	{
+		PORT_ACCESS_FROM_JAVAVM(vm);
+		bool result = true;
+		IDATA targetFD = -1;
+		U_8 *copyBuffer = (U_8*)j9mem_allocate_memory(DUMP_COPY_BUFFER_SIZE, OMRMEM_CATEGORY_VM);
+
+		if (NULL == copyBuffer) {
+			result = false;
+			goto done;
+		}
+
+		targetFD = j9file_open(fileName, EsOpenWrite | EsOpenCreate | EsOpenTruncate, 0666);
+		if (-1 == targetFD) {
+			result = false;
+			goto done;
+		}
+
+		for (UDATA i = 0; (i < snapshot->sourceCount) && result; i++) {
+			result = copyDumpSource(vm, &snapshot->sources[i], targetFD, copyBuffer);
+		}
+
+		j9file_close(targetFD);
+done:
+		j9mem_free_memory(copyBuffer);
+		freeSnapshot(vm, snapshot);
+		return result;
+	}
+
+	/**
+	 * Close the files of a snapshot and free it.
+	 */
+	static void
+	freeSnapshot(J9JavaVM *vm, DumpSnapshot *snapshot)
+	{
+		PORT_ACCESS_FROM_JAVAVM(vm);
+
+		if (NULL != snapshot) {
+			for (UDATA i = 0; i < snapshot->sourceCount; i++) {
+				j9file_close(snapshot->sources[i].fd);
+			}
+			j9mem_free_memory(snapshot);
+		}
+	}
+
 	static bool
 	flushJFRDataToFile(J9VMThread *currentThread, bool finalWrite)
 	{
 		bool result = true;
+		J9JavaVM *vm = currentThread->javaVM;
+		bool continuous = (NULL != vm->jfrState.repository);
+
+		if (continuous && !rotateChunkFileIfNeeded(vm)) {
+			return false;
+		}
+
 		VM_JFRChunkWriter chunkWriter(currentThread, finalWrite);
 
 		if (!chunkWriter.isOkay()) {
@@ -181,6 +483,10 @@ done:
 			goto fail;
 		}
 
+		if (continuous) {
+			purgeChunkFiles(vm);
+		}
+
 done:
 		return result;
 
@@ -20,12 +20,17 @@
  * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
  *******************************************************************************/
 #include "j9protos.h"
+#include "jithook.h"
+#include "mmhook.h"
+#include "mmomrhook.h"
 #include "omrlinkedlist.h"
+#include "thrtypes.h"
 #include "ut_j9vm.h"
 #include "vm_internal.h"
 
 #if defined(J9VM_OPT_JFR)
 
+#include "AtomicSupport.hpp"
 #include "JFRWriter.hpp"
 
 extern "C" {
@@ -35,6 +40,10 @@ extern "C" {
 // TODO: allow different buffer sizes on different threads and configureable sizes
 #define J9JFR_THREAD_BUFFER_SIZE (1024*1024)
 #define J9JFR_GLOBAL_BUFFER_SIZE (10 * J9JFR_THREAD_BUFFER_SIZE)
+/* Number of bytes allocated between ObjectAllocationSample events on a thread */
+#define J9JFR_ALLOCATION_SAMPLING_INTERVAL (512 * 1024)
+/* Contended monitor enters and monitor waits shorter than this are not recorded */
+#define J9JFR_MONITOR_THRESHOLD_MILLIS 20
 
 static UDATA jfrEventSize(J9JFREvent *jfrEvent);
 static void tearDownJFR(J9JavaVM *vm);
@@ -48,6 +57,22 @@ static void jfrClassesUnload(J9HookInterface **hook, UDATA eventNum, void *event
 static void jfrVMShutdown(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData);
 static void jfrThreadStarting(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData);
 static void jfrThreadEnd(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData);
+static void jfrVMInitialized(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData);
+static void jfrMonitorContendedEnter(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData);
+static void jfrMonitorContendedEntered(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData);
+static void jfrMonitorWait(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData);
+static void jfrMonitorWaited(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData);
+static void jfrClassLoad(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData);
+static void jfrObjectAllocationSampling(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData);
+static void jfrGCStart(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData);
+static void jfrGCEnd(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData);
+#if defined(J9VM_INTERP_NATIVE_SUPPORT)
+static void jfrCompilingStart(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData);
+static void jfrCompilingEnd(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData);
+#endif /* defined(J9VM_INTERP_NATIVE_SUPPORT) */
+static J9Class* jfrMonitorClass(J9VMThread *currentThread, omrthread_monitor_t monitor);
+static bool allocateThreadBuffer(J9VMThread *vmThread);
+static void registerGCAndJITHooks(J9JavaVM *vm);
 static void initializeEventFields(J9VMThread *currentThread, J9JFREvent *jfrEvent, UDATA eventType);
 
 /**
@@ -74,6 +99,24 @@ jfrEventSize(J9JFREvent *jfrEvent)
 	case J9JFR_EVENT_TYPE_THREAD_SLEEP:
 		size = sizeof(J9JFRThreadSleep) + (((J9JFRThreadSleep*)jfrEvent)->stackTraceSize * sizeof(UDATA));
 		break;
+	case J9JFR_EVENT_TYPE_MONITOR_ENTER:
+		size = sizeof(J9JFRMonitorEnter) + (((J9JFRMonitorEnter*)jfrEvent)->stackTraceSize * sizeof(UDATA));
+		break;
+	case J9JFR_EVENT_TYPE_MONITOR_WAIT:
+		size = sizeof(J9JFRMonitorWait) + (((J9JFRMonitorWait*)jfrEvent)->stackTraceSize * sizeof(UDATA));
+		break;
+	case J9JFR_EVENT_TYPE_OBJECT_ALLOCATION_SAMPLE:
+		size = sizeof(J9JFRObjectAllocationSample) + (((J9JFRObjectAllocationSample*)jfrEvent)->stackTraceSize * sizeof(UDATA));
+		break;
+	case J9JFR_EVENT_TYPE_GARBAGE_COLLECTION:
+		size = sizeof(J9JFRGarbageCollection);
+		break;
+	case J9JFR_EVENT_TYPE_CLASS_LOAD:
+		size = sizeof(J9JFRClassLoad) + (((J9JFRClassLoad*)jfrEvent)->stackTraceSize * sizeof(UDATA));
+		break;
+	case J9JFR_EVENT_TYPE_COMPILATION:
+		size = sizeof(J9JFRCompilation);
+		break;
 	default:
 		Assert_VM_unreachable();
 		break;
@@ -289,6 +332,33 @@ reserveBufferWithStackTrace(J9VMThread *currentThread, J9VMThread *sampleThread,
 	return jfrEvent;
 }
 
+/**
+ * Allocate the local buffer of a thread.
+ *
+ * @param vmThread[in] the J9VMThread
+ *
+ * @returns true on success, false if the buffer could not be allocated
+ */
+static bool
+allocateThreadBuffer(J9VMThread *vmThread)
+{
+	PORT_ACCESS_FROM_VMC(vmThread);
+	bool result = false;
+
+	// TODO: allow different buffer sizes on different threads
+
+	U_8 *buffer = (U_8*)j9mem_allocate_memory(J9JFR_THREAD_BUFFER_SIZE, OMRMEM_CATEGORY_VM);
+	if (NULL != buffer) {
+		vmThread->jfrBuffer.bufferStart = buffer;
+		vmThread->jfrBuffer.bufferCurrent = buffer;
+		vmThread->jfrBuffer.bufferSize = J9JFR_THREAD_BUFFER_SIZE;
+		vmThread->jfrBuffer.bufferRemaining = J9JFR_THREAD_BUFFER_SIZE;
+		result = true;
+	}
+
+	return result;
+}
+
 /**
  * Hook for new thread being created.
  *
@@ -302,22 +372,14 @@ jfrThreadCreated(J9HookInterface **hook, UDATA eventNum, void *eventData, void *
 {
 	J9VMThreadCreatedEvent *event = (J9VMThreadCreatedEvent *)eventData;
 	J9VMThread *currentThread = event->vmThread;
-	PORT_ACCESS_FROM_VMC(currentThread);
 
 #if defined(DEBUG)
+	PORT_ACCESS_FROM_VMC(currentThread);
 	j9tty_printf(PORTLIB, "\n!!! thread created  %p\n", currentThread);
 #endif /* defined(DEBUG) */
 
-	// TODO: allow different buffer sizes on different threads
-
-	U_8 *buffer = (U_8*)j9mem_allocate_memory(J9JFR_THREAD_BUFFER_SIZE, OMRMEM_CATEGORY_VM);
-	if (NULL == buffer) {
+	if (!allocateThreadBuffer(currentThread)) {
 		event->continueInitialization = FALSE;
-	} else {
-		currentThread->jfrBuffer.bufferStart = buffer;
-		currentThread->jfrBuffer.bufferCurrent = buffer;
-		currentThread->jfrBuffer.bufferSize = J9JFR_THREAD_BUFFER_SIZE;
-		currentThread->jfrBuffer.bufferRemaining = J9JFR_THREAD_BUFFER_SIZE;
 	}
 }
 
@@ -496,6 +558,377 @@ jfrVMSleep(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userDa
 	}
 }
 
+/**
+ * Find the class of the object associated with a Java monitor.
+ *
+ * @param currentThread[in] the current J9VMThread
+ * @param monitor[in] the monitor
+ *
+ * @returns the class of the monitor object, or NULL if the monitor is not an object monitor
+ */
+static J9Class*
+jfrMonitorClass(J9VMThread *currentThread, omrthread_monitor_t monitor)
+{
+	J9ThreadAbstractMonitor *lock = (J9ThreadAbstractMonitor*)monitor;
+	J9Class *clazz = NULL;
+
+	if (J9_ARE_ANY_BITS_SET(lock->flags, J9THREAD_MONITOR_OBJECT)) {
+		clazz = J9OBJECT_CLAZZ(currentThread, (j9object_t)lock->userData);
+	}
+	return clazz;
+}
+
+/**
+ * Hook for thread about to block on a contended monitor.
+ *
+ * Only records the start time, the event is written once the monitor is acquired.
+ *
+ * @param hook[in] the VM hook interface
+ * @param eventNum[in] the event number
+ * @param eventData[in] the event data
+ * @param userData[in] the registered user data
+ */
+static void
+jfrMonitorContendedEnter(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData)
+{
+	J9VMMonitorContendedEnterEvent *event = (J9VMMonitorContendedEnterEvent *)eventData;
+	J9VMThread *currentThread = event->currentThread;
+	PORT_ACCESS_FROM_VMC(currentThread);
+
+	currentThread->jfrMonitorEnterStartTime = j9time_current_time_millis();
+}
+
+/**
+ * Hook for thread having acquired a contended monitor.
+ *
+ * @param hook[in] the VM hook interface
+ * @param eventNum[in] the event number
+ * @param eventData[in] the event data
+ * @param userData[in] the registered user data
+ */
+static void
+jfrMonitorContendedEntered(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData)
+{
+	J9VMMonitorContendedEnteredEvent *event = (J9VMMonitorContendedEnteredEvent *)eventData;
+	J9VMThread *currentThread = event->currentThread;
+	J9Class *monitorClass = jfrMonitorClass(currentThread, event->monitor);
+	PORT_ACCESS_FROM_VMC(currentThread);
+
+#if defined(DEBUG)
+	j9tty_printf(PORTLIB, "\n!!! monitor entered %p %p\n", currentThread, event->monitor);
+#endif /* defined(DEBUG) */
+
+	if ((NULL != monitorClass)
+		&& ((j9time_current_time_millis() - currentThread->jfrMonitorEnterStartTime) >= J9JFR_MONITOR_THRESHOLD_MILLIS)
+	) {
+		J9JFRMonitorEnter *jfrEvent = (J9JFRMonitorEnter*)reserveBufferWithStackTrace(currentThread, currentThread, J9JFR_EVENT_TYPE_MONITOR_ENTER, sizeof(*jfrEvent));
+		if (NULL != jfrEvent) {
+			jfrEvent->duration = jfrEvent->startTime - currentThread->jfrMonitorEnterStartTime;
+			jfrEvent->startTime = currentThread->jfrMonitorEnterStartTime;
+			jfrEvent->monitorClass = monitorClass;
+			jfrEvent->monitorAddress = (UDATA)event->monitor;
+		}
+	}
+}
+
+/**
+ * Hook for thread about to wait on a monitor.
+ *
+ * Only records the start time, the event is written once the wait completes.
+ *
+ * @param hook[in] the VM hook interface
+ * @param eventNum[in] the event number
+ * @param eventData[in] the event data
+ * @param userData[in] the registered user data
+ */
+static void
+jfrMonitorWait(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData)
+{
+	J9VMMonitorWaitEvent *event = (J9VMMonitorWaitEvent *)eventData;
+	J9VMThread *currentThread = event->currentThread;
+	PORT_ACCESS_FROM_VMC(currentThread);
+
+	currentThread->jfrMonitorWaitStartTime = j9time_current_time_millis();
+}
+
+/**
+ * Hook for thread having finished waiting on a monitor.
+ *
+ * @param hook[in] the VM hook interface
+ * @param eventNum[in] the event number
+ * @param eventData[in] the event data
+ * @param userData[in] the registered user data
+ */
+static void
+jfrMonitorWaited(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData)
+{
+	J9VMMonitorWaitedEvent *event = (J9VMMonitorWaitedEvent *)eventData;
+	J9VMThread *currentThread = event->currentThread;
+	J9Class *monitorClass = jfrMonitorClass(currentThread, event->monitor);
+	PORT_ACCESS_FROM_VMC(currentThread);
+
+#if defined(DEBUG)
+	j9tty_printf(PORTLIB, "\n!!! monitor waited %p %p\n", currentThread, event->monitor);
+#endif /* defined(DEBUG) */
+
+	if ((NULL != monitorClass)
+		&& ((j9time_current_time_millis() - currentThread->jfrMonitorWaitStartTime) >= J9JFR_MONITOR_THRESHOLD_MILLIS)
+	) {
+		J9JFRMonitorWait *jfrEvent = (J9JFRMonitorWait*)reserveBufferWithStackTrace(currentThread, currentThread, J9JFR_EVENT_TYPE_MONITOR_WAIT, sizeof(*jfrEvent));
+		if (NULL != jfrEvent) {
+			jfrEvent->duration = jfrEvent->startTime - currentThread->jfrMonitorWaitStartTime;
+			jfrEvent->startTime = currentThread->jfrMonitorWaitStartTime;
+			jfrEvent->monitorClass = monitorClass;
+			jfrEvent->monitorAddress = (UDATA)event->monitor;
+			jfrEvent->timeout = event->millis;
+			jfrEvent->timedOut = (J9THREAD_TIMED_OUT == event->reason);
+		}
+	}
+}
+
+/**
+ * Hook for a class having been loaded.
+ *
+ * The current thread has VM access and owns the class table mutex.
+ *
+ * @param hook[in] the VM hook interface
+ * @param eventNum[in] the event number
+ * @param eventData[in] the event data
+ * @param userData[in] the registered user data
+ */
+static void
+jfrClassLoad(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData)
+{
+	J9VMInternalClassLoadEvent *event = (J9VMInternalClassLoadEvent *)eventData;
+	J9VMThread *currentThread = event->currentThread;
+	J9Class *clazz = event->clazz;
+
+#if defined(DEBUG)
+	PORT_ACCESS_FROM_VMC(currentThread);
+	j9tty_printf(PORTLIB, "\n!!! class load %p %p\n", currentThread, clazz);
+#endif /* defined(DEBUG) */
+
+	/* Classes loaded before the class loader object exists cannot be described in the chunk */
+	if (!event->failed && (NULL != clazz->classLoader->classLoaderObject)) {
+		J9JFRClassLoad *jfrEvent = (J9JFRClassLoad*)reserveBufferWithStackTrace(currentThread, currentThread, J9JFR_EVENT_TYPE_CLASS_LOAD, sizeof(*jfrEvent));
+		if (NULL != jfrEvent) {
+			jfrEvent->loadedClass = clazz;
+			jfrEvent->initiatingClassLoader = clazz->classLoader;
+		}
+	}
+}
+
+/**
+ * Hook for the object allocation sampling threshold being reached.
+ *
+ * The GC samples at thread local heap refresh, so this fires once every
+ * sampling interval bytes allocated by the current thread.
+ *
+ * @param hook[in] the GC hook interface
+ * @param eventNum[in] the event number
+ * @param eventData[in] the event data
+ * @param userData[in] the registered user data
+ */
+static void
+jfrObjectAllocationSampling(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData)
+{
+	MM_ObjectAllocationSamplingEvent *event = (MM_ObjectAllocationSamplingEvent *)eventData;
+	J9VMThread *currentThread = event->currentThread;
+
+#if defined(DEBUG)
+	PORT_ACCESS_FROM_VMC(currentThread);
+	j9tty_printf(PORTLIB, "\n!!! allocation sample %p %p\n", currentThread, event->clazz);
+#endif /* defined(DEBUG) */
+
+	J9JFRObjectAllocationSample *jfrEvent = (J9JFRObjectAllocationSample*)reserveBufferWithStackTrace(currentThread, currentThread, J9JFR_EVENT_TYPE_OBJECT_ALLOCATION_SAMPLE, sizeof(*jfrEvent));
+	if (NULL != jfrEvent) {
+		jfrEvent->objectClass = event->clazz;
+		UDATA samplingInterval = currentThread->javaVM->memoryManagerFunctions->j9gc_get_allocation_sampling_interval(currentThread->javaVM);
+		jfrEvent->weight = OMR_MAX(event->objectSize, samplingInterval);
+	}
+}
+
+/**
+ * Hook for a garbage collection starting.
+ *
+ * Only records the start time, the event is written when the collection ends.
+ * Local and global collections keep separate start times, since a local
+ * collection may run a global one before it ends (e.g. on percolate).
+ *
+ * @param hook[in] the GC OMR hook interface
+ * @param eventNum[in] the event number
+ * @param eventData[in] the event data
+ * @param userData[in] the registered user data
+ */
+static void
+jfrGCStart(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData)
+{
+	J9JavaVM *vm = (J9JavaVM *)userData;
+	PORT_ACCESS_FROM_JAVAVM(vm);
+
+	if (J9HOOK_MM_OMR_GLOBAL_GC_START == eventNum) {
+		vm->jfrState.globalGCStartTime = j9time_current_time_millis();
+	} else {
+		vm->jfrState.localGCStartTime = j9time_current_time_millis();
+	}
+}
+
+/**
+ * Hook for a garbage collection ending.
+ *
+ * The current thread has exclusive VM access, no stack trace is recorded.
+ *
+ * @param hook[in] the GC OMR hook interface
+ * @param eventNum[in] the event number
+ * @param eventData[in] the event data
+ * @param userData[in] the registered user data
+ */
+static void
+jfrGCEnd(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData)
+{
+	J9JavaVM *vm = (J9JavaVM *)userData;
+	J9VMThread *currentThread = NULL;
+	UDATA gcName = J9JFR_GC_NAME_LOCAL;
+	I_64 startTime = 0;
+
+	if (J9HOOK_MM_OMR_GLOBAL_GC_END == eventNum) {
+		currentThread = (J9VMThread*)((MM_GlobalGCEndEvent *)eventData)->currentThread->_language_vmthread;
+		gcName = J9JFR_GC_NAME_GLOBAL;
+		startTime = vm->jfrState.globalGCStartTime;
+	} else {
+		currentThread = (J9VMThread*)((MM_LocalGCEndEvent *)eventData)->currentThread->_language_vmthread;
+		startTime = vm->jfrState.localGCStartTime;
+	}
+
+#if defined(DEBUG)
+	PORT_ACCESS_FROM_JAVAVM(vm);
+	j9tty_printf(PORTLIB, "\n!!! gc end %p %zu\n", currentThread, gcName);
+#endif /* defined(DEBUG) */
+
+	/* The collecting thread is reported as the event thread, it may be a GC thread without a java/lang/Thread */
+	J9JFRGarbageCollection *jfrEvent = (J9JFRGarbageCollection*)reserveBuffer(currentThread, sizeof(*jfrEvent));
+	if (NULL != jfrEvent) {
+		initializeEventFields(currentThread, (J9JFREvent*)jfrEvent, J9JFR_EVENT_TYPE_GARBAGE_COLLECTION);
+		jfrEvent->duration = jfrEvent->startTime - startTime;
+		jfrEvent->startTime = startTime;
+		jfrEvent->gcID = vm->jfrState.gcCount;
+		jfrEvent->gcName = gcName;
+	}
+	vm->jfrState.gcCount += 1;
+}
+
+#if defined(J9VM_INTERP_NATIVE_SUPPORT)
+/**
+ * Hook for the JIT starting to compile a method.
+ *
+ * Only records the start time, the event is written when the compilation ends.
+ *
+ * @param hook[in] the JIT hook interface
+ * @param eventNum[in] the event number
+ * @param eventData[in] the event data
+ * @param userData[in] the registered user data
+ */
+static void
+jfrCompilingStart(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData)
+{
+	J9CompilingStartEvent *event = (J9CompilingStartEvent *)eventData;
+	J9VMThread *currentThread = event->currentThread;
+	PORT_ACCESS_FROM_VMC(currentThread);
+
+	currentThread->jfrCompilationStartTime = j9time_current_time_millis();
+}
+
+/**
+ * Hook for the JIT having finished compiling a method.
+ *
+ * @param hook[in] the JIT hook interface
+ * @param eventNum[in] the event number
+ * @param eventData[in] the event data
+ * @param userData[in] the registered user data
+ */
+static void
+jfrCompilingEnd(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData)
+{
+	J9CompilingEndEvent *event = (J9CompilingEndEvent *)eventData;
+	J9VMThread *currentThread = event->currentThread;
+	J9JavaVM *vm = currentThread->javaVM;
+	J9Method *method = event->method;
+
+#if defined(DEBUG)
+	PORT_ACCESS_FROM_VMC(currentThread);
+	j9tty_printf(PORTLIB, "\n!!! compiling end %p %p\n", currentThread, method);
+#endif /* defined(DEBUG) */
+
+	J9JFRCompilation *jfrEvent = (J9JFRCompilation*)reserveBuffer(currentThread, sizeof(*jfrEvent));
+	if (NULL != jfrEvent) {
+		initializeEventFields(currentThread, (J9JFREvent*)jfrEvent, J9JFR_EVENT_TYPE_COMPILATION);
+		jfrEvent->duration = jfrEvent->startTime - currentThread->jfrCompilationStartTime;
+		jfrEvent->startTime = currentThread->jfrCompilationStartTime;
+		jfrEvent->method = method;
+		jfrEvent->compileID = VM_AtomicSupport::add(&vm->jfrState.compilationCount, 1);
+		jfrEvent->succeeded = J9_ARE_NO_BITS_SET((UDATA)method->extra, J9_STARTPC_NOT_TRANSLATED);
+	}
+}
+#endif /* defined(J9VM_INTERP_NATIVE_SUPPORT) */
+
+/**
+ * Hook for VM initialization having completed.
+ *
+ * The GC and JIT hook interfaces are not available when JFR is initialized,
+ * so the hooks on those interfaces are registered here.
+ *
+ * @param hook[in] the VM hook interface
+ * @param eventNum[in] the event number
+ * @param eventData[in] the event data
+ * @param userData[in] the registered user data
+ */
+static void
+jfrVMInitialized(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData)
+{
+	J9VMInitEvent *event = (J9VMInitEvent *)eventData;
+	J9VMThread *currentThread = event->vmThread;
+
+#if defined(DEBUG)
+	PORT_ACCESS_FROM_VMC(currentThread);
+	j9tty_printf(PORTLIB, "\n!!! vm initialized %p\n", currentThread);
+#endif /* defined(DEBUG) */
+
+	registerGCAndJITHooks(currentThread->javaVM);
+}
+
+/**
+ * Register the hooks on the GC and JIT hook interfaces.
+ *
+ * @param vm[in] the J9JavaVM
+ */
+static void
+registerGCAndJITHooks(J9JavaVM *vm)
+{
+	J9HookInterface **gcHooks = vm->memoryManagerFunctions->j9gc_get_hook_interface(vm);
+	J9HookInterface **gcOmrHooks = vm->memoryManagerFunctions->j9gc_get_omr_hook_interface(vm->omrVM);
+#if defined(J9VM_INTERP_NATIVE_SUPPORT)
+	J9HookInterface **jitHooks = getJITHookInterface(vm);
+#endif /* defined(J9VM_INTERP_NATIVE_SUPPORT) */
+
+	if (0 == (*gcHooks)->J9HookRegisterWithCallSite(gcHooks, J9HOOK_MM_OBJECT_ALLOCATION_SAMPLING, jfrObjectAllocationSampling, OMR_GET_CALLSITE(), NULL)) {
+		/* Only enable sampling if it is disabled, an interval set by the user or a JVMTI agent is left alone */
+		if (UDATA_MAX == vm->memoryManagerFunctions->j9gc_get_allocation_sampling_interval(vm)) {
+			vm->memoryManagerFunctions->j9gc_set_allocation_sampling_interval(vm, J9JFR_ALLOCATION_SAMPLING_INTERVAL);
+			vm->jfrState.allocationSamplingInterval = J9JFR_ALLOCATION_SAMPLING_INTERVAL;
+		}
+	}
+	(*gcOmrHooks)->J9HookRegisterWithCallSite(gcOmrHooks, J9HOOK_MM_OMR_GLOBAL_GC_START, jfrGCStart, OMR_GET_CALLSITE(), vm);
+	(*gcOmrHooks)->J9HookRegisterWithCallSite(gcOmrHooks, J9HOOK_MM_OMR_GLOBAL_GC_END, jfrGCEnd, OMR_GET_CALLSITE(), vm);
+	(*gcOmrHooks)->J9HookRegisterWithCallSite(gcOmrHooks, J9HOOK_MM_OMR_LOCAL_GC_START, jfrGCStart, OMR_GET_CALLSITE(), vm);
+	(*gcOmrHooks)->J9HookRegisterWithCallSite(gcOmrHooks, J9HOOK_MM_OMR_LOCAL_GC_END, jfrGCEnd, OMR_GET_CALLSITE(), vm);
+#if defined(J9VM_INTERP_NATIVE_SUPPORT)
+	if (NULL != jitHooks) {
+		(*jitHooks)->J9HookRegisterWithCallSite(jitHooks, J9HOOK_JIT_COMPILING_START, jfrCompilingStart, OMR_GET_CALLSITE(), NULL);
+		(*jitHooks)->J9HookRegisterWithCallSite(jitHooks, J9HOOK_JIT_COMPILING_END, jfrCompilingEnd, OMR_GET_CALLSITE(), NULL);
+	}
+#endif /* defined(J9VM_INTERP_NATIVE_SUPPORT) */
+}
+
 jint
 initializeJFR(J9JavaVM *vm)
 {
@@ -504,6 +937,8 @@ initializeJFR(J9JavaVM *vm)
 	J9HookInterface **vmHooks = getVMHookInterface(vm);
 	U_8 *buffer = NULL;
 
+	vm->jfrState.allocationSamplingInterval = 0;
+
 	if ((*vmHooks)->J9HookRegisterWithCallSite(vmHooks, J9HOOK_VM_THREAD_CREATED, jfrThreadCreated, OMR_GET_CALLSITE(), NULL)) {
 		goto fail;
 	}
@@ -525,6 +960,27 @@ initializeJFR(J9JavaVM *vm)
 	if ((*vmHooks)->J9HookRegisterWithCallSite(vmHooks, J9HOOK_VM_SLEEP, jfrVMSleep, OMR_GET_CALLSITE(), NULL)) {
 		goto fail;
 	}
+	if ((*vmHooks)->J9HookRegisterWithCallSite(vmHooks, J9HOOK_VM_MONITOR_CONTENDED_ENTER, jfrMonitorContendedEnter, OMR_GET_CALLSITE(), NULL)) {
+		goto fail;
+	}
+	if ((*vmHooks)->J9HookRegisterWithCallSite(vmHooks, J9HOOK_VM_MONITOR_CONTENDED_ENTERED, jfrMonitorContendedEntered, OMR_GET_CALLSITE(), NULL)) {
+		goto fail;
+	}
+	if ((*vmHooks)->J9HookRegisterWithCallSite(vmHooks, J9HOOK_VM_MONITOR_WAIT, jfrMonitorWait, OMR_GET_CALLSITE(), NULL)) {
+		goto fail;
+	}
+	if ((*vmHooks)->J9HookRegisterWithCallSite(vmHooks, J9HOOK_VM_MONITOR_WAITED, jfrMonitorWaited, OMR_GET_CALLSITE(), NULL)) {
+		goto fail;
+	}
+	if ((*vmHooks)->J9HookRegisterWithCallSite(vmHooks, J9HOOK_VM_INTERNAL_CLASS_LOAD, jfrClassLoad, OMR_GET_CALLSITE(), NULL)) {
+		goto fail;
+	}
+	if (J9_ARE_ANY_BITS_SET(vm->runtimeFlags, J9_RUNTIME_INITIALIZED)) {
+		/* JFR is being started after VM initialization, e.g. by JFR.start */
+		registerGCAndJITHooks(vm);
+	} else if ((*vmHooks)->J9HookRegisterWithCallSite(vmHooks, J9HOOK_VM_INITIALIZED, jfrVMInitialized, OMR_GET_CALLSITE(), NULL)) {
+		goto fail;
+	}
 
 	/* Allocate the global buffer and mutex */
 	buffer = (U_8*)j9mem_allocate_memory(J9JFR_GLOBAL_BUFFER_SIZE, OMRMEM_CATEGORY_VM);
@@ -536,6 +992,10 @@ initializeJFR(J9JavaVM *vm)
 	vm->jfrBuffer.bufferSize = J9JFR_GLOBAL_BUFFER_SIZE;
 	vm->jfrBuffer.bufferRemaining = J9JFR_GLOBAL_BUFFER_SIZE;
 	vm->jfrState.jfrChunkCount = 0;
+	vm->jfrState.localGCStartTime = 0;
+	vm->jfrState.globalGCStartTime = 0;
+	vm->jfrState.gcCount = 0;
+	vm->jfrState.compilationCount = 0;
 	if (omrthread_monitor_init_with_name(&vm->jfrBufferMutex, 0, "JFR global buffer mutex")) {
 		goto done;
 	}
@@ -573,6 +1033,37 @@ tearDownJFR(J9JavaVM *vm)
 	(*vmHooks)->J9HookUnregister(vmHooks, J9HOOK_VM_THREAD_STARTING, jfrThreadStarting, NULL);
 	(*vmHooks)->J9HookUnregister(vmHooks, J9HOOK_VM_THREAD_END, jfrThreadEnd, NULL);
 	(*vmHooks)->J9HookUnregister(vmHooks, J9HOOK_VM_SLEEP, jfrVMSleep, NULL);
+	(*vmHooks)->J9HookUnregister(vmHooks, J9HOOK_VM_MONITOR_CONTENDED_ENTER, jfrMonitorContendedEnter, NULL);
+	(*vmHooks)->J9HookUnregister(vmHooks, J9HOOK_VM_MONITOR_CONTENDED_ENTERED, jfrMonitorContendedEntered, NULL);
+	(*vmHooks)->J9HookUnregister(vmHooks, J9HOOK_VM_MONITOR_WAIT, jfrMonitorWait, NULL);
+	(*vmHooks)->J9HookUnregister(vmHooks, J9HOOK_VM_MONITOR_WAITED, jfrMonitorWaited, NULL);
+	(*vmHooks)->J9HookUnregister(vmHooks, J9HOOK_VM_INTERNAL_CLASS_LOAD, jfrClassLoad, NULL);
+	(*vmHooks)->J9HookUnregister(vmHooks, J9HOOK_VM_INITIALIZED, jfrVMInitialized, NULL);
+	if (NULL != vm->memoryManagerFunctions) {
+		J9HookInterface **gcHooks = vm->memoryManagerFunctions->j9gc_get_hook_interface(vm);
+		J9HookInterface **gcOmrHooks = vm->memoryManagerFunctions->j9gc_get_omr_hook_interface(vm->omrVM);
+
+		(*gcHooks)->J9HookUnregister(gcHooks, J9HOOK_MM_OBJECT_ALLOCATION_SAMPLING, jfrObjectAllocationSampling, NULL);
+		/* Disable sampling again if JFR enabled it and nobody has changed the interval since */
+		if ((0 != vm->jfrState.allocationSamplingInterval)
+			&& (vm->jfrState.allocationSamplingInterval == vm->memoryManagerFunctions->j9gc_get_allocation_sampling_interval(vm))
+		) {
+			vm->memoryManagerFunctions->j9gc_set_allocation_sampling_interval(vm, UDATA_MAX);
+		}
+		vm->jfrState.allocationSamplingInterval = 0;
+		(*gcOmrHooks)->J9HookUnregister(gcOmrHooks, J9HOOK_MM_OMR_GLOBAL_GC_START, jfrGCStart, vm);
+		(*gcOmrHooks)->J9HookUnregister(gcOmrHooks, J9HOOK_MM_OMR_GLOBAL_GC_END, jfrGCEnd, vm);
+		(*gcOmrHooks)->J9HookUnregister(gcOmrHooks, J9HOOK_MM_OMR_LOCAL_GC_START, jfrGCStart, vm);
+		(*gcOmrHooks)->J9HookUnregister(gcOmrHooks, J9HOOK_MM_OMR_LOCAL_GC_END, jfrGCEnd, vm);
+	}
+#if defined(J9VM_INTERP_NATIVE_SUPPORT)
+	if (NULL != getJITHookInterface(vm)) {
+		J9HookInterface **jitHooks = getJITHookInterface(vm);
+
+		(*jitHooks)->J9HookUnregister(jitHooks, J9HOOK_JIT_COMPILING_START, jfrCompilingStart, NULL);
+		(*jitHooks)->J9HookUnregister(jitHooks, J9HOOK_JIT_COMPILING_END, jfrCompilingEnd, NULL);
+	}
+#endif /* defined(J9VM_INTERP_NATIVE_SUPPORT) */
 
 	/* Free global buffer and mutex */
 
@@ -584,6 +1075,8 @@ tearDownJFR(J9JavaVM *vm)
 	}
 	vm->jfrState.metaDataBlobFileSize = 0;
 	j9mem_free_memory(vm->jfrState.metaDataBlobFile);
+	vm->jfrState.metaDataBlobFile = NULL;
+	vm->extendedRuntimeFlags2 &= ~(UDATA)J9_EXTENDED_RUNTIME2_JFR_ENABLED;
 }
 
 /**
@@ -602,6 +1095,78 @@ initializeEventFields(J9VMThread *currentThread, J9JFREvent *event, UDATA eventT
 	event->vmThread = currentThread;
 }
 
+BOOLEAN
+startJFR(J9VMThread *currentThread)
+{
+	J9JavaVM *vm = currentThread->javaVM;
+	BOOLEAN started = FALSE;
+
+	acquireExclusiveVMAccess(currentThread);
+	if (J9_ARE_NO_BITS_SET(vm->extendedRuntimeFlags2, J9_EXTENDED_RUNTIME2_JFR_ENABLED)) {
+		if (JNI_OK == initializeJFR(vm)) {
+			/* Threads which already exist record events if their buffer can be allocated */
+			J9VMThread *loopThread = vm->mainThread;
+			do {
+				allocateThreadBuffer(loopThread);
+				loopThread = J9_LINKED_LIST_NEXT_DO(vm->mainThread, loopThread);
+			} while (loopThread != NULL);
+			vm->extendedRuntimeFlags2 |= J9_EXTENDED_RUNTIME2_JFR_ENABLED;
+			started = TRUE;
+		}
+	}
+	releaseExclusiveVMAccess(currentThread);
+
+	return started;
+}
+
+BOOLEAN
+stopJFR(J9VMThread *currentThread)
+{
+	J9JavaVM *vm = currentThread->javaVM;
+	BOOLEAN stopped = FALSE;
+
+	acquireExclusiveVMAccess(currentThread);
+	if (J9_ARE_ANY_BITS_SET(vm->extendedRuntimeFlags2, J9_EXTENDED_RUNTIME2_JFR_ENABLED)) {
+		/* Flush and free all the thread buffers and write out the global buffer */
+		flushAllThreadBuffers(currentThread, true, false);
+		writeOutGlobalBuffer(currentThread, true);
+		tearDownJFR(vm);
+		stopped = TRUE;
+	}
+	releaseExclusiveVMAccess(currentThread);
+
+	return stopped;
+}
+
+BOOLEAN
+dumpJFR(J9VMThread *currentThread, const char *fileName)
+{
+	J9JavaVM *vm = currentThread->javaVM;
+	BOOLEAN dumped = FALSE;
+	VM_JFRWriter::DumpSnapshot *snapshot = NULL;
+
+	acquireExclusiveVMAccess(currentThread);
+	if (J9_ARE_ANY_BITS_SET(vm->extendedRuntimeFlags2, J9_EXTENDED_RUNTIME2_JFR_ENABLED)) {
+		flushAllThreadBuffers(currentThread, false, false);
+		writeOutGlobalBuffer(currentThread, false);
+		/* Only open the recording files while the other threads are stopped,
+		 * the copy runs without holding the jfrBufferMutex so event writers
+		 * (and the GC waiting on them) are never blocked by the file copy.
+		 */
+		snapshot = VM_JFRWriter::snapshotRecording(vm);
+	}
+	releaseExclusiveVMAccess(currentThread);
+
+	if (NULL != snapshot) {
+		/* Do not hold up exclusive VM access requests while the file is copied */
+		internalReleaseVMAccess(currentThread);
+		dumped = VM_JFRWriter::copySnapshot(vm, snapshot, fileName) ? TRUE : FALSE;
+		internalAcquireVMAccess(currentThread);
+	}
+
+	return dumped;
+}
+
 void
 jfrExecutionSample(J9VMThread *currentThread, J9VMThread *sampleThread)
 {
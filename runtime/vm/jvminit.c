@@ -850,6 +850,7 @@ freeJavaVM(J9JavaVM * vm)
 		for (U_32 i = 0; i < vm->continuationT2Size; i++) {
 			if (NULL != vm->continuationT2Cache[i]) {
 				freeJavaStack(vm, vm->continuationT2Cache[i]->stackObject);
+				j9mem_free_memory(vm->continuationT2Cache[i]->monitorRecords);
 				j9mem_free_memory(vm->continuationT2Cache[i]);
 			}
 		}
@@ -863,6 +864,11 @@ freeJavaVM(J9JavaVM * vm)
 	j9mem_free_memory(vm->osrGlobalBuffer);
 	vm->osrGlobalBuffer = NULL;
 
+#if defined(J9VM_OPT_JFR)
+	j9mem_free_memory(vm->jfrState.repository);
+	vm->jfrState.repository = NULL;
+#endif /* defined(J9VM_OPT_JFR) */
+
 #if defined(COUNT_BYTECODE_PAIRS)
 	freeBytecodePairs(vm);
 #endif /* COUNT_BYTECODE_PAIRS */
@@ -1844,6 +1850,112 @@ processContinuationCacheOptions(J9JavaVM *vm)
 }
 #endif /* JAVA_SPEC_VERSION >= 19 */
 
+#if defined(J9VM_OPT_JFR)
+/**
+ * Scan a JFR time limit of the form <n>[s|m|h|d], in seconds if no unit is given.
+ *
+ * Returns 0 on success, 1 if the value is malformed.
+ */
+static UDATA
+scanJFRTimeLimit(char **cursor, I_64 *millis)
+{
+	UDATA rc = 1;
+	U_64 value = 0;
+
+	if (0 == scan_u64(cursor, &value)) {
+		U_64 multiplier = 1000;
+
+		if (try_scan(cursor, "s")) {
+			/* seconds is the default */
+		} else if (try_scan(cursor, "m")) {
+			multiplier = 60 * 1000;
+		} else if (try_scan(cursor, "h")) {
+			multiplier = 60 * 60 * 1000;
+		} else if (try_scan(cursor, "d")) {
+			multiplier = 24 * 60 * 60 * 1000;
+		}
+		if (value <= ((U_64)I_64_MAX / multiplier)) {
+			*millis = (I_64)(value * multiplier);
+			rc = 0;
+		}
+	}
+
+	return rc;
+}
+
+/**
+ * -XX:FlightRecorderOptions=repository=<dir>,maxchunksize=<size>,maxchunkage=<time>,maxage=<time>,maxsize=<size>
+ *
+ * Sets the defaults for continuous recording and overrides them with the
+ * suboptions found. When a repository is given, the recording is written
+ * as a sequence of chunk files in that directory instead of a single file.
+ *
+ * Returns 0 on success, -1 if option parsing failed.
+ */
+static IDATA
+processJFROptions(J9JavaVM *vm)
+{
+	IDATA rc = 0;
+	IDATA argIndex = FIND_AND_CONSUME_VMARG(STARTSWITH_MATCH, VMOPT_XXFLIGHTRECORDEROPTIONS, NULL);
+
+	vm->jfrState.repository = NULL;
+	vm->jfrState.maxChunkSize = 12 * 1024 * 1024;
+	vm->jfrState.maxChunkAge = 60 * 1000;
+	vm->jfrState.maxAge = 0;
+	vm->jfrState.maxSize = 250 * 1024 * 1024;
+	vm->jfrState.chunkFileCount = 0;
+	vm->jfrState.chunkFiles = NULL;
+
+	if (argIndex >= 0) {
+		PORT_ACCESS_FROM_JAVAVM(vm);
+		char *cursor = NULL;
+
+		GET_OPTION_VALUE(argIndex, '=', &cursor);
+		while ((0 == rc) && (NULL != cursor) && ('\0' != *cursor)) {
+			if (try_scan(&cursor, "repository=")) {
+				UDATA length = 0;
+
+				while (('\0' != cursor[length]) && (',' != cursor[length])) {
+					length += 1;
+				}
+				j9mem_free_memory(vm->jfrState.repository);
+				vm->jfrState.repository = (char *)j9mem_allocate_memory(length + 1, OMRMEM_CATEGORY_VM);
+				if ((0 == length) || (NULL == vm->jfrState.repository)) {
+					rc = -1;
+				} else {
+					memcpy(vm->jfrState.repository, cursor, length);
+					vm->jfrState.repository[length] = '\0';
+					cursor += length;
+				}
+			} else if (try_scan(&cursor, "maxchunksize=")) {
+				if (0 != scan_u64_memory_size(&cursor, &vm->jfrState.maxChunkSize)) {
+					rc = -1;
+				}
+			} else if (try_scan(&cursor, "maxchunkage=")) {
+				if (0 != scanJFRTimeLimit(&cursor, &vm->jfrState.maxChunkAge)) {
+					rc = -1;
+				}
+			} else if (try_scan(&cursor, "maxage=")) {
+				if (0 != scanJFRTimeLimit(&cursor, &vm->jfrState.maxAge)) {
+					rc = -1;
+				}
+			} else if (try_scan(&cursor, "maxsize=")) {
+				if (0 != scan_u64_memory_size(&cursor, &vm->jfrState.maxSize)) {
+					rc = -1;
+				}
+			} else {
+				rc = -1;
+			}
+			if ((0 == rc) && ('\0' != *cursor) && !try_scan(&cursor, ",")) {
+				rc = -1;
+			}
+		}
+	}
+
+	return rc;
+}
+#endif /* defined(J9VM_OPT_JFR) */
+
 static VMINLINE void
 dumpClassLoader(J9JavaVM *vm, J9ClassLoader *loader, IDATA fd)
 {
@@ -4199,6 +4311,11 @@ processVMArgsFromFirstToLast(J9JavaVM * vm)
 		} else if (flightRecorder < noFlightRecorder) {
 			vm->extendedRuntimeFlags2 &= ~(UDATA)J9_EXTENDED_RUNTIME2_JFR_ENABLED;
 		}
+		if (0 != processJFROptions(vm)) {
+			PORT_ACCESS_FROM_JAVAVM(vm);
+			j9nls_printf(PORTLIB, J9NLS_ERROR, J9NLS_VM_INVALID_CMD_LINE_OPT, VMOPT_XXFLIGHTRECORDEROPTIONS);
+			return JNI_ERR;
+		}
 	}
 #endif /* defined(J9VM_OPT_JFR) */
 
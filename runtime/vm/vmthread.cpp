@@ -2265,6 +2265,9 @@ findObjectDeadlockedThreads(J9VMThread *currentThread,
 			state = getVMThreadObjectState(vmThread, &monitorObject, &owner, NULL);
 			switch (state) {
 			case J9VMTHREAD_STATE_BLOCKED:
+				/* A monitor held by an unmounted virtual thread has no owner J9VMThread. The owner
+				 * yielded while parked, so it is not blocked on anything and can't close a cycle.
+				 */
 				if (monitorObject && owner) {
 					isBlocked = TRUE;
 				}
@@ -516,6 +516,37 @@ public class Constants {
 	public static final String FINDSTACKVALUE_SUCCESS_KEY = "!j9vmthread, Found at";
 	public static final String FINDSTACKVALUE_FAILURE_KEY = "Problem running command";
 
+	/* Constants for heap and live set walking extensions */
+	public static final String FINDINSTANCES_CMD = "findinstances";
+	public static final String FINDINSTANCES_CLASS = "java/lang/Thread";
+	public static final String FINDINSTANCES_SUCCESS_KEY = "Found !j9class,Objects found: [1-9]";
+	public static final String FINDINSTANCES_FAILURE_KEY = "No class named";
+
+	public static final String CLASSHISTOGRAM_CMD = "classhistogram";
+	public static final String CLASSHISTOGRAM_CLASS = "java/lang/Class";
+	public static final String CLASSHISTOGRAM_SUCCESS_KEY = "Class histogram,java/lang/String,Total";
+	public static final String CLASSHISTOGRAM_FAILURE_KEY = "Invalid argument";
+
+	public static final String OBJECTREFS_CMD = "objectrefs";
+	public static final String OBJECTREFS_TARGET_CLASS = "java/lang/ThreadGroup";
+	public static final String OBJECTREFS_SUCCESS_KEY = "All Live Objects That Refer To";
+	public static final String OBJECTREFS_FAILURE_KEY = null;
+	public static final String OBJECTREFS_ROW = "!j9object ";
+
+	public static final String ROOTPATHFIND_CMD = "rootpathfind";
+	public static final String ROOTPATHFIND_SUCCESS_KEY = "========================================";
+	public static final String ROOTPATHFIND_FAILURE_KEY = "No paths from roots found";
+
+	public static final String ISOBJECTALIVE_CMD = "isobjectalive";
+	public static final String ISOBJECTALIVE_SUCCESS_KEY = "Object is live";
+	public static final String ISOBJECTALIVE_FAILURE_KEY = "Object is not live";
+
+	/* System properties controlling the number of threads used by the parallel walks and searches */
+	public static final String HEAP_WALKER_THREADS_PROPERTY = "ddr.heap.walker.threads";
+	public static final String LIVESET_WALKER_THREADS_PROPERTY = "ddr.liveset.walker.threads";
+	public static final String PATTERN_SEARCH_THREADS_PROPERTY = "ddr.pattern.search.threads";
+	public static final String PARALLEL_THREAD_COUNT = "4";
+
 	public static final String RANGES_CMD = "ranges";
 	public static final String RANGES_SUCCESS_KEY = "Base, Top, Size";
 	public static final String RANGES_FAILURE_KEY = null;
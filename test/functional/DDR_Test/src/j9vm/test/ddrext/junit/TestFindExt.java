@@ -21,6 +21,12 @@
  */
 package j9vm.test.ddrext.junit;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.testng.log4testng.Logger;
 
 import com.ibm.j9ddr.tools.ddrinteractive.CommandUtils;
@@ -151,6 +157,217 @@ public class TestFindExt extends DDRExtTesterBase {
 				Constants.FINDSTACKVALUE_FAILURE_KEY, true));
 	}
 
+	// The parallel pattern search must report the same first match as a
+	// search on a single thread
+	public void testFindpatternParallel() {
+		String findOutput = exec(Constants.FIND_CMD, new String[] { "u32", "b1234567" });
+		assertTrue(validate(findOutput, Constants.FIND_SUCCESS_KEY,
+				Constants.FIND_FAILURE_KEY));
+
+		String patternAddress = extractPatternAddr(findOutput, Constants.FIND_SUCCESS_KEY, 3);
+		if (patternAddress == null) {
+			fail("Can't get address of hexstring b1234567");
+			return;
+		}
+		// search from the page holding the first match so the search stays short
+		patternAddress = patternAddress.substring(0, patternAddress.length() - 3) + "000";
+		String[] findpatternArgs = new String[] { "b1,1," + patternAddress + ",100000000" };
+		String findpatternOutput = execWithThreads(Constants.PATTERN_SEARCH_THREADS_PROPERTY, "1",
+				Constants.FINDPATTERN_CMD, findpatternArgs);
+		String parallelFindpatternOutput = execWithThreads(Constants.PATTERN_SEARCH_THREADS_PROPERTY,
+				Constants.PARALLEL_THREAD_COUNT, Constants.FINDPATTERN_CMD, findpatternArgs);
+		assertTrue(validate(parallelFindpatternOutput, Constants.FINDPATTERN_SUCCESS_KEY,
+				Constants.FINDPATTERN_FAILURE_KEY));
+		assertEquals(extractLine(findpatternOutput, Constants.FINDPATTERN_SUCCESS_KEY),
+				extractLine(parallelFindpatternOutput, Constants.FINDPATTERN_SUCCESS_KEY));
+	}
+
+	// Walking the heap with several threads must find the same instances as
+	// walking it with one
+	public void testFindinstances() {
+		String findinstancesOutput = execWithThreads(Constants.HEAP_WALKER_THREADS_PROPERTY, "1",
+				Constants.FINDINSTANCES_CMD, new String[] { Constants.FINDINSTANCES_CLASS });
+		assertTrue(validate(findinstancesOutput, Constants.FINDINSTANCES_SUCCESS_KEY,
+				Constants.FINDINSTANCES_FAILURE_KEY));
+
+		String parallelOutput = execWithThreads(Constants.HEAP_WALKER_THREADS_PROPERTY,
+				Constants.PARALLEL_THREAD_COUNT, Constants.FINDINSTANCES_CMD,
+				new String[] { Constants.FINDINSTANCES_CLASS });
+		assertTrue(validate(parallelOutput, Constants.FINDINSTANCES_SUCCESS_KEY,
+				Constants.FINDINSTANCES_FAILURE_KEY));
+
+		assertEquals(extractLine(findinstancesOutput, "Objects found"),
+				extractLine(parallelOutput, "Objects found"));
+		assertEquals(extractInstanceAddresses(findinstancesOutput),
+				extractInstanceAddresses(parallelOutput));
+	}
+
+	// The parallel histogram must match the serial walk class by class, and
+	// count only the live instances that !findinstances reports
+	public void testClasshistogram() {
+		String histogramOutput = execWithThreads(Constants.HEAP_WALKER_THREADS_PROPERTY, "1",
+				Constants.CLASSHISTOGRAM_CMD, new String[0]);
+		assertTrue(validate(histogramOutput, Constants.CLASSHISTOGRAM_SUCCESS_KEY,
+				Constants.CLASSHISTOGRAM_FAILURE_KEY));
+
+		String parallelOutput = execWithThreads(Constants.HEAP_WALKER_THREADS_PROPERTY,
+				Constants.PARALLEL_THREAD_COUNT, Constants.CLASSHISTOGRAM_CMD, new String[] { "-count" });
+		assertTrue(validate(parallelOutput, Constants.CLASSHISTOGRAM_SUCCESS_KEY,
+				Constants.CLASSHISTOGRAM_FAILURE_KEY));
+
+		// the sort order differs but the classes, counts and sizes must not
+		assertEquals(extractLine(histogramOutput, "Classes found"),
+				extractLine(parallelOutput, "Classes found"));
+		Map<String, String> histogram = extractHistogram(histogramOutput);
+		assertFalse(histogram.isEmpty());
+		assertEquals(histogram, extractHistogram(parallelOutput));
+
+		// java/lang/Class is final, so !findinstances finds exactly the instances the histogram counts
+		String findinstancesOutput = execWithThreads(Constants.HEAP_WALKER_THREADS_PROPERTY, "1",
+				Constants.FINDINSTANCES_CMD, new String[] { Constants.CLASSHISTOGRAM_CLASS });
+		String classRow = extractHistogramRow(histogramOutput, Constants.CLASSHISTOGRAM_CLASS);
+		assertNotNull(classRow);
+		assertEquals("Objects found: " + classRow.split(" ")[0],
+				extractLine(findinstancesOutput, "Objects found"));
+	}
+
+	// The live set walk behind !objectrefs and !isobjectalive must give the
+	// same answers on one thread and on several
+	public void testObjectrefsAndRootpath() {
+		String findinstancesOutput = exec(Constants.FINDINSTANCES_CMD,
+				new String[] { Constants.OBJECTREFS_TARGET_CLASS });
+		List<String> candidates = extractInstanceAddresses(findinstancesOutput);
+		if (candidates.isEmpty()) {
+			log.info(findinstancesOutput);
+			fail("No instances of " + Constants.OBJECTREFS_TARGET_CLASS + " found");
+			return;
+		}
+
+		String referencedObject = null;
+		for (String objectAddress : candidates.subList(0, Math.min(3, candidates.size()))) {
+			String[] objectrefsArgs = new String[] { objectAddress, "rootWalk" };
+			String objectrefsOutput = execWithThreads(Constants.LIVESET_WALKER_THREADS_PROPERTY, "1",
+					Constants.OBJECTREFS_CMD, objectrefsArgs);
+			assertTrue(validate(objectrefsOutput, Constants.OBJECTREFS_SUCCESS_KEY,
+					Constants.OBJECTREFS_FAILURE_KEY));
+
+			String parallelOutput = execWithThreads(Constants.LIVESET_WALKER_THREADS_PROPERTY,
+					Constants.PARALLEL_THREAD_COUNT, Constants.OBJECTREFS_CMD, objectrefsArgs);
+			assertTrue(validate(parallelOutput, Constants.OBJECTREFS_SUCCESS_KEY,
+					Constants.OBJECTREFS_FAILURE_KEY));
+
+			List<String> referrers = extractReferrers(objectrefsOutput);
+			assertEquals(referrers, extractReferrers(parallelOutput));
+			if (!referrers.isEmpty() && (referencedObject == null)) {
+				referencedObject = objectAddress;
+			}
+		}
+
+		if (referencedObject == null) {
+			fail("No live references found to any instance of " + Constants.OBJECTREFS_TARGET_CLASS);
+			return;
+		}
+
+		// an object referred to from the live set must itself be live
+		String rootpathOutput = exec(Constants.ROOTPATHFIND_CMD, new String[] { referencedObject });
+		assertTrue(validate(rootpathOutput, Constants.ROOTPATHFIND_SUCCESS_KEY,
+				Constants.ROOTPATHFIND_FAILURE_KEY));
+
+		String aliveOutput = execWithThreads(Constants.LIVESET_WALKER_THREADS_PROPERTY, "1",
+				Constants.ISOBJECTALIVE_CMD, new String[] { referencedObject });
+		assertTrue(validate(aliveOutput, Constants.ISOBJECTALIVE_SUCCESS_KEY,
+				Constants.ISOBJECTALIVE_FAILURE_KEY));
+
+		String parallelAliveOutput = execWithThreads(Constants.LIVESET_WALKER_THREADS_PROPERTY,
+				Constants.PARALLEL_THREAD_COUNT, Constants.ISOBJECTALIVE_CMD, new String[] { referencedObject });
+		assertTrue(validate(parallelAliveOutput, Constants.ISOBJECTALIVE_SUCCESS_KEY,
+				Constants.ISOBJECTALIVE_FAILURE_KEY));
+	}
+
+	/**
+	 * Runs a command with the given thread count system property set, restoring
+	 * the previous value afterwards.
+	 */
+	private String execWithThreads(String property, String threads, String ddrExtCmd, String[] args) {
+		String previous = System.getProperty(property);
+		System.setProperty(property, threads);
+		try {
+			return exec(ddrExtCmd, args);
+		} finally {
+			if (previous == null) {
+				System.clearProperty(property);
+			} else {
+				System.setProperty(property, previous);
+			}
+		}
+	}
+
+	private static String extractLine(String output, String key) {
+		if (output != null) {
+			for (String aLine : output.split("\\r?\\n")) {
+				if (aLine.contains(key)) {
+					return aLine.trim();
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Maps the !j9class address of each histogram row to its instance count
+	 * and total size.
+	 */
+	private static Map<String, String> extractHistogram(String histogramOutput) {
+		Map<String, String> histogram = new HashMap<>();
+		if (histogramOutput != null) {
+			for (String aLine : histogramOutput.split("\\r?\\n")) {
+				String[] columns = aLine.trim().split("\\s+");
+				if ((columns.length == 4) && columns[3].startsWith(Constants.HEXADDRESS_HEADER)) {
+					histogram.put(columns[3], columns[0] + " " + columns[1]);
+				}
+			}
+		}
+		return histogram;
+	}
+
+	private static String extractHistogramRow(String histogramOutput, String className) {
+		for (String aLine : histogramOutput.split("\\r?\\n")) {
+			String[] columns = aLine.trim().split("\\s+");
+			if ((columns.length == 4) && columns[2].equals(className)) {
+				return columns[0] + " " + columns[1];
+			}
+		}
+		return null;
+	}
+
+	private static List<String> extractInstanceAddresses(String findinstancesOutput) {
+		List<String> addresses = new ArrayList<>();
+		if (findinstancesOutput != null) {
+			for (String aLine : findinstancesOutput.split("\\r?\\n")) {
+				String trimmed = aLine.trim();
+				if (trimmed.startsWith(Constants.HEXADDRESS_HEADER)) {
+					addresses.add(trimmed.split("\\s+")[0]);
+				}
+			}
+		}
+		Collections.sort(addresses);
+		return addresses;
+	}
+
+	private static List<String> extractReferrers(String objectrefsOutput) {
+		List<String> referrers = new ArrayList<>();
+		if (objectrefsOutput != null) {
+			for (String aLine : objectrefsOutput.split("\\r?\\n")) {
+				String trimmed = aLine.trim();
+				if (trimmed.startsWith(Constants.OBJECTREFS_ROW)) {
+					referrers.add(trimmed);
+				}
+			}
+		}
+		Collections.sort(referrers);
+		return referrers;
+	}
+
 	private static String extractJ9RomMethodAddress(String j9methodOut) {
 		String[] outputLines = j9methodOut.split("!j9rommethod");
 		String[] lineSplit = outputLines[1].split(System.getProperty("line.separator"));
@@ -27,6 +27,8 @@ import java.util.concurrent.TimeUnit;
 import java.util.Scanner;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileReader;
@@ -51,6 +53,8 @@ public class JITServerTest {
 	private static final int CLIENT_TEST_TIME_MS = 45 * 1000;
 	private static final int SUCCESS_RETURN_VALUE = 0;
 	private static final int DESTROY_SCC_WAIT_TIME_MS = 1500;
+	private static final int AOT_CACHE_CLIENT_RESTARTS = 4;
+	private static final long AOT_CACHE_MAX_BYTES = 4 * 1024 * 1024;
 
 	private final ProcessBuilder clientBuilder;
 	private final ProcessBuilder serverBuilder;
@@ -680,4 +684,81 @@ public class JITServerTest {
 			destroyAndCheckProcess(server, serverBuilder);
 		}
 	}
+
+	// Collect the sizes reported by every "AOT caches now use <n> bytes" line of the given log file
+	private static ArrayList<Long> readAOTCacheSizes(File logFile) throws FileNotFoundException, IOException {
+		final Pattern sizePattern = Pattern.compile("AOT caches now use (\\d+) bytes");
+		final ArrayList<Long> sizes = new ArrayList<>();
+		try (BufferedReader bfReader = new BufferedReader(new FileReader(logFile))) {
+			String line;
+			while ((line = bfReader.readLine()) != null) {
+				Matcher m = sizePattern.matcher(line);
+				if (m.find())
+					sizes.add(Long.parseLong(m.group(1)));
+			}
+		}
+		return sizes;
+	}
+
+	public void testServerAOTCacheStaysWithinLimit() throws IOException, InterruptedException {
+		logger.info("running testServerAOTCacheStaysWithinLimit: INFO and above level logging enabled");
+
+		// Run this tests only for the test variation with AOT Cache option specified
+		if (System.getProperty("CLIENT_PROGRAM").contains(aotCacheOption)) {
+			// Use a small AOT cache budget so that the clients' classes keep pushing the caches to their limit
+			final ArrayList<String> serverCommand = new ArrayList<>(serverBuilder.command());
+			serverCommand.add("-XX:JITServerAOTmx=" + (AOT_CACHE_MAX_BYTES / 1024) + "k");
+			final ProcessBuilder limitedServerBuilder = new ProcessBuilder(serverCommand);
+			limitedServerBuilder.redirectErrorStream(true);
+			limitedServerBuilder.environment().putAll(serverBuilder.environment());
+			redirectProcessOutputs(limitedServerBuilder, "testServerAOTCacheStaysWithinLimit.server");
+
+			updateJITServerPort();
+
+			final Process server = startProcess(limitedServerBuilder, "server");
+
+			Thread.sleep(SERVER_START_WAIT_TIME_MS);
+
+			// Every client starts with an empty SCC and loads its classes anew, so the records of the previous
+			// clients' classes become unreferenced once those clients are gone.
+			for (int i = 0; i < AOT_CACHE_CLIENT_RESTARTS; i++) {
+				if (checkCacheExists("test_jitscc")) {
+					destroyCache("test_jitscc");
+					Thread.sleep(DESTROY_SCC_WAIT_TIME_MS);
+				}
+
+				redirectProcessOutputs(clientBuilder, "testServerAOTCacheStaysWithinLimit.client" + i);
+				final Process client = startProcess(clientBuilder, "client");
+
+				logger.info("Waiting for " + CLIENT_TEST_TIME_MS + " millis.");
+				Thread.sleep(CLIENT_TEST_TIME_MS);
+
+				logger.info("Stopping client...");
+				destroyAndCheckProcess(client, clientBuilder);
+			}
+
+			// Destroy the SCC for cleanup
+			logger.info("Destroy the cache test_jitscc");
+			destroyCache("test_jitscc");
+			Thread.sleep(DESTROY_SCC_WAIT_TIME_MS);
+
+			logger.info("Stopping server...");
+			destroyAndCheckProcess(server, limitedServerBuilder);
+
+			final ArrayList<Long> sizes = new ArrayList<>();
+			final File[] serverLogs = new File(System.getProperty("user.dir")).listFiles(
+				(dir, name) -> name.matches("testServerAOTCacheStaysWithinLimit.server.jitverboselog.out.*"));
+			if (serverLogs != null) {
+				for (File serverLog : serverLogs)
+					sizes.addAll(readAOTCacheSizes(serverLog));
+			}
+			logger.info("AOT cache sizes after eviction: " + sizes);
+			if (sizes.isEmpty())
+				AssertJUnit.fail("The server never had to evict from its AOT caches.");
+			for (Long size : sizes) {
+				AssertJUnit.assertTrue("The AOT caches use " + size + " bytes, more than the " + AOT_CACHE_MAX_BYTES + " bytes allowed",
+					size.longValue() <= AOT_CACHE_MAX_BYTES);
+			}
+		}
+	}
 }
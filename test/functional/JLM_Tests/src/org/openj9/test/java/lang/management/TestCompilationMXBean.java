@@ -30,6 +30,8 @@ import org.testng.Assert;
 import org.testng.AssertJUnit;
 import java.lang.management.CompilationMXBean;
 import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Hashtable;
 import java.util.Iterator;
@@ -49,6 +51,8 @@ import javax.management.MBeanOperationInfo;
 import javax.management.MBeanServer;
 import javax.management.ObjectName;
 import javax.management.ReflectionException;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
 
 /**
  * @brief Test the CompilationMXBeanImpl implementation by IBM.  Make sanity checks and also, where
@@ -68,8 +72,21 @@ public class TestCompilationMXBean {
 		attribs.put("Name", new AttributeData(String.class.getName(), true, false, false));
 		attribs.put("TotalCompilationTime", new AttributeData(Long.TYPE.getName(), true, false, false));
 		attribs.put("CompilationTimeMonitoringSupported", new AttributeData(Boolean.TYPE.getName(), true, false, true));
+
+		// IBM specific attributes
+		attribs.put("CompilationQueueLength", new AttributeData(Integer.TYPE.getName(), true, false, false));
+		attribs.put("CompilationQueueWaitHistogram", new AttributeData("[J", true, false, false));
+		attribs.put("CompilationCounts", new AttributeData(TabularData.class.getName(), true, false, false));
+		attribs.put("CompilationFailureCounts", new AttributeData(TabularData.class.getName(), true, false, false));
+		attribs.put("RecompilationCount", new AttributeData(Long.TYPE.getName(), true, false, false));
+		attribs.put("AOTLoadCount", new AttributeData(Long.TYPE.getName(), true, false, false));
+		attribs.put("AOTStoreCount", new AttributeData(Long.TYPE.getName(), true, false, false));
+		attribs.put("CodeCacheUsage", new AttributeData("[L" + CompositeData.class.getName() + ";", true, false, false));
+		attribs.put("DataCacheUsage", new AttributeData("[L" + CompositeData.class.getName() + ";", true, false, false));
 	}// end static initializer
 
+	private static final String[] LEVEL_NAMES = { "noOpt", "cold", "warm", "hot", "veryHot", "scorching" };
+
 	private CompilationMXBean cb;
 	private MBeanServer mbs;
 	private ObjectName objName;
@@ -111,6 +128,122 @@ public class TestCompilationMXBean {
 		}
 	}
 
+	@Test
+	public final void testIsExtendedBean() {
+		AssertJUnit.assertTrue(cb instanceof com.ibm.lang.management.CompilationMXBean);
+	}
+
+	/* Test API getCompilationQueueLength(). */
+	@Test
+	public final void testGetCompilationQueueLength() {
+		com.ibm.lang.management.CompilationMXBean ecb = (com.ibm.lang.management.CompilationMXBean) cb;
+		AssertJUnit.assertTrue(ecb.getCompilationQueueLength() >= 0);
+	}
+
+	/* Test API getCompilationQueueWaitHistogram(): one bucket per power of two milliseconds, never decreasing,
+	 * and populated once compilations have gone through the queue.
+	 */
+	@Test
+	public final void testGetCompilationQueueWaitHistogram() {
+		com.ibm.lang.management.CompilationMXBean ecb = (com.ibm.lang.management.CompilationMXBean) cb;
+		long[] before = ecb.getCompilationQueueWaitHistogram();
+		AssertJUnit.assertNotNull(before);
+		AssertJUnit.assertEquals(16, before.length);
+		for (long count : before) {
+			AssertJUnit.assertTrue(count >= 0);
+		}
+		exerciseCompiler();
+		long[] after = ecb.getCompilationQueueWaitHistogram();
+		AssertJUnit.assertEquals(before.length, after.length);
+		long total = 0;
+		for (int i = 0; i < before.length; i++) {
+			AssertJUnit.assertTrue("bucket " + i + " decreased", after[i] >= before[i]);
+			total += after[i];
+		}
+		// Every queued compilation lands in some bucket, and the compiler has been exercised by now.
+		AssertJUnit.assertTrue("no queue wait times recorded", total > 0);
+	}
+
+	/* Test APIs getCompilationCounts() and getCompilationFailureCounts(). */
+	@Test
+	public final void testGetCompilationCounts() {
+		com.ibm.lang.management.CompilationMXBean ecb = (com.ibm.lang.management.CompilationMXBean) cb;
+		Map<String, Long> before = ecb.getCompilationCounts();
+		checkLevelCounts(before);
+		checkLevelCounts(ecb.getCompilationFailureCounts());
+
+		long total = 0;
+		for (Long count : before.values()) {
+			total += count.longValue();
+		}
+		// The class library is compiled well before the test harness gets here.
+		AssertJUnit.assertTrue("no compilations reported", total > 0);
+
+		exerciseCompiler();
+		Map<String, Long> after = ecb.getCompilationCounts();
+		for (String level : LEVEL_NAMES) {
+			AssertJUnit.assertTrue(level + " count decreased", after.get(level).longValue() >= before.get(level).longValue());
+		}
+	}
+
+	/* Test APIs getRecompilationCount(), getAOTLoadCount() and getAOTStoreCount(). */
+	@Test
+	public final void testGetRecompilationAndAOTCounts() {
+		com.ibm.lang.management.CompilationMXBean ecb = (com.ibm.lang.management.CompilationMXBean) cb;
+		long recompilations = ecb.getRecompilationCount();
+		long aotLoads = ecb.getAOTLoadCount();
+		long aotStores = ecb.getAOTStoreCount();
+		AssertJUnit.assertTrue(recompilations >= 0);
+		AssertJUnit.assertTrue(aotLoads >= 0);
+		AssertJUnit.assertTrue(aotStores >= 0);
+		exerciseCompiler();
+		AssertJUnit.assertTrue(ecb.getRecompilationCount() >= recompilations);
+		AssertJUnit.assertTrue(ecb.getAOTLoadCount() >= aotLoads);
+		AssertJUnit.assertTrue(ecb.getAOTStoreCount() >= aotStores);
+	}
+
+	/* Test APIs getCodeCacheUsage() and getDataCacheUsage(). */
+	@Test
+	public final void testGetCacheUsage() {
+		com.ibm.lang.management.CompilationMXBean ecb = (com.ibm.lang.management.CompilationMXBean) cb;
+		MemoryUsage[] codeCaches = ecb.getCodeCacheUsage();
+		AssertJUnit.assertNotNull(codeCaches);
+		// Compiled code exists, so there is at least one code cache segment.
+		AssertJUnit.assertTrue(codeCaches.length > 0);
+		checkSegmentUsage(codeCaches);
+		checkSegmentUsage(ecb.getDataCacheUsage());
+	}
+
+	private static void checkLevelCounts(Map<String, Long> counts) {
+		AssertJUnit.assertNotNull(counts);
+		AssertJUnit.assertEquals(Arrays.asList(LEVEL_NAMES), Arrays.asList(counts.keySet().toArray(new String[0])));
+		for (Long count : counts.values()) {
+			AssertJUnit.assertTrue(count.longValue() >= 0);
+		}
+	}
+
+	private static void checkSegmentUsage(MemoryUsage[] segments) {
+		AssertJUnit.assertNotNull(segments);
+		for (MemoryUsage usage : segments) {
+			AssertJUnit.assertNotNull(usage);
+			AssertJUnit.assertTrue(usage.getCommitted() > 0);
+			AssertJUnit.assertTrue(usage.getUsed() >= 0);
+			AssertJUnit.assertTrue(usage.getUsed() <= usage.getCommitted());
+			AssertJUnit.assertEquals(usage.getCommitted(), usage.getMax());
+		}
+	}
+
+	private static long sink;
+
+	/* Run a small loop often enough to queue some compilations. */
+	private static void exerciseCompiler() {
+		long sum = 0;
+		for (int i = 0; i < 200_000; i++) {
+			sum += Long.toString(i).hashCode();
+		}
+		sink = sum;
+	}
+
 	/* Test API isCompilationTimeMonitoringSupported(). */
 	@Test
 	public final void testIsCompilationTimeMonitoringSupported() {
@@ -260,6 +393,19 @@ public class TestCompilationMXBean {
 					// This could be true or false - just so long as we don't
 					// get an exception raised...
 					boolean ctmsVal = ((Boolean)value).booleanValue();
+				} else if (name.equals("CompilationQueueLength")) {
+					AssertJUnit.assertTrue(((Integer)(value)) > -1);
+				} else if (name.equals("CompilationQueueWaitHistogram")) {
+					AssertJUnit.assertEquals(16, ((long[])(value)).length);
+				} else if (name.equals("CompilationCounts") || name.equals("CompilationFailureCounts")) {
+					AssertJUnit.assertEquals(LEVEL_NAMES.length, ((TabularData)(value)).size());
+				} else if (name.equals("RecompilationCount") || name.equals("AOTLoadCount") || name.equals("AOTStoreCount")) {
+					AssertJUnit.assertTrue(((Long)(value)) > -1);
+				} else if (name.equals("CodeCacheUsage") || name.equals("DataCacheUsage")) {
+					for (CompositeData usage : (CompositeData[])(value)) {
+						MemoryUsage segment = MemoryUsage.from(usage);
+						AssertJUnit.assertTrue(segment.getUsed() <= segment.getCommitted());
+					}
 				} else {
 					Assert.fail("Unexpected attribute found!");
 				}
@@ -303,7 +449,7 @@ public class TestCompilationMXBean {
 
 	@Test
 	public final void testInvoke() {
-		// CompilationMXBean has no operations to invoke...
+		// CompilationMXBean has no operations to invoke, the IBM extensions are all attributes...
 		try {
 			Object retVal = mbs.invoke(objName, "KissTheBlarney", new Object[] { Long.valueOf(7446), Long.valueOf(54) },
 					new String[] { "java.lang.Long", "java.lang.Long" });
@@ -357,10 +503,10 @@ public class TestCompilationMXBean {
 		// Print out the description here.
 		logger.debug("MBean description for " + cb.getClass().getName() + ": " + mbi.getDescription());
 
-		// Three attributes - none writable.
+		// Thirteen attributes (including ObjectName) - none writable.
 		MBeanAttributeInfo[] attributes = mbi.getAttributes();
 		AssertJUnit.assertNotNull(attributes);
-		AssertJUnit.assertTrue(attributes.length == 4);
+		AssertJUnit.assertTrue(attributes.length == 13);
 		logger.debug("TestCompilationMXBean.java: testGetMBeanInfo: attributes.length: " + attributes.length);
 		for (int i = 0; i < attributes.length; i++) {
 			MBeanAttributeInfo info = attributes[i];
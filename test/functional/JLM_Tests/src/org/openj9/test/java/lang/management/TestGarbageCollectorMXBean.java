@@ -29,6 +29,7 @@ import org.testng.Assert;
 import org.testng.AssertJUnit;
 import java.lang.management.GarbageCollectorMXBean;
 import java.lang.management.ManagementFactory;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Hashtable;
 import java.util.Iterator;
@@ -88,8 +89,12 @@ public class TestGarbageCollectorMXBean {
 		attribs.put("MemoryUsed", new AttributeData(Long.TYPE.getName(), true, false, false));
 		attribs.put("TotalMemoryFreed", new AttributeData(Long.TYPE.getName(), true, false, false));
 		attribs.put("TotalCompacts", new AttributeData(Long.TYPE.getName(), true, false, false));
+		attribs.put("PauseTimeHistogram", new AttributeData("[J", true, false, false));
 	}// end static initializer
 
+	/* The number of buckets of the pause time histogram. */
+	private static final int PAUSE_HISTOGRAM_BUCKETS = 128;
+
 	private GarbageCollectorMXBean gcb;
 
 	@BeforeClass
@@ -131,6 +136,162 @@ public class TestGarbageCollectorMXBean {
 		AssertJUnit.assertTrue(((com.ibm.lang.management.GarbageCollectorMXBean)gcb).getLastCollectionEndTime() > -1);
 	}
 
+	/* Return the exclusive upper bound, in microseconds, of a pause time histogram bucket. */
+	private static long pauseHistogramUpperBound(int index) {
+		if (index < 4) {
+			return index + 1;
+		}
+		return (5L + (index % 4)) << ((index / 4) - 1);
+	}
+
+	/* Compute the percentile the bean is documented to return for the given histogram. */
+	private static long expectedPercentile(long[] histogram, double percentile) {
+		long total = 0;
+		for (long count : histogram) {
+			total += count;
+		}
+		if (total == 0) {
+			return 0;
+		}
+		long rank = Math.max(1, (long) Math.ceil((percentile * total) / 100.0));
+		long seen = 0;
+		for (int i = 0; i < histogram.length; i++) {
+			seen += histogram[i];
+			if (seen >= rank) {
+				return pauseHistogramUpperBound(i);
+			}
+		}
+		return pauseHistogramUpperBound(histogram.length - 1);
+	}
+
+	/* Return the IBM beans of the collectors that have run at least once, after forcing a collection. */
+	private static List<com.ibm.lang.management.GarbageCollectorMXBean> collectedBeans() {
+		System.gc();
+		List<com.ibm.lang.management.GarbageCollectorMXBean> beans = new java.util.ArrayList<>();
+		for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+			if (bean.getCollectionCount() > 0) {
+				beans.add((com.ibm.lang.management.GarbageCollectorMXBean) bean);
+			}
+		}
+		AssertJUnit.assertFalse("no collector ran after System.gc()", beans.isEmpty());
+		return beans;
+	}
+
+	@Test
+	public final void testGetPauseTimeHistogram() {
+		for (com.ibm.lang.management.GarbageCollectorMXBean bean : collectedBeans()) {
+			long before = bean.getCollectionCount();
+			long[] histogram = bean.getPauseTimeHistogram();
+			long after = bean.getCollectionCount();
+			AssertJUnit.assertNotNull(histogram);
+			AssertJUnit.assertEquals(PAUSE_HISTOGRAM_BUCKETS, histogram.length);
+			long total = 0;
+			for (long count : histogram) {
+				AssertJUnit.assertTrue(count >= 0);
+				total += count;
+			}
+			// every collection of this collector is counted in exactly one bucket
+			AssertJUnit.assertTrue(bean.getName() + ": " + total + " not in [" + before + ", " + after + "]",
+					(before <= total) && (total <= after));
+		}
+	}
+
+	@Test
+	public final void testGetPauseTimePercentile() {
+		for (com.ibm.lang.management.GarbageCollectorMXBean bean : collectedBeans()) {
+			long[] histogram;
+			long[] percentiles = new long[5];
+			double[] ranks = { 0.0, 50.0, 90.0, 99.9, 100.0 };
+			/* retry if a collection updates the histogram while the percentiles are read */
+			for (int attempt = 0;; attempt++) {
+				histogram = bean.getPauseTimeHistogram();
+				for (int i = 0; i < ranks.length; i++) {
+					percentiles[i] = bean.getPauseTimePercentile(ranks[i]);
+				}
+				if (Arrays.equals(histogram, bean.getPauseTimeHistogram()) || (attempt == 10)) {
+					break;
+				}
+			}
+			for (int i = 0; i < ranks.length; i++) {
+				AssertJUnit.assertEquals(bean.getName() + " p" + ranks[i], expectedPercentile(histogram, ranks[i]), percentiles[i]);
+				AssertJUnit.assertTrue(percentiles[i] > 0);
+				if (i > 0) {
+					AssertJUnit.assertTrue(percentiles[i - 1] <= percentiles[i]);
+				}
+			}
+		}
+
+		for (double bad : new double[] { -1.0, 100.5, Double.NaN }) {
+			try {
+				((com.ibm.lang.management.GarbageCollectorMXBean) gcb).getPauseTimePercentile(bad);
+				Assert.fail("Should have thrown IllegalArgumentException for " + bad);
+			} catch (IllegalArgumentException e) {
+				logger.debug("Exception occurred, as expected: invalid percentile " + bad);
+			}
+		}
+	}
+
+	@Test
+	public final void testWindowedRates() {
+		List<com.ibm.lang.management.GarbageCollectorMXBean> beans = collectedBeans();
+		// allocate enough that the forced collection below sees some heap growth
+		byte[][] garbage = new byte[64][];
+		for (int i = 0; i < garbage.length; i++) {
+			garbage[i] = new byte[64 * 1024];
+		}
+		System.gc();
+		AssertJUnit.assertNotNull(garbage[garbage.length - 1]);
+		for (com.ibm.lang.management.GarbageCollectorMXBean bean : beans) {
+			double allocationRate = bean.getAllocationRate(60_000);
+			double promotionRate = bean.getPromotionRate(60_000);
+			double ratio = bean.getCollectionTimeRatio(60_000);
+			AssertJUnit.assertTrue(allocationRate >= 0.0);
+			AssertJUnit.assertTrue(promotionRate >= 0.0);
+			AssertJUnit.assertTrue((0.0 <= ratio) && (ratio <= 1.0));
+		}
+
+		com.ibm.lang.management.GarbageCollectorMXBean bean = beans.get(0);
+		for (long bad : new long[] { 0, -1 }) {
+			try {
+				bean.getAllocationRate(bad);
+				Assert.fail("Should have thrown IllegalArgumentException for " + bad);
+			} catch (IllegalArgumentException e) {
+				logger.debug("Exception occurred, as expected: invalid window " + bad);
+			}
+			try {
+				bean.getPromotionRate(bad);
+				Assert.fail("Should have thrown IllegalArgumentException for " + bad);
+			} catch (IllegalArgumentException e) {
+				logger.debug("Exception occurred, as expected: invalid window " + bad);
+			}
+			try {
+				bean.getCollectionTimeRatio(bad);
+				Assert.fail("Should have thrown IllegalArgumentException for " + bad);
+			} catch (IllegalArgumentException e) {
+				logger.debug("Exception occurred, as expected: invalid window " + bad);
+			}
+		}
+	}
+
+	@Test
+	public final void testInvokeIBMOperations() {
+		try {
+			Object percentile = mbs.invoke(objName, "getPauseTimePercentile", new Object[] { Double.valueOf(50.0) }, new String[] { Double.TYPE.getName() });
+			AssertJUnit.assertTrue(percentile instanceof Long);
+			AssertJUnit.assertTrue((Long) percentile >= 0);
+			for (String operation : new String[] { "getAllocationRate", "getPromotionRate", "getCollectionTimeRatio" }) {
+				Object rate = mbs.invoke(objName, operation, new Object[] { Long.valueOf(1000) }, new String[] { Long.TYPE.getName() });
+				AssertJUnit.assertTrue(rate instanceof Double);
+				AssertJUnit.assertTrue((Double) rate >= 0.0);
+			}
+			Object histogram = mbs.getAttribute(objName, "PauseTimeHistogram");
+			AssertJUnit.assertTrue(histogram instanceof long[]);
+			AssertJUnit.assertEquals(PAUSE_HISTOGRAM_BUCKETS, ((long[]) histogram).length);
+		} catch (Exception e) {
+			Assert.fail("Unexpected exception : " + e);
+		}
+	}
+
 	@Test
 	public final void testGetCollectionCount() {
 		/* Collection Count could be zero */
@@ -281,10 +442,16 @@ public class TestGarbageCollectorMXBean {
 		AssertJUnit.assertNotNull(constructors);
 		AssertJUnit.assertEquals(0, constructors.length);
 
-		// No public operations
+		// 4 IBM operations: the pause time percentile and the windowed rates
 		MBeanOperationInfo[] operations = mbi.getOperations();
 		AssertJUnit.assertNotNull(operations);
-		AssertJUnit.assertEquals(0, operations.length);
+		AssertJUnit.assertEquals(4, operations.length);
+		HashSet<String> operationNames = new HashSet<>();
+		for (MBeanOperationInfo operation : operations) {
+			operationNames.add(operation.getName());
+			AssertJUnit.assertEquals(1, operation.getSignature().length);
+		}
+		AssertJUnit.assertEquals(new HashSet<>(Arrays.asList("getPauseTimePercentile", "getAllocationRate", "getPromotionRate", "getCollectionTimeRatio")), operationNames);
 
 		// No notifications
 		MBeanNotificationInfo[] notifications = mbi.getNotifications();
@@ -295,10 +462,10 @@ public class TestGarbageCollectorMXBean {
 		// Print out both, the description as well as the class name.
 		logger.debug("MBean description for " + gcb.getClass().getName() + ": " + mbi.getDescription());
 
-		// 10 attributes (5 standard, 6 IBM) - none is writable.
+		// 13 attributes (6 standard, 1 Oracle, 6 IBM) - none is writable.
 		MBeanAttributeInfo[] attributes = mbi.getAttributes();
 		AssertJUnit.assertNotNull(attributes);
-		AssertJUnit.assertEquals(12, attributes.length);
+		AssertJUnit.assertEquals(13, attributes.length);
 		for (int i = 0; i < attributes.length; i++) {
 			MBeanAttributeInfo info = attributes[i];
 			AssertJUnit.assertNotNull(info);
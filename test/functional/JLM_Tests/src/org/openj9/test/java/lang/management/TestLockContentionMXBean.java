@@ -0,0 +1,188 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test.java.lang.management;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.CountDownLatch;
+
+import javax.management.JMX;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.testng.log4testng.Logger;
+
+import com.ibm.lang.management.LockContentionInfo;
+import com.ibm.lang.management.LockContentionMXBean;
+
+/**
+ * Tests the LockContentionMXBean: starting and stopping the Java Lock Monitor,
+ * the statistics of a contended Java monitor, and the behaviour of
+ * startLockMonitoring() where lock monitoring is not supported.
+ */
+@Test(groups = { "level.extended" })
+public class TestLockContentionMXBean {
+	private static Logger logger = Logger.getLogger(TestLockContentionMXBean.class);
+
+	private static final int CONTENDING_THREADS = 4;
+	private static final int ENTERS_PER_THREAD = 200;
+
+	/* The class name identifies the test's monitor in the JLM statistics */
+	static final class ContendedLock {
+	}
+
+	private LockContentionMXBean lockBean;
+
+	@BeforeClass
+	public void setUp() throws Exception {
+		MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+		ObjectName mxbeanName = new ObjectName("com.ibm.lang.management:type=LockContention");
+		Assert.assertTrue(mbeanServer.isRegistered(mxbeanName), "LockContentionMXBean is not registered");
+		lockBean = JMX.newMXBeanProxy(mbeanServer, mxbeanName, LockContentionMXBean.class);
+	}
+
+	@AfterMethod
+	public void stopMonitoring() {
+		lockBean.stopLockMonitoring();
+	}
+
+	private void skipIfUnsupported() {
+		if (!lockBean.isLockMonitoringSupported()) {
+			throw new SkipException("Lock monitoring is not supported by this VM");
+		}
+	}
+
+	/*
+	 * Start and stop the monitor, reading the statistics in each state.
+	 */
+	public void testLifecycle() {
+		skipIfUnsupported();
+
+		lockBean.startLockMonitoring();
+		Assert.assertTrue(lockBean.isLockMonitoringEnabled(), "Lock monitoring not enabled after start");
+		/* starting again just resets the statistics */
+		lockBean.startLockMonitoring();
+		Assert.assertTrue(lockBean.isLockMonitoringEnabled(), "Lock monitoring not enabled after restart");
+		Assert.assertEquals(lockBean.getMostContendedLocks(0).length, 0);
+
+		lockBean.stopLockMonitoring();
+		Assert.assertFalse(lockBean.isLockMonitoringEnabled(), "Lock monitoring still enabled after stop");
+		/* the statistics collected so far remain readable */
+		Assert.assertNotNull(lockBean.getMostContendedLocks(10));
+		Assert.assertNotNull(lockBean.getLongestHeldLocks(10));
+		Assert.assertNotNull(lockBean.getLockContentionSinceLastRead(10));
+
+		try {
+			lockBean.getMostContendedLocks(-1);
+			Assert.fail("No IllegalArgumentException for a negative maxLocks");
+		} catch (IllegalArgumentException e) {
+			/* expected */
+		}
+	}
+
+	/*
+	 * A monitor entered by several threads at once is reported with non-zero counts,
+	 * and its interval statistics are only reported while it is in use.
+	 */
+	public void testContendedMonitor() throws InterruptedException {
+		skipIfUnsupported();
+
+		ContendedLock lock = new ContendedLock();
+		lockBean.startLockMonitoring();
+		contend(lock);
+
+		LockContentionInfo info = find(lockBean.getMostContendedLocks(Integer.MAX_VALUE));
+		Assert.assertNotNull(info, "Contended monitor not reported");
+		logger.info("Contended monitor: " + info);
+		Assert.assertTrue(info.isJavaMonitor(), info.toString());
+		Assert.assertTrue(info.getEnterCount() >= ENTERS_PER_THREAD, info.toString());
+		Assert.assertTrue(info.getSlowEnterCount() > 0, info.toString());
+		Assert.assertTrue(info.getSlowEnterCount() <= info.getEnterCount(), info.toString());
+		Assert.assertNotNull(find(lockBean.getLongestHeldLocks(Integer.MAX_VALUE)), "Contended monitor not reported by hold time");
+
+		LockContentionInfo delta = find(lockBean.getLockContentionSinceLastRead(Integer.MAX_VALUE));
+		Assert.assertNotNull(delta, "Contended monitor not reported since monitoring started");
+		Assert.assertTrue(delta.getEnterCount() > 0, delta.toString());
+		/* a monitor that was not entered since the previous read is omitted */
+		Assert.assertNull(find(lockBean.getLockContentionSinceLastRead(Integer.MAX_VALUE)), "Unused monitor reported");
+
+		lockBean.stopLockMonitoring();
+		Assert.assertNotNull(find(lockBean.getMostContendedLocks(Integer.MAX_VALUE)), "Statistics lost after stop");
+	}
+
+	/*
+	 * startLockMonitoring() throws UnsupportedOperationException exactly when lock monitoring is not supported.
+	 */
+	public void testStartUnsupported() {
+		if (lockBean.isLockMonitoringSupported()) {
+			lockBean.startLockMonitoring();
+			Assert.assertTrue(lockBean.isLockMonitoringEnabled(), "Lock monitoring not enabled after start");
+		} else {
+			try {
+				lockBean.startLockMonitoring();
+				Assert.fail("No UnsupportedOperationException when lock monitoring is not supported");
+			} catch (UnsupportedOperationException e) {
+				/* expected */
+			}
+			Assert.assertFalse(lockBean.isLockMonitoringEnabled(), "Lock monitoring enabled although it is not supported");
+			Assert.assertEquals(lockBean.getMostContendedLocks(10).length, 0);
+		}
+	}
+
+	private static LockContentionInfo find(LockContentionInfo[] locks) {
+		for (LockContentionInfo info : locks) {
+			if (info.getName().contains("TestLockContentionMXBean$ContendedLock")) {
+				return info;
+			}
+		}
+		return null;
+	}
+
+	/* Enter the lock from several threads at once, holding it long enough for the others to block */
+	private static void contend(ContendedLock lock) throws InterruptedException {
+		CountDownLatch start = new CountDownLatch(1);
+		Thread[] threads = new Thread[CONTENDING_THREADS];
+		for (int i = 0; i < threads.length; i++) {
+			threads[i] = new Thread(() -> {
+				try {
+					start.await();
+					for (int j = 0; j < ENTERS_PER_THREAD; j++) {
+						synchronized (lock) {
+							Thread.sleep(0, 100000);
+						}
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}, "LockContention-" + i);
+			threads[i].start();
+		}
+		start.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+	}
+}
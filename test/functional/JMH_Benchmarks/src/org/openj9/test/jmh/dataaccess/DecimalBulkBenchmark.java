@@ -0,0 +1,130 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test.jmh.dataaccess;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ibm.dataaccess.DecimalData;
+
+/**
+ * Compares converting a column of fixed-width Packed Decimal fields one
+ * field per call against the bulk DecimalData conversions.
+ *
+ * The fields are laid out as in a record buffer: each one starts RECORD
+ * bytes after the previous one. Scores are per converted field.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class DecimalBulkBenchmark {
+
+	private static final int COUNT = 4096;
+
+	private static final int RECORD = 16;
+
+	@Param({"7", "15"})
+	public int precision;
+
+	private byte[] packed;
+	private long[] longs;
+	private BigDecimal[] bigDecimals;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(42);
+		long limit = 1;
+		for (int i = 0; i < precision; i++) {
+			limit *= 10;
+		}
+		packed = new byte[COUNT * RECORD];
+		longs = new long[COUNT];
+		bigDecimals = new BigDecimal[COUNT];
+		for (int i = 0; i < COUNT; i++) {
+			longs[i] = (random.nextLong() % limit);
+			DecimalData.convertLongToPackedDecimal(longs[i], packed, i * RECORD, precision, true);
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(COUNT)
+	public long[] toLong_scalar() {
+		for (int i = 0; i < COUNT; i++) {
+			longs[i] = DecimalData.convertPackedDecimalToLong(packed, i * RECORD, precision, true);
+		}
+		return longs;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(COUNT)
+	public long[] toLong_bulk() {
+		DecimalData.convertPackedDecimalsToLongs(packed, 0, RECORD, precision, true, longs, 0, COUNT);
+		return longs;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(COUNT)
+	public byte[] fromLong_scalar() {
+		for (int i = 0; i < COUNT; i++) {
+			DecimalData.convertLongToPackedDecimal(longs[i], packed, i * RECORD, precision, true);
+		}
+		return packed;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(COUNT)
+	public byte[] fromLong_bulk() {
+		DecimalData.convertLongsToPackedDecimals(longs, 0, packed, 0, RECORD, precision, true, COUNT);
+		return packed;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(COUNT)
+	public BigDecimal[] toBigDecimal_scalar() {
+		for (int i = 0; i < COUNT; i++) {
+			bigDecimals[i] = DecimalData.convertPackedDecimalToBigDecimal(packed, i * RECORD, precision, 2, true);
+		}
+		return bigDecimals;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(COUNT)
+	public BigDecimal[] toBigDecimal_bulk() {
+		DecimalData.convertPackedDecimalsToBigDecimals(packed, 0, RECORD, precision, 2, true, bigDecimals, 0, COUNT);
+		return bigDecimals;
+	}
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test.jmh.invoke;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.MutableCallSite;
+import java.lang.invoke.StringConcatFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntUnaryOperator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures invokedynamic bootstrap and the call sites it produces.
+ *
+ * The bootstrap_ benchmarks call the bootstrap methods used by javac for
+ * lambdas and string concatenation directly, as the VM does the first time
+ * an invokedynamic instruction is executed. The linked_ benchmarks run call
+ * sites that have already been bootstrapped.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class IndyBenchmark {
+
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+	private static final MethodType INT_INT = MethodType.methodType(int.class, int.class);
+
+	private static final MethodType FACTORY_TYPE = MethodType.methodType(IntUnaryOperator.class);
+
+	private static final MethodType CONCAT_TYPE = MethodType.methodType(String.class, String.class, int.class);
+
+	private MethodHandle implementation;
+	private MethodHandle mutableInvoker;
+	private IntUnaryOperator lambda;
+	private String prefix = "value";
+	private int argument = 42;
+
+	private static int twice(int value) {
+		return value * 2;
+	}
+
+	@Setup
+	public void setup() throws ReflectiveOperationException {
+		implementation = LOOKUP.findStatic(IndyBenchmark.class, "twice", INT_INT);
+		mutableInvoker = new MutableCallSite(implementation).dynamicInvoker();
+		lambda = IndyBenchmark::twice;
+	}
+
+	@Benchmark
+	public CallSite bootstrap_lambda() throws Throwable {
+		return LambdaMetafactory.metafactory(LOOKUP, "applyAsInt", FACTORY_TYPE, INT_INT, implementation, INT_INT);
+	}
+
+	@Benchmark
+	public CallSite bootstrap_stringConcat() throws Throwable {
+		return StringConcatFactory.makeConcatWithConstants(LOOKUP, "concat", CONCAT_TYPE, "\u0001: \u0001");
+	}
+
+	@Benchmark
+	public IntUnaryOperator linked_lambdaCapture() {
+		int offset = argument;
+		return value -> value + offset;
+	}
+
+	@Benchmark
+	public int linked_lambdaInvoke() {
+		return lambda.applyAsInt(argument);
+	}
+
+	@Benchmark
+	public String linked_stringConcat() {
+		return prefix + ": " + argument;
+	}
+
+	@Benchmark
+	public int linked_mutableCallSite() throws Throwable {
+		return (int)mutableInvoker.invokeExact(argument);
+	}
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test.jmh.invoke;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures MethodHandle creation, adaptation and invocation.
+ *
+ * The create_ benchmarks look up direct handles. The adapt_ benchmarks build
+ * new adapter chains on every call, which exercises the code that generates
+ * the adapter implementations. The invoke_ benchmarks call handles held in
+ * fields, so the JIT cannot treat them as constants, as well as handles held
+ * in static finals, which it can.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class MethodHandleBenchmark {
+
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+	private static final MethodType INT_INT = MethodType.methodType(int.class, int.class);
+
+	private static final MethodType INT_INT_INT = MethodType.methodType(int.class, int.class, int.class);
+
+	private static final MethodHandle STATIC_ADD;
+
+	private static final MethodHandle CONSTANT_CHAIN;
+
+	static {
+		try {
+			STATIC_ADD = LOOKUP.findStatic(MethodHandleBenchmark.class, "add", INT_INT_INT);
+			CONSTANT_CHAIN = chain(STATIC_ADD);
+		} catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	private int base = 17;
+
+	private int argument = 42;
+
+	private MethodHandle staticAdd;
+	private MethodHandle virtualScale;
+	private MethodHandle boundScale;
+	private MethodHandle genericAdd;
+	private MethodHandle chain;
+
+	public static int add(int a, int b) {
+		return a + b;
+	}
+
+	public int scale(int a) {
+		return a * base;
+	}
+
+	private static MethodHandle chain(MethodHandle target) throws ReflectiveOperationException {
+		MethodHandle negate = LOOKUP.findStatic(Math.class, "negateExact", INT_INT);
+		MethodHandle handle = MethodHandles.insertArguments(target, 1, 3);
+		handle = MethodHandles.filterReturnValue(handle, negate);
+		handle = MethodHandles.filterArguments(handle, 0, negate);
+		return handle;
+	}
+
+	@Setup
+	public void setup() throws ReflectiveOperationException {
+		staticAdd = STATIC_ADD;
+		virtualScale = LOOKUP.findVirtual(MethodHandleBenchmark.class, "scale", INT_INT);
+		boundScale = virtualScale.bindTo(this);
+		genericAdd = staticAdd.asType(MethodType.methodType(Object.class, Object.class, Object.class));
+		chain = chain(staticAdd);
+	}
+
+	@Benchmark
+	public MethodHandle create_findStatic() throws ReflectiveOperationException {
+		return LOOKUP.findStatic(MethodHandleBenchmark.class, "add", INT_INT_INT);
+	}
+
+	@Benchmark
+	public MethodHandle create_findVirtual() throws ReflectiveOperationException {
+		return LOOKUP.findVirtual(MethodHandleBenchmark.class, "scale", INT_INT);
+	}
+
+	@Benchmark
+	public MethodHandle adapt_bindTo() {
+		return virtualScale.bindTo(this);
+	}
+
+	@Benchmark
+	public MethodHandle adapt_asType() {
+		return staticAdd.asType(MethodType.methodType(Object.class, Object.class, Object.class));
+	}
+
+	@Benchmark
+	public MethodHandle adapt_chain() throws ReflectiveOperationException {
+		return chain(staticAdd);
+	}
+
+	@Benchmark
+	public int invoke_directExact() throws Throwable {
+		return (int)staticAdd.invokeExact(argument, base);
+	}
+
+	@Benchmark
+	public int invoke_constantExact() throws Throwable {
+		return (int)STATIC_ADD.invokeExact(argument, base);
+	}
+
+	@Benchmark
+	public int invoke_virtualExact() throws Throwable {
+		return (int)virtualScale.invokeExact(this, argument);
+	}
+
+	@Benchmark
+	public int invoke_boundExact() throws Throwable {
+		return (int)boundScale.invokeExact(argument);
+	}
+
+	@Benchmark
+	public Object invoke_generic() throws Throwable {
+		return genericAdd.invoke((Object)argument, (Object)base);
+	}
+
+	@Benchmark
+	public int invoke_asTypeAtCallSite() throws Throwable {
+		/* the call site type differs from the handle type, so invoke() converts on each call */
+		return (int)(long)staticAdd.invoke(argument, base);
+	}
+
+	@Benchmark
+	public int invoke_chain() throws Throwable {
+		return (int)chain.invokeExact(argument);
+	}
+
+	@Benchmark
+	public int invoke_constantChain() throws Throwable {
+		return (int)CONSTANT_CHAIN.invokeExact(argument);
+	}
+
+	@Benchmark
+	public int baseline_direct() {
+		return add(argument, base);
+	}
+}
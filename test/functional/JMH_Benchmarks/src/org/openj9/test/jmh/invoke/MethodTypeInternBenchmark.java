@@ -0,0 +1,144 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test.jmh.invoke;
+
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of MethodType.methodType(), which interns every
+ * MethodType it creates, as the number of concurrent callers grows.
+ *
+ * The lookup benchmarks only request types that are already interned. The
+ * churn benchmarks build types from a large pool of parameter combinations
+ * that are not retained, so entries are continually cleared and re-added.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class MethodTypeInternBenchmark {
+
+	private static final Class<?>[] TYPES = {
+		int.class, long.class, double.class, boolean.class,
+		Object.class, String.class, Integer.class, Class.class,
+		int[].class, Object[].class, CharSequence.class, Number.class,
+	};
+
+	private static final int SHAPES = 64;
+
+	private Class<?>[] returnTypes;
+	private Class<?>[][] parameterTypes;
+	private MethodType[] retained;
+
+	@Setup
+	public void setup() {
+		returnTypes = new Class<?>[SHAPES];
+		parameterTypes = new Class<?>[SHAPES][];
+		retained = new MethodType[SHAPES];
+		for (int i = 0; i < SHAPES; i++) {
+			returnTypes[i] = TYPES[i % TYPES.length];
+			Class<?>[] params = new Class<?>[1 + (i % 4)];
+			for (int j = 0; j < params.length; j++) {
+				params[j] = TYPES[(i + (j * 5)) % TYPES.length];
+			}
+			parameterTypes[i] = params;
+			/* keep these reachable so the lookup benchmarks always hit the intern table */
+			retained[i] = MethodType.methodType(returnTypes[i], params);
+		}
+	}
+
+	private MethodType lookup() {
+		int i = ThreadLocalRandom.current().nextInt(SHAPES);
+		return MethodType.methodType(returnTypes[i], parameterTypes[i]);
+	}
+
+	private static MethodType churn() {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		Class<?>[] params = new Class<?>[4];
+		for (int j = 0; j < params.length; j++) {
+			params[j] = TYPES[random.nextInt(TYPES.length)];
+		}
+		return MethodType.methodType(TYPES[random.nextInt(TYPES.length)], params);
+	}
+
+	@Benchmark
+	@Threads(1)
+	public MethodType lookup_01() {
+		return lookup();
+	}
+
+	@Benchmark
+	@Threads(4)
+	public MethodType lookup_04() {
+		return lookup();
+	}
+
+	@Benchmark
+	@Threads(16)
+	public MethodType lookup_16() {
+		return lookup();
+	}
+
+	@Benchmark
+	@Threads(64)
+	public MethodType lookup_64() {
+		return lookup();
+	}
+
+	@Benchmark
+	@Threads(1)
+	public MethodType churn_01() {
+		return churn();
+	}
+
+	@Benchmark
+	@Threads(4)
+	public MethodType churn_04() {
+		return churn();
+	}
+
+	@Benchmark
+	@Threads(16)
+	public MethodType churn_16() {
+		return churn();
+	}
+
+	@Benchmark
+	@Threads(64)
+	public MethodType churn_64() {
+		return churn();
+	}
+}
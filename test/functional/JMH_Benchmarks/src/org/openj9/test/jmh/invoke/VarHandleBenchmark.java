@@ -0,0 +1,216 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test.jmh.invoke;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures VarHandle access modes for each kind of variable: instance fields,
+ * static fields, array elements and views of byte arrays.
+ *
+ * The VarHandles are held in static finals, which is how they are normally
+ * used and what allows the JIT to reduce an access to a plain load or store.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class VarHandleBenchmark {
+
+	private static final VarHandle INSTANCE_INT;
+	private static final VarHandle INSTANCE_OBJECT;
+	private static final VarHandle STATIC_LONG;
+	private static final VarHandle INT_ARRAY;
+	private static final VarHandle OBJECT_ARRAY;
+	private static final VarHandle BYTE_ARRAY_INT_BE;
+	private static final VarHandle BYTE_ARRAY_LONG_LE;
+
+	static {
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			INSTANCE_INT = lookup.findVarHandle(VarHandleBenchmark.class, "intField", int.class);
+			INSTANCE_OBJECT = lookup.findVarHandle(VarHandleBenchmark.class, "objectField", Object.class);
+			STATIC_LONG = lookup.findStaticVarHandle(VarHandleBenchmark.class, "staticField", long.class);
+		} catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+		INT_ARRAY = MethodHandles.arrayElementVarHandle(int[].class);
+		OBJECT_ARRAY = MethodHandles.arrayElementVarHandle(Object[].class);
+		BYTE_ARRAY_INT_BE = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+		BYTE_ARRAY_LONG_LE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+	}
+
+	private static long staticField;
+
+	private int intField;
+
+	private Object objectField = "";
+
+	private final int[] ints = new int[16];
+
+	private final Object[] objects = new Object[16];
+
+	private final byte[] bytes = new byte[64];
+
+	private int index = 5;
+
+	private final Object value = "value";
+
+	@Benchmark
+	public int field_get() {
+		return (int)INSTANCE_INT.get(this);
+	}
+
+	@Benchmark
+	public void field_set() {
+		INSTANCE_INT.set(this, index);
+	}
+
+	@Benchmark
+	public int field_getVolatile() {
+		return (int)INSTANCE_INT.getVolatile(this);
+	}
+
+	@Benchmark
+	public void field_setVolatile() {
+		INSTANCE_INT.setVolatile(this, index);
+	}
+
+	@Benchmark
+	public int field_getAcquire() {
+		return (int)INSTANCE_INT.getAcquire(this);
+	}
+
+	@Benchmark
+	public void field_setRelease() {
+		INSTANCE_INT.setRelease(this, index);
+	}
+
+	@Benchmark
+	public int field_getOpaque() {
+		return (int)INSTANCE_INT.getOpaque(this);
+	}
+
+	@Benchmark
+	public boolean field_compareAndSet() {
+		int current = intField;
+		return INSTANCE_INT.compareAndSet(this, current, current + 1);
+	}
+
+	@Benchmark
+	public boolean field_weakCompareAndSetPlain() {
+		int current = intField;
+		return INSTANCE_INT.weakCompareAndSetPlain(this, current, current + 1);
+	}
+
+	@Benchmark
+	public int field_compareAndExchange() {
+		int current = intField;
+		return (int)INSTANCE_INT.compareAndExchange(this, current, current + 1);
+	}
+
+	@Benchmark
+	public int field_getAndAdd() {
+		return (int)INSTANCE_INT.getAndAdd(this, 1);
+	}
+
+	@Benchmark
+	public int field_getAndBitwiseOr() {
+		return (int)INSTANCE_INT.getAndBitwiseOr(this, index);
+	}
+
+	@Benchmark
+	public Object field_getAndSetReference() {
+		return INSTANCE_OBJECT.getAndSet(this, value);
+	}
+
+	@Benchmark
+	public long static_get() {
+		return (long)STATIC_LONG.get();
+	}
+
+	@Benchmark
+	public long static_getAndAdd() {
+		return (long)STATIC_LONG.getAndAdd(1L);
+	}
+
+	@Benchmark
+	public int array_get() {
+		return (int)INT_ARRAY.get(ints, index);
+	}
+
+	@Benchmark
+	public void array_setVolatile() {
+		INT_ARRAY.setVolatile(ints, index, index);
+	}
+
+	@Benchmark
+	public int array_getAndAdd() {
+		return (int)INT_ARRAY.getAndAdd(ints, index, 1);
+	}
+
+	@Benchmark
+	public boolean array_compareAndSetReference() {
+		Object current = objects[index];
+		return OBJECT_ARRAY.compareAndSet(objects, index, current, value);
+	}
+
+	@Benchmark
+	public int byteArrayView_getIntBigEndian() {
+		return (int)BYTE_ARRAY_INT_BE.get(bytes, index * 4);
+	}
+
+	@Benchmark
+	public void byteArrayView_setIntBigEndian() {
+		BYTE_ARRAY_INT_BE.set(bytes, index * 4, index);
+	}
+
+	@Benchmark
+	public long byteArrayView_getLongLittleEndian() {
+		return (long)BYTE_ARRAY_LONG_LE.get(bytes, index * 8);
+	}
+
+	@Benchmark
+	public long byteArrayView_getLongVolatile() {
+		return (long)BYTE_ARRAY_LONG_LE.getVolatile(bytes, index * 8);
+	}
+
+	@Benchmark
+	public int byteArrayView_compareAndExchangeInt() {
+		int offset = index * 4;
+		int current = (int)BYTE_ARRAY_INT_BE.get(bytes, offset);
+		return (int)BYTE_ARRAY_INT_BE.compareAndExchange(bytes, offset, current, current + 1);
+	}
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test.jmh.foreign;
+
+import java.lang.foreign.FunctionDescriptor;
+import java.lang.foreign.Linker;
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.lang.invoke.MethodHandle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of creating downcall handles and of invoking them.
+ *
+ * The link benchmarks create handles for a set of more than a thousand distinct
+ * function descriptors, as an application linking many native functions at
+ * startup would. The handles are bound to abs() but are never invoked, so the
+ * descriptors only need to be distinct, not to match the C signature.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class DowncallBenchmark {
+
+	private static final MemoryLayout[] ARG_LAYOUTS = {
+		ValueLayout.JAVA_INT, ValueLayout.JAVA_LONG, ValueLayout.JAVA_DOUBLE, ValueLayout.ADDRESS,
+	};
+
+	private static final int MAX_ARGS = 5;
+
+	private Linker linker;
+	private MemorySegment absSymbol;
+	private FunctionDescriptor[] descriptors;
+	private MethodHandle absHandle;
+
+	@Setup
+	public void setup() {
+		linker = Linker.nativeLinker();
+		absSymbol = linker.defaultLookup().find("abs").orElseThrow();
+		absHandle = linker.downcallHandle(absSymbol, FunctionDescriptor.of(ValueLayout.JAVA_INT, ValueLayout.JAVA_INT));
+
+		List<FunctionDescriptor> all = new ArrayList<>();
+		List<MemoryLayout[]> previous = new ArrayList<>();
+		previous.add(new MemoryLayout[0]);
+		for (int argCount = 1; argCount <= MAX_ARGS; argCount++) {
+			List<MemoryLayout[]> current = new ArrayList<>();
+			for (MemoryLayout[] prefix : previous) {
+				for (MemoryLayout layout : ARG_LAYOUTS) {
+					MemoryLayout[] args = new MemoryLayout[argCount];
+					System.arraycopy(prefix, 0, args, 0, prefix.length);
+					args[argCount - 1] = layout;
+					current.add(args);
+					all.add(FunctionDescriptor.of(ValueLayout.JAVA_INT, args));
+				}
+			}
+			previous = current;
+		}
+		descriptors = all.toArray(new FunctionDescriptor[all.size()]);
+	}
+
+	private MethodHandle link() {
+		FunctionDescriptor descriptor = descriptors[ThreadLocalRandom.current().nextInt(descriptors.length)];
+		return linker.downcallHandle(absSymbol, descriptor);
+	}
+
+	private int invoke() throws Throwable {
+		return (int)absHandle.invokeExact(-ThreadLocalRandom.current().nextInt(1024));
+	}
+
+	@Benchmark
+	@Threads(1)
+	public MethodHandle link_01() {
+		return link();
+	}
+
+	@Benchmark
+	@Threads(8)
+	public MethodHandle link_08() {
+		return link();
+	}
+
+	@Benchmark
+	@Threads(32)
+	public MethodHandle link_32() {
+		return link();
+	}
+
+	@Benchmark
+	@Threads(1)
+	public int invoke_01() throws Throwable {
+		return invoke();
+	}
+
+	@Benchmark
+	@Threads(8)
+	public int invoke_08() throws Throwable {
+		return invoke();
+	}
+}
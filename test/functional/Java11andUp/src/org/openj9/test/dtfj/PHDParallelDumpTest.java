@@ -0,0 +1,166 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test.dtfj;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.ibm.dtfj.image.Image;
+import com.ibm.dtfj.image.ImageAddressSpace;
+import com.ibm.dtfj.image.ImageFactory;
+import com.ibm.dtfj.image.ImageProcess;
+import com.ibm.dtfj.java.JavaHeap;
+import com.ibm.dtfj.java.JavaObject;
+import com.ibm.dtfj.java.JavaReference;
+import com.ibm.dtfj.java.JavaRuntime;
+import com.ibm.jvm.Dump;
+
+/**
+ * Checks that a portable heap dump (PHD) written with opts=PHD+PARALLEL+GZIP
+ * holds the same objects as one written sequentially, and that every reference
+ * it records points to an object in the dump.
+ *
+ * The regions of a balanced heap are encoded by several threads. Other
+ * policies' heaps (e.g. gencon) are always written sequentially, so for them
+ * this only checks the GZIP output.
+ *
+ * The PHD image factory is not exported, so this test needs
+ * --add-exports openj9.dtfj/com.ibm.dtfj.phd=ALL-UNNAMED.
+ */
+@Test(groups = { "level.extended" })
+public class PHDParallelDumpTest {
+	private static final int MARKER_COUNT = 200000;
+
+	/* kept reachable so they are in the heap dumps */
+	private static Object[] markers;
+
+	private File directory;
+	private File serialFile;
+	private File parallelFile;
+
+	static final class Marker {
+		final int id;
+		final Marker previous;
+		final Object payload;
+
+		Marker(int id, Marker previous, Object payload) {
+			this.id = id;
+			this.previous = previous;
+			this.payload = payload;
+		}
+	}
+
+	@BeforeClass
+	public void createHeapDumps() throws Exception {
+		/* spread chains of references over many regions */
+		markers = new Object[MARKER_COUNT];
+		Marker previous = null;
+		for (int i = 0; i < MARKER_COUNT; i++) {
+			previous = new Marker(i, previous, ((i % 4) == 0) ? new long[i % 64] : null);
+			markers[i] = previous;
+		}
+
+		directory = Files.createTempDirectory("PHDParallelDumpTest").toFile();
+		serialFile = new File(Dump.heapDumpToFile(new File(directory, "serial.phd").getAbsolutePath()));
+		Assert.assertTrue(serialFile.isFile(), "No heap dump written to " + serialFile);
+
+		String parallelName = Dump.triggerDump("heap:file=" + new File(directory, "parallel.phd").getAbsolutePath() + ",opts=PHD+PARALLEL+GZIP");
+		parallelFile = new File(parallelName.endsWith(".gz") ? parallelName : parallelName + ".gz");
+		Assert.assertTrue(parallelFile.isFile(), "No compressed heap dump written to " + parallelFile);
+	}
+
+	@AfterClass
+	public void deleteHeapDumps() {
+		for (File file : directory.listFiles()) {
+			file.delete();
+		}
+		directory.delete();
+	}
+
+	public void testParallelDumpMatchesSerialDump() throws Exception {
+		Map<String, Integer> serialCounts = countInstances(serialFile);
+		Map<String, Integer> parallelCounts = countInstances(parallelFile);
+
+		String markerClass = Marker.class.getName().replace('.', '/');
+		Assert.assertEquals(serialCounts.get(markerClass), Integer.valueOf(MARKER_COUNT), serialFile + ": wrong number of markers");
+		Assert.assertEquals(parallelCounts.get(markerClass), Integer.valueOf(MARKER_COUNT), parallelFile + ": wrong number of markers");
+		/* other long arrays may come and go between the dumps, but the markers' payloads are in both */
+		Assert.assertTrue(serialCounts.getOrDefault("[J", 0) >= (MARKER_COUNT / 4), serialFile + ": missing long arrays");
+		Assert.assertTrue(parallelCounts.getOrDefault("[J", 0) >= (MARKER_COUNT / 4), parallelFile + ": missing long arrays");
+	}
+
+	/* Count the instances of each class, checking that every reference points to an object in the dump */
+	private static Map<String, Integer> countInstances(File file) throws Exception {
+		Map<String, Integer> counts = new HashMap<>();
+		Set<Long> addresses = new HashSet<>();
+		Set<Long> targets = new HashSet<>();
+
+		Image image = getImageFactory().getImage(file);
+		try {
+			for (Iterator<?> heaps = getRuntime(image).getHeaps(); heaps.hasNext();) {
+				for (Iterator<?> objects = ((JavaHeap)heaps.next()).getObjects(); objects.hasNext();) {
+					Object next = objects.next();
+					Assert.assertTrue(next instanceof JavaObject, file + ": corrupt object " + next);
+					JavaObject object = (JavaObject)next;
+					Assert.assertTrue(addresses.add(object.getID().getAddress()), file + ": duplicate object at 0x" + Long.toHexString(object.getID().getAddress()));
+					counts.merge(object.getJavaClass().getName(), 1, Integer::sum);
+					for (Iterator<?> references = object.getReferences(); references.hasNext();) {
+						Object reference = references.next();
+						if (reference instanceof JavaReference) {
+							Object target = ((JavaReference)reference).getTarget();
+							if (target instanceof JavaObject) {
+								targets.add(((JavaObject)target).getID().getAddress());
+							}
+						}
+					}
+				}
+			}
+		} finally {
+			image.close();
+		}
+
+		targets.removeAll(addresses);
+		Assert.assertTrue(targets.isEmpty(), file + ": " + targets.size() + " references to objects missing from the dump");
+		return counts;
+	}
+
+	private static ImageFactory getImageFactory() throws Exception {
+		Class<?> factoryClass = Class.forName("com.ibm.dtfj.phd.PHDImageFactory");
+		return (ImageFactory)factoryClass.getDeclaredConstructor().newInstance();
+	}
+
+	private static JavaRuntime getRuntime(Image image) {
+		ImageAddressSpace space = (ImageAddressSpace)image.getAddressSpaces().next();
+		ImageProcess process = (ImageProcess)space.getProcesses().next();
+		return (JavaRuntime)process.getRuntimes().next();
+	}
+}
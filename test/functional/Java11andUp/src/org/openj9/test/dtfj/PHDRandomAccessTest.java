@@ -0,0 +1,201 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test.dtfj;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.GZIPOutputStream;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.ibm.dtfj.image.CorruptDataException;
+import com.ibm.dtfj.image.Image;
+import com.ibm.dtfj.image.ImageAddressSpace;
+import com.ibm.dtfj.image.ImageFactory;
+import com.ibm.dtfj.image.ImageProcess;
+import com.ibm.dtfj.java.JavaHeap;
+import com.ibm.dtfj.java.JavaObject;
+import com.ibm.dtfj.java.JavaRuntime;
+import com.ibm.jvm.Dump;
+
+/**
+ * Checks that objects in a portable heap dump (PHD) can be found by address
+ * in any order, both in an uncompressed file, which is read through the
+ * address index, and in a gzip compressed file, which is scanned.
+ *
+ * The PHD image factory is not exported, so this test needs
+ * --add-exports openj9.dtfj/com.ibm.dtfj.phd=ALL-UNNAMED.
+ */
+@Test(groups = { "level.extended" })
+public class PHDRandomAccessTest {
+	private static final int MARKER_COUNT = 50000;
+	/* every SAMPLE_INTERVAL'th object in the heap is looked up */
+	private static final int SAMPLE_INTERVAL = 31;
+
+	/* kept reachable so they are in the heap dump */
+	private static Object[] markers;
+
+	private File directory;
+	private File phdFile;
+	private File gzFile;
+
+	static final class Marker {
+		final int id;
+		final Marker previous;
+
+		Marker(int id, Marker previous) {
+			this.id = id;
+			this.previous = previous;
+		}
+	}
+
+	@BeforeClass
+	public void createHeapDump() throws Exception {
+		markers = new Object[MARKER_COUNT];
+		Marker previous = null;
+		for (int i = 0; i < MARKER_COUNT; i++) {
+			if ((i % 3) == 0) {
+				markers[i] = new long[i % 100];
+			} else {
+				previous = new Marker(i, previous);
+				markers[i] = previous;
+			}
+		}
+
+		directory = Files.createTempDirectory("PHDRandomAccessTest").toFile();
+		phdFile = new File(Dump.heapDumpToFile(new File(directory, "heapdump.phd").getAbsolutePath()));
+		Assert.assertTrue(phdFile.isFile(), "No heap dump written to " + phdFile);
+
+		gzFile = new File(directory, "heapdump.phd.gz");
+		try (InputStream in = new FileInputStream(phdFile);
+			OutputStream out = new GZIPOutputStream(new FileOutputStream(gzFile))) {
+			in.transferTo(out);
+		}
+	}
+
+	@AfterClass
+	public void deleteHeapDump() {
+		for (File file : directory.listFiles()) {
+			file.delete();
+		}
+		directory.delete();
+	}
+
+	public void testRandomAccess() throws Exception {
+		checkRandomAccess(phdFile);
+	}
+
+	public void testRandomAccessCompressed() throws Exception {
+		checkRandomAccess(gzFile);
+	}
+
+	private static void checkRandomAccess(File file) throws Exception {
+		List<Long> addresses = new ArrayList<>();
+		List<String> classNames = new ArrayList<>();
+		List<Long> sizes = new ArrayList<>();
+		int objectCount = 0;
+
+		/* read a sample of the objects by walking the heap */
+		Image image = getImageFactory().getImage(file);
+		try {
+			for (Iterator<?> heaps = getRuntime(image).getHeaps(); heaps.hasNext();) {
+				for (Iterator<?> objects = ((JavaHeap)heaps.next()).getObjects(); objects.hasNext(); objectCount++) {
+					Object next = objects.next();
+					if ((objectCount % SAMPLE_INTERVAL == 0) && (next instanceof JavaObject)) {
+						JavaObject object = (JavaObject)next;
+						addresses.add(object.getID().getAddress());
+						classNames.add(object.getJavaClass().getName());
+						sizes.add(object.getSize());
+					}
+				}
+			}
+		} finally {
+			image.close();
+		}
+		Assert.assertTrue(objectCount > MARKER_COUNT, file + ": only " + objectCount + " objects in the heap dump");
+
+		/* look the objects up in a fresh image, in random order, so nothing is cached */
+		List<Integer> order = new ArrayList<>();
+		for (int i = 0; i < addresses.size(); i++) {
+			order.add(i);
+		}
+		Collections.shuffle(order, new Random(addresses.size()));
+
+		image = getImageFactory().getImage(file);
+		try {
+			JavaRuntime runtime = getRuntime(image);
+			ImageAddressSpace space = (ImageAddressSpace)image.getAddressSpaces().next();
+
+			for (int i : order) {
+				long address = addresses.get(i);
+				JavaObject object = runtime.getObjectAtAddress(space.getPointer(address));
+				Assert.assertEquals(object.getID().getAddress(), address, file + ": wrong object");
+				Assert.assertEquals(object.getJavaClass().getName(), classNames.get(i), file + ": wrong class for object at 0x" + Long.toHexString(address));
+				Assert.assertEquals(object.getSize(), sizes.get(i).longValue(), file + ": wrong size for object at 0x" + Long.toHexString(address));
+			}
+
+			/* an address inside an object is not an object */
+			long inside = addresses.get(0) + 1;
+			try {
+				JavaObject object = runtime.getObjectAtAddress(space.getPointer(inside));
+				object.getJavaClass();
+				Assert.fail(file + ": found an object at 0x" + Long.toHexString(inside));
+			} catch (CorruptDataException e) {
+				/* expected */
+			}
+
+			/* the heap can still be walked in full after the lookups */
+			int walked = 0;
+			for (Iterator<?> heaps = runtime.getHeaps(); heaps.hasNext();) {
+				for (Iterator<?> objects = ((JavaHeap)heaps.next()).getObjects(); objects.hasNext(); objects.next()) {
+					walked++;
+				}
+			}
+			Assert.assertEquals(walked, objectCount, file + ": wrong number of objects");
+		} finally {
+			image.close();
+		}
+	}
+
+	private static ImageFactory getImageFactory() throws Exception {
+		Class<?> factoryClass = Class.forName("com.ibm.dtfj.phd.PHDImageFactory");
+		return (ImageFactory)factoryClass.getDeclaredConstructor().newInstance();
+	}
+
+	private static JavaRuntime getRuntime(Image image) {
+		ImageAddressSpace space = (ImageAddressSpace)image.getAddressSpaces().next();
+		ImageProcess process = (ImageProcess)space.getProcesses().next();
+		return (JavaRuntime)process.getRuntimes().next();
+	}
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test.java_lang;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.testng.log4testng.Logger;
+
+/**
+ * Tests -XX:+UseStringDeduplication. Equal Strings that survive a scavenge or a copy-forward
+ * must end up sharing one value array without any observable change to their contents, while
+ * Strings with different coders must never share an array.
+ */
+@Test(groups = { "level.sanity" })
+public class Test_StringDeduplication {
+	public static Logger logger = Logger.getLogger(Test_StringDeduplication.class);
+
+	/* Name of the system property giving the -Xverbosegclog file of the test JVM */
+	private static final String VERBOSE_GC_LOG_PROPERTY = "org.openj9.test.stringDeduplication.verboseGCLog";
+	private static final long DEDUPLICATION_TIMEOUT_MS = 60 * 1000;
+	private static final int COPIES = 64;
+	private static final Pattern DEDUPLICATION_ELEMENT = Pattern.compile("<string-deduplication ([^>]*)/>");
+	private static final String[] DEDUPLICATION_ATTRIBUTES = {
+		"candidates", "queued", "inspected", "deduplicated", "bytessaved", "skipped", "abandoned"
+	};
+
+	private static Field valueField;
+	private static Field coderField;
+
+	/* Keeps the garbage allocated to trigger collections from being optimized away */
+	private static volatile Object sink;
+
+	@BeforeClass
+	public static void setUp() throws NoSuchFieldException {
+		valueField = String.class.getDeclaredField("value");
+		valueField.setAccessible(true);
+		coderField = String.class.getDeclaredField("coder");
+		coderField.setAccessible(true);
+	}
+
+	private static Object valueOf(String s) throws IllegalAccessException {
+		return valueField.get(s);
+	}
+
+	private static byte coderOf(String s) throws IllegalAccessException {
+		return coderField.getByte(s);
+	}
+
+	/* Each copy gets its own value array */
+	private static String[] copiesOf(String s) {
+		String[] copies = new String[COPIES];
+		for (int i = 0; i < copies.length; i++) {
+			copies[i] = new String(s.toCharArray());
+		}
+		return copies;
+	}
+
+	private static boolean sharesOneValue(String[] strings) throws IllegalAccessException {
+		Object value = valueOf(strings[0]);
+		for (String s : strings) {
+			if (valueOf(s) != value) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/* Allocate short-lived objects, giving the deduplication thread time to process each collection's candidates */
+	private static void triggerCollections() throws InterruptedException {
+		for (int i = 0; i < 64; i++) {
+			sink = new byte[64 * 1024];
+		}
+		Thread.sleep(10);
+	}
+
+	/* Collect until each group of Strings shares one value array, or fail after the timeout */
+	private static void awaitDeduplication(String[]... groups) throws IllegalAccessException, InterruptedException {
+		long deadline = System.currentTimeMillis() + DEDUPLICATION_TIMEOUT_MS;
+		boolean deduplicated = false;
+		while (!deduplicated) {
+			if (System.currentTimeMillis() > deadline) {
+				Assert.fail("Equal Strings still do not share a value array after " + DEDUPLICATION_TIMEOUT_MS + "ms");
+			}
+			triggerCollections();
+			deduplicated = true;
+			for (String[] group : groups) {
+				deduplicated &= sharesOneValue(group);
+			}
+		}
+	}
+
+	private static void checkUnchanged(String[] strings, String expected, int expectedHashCode, byte expectedCoder) throws IllegalAccessException {
+		for (String s : strings) {
+			Assert.assertEquals(s, expected);
+			Assert.assertEquals(s.length(), expected.length());
+			Assert.assertEquals(s.toCharArray(), expected.toCharArray());
+			Assert.assertEquals(s.hashCode(), expectedHashCode);
+			Assert.assertEquals(coderOf(s), expectedCoder);
+		}
+	}
+
+	/*
+	 * Equal Strings end up sharing a value array, and their contents, equality and hash codes are unchanged.
+	 */
+	public void testEqualStringsShareValue() throws IllegalAccessException, InterruptedException {
+		String latin1 = "string deduplication " + System.nanoTime();
+		String nonLatin1 = "\u0153\u0154 string deduplication " + System.nanoTime();
+		String[] latin1Copies = copiesOf(latin1);
+		String[] nonLatin1Copies = copiesOf(nonLatin1);
+		/* cache the hash codes before deduplication of half of the copies */
+		for (int i = 0; i < COPIES; i += 2) {
+			latin1Copies[i].hashCode();
+			nonLatin1Copies[i].hashCode();
+		}
+		Assert.assertFalse(sharesOneValue(latin1Copies));
+		Assert.assertFalse(sharesOneValue(nonLatin1Copies));
+
+		awaitDeduplication(latin1Copies, nonLatin1Copies);
+
+		checkUnchanged(latin1Copies, latin1, latin1.hashCode(), coderOf(latin1));
+		checkUnchanged(nonLatin1Copies, nonLatin1, nonLatin1.hashCode(), coderOf(nonLatin1));
+	}
+
+	/*
+	 * A Latin-1 String and a UTF-16 String whose value arrays hold the same bytes are not equal,
+	 * so they must never share an array. Without compact strings both groups are UTF-16 and their
+	 * bytes differ, so they must not share an array either.
+	 */
+	public void testCodersNeverShareValue() throws IllegalAccessException, InterruptedException {
+		String utf16 = "\u0153\u0154\u0155\u0156" + System.nanoTime();
+		byte[] utf16Bytes = ((byte[])valueOf(utf16)).clone();
+		/* every byte is a Latin-1 character, so this String is compressed when compact strings are enabled */
+		String latin1 = new String(utf16Bytes, StandardCharsets.ISO_8859_1);
+		Assert.assertNotEquals(latin1, utf16);
+
+		String[] utf16Copies = copiesOf(utf16);
+		String[] latin1Copies = copiesOf(latin1);
+		byte utf16Coder = coderOf(utf16);
+		byte latin1Coder = coderOf(latin1);
+		if (utf16Coder != latin1Coder) {
+			Assert.assertEquals((byte[])valueOf(latin1), utf16Bytes, "Latin-1 String does not hold the bytes of the UTF-16 String");
+		}
+
+		awaitDeduplication(utf16Copies, latin1Copies);
+
+		Assert.assertNotSame(valueOf(utf16Copies[0]), valueOf(latin1Copies[0]), "Strings with different contents share a value array");
+		checkUnchanged(utf16Copies, utf16, utf16.hashCode(), utf16Coder);
+		checkUnchanged(latin1Copies, latin1, latin1.hashCode(), latin1Coder);
+	}
+
+	/*
+	 * Each scavenge or copy-forward reports a well-formed <string-deduplication> element, and one of them
+	 * reports the Strings deduplicated by this test.
+	 */
+	public void testVerboseGCOutput() throws IllegalAccessException, InterruptedException, IOException {
+		String logName = System.getProperty(VERBOSE_GC_LOG_PROPERTY);
+		if (null == logName) {
+			throw new SkipException(VERBOSE_GC_LOG_PROPERTY + " is not set");
+		}
+		String[] copies = copiesOf("verbose string deduplication " + System.nanoTime());
+		awaitDeduplication(copies);
+
+		/* the deduplication pass is reported by the collection that follows it */
+		long deadline = System.currentTimeMillis() + DEDUPLICATION_TIMEOUT_MS;
+		boolean reported = false;
+		while (!reported) {
+			if (System.currentTimeMillis() > deadline) {
+				Assert.fail("No <string-deduplication> element reports deduplicated Strings in " + logName);
+			}
+			triggerCollections();
+			String log = new String(Files.readAllBytes(Paths.get(logName)), StandardCharsets.UTF_8);
+			Matcher m = DEDUPLICATION_ELEMENT.matcher(log);
+			int elements = 0;
+			while (m.find()) {
+				long[] values = parseAttributes(m.group(1));
+				long candidates = values[0];
+				long queued = values[1];
+				long inspected = values[2];
+				long deduplicated = values[3];
+				long skipped = values[5];
+				Assert.assertTrue(queued <= candidates, m.group());
+				Assert.assertTrue((deduplicated + skipped) <= inspected, m.group());
+				reported |= (0 != deduplicated);
+				elements += 1;
+			}
+			logger.debug("Found " + elements + " <string-deduplication> elements in " + logName);
+		}
+	}
+
+	private static long[] parseAttributes(String attributes) {
+		long[] values = new long[DEDUPLICATION_ATTRIBUTES.length];
+		for (int i = 0; i < DEDUPLICATION_ATTRIBUTES.length; i++) {
+			Matcher m = Pattern.compile("\\b" + DEDUPLICATION_ATTRIBUTES[i] + "=\"(\\d+)\"").matcher(attributes);
+			Assert.assertTrue(m.find(), "Missing attribute " + DEDUPLICATION_ATTRIBUTES[i] + " in " + attributes);
+			values[i] = Long.parseLong(m.group(1));
+		}
+		return values;
+	}
+}
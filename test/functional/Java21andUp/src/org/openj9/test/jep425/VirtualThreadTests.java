@@ -26,15 +26,22 @@ import org.testng.Assert;
 import org.testng.AssertJUnit;
 import static org.testng.Assert.fail;
 
+import java.io.File;
+import java.lang.management.ManagementFactory;
 import java.lang.reflect.*;
 import java.lang.Thread;
+import java.nio.file.Files;
 import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.LockSupport;
 import java.util.stream.IntStream;
 
+import openj9.lang.management.VirtualThreadPinningMXBean;
+
 /**
  * Test cases for JEP 425: Virtual Threads (Preview) Continuation execution
  * which verifies the basic cases including Continuation enter, yield, resume.
@@ -148,6 +155,341 @@ public class VirtualThreadTests {
 		}
 	}
 
+	private static int schedulerParallelism() {
+		return Integer.getInteger("jdk.virtualThreadScheduler.parallelism", Runtime.getRuntime().availableProcessors());
+	}
+
+	private static void waitForState(Thread t, Thread.State state) throws InterruptedException {
+		/* Incrementally wait for 10000 ms. */
+		for (int i = 0; i < 200; i++) {
+			if (state == t.getState()) {
+				break;
+			}
+			Thread.sleep(50);
+		}
+		Assert.assertEquals(t.getState(), state, t.getName());
+	}
+
+	@Test
+	public void test_synchronizedParkUnmountsVirtualthread() {
+		/* More virtual threads than carriers park while holding a monitor. If parking
+		 * pinned the carrier, the virtual threads beyond the scheduler's parallelism
+		 * would never be mounted and the latch would time out.
+		 */
+		int numThreads = schedulerParallelism() + 2;
+		Object[] locks = new Object[numThreads];
+		Thread[] threads = new Thread[numThreads];
+		CountDownLatch parked = new CountDownLatch(numThreads);
+		AtomicInteger remountedOwners = new AtomicInteger();
+
+		try {
+			for (int i = 0; i < numThreads; i++) {
+				Object lock = new Object();
+				locks[i] = lock;
+				threads[i] = Thread.ofVirtual().name("synchronized-park-" + i).start(() -> {
+					synchronized (lock) {
+						parked.countDown();
+						LockSupport.park();
+						if (Thread.holdsLock(lock)) {
+							remountedOwners.incrementAndGet();
+						}
+					}
+				});
+			}
+
+			AssertJUnit.assertTrue("Virtual threads holding monitors pinned their carriers", parked.await(30, TimeUnit.SECONDS));
+			for (Thread t : threads) {
+				waitForState(t, Thread.State.WAITING);
+			}
+
+			/* The monitor of an unmounted virtual thread stays owned by it. */
+			Thread contender = Thread.ofPlatform().name("synchronized-park-contender").start(() -> {
+				synchronized (locks[0]) {
+					locks[0].notifyAll();
+				}
+			});
+			waitForState(contender, Thread.State.BLOCKED);
+
+			for (Thread t : threads) {
+				LockSupport.unpark(t);
+			}
+			for (Thread t : threads) {
+				t.join();
+			}
+			contender.join();
+
+			Assert.assertEquals(remountedOwners.get(), numThreads, "Virtual threads which did not own their monitor after being mounted again");
+		} catch (Exception e) {
+			Assert.fail("Unexpected exception occured : " + e.getMessage() , e);
+		}
+	}
+
+	private static volatile boolean testWaitThreadRemounted = false;
+	private static volatile boolean testWaitThreadNotified = false;
+
+	@Test
+	public void test_waitNotifyAfterUnmountFromVirtualthread() {
+		Object lock = new Object();
+		var wrapper = new Object(){ boolean ownedAfterPark = false; boolean ownedAfterWait = false; };
+
+		try {
+			Thread t = Thread.ofVirtual().name("synchronized-wait").start(() -> {
+				synchronized (lock) {
+					LockSupport.park();
+					wrapper.ownedAfterPark = Thread.holdsLock(lock);
+					testWaitThreadRemounted = true;
+					try {
+						while (!testWaitThreadNotified) {
+							lock.wait();
+						}
+					} catch (InterruptedException e) {
+						return;
+					}
+					wrapper.ownedAfterWait = Thread.holdsLock(lock);
+				}
+			});
+
+			waitForState(t, Thread.State.WAITING);
+			LockSupport.unpark(t);
+
+			/* The monitor is only available once the virtual thread is waiting on it. */
+			for (int i = 0; !testWaitThreadNotified && (i < 200); i++) {
+				synchronized (lock) {
+					if (testWaitThreadRemounted) {
+						testWaitThreadNotified = true;
+						lock.notifyAll();
+					}
+				}
+				Thread.sleep(50);
+			}
+			t.join();
+
+			AssertJUnit.assertTrue("Virtual thread was not notified", testWaitThreadNotified);
+			AssertJUnit.assertTrue("Monitor not owned after the virtual thread was mounted again", wrapper.ownedAfterPark);
+			AssertJUnit.assertTrue("Monitor not owned after the virtual thread returned from wait", wrapper.ownedAfterWait);
+		} catch (Exception e) {
+			Assert.fail("Unexpected exception occured : " + e.getMessage() , e);
+		}
+	}
+
+	@Test
+	public void test_contendedMonitorWithUnmountedOwner() {
+		/* The virtual thread yields, and may move to another carrier, while holding
+		 * the monitor. Platform threads contend on the same monitor, mutual exclusion
+		 * must be preserved throughout.
+		 */
+		int numPlatformThreads = 4;
+		int iterations = 1000;
+		Object lock = new Object();
+		var wrapper = new Object(){ int count = 0; boolean inside = false; boolean overlapped = false; };
+		Runnable increment = () -> {
+			for (int i = 0; i < iterations; i++) {
+				synchronized (lock) {
+					if (wrapper.inside) {
+						wrapper.overlapped = true;
+					}
+					wrapper.inside = true;
+					if (Thread.currentThread().isVirtual()) {
+						Thread.yield();
+					}
+					wrapper.count += 1;
+					wrapper.inside = false;
+				}
+			}
+		};
+
+		try {
+			Thread[] threads = new Thread[numPlatformThreads + 1];
+			threads[0] = Thread.ofVirtual().name("contended-virtual").start(increment);
+			for (int i = 1; i < threads.length; i++) {
+				threads[i] = Thread.ofPlatform().name("contended-platform-" + i).start(increment);
+			}
+			for (Thread t : threads) {
+				t.join();
+			}
+
+			AssertJUnit.assertFalse("Two threads owned the monitor at the same time", wrapper.overlapped);
+			Assert.assertEquals(wrapper.count, threads.length * iterations);
+		} catch (Exception e) {
+			Assert.fail("Unexpected exception occured : " + e.getMessage() , e);
+		}
+	}
+
+	private static void parkInUnmountedVirtualthread(CountDownLatch parked) {
+		parked.countDown();
+		LockSupport.park();
+	}
+
+	@Test
+	public void test_javacoreListsUnmountedVirtualthreads() {
+		int numThreads = 8;
+		String frame = "org/openj9/test/jep425/VirtualThreadTests.parkInUnmountedVirtualthread";
+		CountDownLatch parked = new CountDownLatch(numThreads);
+		Thread[] threads = new Thread[numThreads];
+		File javacore = null;
+
+		try {
+			for (int i = 0; i < numThreads; i++) {
+				threads[i] = Thread.ofVirtual().name("javacore-unmounted-" + i).start(() -> parkInUnmountedVirtualthread(parked));
+			}
+			AssertJUnit.assertTrue("Virtual threads did not start", parked.await(30, TimeUnit.SECONDS));
+			for (Thread t : threads) {
+				waitForState(t, Thread.State.WAITING);
+			}
+
+			javacore = writeJavacore("javacore-unmounted");
+			String section = unmountedThreadsSection(javacore);
+			for (int i = 0; i < numThreads; i++) {
+				AssertJUnit.assertTrue("Unmounted virtual thread " + i + " missing", section.contains("\"javacore-unmounted-" + i + "\""));
+			}
+			int frames = 0;
+			for (int index = section.indexOf(frame); index >= 0; index = section.indexOf(frame, index + 1)) {
+				frames += 1;
+			}
+			Assert.assertEquals(frames, numThreads, "Stacks of the unmounted virtual threads");
+		} catch (Exception e) {
+			Assert.fail("Unexpected exception occured : " + e.getMessage() , e);
+		} finally {
+			for (Thread t : threads) {
+				if (t != null) {
+					LockSupport.unpark(t);
+				}
+			}
+			if (javacore != null) {
+				javacore.delete();
+			}
+		}
+	}
+
+	private static final class MonitorOwnerLock {
+	}
+
+	@Test
+	public void test_javacoreShowsMonitorOwnedByUnmountedVirtualthread() {
+		String ownerName = "javacore-monitor-owner";
+		MonitorOwnerLock lock = new MonitorOwnerLock();
+		CountDownLatch entered = new CountDownLatch(1);
+		Thread owner = null;
+		Thread contender = null;
+		File javacore = null;
+
+		try {
+			/* The virtual thread unmounts while it holds the monitor, leaving the monitor without an owner thread. */
+			owner = Thread.ofVirtual().name(ownerName).start(() -> {
+				synchronized (lock) {
+					entered.countDown();
+					LockSupport.park();
+				}
+			});
+			AssertJUnit.assertTrue("Virtual thread did not enter the monitor", entered.await(30, TimeUnit.SECONDS));
+			waitForState(owner, Thread.State.WAITING);
+			contender = Thread.ofPlatform().name("javacore-monitor-contender").start(() -> {
+				synchronized (lock) {
+				}
+			});
+			waitForState(contender, Thread.State.BLOCKED);
+
+			javacore = writeJavacore("javacore-monitor");
+			String contents = new String(Files.readAllBytes(javacore.toPath()));
+			String monitorLine = null;
+			String blockLine = null;
+			for (String line : contents.split("\\R")) {
+				if (line.startsWith("3LKMONOBJECT") && line.contains("MonitorOwnerLock")) {
+					monitorLine = line;
+				} else if (line.startsWith("3XMTHREADBLOCK") && line.contains("MonitorOwnerLock")) {
+					blockLine = line;
+				}
+			}
+			AssertJUnit.assertNotNull("Monitor held by the unmounted virtual thread missing", monitorLine);
+			AssertJUnit.assertTrue("Wrong monitor owner: " + monitorLine, monitorLine.contains("owner \"" + ownerName + "\" (java/lang/VirtualThread:"));
+			AssertJUnit.assertTrue("Wrong entry count: " + monitorLine, monitorLine.endsWith("entry count 1"));
+			AssertJUnit.assertNotNull("Blocked contender missing", blockLine);
+			AssertJUnit.assertTrue("Wrong owner of the blocking monitor: " + blockLine, blockLine.contains("Owned by: \"" + ownerName + "\""));
+		} catch (Exception e) {
+			Assert.fail("Unexpected exception occured : " + e.getMessage() , e);
+		} finally {
+			if (owner != null) {
+				LockSupport.unpark(owner);
+			}
+			try {
+				if (owner != null) {
+					owner.join();
+				}
+				if (contender != null) {
+					contender.join();
+				}
+			} catch (InterruptedException e) {
+				Assert.fail("Interrupted while joining the threads", e);
+			}
+			if (javacore != null) {
+				javacore.delete();
+			}
+		}
+	}
+
+	/* The number of parked virtual threads in the javacore scale test, raise it to 1000000 to measure a full scale dump. */
+	private static final int JAVACORE_SCALE_THREADS = Integer.getInteger("org.openj9.test.jep425.javacoreScaleThreads", 10_000);
+
+	@Test
+	public void test_javacoreScalesWithUnmountedVirtualthreads() {
+		CountDownLatch parked = new CountDownLatch(JAVACORE_SCALE_THREADS);
+		Thread[] threads = new Thread[JAVACORE_SCALE_THREADS];
+		File javacore = null;
+
+		try {
+			for (int i = 0; i < JAVACORE_SCALE_THREADS; i++) {
+				threads[i] = Thread.ofVirtual().name("javacore-scale-" + i).start(() -> parkInUnmountedVirtualthread(parked));
+			}
+			AssertJUnit.assertTrue("Virtual threads did not start", parked.await(120, TimeUnit.SECONDS));
+			for (Thread t : threads) {
+				waitForState(t, Thread.State.WAITING);
+			}
+
+			/* The unmounted threads are found through the continuation lists the GC keeps per region,
+			 * so the dump time grows with the number of virtual threads and not with the heap size.
+			 */
+			long start = System.nanoTime();
+			javacore = writeJavacore("javacore-scale");
+			long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+			System.out.println("javacore with " + JAVACORE_SCALE_THREADS + " unmounted virtual threads took " + elapsedMillis + " ms");
+
+			String section = unmountedThreadsSection(javacore);
+			int listed = 0;
+			for (int index = section.indexOf("\"javacore-scale-"); index >= 0; index = section.indexOf("\"javacore-scale-", index + 1)) {
+				listed += 1;
+			}
+			Assert.assertEquals(listed, JAVACORE_SCALE_THREADS, "Unmounted virtual threads in the javacore");
+			AssertJUnit.assertTrue("javacore took " + elapsedMillis + " ms", elapsedMillis < TimeUnit.SECONDS.toMillis(60));
+		} catch (Exception e) {
+			Assert.fail("Unexpected exception occured : " + e.getMessage() , e);
+		} finally {
+			for (Thread t : threads) {
+				if (t != null) {
+					LockSupport.unpark(t);
+				}
+			}
+			if (javacore != null) {
+				javacore.delete();
+			}
+		}
+	}
+
+	private static File writeJavacore(String prefix) throws Exception {
+		File javacore = File.createTempFile(prefix, ".txt");
+		javacore.delete();
+		Class<?> dumpClass = Class.forName("com.ibm.jvm.Dump");
+		String fileName = (String)dumpClass.getMethod("javaDumpToFile", String.class).invoke(null, javacore.getAbsolutePath());
+		return new File(fileName);
+	}
+
+	private static String unmountedThreadsSection(File javacore) throws Exception {
+		String contents = new String(Files.readAllBytes(javacore.toPath()));
+		int sectionStart = contents.indexOf("1XMVTHDINFO    Unmounted Threads");
+		AssertJUnit.assertTrue("Unmounted threads section missing", sectionStart >= 0);
+		int sectionEnd = contents.indexOf("0SECTION", sectionStart);
+		return contents.substring(sectionStart, (sectionEnd < 0) ? contents.length() : sectionEnd);
+	}
+
 	private static volatile boolean testJNIThreadReady = false;
 
 	@Test
@@ -171,6 +513,34 @@ public class VirtualThreadTests {
 		}
 	}
 
+	@Test
+	public void test_pinnedVirtualthreadIsCounted() {
+		/* jdk.tracePinnedThreads is not set, pinning must be counted regardless. */
+		VirtualThreadPinningMXBean pinningBean = ManagementFactory.getPlatformMXBean(VirtualThreadPinningMXBean.class);
+		AssertJUnit.assertNotNull("VirtualThreadPinningMXBean not registered", pinningBean);
+		long pinnedBefore = pinningBean.getPinnedCount();
+		long nativePinnedBefore = pinningBean.getNativePinnedCount();
+		CountDownLatch started = new CountDownLatch(1);
+
+		try {
+			/* Parking from a native method pins the virtual thread to its carrier. */
+			Thread t = Thread.ofVirtual().name("pinned-native").start(() -> {
+				started.countDown();
+				lockSupportPark();
+			});
+			AssertJUnit.assertTrue("Virtual thread did not start", started.await(30, TimeUnit.SECONDS));
+			waitForState(t, Thread.State.WAITING);
+			LockSupport.unpark(t);
+			t.join();
+
+			long nativePinned = pinningBean.getNativePinnedCount() - nativePinnedBefore;
+			AssertJUnit.assertTrue("Pinning in native code not counted", nativePinned >= 1);
+			AssertJUnit.assertTrue("Pinning not included in the total", (pinningBean.getPinnedCount() - pinnedBefore) >= nativePinned);
+		} catch (Exception e) {
+			Assert.fail("Unexpected exception occured : " + e.getMessage() , e);
+		}
+	}
+
 	private static volatile boolean testThread1Ready = false;
 
 	@Test
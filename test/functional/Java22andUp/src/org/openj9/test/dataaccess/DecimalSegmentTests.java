@@ -0,0 +1,186 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test.dataaccess;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.ibm.dataaccess.DecimalData;
+import com.ibm.dataaccess.ExternalDecimal;
+import com.ibm.dataaccess.PackedDecimal;
+
+/**
+ * Checks that the MemorySegment overloads of the decimal APIs give the same results as the byte array
+ * methods for native segments and for heap segments of byte and other primitive arrays, and that the
+ * ByteBuffer overloads handle direct buffers in place.
+ */
+@Test(groups = { "level.sanity" })
+public class DecimalSegmentTests {
+
+	private static final int SIZE = 64;
+	private static final long OFFSET = 9;
+
+	private static MemorySegment[] segments(Arena arena) {
+		return new MemorySegment[] {
+			arena.allocate(SIZE),
+			MemorySegment.ofArray(new byte[SIZE]),
+			MemorySegment.ofArray(new int[SIZE / Integer.BYTES]),
+			MemorySegment.ofArray(new long[SIZE / Long.BYTES]),
+			MemorySegment.ofArray(new char[SIZE / Character.BYTES]),
+		};
+	}
+
+	private static byte[] contents(MemorySegment segment) {
+		return segment.toArray(ValueLayout.JAVA_BYTE);
+	}
+
+	private static String describe(MemorySegment segment) {
+		return segment.isNative() ? "native segment" : ("heap segment of " + segment.heapBase().get().getClass().getSimpleName());
+	}
+
+	public void testPackedDecimalConversions() {
+		try (Arena arena = Arena.ofConfined()) {
+			for (MemorySegment segment : segments(arena)) {
+				byte[] expected = new byte[SIZE];
+				DecimalData.convertIntegerToPackedDecimal(-1234567, expected, (int) OFFSET, 9, true);
+				DecimalData.convertIntegerToPackedDecimal(-1234567, segment, OFFSET, 9, true);
+				Assert.assertEquals(contents(segment), expected, describe(segment));
+				Assert.assertEquals(DecimalData.convertPackedDecimalToInteger(segment, OFFSET, 9, true), -1234567,
+						describe(segment));
+
+				DecimalData.convertLongToPackedDecimal(Long.MAX_VALUE, expected, (int) OFFSET, 19, true);
+				DecimalData.convertLongToPackedDecimal(Long.MAX_VALUE, segment, OFFSET, 19, true);
+				Assert.assertEquals(contents(segment), expected, describe(segment));
+				Assert.assertEquals(DecimalData.convertPackedDecimalToLong(segment, OFFSET, 19, true), Long.MAX_VALUE,
+						describe(segment));
+
+				BigDecimal value = new BigDecimal("98765432109876543210.5");
+				DecimalData.convertBigDecimalToPackedDecimal(value, expected, (int) OFFSET, 21, true);
+				DecimalData.convertBigDecimalToPackedDecimal(value, segment, OFFSET, 21, true);
+				Assert.assertEquals(contents(segment), expected, describe(segment));
+				Assert.assertEquals(DecimalData.convertPackedDecimalToBigDecimal(segment, OFFSET, 21, 1, true), value,
+						describe(segment));
+				Assert.assertEquals(PackedDecimal.checkPackedDecimal(segment, OFFSET, 21), 0, describe(segment));
+			}
+		}
+	}
+
+	public void testExternalDecimalConversions() {
+		int decimalType = DecimalData.EBCDIC_SIGN_EMBEDDED_TRAILING;
+		try (Arena arena = Arena.ofConfined()) {
+			for (MemorySegment segment : segments(arena)) {
+				byte[] expected = new byte[SIZE];
+				DecimalData.convertLongToExternalDecimal(-42L, expected, (int) OFFSET, 12, true, decimalType);
+				DecimalData.convertLongToExternalDecimal(-42L, segment, OFFSET, 12, true, decimalType);
+				Assert.assertEquals(contents(segment), expected, describe(segment));
+				Assert.assertEquals(ExternalDecimal.checkExternalDecimal(segment, OFFSET, 12, decimalType, 0), 0,
+						describe(segment));
+
+				MemorySegment packed = arena.allocate(SIZE);
+				DecimalData.convertExternalDecimalToPackedDecimal(segment, OFFSET, packed, 1, 12, decimalType);
+				Assert.assertEquals(DecimalData.convertPackedDecimalToLong(packed, 1, 12, true), -42L,
+						describe(segment));
+				DecimalData.convertPackedDecimalToExternalDecimal(packed, 1, segment, 0, 12, decimalType);
+				Assert.assertEquals(DecimalData.convertExternalDecimalToLong(segment, 0, 12, true, decimalType), -42L,
+						describe(segment));
+			}
+		}
+	}
+
+	public void testPackedDecimalArithmetic() {
+		try (Arena arena = Arena.ofConfined()) {
+			MemorySegment op1 = MemorySegment.ofArray(new int[4]);
+			MemorySegment op2 = arena.allocate(8);
+			DecimalData.convertIntegerToPackedDecimal(700, op1, 2, 5, true);
+			DecimalData.convertIntegerToPackedDecimal(-25, op2, 0, 3, true);
+			for (MemorySegment result : segments(arena)) {
+				PackedDecimal.subtractPackedDecimal(result, OFFSET, 7, op1, 2, 5, op2, 0, 3, true);
+				Assert.assertEquals(DecimalData.convertPackedDecimalToInteger(result, OFFSET, 7, true), 725,
+						describe(result));
+				PackedDecimal.remainderPackedDecimal(result, OFFSET, 7, op1, 2, 5, op2, 0, 3, true);
+				Assert.assertEquals(DecimalData.convertPackedDecimalToInteger(result, OFFSET, 7, true), 0,
+						describe(result));
+				Assert.assertTrue(PackedDecimal.greaterThanPackedDecimal(op1, 2, 5, op2, 0, 3), describe(result));
+				Assert.assertTrue(PackedDecimal.equalsPackedDecimal(op1, 2, 5, op1, 2, 5), describe(result));
+			}
+		}
+	}
+
+	public void testReadOnlySegment() {
+		MemorySegment one = MemorySegment.ofArray(new byte[] { 0x1C });
+		try (Arena arena = Arena.ofConfined()) {
+			for (MemorySegment segment : segments(arena)) {
+				MemorySegment readOnly = segment.asReadOnly();
+				try {
+					DecimalData.convertIntegerToPackedDecimal(5, readOnly, OFFSET, 3, true);
+					Assert.fail("wrote to read-only " + describe(segment));
+				} catch (ReadOnlyBufferException e) {
+					// expected
+				}
+				try {
+					PackedDecimal.addPackedDecimal(readOnly, OFFSET, 3, one, 0, 1, one, 0, 1, true);
+					Assert.fail("wrote to read-only " + describe(segment));
+				} catch (ReadOnlyBufferException e) {
+					// expected
+				}
+				Assert.assertEquals(contents(segment), new byte[SIZE], describe(segment));
+				Assert.assertEquals(DecimalData.convertPackedDecimalToInteger(readOnly, OFFSET, 3, false), 0,
+						describe(segment));
+			}
+		}
+	}
+
+	public void testIndexOutOfBounds() {
+		try (Arena arena = Arena.ofConfined()) {
+			for (MemorySegment segment : segments(arena)) {
+				try {
+					DecimalData.convertPackedDecimalToLong(segment, SIZE - 2, 5, true);
+					Assert.fail("read past the end of " + describe(segment));
+				} catch (IndexOutOfBoundsException e) {
+					// expected
+				}
+			}
+		}
+	}
+
+	public void testDirectBufferInPlace() {
+		try (Arena arena = Arena.ofConfined()) {
+			MemorySegment segment = arena.allocate(SIZE);
+			ByteBuffer buffer = segment.asByteBuffer();
+			buffer.position(5);
+			for (int i = 0; i < 10000; i++) {
+				DecimalData.convertIntegerToPackedDecimal(i, buffer, 11, 7, true);
+				Assert.assertEquals(DecimalData.convertPackedDecimalToInteger(segment, 11, 7, true), i);
+				DecimalData.convertLongToPackedDecimal(-i, segment, 20, 15, true);
+				Assert.assertEquals(DecimalData.convertPackedDecimalToLong(buffer, 20, 15, true), -i);
+			}
+			Assert.assertEquals(buffer.position(), 5);
+		}
+	}
+}
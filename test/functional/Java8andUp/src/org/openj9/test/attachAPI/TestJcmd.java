@@ -27,7 +27,9 @@ import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
 
+import java.io.DataInputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
@@ -40,6 +42,7 @@ import java.util.Optional;
 
 import org.openj9.test.util.PlatformInfo;
 import org.openj9.test.util.StringUtilities;
+import org.testng.SkipException;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.BeforeSuite;
 import org.testng.annotations.Test;
@@ -65,11 +68,17 @@ public class TestJcmd extends AttachApiTest {
 	private static final String GC_CLASS_HISTOGRAM = "GC.class_histogram";
 	private static final String GC_HEAP_DUMP = "GC.heap_dump";
 	private static final String GC_RUN = "GC.run";
+	private static final String GC_STATS = "GC.stats";
 	private static final String HELP_COMMAND = "help";
 	private static final String THREAD_PRINT = "Thread.print";
+	private static final String JFR_START = "JFR.start";
+	private static final String JFR_STOP = "JFR.stop";
+	private static final String JFR_DUMP = "JFR.dump";
+	/* "FLR\0", the first four bytes of every JFR chunk */
+	private static final int JFR_MAGIC = 0x464c5200;
 	private static String[] JCMD_COMMANDS = {DUMP_HEAP, DUMP_JAVA, DUMP_SNAP,
-		DUMP_SYSTEM, GC_CLASS_HISTOGRAM, GC_HEAP_DUMP, GC_RUN, HELP_COMMAND, THREAD_PRINT};
-	private static String[] JCMD_COMMANDS_REQUIRE_OPTION = {GC_CLASS_HISTOGRAM, GC_RUN, HELP_COMMAND, THREAD_PRINT};
+		DUMP_SYSTEM, GC_CLASS_HISTOGRAM, GC_HEAP_DUMP, GC_RUN, GC_STATS, HELP_COMMAND, THREAD_PRINT};
+	private static String[] JCMD_COMMANDS_REQUIRE_OPTION = {GC_CLASS_HISTOGRAM, GC_RUN, GC_STATS, HELP_COMMAND, THREAD_PRINT};
 	private static String[] JCMD_COMMANDS_DUMP = {DUMP_HEAP, DUMP_JAVA, DUMP_SNAP, DUMP_SYSTEM, GC_HEAP_DUMP};
 
 	/*
@@ -351,6 +360,171 @@ public class TestJcmd extends AttachApiTest {
 		}
 	}
 
+	/**
+	 * Test JFR.start, JFR.dump and JFR.stop, including the error cases when
+	 * the recorder is or is not already running.
+	 *
+	 * @throws IOException on error
+	 */
+	@Test
+	public void testJFRStartDumpStop() throws IOException {
+		TargetManager tgt = new TargetManager(TestConstants.TARGET_VM_CLASS, null,
+				Collections.singletonList("-Xmx10M"), Collections.emptyList());
+		tgt.syncWithTarget();
+		String targetId = tgt.targetId;
+		assertNotNull(targetId, ERROR_TARGET_NOT_LAUNCH);
+		File dumpFile = new File(userDir, "myJFRDump.jfr");
+		File stopFile = new File(userDir, "myJFRStop.jfr");
+		dumpFile.delete();
+		stopFile.delete();
+		try {
+			assertOutputContains(runJFRCommand(targetId, JFR_DUMP, "filename=" + dumpFile.getAbsolutePath()), "Error: JFR is not recording");
+			assertOutputContains(runJFRCommand(targetId, JFR_STOP, null), "Error: JFR is not recording");
+
+			startJFR(targetId);
+			assertOutputContains(runJFRCommand(targetId, JFR_START, null), "Error: JFR is already recording");
+
+			assertOutputContains(runJFRCommand(targetId, JFR_DUMP, "filename=" + dumpFile.getAbsolutePath()),
+					"Recording written to " + dumpFile.getAbsolutePath());
+			checkJFRFile(dumpFile);
+
+			/* the recording continues after a dump */
+			assertOutputContains(runJFRCommand(targetId, JFR_STOP, "filename=" + stopFile.getAbsolutePath()),
+					"Stopped recording, recording written to " + stopFile.getAbsolutePath());
+			checkJFRFile(stopFile);
+			assertTrue(stopFile.length() >= dumpFile.length(), "Recording shrank after the dump: " + stopFile.length() + " < " + dumpFile.length());
+
+			assertOutputContains(runJFRCommand(targetId, JFR_STOP, null), "Error: JFR is not recording");
+
+			/* the recorder can be restarted after it was stopped */
+			startJFR(targetId);
+			assertOutputContains(runJFRCommand(targetId, JFR_STOP, null), "Stopped recording");
+		} finally {
+			tgt.terminateTarget();
+			dumpFile.delete();
+			stopFile.delete();
+		}
+	}
+
+	/**
+	 * Test that a continuous recording starts a new chunk file in the repository
+	 * once the current one is larger than maxchunksize. Each JFR.dump writes out a
+	 * chunk, so every dump after the first one rotates to a new file.
+	 *
+	 * @throws IOException on error
+	 */
+	@Test
+	public void testJFRChunkRotation() throws IOException {
+		File repository = new File(userDir, "jfrRotationRepository");
+		List<File> chunkFiles = runContinuousRecording(repository, "maxchunksize=1", 3);
+		try {
+			assertTrue(chunkFiles.size() >= 3, "Expected at least 3 chunk files in " + repository + ": " + chunkFiles);
+			for (File chunkFile : chunkFiles) {
+				checkJFRFile(chunkFile);
+			}
+		} finally {
+			deleteDirectory(repository);
+		}
+	}
+
+	/**
+	 * Test that a continuous recording deletes the oldest chunk files once the
+	 * repository exceeds maxsize, but always keeps the chunk file being written.
+	 *
+	 * @throws IOException on error
+	 */
+	@Test
+	public void testJFRChunkRetention() throws IOException {
+		File repository = new File(userDir, "jfrRetentionRepository");
+		List<File> chunkFiles = runContinuousRecording(repository, "maxchunksize=1,maxsize=1", 3);
+		try {
+			assertEquals(chunkFiles.size(), 1, "Expected only the current chunk file to be retained in " + repository + ": " + chunkFiles);
+			checkJFRFile(chunkFiles.get(0));
+		} finally {
+			deleteDirectory(repository);
+		}
+	}
+
+	/**
+	 * Start a continuous recording in a new target, dump it dumpCount times and
+	 * stop it.
+	 *
+	 * @return the chunk files left in the repository
+	 */
+	private List<File> runContinuousRecording(File repository, String recorderOptions, int dumpCount) throws IOException {
+		deleteDirectory(repository);
+		List<String> vmArgs = new ArrayList<>();
+		vmArgs.add("-Xmx10M");
+		vmArgs.add("-XX:FlightRecorderOptions=repository=" + repository.getAbsolutePath() + "," + recorderOptions);
+		TargetManager tgt = new TargetManager(TestConstants.TARGET_VM_CLASS, null, vmArgs, Collections.emptyList());
+		tgt.syncWithTarget();
+		String targetId = tgt.targetId;
+		assertNotNull(targetId, ERROR_TARGET_NOT_LAUNCH);
+		File dumpFile = new File(userDir, "myContinuousJFRDump.jfr");
+		List<File> chunkFiles = new ArrayList<>();
+		try {
+			startJFR(targetId);
+			for (int i = 0; i < dumpCount; i++) {
+				dumpFile.delete();
+				assertOutputContains(runJFRCommand(targetId, JFR_DUMP, "filename=" + dumpFile.getAbsolutePath()),
+						"Recording written to " + dumpFile.getAbsolutePath());
+				checkJFRFile(dumpFile);
+			}
+			assertOutputContains(runJFRCommand(targetId, JFR_STOP, null), "Stopped recording");
+			File[] files = repository.listFiles((dir, name) -> name.startsWith("openj9_") && name.endsWith(".jfr"));
+			assertNotNull(files, "Repository " + repository + " was not created");
+			Collections.addAll(chunkFiles, files);
+		} finally {
+			tgt.terminateTarget();
+			dumpFile.delete();
+		}
+		return chunkFiles;
+	}
+
+	private List<String> runJFRCommand(String targetId, String command, String option) throws IOException {
+		List<String> args = new ArrayList<>();
+		args.add(targetId);
+		args.add(command);
+		if (option != null) {
+			args.add(option);
+		}
+		log("test " + command);
+		return runCommandAndLogOutput(args);
+	}
+
+	private void startJFR(String targetId) throws IOException {
+		List<String> jcmdOutput = runJFRCommand(targetId, JFR_START, null);
+		if (StringUtilities.searchSubstring("Error: unable to start JFR recording", jcmdOutput).isPresent()) {
+			throw new SkipException("JFR is not supported by this VM");
+		}
+		assertOutputContains(jcmdOutput, "Started recording");
+	}
+
+	private void assertOutputContains(List<String> jcmdOutput, String expectedString) {
+		log("Expected string: " + expectedString);
+		Optional<String> searchResult = StringUtilities.searchSubstring(expectedString, jcmdOutput);
+		assertTrue(searchResult.isPresent(), ERROR_EXPECTED_STRING_NOT_FOUND + ": " + expectedString + " in " + jcmdOutput);
+		log(EXPECTED_STRING_FOUND);
+	}
+
+	private static void checkJFRFile(File jfrFile) throws IOException {
+		assertTrue(jfrFile.exists(), "JFR file " + jfrFile + " missing");
+		assertTrue(jfrFile.length() > 0, "JFR file " + jfrFile + " is empty");
+		try (DataInputStream input = new DataInputStream(new FileInputStream(jfrFile))) {
+			assertEquals(input.readInt(), JFR_MAGIC, "JFR file " + jfrFile + " does not start with a chunk header");
+		}
+	}
+
+	private static void deleteDirectory(File directory) {
+		File[] files = directory.listFiles();
+		if (files != null) {
+			for (File file : files) {
+				file.delete();
+			}
+		}
+		directory.delete();
+	}
+
 	private static final String DISPLAYNAME_GC_CLASS_HISTOGRAM = "TargetVM_GC.class_histogram_all";
 
 	private void testDisplayNameHelper(String targetName) throws IOException {
@@ -414,6 +588,7 @@ public class TestJcmd extends AttachApiTest {
 		commandExpectedOutputs.put(HELP_COMMAND, THREAD_PRINT);
 		commandExpectedOutputs.put(GC_CLASS_HISTOGRAM, "java.util.HashMap");
 		commandExpectedOutputs.put(GC_RUN, "Command succeeded");
+		commandExpectedOutputs.put(GC_STATS, "allocation rate over last");
 		commandExpectedOutputs.put(THREAD_PRINT, "Attach API wait loop");
 		/* add the expected outputs for dump commands with no arguments */
 		String WRONG_NUMBER_OF_ARGUMENTS = "Error: wrong number of arguments";
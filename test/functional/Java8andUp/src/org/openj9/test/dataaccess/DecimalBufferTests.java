@@ -0,0 +1,269 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test.dataaccess;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.util.Arrays;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.ibm.dataaccess.DecimalData;
+import com.ibm.dataaccess.PackedDecimal;
+
+/**
+ * Checks that the ByteBuffer overloads of the decimal APIs give the same results as the byte array
+ * methods for heap, direct and read-only buffers, and that they do not change the buffer position.
+ */
+@Test(groups = { "level.sanity" })
+public class DecimalBufferTests {
+
+	private static final int CAPACITY = 64;
+	private static final int OFFSET = 7;
+	private static final int POSITION = 3;
+
+	private static final int[] INT_VALUES = { 0, 1, -1, 9, -10, 12345, -987654, 1999999999, Integer.MAX_VALUE, Integer.MIN_VALUE };
+	private static final long[] LONG_VALUES = { 0L, 1L, -1L, 1234567890123L, -98765432109876L, Long.MAX_VALUE, Long.MIN_VALUE + 1 };
+
+	private static ByteBuffer[] writableBuffers() {
+		ByteBuffer sliced = ByteBuffer.allocateDirect(CAPACITY + 5);
+		sliced.position(5);
+		return new ByteBuffer[] {
+			ByteBuffer.allocate(CAPACITY),
+			ByteBuffer.allocateDirect(CAPACITY),
+			ByteBuffer.wrap(new byte[CAPACITY + 5], 5, CAPACITY).slice(),
+			sliced.slice(),
+		};
+	}
+
+	private static ByteBuffer[] buffersHolding(byte[] bytes) {
+		ByteBuffer[] buffers = writableBuffers();
+		ByteBuffer[] all = new ByteBuffer[buffers.length * 2];
+		for (int i = 0; i < buffers.length; i++) {
+			ByteBuffer view = buffers[i].duplicate();
+			view.put(bytes);
+			buffers[i].position(POSITION);
+			all[2 * i] = buffers[i];
+			all[(2 * i) + 1] = buffers[i].asReadOnlyBuffer();
+		}
+		return all;
+	}
+
+	private static byte[] contents(ByteBuffer buffer) {
+		byte[] bytes = new byte[buffer.capacity()];
+		ByteBuffer view = buffer.duplicate();
+		view.clear();
+		view.get(bytes);
+		return bytes;
+	}
+
+	private static String describe(ByteBuffer buffer) {
+		return (buffer.isDirect() ? "direct" : "heap") + (buffer.isReadOnly() ? " read-only" : "") + " buffer";
+	}
+
+	public void testPackedDecimalToInteger() {
+		for (int value : INT_VALUES) {
+			for (int precision : new int[] { 10, 11, 15 }) {
+				byte[] bytes = new byte[CAPACITY];
+				DecimalData.convertIntegerToPackedDecimal(value, bytes, OFFSET, precision, true);
+				for (ByteBuffer buffer : buffersHolding(bytes)) {
+					Assert.assertEquals(DecimalData.convertPackedDecimalToInteger(buffer, OFFSET, precision, true), value,
+							describe(buffer) + " precision " + precision);
+					Assert.assertEquals(buffer.position(), POSITION, describe(buffer));
+				}
+			}
+		}
+	}
+
+	public void testPackedDecimalToLong() {
+		for (long value : LONG_VALUES) {
+			for (int precision : new int[] { 19, 20, 31 }) {
+				byte[] bytes = new byte[CAPACITY];
+				DecimalData.convertLongToPackedDecimal(value, bytes, OFFSET, precision, true);
+				for (ByteBuffer buffer : buffersHolding(bytes)) {
+					Assert.assertEquals(DecimalData.convertPackedDecimalToLong(buffer, OFFSET, precision, true), value,
+							describe(buffer) + " precision " + precision);
+					Assert.assertEquals(buffer.position(), POSITION, describe(buffer));
+				}
+			}
+		}
+	}
+
+	public void testIntegerToPackedDecimal() {
+		for (int value : INT_VALUES) {
+			for (int precision : new int[] { 10, 12, 17 }) {
+				byte[] expected = new byte[CAPACITY];
+				Arrays.fill(expected, (byte) 0x5A);
+				DecimalData.convertIntegerToPackedDecimal(value, expected, OFFSET, precision, true);
+				for (ByteBuffer buffer : writableBuffers()) {
+					for (int i = 0; i < CAPACITY; i++) {
+						buffer.put(i, (byte) 0x5A);
+					}
+					buffer.position(POSITION);
+					DecimalData.convertIntegerToPackedDecimal(value, buffer, OFFSET, precision, true);
+					Assert.assertEquals(contents(buffer), expected, describe(buffer) + " precision " + precision);
+					Assert.assertEquals(buffer.position(), POSITION, describe(buffer));
+				}
+			}
+		}
+	}
+
+	public void testLongToPackedDecimal() {
+		for (long value : LONG_VALUES) {
+			for (int precision : new int[] { 19, 22 }) {
+				byte[] expected = new byte[CAPACITY];
+				Arrays.fill(expected, (byte) 0x5A);
+				DecimalData.convertLongToPackedDecimal(value, expected, OFFSET, precision, true);
+				for (ByteBuffer buffer : writableBuffers()) {
+					for (int i = 0; i < CAPACITY; i++) {
+						buffer.put(i, (byte) 0x5A);
+					}
+					buffer.position(POSITION);
+					DecimalData.convertLongToPackedDecimal(value, buffer, OFFSET, precision, true);
+					Assert.assertEquals(contents(buffer), expected, describe(buffer) + " precision " + precision);
+					Assert.assertEquals(buffer.position(), POSITION, describe(buffer));
+				}
+			}
+		}
+	}
+
+	public void testOverflow() {
+		byte[] bytes = new byte[CAPACITY];
+		DecimalData.convertLongToPackedDecimal(12345678901L, bytes, OFFSET, 11, true);
+		for (ByteBuffer buffer : buffersHolding(bytes)) {
+			try {
+				DecimalData.convertPackedDecimalToInteger(buffer, OFFSET, 11, true);
+				Assert.fail("no overflow for " + describe(buffer));
+			} catch (ArithmeticException e) {
+				// expected
+			}
+			Assert.assertEquals(DecimalData.convertPackedDecimalToLong(buffer, OFFSET, 11, true), 12345678901L,
+					describe(buffer));
+		}
+		for (ByteBuffer buffer : writableBuffers()) {
+			try {
+				DecimalData.convertIntegerToPackedDecimal(123456, buffer, OFFSET, 5, true);
+				Assert.fail("no overflow for " + describe(buffer));
+			} catch (ArithmeticException e) {
+				// expected
+			}
+		}
+	}
+
+	public void testReadOnlyBuffer() {
+		for (ByteBuffer buffer : writableBuffers()) {
+			ByteBuffer readOnly = buffer.asReadOnlyBuffer();
+			try {
+				DecimalData.convertIntegerToPackedDecimal(42, readOnly, OFFSET, 5, true);
+				Assert.fail("wrote to " + describe(readOnly));
+			} catch (ReadOnlyBufferException e) {
+				// expected
+			}
+			try {
+				DecimalData.convertLongToPackedDecimal(42L, readOnly, OFFSET, 5, true);
+				Assert.fail("wrote to " + describe(readOnly));
+			} catch (ReadOnlyBufferException e) {
+				// expected
+			}
+			Assert.assertEquals(contents(buffer), new byte[CAPACITY], describe(buffer));
+		}
+	}
+
+	public void testIndexOutOfBounds() {
+		for (ByteBuffer buffer : writableBuffers()) {
+			buffer.limit(OFFSET + 3);
+			try {
+				DecimalData.convertPackedDecimalToInteger(buffer, OFFSET, 7, true);
+				Assert.fail("read past the limit of " + describe(buffer));
+			} catch (IndexOutOfBoundsException e) {
+				// expected
+			}
+			try {
+				DecimalData.convertLongToPackedDecimal(1L, buffer, -1, 5, true);
+				Assert.fail("wrote before the start of " + describe(buffer));
+			} catch (IndexOutOfBoundsException e) {
+				// expected
+			}
+		}
+	}
+
+	public void testBigDecimal() {
+		BigDecimal value = new BigDecimal("-12345678901234567890.12345");
+		byte[] bytes = new byte[CAPACITY];
+		DecimalData.convertBigDecimalToPackedDecimal(value, bytes, OFFSET, 25, true);
+		for (ByteBuffer buffer : writableBuffers()) {
+			DecimalData.convertBigDecimalToPackedDecimal(value, buffer, OFFSET, 25, true);
+			Assert.assertEquals(contents(buffer), bytes, describe(buffer));
+			Assert.assertEquals(DecimalData.convertPackedDecimalToBigDecimal(buffer, OFFSET, 25, 5, true), value,
+					describe(buffer));
+		}
+	}
+
+	public void testExternalDecimal() {
+		int precision = 9;
+		for (int value : new int[] { 0, 123456789, -5 }) {
+			byte[] expected = new byte[CAPACITY];
+			DecimalData.convertIntegerToExternalDecimal(value, expected, OFFSET, precision, true,
+					DecimalData.EBCDIC_SIGN_SEPARATE_LEADING);
+			for (ByteBuffer buffer : writableBuffers()) {
+				DecimalData.convertIntegerToExternalDecimal(value, buffer, OFFSET, precision, true,
+						DecimalData.EBCDIC_SIGN_SEPARATE_LEADING);
+				Assert.assertEquals(contents(buffer), expected, describe(buffer));
+				Assert.assertEquals(DecimalData.convertExternalDecimalToInteger(buffer, OFFSET, precision, true,
+						DecimalData.EBCDIC_SIGN_SEPARATE_LEADING), value, describe(buffer));
+
+				ByteBuffer packed = ByteBuffer.allocateDirect(CAPACITY);
+				DecimalData.convertExternalDecimalToPackedDecimal(buffer, OFFSET, packed, 1, precision,
+						DecimalData.EBCDIC_SIGN_SEPARATE_LEADING);
+				Assert.assertEquals(DecimalData.convertPackedDecimalToInteger(packed, 1, precision, true), value,
+						describe(buffer));
+			}
+		}
+	}
+
+	public void testPackedDecimalArithmetic() {
+		ByteBuffer op1 = ByteBuffer.allocateDirect(CAPACITY);
+		ByteBuffer writable = ByteBuffer.allocate(CAPACITY);
+		DecimalData.convertLongToPackedDecimal(123456789012L, op1, OFFSET, 15, true);
+		DecimalData.convertLongToPackedDecimal(-2L, writable, OFFSET, 3, true);
+		ByteBuffer op2 = writable.asReadOnlyBuffer();
+
+		Assert.assertEquals(PackedDecimal.checkPackedDecimal(op1, OFFSET, 15), 0);
+		Assert.assertTrue(PackedDecimal.greaterThanPackedDecimal(op1, OFFSET, 15, op2, OFFSET, 3));
+		Assert.assertTrue(PackedDecimal.notEqualsPackedDecimal(op1, OFFSET, 15, op2, OFFSET, 3));
+		Assert.assertFalse(PackedDecimal.lessThanOrEqualsPackedDecimal(op1, OFFSET, 15, op2, OFFSET, 3));
+
+		for (ByteBuffer result : writableBuffers()) {
+			PackedDecimal.addPackedDecimal(result, OFFSET, 16, op1, OFFSET, 15, op2, OFFSET, 3, true);
+			Assert.assertEquals(DecimalData.convertPackedDecimalToLong(result, OFFSET, 16, true), 123456789010L,
+					describe(result));
+			PackedDecimal.multiplyPackedDecimal(result, OFFSET, 16, op1, OFFSET, 15, op2, OFFSET, 3, true);
+			Assert.assertEquals(DecimalData.convertPackedDecimalToLong(result, OFFSET, 16, true), -246913578024L,
+					describe(result));
+			PackedDecimal.dividePackedDecimal(result, OFFSET, 16, op1, OFFSET, 15, op2, OFFSET, 3, true);
+			Assert.assertEquals(DecimalData.convertPackedDecimalToLong(result, OFFSET, 16, true), -61728394506L,
+					describe(result));
+		}
+	}
+}
@@ -0,0 +1,402 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test.dataaccess;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.ibm.dataaccess.DecimalData;
+
+/**
+ * Checks that the bulk Packed Decimal conversions in DecimalData give the same results as converting each
+ * field with the single value methods, and that they reject invalid offsets, strides and counts.
+ */
+@Test(groups = { "level.sanity" })
+public class DecimalBulkTests {
+
+	private static final int OFFSET = 3;
+	private static final byte FILL = (byte) 0x5A;
+	private static final int[] PADDINGS = { 0, 2 };
+
+	private static final int[] INT_VALUES = { 0, 1, -1, 9, -10, 12345, -987654, 1999999999, Integer.MAX_VALUE, Integer.MIN_VALUE };
+	private static final long[] LONG_VALUES = { 0L, 1L, -1L, 1234567890123L, -98765432109876L, Long.MAX_VALUE, Long.MIN_VALUE + 1 };
+	private static final BigDecimal[] BIG_DECIMAL_VALUES = {
+		new BigDecimal("0"),
+		new BigDecimal("-1.5"),
+		new BigDecimal("12345.67890"),
+		new BigDecimal("-123456789012.34567"),
+		new BigDecimal("12345678901234567890.12345"),
+		new BigDecimal("-99999999999999999999.99999"),
+	};
+
+	private static int packedBytes(int precision) {
+		return (precision / 2) + 1;
+	}
+
+	private static byte[] filled(int length) {
+		byte[] bytes = new byte[length];
+		Arrays.fill(bytes, FILL);
+		return bytes;
+	}
+
+	private static int packedLength(int count, int stride) {
+		return OFFSET + (count * stride) + 2;
+	}
+
+	private static byte[] packLongs(long[] values, int stride, int precision) {
+		byte[] packed = filled(packedLength(values.length, stride));
+		for (int i = 0; i < values.length; i++) {
+			DecimalData.convertLongToPackedDecimal(values[i], packed, OFFSET + (i * stride), precision, false);
+		}
+		return packed;
+	}
+
+	/* The BigDecimal conversion does not clear unused leading digits, so pack onto zeroed fields. */
+	private static byte[] packBigDecimals(BigDecimal[] values, int stride, int precision) {
+		byte[] packed = new byte[packedLength(values.length, stride)];
+		for (int i = 0; i < values.length; i++) {
+			DecimalData.convertBigDecimalToPackedDecimal(values[i], packed, OFFSET + (i * stride), precision, true);
+		}
+		return packed;
+	}
+
+	private static BigDecimal[] fitting(BigDecimal[] values, int precision) {
+		return Arrays.stream(values).filter(value -> value.precision() <= precision).toArray(BigDecimal[]::new);
+	}
+
+	private static long[] asLongs(int[] values) {
+		long[] longs = new long[values.length];
+		for (int i = 0; i < values.length; i++) {
+			longs[i] = values[i];
+		}
+		return longs;
+	}
+
+	/* Replace the sign nibble of each field, cycling through all sixteen nibble values. */
+	private static byte[] withEverySign(byte[] packed, int count, int stride, int precision) {
+		byte[] copy = packed.clone();
+		for (int i = 0; i < count; i++) {
+			int end = OFFSET + (i * stride) + packedBytes(precision) - 1;
+			copy[end] = (byte) ((copy[end] & 0xF0) | (i & 0x0F));
+		}
+		return copy;
+	}
+
+	private static Object outcome(Supplier<Object> conversion) {
+		try {
+			return conversion.get();
+		} catch (RuntimeException e) {
+			return e.getClass();
+		}
+	}
+
+	private static void assertSameOutcome(Supplier<Object> oneByOne, Supplier<Object> bulk, String message) {
+		Object expected = outcome(oneByOne);
+		Object actual = outcome(bulk);
+		Assert.assertTrue(Objects.deepEquals(expected, actual), message + ": expected "
+				+ Arrays.deepToString(new Object[] { expected }) + " but found " + Arrays.deepToString(new Object[] { actual }));
+	}
+
+	private static void assertThrows(Class<? extends RuntimeException> expected, Runnable conversion, String message) {
+		try {
+			conversion.run();
+			Assert.fail(message + ": no " + expected.getSimpleName());
+		} catch (RuntimeException e) {
+			Assert.assertEquals(e.getClass(), expected, message);
+		}
+	}
+
+	/* Single value conversions, with results placed one element in from either end of the output. */
+
+	private static int[] toIntegers(byte[] packed, int stride, int precision, boolean checkOverflow, int count) {
+		int[] values = new int[count + 2];
+		for (int i = 0; i < count; i++) {
+			values[i + 1] = DecimalData.convertPackedDecimalToInteger(packed, OFFSET + (i * stride), precision, checkOverflow);
+		}
+		return values;
+	}
+
+	private static long[] toLongs(byte[] packed, int stride, int precision, boolean checkOverflow, int count) {
+		long[] values = new long[count + 2];
+		for (int i = 0; i < count; i++) {
+			values[i + 1] = DecimalData.convertPackedDecimalToLong(packed, OFFSET + (i * stride), precision, checkOverflow);
+		}
+		return values;
+	}
+
+	private static BigDecimal[] toBigDecimals(byte[] packed, int stride, int precision, int scale, boolean checkOverflow, int count) {
+		BigDecimal[] values = new BigDecimal[count + 2];
+		for (int i = 0; i < count; i++) {
+			values[i + 1] = DecimalData.convertPackedDecimalToBigDecimal(packed, OFFSET + (i * stride), precision, scale, checkOverflow);
+		}
+		return values;
+	}
+
+	private static byte[] fromIntegers(int[] values, int stride, int precision, boolean checkOverflow) {
+		byte[] packed = filled(packedLength(values.length, stride));
+		for (int i = 0; i < values.length; i++) {
+			DecimalData.convertIntegerToPackedDecimal(values[i], packed, OFFSET + (i * stride), precision, checkOverflow);
+		}
+		return packed;
+	}
+
+	private static byte[] fromLongs(long[] values, int stride, int precision, boolean checkOverflow) {
+		byte[] packed = filled(packedLength(values.length, stride));
+		for (int i = 0; i < values.length; i++) {
+			DecimalData.convertLongToPackedDecimal(values[i], packed, OFFSET + (i * stride), precision, checkOverflow);
+		}
+		return packed;
+	}
+
+	private static byte[] fromBigDecimals(BigDecimal[] values, int stride, int precision, boolean checkOverflow) {
+		byte[] packed = filled(packedLength(values.length, stride));
+		for (int i = 0; i < values.length; i++) {
+			DecimalData.convertBigDecimalToPackedDecimal(values[i], packed, OFFSET + (i * stride), precision, checkOverflow);
+		}
+		return packed;
+	}
+
+	/* Bulk conversions, with the same output layout as the single value versions above. */
+
+	private static int[] toIntegersBulk(byte[] packed, int stride, int precision, boolean checkOverflow, int count) {
+		int[] values = new int[count + 2];
+		DecimalData.convertPackedDecimalsToIntegers(packed, OFFSET, stride, precision, checkOverflow, values, 1, count);
+		return values;
+	}
+
+	private static long[] toLongsBulk(byte[] packed, int stride, int precision, boolean checkOverflow, int count) {
+		long[] values = new long[count + 2];
+		DecimalData.convertPackedDecimalsToLongs(packed, OFFSET, stride, precision, checkOverflow, values, 1, count);
+		return values;
+	}
+
+	private static BigDecimal[] toBigDecimalsBulk(byte[] packed, int stride, int precision, int scale, boolean checkOverflow, int count) {
+		BigDecimal[] values = new BigDecimal[count + 2];
+		DecimalData.convertPackedDecimalsToBigDecimals(packed, OFFSET, stride, precision, scale, checkOverflow, values, 1, count);
+		return values;
+	}
+
+	private static byte[] fromIntegersBulk(int[] values, int stride, int precision, boolean checkOverflow) {
+		byte[] packed = filled(packedLength(values.length, stride));
+		DecimalData.convertIntegersToPackedDecimals(values, 0, packed, OFFSET, stride, precision, checkOverflow, values.length);
+		return packed;
+	}
+
+	private static byte[] fromLongsBulk(long[] values, int stride, int precision, boolean checkOverflow) {
+		byte[] packed = filled(packedLength(values.length, stride));
+		DecimalData.convertLongsToPackedDecimals(values, 0, packed, OFFSET, stride, precision, checkOverflow, values.length);
+		return packed;
+	}
+
+	private static byte[] fromBigDecimalsBulk(BigDecimal[] values, int stride, int precision, boolean checkOverflow) {
+		byte[] packed = filled(packedLength(values.length, stride));
+		DecimalData.convertBigDecimalsToPackedDecimals(values, 0, packed, OFFSET, stride, precision, checkOverflow, values.length);
+		return packed;
+	}
+
+	public void testPackedDecimalsToIntegers() {
+		int count = INT_VALUES.length;
+		for (int precision : new int[] { 1, 2, 5, 9, 10, 11 }) {
+			for (int padding : PADDINGS) {
+				int stride = packedBytes(precision) + padding;
+				byte[] packed = packLongs(asLongs(INT_VALUES), stride, precision);
+				for (boolean checkOverflow : new boolean[] { false, true }) {
+					assertSameOutcome(() -> toIntegers(packed, stride, precision, checkOverflow, count),
+							() -> toIntegersBulk(packed, stride, precision, checkOverflow, count),
+							"precision " + precision + " stride " + stride + " checkOverflow " + checkOverflow);
+				}
+			}
+		}
+	}
+
+	public void testPackedDecimalsToLongs() {
+		int count = LONG_VALUES.length;
+		for (int precision : new int[] { 1, 10, 18, 19, 20 }) {
+			for (int padding : PADDINGS) {
+				int stride = packedBytes(precision) + padding;
+				byte[] packed = packLongs(LONG_VALUES, stride, precision);
+				for (boolean checkOverflow : new boolean[] { false, true }) {
+					assertSameOutcome(() -> toLongs(packed, stride, precision, checkOverflow, count),
+							() -> toLongsBulk(packed, stride, precision, checkOverflow, count),
+							"precision " + precision + " stride " + stride + " checkOverflow " + checkOverflow);
+				}
+			}
+		}
+	}
+
+	public void testPackedDecimalsToBigDecimals() {
+		/* cover the int, long and BigInteger paths of the conversion */
+		for (int precision : new int[] { 9, 18, 25, 31 }) {
+			BigDecimal[] values = fitting(BIG_DECIMAL_VALUES, precision);
+			int count = values.length;
+			for (int padding : PADDINGS) {
+				int stride = packedBytes(precision) + padding;
+				byte[] packed = packBigDecimals(values, stride, precision);
+				for (int scale : new int[] { 0, 5 }) {
+					for (boolean checkOverflow : new boolean[] { false, true }) {
+						assertSameOutcome(() -> toBigDecimals(packed, stride, precision, scale, checkOverflow, count),
+								() -> toBigDecimalsBulk(packed, stride, precision, scale, checkOverflow, count),
+								"precision " + precision + " stride " + stride + " scale " + scale + " checkOverflow " + checkOverflow);
+					}
+				}
+			}
+		}
+	}
+
+	public void testIntegersToPackedDecimals() {
+		for (int precision : new int[] { 10, 11, 15 }) {
+			for (int padding : PADDINGS) {
+				int stride = packedBytes(precision) + padding;
+				for (boolean checkOverflow : new boolean[] { false, true }) {
+					assertSameOutcome(() -> fromIntegers(INT_VALUES, stride, precision, checkOverflow),
+							() -> fromIntegersBulk(INT_VALUES, stride, precision, checkOverflow),
+							"precision " + precision + " stride " + stride + " checkOverflow " + checkOverflow);
+				}
+			}
+		}
+	}
+
+	public void testLongsToPackedDecimals() {
+		for (int precision : new int[] { 19, 20, 25 }) {
+			for (int padding : PADDINGS) {
+				int stride = packedBytes(precision) + padding;
+				for (boolean checkOverflow : new boolean[] { false, true }) {
+					assertSameOutcome(() -> fromLongs(LONG_VALUES, stride, precision, checkOverflow),
+							() -> fromLongsBulk(LONG_VALUES, stride, precision, checkOverflow),
+							"precision " + precision + " stride " + stride + " checkOverflow " + checkOverflow);
+				}
+			}
+		}
+	}
+
+	public void testBigDecimalsToPackedDecimals() {
+		for (int precision : new int[] { 25, 31 }) {
+			for (int padding : PADDINGS) {
+				int stride = packedBytes(precision) + padding;
+				for (boolean checkOverflow : new boolean[] { false, true }) {
+					assertSameOutcome(() -> fromBigDecimals(BIG_DECIMAL_VALUES, stride, precision, checkOverflow),
+							() -> fromBigDecimalsBulk(BIG_DECIMAL_VALUES, stride, precision, checkOverflow),
+							"precision " + precision + " stride " + stride + " checkOverflow " + checkOverflow);
+				}
+			}
+		}
+	}
+
+	public void testBadSign() {
+		for (int precision : new int[] { 5, 15, 25 }) {
+			for (int padding : PADDINGS) {
+				int stride = packedBytes(precision) + padding;
+				int count = 16;
+				long[] values = new long[count];
+				for (int i = 0; i < count; i++) {
+					values[i] = (i * 1234L) + 1;
+				}
+				byte[] packed = withEverySign(packLongs(values, stride, precision), count, stride, precision);
+				String message = "precision " + precision + " stride " + stride;
+				if (precision <= 10) {
+					assertSameOutcome(() -> toIntegers(packed, stride, precision, true, count),
+							() -> toIntegersBulk(packed, stride, precision, true, count), message);
+				}
+				assertSameOutcome(() -> toLongs(packed, stride, precision, true, count),
+						() -> toLongsBulk(packed, stride, precision, true, count), message);
+				assertSameOutcome(() -> toBigDecimals(packed, stride, precision, 2, true, count),
+						() -> toBigDecimalsBulk(packed, stride, precision, 2, true, count), message);
+			}
+		}
+	}
+
+	public void testOverflow() {
+		long[] tooLargeForInt = { 1L, 12345678901L, -3L };
+		int stride = packedBytes(11);
+		byte[] packed = packLongs(tooLargeForInt, stride, 11);
+		assertThrows(ArithmeticException.class,
+				() -> toIntegersBulk(packed, stride, 11, true, tooLargeForInt.length), "convertPackedDecimalsToIntegers");
+		assertSameOutcome(() -> toIntegers(packed, stride, 11, false, tooLargeForInt.length),
+				() -> toIntegersBulk(packed, stride, 11, false, tooLargeForInt.length), "convertPackedDecimalsToIntegers");
+
+		BigDecimal[] tooLargeForLong = { BigDecimal.ONE, new BigDecimal("123456789012345678901234") };
+		int longStride = packedBytes(25);
+		byte[] longPacked = packBigDecimals(tooLargeForLong, longStride, 25);
+		assertThrows(ArithmeticException.class,
+				() -> toLongsBulk(longPacked, longStride, 25, true, tooLargeForLong.length), "convertPackedDecimalsToLongs");
+		assertSameOutcome(() -> toLongs(longPacked, longStride, 25, false, tooLargeForLong.length),
+				() -> toLongsBulk(longPacked, longStride, 25, false, tooLargeForLong.length), "convertPackedDecimalsToLongs");
+
+		int smallStride = packedBytes(5);
+		assertThrows(ArithmeticException.class,
+				() -> fromIntegersBulk(new int[] { 1, 123456 }, smallStride, 5, true), "convertIntegersToPackedDecimals");
+		assertSameOutcome(() -> fromIntegers(new int[] { 1, 123456 }, smallStride, 5, false),
+				() -> fromIntegersBulk(new int[] { 1, 123456 }, smallStride, 5, false), "convertIntegersToPackedDecimals");
+		assertThrows(ArithmeticException.class,
+				() -> fromLongsBulk(new long[] { 1L, 1234567890123L }, smallStride, 5, true), "convertLongsToPackedDecimals");
+		assertSameOutcome(() -> fromLongs(new long[] { 1L, 1234567890123L }, smallStride, 5, false),
+				() -> fromLongsBulk(new long[] { 1L, 1234567890123L }, smallStride, 5, false), "convertLongsToPackedDecimals");
+		assertThrows(ArithmeticException.class,
+				() -> fromBigDecimalsBulk(BIG_DECIMAL_VALUES, packedBytes(15), 15, true), "convertBigDecimalsToPackedDecimals");
+	}
+
+	public void testInvalidArguments() {
+		int precision = 7;
+		int stride = packedBytes(precision);
+		int count = 4;
+		byte[] packed = filled(OFFSET + (count * stride));
+		int[] values = new int[count];
+
+		assertThrows(IllegalArgumentException.class,
+				() -> DecimalData.convertPackedDecimalsToIntegers(packed, OFFSET, stride, precision, true, values, 0, -1), "negative count");
+		assertThrows(IllegalArgumentException.class,
+				() -> DecimalData.convertPackedDecimalsToIntegers(packed, OFFSET, stride - 1, precision, true, values, 0, count), "short stride");
+		assertThrows(ArrayIndexOutOfBoundsException.class,
+				() -> DecimalData.convertPackedDecimalsToIntegers(packed, -1, stride, precision, true, values, 0, count), "negative offset");
+		assertThrows(ArrayIndexOutOfBoundsException.class,
+				() -> DecimalData.convertPackedDecimalsToIntegers(packed, OFFSET + 1, stride, precision, true, values, 0, count), "last field past the end");
+		assertThrows(ArrayIndexOutOfBoundsException.class,
+				() -> DecimalData.convertPackedDecimalsToIntegers(packed, OFFSET, stride, precision, true, values, -1, count), "negative values offset");
+		assertThrows(ArrayIndexOutOfBoundsException.class,
+				() -> DecimalData.convertPackedDecimalsToIntegers(packed, OFFSET, stride, precision, true, values, 1, count), "values too short");
+		assertThrows(ArrayIndexOutOfBoundsException.class,
+				() -> DecimalData.convertPackedDecimalsToLongs(packed, OFFSET + 1, stride, precision, true, new long[count], 0, count), "last field past the end");
+		assertThrows(ArrayIndexOutOfBoundsException.class,
+				() -> DecimalData.convertPackedDecimalsToBigDecimals(packed, OFFSET, stride, precision, 0, true, new BigDecimal[count - 1], 0, count), "values too short");
+		assertThrows(NullPointerException.class,
+				() -> DecimalData.convertPackedDecimalsToIntegers(null, OFFSET, stride, precision, true, values, 0, count), "null packedDecimal");
+
+		/* the checks cover the whole run, so nothing is written when the last field does not fit */
+		byte[] target = filled(OFFSET + (count * stride) - 1);
+		assertThrows(ArrayIndexOutOfBoundsException.class,
+				() -> DecimalData.convertIntegersToPackedDecimals(new int[count], 0, target, OFFSET, stride, precision, true, count), "last field past the end");
+		assertThrows(ArrayIndexOutOfBoundsException.class,
+				() -> DecimalData.convertLongsToPackedDecimals(new long[count], 1, target, OFFSET, stride, precision, true, count), "values too short");
+		assertThrows(ArrayIndexOutOfBoundsException.class,
+				() -> DecimalData.convertBigDecimalsToPackedDecimals(new BigDecimal[count], 0, target, -1, stride, precision, true, count), "negative offset");
+		Assert.assertEquals(target, filled(target.length), "bulk conversion wrote before failing the bounds check");
+
+		/* an empty run is valid anywhere within the arrays */
+		DecimalData.convertPackedDecimalsToIntegers(packed, packed.length, stride, precision, true, values, values.length, 0);
+		DecimalData.convertIntegersToPackedDecimals(values, values.length, packed, packed.length, stride, precision, true, 0);
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test.jfr;
+
+/**
+ * Workload for the tests in jfrEventsTest.xml. Each step produces at least one
+ * of the JFR events the tests look for in the recording.
+ */
+public class JFREventsWorkload {
+	private static final Object lock = new Object();
+	private static volatile Object sink;
+
+	public static void main(String[] args) throws Exception {
+		contendMonitor();
+		loadClass();
+		allocate();
+		System.gc();
+		compile();
+		System.out.println("JFREventsWorkload done");
+	}
+
+	/* Produce jdk.JavaMonitorEnter by blocking on a monitor held by another thread. */
+	private static void contendMonitor() throws InterruptedException {
+		Thread holder = new Thread(() -> {
+			synchronized (lock) {
+				try {
+					Thread.sleep(500);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		}, "JFREventsWorkload-holder");
+		synchronized (lock) {
+			holder.start();
+			Thread.sleep(100);
+		}
+		Thread.sleep(100);
+		synchronized (lock) {
+			sink = lock;
+		}
+		holder.join();
+	}
+
+	/* Produce jdk.ClassLoad for a class that is only loaded on demand. */
+	private static void loadClass() throws ClassNotFoundException {
+		Class.forName(JFREventsWorkload.class.getName() + "$Loaded");
+	}
+
+	/* Produce jdk.ObjectAllocationSample and jdk.GarbageCollection. */
+	private static void allocate() {
+		for (int i = 0; i < 10000; i++) {
+			sink = new byte[64 * 1024];
+		}
+	}
+
+	/* Produce jdk.Compilation by running a method until it is compiled. */
+	private static void compile() {
+		long total = 0;
+		for (int i = 0; i < 100000; i++) {
+			total += hotMethod(i);
+		}
+		sink = Long.valueOf(total);
+	}
+
+	private static long hotMethod(int value) {
+		long result = value;
+		for (int i = 0; i < 100; i++) {
+			result = (result * 31) ^ i;
+		}
+		return result;
+	}
+
+	static class Loaded {
+	}
+}
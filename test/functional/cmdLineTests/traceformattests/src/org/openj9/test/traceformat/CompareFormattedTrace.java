@@ -0,0 +1,74 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test.traceformat;
+
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+/**
+ * Compares the output of the trace formatter run serially with the output of
+ * the same trace file formatted with -parallel. The two must be byte for byte
+ * identical; if not the first differing line is reported.
+ */
+public class CompareFormattedTrace {
+
+	public static void main(String[] args) throws IOException {
+		if (args.length != 2) {
+			System.out.println("Usage: CompareFormattedTrace <serial output> <parallel output>");
+			return;
+		}
+
+		byte[] serial = Files.readAllBytes(Paths.get(args[0]));
+		byte[] parallel = Files.readAllBytes(Paths.get(args[1]));
+
+		if (serial.length == 0) {
+			System.out.println("Formatted trace files differ: " + args[0] + " is empty");
+		} else if (Arrays.equals(serial, parallel)) {
+			System.out.println("Formatted trace files are identical: " + serial.length + " bytes");
+		} else {
+			reportDifference(args[0], args[1]);
+		}
+	}
+
+	private static void reportDifference(String serialFile, String parallelFile) throws IOException {
+		try (BufferedReader serial = new BufferedReader(new InputStreamReader(new FileInputStream(serialFile), StandardCharsets.ISO_8859_1));
+			BufferedReader parallel = new BufferedReader(new InputStreamReader(new FileInputStream(parallelFile), StandardCharsets.ISO_8859_1))) {
+			for (int line = 1;; line++) {
+				String expected = serial.readLine();
+				String actual = parallel.readLine();
+
+				if ((expected == null) || (actual == null) || !expected.equals(actual)) {
+					System.out.println("Formatted trace files differ at line " + line + ":");
+					System.out.println("  serial:   " + expected);
+					System.out.println("  parallel: " + actual);
+					return;
+				}
+			}
+		}
+	}
+}